@@ -0,0 +1,146 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.io;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.cp.elements.lang.annotation.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link Benchmark Benchmarks} for the {@link File} read and copy operations in {@link FileUtils} and {@link IOUtils}.
+ * <p>
+ * Reading a {@literal 1 GB} {@link File} into a {@link String} requires a heap of at least {@literal 3 GB}.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.cp.elements.io.FileUtils
+ * @see org.cp.elements.io.IOUtils
+ * @since 3.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 1, time = 3)
+@Measurement(iterations = 3, time = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused")
+public class FileUtilsBenchmarks {
+
+  private static final String LINE = "The quick brown fox jumps over the lazy dog 0123456789";
+
+  public static void main(String[] args) throws IOException {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  @Param({ "1", "64", "1024" })
+  private int fileSizeInMegabytes;
+
+  private File source;
+  private File target;
+
+  @Setup(Level.Trial)
+  public void createFiles() throws IOException {
+
+    this.source = File.createTempFile("elements-file-utils-benchmark", ".txt");
+    this.target = File.createTempFile("elements-file-utils-benchmark", ".copy");
+
+    long fileSize = this.fileSizeInMegabytes * 1024L * 1024L;
+
+    try (BufferedWriter writer = Files.newBufferedWriter(this.source.toPath())) {
+      for (long size = 0L; size < fileSize; size += LINE.length() + 1) {
+        writer.write(LINE);
+        writer.newLine();
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteFiles() {
+    FileUtils.delete(this.source);
+    FileUtils.delete(this.target);
+  }
+
+  @Benchmark
+  public void copyWithFileChannels() throws IOException {
+    FileUtils.copy(this.source, this.target);
+  }
+
+  @Benchmark
+  public void copyWithStreams() throws IOException {
+
+    try (InputStream in = new FileInputStream(this.source); OutputStream out = new FileOutputStream(this.target)) {
+      IOUtils.copy(in, out);
+    }
+  }
+
+  @Benchmark
+  public long countLinesWithStream() throws IOException {
+
+    try (Stream<String> lines = FileUtils.lines(this.source)) {
+      return lines.count();
+    }
+  }
+
+  @Benchmark
+  public int countLinesWithList() throws IOException {
+    return FileUtils.readLines(this.source).size();
+  }
+
+  @Benchmark
+  public void read(@NotNull Blackhole blackhole) throws IOException {
+    blackhole.consume(FileUtils.read(this.source));
+  }
+
+  @Benchmark
+  public long scanMemoryMappedFile() throws IOException {
+
+    MappedByteBuffer buffer = FileUtils.map(this.source);
+
+    long newlines = 0L;
+
+    while (buffer.hasRemaining()) {
+      if (buffer.get() == '\n') {
+        newlines++;
+      }
+    }
+
+    return newlines;
+  }
+}
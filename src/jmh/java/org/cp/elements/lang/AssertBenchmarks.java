@@ -0,0 +1,105 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH Benchmarks measuring the cost of the successful (non-throwing) path through {@link Assert}
+ * and {@link ObjectUtils#requireObject(Object, String, Object...)}.
+ * <p>
+ * Run with the {@link GCProfiler} to observe the normalized allocation rate ({@literal gc.alloc.rate.norm})
+ * per operation, which should be {@literal 0 B/op} when the assertion holds.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.cp.elements.lang.Assert
+ * @see org.cp.elements.lang.ObjectUtils
+ * @since 3.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AssertBenchmarks {
+
+  public static void main(String[] args) throws RunnerException {
+
+    new Runner(new OptionsBuilder()
+      .include(AssertBenchmarks.class.getSimpleName())
+      .addProfiler(GCProfiler.class)
+      .build())
+      .run();
+  }
+
+  private final Object value = new Object();
+
+  private final String text = "test";
+
+  private boolean condition = true;
+
+  @Benchmark
+  public void notNull() {
+    Assert.notNull(this.value, "Argument [%s] is required", "value");
+  }
+
+  @Benchmark
+  public void notNullWithDefaultMessage() {
+    Assert.notNull(this.value);
+  }
+
+  @Benchmark
+  public void hasText() {
+    Assert.hasText(this.text, "Argument [%s] must contain text", "text");
+  }
+
+  @Benchmark
+  public void isTrue() {
+    Assert.isTrue(this.condition, "Condition [%s] is not valid", "condition");
+  }
+
+  @Benchmark
+  public void state() {
+    Assert.state(this.condition, "State [%s] is not valid", "condition");
+  }
+
+  @Benchmark
+  public void requireObject(Blackhole blackhole) {
+    blackhole.consume(ObjectUtils.requireObject(this.value, "Object is required"));
+  }
+
+  @Benchmark
+  public void requireState(Blackhole blackhole) {
+    blackhole.consume(ObjectUtils.requireState(this.value, "Object was not initialized"));
+  }
+}
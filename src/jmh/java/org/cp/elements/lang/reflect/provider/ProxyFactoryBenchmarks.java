@@ -0,0 +1,146 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.reflect.provider;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.cp.elements.lang.reflect.MethodInterceptor;
+import org.cp.elements.lang.reflect.MethodInvocation;
+import org.cp.elements.lang.reflect.ProxyFactory;
+import org.cp.elements.lang.reflect.UnhandledMethodInvocationException;
+
+/**
+ * JMH Benchmarks comparing {@link Method} dispatch through {@literal Proxies} created by
+ * the {@link JdkDynamicProxiesFactory} and the {@link DispatchingProxiesFactory}.
+ * <p>
+ * Each {@literal Proxy} is advised by two {@link MethodInterceptor MethodInterceptors}, where the first
+ * does not handle the invoked {@link Method}. The {@link JdkDynamicProxiesFactory} must throw and catch
+ * an {@link UnhandledMethodInvocationException} on every invocation to reach the second
+ * {@link MethodInterceptor}, whereas the {@link DispatchingProxiesFactory} resolves the chain ahead of time.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.cp.elements.lang.reflect.provider.DispatchingProxiesFactory
+ * @see org.cp.elements.lang.reflect.provider.JdkDynamicProxiesFactory
+ * @since 3.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ProxyFactoryBenchmarks {
+
+  public static void main(String[] args) throws RunnerException {
+
+    new Runner(new OptionsBuilder()
+      .include(ProxyFactoryBenchmarks.class.getSimpleName())
+      .build())
+      .run();
+  }
+
+  private Counter dispatchingProxy;
+  private Counter jdkDynamicProxy;
+
+  @Setup
+  public void setup() {
+    this.dispatchingProxy = newProxy(DispatchingProxiesFactory.newDispatchingProxiesFactory());
+    this.jdkDynamicProxy = newProxy(JdkDynamicProxiesFactory.newJdkDynamicProxiesFactory());
+  }
+
+  private Counter newProxy(ProxyFactory<Counter> proxyFactory) {
+
+    Counter counter = new SimpleCounter();
+
+    return proxyFactory.proxy(counter)
+      .adviseWith(new UnhandledMethodInterceptor(counter), new CountingMethodInterceptor(counter))
+      .implementing(Counter.class)
+      .newProxy();
+  }
+
+  @Benchmark
+  public long dispatchingProxy() {
+    return this.dispatchingProxy.increment();
+  }
+
+  @Benchmark
+  public long jdkDynamicProxy() {
+    return this.jdkDynamicProxy.increment();
+  }
+
+  public interface Counter {
+    long increment();
+  }
+
+  static class SimpleCounter implements Counter {
+
+    private long count;
+
+    @Override
+    public long increment() {
+      return ++this.count;
+    }
+  }
+
+  record UnhandledMethodInterceptor(Counter target) implements MethodInterceptor<Counter> {
+
+    @Override
+    public Counter getTarget() {
+      return this.target;
+    }
+
+    @Override
+    public boolean canIntercept(Method method) {
+      return false;
+    }
+
+    @Override
+    public <R> Optional<R> intercept(MethodInvocation methodInvocation) {
+      throw new UnhandledMethodInvocationException("Method [%s] was not handled"
+        .formatted(methodInvocation.getMethod().getName()));
+    }
+  }
+
+  record CountingMethodInterceptor(Counter target) implements MethodInterceptor<Counter> {
+
+    @Override
+    public Counter getTarget() {
+      return this.target;
+    }
+
+    @Override
+    public <R> Optional<R> intercept(MethodInvocation methodInvocation) {
+      return methodInvocation.invoke(getTarget());
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.support;
+
+import static org.cp.elements.lang.reflect.ReflectionUtils.getValue;
+import static org.cp.elements.lang.reflect.ReflectionUtils.withFields;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.cp.elements.lang.reflect.ModifierUtils;
+
+/**
+ * JMH Benchmarks comparing {@link HashCodeBuilder#hashCodeFor(Object)}, {@link FieldAccessPlan#equals(Object, Object)}
+ * and {@link ObjectFieldsRenderer} with walking the {@link java.lang.reflect.Field Fields} of an {@link Object}
+ * reflectively on every call using {@link org.cp.elements.lang.reflect.ReflectionUtils}.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.cp.elements.lang.support.FieldAccessPlan
+ * @see org.cp.elements.lang.support.HashCodeBuilder
+ * @since 3.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class HashCodeBuilderBenchmarks {
+
+  public static void main(String[] args) throws RunnerException {
+
+    new Runner(new OptionsBuilder()
+      .include(HashCodeBuilderBenchmarks.class.getSimpleName())
+      .build())
+      .run();
+  }
+
+  private final Person jonDoe = new Person(1L, "Jon", "Doe", LocalDate.of(2000, Month.APRIL, 1));
+  private final Person jonDoeCopy = new Person(1L, "Jon", "Doe", LocalDate.of(2000, Month.APRIL, 1));
+
+  @Benchmark
+  public int hashCodeForCompiled() {
+    return HashCodeBuilder.hashCodeFor(this.jonDoe).build();
+  }
+
+  @Benchmark
+  public int hashCodeForReflective() {
+
+    HashCodeBuilder builder = HashCodeBuilder.create();
+
+    withFields().on(this.jonDoe).matching(field -> !ModifierUtils.isTransient(field))
+      .call(field -> builder.with(getValue(this.jonDoe, field, field.getType())));
+
+    return builder.build();
+  }
+
+  @Benchmark
+  public boolean equalsCompiled() {
+    return FieldAccessPlan.forType(Person.class).equals(this.jonDoe, this.jonDoeCopy);
+  }
+
+  @Benchmark
+  public String renderCompiled() {
+    return ObjectFieldsRenderer.INSTANCE.render(this.jonDoe);
+  }
+
+  @SuppressWarnings("unused")
+  static class Person {
+
+    private final Long id;
+
+    private final String firstName;
+    private final String lastName;
+
+    private final LocalDate birthDate;
+
+    Person(Long id, String firstName, String lastName, LocalDate birthDate) {
+      this.id = id;
+      this.firstName = firstName;
+      this.lastName = lastName;
+      this.birthDate = birthDate;
+    }
+  }
+}
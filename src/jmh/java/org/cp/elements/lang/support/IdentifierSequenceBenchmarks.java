@@ -0,0 +1,105 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.support;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.cp.elements.lang.IdentifierSequence;
+
+/**
+ * JMH Benchmarks measuring the throughput of {@link IdentifierSequence} implementations
+ * when shared by multiple contending {@link Thread Threads}.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.cp.elements.lang.IdentifierSequence
+ * @since 3.0.0
+ */
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IdentifierSequenceBenchmarks {
+
+  public static void main(String[] args) throws RunnerException {
+
+    new Runner(new OptionsBuilder()
+      .include(IdentifierSequenceBenchmarks.class.getSimpleName())
+      .build())
+      .run();
+  }
+
+  private final IdentifierSequence<Long> balancedIdentifierSequence = new BalancedIdentifierSequence();
+  private final IdentifierSequence<Long> blockAllocatingIdentifierSequence = new BlockAllocatingIdentifierSequence();
+  private final IdentifierSequence<Long> simpleIdentifierSequence = new SimpleIdentifierSequence();
+  private final IdentifierSequence<Long> snowflakeIdentifierSequence = SnowflakeIdentifierSequence.forNode(1);
+  private final IdentifierSequence<Long> timeBasedIdentifierSequence = new TimeBasedIdentifierSequence();
+  private final IdentifierSequence<UUID> timeOrderedUuidIdentifierSequence = new TimeOrderedUUIDIdentifierSequence();
+  private final IdentifierSequence<UUID> uuidIdentifierSequence = new UUIDIdentifierSequence();
+
+  @Benchmark
+  public Long balanced() {
+    return this.balancedIdentifierSequence.nextId();
+  }
+
+  @Benchmark
+  public Long blockAllocating() {
+    return this.blockAllocatingIdentifierSequence.nextId();
+  }
+
+  @Benchmark
+  public Long simple() {
+    return this.simpleIdentifierSequence.nextId();
+  }
+
+  @Benchmark
+  public Long snowflake() {
+    return this.snowflakeIdentifierSequence.nextId();
+  }
+
+  @Benchmark
+  public Long timeBased() {
+    return this.timeBasedIdentifierSequence.nextId();
+  }
+
+  @Benchmark
+  public UUID timeOrderedUuid() {
+    return this.timeOrderedUuidIdentifierSequence.nextId();
+  }
+
+  @Benchmark
+  public UUID uuid() {
+    return this.uuidIdentifierSequence.nextId();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.text;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH Benchmarks comparing {@link FormatUtils#format(String, Object...)}, which renders a cached
+ * {@link MessageTemplate}, with parsing the text pattern using {@link String#format(String, Object...)}
+ * and {@link java.text.MessageFormat} on every call.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.cp.elements.text.FormatUtils
+ * @see org.cp.elements.text.MessageTemplate
+ * @since 3.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FormatUtilsBenchmarks {
+
+  public static void main(String[] args) throws RunnerException {
+
+    new Runner(new OptionsBuilder()
+      .include(FormatUtilsBenchmarks.class.getSimpleName())
+      .build())
+      .run();
+  }
+
+  private static final String TEXT_PATTERN = "Property [%s] of type [{1}] was not found on bean [%3$s]";
+
+  private final Object[] arguments = { "name", "java.lang.String", "Person" };
+
+  @Benchmark
+  public String format() {
+    return FormatUtils.format(TEXT_PATTERN, this.arguments);
+  }
+
+  @Benchmark
+  public String stringAndMessageFormat() {
+    return FormatUtils.messageFormat(FormatUtils.stringFormat(TEXT_PATTERN, this.arguments), this.arguments);
+  }
+}
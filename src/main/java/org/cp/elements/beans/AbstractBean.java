@@ -23,6 +23,7 @@ import java.beans.VetoableChangeListener;
 import java.beans.VetoableChangeSupport;
 import java.lang.reflect.Field;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
@@ -32,6 +33,7 @@ import org.cp.elements.beans.event.ChangeEvent;
 import org.cp.elements.beans.event.ChangeListener;
 import org.cp.elements.beans.event.ChangeRecorder;
 import org.cp.elements.beans.event.ChangeSupport;
+import org.cp.elements.beans.event.IndexedChangeRecorder;
 import org.cp.elements.beans.event.support.RequiredPropertyVetoableChangeListener;
 import org.cp.elements.beans.model.BeanAdapter;
 import org.cp.elements.beans.model.BeanUtils;
@@ -67,6 +69,7 @@ import org.cp.elements.util.ComparatorUtils;
  * @see org.cp.elements.beans.event.ChangeListener
  * @see org.cp.elements.beans.event.ChangeRecorder
  * @see org.cp.elements.beans.event.ChangeSupport
+ * @see org.cp.elements.beans.event.IndexedChangeRecorder
  * @see org.cp.elements.beans.model.BeanAdapter
  * @see org.cp.elements.lang.Visitor
  * @see org.cp.elements.lang.support.AuditableSupport
@@ -81,22 +84,28 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
 
   private static final boolean DEFAULT_EVENT_DISPATCH_ENABLED = EVENT_DISPATCH_ENABLED;
 
+  private static final StateChangeFunction DEFAULT_STATE_CHANGE_FUNCTION =
+    composeStateChangeFunction(StateChangeFunction.noStateChangeFunction());
+
   private volatile boolean eventDispatchEnabled = DEFAULT_EVENT_DISPATCH_ENABLED;
 
   private final AtomicReference<BeanAdapter> beanAdapterReference = new AtomicReference<>(null);
 
-  private final transient ChangeRecorder changeRecorder = new ChangeRecorder();
+  private transient ChangeBatch changeBatch;
+
+  private final transient ChangeRecorder changeRecorder;
+
+  private transient volatile ChangeSupport changeSupport;
 
-  private final transient ChangeSupport changeSupport = new ChangeSupport(this);
+  private final EventDispatchMode eventDispatchMode;
 
-  private final transient Map<String, String> propertyNameToFieldNameMapping = new TreeMap<>();
+  private transient Map<String, String> propertyNameToFieldNameMapping;
 
-  private final transient Map<String, StateChangeCallback<Object>> propertyNameToStateChangeCallbackMapping =
-    new TreeMap<>();
+  private transient Map<String, StateChangeCallback<Object>> propertyNameToStateChangeCallbackMapping;
 
-  private final PropertyChangeSupport propertyChangeSupport = new PropertyChangeSupport(this);
+  private volatile PropertyChangeSupport propertyChangeSupport;
 
-  private final VetoableChangeSupport vetoableChangeSupport = new VetoableChangeSupport(this);
+  private volatile VetoableChangeSupport vetoableChangeSupport;
 
   /**
    * Constructs a new {@link AbstractBean}.
@@ -108,8 +117,39 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * @see #register(PropertyChangeListener)
    */
   public AbstractBean() {
-    register(this.changeRecorder);
-    register(RequiredPropertyVetoableChangeListener.INSTANCE);
+    this(EventDispatchMode.STANDARD);
+  }
+
+  /**
+   * Constructs a new {@link AbstractBean} using the given, required {@link EventDispatchMode}.
+   * <p>
+   * In {@link EventDispatchMode#STANDARD} mode, a {@link ChangeRecorder} {@link PropertyChangeListener}
+   * is registered to record and keep track of changes in state to {@literal this} {@link AbstractBean}.
+   * <p>
+   * In {@link EventDispatchMode#LIGHTWEIGHT} mode, changes in state are recorded directly by
+   * an {@link IndexedChangeRecorder} and the listener infrastructure is not allocated until a listener
+   * is registered.
+   *
+   * @param eventDispatchMode {@link EventDispatchMode} used by {@literal this} {@link AbstractBean};
+   * must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link EventDispatchMode} is {@literal null}.
+   * @see EventDispatchMode
+   */
+  protected AbstractBean(@NotNull EventDispatchMode eventDispatchMode) {
+
+    this.eventDispatchMode = ObjectUtils.requireObject(eventDispatchMode, "EventDispatchMode is required");
+
+    if (isLightweight()) {
+      this.changeRecorder = IndexedChangeRecorder.forType(getClass());
+    }
+    else {
+      this.changeRecorder = new ChangeRecorder();
+      this.changeSupport = newChangeSupport();
+      this.propertyChangeSupport = new PropertyChangeSupport(this);
+      this.vetoableChangeSupport = new VetoableChangeSupport(this);
+      register(this.changeRecorder);
+      register(RequiredPropertyVetoableChangeListener.INSTANCE);
+    }
   }
 
   /**
@@ -131,6 +171,23 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
     register(RequiredPropertyVetoableChangeListener.INSTANCE);
   }
 
+  /**
+   * Constructs a new {@link AbstractBean} initialized with the given typed {@link ID identifier}
+   * to uniquely identify {@literal this} {@link Bean} and using the given, required {@link EventDispatchMode}.
+   *
+   * @param id {@link ID generically typed identifier} uniquely identifying {@link Object Objects}
+   * within {@literal this} {@link Bean} {@link Class type}.
+   * @param eventDispatchMode {@link EventDispatchMode} used by {@literal this} {@link AbstractBean};
+   * must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link EventDispatchMode} is {@literal null}.
+   * @see #AbstractBean(EventDispatchMode)
+   * @see #identifiedBy(Comparable)
+   */
+  protected AbstractBean(@Nullable ID id, @NotNull EventDispatchMode eventDispatchMode) {
+    this(eventDispatchMode);
+    identifiedBy(id);
+  }
+
   /**
    * Gets a {@link BeanAdapter} adapting this {@link Object POJO} as a {@literal JavaBean}.
    *
@@ -195,6 +252,126 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
     this.eventDispatchEnabled = eventDispatchEnabled;
   }
 
+  /**
+   * Gets the {@link EventDispatchMode} used by {@literal this} {@link Bean}.
+   *
+   * @return the {@link EventDispatchMode} used by {@literal this} {@link Bean}.
+   * @see EventDispatchMode
+   */
+  public @NotNull EventDispatchMode getEventDispatchMode() {
+    return this.eventDispatchMode;
+  }
+
+  /**
+   * Determines whether {@literal this} {@link Bean} uses the {@link EventDispatchMode#LIGHTWEIGHT} mode.
+   *
+   * @return a boolean value indicating whether {@literal this} {@link Bean} uses
+   * the {@link EventDispatchMode#LIGHTWEIGHT} mode.
+   * @see #getEventDispatchMode()
+   */
+  protected boolean isLightweight() {
+    return EventDispatchMode.LIGHTWEIGHT.equals(getEventDispatchMode());
+  }
+
+  /**
+   * Determines whether changes to {@literal this} {@link Bean} are currently being batched.
+   *
+   * @return a boolean value indicating whether changes to {@literal this} {@link Bean} are currently being batched.
+   * @see #beginChangeBatch()
+   */
+  public boolean isChangeBatchInProgress() {
+    return this.changeBatch != null;
+  }
+
+  /**
+   * Constructs a new {@link ChangeSupport} used to notify {@link ChangeListener ChangeListeners}
+   * of changes in state to {@literal this} {@link Bean}.
+   * <p>
+   * Subclasses may override this method to return an
+   * {@link org.cp.elements.beans.event.AsyncChangeSupport} in order to notify
+   * {@link ChangeListener ChangeListeners} asynchronously. In {@link EventDispatchMode#STANDARD} mode,
+   * this method is invoked during construction and therefore must not depend on instance state
+   * of the subclass.
+   *
+   * @return a new {@link ChangeSupport} for {@literal this} {@link Bean}.
+   * @see org.cp.elements.beans.event.AsyncChangeSupport
+   * @see org.cp.elements.beans.event.ChangeSupport
+   */
+  protected @NotNull ChangeSupport newChangeSupport() {
+    return new ChangeSupport(this);
+  }
+
+  /**
+   * Lazily gets the {@link ChangeSupport} used to notify {@link ChangeListener ChangeListeners}.
+   *
+   * @return the {@link ChangeSupport} used to notify {@link ChangeListener ChangeListeners}.
+   * @see org.cp.elements.beans.event.ChangeSupport
+   */
+  private @NotNull ChangeSupport getChangeSupport() {
+
+    ChangeSupport changeSupport = this.changeSupport;
+
+    if (changeSupport == null) {
+      synchronized (this) {
+        changeSupport = this.changeSupport;
+        if (changeSupport == null) {
+          changeSupport = newChangeSupport();
+          this.changeSupport = changeSupport;
+        }
+      }
+    }
+
+    return changeSupport;
+  }
+
+  /**
+   * Lazily gets the {@link PropertyChangeSupport} used to notify
+   * {@link PropertyChangeListener PropertyChangeListeners}.
+   *
+   * @return the {@link PropertyChangeSupport} used to notify {@link PropertyChangeListener PropertyChangeListeners}.
+   * @see java.beans.PropertyChangeSupport
+   */
+  private @NotNull PropertyChangeSupport getPropertyChangeSupport() {
+
+    PropertyChangeSupport propertyChangeSupport = this.propertyChangeSupport;
+
+    if (propertyChangeSupport == null) {
+      synchronized (this) {
+        propertyChangeSupport = this.propertyChangeSupport;
+        if (propertyChangeSupport == null) {
+          propertyChangeSupport = new PropertyChangeSupport(this);
+          this.propertyChangeSupport = propertyChangeSupport;
+        }
+      }
+    }
+
+    return propertyChangeSupport;
+  }
+
+  /**
+   * Lazily gets the {@link VetoableChangeSupport} used to notify
+   * {@link VetoableChangeListener VetoableChangeListeners}.
+   *
+   * @return the {@link VetoableChangeSupport} used to notify {@link VetoableChangeListener VetoableChangeListeners}.
+   * @see java.beans.VetoableChangeSupport
+   */
+  private @NotNull VetoableChangeSupport getVetoableChangeSupport() {
+
+    VetoableChangeSupport vetoableChangeSupport = this.vetoableChangeSupport;
+
+    if (vetoableChangeSupport == null) {
+      synchronized (this) {
+        vetoableChangeSupport = this.vetoableChangeSupport;
+        if (vetoableChangeSupport == null) {
+          vetoableChangeSupport = new VetoableChangeSupport(this);
+          this.vetoableChangeSupport = vetoableChangeSupport;
+        }
+      }
+    }
+
+    return vetoableChangeSupport;
+  }
+
   /**
    * Gets the {@link String name} of the {@link Field} mapped to the given {@literal property}
    * of {@literal this} {@link Bean}.
@@ -207,7 +384,12 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * {@literal property} of {@literal this} {@link Bean}.
    */
   protected @NotNull String getFieldName(@NotNull String propertyName) {
-    return ObjectUtils.returnFirstNonNullValue(this.propertyNameToFieldNameMapping.get(propertyName), propertyName);
+
+    Map<String, String> propertyNameToFieldNameMapping = this.propertyNameToFieldNameMapping;
+
+    return propertyNameToFieldNameMapping != null
+      ? ObjectUtils.returnFirstNonNullValue(propertyNameToFieldNameMapping.get(propertyName), propertyName)
+      : propertyName;
   }
 
   /**
@@ -325,12 +507,15 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    */
   protected void fireChangeEvent() {
 
+    ChangeSupport changeSupport = this.changeSupport;
+
     boolean fireChangeEvent = isEventDispatchEnabled()
-      && this.changeSupport.hasListeners()
+      && changeSupport != null
+      && changeSupport.hasListeners()
       && isModified();
 
     if (fireChangeEvent) {
-      this.changeSupport.fireChangeEvent();
+      changeSupport.fireChangeEvent();
     }
   }
 
@@ -351,8 +536,14 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
 
       Assert.notNull(event, "PropertyChangeEvent is required");
 
-      if (this.propertyChangeSupport.hasListeners(event.getPropertyName())) {
-        this.propertyChangeSupport.firePropertyChange(event);
+      if (isLightweight()) {
+        this.changeRecorder.propertyChange(event);
+      }
+
+      PropertyChangeSupport propertyChangeSupport = this.propertyChangeSupport;
+
+      if (propertyChangeSupport != null && propertyChangeSupport.hasListeners(event.getPropertyName())) {
+        propertyChangeSupport.firePropertyChange(event);
       }
     }
   }
@@ -380,8 +571,14 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
 
       Assert.notNull(event, "PropertyChangeEvent is required");
 
-      if (this.vetoableChangeSupport.hasListeners(event.getPropertyName())) {
-        this.vetoableChangeSupport.fireVetoableChange(event);
+      if (isLightweight()) {
+        RequiredPropertyVetoableChangeListener.INSTANCE.vetoableChange(event);
+      }
+
+      VetoableChangeSupport vetoableChangeSupport = this.vetoableChangeSupport;
+
+      if (vetoableChangeSupport != null && vetoableChangeSupport.hasListeners(event.getPropertyName())) {
+        vetoableChangeSupport.fireVetoableChange(event);
       }
     }
   }
@@ -400,6 +597,10 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
     Assert.hasText(propertyName, "Property name [%s] is required", propertyName);
     Assert.hasText(fieldName, "Field name [%s] is required", fieldName);
 
+    if (this.propertyNameToFieldNameMapping == null) {
+      this.propertyNameToFieldNameMapping = new TreeMap<>();
+    }
+
     return this.propertyNameToFieldNameMapping.put(propertyName, fieldName);
   }
 
@@ -421,6 +622,10 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
     Assert.hasText(propertyName, "Property name [%s] is required", propertyName);
     Assert.notNull(callback, "The StateChangeCallback to map to property [%s] is required", propertyName);
 
+    if (this.propertyNameToStateChangeCallbackMapping == null) {
+      this.propertyNameToStateChangeCallbackMapping = new TreeMap<>();
+    }
+
     return this.propertyNameToStateChangeCallbackMapping.put(propertyName, callback);
   }
 
@@ -487,6 +692,10 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * Finally, a {@link ChangeEvent} is sent to all {@link ChangeListener ChangeListeners} notifying the listeners
    * that {@literal this} {@link Bean} has been changed.
    * <p>
+   * When a {@link ChangeBatch} is in progress, the change is recorded immediately, but notification of
+   * {@link PropertyChangeListener PropertyChangeListeners} and {@link ChangeListener ChangeListeners}
+   * is deferred until the {@link ChangeBatch} is closed.
+   * <p>
    * This particular implementation employs a callback style and approach to effectively changing the state
    * of {@literal this} {@link Bean}. As it is not always possible to access the particular {@link Field Fields}
    * of an {@link Object Object's} class, the callback allows the subclass to effect the change, naturally.
@@ -514,8 +723,17 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
 
       fireVetoableChangeEvent(event);
       function.apply(event, false);
-      firePropertyChangeEvent(event);
-      fireChangeEvent();
+
+      ChangeBatch changeBatch = this.changeBatch;
+
+      if (changeBatch != null) {
+        recordChange(event);
+        changeBatch.add(event);
+      }
+      else {
+        firePropertyChangeEvent(event);
+        fireChangeEvent();
+      }
     }
     catch (PropertyVetoException cause) {
 
@@ -526,11 +744,24 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
     }
   }
 
+  private void recordChange(@NotNull PropertyChangeEvent event) {
+
+    if (isEventDispatchEnabled()) {
+      this.changeRecorder.propertyChange(event);
+    }
+  }
+
   private @NotNull <T> StateChangeFunction resolveStateChangeFunction(@Nullable StateChangeCallback<T> callback) {
 
-    StateChangeFunction resolvedFunction = callback == null
-      ? StateChangeFunction.noStateChangeFunction()
-      : newStateChangeFunction(callback);
+    return callback == null
+      ? DEFAULT_STATE_CHANGE_FUNCTION
+      : composeStateChangeFunction(newStateChangeFunction(callback));
+  }
+
+  private static @NotNull StateChangeFunction composeStateChangeFunction(
+      @NotNull StateChangeFunction stateChangeFunction) {
+
+    StateChangeFunction resolvedFunction = stateChangeFunction;
 
     for (StateChangeFunction function : StateChangeFunctionStrategies.values()) {
       resolvedFunction = resolvedFunction.andThen(function);
@@ -539,6 +770,34 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
     return resolvedFunction;
   }
 
+  /**
+   * Begins a {@link ChangeBatch} in which all changes to {@literal this} {@link Bean} are coalesced.
+   * <p>
+   * While the {@link ChangeBatch} is in progress, changes are validated by
+   * {@link VetoableChangeListener VetoableChangeListeners}, applied and recorded immediately. When the outermost
+   * {@link ChangeBatch} is {@link ChangeBatch#close() closed}, a single {@link PropertyChangeEvent} per changed
+   * property, from the property's first {@link Object old value} to its last {@link Object new value}, is sent to
+   * {@link PropertyChangeListener PropertyChangeListeners} followed by a single {@link ChangeEvent} sent to
+   * {@link ChangeListener ChangeListeners}. Properties changed back to their original value are not dispatched.
+   * <p>
+   * {@link ChangeBatch ChangeBatches} may be nested, in which case the nested {@link ChangeBatch} joins
+   * the {@link ChangeBatch} already in progress.
+   *
+   * @return the {@link ChangeBatch} in progress; never {@literal null}.
+   * @see ChangeBatch
+   */
+  public @NotNull ChangeBatch beginChangeBatch() {
+
+    ChangeBatch changeBatch = this.changeBatch;
+
+    if (changeBatch == null) {
+      changeBatch = new ChangeBatch(this);
+      this.changeBatch = changeBatch;
+    }
+
+    return changeBatch.join();
+  }
+
   @SuppressWarnings("unchecked")
   private @NotNull <T> StateChangeFunction newStateChangeFunction(@NotNull StateChangeCallback<T> callback) {
 
@@ -558,7 +817,7 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * @see org.cp.elements.beans.event.ChangeListener
    */
   protected void register(@Nullable ChangeListener listener) {
-    this.changeSupport.register(listener);
+    getChangeSupport().register(listener);
   }
 
   /**
@@ -572,7 +831,7 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * @see java.beans.PropertyChangeListener
    */
   protected void register(@Nullable PropertyChangeListener listener) {
-    this.propertyChangeSupport.addPropertyChangeListener(listener);
+    getPropertyChangeSupport().addPropertyChangeListener(listener);
   }
 
   /**
@@ -588,7 +847,7 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * @see java.beans.PropertyChangeListener
    */
   protected void register(@Nullable String propertyName, @Nullable PropertyChangeListener listener) {
-    this.propertyChangeSupport.addPropertyChangeListener(propertyName, listener);
+    getPropertyChangeSupport().addPropertyChangeListener(propertyName, listener);
   }
 
   /**
@@ -602,7 +861,7 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * @see java.beans.VetoableChangeListener
    */
   protected void register(@Nullable VetoableChangeListener listener) {
-    this.vetoableChangeSupport.addVetoableChangeListener(listener);
+    getVetoableChangeSupport().addVetoableChangeListener(listener);
   }
 
   /**
@@ -619,7 +878,7 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * @see java.beans.VetoableChangeListener
    */
   protected void register(@Nullable String propertyName, @Nullable VetoableChangeListener listener) {
-    this.vetoableChangeSupport.addVetoableChangeListener(propertyName, listener);
+    getVetoableChangeSupport().addVetoableChangeListener(propertyName, listener);
   }
 
   /**
@@ -632,7 +891,11 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * @see org.cp.elements.beans.event.ChangeListener
    */
   protected void unregister(@Nullable ChangeListener listener) {
-    this.changeSupport.unregister(listener);
+    ChangeSupport changeSupport = this.changeSupport;
+
+    if (changeSupport != null) {
+      changeSupport.unregister(listener);
+    }
   }
 
   /**
@@ -645,7 +908,11 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * @see java.beans.PropertyChangeListener
    */
   protected void unregister(@Nullable PropertyChangeListener listener) {
-    this.propertyChangeSupport.removePropertyChangeListener(listener);
+    PropertyChangeSupport propertyChangeSupport = this.propertyChangeSupport;
+
+    if (propertyChangeSupport != null) {
+      propertyChangeSupport.removePropertyChangeListener(listener);
+    }
   }
 
   /**
@@ -661,7 +928,11 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * @see java.beans.PropertyChangeListener
    */
   protected void unregister(@Nullable String propertyName, @Nullable PropertyChangeListener listener) {
-    this.propertyChangeSupport.removePropertyChangeListener(propertyName, listener);
+    PropertyChangeSupport propertyChangeSupport = this.propertyChangeSupport;
+
+    if (propertyChangeSupport != null) {
+      propertyChangeSupport.removePropertyChangeListener(propertyName, listener);
+    }
   }
 
   /**
@@ -678,7 +949,11 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * @see java.beans.VetoableChangeListener
    */
   protected void unregister(@Nullable VetoableChangeListener listener) {
-    this.vetoableChangeSupport.removeVetoableChangeListener(listener);
+    VetoableChangeSupport vetoableChangeSupport = this.vetoableChangeSupport;
+
+    if (vetoableChangeSupport != null) {
+      vetoableChangeSupport.removeVetoableChangeListener(listener);
+    }
   }
 
   /**
@@ -696,7 +971,11 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    * @see java.beans.VetoableChangeListener
    */
   protected void unregister(@Nullable String propertyName, @Nullable VetoableChangeListener listener) {
-    this.vetoableChangeSupport.removeVetoableChangeListener(propertyName, listener);
+    VetoableChangeSupport vetoableChangeSupport = this.vetoableChangeSupport;
+
+    if (vetoableChangeSupport != null) {
+      vetoableChangeSupport.removeVetoableChangeListener(propertyName, listener);
+    }
   }
 
   /**
@@ -709,7 +988,7 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
    */
   protected @Nullable String unmapPropertyNameToFieldName(@Nullable String propertyName) {
 
-    return StringUtils.hasText(propertyName)
+    return StringUtils.hasText(propertyName) && this.propertyNameToFieldNameMapping != null
       ? this.propertyNameToFieldNameMapping.remove(propertyName)
       : null;
   }
@@ -726,7 +1005,7 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
   protected @Nullable StateChangeCallback<Object> unmapPropertyNameToStateChangeCallback(
       @Nullable String propertyName) {
 
-    return StringUtils.hasText(propertyName)
+    return StringUtils.hasText(propertyName) && this.propertyNameToStateChangeCallbackMapping != null
       ? this.propertyNameToStateChangeCallbackMapping.remove(propertyName)
       : null;
   }
@@ -799,6 +1078,96 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
     return Objects.hash(getId());
   }
 
+  /**
+   * Enumeration of modes used by an {@link AbstractBean} to record changes and dispatch change events.
+   */
+  public enum EventDispatchMode {
+
+    /**
+     * Changes are recorded by a {@link ChangeRecorder} registered as a {@link PropertyChangeListener}
+     * and the listener infrastructure is allocated when the {@link Bean} is constructed.
+     */
+    STANDARD,
+
+    /**
+     * Changes are recorded directly by an array-based {@link IndexedChangeRecorder} and the listener infrastructure
+     * is only allocated when a listener is registered.
+     */
+    LIGHTWEIGHT,
+
+  }
+
+  /**
+   * {@link AutoCloseable} scope in which changes to an {@link AbstractBean} are coalesced and dispatched
+   * as a single event when the scope is closed.
+   *
+   * @see java.lang.AutoCloseable
+   * @see #beginChangeBatch()
+   */
+  public static final class ChangeBatch implements AutoCloseable {
+
+    private int depth;
+
+    private final AbstractBean<?, ?, ?> bean;
+
+    private final Map<String, PropertyChangeEvent> propertyChanges = new LinkedHashMap<>();
+
+    private ChangeBatch(@NotNull AbstractBean<?, ?, ?> bean) {
+      this.bean = bean;
+    }
+
+    @NotNull ChangeBatch join() {
+      this.depth++;
+      return this;
+    }
+
+    void add(@NotNull PropertyChangeEvent event) {
+
+      this.propertyChanges.merge(event.getPropertyName(), event, (firstEvent, lastEvent) ->
+        this.bean.newPropertyChangeEvent(firstEvent.getPropertyName(), firstEvent.getOldValue(),
+          lastEvent.getNewValue()));
+    }
+
+    /**
+     * Determines whether this {@link ChangeBatch} is still in progress.
+     *
+     * @return a boolean value indicating whether this {@link ChangeBatch} is still in progress.
+     */
+    public boolean isOpen() {
+      return this.depth > 0;
+    }
+
+    /**
+     * Closes this {@link ChangeBatch}.
+     * <p>
+     * If this {@link ChangeBatch} is the outermost {@link ChangeBatch}, then all coalesced changes
+     * are dispatched to the listeners of the {@link AbstractBean}.
+     */
+    @Override
+    public void close() {
+
+      if (isOpen() && --this.depth == 0) {
+
+        this.bean.changeBatch = null;
+
+        boolean changed = false;
+
+        for (PropertyChangeEvent event : this.propertyChanges.values()) {
+          if (!ObjectUtils.equalsIgnoreNull(event.getOldValue(), event.getNewValue())) {
+            this.bean.firePropertyChangeEvent(event);
+            changed = true;
+          }
+        }
+
+        this.propertyChanges.clear();
+
+        if (changed) {
+          this.bean.fireChangeEvent();
+        }
+      }
+    }
+  }
+
   /**
    * The {@link StateChangeCallback} interface defines a callback enabling the invoked accessor (setter) method
    * for the property of {@literal this} {@link Bean} to change state.
@@ -866,8 +1235,12 @@ public abstract class AbstractBean<ID extends Comparable<ID>, USER, PROCESS> ext
 
           AbstractBean<?, ?, ?> bean = (AbstractBean<?, ?, ?>) event.getSource();
 
-          StateChangeCallback<Object> registeredStateChangeCallback =
-            bean.propertyNameToStateChangeCallbackMapping.get(event.getPropertyName());
+          Map<String, StateChangeCallback<Object>> propertyNameToStateChangeCallbackMapping =
+            bean.propertyNameToStateChangeCallbackMapping;
+
+          StateChangeCallback<Object> registeredStateChangeCallback = propertyNameToStateChangeCallbackMapping != null
+            ? propertyNameToStateChangeCallbackMapping.get(event.getPropertyName())
+            : null;
 
           if (registeredStateChangeCallback != null) {
             registeredStateChangeCallback.changeState(event.getNewValue());
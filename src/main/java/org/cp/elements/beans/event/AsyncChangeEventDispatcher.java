@@ -0,0 +1,757 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.beans.event;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.ThreadSafe;
+import org.cp.elements.lang.concurrent.SimpleThreadFactory;
+import org.cp.elements.lang.concurrent.VirtualThreadFactory;
+
+/**
+ * Dispatcher used to deliver {@link ChangeEvent ChangeEvents} to {@link ChangeListener ChangeListeners}
+ * asynchronously, off the thread that changed the {@link Object source}.
+ * <p>
+ * {@link ChangeEvent ChangeEvents} are queued in a bounded ring buffer. {@link Object Sources} are striped across
+ * a fixed number of ring buffers, each drained in order by a single worker {@link Thread}, so that events from
+ * the same {@link Object source} are always delivered in the order in which they were published. The worker
+ * {@link Thread Threads} are virtual {@link Thread Threads} by default, created with the {@link VirtualThreadFactory}.
+ * <p>
+ * When a ring buffer is full, the configured {@link BackpressurePolicy} determines whether the publisher blocks,
+ * the oldest queued event is dropped, or events are coalesced by {@link Object source}.
+ *
+ * @author John Blum
+ * @see java.lang.AutoCloseable
+ * @see java.util.concurrent.ThreadFactory
+ * @see org.cp.elements.beans.event.AsyncChangeSupport
+ * @see org.cp.elements.beans.event.ChangeEvent
+ * @see org.cp.elements.beans.event.ChangeListener
+ * @see org.cp.elements.lang.concurrent.VirtualThreadFactory
+ * @since 3.0.0
+ */
+@ThreadSafe
+@SuppressWarnings("unused")
+public class AsyncChangeEventDispatcher implements AutoCloseable {
+
+  protected static final int DEFAULT_BUFFER_CAPACITY = 1024;
+  protected static final int DEFAULT_STRIPES = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+  protected static final BackpressurePolicy DEFAULT_BACKPRESSURE_POLICY = BackpressurePolicy.BLOCK;
+
+  protected static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+  private static final Logger logger = Logger.getLogger(AsyncChangeEventDispatcher.class.getName());
+
+  /**
+   * Factory method used to construct a new {@link AsyncChangeEventDispatcher} with the default configuration.
+   *
+   * @return a new {@link AsyncChangeEventDispatcher}.
+   */
+  public static @NotNull AsyncChangeEventDispatcher newDispatcher() {
+    return new AsyncChangeEventDispatcher();
+  }
+
+  private volatile boolean running = true;
+
+  private volatile BackpressurePolicy backpressurePolicy = DEFAULT_BACKPRESSURE_POLICY;
+
+  private volatile int bufferCapacity = DEFAULT_BUFFER_CAPACITY;
+  private volatile int stripeCount = DEFAULT_STRIPES;
+
+  private final AtomicInteger maxQueueDepth = new AtomicInteger(0);
+
+  private final AtomicLong maxListenerLatencyNanos = new AtomicLong(0L);
+
+  private final LongAdder coalescedEvents = new LongAdder();
+  private final LongAdder dispatchedEvents = new LongAdder();
+  private final LongAdder droppedEvents = new LongAdder();
+  private final LongAdder failedListenerInvocations = new LongAdder();
+  private final LongAdder listenerInvocations = new LongAdder();
+  private final LongAdder totalListenerLatencyNanos = new LongAdder();
+
+  private volatile Stripe[] stripes;
+
+  private volatile ThreadFactory threadFactory = VirtualThreadFactory.newThreadFactory();
+
+  /**
+   * Gets the configured {@link BackpressurePolicy} applied when a ring buffer is full.
+   *
+   * @return the configured {@link BackpressurePolicy}.
+   * @see BackpressurePolicy
+   */
+  public @NotNull BackpressurePolicy getBackpressurePolicy() {
+    return this.backpressurePolicy;
+  }
+
+  /**
+   * Gets the capacity of each ring buffer.
+   *
+   * @return the capacity of each ring buffer.
+   */
+  public int getBufferCapacity() {
+    return this.bufferCapacity;
+  }
+
+  /**
+   * Gets a snapshot of the {@link Metrics} collected by this {@link AsyncChangeEventDispatcher}.
+   *
+   * @return a snapshot of the {@link Metrics} collected by this {@link AsyncChangeEventDispatcher}.
+   * @see Metrics
+   */
+  public @NotNull Metrics getMetrics() {
+
+    return new Metrics(this.dispatchedEvents.sum(), this.droppedEvents.sum(), this.coalescedEvents.sum(),
+      this.listenerInvocations.sum(), this.failedListenerInvocations.sum(), this.totalListenerLatencyNanos.sum(),
+      this.maxListenerLatencyNanos.get(), getQueueDepth(), this.maxQueueDepth.get());
+  }
+
+  /**
+   * Gets the number of {@link ChangeEvent ChangeEvents} currently queued across all ring buffers.
+   *
+   * @return the number of {@link ChangeEvent ChangeEvents} currently queued across all ring buffers.
+   */
+  public int getQueueDepth() {
+
+    Stripe[] stripes = this.stripes;
+
+    int queueDepth = 0;
+
+    if (stripes != null) {
+      for (Stripe stripe : stripes) {
+        queueDepth += stripe.size();
+      }
+    }
+
+    return queueDepth;
+  }
+
+  /**
+   * Determines whether this {@link AsyncChangeEventDispatcher} is running.
+   *
+   * @return a boolean value indicating whether this {@link AsyncChangeEventDispatcher} is running.
+   * @see #shutdown()
+   */
+  public boolean isRunning() {
+    return this.running;
+  }
+
+  /**
+   * Determines whether this {@link AsyncChangeEventDispatcher} has started dispatching events.
+   * <p>
+   * Once started, the configuration of this {@link AsyncChangeEventDispatcher} can no longer be changed.
+   *
+   * @return a boolean value indicating whether this {@link AsyncChangeEventDispatcher} has started.
+   */
+  public boolean isStarted() {
+    return this.stripes != null;
+  }
+
+  /**
+   * Gets the number of ring buffers across which {@link Object sources} are striped.
+   *
+   * @return the number of ring buffers across which {@link Object sources} are striped.
+   */
+  public int getStripeCount() {
+    return this.stripeCount;
+  }
+
+  /**
+   * Gets the {@link ThreadFactory} used to create the worker {@link Thread Threads}.
+   *
+   * @return the {@link ThreadFactory} used to create the worker {@link Thread Threads}.
+   * @see java.util.concurrent.ThreadFactory
+   */
+  public @NotNull ThreadFactory getThreadFactory() {
+    return this.threadFactory;
+  }
+
+  private void assertNotStarted() {
+    Assert.state(!isStarted(), "The configuration of a started AsyncChangeEventDispatcher cannot be changed");
+  }
+
+  /**
+   * Builder method used to configure the capacity of each ring buffer.
+   *
+   * @param bufferCapacity capacity of each ring buffer; must be greater than {@literal 0}.
+   * @return this {@link AsyncChangeEventDispatcher}.
+   * @throws IllegalArgumentException if the {@link Integer buffer capacity} is less than {@literal 1}.
+   * @throws IllegalStateException if this {@link AsyncChangeEventDispatcher} has already started.
+   */
+  public @NotNull AsyncChangeEventDispatcher withBufferCapacity(int bufferCapacity) {
+
+    Assert.isTrue(bufferCapacity > 0, "Buffer capacity [%d] must be greater than 0", bufferCapacity);
+    assertNotStarted();
+    this.bufferCapacity = bufferCapacity;
+    return this;
+  }
+
+  /**
+   * Builder method used to configure the {@link BackpressurePolicy} applied when a ring buffer is full.
+   *
+   * @param backpressurePolicy {@link BackpressurePolicy} to apply; must not be {@literal null}.
+   * @return this {@link AsyncChangeEventDispatcher}.
+   * @throws IllegalArgumentException if the {@link BackpressurePolicy} is {@literal null}.
+   * @throws IllegalStateException if this {@link AsyncChangeEventDispatcher} has already started.
+   * @see BackpressurePolicy
+   */
+  public @NotNull AsyncChangeEventDispatcher withBackpressurePolicy(@NotNull BackpressurePolicy backpressurePolicy) {
+
+    Assert.notNull(backpressurePolicy, "BackpressurePolicy is required");
+    assertNotStarted();
+    this.backpressurePolicy = backpressurePolicy;
+    return this;
+  }
+
+  /**
+   * Builder method used to configure the number of ring buffers across which {@link Object sources} are striped.
+   *
+   * @param stripeCount number of ring buffers; must be greater than {@literal 0}.
+   * @return this {@link AsyncChangeEventDispatcher}.
+   * @throws IllegalArgumentException if the {@link Integer number of stripes} is less than {@literal 1}.
+   * @throws IllegalStateException if this {@link AsyncChangeEventDispatcher} has already started.
+   */
+  public @NotNull AsyncChangeEventDispatcher withStripes(int stripeCount) {
+
+    Assert.isTrue(stripeCount > 0, "Stripes [%d] must be greater than 0", stripeCount);
+    assertNotStarted();
+    this.stripeCount = stripeCount;
+    return this;
+  }
+
+  /**
+   * Builder method used to configure the {@link ThreadFactory} used to create the worker {@link Thread Threads}.
+   *
+   * @param threadFactory {@link ThreadFactory} used to create the worker {@link Thread Threads};
+   * must not be {@literal null}.
+   * @return this {@link AsyncChangeEventDispatcher}.
+   * @throws IllegalArgumentException if the {@link ThreadFactory} is {@literal null}.
+   * @throws IllegalStateException if this {@link AsyncChangeEventDispatcher} has already started.
+   * @see java.util.concurrent.ThreadFactory
+   */
+  public @NotNull AsyncChangeEventDispatcher withThreadFactory(@NotNull ThreadFactory threadFactory) {
+
+    Assert.notNull(threadFactory, "ThreadFactory is required");
+    assertNotStarted();
+    this.threadFactory = threadFactory;
+    return this;
+  }
+
+  /**
+   * Builder method used to run the worker {@link Thread Threads} on daemon platform {@link Thread Threads}.
+   *
+   * @return this {@link AsyncChangeEventDispatcher}.
+   * @throws IllegalStateException if this {@link AsyncChangeEventDispatcher} has already started.
+   * @see org.cp.elements.lang.concurrent.SimpleThreadFactory
+   */
+  public @NotNull AsyncChangeEventDispatcher usingPlatformThreads() {
+    return withThreadFactory(SimpleThreadFactory.newThreadFactory().asDaemonThread());
+  }
+
+  /**
+   * Builder method used to run the worker {@link Thread Threads} on virtual {@link Thread Threads}.
+   *
+   * @return this {@link AsyncChangeEventDispatcher}.
+   * @throws IllegalStateException if this {@link AsyncChangeEventDispatcher} has already started.
+   * @see org.cp.elements.lang.concurrent.VirtualThreadFactory
+   */
+  public @NotNull AsyncChangeEventDispatcher usingVirtualThreads() {
+    return withThreadFactory(VirtualThreadFactory.newThreadFactory());
+  }
+
+  private @NotNull Stripe[] getStripes() {
+
+    Stripe[] stripes = this.stripes;
+
+    if (stripes == null) {
+      synchronized (this) {
+        stripes = this.stripes;
+        if (stripes == null) {
+          stripes = new Stripe[getStripeCount()];
+          for (int index = 0; index < stripes.length; index++) {
+            stripes[index] = new Stripe(index, getBufferCapacity());
+          }
+          this.stripes = stripes;
+        }
+      }
+    }
+
+    return stripes;
+  }
+
+  private @NotNull Stripe resolveStripe(@NotNull Object source) {
+
+    Stripe[] stripes = getStripes();
+
+    return stripes[Math.floorMod(System.identityHashCode(source), stripes.length)];
+  }
+
+  /**
+   * Dispatches the given {@link ChangeEvent} to the {@link ChangeListener ChangeListeners} registered with
+   * the given {@link ChangeSupport} asynchronously.
+   * <p>
+   * {@link ChangeEvent ChangeEvents} dispatched after this {@link AsyncChangeEventDispatcher} has been
+   * {@link #shutdown()} are delivered on the calling {@link Thread}, once the {@link ChangeEvent ChangeEvents}
+   * already queued in the ring buffer for the {@link Object source} have been delivered.
+   *
+   * @param changeSupport {@link ChangeSupport} with the registered {@link ChangeListener ChangeListeners};
+   * must not be {@literal null}.
+   * @param event {@link ChangeEvent} to dispatch; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link ChangeSupport} or {@link ChangeEvent} is {@literal null}.
+   * @see org.cp.elements.beans.event.ChangeSupport
+   * @see org.cp.elements.beans.event.ChangeEvent
+   */
+  public void dispatch(@NotNull ChangeSupport changeSupport, @NotNull ChangeEvent event) {
+
+    Assert.notNull(changeSupport, "ChangeSupport is required");
+    Assert.notNull(event, "ChangeEvent is required");
+
+    if (isRunning() || isStarted()) {
+      resolveStripe(changeSupport.getSource()).offer(new Dispatch(changeSupport, event));
+    }
+    else {
+      deliver(new Dispatch(changeSupport, event));
+    }
+  }
+
+  private void deliver(@NotNull Dispatch dispatch) {
+
+    ChangeEvent event = dispatch.event;
+
+    for (ChangeListener listener : dispatch.changeSupport) {
+
+      long startTime = System.nanoTime();
+
+      try {
+        listener.stateChanged(event);
+      }
+      catch (Throwable cause) {
+        this.failedListenerInvocations.increment();
+        logger.log(Level.WARNING, cause, () -> String.format("ChangeListener [%s] failed to handle ChangeEvent [%s]",
+          listener, event));
+      }
+      finally {
+        long latency = System.nanoTime() - startTime;
+        this.listenerInvocations.increment();
+        this.totalListenerLatencyNanos.add(latency);
+        this.maxListenerLatencyNanos.accumulateAndGet(latency, Math::max);
+      }
+    }
+
+    this.dispatchedEvents.increment();
+  }
+
+  /**
+   * Stops accepting {@link ChangeEvent ChangeEvents} for asynchronous delivery.
+   * <p>
+   * {@link ChangeEvent ChangeEvents} already queued are still delivered.
+   *
+   * @see #awaitTermination(Duration)
+   * @see #close()
+   */
+  public void shutdown() {
+
+    this.running = false;
+
+    Stripe[] stripes = this.stripes;
+
+    if (stripes != null) {
+      for (Stripe stripe : stripes) {
+        stripe.wakeUp();
+      }
+    }
+  }
+
+  /**
+   * Waits for all queued {@link ChangeEvent ChangeEvents} to be delivered after {@link #shutdown()}.
+   *
+   * @param timeout {@link Duration} to wait; must not be {@literal null}.
+   * @return a boolean value indicating whether all worker {@link Thread Threads} terminated before the timeout.
+   * @throws IllegalArgumentException if the {@link Duration timeout} is {@literal null}.
+   * @throws InterruptedException if the current {@link Thread} is interrupted while waiting.
+   * @see java.time.Duration
+   */
+  public boolean awaitTermination(@NotNull Duration timeout) throws InterruptedException {
+
+    Assert.notNull(timeout, "Timeout is required");
+
+    long deadline = System.nanoTime() + timeout.toNanos();
+
+    Stripe[] stripes = this.stripes;
+
+    if (stripes != null) {
+      for (Stripe stripe : stripes) {
+        if (!stripe.awaitTermination(deadline)) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Shuts down this {@link AsyncChangeEventDispatcher} and waits for queued {@link ChangeEvent ChangeEvents}
+   * to be delivered.
+   *
+   * @see #awaitTermination(Duration)
+   * @see #shutdown()
+   */
+  @Override
+  public void close() {
+
+    shutdown();
+
+    try {
+      awaitTermination(DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+    catch (InterruptedException ignore) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Enumeration of policies applied when a ring buffer is full.
+   */
+  public enum BackpressurePolicy {
+
+    /**
+     * The publishing {@link Thread} blocks until space is available in the ring buffer.
+     */
+    BLOCK,
+
+    /**
+     * The oldest queued {@link ChangeEvent} is dropped to make room for the new {@link ChangeEvent}.
+     */
+    DROP_OLDEST,
+
+    /**
+     * A {@link ChangeEvent} published for a {@link Object source} that already has a {@link ChangeEvent} queued
+     * replaces the queued {@link ChangeEvent}, keeping its position in the ring buffer. If the {@link Object source}
+     * has no {@link ChangeEvent} queued and the ring buffer is full, the publishing {@link Thread} blocks.
+     */
+    COALESCE,
+
+  }
+
+  /**
+   * Snapshot of the metrics collected by an {@link AsyncChangeEventDispatcher}.
+   *
+   * @param dispatchedEvents number of {@link ChangeEvent ChangeEvents} delivered to listeners.
+   * @param droppedEvents number of {@link ChangeEvent ChangeEvents} dropped.
+   * @param coalescedEvents number of {@link ChangeEvent ChangeEvents} coalesced with a queued event.
+   * @param listenerInvocations number of {@link ChangeListener} invocations.
+   * @param failedListenerInvocations number of {@link ChangeListener} invocations that threw an exception.
+   * @param totalListenerLatencyNanos total time spent in {@link ChangeListener ChangeListeners}, in nanoseconds.
+   * @param maxListenerLatencyNanos longest {@link ChangeListener} invocation, in nanoseconds.
+   * @param queueDepth number of {@link ChangeEvent ChangeEvents} currently queued.
+   * @param maxQueueDepth largest number of {@link ChangeEvent ChangeEvents} queued in a single ring buffer.
+   */
+  public record Metrics(long dispatchedEvents, long droppedEvents, long coalescedEvents, long listenerInvocations,
+      long failedListenerInvocations, long totalListenerLatencyNanos, long maxListenerLatencyNanos,
+      int queueDepth, int maxQueueDepth) {
+
+    /**
+     * Computes the average time spent in a {@link ChangeListener} invocation, in nanoseconds.
+     *
+     * @return the average time spent in a {@link ChangeListener} invocation, in nanoseconds.
+     */
+    public long averageListenerLatencyNanos() {
+      return this.listenerInvocations > 0L ? this.totalListenerLatencyNanos / this.listenerInvocations : 0L;
+    }
+  }
+
+  private static final class Dispatch {
+
+    private final ChangeSupport changeSupport;
+
+    private ChangeEvent event;
+
+    private Dispatch(@NotNull ChangeSupport changeSupport, @NotNull ChangeEvent event) {
+      this.changeSupport = changeSupport;
+      this.event = event;
+    }
+
+    private @NotNull Object getSource() {
+      return this.changeSupport.getSource();
+    }
+  }
+
+  private final class Stripe implements Runnable {
+
+    private final int index;
+
+    private int head;
+    private int size;
+    private int tail;
+
+    private final Dispatch[] buffer;
+
+    private final Map<Object, Dispatch> pendingDispatches;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition drained = this.lock.newCondition();
+    private final Condition notEmpty = this.lock.newCondition();
+    private final Condition notFull = this.lock.newCondition();
+
+    private boolean delivering;
+
+    private Thread worker;
+
+    private Stripe(int index, int capacity) {
+
+      this.index = index;
+      this.buffer = new Dispatch[capacity];
+      this.pendingDispatches = BackpressurePolicy.COALESCE.equals(getBackpressurePolicy())
+        ? new IdentityHashMap<>()
+        : null;
+    }
+
+    private int size() {
+
+      this.lock.lock();
+
+      try {
+        return this.size;
+      }
+      finally {
+        this.lock.unlock();
+      }
+    }
+
+    private void offer(@NotNull Dispatch dispatch) {
+
+      boolean deliverInline = false;
+
+      this.lock.lock();
+
+      try {
+        deliverInline = enqueueOrAwaitDrained(dispatch);
+      }
+      catch (InterruptedException cause) {
+        Thread.currentThread().interrupt();
+        droppedEvents.increment();
+      }
+      finally {
+        this.lock.unlock();
+      }
+
+      if (deliverInline) {
+        deliver(dispatch);
+      }
+    }
+
+    private boolean enqueueOrAwaitDrained(@NotNull Dispatch dispatch) throws InterruptedException {
+
+      if (!isRunning()) {
+        return awaitDrained(dispatch);
+      }
+
+      if (this.pendingDispatches != null) {
+
+        Dispatch pendingDispatch = this.pendingDispatches.get(dispatch.getSource());
+
+        if (pendingDispatch != null) {
+          pendingDispatch.event = dispatch.event;
+          coalescedEvents.increment();
+          return false;
+        }
+      }
+
+      while (this.size == this.buffer.length) {
+        if (BackpressurePolicy.DROP_OLDEST.equals(getBackpressurePolicy())) {
+          poll();
+          droppedEvents.increment();
+        }
+        else if (isRunning()) {
+          this.notFull.await();
+        }
+        else {
+          return awaitDrained(dispatch);
+        }
+      }
+
+      enqueue(dispatch);
+
+      return false;
+    }
+
+    /**
+     * Waits for the {@link Dispatch Dispatches} queued in this ring buffer to be delivered once the dispatcher
+     * has been shut down, so that a {@link Dispatch} delivered on the publishing {@link Thread} does not overtake
+     * queued {@link Dispatch Dispatches} for the same {@link Object source}.
+     * <p>
+     * If called by the worker {@link Thread} itself, for example from a {@link ChangeListener}, the {@link Dispatch}
+     * is queued behind the others instead, unless the ring buffer is full.
+     *
+     * @param dispatch {@link Dispatch} to deliver.
+     * @return a boolean value indicating whether the {@link Dispatch} must be delivered on the calling {@link Thread}.
+     * @throws InterruptedException if the current {@link Thread} is interrupted while waiting.
+     */
+    private boolean awaitDrained(@NotNull Dispatch dispatch) throws InterruptedException {
+
+      if (Thread.currentThread() == this.worker) {
+
+        if (this.size < this.buffer.length) {
+          enqueue(dispatch);
+          return false;
+        }
+
+        return true;
+      }
+
+      while (this.size > 0 || this.delivering) {
+        startWorker();
+        this.drained.await();
+      }
+
+      return true;
+    }
+
+    private void enqueue(@NotNull Dispatch dispatch) {
+
+      this.buffer[this.tail] = dispatch;
+      this.tail = (this.tail + 1) % this.buffer.length;
+      this.size++;
+
+      if (this.pendingDispatches != null) {
+        this.pendingDispatches.put(dispatch.getSource(), dispatch);
+      }
+
+      maxQueueDepth.accumulateAndGet(this.size, Math::max);
+      startWorker();
+      this.notEmpty.signal();
+    }
+
+    private @NotNull Dispatch poll() {
+
+      Dispatch dispatch = this.buffer[this.head];
+
+      this.buffer[this.head] = null;
+      this.head = (this.head + 1) % this.buffer.length;
+      this.size--;
+
+      if (this.pendingDispatches != null) {
+        this.pendingDispatches.remove(dispatch.getSource(), dispatch);
+      }
+
+      this.notFull.signal();
+
+      return dispatch;
+    }
+
+    private void startWorker() {
+
+      if (this.worker == null) {
+        this.worker = getThreadFactory().newThread(this);
+        this.worker.start();
+      }
+    }
+
+    private void wakeUp() {
+
+      this.lock.lock();
+
+      try {
+        this.notEmpty.signalAll();
+        this.notFull.signalAll();
+      }
+      finally {
+        this.lock.unlock();
+      }
+    }
+
+    private boolean awaitTermination(long deadline) throws InterruptedException {
+
+      Thread worker;
+
+      this.lock.lock();
+
+      try {
+        worker = this.worker;
+      }
+      finally {
+        this.lock.unlock();
+      }
+
+      if (worker != null) {
+        long remainingMillis = Math.max(1L, (deadline - System.nanoTime()) / 1_000_000L);
+        worker.join(remainingMillis);
+        return !worker.isAlive();
+      }
+
+      return true;
+    }
+
+    @Override
+    public void run() {
+
+      while (true) {
+
+        Dispatch dispatch;
+
+        this.lock.lock();
+
+        try {
+          this.delivering = false;
+
+          while (this.size == 0) {
+
+            this.drained.signalAll();
+
+            if (!isRunning()) {
+              this.worker = null;
+              return;
+            }
+
+            this.notEmpty.await();
+          }
+
+          dispatch = poll();
+          this.delivering = true;
+        }
+        catch (InterruptedException ignore) {
+          Thread.currentThread().interrupt();
+          this.worker = null;
+          this.drained.signalAll();
+          return;
+        }
+        finally {
+          this.lock.unlock();
+        }
+
+        deliver(dispatch);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s.Stripe-%d", AsyncChangeEventDispatcher.class.getSimpleName(), this.index);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.beans.event;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * {@link ChangeSupport} implementation that notifies the registered {@link ChangeListener ChangeListeners}
+ * asynchronously using an {@link AsyncChangeEventDispatcher}.
+ * <p>
+ * {@link ChangeEvent ChangeEvents} fired for the same {@link #getSource() source} are delivered in order.
+ *
+ * @author John Blum
+ * @see org.cp.elements.beans.event.AsyncChangeEventDispatcher
+ * @see org.cp.elements.beans.event.ChangeSupport
+ * @since 3.0.0
+ */
+public class AsyncChangeSupport extends ChangeSupport {
+
+  private final AsyncChangeEventDispatcher dispatcher;
+
+  /**
+   * Constructs a new {@link AsyncChangeSupport} initialized with the given, required {@link Object source}
+   * and {@link AsyncChangeEventDispatcher}.
+   *
+   * @param source {@link Object} used as the source of the {@link ChangeEvent change events};
+   * must not be {@literal null}.
+   * @param dispatcher {@link AsyncChangeEventDispatcher} used to deliver {@link ChangeEvent change events};
+   * must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Object source} or {@link AsyncChangeEventDispatcher}
+   * is {@literal null}.
+   * @see org.cp.elements.beans.event.AsyncChangeEventDispatcher
+   */
+  public AsyncChangeSupport(@NotNull Object source, @NotNull AsyncChangeEventDispatcher dispatcher) {
+
+    super(source);
+    this.dispatcher = ObjectUtils.requireObject(dispatcher, "AsyncChangeEventDispatcher is required");
+  }
+
+  /**
+   * Gets the {@link AsyncChangeEventDispatcher} used to deliver {@link ChangeEvent change events}.
+   *
+   * @return the {@link AsyncChangeEventDispatcher} used to deliver {@link ChangeEvent change events}.
+   * @see org.cp.elements.beans.event.AsyncChangeEventDispatcher
+   */
+  protected @NotNull AsyncChangeEventDispatcher getDispatcher() {
+    return this.dispatcher;
+  }
+
+  /**
+   * Fires a {@link ChangeEvent} that is delivered to each registered {@link ChangeListener} asynchronously.
+   *
+   * @see org.cp.elements.beans.event.AsyncChangeEventDispatcher#dispatch(ChangeSupport, ChangeEvent)
+   */
+  @Override
+  public void fireChangeEvent() {
+
+    if (hasListeners()) {
+      getDispatcher().dispatch(this, newChangeEvent(getSource()));
+    }
+  }
+}
@@ -42,7 +42,26 @@ import org.cp.elements.lang.annotation.NotNull;
 public class ChangeRecorder implements Iterable<String>, PropertyChangeListener, Visitable {
 
   // Map of object state mapping property name to the property value's hash code, ordered (sorted) by property name.
-  private final Map<String, Integer> objectStateMap = new TreeMap<>();
+  // The Map is lazily allocated on the first recorded change.
+  private Map<String, Integer> objectStateMap;
+
+  /**
+   * Lazily gets the {@link Map} of recorded object state.
+   *
+   * @return the {@link Map} of recorded object state.
+   * @see java.util.Map
+   */
+  private @NotNull Map<String, Integer> getObjectStateMap() {
+
+    Map<String, Integer> objectStateMap = this.objectStateMap;
+
+    if (objectStateMap == null) {
+      objectStateMap = new TreeMap<>();
+      this.objectStateMap = objectStateMap;
+    }
+
+    return objectStateMap;
+  }
 
   /**
    * Determines whether the {@link Bean} monitored by this {@link ChangeRecorder} has any modified properties.
@@ -52,7 +71,7 @@ public class ChangeRecorder implements Iterable<String>, PropertyChangeListener,
    * @see #isModified(String)
    */
   public boolean isModified() {
-    return !this.objectStateMap.isEmpty();
+    return this.objectStateMap != null && !this.objectStateMap.isEmpty();
   }
 
   /**
@@ -66,7 +85,7 @@ public class ChangeRecorder implements Iterable<String>, PropertyChangeListener,
    * @see #isModified()
    */
   public boolean isModified(@NotNull String propertyName) {
-    return this.objectStateMap.containsKey(propertyName);
+    return this.objectStateMap != null && this.objectStateMap.containsKey(propertyName);
   }
 
   /**
@@ -95,7 +114,7 @@ public class ChangeRecorder implements Iterable<String>, PropertyChangeListener,
     }
     else {
       if (!ObjectUtils.equalsIgnoreNull(event.getOldValue(), event.getNewValue())) {
-        this.objectStateMap.put(propertyName, ObjectUtils.hashCode(event.getOldValue()));
+        getObjectStateMap().put(propertyName, ObjectUtils.hashCode(event.getOldValue()));
       }
     }
   }
@@ -109,7 +128,10 @@ public class ChangeRecorder implements Iterable<String>, PropertyChangeListener,
    * @see java.util.Iterator
    */
   public @NotNull Iterator<String> iterator() {
-    return Collections.unmodifiableSet(this.objectStateMap.keySet()).iterator();
+
+    return this.objectStateMap != null
+      ? Collections.unmodifiableSet(this.objectStateMap.keySet()).iterator()
+      : Collections.emptyIterator();
   }
 
   /**
@@ -119,7 +141,11 @@ public class ChangeRecorder implements Iterable<String>, PropertyChangeListener,
    */
   @SuppressWarnings("all")
   public boolean clear() {
-    this.objectStateMap.clear();
-    return this.objectStateMap.isEmpty();
+
+    if (this.objectStateMap != null) {
+      this.objectStateMap.clear();
+    }
+
+    return !isModified();
   }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.beans.event;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import org.cp.elements.beans.Bean;
+import org.cp.elements.beans.model.BeanMetadata;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * {@link ChangeRecorder} implementation that records changes to the properties of a {@link Bean}
+ * using an array of {@literal dirty bits} indexed by property, rather than a {@link java.util.Map}.
+ * <p>
+ * The index of property names is computed once per {@link Bean} {@link Class type} and shared by all
+ * {@link IndexedChangeRecorder IndexedChangeRecorders} for {@link Bean Beans} of the same {@link Class type}.
+ * The per-instance state, consisting of the dirty bits and the hash codes of the original property values,
+ * is lazily allocated on the first recorded change. Changes to properties that are not indexed,
+ * such as for properties without a {@link PropertyDescriptor}, are recorded by the {@link ChangeRecorder}
+ * base class.
+ *
+ * @author John Blum
+ * @see java.beans.PropertyChangeEvent
+ * @see org.cp.elements.beans.event.ChangeRecorder
+ * @see org.cp.elements.beans.model.BeanMetadata
+ * @since 3.0.0
+ */
+@SuppressWarnings("unused")
+public class IndexedChangeRecorder extends ChangeRecorder {
+
+  private static final ClassValue<String[]> PROPERTY_NAME_INDEX = new ClassValue<>() {
+
+    @Override
+    protected String[] computeValue(Class<?> type) {
+
+      return Arrays.stream(BeanMetadata.from(type).getPropertyDescriptors())
+        .filter(Objects::nonNull)
+        .map(PropertyDescriptor::getName)
+        .sorted()
+        .distinct()
+        .toArray(String[]::new);
+    }
+  };
+
+  /**
+   * Factory method used to construct a new {@link IndexedChangeRecorder} indexing the properties
+   * of the given, required {@link Bean} {@link Class type}.
+   *
+   * @param beanType {@link Class type} of the {@link Bean} whose properties are indexed; must not be {@literal null}.
+   * @return a new {@link IndexedChangeRecorder} for the given {@link Bean} {@link Class type}.
+   * @throws IllegalArgumentException if the {@link Bean} {@link Class type} is {@literal null}.
+   * @see java.lang.Class
+   */
+  public static @NotNull IndexedChangeRecorder forType(@NotNull Class<?> beanType) {
+
+    Assert.notNull(beanType, "Bean type is required");
+
+    return new IndexedChangeRecorder(PROPERTY_NAME_INDEX.get(beanType));
+  }
+
+  private int[] originalValueHashCodes;
+
+  private long[] dirtyBits;
+
+  private final String[] propertyNames;
+
+  /**
+   * Constructs a new {@link IndexedChangeRecorder} initialized with the given, required, sorted array
+   * of property names.
+   *
+   * @param propertyNames sorted array of property names to index; must not be {@literal null}.
+   * @throws IllegalArgumentException if the array of property names is {@literal null}.
+   */
+  protected IndexedChangeRecorder(@NotNull String[] propertyNames) {
+    this.propertyNames = ObjectUtils.requireObject(propertyNames, "Property names are required");
+  }
+
+  private int indexOf(String propertyName) {
+    return propertyName != null ? Arrays.binarySearch(this.propertyNames, propertyName) : -1;
+  }
+
+  private boolean isDirty(int index) {
+
+    long[] dirtyBits = this.dirtyBits;
+
+    return dirtyBits != null && (dirtyBits[index >>> 6] & (1L << index)) != 0L;
+  }
+
+  private void setDirty(int index, int originalValueHashCode) {
+
+    if (this.dirtyBits == null) {
+      this.dirtyBits = new long[(this.propertyNames.length + 63) >>> 6];
+      this.originalValueHashCodes = new int[this.propertyNames.length];
+    }
+
+    this.dirtyBits[index >>> 6] |= (1L << index);
+    this.originalValueHashCodes[index] = originalValueHashCode;
+  }
+
+  private void clearDirty(int index) {
+    this.dirtyBits[index >>> 6] &= ~(1L << index);
+  }
+
+  private boolean isAnyDirty() {
+
+    long[] dirtyBits = this.dirtyBits;
+
+    if (dirtyBits != null) {
+      for (long word : dirtyBits) {
+        if (word != 0L) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  public boolean isModified() {
+    return isAnyDirty() || super.isModified();
+  }
+
+  @Override
+  public boolean isModified(@NotNull String propertyName) {
+
+    int index = indexOf(propertyName);
+
+    return index >= 0 ? isDirty(index) : super.isModified(propertyName);
+  }
+
+  @Override
+  public void propertyChange(@NotNull PropertyChangeEvent event) {
+
+    int index = indexOf(event.getPropertyName());
+
+    if (index >= 0) {
+      if (isDirty(index)) {
+        // NOTE: The property has been reverted to its old (original) value; see ChangeRecorder.
+        if (this.originalValueHashCodes[index] == ObjectUtils.hashCode(event.getNewValue())) {
+          clearDirty(index);
+        }
+      }
+      else if (!ObjectUtils.equalsIgnoreNull(event.getOldValue(), event.getNewValue())) {
+        setDirty(index, ObjectUtils.hashCode(event.getOldValue()));
+      }
+    }
+    else {
+      super.propertyChange(event);
+    }
+  }
+
+  @Override
+  public @NotNull Iterator<String> iterator() {
+
+    List<String> modifiedPropertyNames = new ArrayList<>();
+
+    if (this.dirtyBits != null) {
+      for (int index = 0; index < this.propertyNames.length; index++) {
+        if (isDirty(index)) {
+          modifiedPropertyNames.add(this.propertyNames[index]);
+        }
+      }
+    }
+
+    Iterator<String> unindexedPropertyNames = super.iterator();
+
+    if (unindexedPropertyNames.hasNext()) {
+      unindexedPropertyNames.forEachRemaining(modifiedPropertyNames::add);
+      Collections.sort(modifiedPropertyNames);
+    }
+
+    return Collections.unmodifiableList(modifiedPropertyNames).iterator();
+  }
+
+  @Override
+  public boolean clear() {
+
+    if (this.dirtyBits != null) {
+      Arrays.fill(this.dirtyBits, 0L);
+    }
+
+    return super.clear() && !isModified();
+  }
+}
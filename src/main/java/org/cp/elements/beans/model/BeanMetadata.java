@@ -0,0 +1,224 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.beans.model;
+
+import java.beans.BeanInfo;
+import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.cp.elements.beans.BeansException;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.ClassUtils;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.NullSafe;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+import org.cp.elements.util.ArrayUtils;
+
+/**
+ * Abstract Data Type (ADT) modeling the {@link Class type-level} metadata of a {@literal JavaBean}.
+ * <p>
+ * {@link BeanMetadata} is computed once per {@link Class type} and cached in a {@link ClassValue},
+ * which is both thread-safe and does not prevent the {@link Class type} from being unloaded. The metadata,
+ * which includes the {@link BeanInfo}, the {@link Field Fields} backing bean {@link Property Properties}
+ * and the {@link Annotation Annotations} declared on those {@link AnnotatedElement AnnotatedElements},
+ * is then shared by all {@link BeanModel BeanModels} for beans of the same {@link Class type}.
+ *
+ * @author John Blum
+ * @see java.beans.BeanInfo
+ * @see java.lang.ClassValue
+ * @see org.cp.elements.beans.model.BeanModel
+ * @see org.cp.elements.beans.model.Property
+ * @since 3.0.0
+ */
+@ThreadSafe
+@SuppressWarnings("unused")
+public class BeanMetadata {
+
+  private static final ClassValue<BeanMetadata> BEAN_METADATA_CACHE = new ClassValue<>() {
+
+    @Override
+    protected BeanMetadata computeValue(Class<?> type) {
+      return new BeanMetadata(type);
+    }
+  };
+
+  /**
+   * Factory method used to get the cached {@link BeanMetadata} for the given, required {@link Class type}.
+   * <p>
+   * The {@link BeanMetadata} is computed on first access.
+   *
+   * @param type {@link Class type} of the bean; must not be {@literal null}.
+   * @return the cached {@link BeanMetadata} for the given {@link Class type}.
+   * @throws BeansException if the {@link Class type} could not be introspected.
+   * @throws IllegalArgumentException if the {@link Class type} is {@literal null}.
+   * @see java.lang.Class
+   */
+  public static @NotNull BeanMetadata from(@NotNull Class<?> type) {
+
+    Assert.notNull(type, "Class type is required");
+
+    return BEAN_METADATA_CACHE.get(type);
+  }
+
+  /**
+   * Evicts the cached {@link BeanMetadata} for the given {@link Class type}, if present.
+   * <p>
+   * The {@link BeanMetadata} will be recomputed on next access.
+   *
+   * @param type {@link Class type} of the bean.
+   * @see java.lang.Class
+   */
+  @NullSafe
+  public static void evict(@Nullable Class<?> type) {
+
+    if (type != null) {
+      BEAN_METADATA_CACHE.remove(type);
+    }
+  }
+
+  private final BeanInfo beanInfo;
+
+  private final Class<?> type;
+
+  private final Map<String, Field> fields;
+
+  private final Map<Function<AnnotatedElement, Set<Annotation>>, ConcurrentMap<AnnotatedElement, Set<Annotation>>>
+    annotationsCaches;
+
+  /**
+   * Constructs a new {@link BeanMetadata} for the given, required {@link Class type}.
+   *
+   * @param type {@link Class type} of the bean; must not be {@literal null}.
+   * @throws BeansException if the {@link Class type} could not be introspected.
+   * @throws IllegalArgumentException if the {@link Class type} is {@literal null}.
+   * @see java.lang.Class
+   */
+  protected BeanMetadata(@NotNull Class<?> type) {
+
+    this.type = ObjectUtils.requireObject(type, "Class type is required");
+    this.beanInfo = BeanUtils.acquireBeanInformation(type);
+    this.fields = resolveFields(type);
+    this.annotationsCaches = newAnnotationsCaches();
+  }
+
+  private static @NotNull Map<String, Field> resolveFields(@NotNull Class<?> type) {
+
+    Map<String, Field> fields = new HashMap<>();
+
+    // Fields declared lower in the Class hierarchy take precedence over (i.e. hide) Fields declared in supertypes.
+    for (Field field : ClassUtils.getAllDeclaredFields(type)) {
+      fields.putIfAbsent(field.getName(), field);
+    }
+
+    return Collections.unmodifiableMap(fields);
+  }
+
+  private static @NotNull Map<Function<AnnotatedElement, Set<Annotation>>,
+      ConcurrentMap<AnnotatedElement, Set<Annotation>>> newAnnotationsCaches() {
+
+    // Only the well-known Strategies are cached since arbitrary (e.g. lambda) resolvers would grow the cache unbounded.
+    return Map.of(Property.ALL_ANNOTATIONS_RESOLVER, new ConcurrentHashMap<>(),
+      Property.DECLARED_ANNOTATIONS_RESOLVER, new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Gets the {@link Map} used to cache the {@link Annotation Annotations} resolved with the given
+   * {@link Function annotations resolver} from the {@link AnnotatedElement AnnotatedElements}
+   * of this bean {@link Class type}.
+   *
+   * @param <T> {@link Class type} of {@link AnnotatedElement}, such as {@link Field} or {@link java.lang.reflect.Method}.
+   * @param annotationsResolver {@link Function} encapsulating the {@literal Strategy} used to resolve
+   * {@link Annotation Annotations} declared on an {@link AnnotatedElement}.
+   * @return the {@link Map} used as the {@literal cache} for the given {@link Function annotations resolver},
+   * or {@literal null} if the {@link Function annotations resolver} is not cacheable.
+   * @see java.lang.reflect.AnnotatedElement
+   * @see java.lang.annotation.Annotation
+   * @see java.util.function.Function
+   */
+  @NullSafe
+  protected @Nullable <T extends AnnotatedElement> Map<T, Set<Annotation>> getAnnotationsCache(
+      @Nullable Function<AnnotatedElement, Set<Annotation>> annotationsResolver) {
+
+    @SuppressWarnings("unchecked")
+    Map<T, Set<Annotation>> annotationsCache = annotationsResolver != null
+      ? (Map<T, Set<Annotation>>) (Map<?, ?>) this.annotationsCaches.get(annotationsResolver)
+      : null;
+
+    return annotationsCache;
+  }
+
+  /**
+   * Gets the {@link BeanInfo} describing the bean {@link Class type}.
+   *
+   * @return the {@link BeanInfo} describing the bean {@link Class type}.
+   * @see java.beans.BeanInfo
+   */
+  public @NotNull BeanInfo getBeanInfo() {
+    return this.beanInfo;
+  }
+
+  /**
+   * Gets the {@link Field} backing the {@link Property} with the given {@link String name}.
+   *
+   * @param propertyName {@link String} containing the {@literal name} of the {@link Property}.
+   * @return the {@link Field} backing the {@link Property} with the given {@link String name},
+   * or {@literal null} if no such {@link Field} is declared by the bean {@link Class type}
+   * or any of its {@link Class supertypes}.
+   * @see java.lang.reflect.Field
+   */
+  @NullSafe
+  public @Nullable Field getField(@Nullable String propertyName) {
+    return propertyName != null ? this.fields.get(propertyName) : null;
+  }
+
+  /**
+   * Gets the {@link PropertyDescriptor PropertyDescriptors} of the bean {@link Class type}.
+   *
+   * @return the {@link PropertyDescriptor PropertyDescriptors} of the bean {@link Class type};
+   * never {@literal null}.
+   * @see java.beans.PropertyDescriptor
+   * @see #getBeanInfo()
+   */
+  public @NotNull PropertyDescriptor[] getPropertyDescriptors() {
+    return ArrayUtils.nullSafeArray(getBeanInfo().getPropertyDescriptors(), PropertyDescriptor.class);
+  }
+
+  /**
+   * Gets the {@link Class type} of the bean described by this {@link BeanMetadata}.
+   *
+   * @return the {@link Class type} of the bean described by this {@link BeanMetadata}.
+   * @see java.lang.Class
+   */
+  public @NotNull Class<?> getType() {
+    return this.type;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[%s]", getClass().getSimpleName(), getType().getName());
+  }
+}
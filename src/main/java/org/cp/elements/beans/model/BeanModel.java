@@ -16,8 +16,6 @@
 package org.cp.elements.beans.model;
 
 import java.beans.BeanInfo;
-import java.util.Map;
-import java.util.WeakHashMap;
 
 import org.cp.elements.beans.BeansException;
 import org.cp.elements.beans.PropertyNotFoundException;
@@ -33,6 +31,7 @@ import org.cp.elements.lang.annotation.Nullable;
  * @author John Blum
  * @see java.beans.BeanInfo
  * @see org.cp.elements.beans.model.BeanAdapter
+ * @see org.cp.elements.beans.model.BeanMetadata
  * @see org.cp.elements.lang.annotation.FluentApi
  * @since 1.0.0
  */
@@ -40,11 +39,12 @@ import org.cp.elements.lang.annotation.Nullable;
 @FluentApi
 public class BeanModel {
 
-  private static final Map<BeanModelCacheKey, BeanModel> beanModelCache = new WeakHashMap<>();
-
   /**
    * Factory method used to construct a new {@link BeanModel} used to model the given,
    * required {@link BeanAdapter bean}.
+   * <p>
+   * The {@link BeanModel} is a lightweight view of the {@link BeanAdapter bean} over the {@link BeanMetadata}
+   * cached per bean {@link Class type}, so bean introspection only occurs once per {@link Class type}.
    *
    * @param bean {@link BeanAdapter} to model; must not be {@literal null}.
    * @return a new {@link BeanModel} modeling the given, required {@link BeanAdapter bean}.
@@ -56,12 +56,12 @@ public class BeanModel {
    */
   @Dsl
   public static @NotNull BeanModel from(@NotNull BeanAdapter bean) {
-    return beanModelCache.computeIfAbsent(BeanModelCacheKey.from(bean), key -> new BeanModel(key.getBean()));
+    return new BeanModel(bean);
   }
 
   private final BeanAdapter bean;
 
-  private final BeanInfo beanInfo;
+  private final BeanMetadata beanMetadata;
 
   private final Properties beanProperties;
 
@@ -76,7 +76,7 @@ public class BeanModel {
   protected BeanModel(@NotNull BeanAdapter bean) {
 
     this.bean = ObjectUtils.requireObject(bean, "Bean is required");
-    this.beanInfo = BeanUtils.acquireBeanInformation(this.bean);
+    this.beanMetadata = BeanMetadata.from(BeanUtils.resolveType(this.bean));
     this.beanProperties = Properties.from(this);
   }
 
@@ -96,10 +96,23 @@ public class BeanModel {
    * Gets the {@link BeanInfo} for the {@link BeanAdapter bean} represented by this {@link BeanModel}.
    *
    * @return the {@link BeanInfo} for the {@link BeanAdapter bean} represented by this {@link BeanModel}.
+   * @see org.cp.elements.beans.model.BeanMetadata#getBeanInfo()
    * @see java.beans.BeanInfo
+   * @see #getMetadata()
    */
   public @NotNull BeanInfo getBeanInfo() {
-    return this.beanInfo;
+    return getMetadata().getBeanInfo();
+  }
+
+  /**
+   * Gets the {@link BeanMetadata} shared by all beans of the same {@link Class type}
+   * as the {@link BeanAdapter bean} represented by this {@link BeanModel}.
+   *
+   * @return the {@link BeanMetadata} for the {@link Class type} of the {@link BeanAdapter bean}.
+   * @see org.cp.elements.beans.model.BeanMetadata
+   */
+  public @NotNull BeanMetadata getMetadata() {
+    return this.beanMetadata;
   }
 
   /**
@@ -153,77 +166,4 @@ public class BeanModel {
   public @NotNull Class<?> getTargetType() {
     return getTargetObject().getClass();
   }
-
-  /**
-   * Abstract Data Type (ADT) used to model the {@literal key} in the {@link BeanModel} {@literal cache}.
-   */
-  protected static class BeanModelCacheKey {
-
-    /**
-     * Factory method used to construct a new {@link BeanModelCacheKey} initialized with the given,
-     * required {@link BeanAdapter bean}.
-     *
-     * @param bean {@link BeanAdapter} used as a key component in the {@link BeanModel} {@literal cache};
-     * must not be {@literal null}.
-     * @return a new {@link BeanModelCacheKey}.
-     * @throws IllegalArgumentException if the {@link BeanAdapter bean} is {@literal null}.
-     * @see org.cp.elements.beans.model.BeanAdapter
-     * @see #BeanModelCacheKey(BeanAdapter)
-     */
-    protected static @NotNull BeanModelCacheKey from(@NotNull BeanAdapter bean) {
-      return new BeanModelCacheKey(bean);
-    }
-
-    private final BeanAdapter bean;
-
-    /**
-     * Constructs a new {@link BeanModelCacheKey} initialized with the given,
-     * required {@link BeanAdapter bean}.
-     *
-     * @param bean {@link BeanAdapter} used as a key component in the {@link BeanModel} {@literal cache};
-     * must not be {@literal null}.
-     * @throws IllegalArgumentException if the {@link BeanAdapter bean} is {@literal null}.
-     * @see org.cp.elements.beans.model.BeanAdapter
-     */
-    protected BeanModelCacheKey(@NotNull BeanAdapter bean) {
-      this.bean = ObjectUtils.requireObject(bean, "Bean is required");
-    }
-
-    /**
-     * Gets a reference to the {@link BeanAdapter bean} used as a key component
-     * in the {@link BeanModel} {@literal cache}.
-     *
-     * @return the {@link BeanAdapter bean} used as a key component in the {@link BeanModel} {@literal cache}.
-     * @see org.cp.elements.beans.model.BeanAdapter
-     */
-    protected @NotNull BeanAdapter getBean() {
-      return this.bean;
-    }
-
-    @Override
-    public boolean equals(Object obj) {
-
-      if (this == obj) {
-        return true;
-      }
-
-      if (!(obj instanceof BeanModelCacheKey)) {
-        return false;
-      }
-
-      BeanModelCacheKey that = (BeanModelCacheKey) obj;
-
-      return this.getBean().equals(that.getBean());
-    }
-
-    @Override
-    public int hashCode() {
-      return ObjectUtils.hashCodeOf(getBean());
-    }
-
-    @Override
-    public String toString() {
-      return String.valueOf(getBean());
-    }
-  }
 }
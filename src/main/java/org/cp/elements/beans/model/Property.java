@@ -27,7 +27,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.WeakHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -186,9 +185,6 @@ public class Property implements Comparable<Property>, Describable<PropertyDescr
 
   private final BeanModel beanModel;
 
-  private final transient Map<Field, Set<Annotation>> fieldAnnotations = new WeakHashMap<>();
-  private final transient Map<Method, Set<Annotation>> methodAnnotations = new WeakHashMap<>();
-
   private final PropertyDescriptor propertyDescriptor;
 
   /**
@@ -299,6 +295,27 @@ public class Property implements Comparable<Property>, Describable<PropertyDescr
       .orElse(null);
   }
 
+  /**
+   * Resolves the {@literal cache} of {@link Annotation Annotations} shared by all {@link Property Properties}
+   * of beans with the same {@link Class type} for the given {@link Function annotations resolver}.
+   *
+   * @param <T> {@link Class type} of {@link AnnotatedElement}, such as {@link Field} or {@link Method}.
+   * @param annotationsResolver {@link Function} encapsulating the {@literal Strategy} used to resolve
+   * the {@link Annotation Annotations} declared on an {@link AnnotatedElement}.
+   * @return the shared {@literal cache} of {@link Annotation Annotations}, or {@literal null}
+   * if the {@link Annotation Annotations} resolved with the given {@link Function} cannot be cached.
+   * @see org.cp.elements.beans.model.BeanMetadata#getAnnotationsCache(Function)
+   */
+  private @Nullable <T extends AnnotatedElement> Map<T, Set<Annotation>> resolveAnnotationsCache(
+      @Nullable Function<AnnotatedElement, Set<Annotation>> annotationsResolver) {
+
+    BeanMetadata beanMetadata = getBeanModel().getMetadata();
+
+    return beanMetadata != null
+      ? beanMetadata.getAnnotationsCache(nullSafeAnnotationsResolver(annotationsResolver))
+      : null;
+  }
+
   /**
    * Gets the {@link BeanAdapter bean} to which this {@link Property} belongs.
    *
@@ -369,7 +386,8 @@ public class Property implements Comparable<Property>, Describable<PropertyDescr
   protected Set<Annotation> getFieldAnnotations(
       @NotNull Function<AnnotatedElement, Set<Annotation>> annotationsResolver) {
 
-    return getAnnotatedElementAnnotations(annotationsResolver, this.fieldAnnotations, getField());
+    return getAnnotatedElementAnnotations(annotationsResolver, resolveAnnotationsCache(annotationsResolver),
+      getField());
   }
 
   /**
@@ -426,7 +444,8 @@ public class Property implements Comparable<Property>, Describable<PropertyDescr
   protected Set<Annotation> getReadMethodAnnotations(
       @NotNull Function<AnnotatedElement, Set<Annotation>> annotationsResolver) {
 
-    return getAnnotatedElementAnnotations(annotationsResolver, this.methodAnnotations, getReadMethod());
+    return getAnnotatedElementAnnotations(annotationsResolver, resolveAnnotationsCache(annotationsResolver),
+      getReadMethod());
   }
 
   /**
@@ -496,7 +515,8 @@ public class Property implements Comparable<Property>, Describable<PropertyDescr
   protected Set<Annotation> getWriteMethodAnnotations(
       @NotNull Function<AnnotatedElement, Set<Annotation>> annotationsResolver) {
 
-    return getAnnotatedElementAnnotations(annotationsResolver, this.methodAnnotations, getWriteMethod());
+    return getAnnotatedElementAnnotations(annotationsResolver, resolveAnnotationsCache(annotationsResolver),
+      getWriteMethod());
   }
 
   /**
@@ -23,9 +23,12 @@ import org.cp.elements.lang.annotation.Nullable;
 
 /**
  * {@link FieldResolver} implementation based on the {@link Property Property's} {@link Property#getName() name}.
+ * <p>
+ * {@link Field Fields} are looked up in the {@link BeanMetadata} cached for the bean {@link Class type}.
  *
  * @author John Blum
  * @see java.lang.reflect.Field
+ * @see org.cp.elements.beans.model.BeanMetadata
  * @see org.cp.elements.beans.model.FieldResolver
  * @see org.cp.elements.beans.model.Property
  * @since 1.0.0
@@ -42,11 +45,7 @@ public class PropertyNameFieldResolver implements FieldResolver {
       Object target = property.getTargetObject();
       String propertyName = property.getName();
 
-      for (Field field : BeanUtils.getAllDeclaredFields(target)) {
-        if (field.getName().equals(propertyName)) {
-          return field;
-        }
-      }
+      return target != null ? BeanMetadata.from(target.getClass()).getField(propertyName) : null;
     }
 
     return null;
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.biz.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * {@link Rule} composed of a conjunction of {@link Predicate conditions}, all of which must be satisfied
+ * by the {@link Object} evaluated.
+ * <p>
+ * Exposing the {@link Predicate conditions} allows a {@link RuleSet} to share {@link Predicate conditions}
+ * common to multiple {@link Rule Rules}, evaluating each {@link Predicate condition} at most once
+ * per {@link Object} evaluated. {@link Predicate Conditions} are shared when they are {@link Object#equals(Object)
+ * equal}, so {@link Rule Rules} should reference the same {@link Predicate} instances for common criteria.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of {@link Object objects} evaluated by this {@literal business rule}.
+ * @param <ID> {@link Comparable} {@link Class type} of the identifier uniquely identifying this {@link Rule}.
+ * @see java.util.function.Predicate
+ * @see org.cp.elements.biz.rules.Rule
+ * @see org.cp.elements.biz.rules.RuleSet
+ * @since 3.0.0
+ */
+public interface ConditionalRule<T, ID extends Comparable<ID>> extends Rule<T, ID> {
+
+  /**
+   * Factory method used to construct a new {@link ConditionalRule} with the given {@link ID identifier}
+   * from the given array of {@link Predicate conditions}.
+   *
+   * @param <T> {@link Class type} of {@link Object objects} evaluated by the {@literal business rule}.
+   * @param <ID> {@link Comparable} {@link Class type} of the identifier uniquely identifying the {@link Rule}.
+   * @param id {@link ID identifier} of the {@link Rule}; must not be {@literal null}.
+   * @param conditions array of {@link Predicate conditions} that must all be satisfied; must not be {@literal null}.
+   * @return a new {@link ConditionalRule}.
+   * @throws IllegalArgumentException if the {@link ID identifier}, the array of {@link Predicate conditions}
+   * or any {@link Predicate condition} is {@literal null}.
+   * @see java.util.function.Predicate
+   */
+  @SafeVarargs
+  static @NotNull <T, ID extends Comparable<ID>> ConditionalRule<T, ID> of(@NotNull ID id,
+      @NotNull Predicate<? super T>... conditions) {
+
+    Assert.notNull(conditions, "Conditions are required");
+
+    List<Predicate<? super T>> conditionList = new ArrayList<>(conditions.length);
+
+    for (Predicate<? super T> condition : conditions) {
+      conditionList.add(ObjectUtils.requireObject(condition, "Condition is required"));
+    }
+
+    List<Predicate<? super T>> ruleConditions = List.copyOf(conditionList);
+
+    class SimpleConditionalRule extends AbstractRule<T, ID> implements ConditionalRule<T, ID> {
+
+      @Override
+      public @NotNull List<Predicate<? super T>> getConditions() {
+        return ruleConditions;
+      }
+    }
+
+    SimpleConditionalRule rule = new SimpleConditionalRule();
+
+    rule.setId(id);
+
+    return rule;
+  }
+
+  /**
+   * Returns the {@link List} of {@link Predicate conditions} that must all be satisfied by
+   * the {@link Object} evaluated.
+   *
+   * @return the {@link List} of {@link Predicate conditions} of this {@literal business rule}.
+   * @see java.util.function.Predicate
+   */
+  @NotNull List<Predicate<? super T>> getConditions();
+
+  /**
+   * Evaluates the given {@link Object} against all the {@link #getConditions() conditions}
+   * of this {@literal business rule}.
+   *
+   * @param obj {@link Object} evaluated by this business rule.
+   * @return a boolean value indicating whether the {@link Object} satisfied all the {@link #getConditions()
+   * conditions} of this {@literal business rule}.
+   * @throws RuleException if the {@link Object} does not produce the {@link #getExpectedOutcome() expected outcome}
+   * and this {@literal business rule} is configured to {@link #isThrowExceptionOnFailure() throw an Exception
+   * on failure}.
+   * @see #getConditions()
+   */
+  @Override
+  default boolean evaluate(T obj) {
+
+    boolean outcome = true;
+
+    for (Predicate<? super T> condition : getConditions()) {
+      if (!condition.test(obj)) {
+        outcome = false;
+        break;
+      }
+    }
+
+    RuleSet.verifyOutcome(this, obj, outcome);
+
+    return outcome;
+  }
+}
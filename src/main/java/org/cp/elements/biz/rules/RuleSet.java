@@ -0,0 +1,479 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.biz.rules;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.OrderUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Compiled, immutable set of {@link Rule Rules} evaluated in bulk against an {@link Object}.
+ * <p>
+ * {@link Rule Rules} are ordered by priority as determined by {@link OrderUtils#getOrder(Object)}, which honors
+ * {@link org.cp.elements.lang.Ordered}, {@link org.cp.elements.lang.Orderable}
+ * and {@link org.cp.elements.lang.annotation.Order}.
+ * <p>
+ * The {@link Predicate conditions} of all {@link ConditionalRule ConditionalRules} are compiled into
+ * a single, shared {@literal alpha network} so that a {@link Predicate condition} common to multiple
+ * {@link Rule Rules} is evaluated at most once per {@link Object} evaluated. Other {@link Rule Rules}
+ * are evaluated with {@link Rule#evaluate(Object)}.
+ * <p>
+ * A {@link Rule} {@literal hits} when its outcome equals its {@link Rule#getExpectedOutcome() expected outcome}.
+ * The number of evaluations, {@literal hits} and the evaluation latency are recorded per {@link Rule}
+ * in {@link RuleStatistics}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of {@link Object objects} evaluated by the {@link Rule Rules} in this set.
+ * @see java.lang.Iterable
+ * @see org.cp.elements.biz.rules.ConditionalRule
+ * @see org.cp.elements.biz.rules.Rule
+ * @see org.cp.elements.lang.OrderUtils
+ * @since 3.0.0
+ */
+@ThreadSafe
+public class RuleSet<T> implements Iterable<Rule<T, ?>> {
+
+  private static final byte UNKNOWN = 0;
+  private static final byte SATISFIED = 1;
+  private static final byte UNSATISFIED = 2;
+
+  /**
+   * Factory method used to compile a new {@link RuleSet} from the given array of {@link Rule Rules}.
+   *
+   * @param <T> {@link Class type} of {@link Object objects} evaluated by the {@link Rule Rules}.
+   * @param rules array of {@link Rule Rules} to compile.
+   * @return a new {@link RuleSet} compiled from the given {@link Rule Rules}.
+   * @throws IllegalArgumentException if any {@link Rule} is {@literal null}.
+   * @see #of(Iterable)
+   */
+  @SafeVarargs
+  public static @NotNull <T> RuleSet<T> of(Rule<T, ?>... rules) {
+
+    List<Rule<T, ?>> ruleList = new ArrayList<>();
+
+    if (rules != null) {
+      for (Rule<T, ?> rule : rules) {
+        ruleList.add(rule);
+      }
+    }
+
+    return of(ruleList);
+  }
+
+  /**
+   * Factory method used to compile a new {@link RuleSet} from the given {@link Iterable}
+   * of {@link Rule Rules}.
+   *
+   * @param <T> {@link Class type} of {@link Object objects} evaluated by the {@link Rule Rules}.
+   * @param rules {@link Iterable} of {@link Rule Rules} to compile.
+   * @return a new {@link RuleSet} compiled from the given {@link Rule Rules}.
+   * @throws IllegalArgumentException if any {@link Rule} is {@literal null}.
+   * @see java.lang.Iterable
+   */
+  public static @NotNull <T> RuleSet<T> of(@Nullable Iterable<? extends Rule<T, ?>> rules) {
+
+    List<Rule<T, ?>> ruleList = new ArrayList<>();
+
+    if (rules != null) {
+      for (Rule<T, ?> rule : rules) {
+        ruleList.add(ObjectUtils.requireObject(rule, "Rule is required"));
+      }
+    }
+
+    ruleList.sort(Comparator.comparingInt(OrderUtils::getOrder));
+
+    return new RuleSet<>(ruleList);
+  }
+
+  private final int[][] ruleConditions;
+
+  private final List<Rule<T, ?>> rules;
+
+  private final Map<Rule<T, ?>, RuleStatistics> ruleStatistics;
+
+  private final Predicate<? super T>[] conditions;
+
+  private final RuleStatistics[] statistics;
+
+  @SuppressWarnings("unchecked")
+  private RuleSet(@NotNull List<Rule<T, ?>> rules) {
+
+    Map<Predicate<? super T>, Integer> conditionIndex = new LinkedHashMap<>();
+
+    int size = rules.size();
+
+    this.rules = Collections.unmodifiableList(rules);
+    this.ruleConditions = new int[size][];
+    this.ruleStatistics = new IdentityHashMap<>(size);
+    this.statistics = new RuleStatistics[size];
+
+    for (int index = 0; index < size; index++) {
+
+      Rule<T, ?> rule = rules.get(index);
+
+      if (rule instanceof ConditionalRule<T, ?> conditionalRule) {
+        this.ruleConditions[index] = conditionalRule.getConditions().stream()
+          .mapToInt(condition -> conditionIndex.computeIfAbsent(condition, key -> conditionIndex.size()))
+          .toArray();
+      }
+
+      this.statistics[index] = this.ruleStatistics.computeIfAbsent(rule, key -> new RuleStatistics());
+    }
+
+    this.conditions = (Predicate<? super T>[]) conditionIndex.keySet().toArray(new Predicate<?>[0]);
+  }
+
+  /**
+   * Determines whether the given {@link Boolean outcome} of evaluating the given {@link Object} with
+   * the given {@link Rule} is a {@literal hit}, that is, matches the {@link Rule#getExpectedOutcome() expected outcome}.
+   * <p>
+   * Used both when a {@link Rule} is evaluated by a {@link RuleSet} and when a {@link ConditionalRule} is evaluated
+   * on its own so that a {@link Rule} fails in the same way regardless of how it is evaluated.
+   *
+   * @param rule {@link Rule} that evaluated the {@link Object}.
+   * @param obj {@link Object} evaluated.
+   * @param outcome {@link Boolean outcome} of evaluating the {@link Object}.
+   * @return a boolean value indicating whether the {@link Rule} {@literal hit}.
+   * @throws RuleException if the {@link Rule} did not {@literal hit} and is configured to
+   * {@link Rule#isThrowExceptionOnFailure() throw an Exception on failure}.
+   */
+  static boolean verifyOutcome(@NotNull Rule<?, ?> rule, @Nullable Object obj, boolean outcome) {
+
+    boolean hit = outcome == rule.getExpectedOutcome();
+
+    if (!hit && rule.isThrowExceptionOnFailure()) {
+      throw new RuleException(String.format("Object [%1$s] failed Rule [%2$s]", obj, rule.getId()));
+    }
+
+    return hit;
+  }
+
+  /**
+   * Returns the number of distinct {@link Predicate conditions} shared by the {@link ConditionalRule ConditionalRules}
+   * in this set.
+   *
+   * @return the number of distinct {@link Predicate conditions} in this set.
+   */
+  public int getConditionCount() {
+    return this.conditions.length;
+  }
+
+  /**
+   * Returns the {@link RuleStatistics} recorded for the given {@link Rule}.
+   *
+   * @param rule {@link Rule} for which to return the {@link RuleStatistics}.
+   * @return an {@link Optional} containing the {@link RuleStatistics} for the given {@link Rule},
+   * or an {@link Optional#empty() empty Optional} if the {@link Rule} is not in this set.
+   * @see RuleStatistics
+   */
+  public Optional<RuleStatistics> getStatistics(@Nullable Rule<T, ?> rule) {
+    return Optional.ofNullable(rule).map(this.ruleStatistics::get);
+  }
+
+  /**
+   * Determines whether this set contains no {@link Rule Rules}.
+   *
+   * @return a boolean value indicating whether this set contains no {@link Rule Rules}.
+   * @see #size()
+   */
+  public boolean isEmpty() {
+    return this.rules.isEmpty();
+  }
+
+  /**
+   * Evaluates the given {@link Object} with all {@link Rule Rules} in this set.
+   *
+   * @param obj {@link Object} to evaluate.
+   * @return a {@link List} of all {@link Rule Rules} that {@literal hit} in priority order.
+   * @throws RuleException if a {@link Rule} configured to
+   * {@link Rule#isThrowExceptionOnFailure() throw an Exception on failure} does not {@literal hit}.
+   * @see #parallelEvaluate(Object)
+   */
+  public @NotNull List<Rule<T, ?>> evaluate(T obj) {
+
+    ConditionMemory memory = new ArrayConditionMemory(this.conditions.length);
+
+    List<Rule<T, ?>> hits = new ArrayList<>();
+
+    for (int index = 0, size = this.rules.size(); index < size; index++) {
+      if (isHit(index, obj, memory)) {
+        hits.add(this.rules.get(index));
+      }
+    }
+
+    return hits;
+  }
+
+  /**
+   * Evaluates the given {@link Object} with the {@link Rule Rules} in this set in priority order,
+   * stopping at the first {@link Rule} that {@literal hits}.
+   *
+   * @param obj {@link Object} to evaluate.
+   * @return an {@link Optional} containing the highest priority {@link Rule} that {@literal hit},
+   * or an {@link Optional#empty() empty Optional} if no {@link Rule} {@literal hit}.
+   * @throws RuleException if a {@link Rule} configured to
+   * {@link Rule#isThrowExceptionOnFailure() throw an Exception on failure} does not {@literal hit}.
+   * @see #evaluate(Object)
+   */
+  public Optional<Rule<T, ?>> evaluateFirst(T obj) {
+
+    ConditionMemory memory = new ArrayConditionMemory(this.conditions.length);
+
+    for (int index = 0, size = this.rules.size(); index < size; index++) {
+      if (isHit(index, obj, memory)) {
+        return Optional.of(this.rules.get(index));
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  /**
+   * Evaluates the given {@link Object} with all {@link Rule Rules} in this set in parallel.
+   * <p>
+   * {@link Rule Rules} must be independent of each other and safe to evaluate concurrently.
+   * Shared {@link Predicate conditions} may be evaluated more than once when {@link Rule Rules}
+   * sharing the {@link Predicate condition} are evaluated concurrently.
+   *
+   * @param obj {@link Object} to evaluate.
+   * @return a {@link List} of all {@link Rule Rules} that {@literal hit} in priority order.
+   * @throws RuleException if a {@link Rule} configured to
+   * {@link Rule#isThrowExceptionOnFailure() throw an Exception on failure} does not {@literal hit}.
+   * @see #evaluate(Object)
+   */
+  public @NotNull List<Rule<T, ?>> parallelEvaluate(T obj) {
+
+    ConditionMemory memory = new AtomicConditionMemory(this.conditions.length);
+
+    return IntStream.range(0, this.rules.size()).parallel()
+      .filter(index -> isHit(index, obj, memory))
+      .mapToObj(this.rules::get)
+      .toList();
+  }
+
+  private boolean isHit(int ruleIndex, T obj, ConditionMemory memory) {
+
+    Rule<T, ?> rule = this.rules.get(ruleIndex);
+
+    int[] conditionIndexes = this.ruleConditions[ruleIndex];
+
+    long startTime = System.nanoTime();
+
+    boolean outcome = conditionIndexes != null ? isSatisfied(conditionIndexes, obj, memory) : rule.evaluate(obj);
+
+    this.statistics[ruleIndex].record(System.nanoTime() - startTime, outcome == rule.getExpectedOutcome());
+
+    return verifyOutcome(rule, obj, outcome);
+  }
+
+  private boolean isSatisfied(int[] conditionIndexes, T obj, ConditionMemory memory) {
+
+    for (int conditionIndex : conditionIndexes) {
+
+      byte state = memory.get(conditionIndex);
+
+      if (state == UNKNOWN) {
+        state = this.conditions[conditionIndex].test(obj) ? SATISFIED : UNSATISFIED;
+        memory.set(conditionIndex, state);
+      }
+
+      if (state == UNSATISFIED) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Resets the {@link RuleStatistics} of all {@link Rule Rules} in this set.
+   *
+   * @see RuleStatistics#reset()
+   */
+  public void resetStatistics() {
+    this.ruleStatistics.values().forEach(RuleStatistics::reset);
+  }
+
+  /**
+   * Returns the number of {@link Rule Rules} in this set.
+   *
+   * @return the number of {@link Rule Rules} in this set.
+   */
+  public int size() {
+    return this.rules.size();
+  }
+
+  /**
+   * Returns an {@link Iterator} over the {@link Rule Rules} in this set in priority order.
+   *
+   * @return an {@link Iterator} over the {@link Rule Rules} in this set.
+   * @see java.util.Iterator
+   */
+  @Override
+  public @NotNull Iterator<Rule<T, ?>> iterator() {
+    return this.rules.iterator();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%1$s[rules = %2$d, conditions = %3$d]", getClass().getSimpleName(), size(),
+      getConditionCount());
+  }
+
+  private interface ConditionMemory {
+
+    byte get(int conditionIndex);
+
+    void set(int conditionIndex, byte state);
+
+  }
+
+  private static final class ArrayConditionMemory implements ConditionMemory {
+
+    private final byte[] states;
+
+    private ArrayConditionMemory(int size) {
+      this.states = new byte[size];
+    }
+
+    @Override
+    public byte get(int conditionIndex) {
+      return this.states[conditionIndex];
+    }
+
+    @Override
+    public void set(int conditionIndex, byte state) {
+      this.states[conditionIndex] = state;
+    }
+  }
+
+  private static final class AtomicConditionMemory implements ConditionMemory {
+
+    private final AtomicIntegerArray states;
+
+    private AtomicConditionMemory(int size) {
+      this.states = new AtomicIntegerArray(size);
+    }
+
+    @Override
+    public byte get(int conditionIndex) {
+      return (byte) this.states.get(conditionIndex);
+    }
+
+    @Override
+    public void set(int conditionIndex, byte state) {
+      this.states.set(conditionIndex, state);
+    }
+  }
+
+  /**
+   * Statistics recorded for the evaluation of a single {@link Rule} in a {@link RuleSet}.
+   */
+  @ThreadSafe
+  public static final class RuleStatistics {
+
+    private final LongAdder evaluationCount = new LongAdder();
+    private final LongAdder evaluationTimeNanos = new LongAdder();
+    private final LongAdder hitCount = new LongAdder();
+
+    private RuleStatistics() { }
+
+    /**
+     * Returns the average time taken to evaluate the {@link Rule}.
+     *
+     * @return the average {@link Duration} of a {@link Rule} evaluation; returns {@link Duration#ZERO}
+     * if the {@link Rule} has not been evaluated.
+     * @see java.time.Duration
+     */
+    public @NotNull Duration getAverageEvaluationTime() {
+
+      long evaluationCount = getEvaluationCount();
+
+      return evaluationCount > 0 ? Duration.ofNanos(this.evaluationTimeNanos.sum() / evaluationCount)
+        : Duration.ZERO;
+    }
+
+    /**
+     * Returns the number of times the {@link Rule} was evaluated.
+     *
+     * @return the number of times the {@link Rule} was evaluated.
+     */
+    public long getEvaluationCount() {
+      return this.evaluationCount.sum();
+    }
+
+    /**
+     * Returns the number of times the {@link Rule} {@literal hit}.
+     *
+     * @return the number of times the {@link Rule} {@literal hit}.
+     */
+    public long getHitCount() {
+      return this.hitCount.sum();
+    }
+
+    /**
+     * Returns the total time spent evaluating the {@link Rule}.
+     *
+     * @return the total {@link Duration} spent evaluating the {@link Rule}.
+     * @see java.time.Duration
+     */
+    public @NotNull Duration getTotalEvaluationTime() {
+      return Duration.ofNanos(this.evaluationTimeNanos.sum());
+    }
+
+    void record(long evaluationTimeNanos, boolean hit) {
+
+      this.evaluationCount.increment();
+      this.evaluationTimeNanos.add(evaluationTimeNanos);
+
+      if (hit) {
+        this.hitCount.increment();
+      }
+    }
+
+    /**
+     * Resets all statistics to {@literal 0}.
+     */
+    public void reset() {
+      this.evaluationCount.reset();
+      this.evaluationTimeNanos.reset();
+      this.hitCount.reset();
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%1$s[evaluations = %2$d, hits = %3$d, averageEvaluationTime = %4$s]",
+        getClass().getSimpleName(), getEvaluationCount(), getHitCount(), getAverageEvaluationTime());
+    }
+  }
+}
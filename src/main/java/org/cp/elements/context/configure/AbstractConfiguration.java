@@ -20,8 +20,11 @@ import static org.cp.elements.lang.ElementsExceptionsFactory.newConversionExcept
 
 import java.io.File;
 import java.io.Serial;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.cp.elements.data.conversion.ConversionException;
 import org.cp.elements.data.conversion.ConversionService;
@@ -43,6 +46,7 @@ import org.cp.elements.lang.annotation.Nullable;
  * @see java.util.Properties
  * @see org.cp.elements.context.configure.Configuration
  * @see org.cp.elements.context.configure.Configuration.Descriptor
+ * @see org.cp.elements.context.configure.ConfigurationListener
  * @see org.cp.elements.data.conversion.ConversionService
  * @see org.cp.elements.data.conversion.ConversionServiceAware
  * @since 1.0.0
@@ -57,6 +61,8 @@ public abstract class AbstractConfiguration implements Configuration, Conversion
   // TODO: Use PropertyEditors in addition to ConversionService!?!
   private transient ConversionService conversionService;
 
+  private transient volatile Set<ConfigurationListener> configurationListeners;
+
   /**
    * Constructs a new {@link AbstractConfiguration} with no parent {@link Configuration}.
    */
@@ -116,6 +122,72 @@ public abstract class AbstractConfiguration implements Configuration, Conversion
     return this.parent;
   }
 
+  private @NotNull Set<ConfigurationListener> getConfigurationListeners() {
+
+    Set<ConfigurationListener> listeners = this.configurationListeners;
+
+    if (listeners == null) {
+      synchronized (this) {
+        listeners = this.configurationListeners;
+        if (listeners == null) {
+          listeners = new CopyOnWriteArraySet<>();
+          this.configurationListeners = listeners;
+        }
+      }
+    }
+
+    return listeners;
+  }
+
+  /**
+   * Registers the given {@link ConfigurationListener} to be notified when the configuration properties
+   * of this {@link Configuration} change.
+   *
+   * @param listener {@link ConfigurationListener} to register.
+   * @return a boolean value indicating whether the {@link ConfigurationListener} was registered.
+   * @see org.cp.elements.context.configure.ConfigurationListener
+   * @see #unregister(ConfigurationListener)
+   */
+  @NullSafe
+  public boolean register(@Nullable ConfigurationListener listener) {
+    return listener != null && getConfigurationListeners().add(listener);
+  }
+
+  /**
+   * Unregisters the given {@link ConfigurationListener}.
+   *
+   * @param listener {@link ConfigurationListener} to unregister.
+   * @return a boolean value indicating whether the {@link ConfigurationListener} was unregistered.
+   * @see org.cp.elements.context.configure.ConfigurationListener
+   * @see #register(ConfigurationListener)
+   */
+  @NullSafe
+  public boolean unregister(@Nullable ConfigurationListener listener) {
+    return listener != null && getConfigurationListeners().remove(listener);
+  }
+
+  /**
+   * Notifies all registered {@link ConfigurationListener ConfigurationListeners} that the configuration properties
+   * with the given {@link String names} changed.
+   * <p>
+   * No {@link ConfigurationListener ConfigurationListeners} are notified if the {@link Set} is {@literal empty}.
+   *
+   * @param propertyNames {@link Set} of {@link String names} of the configuration properties that were added,
+   * removed or changed; must not be {@literal null}.
+   * @see org.cp.elements.context.configure.ConfigurationListener#configurationChanged(Configuration, Set)
+   */
+  protected void fireConfigurationChanged(@NotNull Set<String> propertyNames) {
+
+    if (!propertyNames.isEmpty()) {
+
+      Set<String> changedPropertyNames = Collections.unmodifiableSet(propertyNames);
+
+      for (ConfigurationListener listener : getConfigurationListeners()) {
+        listener.configurationChanged(this, changedPropertyNames);
+      }
+    }
+  }
+
   /**
    * Asserts that the {@link String property name} is declared when passed as an argument
    * to the {@link #getPropertyValue(String, boolean)} and {@link #getPropertyValueAs(String, Class, boolean)} methods.
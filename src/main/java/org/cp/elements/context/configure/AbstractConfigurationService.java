@@ -26,7 +26,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -74,8 +77,19 @@ public abstract class AbstractConfigurationService implements ConfigurationServi
   private final AtomicReference<List<String>> activeProfilesReference = new AtomicReference<>(null);
   private final AtomicReference<Set<String>> configurationPropertyNames = new AtomicReference<>(null);
 
+  private final AtomicLong configurationVersion = new AtomicLong(0L);
+
+  private final ConfigurationListener configurationListener =
+    (configuration, propertyNames) -> invalidate(propertyNames);
+
+  private final Map<String, Long> changedPropertyVersions = new ConcurrentHashMap<>();
+
+  private volatile long refreshedConfigurationVersion;
+
   private final DependencyInjection dependencyInjectionContainer = DependencyInjection.getLoader().getServiceInstance();
 
+  private final Map<ProxyKey, Object> proxies = new ConcurrentHashMap<>();
+
   private final Set<Configuration> configurations = new HashSet<>();
 
   /**
@@ -123,6 +137,51 @@ public abstract class AbstractConfigurationService implements ConfigurationServi
     return configurationList;
   }
 
+  /**
+   * Gets the current version of the {@link Configuration Configurations} aggregated by
+   * this {@link ConfigurationService}.
+   * <p>
+   * The version is incremented each time a {@link Configuration} is registered, unregistered or changed,
+   * and is used by {@literal Proxies} for {@link ConfigurationProperties} {@link Class interfaces}
+   * to determine whether their cached property names and values are still current.
+   *
+   * @return the current version of the {@link Configuration Configurations}.
+   * @see #refresh()
+   */
+  protected long getConfigurationVersion() {
+    return this.configurationVersion.get();
+  }
+
+  /**
+   * Determines whether any of the properties with names starting with one of the given {@link String prefixes}
+   * may have changed since the given version of the {@link Configuration Configurations}.
+   *
+   * @param version version of the {@link Configuration Configurations} at which the properties were resolved.
+   * @param propertyNamePrefixes {@link Set} of {@link String property name prefixes} to evaluate.
+   * @return a boolean value indicating whether any of the matching properties may have changed.
+   * @see #getConfigurationVersion()
+   * @see #invalidate(Set)
+   * @see #refresh()
+   */
+  boolean isChangedSince(long version, @NotNull Set<String> propertyNamePrefixes) {
+
+    if (this.refreshedConfigurationVersion > version) {
+      return true;
+    }
+
+    for (Map.Entry<String, Long> changedPropertyVersion : this.changedPropertyVersions.entrySet()) {
+      if (changedPropertyVersion.getValue() > version) {
+        for (String propertyNamePrefix : propertyNamePrefixes) {
+          if (changedPropertyVersion.getKey().startsWith(propertyNamePrefix)) {
+            return true;
+          }
+        }
+      }
+    }
+
+    return false;
+  }
+
   /**
    * Gets a reference to the configured {@link DependencyInjection} container used by
    * this {@link AbstractConfigurationService} to initialize {@link Configuration} objects.
@@ -217,10 +276,11 @@ public abstract class AbstractConfigurationService implements ConfigurationServi
 
     Assert.hasText(propertyPrefix, "Property prefix [%s] is required", propertyPrefix);
 
-    return ProxyService.newProxyService().findFirstProxyFactory(null, interfaceType)
-      .map(proxyFactory -> newProxy(proxyFactory, interfaceType, propertyPrefix))
-      .orElseThrow(() -> newConfigurationException("Failed to proxy @ConfigurationProperties interface [%s]",
-        ObjectUtils.getClassName(interfaceType)));
+    return interfaceType.cast(this.proxies.computeIfAbsent(new ProxyKey(interfaceType, propertyPrefix), key ->
+      ProxyService.newProxyService().findFirstProxyFactory(null, interfaceType)
+        .map(proxyFactory -> newProxy(proxyFactory, interfaceType, propertyPrefix))
+        .orElseThrow(() -> newConfigurationException("Failed to proxy @ConfigurationProperties interface [%s]",
+          ObjectUtils.getClassName(interfaceType)))));
   }
 
   private <T> T newProxy(@NotNull ProxyFactory<Object> proxyFactory, @NotNull Class<T> interfaceType,
@@ -284,9 +344,20 @@ public abstract class AbstractConfigurationService implements ConfigurationServi
   @Override
   public boolean register(@NotNull Configuration configuration) {
 
-    return configuration != null
+    boolean registered = configuration != null
       && isProfileActive(configuration)
       && this.configurations.add(initialize(configuration));
+
+    if (registered) {
+
+      if (configuration instanceof AbstractConfiguration abstractConfiguration) {
+        abstractConfiguration.register(this.configurationListener);
+      }
+
+      refresh();
+    }
+
+    return registered;
   }
 
   /**
@@ -315,7 +386,75 @@ public abstract class AbstractConfigurationService implements ConfigurationServi
   @NullSafe
   @Override
   public boolean unregister(@NotNull Configuration configuration) {
-    return configuration != null && this.configurations.remove(configuration);
+
+    boolean unregistered = configuration != null && this.configurations.remove(configuration);
+
+    if (unregistered) {
+
+      if (configuration instanceof AbstractConfiguration abstractConfiguration) {
+        abstractConfiguration.unregister(this.configurationListener);
+      }
+
+      refresh();
+    }
+
+    return unregistered;
+  }
+
+  /**
+   * Notifies this {@link ConfigurationService} that the properties of one or more registered
+   * {@link Configuration Configurations} have changed.
+   * <p>
+   * This invalidates the property names and values cached by {@literal Proxies} for
+   * {@link ConfigurationProperties} {@link Class interfaces}, which are then resolved again on next access.
+   * This method is called automatically when a {@link Configuration} is registered or unregistered.
+   * Changes reported by a registered {@link AbstractConfiguration} to its {@link ConfigurationListener listeners},
+   * such as when a {@literal watched} {@link java.io.File properties file} is reloaded, only
+   * {@link #invalidate(Set) invalidate} the cached values of the changed properties.
+   * <p>
+   * Changes made in place to any other registered {@link Configuration} are not detected. This method
+   * must be called after such changes, otherwise the {@literal Proxies} continue to return the cached values.
+   *
+   * @see #invalidate(Set)
+   * @see #getConfigurationVersion()
+   * @see #register(Configuration)
+   * @see #unregister(Configuration)
+   */
+  public synchronized void refresh() {
+
+    long version = this.configurationVersion.get() + 1L;
+
+    this.refreshedConfigurationVersion = version;
+    this.changedPropertyVersions.clear();
+    this.configurationPropertyNames.set(null);
+    this.configurationVersion.set(version);
+  }
+
+  /**
+   * Notifies this {@link ConfigurationService} that the properties with the given {@link String names}
+   * have been added, removed or changed in one or more registered {@link Configuration Configurations}.
+   * <p>
+   * Unlike {@link #refresh()}, this only invalidates the property values cached by {@literal Proxies}
+   * for {@link ConfigurationProperties} {@link Class interfaces} that may resolve to one of the given properties.
+   * This method is called automatically when a registered {@link AbstractConfiguration} notifies its
+   * {@link ConfigurationListener listeners} of a change.
+   *
+   * @param propertyNames {@link Set} of {@link String names} of the properties that changed;
+   * must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Set} of {@link String property names} is {@literal null}.
+   * @see ConfigurationListener#configurationChanged(Configuration, Set)
+   * @see #refresh()
+   */
+  protected synchronized void invalidate(@NotNull Set<String> propertyNames) {
+
+    Assert.notNull(propertyNames, "Property names are required");
+
+    long version = this.configurationVersion.get() + 1L;
+
+    // Changed property versions are published before the version, so readers of the version also see them.
+    propertyNames.forEach(propertyName -> this.changedPropertyVersions.put(propertyName, version));
+    this.configurationPropertyNames.set(null);
+    this.configurationVersion.set(version);
   }
 
   /**
@@ -356,6 +495,8 @@ public abstract class AbstractConfigurationService implements ConfigurationServi
 
     private final Class<?> configurationPropertiesInterface;
 
+    private final Map<Method, PropertyAccessor> propertyAccessors = new ConcurrentHashMap<>();
+
     private final String propertyPrefix;
 
     /**
@@ -441,44 +582,89 @@ public abstract class AbstractConfigurationService implements ConfigurationServi
       return getConfigurationService();
     }
 
+    /**
+     * Determines whether the given {@link Method} is declared by the {@link ConfigurationProperties} annotated
+     * {@link Class interface}, or one of its {@literal super-interfaces}.
+     * <p>
+     * {@link Object} methods, such as {@link Object#toString()}, are not intercepted.
+     *
+     * @param method {@link Method} to evaluate.
+     * @return a boolean value indicating whether the given {@link Method} is declared by
+     * the {@link ConfigurationProperties} annotated {@link Class interface}.
+     * @see #getConfigurationPropertiesInterface()
+     */
+    @Override
+    public boolean canIntercept(@Nullable Method method) {
+
+      return method != null
+        && method.getDeclaringClass().isInterface()
+        && method.getDeclaringClass().isAssignableFrom(getConfigurationPropertiesInterface());
+    }
+
+    /**
+     * Intercepts the invocation of a configuration property accessor method on the {@literal Proxy}.
+     * <p>
+     * The property name and typed property value are resolved on the first invocation of the {@link Method}
+     * and cached until the {@link Configuration Configurations} of the {@link AbstractConfigurationService}
+     * change, in which case they are resolved again on next invocation.
+     *
+     * @param <R> {@link Class type} of the property value.
+     * @param methodInvocation {@link MethodInvocation} of the configuration property accessor method;
+     * must not be {@literal null}.
+     * @return the property value wrapped in an {@link Optional}.
+     * @throws IllegalArgumentException if the {@link MethodInvocation} is {@literal null}
+     * or the {@link Method} is not a valid configuration property accessor method.
+     * @see AbstractConfigurationService#getConfigurationVersion()
+     */
     @Override
-    @SuppressWarnings("unchecked")
     public <R> Optional<R> intercept(@NotNull MethodInvocation methodInvocation) {
 
       Assert.notNull(methodInvocation, "MethodInvocation is required");
 
-      Method method = validatePropertyAccessorMethod(methodInvocation.getMethod());
+      Method method = methodInvocation.getMethod();
 
-      Class<R> returnType = resolveReturnType(method);
+      long configurationVersion = getConfigurationService().getConfigurationVersion();
 
-      if (isNotJavaPrimitiveType(returnType)) {
-        String propertyName = resolveMethodBasedPropertyName(method);
-        return Optional.of(getConfigurationService().proxy(returnType, propertyName));
+      PropertyAccessor propertyAccessor = method != null ? this.propertyAccessors.get(method) : null;
+
+      if (propertyAccessor == null || !propertyAccessor.isCurrent(configurationVersion)) {
+        propertyAccessor = newPropertyAccessor(method, configurationVersion);
+        this.propertyAccessors.put(method, propertyAccessor);
       }
-      else {
 
-        if (isDefaultValuePresent(method)) {
+      return propertyAccessor.access(methodInvocation);
+    }
 
-          Object defaultValue = resolveDefaultValue(methodInvocation);
-          String propertyName = resolveMethodBasedPropertyName(method, false);
+    private @NotNull PropertyAccessor newPropertyAccessor(@Nullable Method method, long configurationVersion) {
 
-          R propertyValue = defaultValue instanceof Supplier
-            ? getConfigurationService().getPropertyValueAs(propertyName, returnType, (Supplier<R>) defaultValue)
-            : getConfigurationService().getPropertyValueAs(propertyName, returnType,
-              ClassUtils.castTo(defaultValue, returnType));
+      Method propertyAccessorMethod = validatePropertyAccessorMethod(method);
 
-          return Optional.ofNullable(propertyValue);
-        }
-        else {
+      Class<?> returnType = resolveReturnType(propertyAccessorMethod);
 
-          boolean required = isRequired(method);
+      // Any property starting with one of the possible property names may change the resolved property name.
+      Set<String> propertyNamePrefixes =
+        resolvePossiblePropertyNames(stripAccessorMethodNamePrefix(propertyAccessorMethod.getName())).stream()
+          .map(this::getQualifiedPropertyName)
+          .collect(Collectors.toSet());
 
-          String propertyName = resolveMethodBasedPropertyName(method, required);
+      if (isNotJavaPrimitiveType(returnType)) {
+        return new PropertyAccessor(configurationVersion, PropertyAccessorType.NESTED, returnType,
+          resolveMethodBasedPropertyName(propertyAccessorMethod), propertyNamePrefixes);
+      }
+      else if (isDefaultValuePresent(propertyAccessorMethod)) {
+        return new PropertyAccessor(configurationVersion, PropertyAccessorType.DEFAULT_VALUE, returnType,
+          resolveMethodBasedPropertyName(propertyAccessorMethod, false), propertyNamePrefixes);
+      }
+      else {
 
-          R propertyValue = getConfigurationService().getPropertyValueAs(propertyName, returnType, required);
+        boolean required = isRequired(propertyAccessorMethod);
 
-          return Optional.ofNullable(propertyValue);
-        }
+        PropertyAccessorType propertyAccessorType = required
+          ? PropertyAccessorType.REQUIRED
+          : PropertyAccessorType.OPTIONAL;
+
+        return new PropertyAccessor(configurationVersion, propertyAccessorType, returnType,
+          resolveMethodBasedPropertyName(propertyAccessorMethod, required), propertyNamePrefixes);
       }
     }
 
@@ -628,6 +814,90 @@ public abstract class AbstractConfigurationService implements ConfigurationServi
 
       return method;
     }
+
+    private enum PropertyAccessorType {
+      DEFAULT_VALUE, NESTED, OPTIONAL, REQUIRED
+    }
+
+    /**
+     * Resolved configuration property accessor method caching the qualified property name
+     * and typed property value for a given version of the {@link Configuration Configurations}.
+     */
+    private final class PropertyAccessor {
+
+      private final Class<?> returnType;
+
+      private final PropertyAccessorType type;
+
+      private final Set<String> propertyNamePrefixes;
+
+      private final String propertyName;
+
+      private volatile boolean resolved;
+
+      private volatile long version;
+
+      private volatile Object value;
+
+      private PropertyAccessor(long version, @NotNull PropertyAccessorType type, @NotNull Class<?> returnType,
+          @NotNull String propertyName, @NotNull Set<String> propertyNamePrefixes) {
+
+        this.version = version;
+        this.type = type;
+        this.returnType = returnType;
+        this.propertyName = propertyName;
+        this.propertyNamePrefixes = propertyNamePrefixes;
+      }
+
+      private boolean isCurrent(long configurationVersion) {
+
+        if (this.version != configurationVersion) {
+
+          if (getConfigurationService().isChangedSince(this.version, this.propertyNamePrefixes)) {
+            return false;
+          }
+
+          this.version = configurationVersion;
+        }
+
+        return true;
+      }
+
+      @SuppressWarnings("unchecked")
+      private <R> Optional<R> access(@NotNull MethodInvocation methodInvocation) {
+
+        Object value = resolveValue();
+
+        if (PropertyAccessorType.DEFAULT_VALUE.equals(this.type) && value == null) {
+          Object defaultValue = resolveDefaultValue(methodInvocation);
+          value = defaultValue instanceof Supplier<?> supplier
+            ? supplier.get()
+            : ClassUtils.castTo(defaultValue, this.returnType);
+        }
+
+        return Optional.ofNullable((R) value);
+      }
+
+      private @Nullable Object resolveValue() {
+
+        if (!this.resolved) {
+
+          AbstractConfigurationService configurationService = getConfigurationService();
+
+          this.value = switch (this.type) {
+            case NESTED -> configurationService.proxy(this.returnType, this.propertyName);
+            case REQUIRED -> configurationService.getPropertyValueAs(this.propertyName, this.returnType,
+              Configuration.REQUIRED);
+            default -> configurationService.getPropertyValueAs(this.propertyName, this.returnType,
+              Configuration.NOT_REQUIRED);
+          };
+
+          this.resolved = true;
+        }
+
+        return this.value;
+      }
+    }
   }
 
   /**
@@ -670,4 +940,7 @@ public abstract class AbstractConfigurationService implements ConfigurationServi
       return Ordered.DEFAULT;
     }
   }
+
+  private record ProxyKey(@NotNull Class<?> interfaceType, @NotNull String propertyPrefix) { }
+
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.context.configure;
+
+import java.util.EventListener;
+import java.util.Set;
+
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * {@link EventListener} notified when the configuration properties of a {@link Configuration} change.
+ * <p>
+ * Only the {@link String names} of the configuration properties that were added, removed or changed are passed
+ * to the listener, allowing caches derived from the {@link Configuration} to be invalidated precisely.
+ *
+ * @author John Blum
+ * @see java.lang.FunctionalInterface
+ * @see java.util.EventListener
+ * @see org.cp.elements.context.configure.AbstractConfiguration#register(ConfigurationListener)
+ * @see org.cp.elements.context.configure.Configuration
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface ConfigurationListener extends EventListener {
+
+  /**
+   * Event callback method invoked after the configuration properties of the given {@link Configuration} changed.
+   *
+   * @param configuration {@link Configuration} that changed.
+   * @param propertyNames unmodifiable {@link Set} of {@link String names} of the configuration properties
+   * that were added, removed or changed.
+   * @see org.cp.elements.context.configure.Configuration
+   */
+  void configurationChanged(@NotNull Configuration configuration, @NotNull Set<String> propertyNames);
+
+}
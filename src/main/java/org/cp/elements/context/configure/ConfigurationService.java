@@ -459,5 +459,16 @@ public interface ConfigurationService extends Iterable<Configuration> {
     default Class<ConfigurationService> getType() {
       return ConfigurationService.class;
     }
+
+    /**
+     * Returns {@literal false} since {@link Configuration Configurations} are registered with
+     * a {@link ConfigurationService}, so each lookup returns a new instance.
+     *
+     * @return {@literal false}.
+     */
+    @Override
+    default boolean isServiceInstanceCachingEnabled() {
+      return false;
+    }
   }
 }
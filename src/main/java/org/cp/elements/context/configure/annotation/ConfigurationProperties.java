@@ -26,6 +26,15 @@ import java.lang.annotation.Target;
 /**
  * Java {@link Annotation} defining a {@link Class type} annotated with this {@link Annotation}
  * as a source of configuration properties.
+ * <p>
+ * {@literal Proxies} created for {@link ConfigurationProperties} annotated {@link Class interfaces}
+ * by a {@link org.cp.elements.context.configure.ConfigurationService} may cache property names and values.
+ * The cache is invalidated when a {@link org.cp.elements.context.configure.Configuration} is registered
+ * or unregistered, and when a registered {@link org.cp.elements.context.configure.AbstractConfiguration}
+ * notifies its {@link org.cp.elements.context.configure.ConfigurationListener listeners} of a change.
+ * When any other {@link org.cp.elements.context.configure.Configuration} changes in place,
+ * {@link org.cp.elements.context.configure.AbstractConfigurationService#refresh()} must be called
+ * for the {@literal Proxies} to return the changed values.
  *
  * @author John Blum
  * @see java.lang.annotation.Annotation
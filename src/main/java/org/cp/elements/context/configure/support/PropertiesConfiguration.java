@@ -21,35 +21,69 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.Serial;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.cp.elements.context.configure.AbstractConfiguration;
 import org.cp.elements.context.configure.Configuration;
 import org.cp.elements.context.configure.ConfigurationException;
+import org.cp.elements.context.configure.ConfigurationListener;
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.ObjectUtils;
 import org.cp.elements.lang.StringUtils;
 import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.concurrent.VirtualThreadFactory;
 
 /**
  * {@link Configuration} implementation for reading configuration metadata backed by {@link Properties}.
+ * <p>
+ * A {@link PropertiesConfiguration} loaded from a {@link File} can be {@link #reload() reloaded}, or
+ * {@link #watch() watched} to reload automatically when the {@link File} changes. Reloading replaces
+ * the {@link Properties} with a new snapshot in a single step, so readers observe either all or none of
+ * the changes, and notifies the registered {@link ConfigurationListener ConfigurationListeners} of the names
+ * of the properties that changed.
  *
  * @author John J. Blum
+ * @see java.nio.file.WatchService
  * @see java.util.Properties
  * @see org.cp.elements.context.configure.AbstractConfiguration
  * @see org.cp.elements.context.configure.Configuration
+ * @see org.cp.elements.context.configure.ConfigurationListener
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
 public class PropertiesConfiguration extends AbstractConfiguration {
 
+  protected static final Duration DEFAULT_WATCH_DEBOUNCE = Duration.ofMillis(200);
+
+  protected static final int MAX_WATCH_DEBOUNCE_PERIODS = 10;
+
   @Serial
   private static final long serialVersionUID = -6032166841545827263L;
 
-  private final Properties properties;
+  private final File propertiesFile;
+
+  private volatile Properties properties;
+
+  private transient volatile WatchService watchService;
 
   /**
    * Constructs a new {@link PropertiesConfiguration} initialized with {@link Properties}
@@ -86,6 +120,7 @@ public class PropertiesConfiguration extends AbstractConfiguration {
     Assert.notNull(propertiesFile, "The file to load properties from is required");
 
     setDescriptor(FileConfigurationDescriptor.from(propertiesFile));
+    this.propertiesFile = propertiesFile;
     this.properties = load(propertiesFile);
   }
 
@@ -133,11 +168,15 @@ public class PropertiesConfiguration extends AbstractConfiguration {
     this.properties = ObjectUtils.requireObject(properties,
       "The Properties used to back this Configuration is required");
 
+    this.propertiesFile = null;
+
     setDescriptor(PropertiesConfigurationDescriptor.from(this.properties));
   }
 
   /**
    * Gets the {@link Properties} object used to back this {@link Configuration}.
+   * <p>
+   * When the {@link Properties} are {@link #reload() reloaded}, a new {@link Properties} object is returned.
    *
    * @return the {@link Properties} object used to back this {@link Configuration}.
    * @see java.util.Properties
@@ -146,6 +185,280 @@ public class PropertiesConfiguration extends AbstractConfiguration {
     return this.properties;
   }
 
+  /**
+   * Gets the {@link Logger} used to log failures while {@link #watch() watching}
+   * the {@link File properties file}.
+   *
+   * @return the {@link Logger} used by this {@link Configuration}.
+   * @see java.util.logging.Logger
+   */
+  protected @NotNull Logger getLogger() {
+    return Logger.getLogger(getClass().getName());
+  }
+
+  /**
+   * Gets the {@link File} from which the {@link Properties} of this {@link Configuration} were loaded.
+   *
+   * @return the {@link File} from which the {@link Properties} were loaded, or {@literal null}
+   * if this {@link Configuration} is backed by a {@link Properties} object.
+   * @see java.io.File
+   */
+  protected @Nullable File getPropertiesFile() {
+    return this.propertiesFile;
+  }
+
+  /**
+   * Determines whether this {@link Configuration} is {@link #watch() watching} its {@link File properties file}
+   * for changes.
+   *
+   * @return a boolean value indicating whether this {@link Configuration} is watching
+   * its {@link File properties file} for changes.
+   * @see #watch()
+   * @see #unwatch()
+   */
+  public boolean isWatching() {
+    return this.watchService != null;
+  }
+
+  private @NotNull File requirePropertiesFile() {
+    return ObjectUtils.requireState(getPropertiesFile(),
+      "This PropertiesConfiguration was not loaded from a properties file");
+  }
+
+  /**
+   * Reloads the {@link Properties} of this {@link Configuration} from its {@link File properties file}.
+   * <p>
+   * The {@link File} is loaded into a new {@link Properties} object, which then replaces the current
+   * {@link Properties} object in a single step when any property was added, removed or changed. Registered
+   * {@link ConfigurationListener ConfigurationListeners} are notified with only the names of those properties.
+   * If the {@link File} cannot be read, the current {@link Properties} are kept.
+   *
+   * @return an unmodifiable {@link Set} of {@link String names} of the properties that were added, removed
+   * or changed; the {@link Set} is {@literal empty} if nothing changed.
+   * @throws IllegalStateException if this {@link Configuration} was not loaded from a {@link File}.
+   * @throws ConfigurationException if the {@link File properties file} cannot be read.
+   * @see org.cp.elements.context.configure.ConfigurationListener
+   */
+  public @NotNull Set<String> reload() {
+
+    File propertiesFile = requirePropertiesFile();
+
+    Set<String> changedPropertyNames;
+
+    synchronized (this) {
+
+      Properties currentProperties = getProperties();
+      Properties reloadedProperties = load(propertiesFile);
+
+      changedPropertyNames = changedPropertyNames(currentProperties, reloadedProperties);
+
+      if (!changedPropertyNames.isEmpty()) {
+        this.properties = reloadedProperties;
+      }
+    }
+
+    fireConfigurationChanged(changedPropertyNames);
+
+    return Collections.unmodifiableSet(changedPropertyNames);
+  }
+
+  private @NotNull Set<String> changedPropertyNames(@NotNull Properties current, @NotNull Properties reloaded) {
+
+    Set<String> changedPropertyNames = new HashSet<>();
+
+    Set<String> currentPropertyNames = current.stringPropertyNames();
+    Set<String> reloadedPropertyNames = reloaded.stringPropertyNames();
+
+    for (String propertyName : currentPropertyNames) {
+      if (!Objects.equals(current.getProperty(propertyName), reloaded.getProperty(propertyName))) {
+        changedPropertyNames.add(propertyName);
+      }
+    }
+
+    for (String propertyName : reloadedPropertyNames) {
+      if (!currentPropertyNames.contains(propertyName)) {
+        changedPropertyNames.add(propertyName);
+      }
+    }
+
+    return changedPropertyNames;
+  }
+
+  /**
+   * Watches the {@link File properties file} of this {@link Configuration} for changes, {@link #reload() reloading}
+   * the {@link Properties} once writes to the {@link File} have settled for the {@link #DEFAULT_WATCH_DEBOUNCE
+   * default debounce} {@link Duration}.
+   *
+   * @return this {@link PropertiesConfiguration}.
+   * @throws IllegalStateException if this {@link Configuration} was not loaded from a {@link File}.
+   * @throws ConfigurationException if the {@link File properties file} cannot be watched.
+   * @see #watch(Duration)
+   */
+  public @NotNull PropertiesConfiguration watch() {
+    return watch(DEFAULT_WATCH_DEBOUNCE);
+  }
+
+  /**
+   * Watches the {@link File properties file} of this {@link Configuration} for changes using a
+   * {@link WatchService}, {@link #reload() reloading} the {@link Properties} once writes to the {@link File}
+   * have settled for the given {@link Duration}.
+   * <p>
+   * Debouncing coalesces a burst of writes, such as an editor truncating and then writing the {@link File},
+   * or replacing the {@link File} by renaming a temporary {@link File}, into a single reload. Only changes to
+   * the {@link File properties file} itself postpone the reload, and by no more than {@link
+   * #MAX_WATCH_DEBOUNCE_PERIODS} times the debounce {@link Duration} in total. While the {@link File}
+   * is deleted, the current {@link Properties} are kept until the {@link File} is created again. Watching
+   * has no effect if this {@link Configuration} is already watching its {@link File properties file}.
+   * <p>
+   * Any change in the directory of the {@link File} is also checked against the real path, last modified time
+   * and size of the {@link File}. A {@link File} reached through symbolic links is therefore reloaded when a link
+   * is re-targeted, even though no change names the {@link File} itself, as when a Kubernetes ConfigMap volume
+   * atomically swaps its {@literal ..data} link.
+   *
+   * @param debounce {@link Duration} without further changes to the {@link File} before it is reloaded;
+   * must not be {@literal null} or negative.
+   * @return this {@link PropertiesConfiguration}.
+   * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or negative.
+   * @throws IllegalStateException if this {@link Configuration} was not loaded from a {@link File}.
+   * @throws ConfigurationException if the {@link File properties file} cannot be watched.
+   * @see java.nio.file.WatchService
+   * @see #unwatch()
+   * @see #reload()
+   */
+  public synchronized @NotNull PropertiesConfiguration watch(@NotNull Duration debounce) {
+
+    Assert.notNull(debounce, "Debounce is required");
+    Assert.isFalse(debounce.isNegative(), "Debounce [%s] must not be negative", debounce);
+
+    Path propertiesFilePath = requirePropertiesFile().getAbsoluteFile().toPath();
+
+    if (!isWatching()) {
+
+      Path directory = propertiesFilePath.getParent();
+
+      try {
+
+        WatchService watchService = directory.getFileSystem().newWatchService();
+
+        try {
+          directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+        catch (IOException | RuntimeException cause) {
+          watchService.close();
+          throw cause;
+        }
+
+        this.watchService = watchService;
+
+        PropertiesFileWatch propertiesFileWatch = new PropertiesFileWatch(propertiesFilePath);
+
+        VirtualThreadFactory.newThreadFactory()
+          .newThread(String.format("Properties File [%s] Watcher", propertiesFilePath),
+            () -> watch(watchService, propertiesFileWatch, debounce))
+          .start();
+      }
+      catch (IOException cause) {
+        throw newConfigurationException(cause, "Failed to watch properties file [%s]", propertiesFilePath);
+      }
+    }
+
+    return this;
+  }
+
+  private void watch(@NotNull WatchService watchService, @NotNull PropertiesFileWatch propertiesFileWatch,
+      @NotNull Duration debounce) {
+
+    try {
+      while (true) {
+        if (propertiesFileWatch.isChanged(watchService.take())) {
+
+          awaitSettled(watchService, propertiesFileWatch, debounce);
+
+          if (getPropertiesFile().isFile()) {
+            reloadQuietly();
+          }
+        }
+      }
+    }
+    catch (ClosedWatchServiceException | InterruptedException ignore) {
+      // Watching stops when the WatchService is closed or the watching Thread is interrupted
+    }
+  }
+
+  private void awaitSettled(@NotNull WatchService watchService, @NotNull PropertiesFileWatch propertiesFileWatch,
+      @NotNull Duration debounce) throws InterruptedException {
+
+    long debounceNanos = debounce.toNanos();
+
+    long maxWaitNanos = debounceNanos > Long.MAX_VALUE / MAX_WATCH_DEBOUNCE_PERIODS ? Long.MAX_VALUE
+      : debounceNanos * MAX_WATCH_DEBOUNCE_PERIODS;
+
+    long startTime = System.nanoTime();
+    long lastChangeTime = startTime;
+
+    for (long waitNanos = debounceNanos; waitNanos > 0L; ) {
+
+      WatchKey watchKey = watchService.poll(waitNanos, TimeUnit.NANOSECONDS);
+
+      if (watchKey == null) {
+        break;
+      }
+
+      long now = System.nanoTime();
+
+      // Changes in the directory leaving the properties file unchanged neither postpone the reload
+      // nor are waited for.
+      if (propertiesFileWatch.isChanged(watchKey)) {
+        lastChangeTime = now;
+      }
+
+      waitNanos = Math.min(debounceNanos - (now - lastChangeTime), maxWaitNanos - (now - startTime));
+    }
+  }
+
+  private void reloadQuietly() {
+
+    try {
+      reload();
+    }
+    catch (RuntimeException cause) {
+      Logger logger = getLogger();
+
+      if (logger.isLoggable(Level.WARNING)) {
+        logger.log(Level.WARNING, String.format("Failed to reload properties file [%s]", getPropertiesFile()),
+          cause);
+      }
+    }
+  }
+
+  /**
+   * Stops {@link #watch() watching} the {@link File properties file} of this {@link Configuration} for changes.
+   * <p>
+   * Has no effect if this {@link Configuration} is not watching its {@link File properties file}.
+   *
+   * @return this {@link PropertiesConfiguration}.
+   * @see #watch()
+   */
+  public synchronized @NotNull PropertiesConfiguration unwatch() {
+
+    WatchService watchService = this.watchService;
+
+    if (watchService != null) {
+
+      this.watchService = null;
+
+      try {
+        watchService.close();
+      }
+      catch (IOException ignore) {
+        // The WatchService is closed anyway and the watching Thread will stop
+      }
+    }
+
+    return this;
+  }
+
   /**
    * Determines whether the configuration property identified by {@link String name} is present (declared)
    * in this {@link Configuration}.
@@ -172,4 +485,61 @@ public class PropertiesConfiguration extends AbstractConfiguration {
   public @NotNull Iterator<String> iterator() {
     return Collections.unmodifiableSet(getProperties().stringPropertyNames()).iterator();
   }
+
+  /**
+   * Detects changes to the {@link File properties file} from the {@link WatchEvent WatchEvents} of its directory.
+   * <p>
+   * Besides events naming the {@link File}, any event is checked against the {@link PropertiesFileVersion}
+   * last seen, which catches re-targeted symbolic links. Only used by the watching {@link Thread}.
+   */
+  private static final class PropertiesFileWatch {
+
+    private final Path fileName;
+    private final Path path;
+
+    private PropertiesFileVersion version;
+
+    private PropertiesFileWatch(@NotNull Path path) {
+      this.path = path;
+      this.fileName = path.getFileName();
+      this.version = PropertiesFileVersion.of(path);
+    }
+
+    private boolean isChanged(@NotNull WatchKey watchKey) {
+
+      boolean changed = false;
+
+      for (WatchEvent<?> event : watchKey.pollEvents()) {
+        changed |= StandardWatchEventKinds.OVERFLOW.equals(event.kind()) || this.fileName.equals(event.context());
+      }
+
+      watchKey.reset();
+
+      PropertiesFileVersion version = PropertiesFileVersion.of(this.path);
+
+      changed |= !version.equals(this.version);
+      this.version = version;
+
+      return changed;
+    }
+  }
+
+  /**
+   * Real path, last modified time and size of the {@link File properties file}; all {@literal null}
+   * when the {@link File} cannot be resolved, such as while it is deleted.
+   */
+  private record PropertiesFileVersion(@Nullable Path realPath, @Nullable FileTime lastModifiedTime,
+      @Nullable Long size) {
+
+    private static @NotNull PropertiesFileVersion of(@NotNull Path path) {
+
+      try {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return new PropertiesFileVersion(path.toRealPath(), attributes.lastModifiedTime(), attributes.size());
+      }
+      catch (IOException ignore) {
+        return new PropertiesFileVersion(null, null, null);
+      }
+    }
+  }
 }
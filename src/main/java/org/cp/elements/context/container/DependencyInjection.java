@@ -74,5 +74,16 @@ public interface DependencyInjection {
     default Class<DependencyInjection> getType() {
       return DependencyInjection.class;
     }
+
+    /**
+     * Returns {@literal false} since {@link DependencyInjection} containers are stateful,
+     * so each lookup returns a new instance.
+     *
+     * @return {@literal false}.
+     */
+    @Override
+    default boolean isServiceInstanceCachingEnabled() {
+      return false;
+    }
   }
 }
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.compression;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.zip.Adler32;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * Preset dictionary of byte sequences common to the data compressed by a {@link Compressor}.
+ * <p>
+ * Small payloads, such as cache values or messages, compress poorly on their own since there is little repetition
+ * within a single payload. When payloads are similar, a dictionary containing the byte sequences shared by
+ * the payloads allows a {@link Compressor} to reference the dictionary instead, significantly reducing the size
+ * of the compressed payloads. A dictionary is {@link #train(int, int, Iterable, int) trained} from sample data.
+ * <p>
+ * A dictionary is identified by an {@link #getId() identifier} and a {@link #getVersion() version}, both of which
+ * are carried by the compressed data so that the same dictionary can be resolved when decompressing, even after
+ * the dictionary has been retrained as a new version.
+ *
+ * @author John Blum
+ * @see org.cp.elements.data.compression.Compressor#withDictionary(CompressionDictionary)
+ * @see java.util.zip.Deflater#setDictionary(byte[])
+ * @since 3.0.0
+ */
+public final class CompressionDictionary {
+
+  public static final int DEFAULT_DICTIONARY_SIZE = 16 * 1024;
+  public static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+  private static final int DMER_SIZE = 8;
+  private static final int SEGMENT_SIZE = 64;
+  private static final int SEGMENT_STEP = 8;
+
+  /**
+   * Factory method used to construct a new {@link CompressionDictionary} from the given content.
+   *
+   * @param id {@link Integer} identifying the dictionary; must be greater than equal to {@literal 0}.
+   * @param version {@link Integer} specifying the version of the dictionary;
+   * must be greater than equal to {@literal 0}.
+   * @param content array of bytes containing the dictionary; must not be {@literal null} or {@literal empty}.
+   * @return a new {@link CompressionDictionary}.
+   * @throws IllegalArgumentException if the {@code id} or {@code version} are negative, or the content is
+   * {@literal null}, {@literal empty} or larger than {@literal 32 KB}.
+   */
+  public static @NotNull CompressionDictionary of(int id, int version, @NotNull byte[] content) {
+    return new CompressionDictionary(id, version, content);
+  }
+
+  /**
+   * Trains a new {@link CompressionDictionary} of at most the given {@link Integer size} from the given samples.
+   * <p>
+   * The dictionary is composed of segments of the samples covering the most byte sequences occurring in multiple
+   * samples, each sequence being covered at most once. The most valuable segments are placed at the end of
+   * the dictionary, closest to the data being compressed. When the samples share no byte sequences,
+   * the dictionary is composed of the tail of the samples.
+   *
+   * @param id {@link Integer} identifying the dictionary; must be greater than equal to {@literal 0}.
+   * @param version {@link Integer} specifying the version of the dictionary;
+   * must be greater than equal to {@literal 0}.
+   * @param samples {@link Iterable} of sample data similar to the data to compress; must not be {@literal null}
+   * and must contain at least one non-empty sample.
+   * @param dictionarySize {@link Integer} specifying the maximum size of the dictionary in bytes;
+   * must be greater than {@literal 0} and not greater than {@literal 32 KB}.
+   * @return a new, trained {@link CompressionDictionary}.
+   * @throws IllegalArgumentException if the arguments are not valid.
+   */
+  public static @NotNull CompressionDictionary train(int id, int version, @NotNull Iterable<byte[]> samples,
+      int dictionarySize) {
+
+    Assert.notNull(samples, "Samples are required");
+    Assert.isTrue(dictionarySize > 0 && dictionarySize <= MAX_DICTIONARY_SIZE,
+      "Dictionary size [%1$d] must be greater than 0 and less than equal to [%2$d]",
+      dictionarySize, MAX_DICTIONARY_SIZE);
+
+    List<byte[]> nonEmptySamples = new ArrayList<>();
+
+    for (byte[] sample : samples) {
+      if (sample != null && sample.length > 0) {
+        nonEmptySamples.add(sample);
+      }
+    }
+
+    Assert.notEmpty(nonEmptySamples, "Samples are required");
+
+    return of(id, version, new Trainer(nonEmptySamples, dictionarySize).train());
+  }
+
+  private final int id;
+  private final int version;
+
+  private final long checksum;
+
+  private final byte[] content;
+
+  private CompressionDictionary(int id, int version, @NotNull byte[] content) {
+
+    Assert.isTrue(id > -1, "Dictionary ID [%d] must be greater than equal to 0", id);
+    Assert.isTrue(version > -1, "Dictionary version [%d] must be greater than equal to 0", version);
+    Assert.notNull(content, "Dictionary content is required");
+    Assert.isTrue(content.length > 0 && content.length <= MAX_DICTIONARY_SIZE,
+      "Dictionary size [%1$d] must be greater than 0 and less than equal to [%2$d]",
+      content.length, MAX_DICTIONARY_SIZE);
+
+    Adler32 adler32 = new Adler32();
+
+    adler32.update(content);
+
+    this.id = id;
+    this.version = version;
+    this.content = content.clone();
+    this.checksum = adler32.getValue();
+  }
+
+  /**
+   * Returns the {@link Adler32} checksum of the dictionary content.
+   *
+   * @return the {@link Adler32} checksum of the dictionary content.
+   * @see java.util.zip.Inflater#getAdler()
+   */
+  public long getChecksum() {
+    return this.checksum;
+  }
+
+  /**
+   * Returns a copy of the dictionary content.
+   *
+   * @return a copy of the dictionary content.
+   * @see #asByteBuffer()
+   */
+  public @NotNull byte[] getContent() {
+    return this.content.clone();
+  }
+
+  /**
+   * Returns a new, {@literal read-only} {@link ByteBuffer} view of the dictionary content.
+   *
+   * @return a new, {@literal read-only} {@link ByteBuffer} view of the dictionary content.
+   */
+  public @NotNull ByteBuffer asByteBuffer() {
+    return ByteBuffer.wrap(this.content).asReadOnlyBuffer();
+  }
+
+  /**
+   * Returns the {@link Integer identifier} of this dictionary.
+   *
+   * @return the {@link Integer identifier} of this dictionary.
+   */
+  public int getId() {
+    return this.id;
+  }
+
+  /**
+   * Returns the size of the dictionary content in bytes.
+   *
+   * @return the size of the dictionary content in bytes.
+   */
+  public int getSize() {
+    return this.content.length;
+  }
+
+  /**
+   * Returns the {@link Integer version} of this dictionary.
+   *
+   * @return the {@link Integer version} of this dictionary.
+   */
+  public int getVersion() {
+    return this.version;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    if (!(obj instanceof CompressionDictionary that)) {
+      return false;
+    }
+
+    return this.id == that.id
+      && this.version == that.version
+      && Arrays.equals(this.content, that.content);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * this.id + this.version) + Long.hashCode(this.checksum);
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return String.format("%1$s[id = %2$d, version = %3$d, size = %4$d]",
+      getClass().getSimpleName(), getId(), getVersion(), getSize());
+  }
+
+  /**
+   * Selects the segments of the samples covering the most byte sequences ({@literal d-mers}) occurring
+   * in multiple samples, re-evaluating the score of a segment only when it reaches the top of the queue
+   * since scores can only decrease as {@literal d-mers} are covered.
+   */
+  private static final class Trainer {
+
+    private final int dictionarySize;
+
+    private final List<byte[]> samples;
+
+    private final Map<Long, int[]> frequencies = new HashMap<>();
+
+    private Trainer(@NotNull List<byte[]> samples, int dictionarySize) {
+      this.samples = samples;
+      this.dictionarySize = dictionarySize;
+    }
+
+    private static long dmer(@NotNull byte[] sample, int index) {
+
+      long dmer = 0L;
+
+      for (int offset = 0; offset < DMER_SIZE; offset++) {
+        dmer = dmer << 8 | (sample[index + offset] & 0xFF);
+      }
+
+      return dmer;
+    }
+
+    private void countFrequencies() {
+
+      for (int sampleIndex = 0; sampleIndex < this.samples.size(); sampleIndex++) {
+
+        byte[] sample = this.samples.get(sampleIndex);
+
+        for (int index = 0; index + DMER_SIZE <= sample.length; index++) {
+
+          // [number of samples containing the d-mer, index of the last sample counted]
+          int[] frequency = this.frequencies.computeIfAbsent(dmer(sample, index), key -> new int[] { 0, -1 });
+
+          if (frequency[1] != sampleIndex) {
+            frequency[0]++;
+            frequency[1] = sampleIndex;
+          }
+        }
+      }
+    }
+
+    private int score(@NotNull byte[] sample, int start, int end) {
+
+      int score = 0;
+
+      for (int index = start; index + DMER_SIZE <= end; index++) {
+
+        int frequency = this.frequencies.get(dmer(sample, index))[0];
+
+        if (frequency > 1) {
+          score += frequency;
+        }
+      }
+
+      return score;
+    }
+
+    private void cover(@NotNull byte[] sample, int start, int end) {
+
+      for (int index = start; index + DMER_SIZE <= end; index++) {
+        this.frequencies.get(dmer(sample, index))[0] = 0;
+      }
+    }
+
+    @NotNull byte[] train() {
+
+      countFrequencies();
+
+      // [score, sample index, segment start, segment end]
+      PriorityQueue<int[]> segments = new PriorityQueue<>((one, two) -> Integer.compare(two[0], one[0]));
+
+      for (int sampleIndex = 0; sampleIndex < this.samples.size(); sampleIndex++) {
+
+        byte[] sample = this.samples.get(sampleIndex);
+
+        for (int start = 0; start < sample.length; start += SEGMENT_STEP) {
+
+          int end = Math.min(start + SEGMENT_SIZE, sample.length);
+          int score = score(sample, start, end);
+
+          if (score > 0) {
+            segments.add(new int[] { score, sampleIndex, start, end });
+          }
+
+          if (end == sample.length) {
+            break;
+          }
+        }
+      }
+
+      List<int[]> selectedSegments = new ArrayList<>();
+
+      int size = 0;
+
+      while (size < this.dictionarySize && !segments.isEmpty()) {
+
+        int[] segment = segments.poll();
+
+        byte[] sample = this.samples.get(segment[1]);
+
+        int score = score(sample, segment[2], segment[3]);
+
+        if (score > 0) {
+          if (segments.isEmpty() || score >= segments.peek()[0]) {
+            cover(sample, segment[2], segment[3]);
+            selectedSegments.add(segment);
+            size += segment[3] - segment[2];
+          }
+          else {
+            segment[0] = score;
+            segments.add(segment);
+          }
+        }
+      }
+
+      return selectedSegments.isEmpty() ? tailOfSamples() : assemble(selectedSegments);
+    }
+
+    private @NotNull byte[] assemble(@NotNull List<int[]> selectedSegments) {
+
+      byte[] dictionary = new byte[this.dictionarySize];
+
+      int index = dictionary.length;
+
+      // The most valuable segments are placed last, closest to the data being compressed.
+      for (int[] segment : selectedSegments) {
+
+        int length = Math.min(segment[3] - segment[2], index);
+
+        index -= length;
+        System.arraycopy(this.samples.get(segment[1]), segment[3] - length, dictionary, index, length);
+
+        if (index == 0) {
+          break;
+        }
+      }
+
+      return Arrays.copyOfRange(dictionary, index, dictionary.length);
+    }
+
+    private @NotNull byte[] tailOfSamples() {
+
+      byte[] dictionary = new byte[this.dictionarySize];
+
+      int index = dictionary.length;
+
+      for (int sampleIndex = this.samples.size() - 1; sampleIndex > -1 && index > 0; sampleIndex--) {
+
+        byte[] sample = this.samples.get(sampleIndex);
+
+        int length = Math.min(sample.length, index);
+
+        index -= length;
+        System.arraycopy(sample, sample.length - length, dictionary, index, length);
+      }
+
+      return Arrays.copyOfRange(dictionary, index, dictionary.length);
+    }
+  }
+}
@@ -15,16 +15,93 @@
  */
 package org.cp.elements.data.compression;
 
+import static org.cp.elements.lang.ElementsExceptionsFactory.newCompressionException;
+import static org.cp.elements.lang.ElementsExceptionsFactory.newDecompressionException;
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newUnsupportedOperationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.service.loader.ServiceLoaderSupport;
+
 /**
  * Interface defining a contract for compressing and decompressing {@link Object Objects}
  * serialized as an array of bytes.
+ * <p>
+ * In addition to arrays of bytes, data can be compressed and decompressed as streams, {@link ByteBuffer ByteBuffers}
+ * and {@link java.nio.channels.Channel Channels}. The data compressed by any of the operations of a {@link Compressor}
+ * can be decompressed by any other operation of the same {@link Compressor}.
+ * <p>
+ * {@link Compressor} implementations are {@literal Service Provider Implementations (SPI)} discovered with
+ * the {@link Compressor.Loader}.
  *
  * @author John Blum
+ * @see org.cp.elements.service.loader.ServiceLoaderSupport
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
 public interface Compressor {
 
+  AtomicReference<Loader> LOADER_REFERENCE = new AtomicReference<>(null);
+
+  /**
+   * Gets a reference to the {@link Compressor.Loader} used to load
+   * the {@literal Service Provider Implementation (SPI)} of this {@link Compressor}.
+   *
+   * @return a reference to the {@link Compressor.Loader} used to load
+   * the {@literal Service Provider Implementation (SPI)} of this {@link Compressor}.
+   * @see org.cp.elements.data.compression.Compressor.Loader
+   */
+  static @NotNull Compressor.Loader getLoader() {
+    return LOADER_REFERENCE.updateAndGet(it -> it != null ? it : new Compressor.Loader() { });
+  }
+
+  /**
+   * Trains a new {@link CompressionDictionary} of the {@link CompressionDictionary#DEFAULT_DICTIONARY_SIZE
+   * default size} from the given samples, which can then be used by a {@link #withDictionary(CompressionDictionary)
+   * Compressor using the dictionary}.
+   *
+   * @param id {@link Integer} identifying the dictionary; must be greater than equal to {@literal 0}.
+   * @param version {@link Integer} specifying the version of the dictionary;
+   * must be greater than equal to {@literal 0}.
+   * @param samples {@link Iterable} of sample data similar to the data to compress; must not be {@literal null}.
+   * @return a new, trained {@link CompressionDictionary}.
+   * @throws IllegalArgumentException if the arguments are not valid.
+   * @see CompressionDictionary#train(int, int, Iterable, int)
+   * @see #withDictionary(CompressionDictionary)
+   */
+  default @NotNull CompressionDictionary trainDictionary(int id, int version, @NotNull Iterable<byte[]> samples) {
+    return CompressionDictionary.train(id, version, samples, CompressionDictionary.DEFAULT_DICTIONARY_SIZE);
+  }
+
+  /**
+   * Returns a {@link Compressor} compressing data with the given, required {@link CompressionDictionary}.
+   * <p>
+   * The compressed data carries the {@link CompressionDictionary#getId() identifier} and
+   * {@link CompressionDictionary#getVersion() version} of the {@link CompressionDictionary}.
+   * The default implementation does not support dictionaries.
+   *
+   * @param dictionary {@link CompressionDictionary} used to compress data; must not be {@literal null}.
+   * @return a {@link Compressor} compressing data with the given {@link CompressionDictionary}.
+   * @throws IllegalArgumentException if the {@link CompressionDictionary} is {@literal null}.
+   * @throws UnsupportedOperationException if this {@link Compressor} does not support dictionaries.
+   * @see CompressionDictionary
+   */
+  default @NotNull Compressor withDictionary(@NotNull CompressionDictionary dictionary) {
+
+    Assert.notNull(dictionary, "CompressionDictionary is required");
+
+    throw newUnsupportedOperationException("Compressor [%s] does not support dictionaries", getClass().getName());
+  }
+
   /**
    * Compresses the given array of {@link Byte#TYPE bytes}.
    *
@@ -35,6 +112,68 @@ public interface Compressor {
    */
   byte[] compress(byte[] array);
 
+  /**
+   * Compresses the {@link ByteBuffer#remaining() remaining} bytes of the given {@link ByteBuffer}.
+   * <p>
+   * The {@link ByteBuffer#position() position} of the given {@link ByteBuffer} is not modified.
+   *
+   * @param buffer {@link ByteBuffer} containing the bytes to compress; must not be {@literal null}.
+   * @return a new {@link ByteBuffer} containing the compressed bytes.
+   * @throws IllegalArgumentException if the {@link ByteBuffer} is {@literal null}.
+   * @see #decompress(ByteBuffer)
+   * @see #compress(byte[])
+   */
+  default @NotNull ByteBuffer compress(@NotNull ByteBuffer buffer) {
+    return ByteBuffer.wrap(compress(toByteArray(buffer)));
+  }
+
+  /**
+   * Compresses all bytes read from the given {@link InputStream} and writes the compressed bytes
+   * to the given {@link OutputStream}.
+   * <p>
+   * Neither stream is closed by this method. The default implementation reads all bytes from
+   * the {@link InputStream} before {@link #compress(byte[]) compressing}. {@link Compressor} implementations
+   * capable of streaming should override this method to compress the data incrementally.
+   *
+   * @param in {@link InputStream} from which the bytes to compress are read; must not be {@literal null}.
+   * @param out {@link OutputStream} to which the compressed bytes are written; must not be {@literal null}.
+   * @throws IllegalArgumentException if either stream is {@literal null}.
+   * @throws CompressionException if an I/O error occurs.
+   * @see #decompress(InputStream, OutputStream)
+   */
+  default void compress(@NotNull InputStream in, @NotNull OutputStream out) {
+
+    Assert.notNull(in, "InputStream is required");
+    Assert.notNull(out, "OutputStream is required");
+
+    try {
+      out.write(compress(in.readAllBytes()));
+    }
+    catch (IOException cause) {
+      throw newCompressionException(cause, "Failed to compress input");
+    }
+  }
+
+  /**
+   * Compresses all bytes read from the given {@link ReadableByteChannel} and writes the compressed bytes
+   * to the given {@link WritableByteChannel}.
+   * <p>
+   * Neither {@link java.nio.channels.Channel} is closed by this method.
+   *
+   * @param in {@link ReadableByteChannel} from which the bytes to compress are read; must not be {@literal null}.
+   * @param out {@link WritableByteChannel} to which the compressed bytes are written; must not be {@literal null}.
+   * @throws IllegalArgumentException if either {@link java.nio.channels.Channel} is {@literal null}.
+   * @throws CompressionException if an I/O error occurs.
+   * @see #compress(InputStream, OutputStream)
+   */
+  default void compress(@NotNull ReadableByteChannel in, @NotNull WritableByteChannel out) {
+
+    Assert.notNull(in, "ReadableByteChannel is required");
+    Assert.notNull(out, "WritableByteChannel is required");
+
+    compress(Channels.newInputStream(in), Channels.newOutputStream(out));
+  }
+
   /**
    * Decompresses the given array of {@link Byte#TYPE bytes}.
    *
@@ -45,4 +184,88 @@ public interface Compressor {
    */
   byte[] decompress(byte[] array);
 
+  /**
+   * Decompresses the {@link ByteBuffer#remaining() remaining} bytes of the given {@link ByteBuffer}.
+   * <p>
+   * The {@link ByteBuffer#position() position} of the given {@link ByteBuffer} is not modified.
+   *
+   * @param buffer {@link ByteBuffer} containing the compressed bytes; must not be {@literal null}.
+   * @return a new {@link ByteBuffer} containing the decompressed bytes.
+   * @throws IllegalArgumentException if the {@link ByteBuffer} is {@literal null}.
+   * @see #compress(ByteBuffer)
+   * @see #decompress(byte[])
+   */
+  default @NotNull ByteBuffer decompress(@NotNull ByteBuffer buffer) {
+    return ByteBuffer.wrap(decompress(toByteArray(buffer)));
+  }
+
+  /**
+   * Decompresses the compressed bytes read from the given {@link InputStream} and writes
+   * the decompressed bytes to the given {@link OutputStream}.
+   * <p>
+   * Neither stream is closed by this method.
+   *
+   * @param in {@link InputStream} from which the compressed bytes are read; must not be {@literal null}.
+   * @param out {@link OutputStream} to which the decompressed bytes are written; must not be {@literal null}.
+   * @throws IllegalArgumentException if either stream is {@literal null}.
+   * @throws DecompressionException if an I/O error occurs or the compressed bytes are invalid.
+   * @see #compress(InputStream, OutputStream)
+   */
+  default void decompress(@NotNull InputStream in, @NotNull OutputStream out) {
+
+    Assert.notNull(in, "InputStream is required");
+    Assert.notNull(out, "OutputStream is required");
+
+    try {
+      out.write(decompress(in.readAllBytes()));
+    }
+    catch (IOException cause) {
+      throw newDecompressionException(cause, "Failed to decompress input");
+    }
+  }
+
+  /**
+   * Decompresses the compressed bytes read from the given {@link ReadableByteChannel} and writes
+   * the decompressed bytes to the given {@link WritableByteChannel}.
+   * <p>
+   * Neither {@link java.nio.channels.Channel} is closed by this method.
+   *
+   * @param in {@link ReadableByteChannel} from which the compressed bytes are read; must not be {@literal null}.
+   * @param out {@link WritableByteChannel} to which the decompressed bytes are written; must not be {@literal null}.
+   * @throws IllegalArgumentException if either {@link java.nio.channels.Channel} is {@literal null}.
+   * @throws DecompressionException if an I/O error occurs or the compressed bytes are invalid.
+   * @see #decompress(InputStream, OutputStream)
+   */
+  default void decompress(@NotNull ReadableByteChannel in, @NotNull WritableByteChannel out) {
+
+    Assert.notNull(in, "ReadableByteChannel is required");
+    Assert.notNull(out, "WritableByteChannel is required");
+
+    decompress(Channels.newInputStream(in), Channels.newOutputStream(out));
+  }
+
+  private static @NotNull byte[] toByteArray(@NotNull ByteBuffer buffer) {
+
+    Assert.notNull(buffer, "ByteBuffer is required");
+
+    byte[] array = new byte[buffer.remaining()];
+
+    buffer.duplicate().get(array);
+
+    return array;
+  }
+
+  /**
+   * {@link ServiceLoaderSupport} implementation used to load the {@link Compressor}
+   * provider implementation (SPI).
+   *
+   * @see org.cp.elements.service.loader.ServiceLoaderSupport
+   */
+  interface Loader extends ServiceLoaderSupport<Compressor> {
+
+    @Override
+    default Class<Compressor> getType() {
+      return Compressor.class;
+    }
+  }
 }
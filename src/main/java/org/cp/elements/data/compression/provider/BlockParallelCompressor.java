@@ -0,0 +1,327 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.compression.provider;
+
+import static org.cp.elements.lang.ElementsExceptionsFactory.newCompressionException;
+import static org.cp.elements.lang.ElementsExceptionsFactory.newDecompressionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.cp.elements.data.compression.Compressor;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * {@link Compressor} implementation splitting data into {@literal blocks} compressed and decompressed
+ * in parallel by a delegate {@link Compressor}.
+ * <p>
+ * Each {@literal block} is compressed independently by the delegate {@link Compressor} using
+ * the {@link ForkJoinPool#commonPool() common ForkJoinPool}, and is preceded by a header containing
+ * the uncompressed and compressed lengths of the {@literal block}, so that {@literal blocks} can also be
+ * decompressed in parallel. Streams are processed in batches of one {@literal block} per available core,
+ * bounding memory use. Since {@literal blocks} are compressed independently, the compression ratio
+ * is slightly lower than compressing the data as a whole. Data must be decompressed with a {@literal block size}
+ * greater than or equal to the {@literal block size} used to compress it; larger {@literal blocks} are rejected
+ * as invalid before any memory is allocated for them.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.ForkJoinPool
+ * @see org.cp.elements.data.compression.Compressor
+ * @since 3.0.0
+ */
+@ThreadSafe
+@SuppressWarnings("unused")
+public class BlockParallelCompressor implements Compressor {
+
+  protected static final int DEFAULT_BLOCK_SIZE = 256 * 1024;
+
+  /**
+   * Factory method used to construct a new {@link BlockParallelCompressor} compressing {@literal 256 KB}
+   * {@literal blocks} with the given, required {@link Compressor}.
+   *
+   * @param compressor {@link Compressor} used to compress each {@literal block}; must not be {@literal null}.
+   * @return a new {@link BlockParallelCompressor}.
+   * @throws IllegalArgumentException if the {@link Compressor} is {@literal null}.
+   */
+  public static @NotNull BlockParallelCompressor of(@NotNull Compressor compressor) {
+    return new BlockParallelCompressor(compressor, DEFAULT_BLOCK_SIZE);
+  }
+
+  private final int blockSize;
+
+  private final Compressor compressor;
+
+  /**
+   * Constructs a new {@link BlockParallelCompressor} compressing {@literal blocks} of the given {@link Integer size}
+   * with the given, required {@link Compressor}.
+   *
+   * @param compressor {@link Compressor} used to compress each {@literal block}; must not be {@literal null}.
+   * @param blockSize {@link Integer} specifying the number of uncompressed bytes per {@literal block};
+   * must be greater than {@literal 0}.
+   * @throws IllegalArgumentException if the {@link Compressor} is {@literal null}
+   * or the {@code blockSize} is less than {@literal 1}.
+   */
+  public BlockParallelCompressor(@NotNull Compressor compressor, int blockSize) {
+
+    Assert.notNull(compressor, "Compressor is required");
+    Assert.isTrue(blockSize > 0, "Block size [%d] must be greater than 0", blockSize);
+
+    this.compressor = compressor;
+    this.blockSize = blockSize;
+  }
+
+  /**
+   * Returns the number of uncompressed bytes per {@literal block}.
+   *
+   * @return the number of uncompressed bytes per {@literal block}.
+   */
+  public int getBlockSize() {
+    return this.blockSize;
+  }
+
+  /**
+   * Returns the {@link Compressor} used to compress each {@literal block}.
+   *
+   * @return the {@link Compressor} used to compress each {@literal block}.
+   */
+  public @NotNull Compressor getCompressor() {
+    return this.compressor;
+  }
+
+  /**
+   * Returns the number of {@literal blocks} processed in parallel per batch when processing streams.
+   *
+   * @return the number of {@literal blocks} processed in parallel per batch.
+   */
+  protected int getParallelism() {
+    return Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+  }
+
+  @Override
+  public @NotNull byte[] compress(@NotNull byte[] input) {
+
+    Assert.notNull(input, "An array of bytes to compress is required");
+
+    int blockSize = getBlockSize();
+    int blockCount = (int) (((long) input.length + blockSize - 1) / blockSize);
+
+    byte[][] compressedBlocks = compressBlocks(blockCount, index ->
+      Arrays.copyOfRange(input, index * blockSize, (int) Math.min((long) (index + 1) * blockSize, input.length)));
+
+    long outputLength = 1;
+
+    for (byte[] compressedBlock : compressedBlocks) {
+      outputLength += compressedBlock.length + CompressedBlocks.MAX_VAR_INT_LENGTH * 2;
+    }
+
+    byte[] output = new byte[Math.toIntExact(outputLength)];
+
+    int outputIndex = 0;
+
+    for (int index = 0; index < blockCount; index++) {
+
+      int length = Math.min(blockSize, input.length - index * blockSize);
+
+      outputIndex = CompressedBlocks.writeVarInt(output, outputIndex, length);
+      outputIndex = CompressedBlocks.writeVarInt(output, outputIndex, compressedBlocks[index].length);
+      System.arraycopy(compressedBlocks[index], 0, output, outputIndex, compressedBlocks[index].length);
+      outputIndex += compressedBlocks[index].length;
+    }
+
+    output[outputIndex++] = CompressedBlocks.END_OF_BLOCKS;
+
+    return Arrays.copyOf(output, outputIndex);
+  }
+
+  private @NotNull byte[][] compressBlocks(int blockCount, @NotNull BlockSupplier blocks) {
+
+    IntStream indexes = IntStream.range(0, blockCount);
+
+    return (blockCount > 1 ? indexes.parallel() : indexes)
+      .mapToObj(index -> getCompressor().compress(blocks.get(index)))
+      .toArray(byte[][]::new);
+  }
+
+  @Override
+  public void compress(@NotNull InputStream in, @NotNull OutputStream out) {
+
+    Assert.notNull(in, "InputStream is required");
+    Assert.notNull(out, "OutputStream is required");
+
+    try {
+      List<byte[]> batch = new ArrayList<>(getParallelism());
+
+      boolean endOfStream = false;
+
+      while (!endOfStream) {
+
+        batch.clear();
+
+        while (batch.size() < getParallelism()) {
+
+          byte[] block = in.readNBytes(getBlockSize());
+
+          if (block.length > 0) {
+            batch.add(block);
+          }
+
+          if (block.length < getBlockSize()) {
+            endOfStream = true;
+            break;
+          }
+        }
+
+        byte[][] compressedBlocks = compressBlocks(batch.size(), batch::get);
+
+        for (int index = 0; index < compressedBlocks.length; index++) {
+          CompressedBlocks.writeHeader(out, batch.get(index).length, compressedBlocks[index].length);
+          out.write(compressedBlocks[index]);
+        }
+      }
+
+      out.write(CompressedBlocks.END_OF_BLOCKS);
+    }
+    catch (IOException cause) {
+      throw newCompressionException(cause, "Failed to compress input");
+    }
+  }
+
+  @Override
+  public @NotNull byte[] decompress(@NotNull byte[] input) {
+
+    Assert.notNull(input, "An array of bytes to decompress is required");
+
+    List<int[]> blocks = new ArrayList<>();
+
+    int[] position = { 0 };
+    long outputLength = 0;
+
+    for (int length = CompressedBlocks.readVarInt(input, position); length != CompressedBlocks.END_OF_BLOCKS;
+        length = CompressedBlocks.readVarInt(input, position)) {
+
+      int compressedLength = CompressedBlocks.readVarInt(input, position);
+
+      assertValidBlock(length);
+
+      if (compressedLength > input.length - position[0]) {
+        throw newDecompressionException("Unexpected end of compressed input");
+      }
+
+      blocks.add(new int[] { length, position[0], compressedLength, (int) outputLength });
+      position[0] += compressedLength;
+      outputLength += length;
+
+      if (outputLength > Integer.MAX_VALUE - 8) {
+        throw newDecompressionException("Decompressed length is too large for an array");
+      }
+    }
+
+    byte[] output = new byte[(int) outputLength];
+
+    IntStream indexes = IntStream.range(0, blocks.size());
+
+    (blocks.size() > 1 ? indexes.parallel() : indexes).forEach(index -> {
+
+      int[] block = blocks.get(index);
+
+      byte[] decompressedBlock = decompressBlock(Arrays.copyOfRange(input, block[1], block[1] + block[2]), block[0]);
+
+      System.arraycopy(decompressedBlock, 0, output, block[3], block[0]);
+    });
+
+    return output;
+  }
+
+  private int assertValidBlock(int length) {
+
+    if (length > getBlockSize()) {
+      throw newDecompressionException("Invalid block length [%1$d]; block size is [%2$d]", length, getBlockSize());
+    }
+
+    return length;
+  }
+
+  private @NotNull byte[] decompressBlock(@NotNull byte[] compressedBlock, int expectedLength) {
+
+    byte[] block = getCompressor().decompress(compressedBlock);
+
+    if (block.length != expectedLength) {
+      throw newDecompressionException("Block decompressed to [%1$d] bytes; expected [%2$d]",
+        block.length, expectedLength);
+    }
+
+    return block;
+  }
+
+  @Override
+  public void decompress(@NotNull InputStream in, @NotNull OutputStream out) {
+
+    Assert.notNull(in, "InputStream is required");
+    Assert.notNull(out, "OutputStream is required");
+
+    try {
+      List<byte[]> batch = new ArrayList<>(getParallelism());
+      List<Integer> lengths = new ArrayList<>(getParallelism());
+
+      boolean endOfBlocks = false;
+
+      while (!endOfBlocks) {
+
+        batch.clear();
+        lengths.clear();
+
+        while (batch.size() < getParallelism()) {
+
+          int length = CompressedBlocks.readVarInt(in, false);
+
+          if (length == CompressedBlocks.END_OF_BLOCKS) {
+            endOfBlocks = true;
+            break;
+          }
+
+          lengths.add(assertValidBlock(length));
+          batch.add(CompressedBlocks.readFully(in, CompressedBlocks.readVarInt(in, false)));
+        }
+
+        IntStream indexes = IntStream.range(0, batch.size());
+
+        byte[][] blocks = (batch.size() > 1 ? indexes.parallel() : indexes)
+          .mapToObj(index -> decompressBlock(batch.get(index), lengths.get(index)))
+          .toArray(byte[][]::new);
+
+        for (byte[] block : blocks) {
+          out.write(block);
+        }
+      }
+    }
+    catch (IOException cause) {
+      throw newDecompressionException(cause, "Failed to decompress input");
+    }
+  }
+
+  @FunctionalInterface
+  private interface BlockSupplier {
+    byte[] get(int index);
+  }
+}
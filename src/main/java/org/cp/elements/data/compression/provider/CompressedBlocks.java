@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.compression.provider;
+
+import static org.cp.elements.lang.ElementsExceptionsFactory.newDecompressionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * Abstract utility class for reading and writing the headers of compressed {@literal blocks}.
+ * <p>
+ * A compressed stream is a sequence of {@literal blocks} terminated by an empty {@literal block}. Each {@literal block}
+ * header consists of the length of the uncompressed data followed by the length of the stored data, both encoded as
+ * unsigned, variable-length integers. An uncompressed length of {@literal 0} terminates the stream.
+ * The same variable-length integer encoding is used for the dictionary header of compressed data.
+ *
+ * @author John Blum
+ * @see org.cp.elements.data.compression.provider.BlockParallelCompressor
+ * @see org.cp.elements.data.compression.provider.DictionaryDeflaterCompressor
+ * @see org.cp.elements.data.compression.provider.Lz4Compressor
+ * @since 3.0.0
+ */
+abstract class CompressedBlocks {
+
+  static final int END_OF_BLOCKS = 0;
+
+  // Maximum number of bytes needed to encode an unsigned, variable-length Integer.
+  static final int MAX_VAR_INT_LENGTH = 5;
+
+  static int readVarInt(@NotNull byte[] array, int[] position) {
+
+    int value = 0;
+
+    for (int shift = 0; shift < 32; shift += 7) {
+
+      if (position[0] >= array.length) {
+        throw newDecompressionException("Unexpected end of compressed input");
+      }
+
+      byte nextByte = array[position[0]++];
+
+      value |= (nextByte & 0x7F) << shift;
+
+      if (nextByte >= 0) {
+        return assertValidLength(value);
+      }
+    }
+
+    throw newDecompressionException("Malformed header");
+  }
+
+  static int readVarInt(@NotNull InputStream in, boolean endOfStreamAllowed) throws IOException {
+
+    int value = 0;
+
+    for (int shift = 0; shift < 32; shift += 7) {
+
+      int nextByte = in.read();
+
+      if (nextByte == -1) {
+        if (endOfStreamAllowed && shift == 0) {
+          return -1;
+        }
+
+        throw newDecompressionException("Unexpected end of compressed input");
+      }
+
+      value |= (nextByte & 0x7F) << shift;
+
+      if ((nextByte & 0x80) == 0) {
+        return assertValidLength(value);
+      }
+    }
+
+    throw newDecompressionException("Malformed header");
+  }
+
+  private static int assertValidLength(int length) {
+
+    if (length < 0) {
+      throw newDecompressionException("Invalid block length [%d]", length);
+    }
+
+    return length;
+  }
+
+  static int writeVarInt(@NotNull byte[] array, int position, int value) {
+
+    while ((value & ~0x7F) != 0) {
+      array[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+
+    array[position++] = (byte) value;
+
+    return position;
+  }
+
+  static void writeVarInt(@NotNull OutputStream out, int value) throws IOException {
+
+    byte[] array = new byte[MAX_VAR_INT_LENGTH];
+
+    out.write(array, 0, writeVarInt(array, 0, value));
+  }
+
+  static void writeHeader(@NotNull OutputStream out, int uncompressedLength, int storedLength) throws IOException {
+
+    byte[] array = new byte[MAX_VAR_INT_LENGTH * 2];
+
+    out.write(array, 0, writeVarInt(array, writeVarInt(array, 0, uncompressedLength), storedLength));
+  }
+
+  static @NotNull byte[] readFully(@NotNull InputStream in, int length) throws IOException {
+
+    byte[] array = in.readNBytes(length);
+
+    if (array.length < length) {
+      throw newDecompressionException("Unexpected end of compressed input");
+    }
+
+    return array;
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.compression.provider;
+
+import static org.cp.elements.lang.ElementsExceptionsFactory.newCompressionException;
+import static org.cp.elements.lang.ElementsExceptionsFactory.newDecompressionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import org.cp.elements.data.compression.CompressionDictionary;
+import org.cp.elements.data.compression.Compressor;
+import org.cp.elements.data.compression.DecompressionException;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * {@link JavaDeflaterInflaterCompressor} compressing data with a preset {@link CompressionDictionary}.
+ * <p>
+ * The compressed data starts with a header containing the {@link CompressionDictionary#getId() identifier}
+ * and {@link CompressionDictionary#getVersion() version} of the {@link CompressionDictionary}, encoded as unsigned,
+ * variable-length integers, followed by the compressed bytes in the {@literal ZLIB} format. The header is used to
+ * resolve the {@link CompressionDictionary} when decompressing. When a new version of the dictionary is
+ * {@link #withDictionary(CompressionDictionary) used}, previous versions are retained so that data compressed
+ * with a previous version can still be decompressed.
+ *
+ * @author John Blum
+ * @see org.cp.elements.data.compression.CompressionDictionary
+ * @see org.cp.elements.data.compression.provider.JavaDeflaterInflaterCompressor
+ * @since 3.0.0
+ */
+@ThreadSafe
+@SuppressWarnings("unused")
+public class DictionaryDeflaterCompressor extends JavaDeflaterInflaterCompressor {
+
+  /**
+   * Factory method used to construct a new {@link DictionaryDeflaterCompressor} compressing data at
+   * the {@link Deflater#DEFAULT_COMPRESSION default compression level} with the given {@link CompressionDictionary}.
+   *
+   * @param dictionary {@link CompressionDictionary} used to compress data; must not be {@literal null}.
+   * @return a new {@link DictionaryDeflaterCompressor}.
+   * @throws IllegalArgumentException if the {@link CompressionDictionary} is {@literal null}.
+   */
+  public static @NotNull DictionaryDeflaterCompressor of(@NotNull CompressionDictionary dictionary) {
+    return new DictionaryDeflaterCompressor(Deflater.DEFAULT_COMPRESSION, dictionary, Collections.emptySet());
+  }
+
+  private static long key(int id, int version) {
+    return (long) id << 32 | version;
+  }
+
+  private final byte[] header;
+
+  private final CompressionDictionary dictionary;
+
+  private final Map<Long, CompressionDictionary> dictionaries;
+
+  /**
+   * Constructs a new {@link DictionaryDeflaterCompressor} compressing data at the given compression level
+   * with the given {@link CompressionDictionary}, and decompressing data compressed with the given
+   * {@link CompressionDictionary} or any of the given, previously used {@link CompressionDictionary dictionaries}.
+   *
+   * @param compressionLevel {@link Integer} value specifying the {@link Deflater#setLevel(int) compression level}.
+   * @param dictionary {@link CompressionDictionary} used to compress data; must not be {@literal null}.
+   * @param previousDictionaries {@link Collection} of {@link CompressionDictionary dictionaries} previously used
+   * to compress data; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link CompressionDictionary} or {@link Collection} of previous
+   * {@link CompressionDictionary dictionaries} is {@literal null}.
+   */
+  protected DictionaryDeflaterCompressor(int compressionLevel, @NotNull CompressionDictionary dictionary,
+      @NotNull Collection<CompressionDictionary> previousDictionaries) {
+
+    super(compressionLevel);
+
+    Assert.notNull(dictionary, "CompressionDictionary is required");
+    Assert.notNull(previousDictionaries, "Previous CompressionDictionaries are required");
+
+    Map<Long, CompressionDictionary> dictionaries = new LinkedHashMap<>();
+
+    for (CompressionDictionary previousDictionary : previousDictionaries) {
+      dictionaries.put(key(previousDictionary.getId(), previousDictionary.getVersion()), previousDictionary);
+    }
+
+    dictionaries.put(key(dictionary.getId(), dictionary.getVersion()), dictionary);
+
+    byte[] header = new byte[CompressedBlocks.MAX_VAR_INT_LENGTH * 2];
+
+    int headerLength = CompressedBlocks.writeVarInt(header, 0, dictionary.getId());
+
+    headerLength = CompressedBlocks.writeVarInt(header, headerLength, dictionary.getVersion());
+
+    this.dictionary = dictionary;
+    this.dictionaries = Collections.unmodifiableMap(dictionaries);
+    this.header = Arrays.copyOf(header, headerLength);
+  }
+
+  /**
+   * Returns the {@link CompressionDictionary} used to compress data.
+   *
+   * @return the {@link CompressionDictionary} used to compress data.
+   */
+  public @NotNull CompressionDictionary getDictionary() {
+    return this.dictionary;
+  }
+
+  /**
+   * Returns all {@link CompressionDictionary dictionaries} that can be used to decompress data,
+   * including the {@link #getDictionary() current dictionary}.
+   *
+   * @return all {@link CompressionDictionary dictionaries} that can be used to decompress data.
+   */
+  public @NotNull Collection<CompressionDictionary> getDictionaries() {
+    return this.dictionaries.values();
+  }
+
+  /**
+   * Returns a new {@link DictionaryDeflaterCompressor} compressing data with the given {@link CompressionDictionary},
+   * retaining all {@link #getDictionaries() dictionaries} of this {@link Compressor} for decompression.
+   *
+   * @param dictionary {@link CompressionDictionary} used to compress data; must not be {@literal null}.
+   * @return a new {@link DictionaryDeflaterCompressor} using the given {@link CompressionDictionary}.
+   * @throws IllegalArgumentException if the {@link CompressionDictionary} is {@literal null}.
+   */
+  @Override
+  public @NotNull DictionaryDeflaterCompressor withDictionary(@NotNull CompressionDictionary dictionary) {
+    return new DictionaryDeflaterCompressor(getCompressionLevel(), dictionary, getDictionaries());
+  }
+
+  /**
+   * Resolves the {@link CompressionDictionary} with the given {@link Integer identifier} and {@link Integer version}.
+   *
+   * @param id {@link Integer} identifying the dictionary.
+   * @param version {@link Integer} specifying the version of the dictionary.
+   * @return the resolved {@link CompressionDictionary}.
+   * @throws DecompressionException if the {@link CompressionDictionary} is unknown to this {@link Compressor}.
+   */
+  protected @NotNull CompressionDictionary resolveDictionary(int id, int version) {
+
+    CompressionDictionary dictionary = this.dictionaries.get(key(id, version));
+
+    if (dictionary == null) {
+      throw newDecompressionException("Unknown dictionary [id = %1$d, version = %2$d]", id, version);
+    }
+
+    return dictionary;
+  }
+
+  @Override
+  public @NotNull byte[] compress(@NotNull byte[] input) {
+
+    Assert.notNull(input, "An array of bytes to compress is required");
+
+    return deflate(input, this.header, getDictionary());
+  }
+
+  @Override
+  public void compress(@NotNull InputStream in, @NotNull OutputStream out) {
+
+    Assert.notNull(in, "InputStream is required");
+    Assert.notNull(out, "OutputStream is required");
+
+    try {
+      out.write(this.header);
+    }
+    catch (IOException cause) {
+      throw newCompressionException(cause, "Failed to compress input");
+    }
+
+    deflate(in, out, getDictionary());
+  }
+
+  @Override
+  public @NotNull byte[] decompress(@NotNull byte[] input) {
+
+    Assert.notNull(input, "An array of bytes to decompress is required");
+
+    int[] position = { 0 };
+
+    CompressionDictionary dictionary = resolveDictionary(CompressedBlocks.readVarInt(input, position),
+      CompressedBlocks.readVarInt(input, position));
+
+    return inflate(input, position[0], dictionary);
+  }
+
+  @Override
+  public void decompress(@NotNull InputStream in, @NotNull OutputStream out) {
+
+    Assert.notNull(in, "InputStream is required");
+    Assert.notNull(out, "OutputStream is required");
+
+    try {
+      CompressionDictionary dictionary = resolveDictionary(CompressedBlocks.readVarInt(in, false),
+        CompressedBlocks.readVarInt(in, false));
+
+      inflate(in, out, dictionary);
+    }
+    catch (IOException cause) {
+      throw newDecompressionException(cause, "Failed to decompress input");
+    }
+  }
+}
@@ -18,15 +18,35 @@ package org.cp.elements.data.compression.provider;
 import static org.cp.elements.lang.ElementsExceptionsFactory.newCompressionException;
 import static org.cp.elements.lang.ElementsExceptionsFactory.newDecompressionException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 
+import org.cp.elements.data.compression.CompressionDictionary;
 import org.cp.elements.data.compression.Compressor;
+import org.cp.elements.data.compression.DecompressionException;
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.Qualifier;
+import org.cp.elements.lang.annotation.ThreadSafe;
+import org.cp.elements.nio.BufferUtils;
 
 /**
  * {@link Compressor} implementation that uses the Java {@link Deflater} and {@link Inflater}.
+ * <p>
+ * {@link Deflater Deflaters} and {@link Inflater Inflaters} hold native resources that are expensive
+ * to initialize, so they are {@link Deflater#reset() reset} and returned to a bounded pool, shared by all
+ * {@link JavaDeflaterInflaterCompressor JavaDeflaterInflaterCompressors} using the same compression level,
+ * after each use. The compressed bytes are in the {@literal ZLIB} format regardless of whether data
+ * is compressed as an array of bytes or as a stream.
  *
  * @author John Blum
  * @see java.util.zip.Deflater
@@ -34,12 +54,26 @@ import org.cp.elements.lang.annotation.NotNull;
  * @see org.cp.elements.data.compression.Compressor
  * @since 1.0.0
  */
+@ThreadSafe
+@Qualifier(name = "deflate")
 @SuppressWarnings("unused")
 public class JavaDeflaterInflaterCompressor implements Compressor {
 
   protected static final int DEFAULT_DATA_BUFFER_SIZE = 4096; // bytes
+  protected static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+  protected static final int STREAM_BUFFER_SIZE = 16384; // bytes
   protected static final int TEMP_BUFFER_SIZE = 512; // bytes
 
+  @SuppressWarnings("unchecked")
+  private static final BlockingQueue<Deflater>[] DEFLATER_POOLS =
+    (BlockingQueue<Deflater>[]) new BlockingQueue<?>[11];
+
+  private static final BlockingQueue<Inflater> INFLATER_POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+
+  static {
+    Arrays.setAll(DEFLATER_POOLS, index -> new ArrayBlockingQueue<>(POOL_SIZE));
+  }
+
   /**
    * Factory method used to construct a new {@link JavaDeflaterInflaterCompressor} initialized
    * for the {@link Deflater#BEST_COMPRESSION}.
@@ -62,13 +96,28 @@ public class JavaDeflaterInflaterCompressor implements Compressor {
 
   private final int compressionLevel;
 
+  /**
+   * Constructs a new {@link JavaDeflaterInflaterCompressor} initialized with
+   * the {@link Deflater#DEFAULT_COMPRESSION default compression level}.
+   * <p>
+   * Used by the {@link java.util.ServiceLoader} to instantiate this {@link Compressor} as a service provider.
+   */
+  public JavaDeflaterInflaterCompressor() {
+    this(Deflater.DEFAULT_COMPRESSION);
+  }
+
   /**
    * Constructs a new {@link JavaDeflaterInflaterCompressor} initialized with
    * the given {@link Deflater#setLevel(int) compression level}.
    *
    * @param compressionLevel {@link Integer} value specifying the {@link Deflater#setLevel(int) compression level}.
+   * @throws IllegalArgumentException if the {@code compressionLevel} is not a valid {@link Deflater} level.
    */
   protected JavaDeflaterInflaterCompressor(int compressionLevel) {
+
+    Assert.isTrue(compressionLevel >= Deflater.DEFAULT_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION,
+      "Compression level [%d] is not valid", compressionLevel);
+
     this.compressionLevel = compressionLevel;
   }
 
@@ -81,52 +130,189 @@ public class JavaDeflaterInflaterCompressor implements Compressor {
     return this.compressionLevel;
   }
 
+  /**
+   * Acquires a {@link Deflater} for the {@link #getCompressionLevel() compression level} from the pool.
+   *
+   * @return a {@link Deflater} for the {@link #getCompressionLevel() compression level}.
+   * @see #releaseDeflater(Deflater)
+   */
+  protected @NotNull Deflater acquireDeflater() {
+
+    Deflater deflater = DEFLATER_POOLS[getCompressionLevel() + 1].poll();
+
+    return deflater != null ? deflater : new Deflater(getCompressionLevel());
+  }
+
+  /**
+   * Resets and returns the given {@link Deflater} to the pool, or {@link Deflater#end() ends}
+   * the {@link Deflater} if the pool is full.
+   *
+   * @param deflater {@link Deflater} to release.
+   * @see #acquireDeflater()
+   */
+  protected void releaseDeflater(@Nullable Deflater deflater) {
+
+    if (deflater != null) {
+      deflater.reset();
+      if (!DEFLATER_POOLS[getCompressionLevel() + 1].offer(deflater)) {
+        deflater.end();
+      }
+    }
+  }
+
+  /**
+   * Acquires an {@link Inflater} from the pool.
+   *
+   * @return an {@link Inflater}.
+   * @see #releaseInflater(Inflater)
+   */
+  protected @NotNull Inflater acquireInflater() {
+
+    Inflater inflater = INFLATER_POOL.poll();
+
+    return inflater != null ? inflater : new Inflater();
+  }
+
+  /**
+   * Resets and returns the given {@link Inflater} to the pool, or {@link Inflater#end() ends}
+   * the {@link Inflater} if the pool is full.
+   *
+   * @param inflater {@link Inflater} to release.
+   * @see #acquireInflater()
+   */
+  protected void releaseInflater(@Nullable Inflater inflater) {
+
+    if (inflater != null) {
+      inflater.reset();
+      if (!INFLATER_POOL.offer(inflater)) {
+        inflater.end();
+      }
+    }
+  }
+
+  /**
+   * Returns a new {@link DictionaryDeflaterCompressor} compressing data at the same
+   * {@link #getCompressionLevel() compression level} with the given, required {@link CompressionDictionary}.
+   *
+   * @param dictionary {@link CompressionDictionary} used to compress data; must not be {@literal null}.
+   * @return a new {@link DictionaryDeflaterCompressor} using the given {@link CompressionDictionary}.
+   * @throws IllegalArgumentException if the {@link CompressionDictionary} is {@literal null}.
+   * @see org.cp.elements.data.compression.provider.DictionaryDeflaterCompressor
+   */
+  @Override
+  public @NotNull Compressor withDictionary(@NotNull CompressionDictionary dictionary) {
+    return new DictionaryDeflaterCompressor(getCompressionLevel(), dictionary, Collections.emptySet());
+  }
+
   @Override
   public @NotNull byte[] compress(@NotNull byte[] input) {
 
     Assert.notNull(input, "An array of bytes to compress is required");
 
+    return deflate(input, BufferUtils.EMPTY_BYTE_ARRAY, null);
+  }
+
+  /**
+   * Compresses the given array of bytes into a new array of bytes starting with the given {@code header},
+   * using the given, optional {@link CompressionDictionary}.
+   *
+   * @param input array of bytes to compress.
+   * @param header array of bytes written before the compressed bytes.
+   * @param dictionary optional {@link CompressionDictionary} used to compress the data.
+   * @return an array containing the {@code header} followed by the compressed bytes.
+   * @throws org.cp.elements.data.compression.CompressionException if the input cannot be compressed.
+   */
+  protected @NotNull byte[] deflate(@NotNull byte[] input, @NotNull byte[] header,
+      @Nullable CompressionDictionary dictionary) {
+
+    Deflater deflater = acquireDeflater();
+
     try {
-      Deflater compressor = newDeflater(input);
+      if (dictionary != null) {
+        deflater.setDictionary(dictionary.asByteBuffer());
+      }
+
+      deflater.setInput(input);
+      deflater.finish();
+
+      // Sized to the ZLIB bound, so incompressible input normally completes in a single deflate.
+      byte[] output = new byte[header.length + input.length + (input.length >> 12) + (input.length >> 14) + 64];
 
-      byte[] output = new byte[input.length];
+      System.arraycopy(header, 0, output, 0, header.length);
 
-      int compressedDataLength = deflate(compressor, output);
+      int outputLength = header.length;
 
-      return toCompressedBytes(output, compressedDataLength);
+      while (!deflater.finished()) {
+
+        if (outputLength == output.length) {
+          output = Arrays.copyOf(output, output.length << 1);
+        }
+
+        outputLength += deflater.deflate(output, outputLength, output.length - outputLength);
+      }
+
+      return Arrays.copyOf(output, outputLength);
     }
     catch (Exception cause) {
       throw newCompressionException(cause, "Failed to compress input");
     }
+    finally {
+      releaseDeflater(deflater);
+    }
   }
 
-  private @NotNull Deflater newDeflater(@NotNull byte[] input) {
-
-    Deflater deflater = new Deflater(getCompressionLevel());
+  @Override
+  public void compress(@NotNull InputStream in, @NotNull OutputStream out) {
 
-    deflater.setInput(input);
-    deflater.setStrategy(Deflater.DEFAULT_STRATEGY);
-    deflater.finish();
+    Assert.notNull(in, "InputStream is required");
+    Assert.notNull(out, "OutputStream is required");
 
-    return deflater;
+    deflate(in, out, null);
   }
 
-  private int deflate(@NotNull Deflater compressor, @NotNull byte[] output) {
-
-    int compressedDataLength = compressor.deflate(output);
+  /**
+   * Compresses all bytes read from the given {@link InputStream} to the given {@link OutputStream}
+   * using the given, optional {@link CompressionDictionary}.
+   *
+   * @param in {@link InputStream} from which the bytes to compress are read.
+   * @param out {@link OutputStream} to which the compressed bytes are written.
+   * @param dictionary optional {@link CompressionDictionary} used to compress the data.
+   * @throws org.cp.elements.data.compression.CompressionException if an I/O error occurs.
+   */
+  protected void deflate(@NotNull InputStream in, @NotNull OutputStream out,
+      @Nullable CompressionDictionary dictionary) {
 
-    compressor.end();
+    Deflater deflater = acquireDeflater();
 
-    return compressedDataLength;
-  }
+    try {
+      if (dictionary != null) {
+        deflater.setDictionary(dictionary.asByteBuffer());
+      }
 
-  private @NotNull byte[] toCompressedBytes(@NotNull byte[] output, int compressedDataLength) {
+      byte[] input = new byte[STREAM_BUFFER_SIZE];
+      byte[] output = new byte[STREAM_BUFFER_SIZE];
 
-    byte[] compressedOutput = new byte[compressedDataLength];
+      for (int length = in.read(input); length != -1; length = in.read(input)) {
+        if (length > 0) {
+          deflater.setInput(input, 0, length);
+          while (!deflater.needsInput()) {
+            out.write(output, 0, deflater.deflate(output));
+          }
+        }
+      }
 
-    System.arraycopy(output, 0, compressedOutput, 0, compressedDataLength);
+      deflater.finish();
 
-    return compressedOutput;
+      while (!deflater.finished()) {
+        out.write(output, 0, deflater.deflate(output));
+      }
+    }
+    catch (IOException cause) {
+      throw newCompressionException(cause, "Failed to compress input");
+    }
+    finally {
+      releaseDeflater(deflater);
+    }
   }
 
   @Override
@@ -134,48 +320,147 @@ public class JavaDeflaterInflaterCompressor implements Compressor {
 
     Assert.notNull(input, "An array of bytes to decompress is required");
 
+    return inflate(input, 0, null);
+  }
+
+  /**
+   * Decompresses the compressed bytes in the given array, starting at the given {@code offset},
+   * using the given, optional {@link CompressionDictionary}.
+   *
+   * @param input array containing the compressed bytes.
+   * @param offset index of the first compressed byte in the array.
+   * @param dictionary optional {@link CompressionDictionary} used to compress the data.
+   * @return an array of decompressed bytes.
+   * @throws DecompressionException if the compressed bytes are invalid, truncated, or require
+   * a different dictionary.
+   */
+  protected @NotNull byte[] inflate(@NotNull byte[] input, int offset, @Nullable CompressionDictionary dictionary) {
+
+    Inflater inflater = acquireInflater();
+
     try {
-      Inflater decompressor = newInflater(input);
+      inflater.setInput(input, offset, input.length - offset);
+
+      byte[] output = new byte[Math.max(DEFAULT_DATA_BUFFER_SIZE, input.length << 2)];
 
-      byte[] decompressedBytes = new byte[DEFAULT_DATA_BUFFER_SIZE];
-      byte[] buffer = new byte[TEMP_BUFFER_SIZE];
+      int outputLength = 0;
 
-      int writeIndex = 0;
+      while (!inflater.finished()) {
 
-      while (decompressor.getRemaining() > 0) {
+        if (outputLength == output.length) {
+          output = Arrays.copyOf(output, output.length << 1);
+        }
 
-        int numberOfDecompressedBytes = decompressor.inflate(buffer);
+        int length = inflater.inflate(output, outputLength, output.length - outputLength);
 
-        if (writeIndex + numberOfDecompressedBytes > decompressedBytes.length) {
-          decompressedBytes = reallocateBuffer(decompressedBytes);
+        if (length == 0 && !inflater.finished()) {
+          resolveStall(inflater, dictionary);
         }
 
-        System.arraycopy(buffer, 0, decompressedBytes, writeIndex, numberOfDecompressedBytes);
-        writeIndex += numberOfDecompressedBytes;
+        outputLength += length;
       }
 
-      byte[] result = new byte[decompressor.getTotalOut()];
+      return Arrays.copyOf(output, outputLength);
+    }
+    catch (DecompressionException cause) {
+      throw cause;
+    }
+    catch (Exception cause) {
+      throw newDecompressionException(cause, "Failed to decompress input");
+    }
+    finally {
+      releaseInflater(inflater);
+    }
+  }
+
+  @Override
+  public void decompress(@NotNull InputStream in, @NotNull OutputStream out) {
+
+    Assert.notNull(in, "InputStream is required");
+    Assert.notNull(out, "OutputStream is required");
+
+    inflate(in, out, null);
+  }
+
+  /**
+   * Decompresses the compressed bytes read from the given {@link InputStream} to the given {@link OutputStream}
+   * using the given, optional {@link CompressionDictionary}.
+   *
+   * @param in {@link InputStream} from which the compressed bytes are read.
+   * @param out {@link OutputStream} to which the decompressed bytes are written.
+   * @param dictionary optional {@link CompressionDictionary} used to compress the data.
+   * @throws DecompressionException if an I/O error occurs or the compressed bytes are invalid, truncated,
+   * or require a different dictionary.
+   */
+  protected void inflate(@NotNull InputStream in, @NotNull OutputStream out,
+      @Nullable CompressionDictionary dictionary) {
+
+    Inflater inflater = acquireInflater();
 
-      decompressor.end();
+    try {
+      byte[] input = new byte[STREAM_BUFFER_SIZE];
+      byte[] output = new byte[STREAM_BUFFER_SIZE];
+
+      while (!inflater.finished()) {
+
+        if (inflater.needsInput()) {
+
+          int length = in.read(input);
 
-      System.arraycopy(decompressedBytes, 0, result, 0, result.length);
+          if (length == -1) {
+            throw newDecompressionException("Unexpected end of compressed input");
+          }
 
-      return result;
+          inflater.setInput(input, 0, length);
+        }
+
+        int length = inflater.inflate(output);
+
+        if (length > 0) {
+          out.write(output, 0, length);
+        }
+        else if (inflater.needsDictionary()) {
+          resolveStall(inflater, dictionary);
+        }
+      }
     }
-    catch (Exception cause) {
+    catch (DecompressionException cause) {
+      throw cause;
+    }
+    catch (DataFormatException | IOException cause) {
       throw newDecompressionException(cause, "Failed to decompress input");
     }
+    finally {
+      releaseInflater(inflater);
+    }
   }
 
-  private @NotNull Inflater newInflater(byte[] input) {
-    Inflater inflater = new Inflater();
-    inflater.setInput(input);
-    return inflater;
-  }
+  /**
+   * Resolves an {@link Inflater} that produced no output by setting the {@link CompressionDictionary}
+   * required by the compressed data.
+   *
+   * @param inflater {@link Inflater} to evaluate.
+   * @param dictionary optional {@link CompressionDictionary} used to compress the data.
+   * @throws DecompressionException if the {@link Inflater} requires more input, or requires a dictionary
+   * other than the given {@link CompressionDictionary}.
+   */
+  protected void resolveStall(@NotNull Inflater inflater, @Nullable CompressionDictionary dictionary) {
+
+    if (inflater.needsDictionary()) {
+
+      if (dictionary == null) {
+        throw newDecompressionException("Compressed input requires a preset dictionary");
+      }
 
-  private byte[] reallocateBuffer(byte[] source) {
-    byte[] target = new byte[source.length + DEFAULT_DATA_BUFFER_SIZE];
-    System.arraycopy(source, 0, target, 0, source.length);
-    return target;
+      if (Integer.toUnsignedLong(inflater.getAdler()) != dictionary.getChecksum()) {
+        throw newDecompressionException("Compressed input requires a preset dictionary other than [%s]",
+          dictionary);
+      }
+
+      inflater.setDictionary(dictionary.asByteBuffer());
+    }
+    else if (inflater.needsInput()) {
+      throw newDecompressionException("Unexpected end of compressed input");
+    }
   }
 }
@@ -0,0 +1,506 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.compression.provider;
+
+import static org.cp.elements.lang.ElementsExceptionsFactory.newCompressionException;
+import static org.cp.elements.lang.ElementsExceptionsFactory.newDecompressionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.cp.elements.data.compression.Compressor;
+import org.cp.elements.data.compression.DecompressionException;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Qualifier;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Pure Java {@link Compressor} implementation using the {@literal LZ4} block compression algorithm,
+ * trading compression ratio for speed.
+ * <p>
+ * Data is split into independent {@literal blocks}, {@literal 64 KB} by default, each encoded in
+ * the {@literal LZ4 block format}. Every {@literal block} is preceded by a header containing the uncompressed
+ * and stored lengths of the {@literal block}, and the sequence of {@literal blocks} is terminated by an empty
+ * {@literal block}. A {@literal block} that does not compress is stored uncompressed, in which case its stored
+ * length equals its uncompressed length. The compressed bytes are therefore not in the {@literal LZ4 frame format}.
+ * <p>
+ * Hash tables used to find matches are reused per {@link Thread}.
+ *
+ * @author John Blum
+ * @see org.cp.elements.data.compression.Compressor
+ * @see <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Block_format.md">LZ4 Block Format</a>
+ * @since 3.0.0
+ */
+@ThreadSafe
+@Qualifier(name = "lz4")
+@SuppressWarnings("unused")
+public class Lz4Compressor implements Compressor {
+
+  protected static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+  protected static final int MAX_BLOCK_SIZE = 4 * 1024 * 1024;
+
+  private static final int HASH_LOG = 14;
+  private static final int LAST_LITERALS = 5;
+  private static final int MAX_DISTANCE = 65535;
+  private static final int MF_LIMIT = 12;
+  private static final int MIN_LENGTH = MF_LIMIT + 1;
+  private static final int MIN_MATCH = 4;
+  private static final int RUN_MASK = 15;
+  private static final int SKIP_TRIGGER = 6;
+
+  private static final ThreadLocal<int[]> HASH_TABLES = ThreadLocal.withInitial(() -> new int[1 << HASH_LOG]);
+
+  public static final Lz4Compressor INSTANCE = new Lz4Compressor();
+
+  /**
+   * Returns the maximum length of a compressed {@literal block} for the given {@link Integer uncompressed length}.
+   *
+   * @param length {@link Integer} specifying the uncompressed length.
+   * @return the maximum length of a compressed {@literal block}.
+   */
+  static int maxCompressedLength(int length) {
+    return length + length / 255 + 16;
+  }
+
+  private static int hash(int sequence) {
+    return (sequence * -1640531535) >>> (32 - HASH_LOG);
+  }
+
+  private static int readInt(@NotNull byte[] array, int index) {
+
+    return (array[index] & 0xFF)
+      | (array[index + 1] & 0xFF) << 8
+      | (array[index + 2] & 0xFF) << 16
+      | (array[index + 3] & 0xFF) << 24;
+  }
+
+  private static int writeLength(@NotNull byte[] array, int index, int length) {
+
+    for (; length >= 255; length -= 255) {
+      array[index++] = (byte) 255;
+    }
+
+    array[index++] = (byte) length;
+
+    return index;
+  }
+
+  private static int writeLiterals(@NotNull byte[] source, int literalsIndex, int literalsLength,
+      @NotNull byte[] target, int targetIndex) {
+
+    int tokenIndex = targetIndex++;
+
+    if (literalsLength >= RUN_MASK) {
+      target[tokenIndex] = (byte) (RUN_MASK << 4);
+      targetIndex = writeLength(target, targetIndex, literalsLength - RUN_MASK);
+    }
+    else {
+      target[tokenIndex] = (byte) (literalsLength << 4);
+    }
+
+    System.arraycopy(source, literalsIndex, target, targetIndex, literalsLength);
+
+    return targetIndex + literalsLength;
+  }
+
+  private static int writeSequence(@NotNull byte[] source, int literalsIndex, int literalsLength, int offset,
+      int matchLength, @NotNull byte[] target, int targetIndex) {
+
+    int tokenIndex = targetIndex;
+
+    targetIndex = writeLiterals(source, literalsIndex, literalsLength, target, targetIndex);
+    target[targetIndex++] = (byte) offset;
+    target[targetIndex++] = (byte) (offset >>> 8);
+
+    int matchLengthCode = matchLength - MIN_MATCH;
+
+    if (matchLengthCode >= RUN_MASK) {
+      target[tokenIndex] |= (byte) RUN_MASK;
+      targetIndex = writeLength(target, targetIndex, matchLengthCode - RUN_MASK);
+    }
+    else {
+      target[tokenIndex] |= (byte) matchLengthCode;
+    }
+
+    return targetIndex;
+  }
+
+  /**
+   * Compresses a single {@literal block} in the {@literal LZ4 block format}.
+   *
+   * @param source array containing the bytes to compress.
+   * @param sourceIndex index of the first byte to compress.
+   * @param length number of bytes to compress.
+   * @param target array to which the compressed bytes are written; must have room for
+   * {@link #maxCompressedLength(int)} bytes.
+   * @param targetIndex index at which to write the first compressed byte.
+   * @return the index following the last compressed byte written.
+   */
+  static int compressBlock(@NotNull byte[] source, int sourceIndex, int length,
+      @NotNull byte[] target, int targetIndex) {
+
+    int sourceEnd = sourceIndex + length;
+    int anchor = sourceIndex;
+
+    if (length >= MIN_LENGTH) {
+
+      int[] hashTable = HASH_TABLES.get();
+
+      Arrays.fill(hashTable, -1);
+
+      int matchFindLimit = sourceEnd - MF_LIMIT;
+      int matchLimit = sourceEnd - LAST_LITERALS;
+      int index = sourceIndex;
+      int searchCount = 1 << SKIP_TRIGGER;
+
+      while (index < matchFindLimit) {
+
+        int sequence = readInt(source, index);
+        int hash = hash(sequence);
+        int reference = hashTable[hash];
+
+        hashTable[hash] = index;
+
+        if (reference < 0 || index - reference > MAX_DISTANCE || readInt(source, reference) != sequence) {
+          // Skip ahead faster the longer no match is found, as the data is likely incompressible.
+          index += searchCount++ >>> SKIP_TRIGGER;
+          continue;
+        }
+
+        searchCount = 1 << SKIP_TRIGGER;
+
+        while (index > anchor && reference > sourceIndex && source[index - 1] == source[reference - 1]) {
+          index--;
+          reference--;
+        }
+
+        int matchLength = MIN_MATCH;
+
+        while (index + matchLength < matchLimit && source[index + matchLength] == source[reference + matchLength]) {
+          matchLength++;
+        }
+
+        targetIndex = writeSequence(source, anchor, index - anchor, index - reference, matchLength,
+          target, targetIndex);
+
+        index += matchLength;
+        anchor = index;
+
+        if (index < matchFindLimit) {
+          hashTable[hash(readInt(source, index - 2))] = index - 2;
+        }
+      }
+    }
+
+    return writeLiterals(source, anchor, sourceEnd - anchor, target, targetIndex);
+  }
+
+  /**
+   * Decompresses a single {@literal block} in the {@literal LZ4 block format}.
+   *
+   * @param source array containing the compressed bytes.
+   * @param sourceIndex index of the first compressed byte.
+   * @param sourceEnd index following the last compressed byte.
+   * @param target array to which the decompressed bytes are written.
+   * @param targetIndex index at which to write the first decompressed byte.
+   * @param targetEnd index following the last decompressed byte.
+   * @throws DecompressionException if the compressed bytes are invalid.
+   */
+  static void decompressBlock(@NotNull byte[] source, int sourceIndex, int sourceEnd,
+      @NotNull byte[] target, int targetIndex, int targetEnd) {
+
+    int targetStart = targetIndex;
+
+    while (true) {
+
+      if (sourceIndex >= sourceEnd) {
+        throw newDecompressionException("Unexpected end of compressed block");
+      }
+
+      int token = source[sourceIndex++] & 0xFF;
+      int literalsLength = token >>> 4;
+
+      if (literalsLength == RUN_MASK) {
+        int nextByte;
+        do {
+          if (sourceIndex >= sourceEnd) {
+            throw newDecompressionException("Unexpected end of compressed block");
+          }
+          nextByte = source[sourceIndex++] & 0xFF;
+          literalsLength += nextByte;
+        }
+        while (nextByte == 255);
+      }
+
+      if (literalsLength > sourceEnd - sourceIndex || literalsLength > targetEnd - targetIndex) {
+        throw newDecompressionException("Invalid literals length [%d]", literalsLength);
+      }
+
+      System.arraycopy(source, sourceIndex, target, targetIndex, literalsLength);
+      sourceIndex += literalsLength;
+      targetIndex += literalsLength;
+
+      if (sourceIndex == sourceEnd) {
+
+        if (targetIndex != targetEnd) {
+          throw newDecompressionException("Compressed block decompressed to [%1$d] bytes; expected [%2$d]",
+            targetIndex - targetStart, targetEnd - targetStart);
+        }
+
+        return;
+      }
+
+      if (sourceEnd - sourceIndex < 2) {
+        throw newDecompressionException("Unexpected end of compressed block");
+      }
+
+      int offset = (source[sourceIndex] & 0xFF) | (source[sourceIndex + 1] & 0xFF) << 8;
+
+      sourceIndex += 2;
+
+      int matchLength = token & RUN_MASK;
+
+      if (matchLength == RUN_MASK) {
+        int nextByte;
+        do {
+          if (sourceIndex >= sourceEnd) {
+            throw newDecompressionException("Unexpected end of compressed block");
+          }
+          nextByte = source[sourceIndex++] & 0xFF;
+          matchLength += nextByte;
+        }
+        while (nextByte == 255);
+      }
+
+      matchLength += MIN_MATCH;
+
+      int reference = targetIndex - offset;
+
+      if (offset == 0 || reference < targetStart || matchLength > targetEnd - targetIndex) {
+        throw newDecompressionException("Invalid match offset [%1$d] or length [%2$d]", offset, matchLength);
+      }
+
+      if (offset >= matchLength) {
+        System.arraycopy(target, reference, target, targetIndex, matchLength);
+        targetIndex += matchLength;
+      }
+      else {
+        // Overlapping matches repeat the most recently decompressed bytes.
+        for (int end = targetIndex + matchLength; targetIndex < end; ) {
+          target[targetIndex++] = target[reference++];
+        }
+      }
+    }
+  }
+
+  private final int blockSize;
+
+  /**
+   * Constructs a new {@link Lz4Compressor} using {@literal 64 KB} {@literal blocks}.
+   * <p>
+   * Used by the {@link java.util.ServiceLoader} to instantiate this {@link Compressor} as a service provider.
+   */
+  public Lz4Compressor() {
+    this(DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Constructs a new {@link Lz4Compressor} using {@literal blocks} of the given {@link Integer size}.
+   *
+   * @param blockSize {@link Integer} specifying the number of uncompressed bytes per {@literal block};
+   * must be greater than {@literal 0} and not greater than {@literal 4 MB}.
+   * @throws IllegalArgumentException if the {@code blockSize} is not valid.
+   */
+  public Lz4Compressor(int blockSize) {
+
+    Assert.isTrue(blockSize > 0 && blockSize <= MAX_BLOCK_SIZE,
+      "Block size [%1$d] must be greater than 0 and less than equal to [%2$d]", blockSize, MAX_BLOCK_SIZE);
+
+    this.blockSize = blockSize;
+  }
+
+  /**
+   * Returns the number of uncompressed bytes per {@literal block}.
+   *
+   * @return the number of uncompressed bytes per {@literal block}.
+   */
+  public int getBlockSize() {
+    return this.blockSize;
+  }
+
+  @Override
+  public @NotNull byte[] compress(@NotNull byte[] input) {
+
+    Assert.notNull(input, "An array of bytes to compress is required");
+
+    int blockSize = getBlockSize();
+    int blockCount = (input.length + blockSize - 1) / blockSize;
+
+    byte[] block = new byte[maxCompressedLength(Math.min(blockSize, input.length))];
+    byte[] output = new byte[maxCompressedLength(input.length)
+      + blockCount * CompressedBlocks.MAX_VAR_INT_LENGTH * 2 + 1];
+
+    int outputLength = 0;
+
+    for (int index = 0; index < input.length; index += blockSize) {
+
+      int length = Math.min(blockSize, input.length - index);
+      int compressedLength = compressBlock(input, index, length, block, 0);
+
+      if (compressedLength < length) {
+        outputLength = CompressedBlocks.writeVarInt(output, outputLength, length);
+        outputLength = CompressedBlocks.writeVarInt(output, outputLength, compressedLength);
+        System.arraycopy(block, 0, output, outputLength, compressedLength);
+        outputLength += compressedLength;
+      }
+      else {
+        outputLength = CompressedBlocks.writeVarInt(output, outputLength, length);
+        outputLength = CompressedBlocks.writeVarInt(output, outputLength, length);
+        System.arraycopy(input, index, output, outputLength, length);
+        outputLength += length;
+      }
+    }
+
+    output[outputLength++] = CompressedBlocks.END_OF_BLOCKS;
+
+    return Arrays.copyOf(output, outputLength);
+  }
+
+  @Override
+  public void compress(@NotNull InputStream in, @NotNull OutputStream out) {
+
+    Assert.notNull(in, "InputStream is required");
+    Assert.notNull(out, "OutputStream is required");
+
+    try {
+      byte[] input = new byte[getBlockSize()];
+      byte[] block = new byte[maxCompressedLength(getBlockSize())];
+
+      for (int length = in.readNBytes(input, 0, input.length); length > 0;
+          length = in.readNBytes(input, 0, input.length)) {
+
+        int compressedLength = compressBlock(input, 0, length, block, 0);
+
+        if (compressedLength < length) {
+          CompressedBlocks.writeHeader(out, length, compressedLength);
+          out.write(block, 0, compressedLength);
+        }
+        else {
+          CompressedBlocks.writeHeader(out, length, length);
+          out.write(input, 0, length);
+        }
+      }
+
+      out.write(CompressedBlocks.END_OF_BLOCKS);
+    }
+    catch (IOException cause) {
+      throw newCompressionException(cause, "Failed to compress input");
+    }
+  }
+
+  @Override
+  public @NotNull byte[] decompress(@NotNull byte[] input) {
+
+    Assert.notNull(input, "An array of bytes to decompress is required");
+
+    int[] position = { 0 };
+    long outputLength = 0;
+
+    // Sum the uncompressed lengths of all blocks first so the output can be allocated exactly once.
+    for (int length = CompressedBlocks.readVarInt(input, position); length != CompressedBlocks.END_OF_BLOCKS;
+        length = CompressedBlocks.readVarInt(input, position)) {
+
+      int storedLength = assertValidBlock(length, CompressedBlocks.readVarInt(input, position));
+
+      if (storedLength > input.length - position[0]) {
+        throw newDecompressionException("Unexpected end of compressed input");
+      }
+
+      position[0] += storedLength;
+      outputLength += length;
+    }
+
+    if (outputLength > Integer.MAX_VALUE - 8) {
+      throw newDecompressionException("Decompressed length [%d] is too large for an array", outputLength);
+    }
+
+    byte[] output = new byte[(int) outputLength];
+
+    position[0] = 0;
+
+    for (int outputIndex = 0; outputIndex < output.length; ) {
+
+      int length = CompressedBlocks.readVarInt(input, position);
+      int storedLength = CompressedBlocks.readVarInt(input, position);
+
+      if (storedLength == length) {
+        System.arraycopy(input, position[0], output, outputIndex, length);
+      }
+      else {
+        decompressBlock(input, position[0], position[0] + storedLength, output, outputIndex, outputIndex + length);
+      }
+
+      position[0] += storedLength;
+      outputIndex += length;
+    }
+
+    return output;
+  }
+
+  @Override
+  public void decompress(@NotNull InputStream in, @NotNull OutputStream out) {
+
+    Assert.notNull(in, "InputStream is required");
+    Assert.notNull(out, "OutputStream is required");
+
+    try {
+      byte[] output = new byte[0];
+
+      for (int length = CompressedBlocks.readVarInt(in, false); length != CompressedBlocks.END_OF_BLOCKS;
+          length = CompressedBlocks.readVarInt(in, false)) {
+
+        int storedLength = assertValidBlock(length, CompressedBlocks.readVarInt(in, false));
+
+        byte[] stored = CompressedBlocks.readFully(in, storedLength);
+
+        if (storedLength == length) {
+          out.write(stored);
+        }
+        else {
+          output = output.length < length ? new byte[length] : output;
+          decompressBlock(stored, 0, storedLength, output, 0, length);
+          out.write(output, 0, length);
+        }
+      }
+    }
+    catch (IOException cause) {
+      throw newDecompressionException(cause, "Failed to decompress input");
+    }
+  }
+
+  private int assertValidBlock(int length, int storedLength) {
+
+    if (length > MAX_BLOCK_SIZE || storedLength > length) {
+      throw newDecompressionException("Invalid block lengths; uncompressed [%1$d], stored [%2$d]",
+        length, storedLength);
+    }
+
+    return storedLength;
+  }
+}
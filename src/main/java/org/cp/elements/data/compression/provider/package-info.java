@@ -14,12 +14,15 @@
  * limitations under the License.
  */
 /**
- * The Elements {@literal data.compression.provider} package contains a provider implementation of the Elements
+ * The Elements {@literal data.compression.provider} package contains provider implementations of the Elements
  * {@link org.cp.elements.data.compression.Compressor} interface.
  *
  * @author John Blum
  * @see org.cp.elements.data.compression.Compressor
+ * @see org.cp.elements.data.compression.provider.BlockParallelCompressor
+ * @see org.cp.elements.data.compression.provider.DictionaryDeflaterCompressor
  * @see org.cp.elements.data.compression.provider.JavaDeflaterInflaterCompressor
+ * @see org.cp.elements.data.compression.provider.Lz4Compressor
  * @since 1.0.0
  */
 package org.cp.elements.data.compression.provider;
@@ -115,5 +115,16 @@ public interface ConversionService extends ConverterRegistry {
     default Class<ConversionService> getType() {
       return ConversionService.class;
     }
+
+    /**
+     * Returns {@literal false} since {@link Converter Converters} are registered with
+     * a {@link ConversionService}, so each lookup returns a new instance.
+     *
+     * @return {@literal false}.
+     */
+    @Override
+    default boolean isServiceInstanceCachingEnabled() {
+      return false;
+    }
   }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.serialization;
+
+import static org.cp.elements.lang.ElementsExceptionsFactory.newDeserializationException;
+import static org.cp.elements.lang.ElementsExceptionsFactory.newSerializationException;
+
+import java.nio.ByteBuffer;
+
+import org.cp.elements.data.compression.CompressionException;
+import org.cp.elements.data.compression.Compressor;
+import org.cp.elements.data.compression.DecompressionException;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.NullSafe;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * {@link Serializer} implementation compressing the bytes of {@link Object Objects} serialized by
+ * a delegate {@link Serializer} with a {@link Compressor}.
+ * <p>
+ * Combined with a {@link Compressor#withDictionary(org.cp.elements.data.compression.CompressionDictionary)
+ * dictionary-based Compressor}, small, similar {@link Object Objects}, such as cache values or messages,
+ * can be stored in a fraction of their serialized size.
+ *
+ * @author John Blum
+ * @see org.cp.elements.data.compression.Compressor
+ * @see org.cp.elements.data.serialization.Serializer
+ * @since 3.0.0
+ */
+public class CompressingSerializer implements Serializer {
+
+  /**
+   * Factory method used to construct a new {@link CompressingSerializer} compressing the bytes of {@link Object Objects}
+   * serialized by the given {@link Serializer} with the given {@link Compressor}.
+   *
+   * @param serializer {@link Serializer} used to serialize {@link Object Objects}; must not be {@literal null}.
+   * @param compressor {@link Compressor} used to compress the serialized bytes; must not be {@literal null}.
+   * @return a new {@link CompressingSerializer}.
+   * @throws IllegalArgumentException if the {@link Serializer} or {@link Compressor} is {@literal null}.
+   */
+  public static @NotNull CompressingSerializer of(@NotNull Serializer serializer, @NotNull Compressor compressor) {
+    return new CompressingSerializer(serializer, compressor);
+  }
+
+  private final Compressor compressor;
+
+  private final Serializer serializer;
+
+  /**
+   * Constructs a new {@link CompressingSerializer} compressing the bytes of {@link Object Objects}
+   * serialized by the given {@link Serializer} with the given {@link Compressor}.
+   *
+   * @param serializer {@link Serializer} used to serialize {@link Object Objects}; must not be {@literal null}.
+   * @param compressor {@link Compressor} used to compress the serialized bytes; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Serializer} or {@link Compressor} is {@literal null}.
+   */
+  public CompressingSerializer(@NotNull Serializer serializer, @NotNull Compressor compressor) {
+
+    Assert.notNull(serializer, "Serializer is required");
+    Assert.notNull(compressor, "Compressor is required");
+
+    this.serializer = serializer;
+    this.compressor = compressor;
+  }
+
+  /**
+   * Returns the {@link Compressor} used to compress the serialized bytes.
+   *
+   * @return the {@link Compressor} used to compress the serialized bytes.
+   */
+  public @NotNull Compressor getCompressor() {
+    return this.compressor;
+  }
+
+  /**
+   * Returns the {@link Serializer} used to serialize {@link Object Objects}.
+   *
+   * @return the {@link Serializer} used to serialize {@link Object Objects}.
+   */
+  public @NotNull Serializer getSerializer() {
+    return this.serializer;
+  }
+
+  @NullSafe
+  @Override
+  public boolean isSerializable(@Nullable Object target) {
+    return getSerializer().isSerializable(target);
+  }
+
+  @Override
+  public @NotNull ByteBuffer serialize(@NotNull Object target) {
+
+    byte[] bytes = getSerializer().toByteArray(target);
+
+    try {
+      return ByteBuffer.wrap(getCompressor().compress(bytes));
+    }
+    catch (CompressionException cause) {
+      throw newSerializationException(cause, "Failed to compress serialized object [%s]", target);
+    }
+  }
+
+  @Override
+  public @NotNull <T> T deserialize(@NotNull ByteBuffer bytes) {
+
+    Assert.notNull(bytes, "The ByteBuffer containing the bytes of the object to deserialize is required");
+
+    ByteBuffer decompressedBytes;
+
+    try {
+      decompressedBytes = getCompressor().decompress(bytes);
+    }
+    catch (DecompressionException cause) {
+      throw newDeserializationException(cause, "Failed to decompress serialized object");
+    }
+
+    return getSerializer().deserialize(decompressedBytes);
+  }
+}
@@ -15,27 +15,60 @@
  */
 package org.cp.elements.data.serialization;
 
+import static org.cp.elements.lang.ElementsExceptionsFactory.newDeserializationException;
+import static org.cp.elements.lang.ElementsExceptionsFactory.newSerializationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.cp.elements.data.compression.Compressor;
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.lang.annotation.NullSafe;
 import org.cp.elements.lang.annotation.Nullable;
 import org.cp.elements.nio.BufferUtils;
+import org.cp.elements.nio.ByteBufferInputStream;
+import org.cp.elements.service.loader.ServiceLoaderSupport;
 
 /**
  * Interface defining a contract for serializing and deserializing {@link Object Objects}
  * to and from a sequence of bytes.
+ * <p>
+ * {@link Serializer} implementations are {@literal Service Provider Implementations (SPI)} discovered with
+ * the {@link Serializer.Loader}.
  *
  * @author John Blum
  * @see java.io.Serializable
  * @see java.nio.ByteBuffer
+ * @see org.cp.elements.service.loader.ServiceLoaderSupport
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
 public interface Serializer {
 
+  AtomicReference<Loader> LOADER_REFERENCE = new AtomicReference<>(null);
+
+  /**
+   * Gets a reference to the {@link Serializer.Loader} used to load
+   * the {@literal Service Provider Implementation (SPI)} of this {@link Serializer}.
+   *
+   * @return a reference to the {@link Serializer.Loader} used to load
+   * the {@literal Service Provider Implementation (SPI)} of this {@link Serializer}.
+   * @see org.cp.elements.data.serialization.Serializer.Loader
+   */
+  static @NotNull Serializer.Loader getLoader() {
+    return LOADER_REFERENCE.updateAndGet(it -> it != null ? it : new Serializer.Loader() { });
+  }
+
   /**
    * Determines whether the given {@link Object} is {@link #serialize(Object) serializable}, or rather, whether
    * the given {@link Object} can be serialized into a sequence of bytes by this {@link Serializer}.
@@ -59,8 +92,25 @@ public interface Serializer {
     return target instanceof Serializable;
   }
 
+  /**
+   * Returns a {@link Serializer} compressing the bytes of {@link Object Objects} serialized by this {@link Serializer}
+   * with the given, required {@link Compressor}.
+   *
+   * @param compressor {@link Compressor} used to compress the serialized bytes; must not be {@literal null}.
+   * @return a {@link Serializer} compressing the serialized bytes.
+   * @throws IllegalArgumentException if the {@link Compressor} is {@literal null}.
+   * @see org.cp.elements.data.serialization.CompressingSerializer
+   * @see org.cp.elements.data.compression.Compressor
+   */
+  default @NotNull Serializer compressedWith(@NotNull Compressor compressor) {
+    return CompressingSerializer.of(this, compressor);
+  }
+
   /**
    * Serializes the given {@link Object} directly into a byte array.
+   * <p>
+   * The backing array of a writable, heap {@link ByteBuffer} is returned as is; only {@literal read-only}
+   * or {@literal direct} {@link ByteBuffer ByteBuffers} are copied.
    *
    * @param target {@link Object} to serialize.
    * @return an array of bytes from serializing the given, target {@link Object}.
@@ -74,9 +124,9 @@ public interface Serializer {
 
     ByteBuffer buffer = serialize(target);
 
-    return buffer.isReadOnly()
-      ? BufferUtils.getByteArray(buffer)
-      : buffer.array();
+    return buffer.hasArray()
+      ? buffer.array()
+      : BufferUtils.getByteArray(buffer);
   }
 
   /**
@@ -90,6 +140,82 @@ public interface Serializer {
    */
   ByteBuffer serialize(Object target);
 
+  /**
+   * Serializes the given, target {@link Object} by writing the sequence of bytes directly to
+   * the given {@link OutputStream}.
+   * <p>
+   * The {@link OutputStream} is neither flushed nor closed by this method. The default implementation
+   * {@link #serialize(Object) serializes} the {@link Object} into a {@link ByteBuffer} first. {@link Serializer}
+   * implementations capable of streaming should override this method to avoid the intermediate {@link ByteBuffer}.
+   *
+   * @param target {@link Object} to serialize.
+   * @param out {@link OutputStream} to write the sequence of bytes to; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link OutputStream} is {@literal null}.
+   * @throws SerializationException if the {@link Object} cannot be serialized or written.
+   * @see java.io.OutputStream
+   * @see #serialize(Object)
+   */
+  default void serialize(Object target, @NotNull OutputStream out) {
+
+    Assert.notNull(out, "OutputStream is required");
+
+    ByteBuffer buffer = serialize(target);
+
+    try {
+      new ByteBufferInputStream(buffer).transferTo(out);
+    }
+    catch (IOException cause) {
+      throw newSerializationException(cause, "Failed to write serialized object [%s]", target);
+    }
+  }
+
+  /**
+   * Serializes the given, target {@link Object} by writing the sequence of bytes directly to
+   * the given {@link WritableByteChannel}.
+   * <p>
+   * The {@link WritableByteChannel} is not closed by this method.
+   *
+   * @param target {@link Object} to serialize.
+   * @param channel {@link WritableByteChannel} to write the sequence of bytes to; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link WritableByteChannel} is {@literal null}.
+   * @throws SerializationException if the {@link Object} cannot be serialized or written.
+   * @see java.nio.channels.WritableByteChannel
+   * @see #serialize(Object, OutputStream)
+   */
+  default void serialize(Object target, @NotNull WritableByteChannel channel) {
+
+    Assert.notNull(channel, "WritableByteChannel is required");
+
+    serialize(target, Channels.newOutputStream(channel));
+  }
+
+  /**
+   * Serializes all {@link Object Objects} in the given {@link Iterable} in order.
+   * <p>
+   * Serializing a batch allows {@link Serializer} implementations to reuse buffers and other resources
+   * across all {@link Object Objects} in the batch.
+   *
+   * @param targets {@link Iterable} of {@link Object Objects} to serialize.
+   * @return a {@link List} of {@link ByteBuffer ByteBuffers} encapsulating the sequence of bytes
+   * of each serialized {@link Object}, in the order of the given {@link Iterable};
+   * returns an empty {@link List} if the {@link Iterable} is {@literal null}.
+   * @see #serialize(Object)
+   * @see java.lang.Iterable
+   */
+  @NullSafe
+  default @NotNull List<ByteBuffer> serializeAll(@Nullable Iterable<?> targets) {
+
+    List<ByteBuffer> buffers = new ArrayList<>();
+
+    if (targets != null) {
+      for (Object target : targets) {
+        buffers.add(serialize(target));
+      }
+    }
+
+    return Collections.unmodifiableList(buffers);
+  }
+
   /**
    * Deserializes the given sequence of bytes encapsulated by the given {@link ByteBuffer} into an {@link Object}
    * of the declared {@link T type}.
@@ -102,4 +228,59 @@ public interface Serializer {
    */
   <T> T deserialize(ByteBuffer bytes);
 
+  /**
+   * Deserializes an {@link Object} of the declared {@link T type} by reading the sequence of bytes
+   * from the given {@link InputStream}.
+   * <p>
+   * The {@link InputStream} is not closed by this method. The default implementation reads all remaining bytes
+   * from the {@link InputStream} before {@link #deserialize(ByteBuffer) deserializing}.
+   *
+   * @param <T> {@link Class type} of {@link Object} reconstructed from the sequence of bytes.
+   * @param in {@link InputStream} to read the sequence of bytes from; must not be {@literal null}.
+   * @return the deserialized {@link Object} of the given {@link T type}.
+   * @throws IllegalArgumentException if the {@link InputStream} is {@literal null}.
+   * @throws DeserializationException if the {@link Object} cannot be read or deserialized.
+   * @see #deserialize(ByteBuffer)
+   * @see java.io.InputStream
+   */
+  default <T> T deserialize(@NotNull InputStream in) {
+
+    Assert.notNull(in, "InputStream is required");
+
+    try {
+      return deserialize(ByteBuffer.wrap(in.readAllBytes()));
+    }
+    catch (IOException cause) {
+      throw newDeserializationException(cause, "Failed to read serialized object");
+    }
+  }
+
+  /**
+   * {@link ServiceLoaderSupport} implementation used to load the {@link Serializer}
+   * provider implementation (SPI).
+   *
+   * @see org.cp.elements.service.loader.ServiceLoaderSupport
+   */
+  interface Loader extends ServiceLoaderSupport<Serializer> {
+
+    @Override
+    default Class<Serializer> getType() {
+      return Serializer.class;
+    }
+
+    /**
+     * Gets the first configured and available {@link Serializer} capable of {@link #isSerializable(Object)
+     * serializing} the given, target {@link Object}.
+     *
+     * @param target {@link Object} to serialize.
+     * @return the first {@link Serializer} capable of serializing the given {@link Object}.
+     * @throws org.cp.elements.service.ServiceUnavailableException if no {@link Serializer} is capable of
+     * serializing the given {@link Object}.
+     * @see Serializer#isSerializable(Object)
+     * @see #getServiceInstance(java.util.function.Predicate)
+     */
+    default @NotNull Serializer getServiceInstance(@Nullable Object target) {
+      return getServiceInstance(serializer -> serializer.isSerializable(target));
+    }
+  }
 }
@@ -0,0 +1,1121 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.serialization.provider;
+
+import static org.cp.elements.lang.ElementsExceptionsFactory.newDeserializationException;
+import static org.cp.elements.lang.ElementsExceptionsFactory.newSerializationException;
+
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.cp.elements.beans.model.BeanMetadata;
+import org.cp.elements.data.serialization.DeserializationException;
+import org.cp.elements.data.serialization.Serializer;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.NullSafe;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.Qualifier;
+import org.cp.elements.lang.annotation.ThreadSafe;
+import org.cp.elements.lang.annotation.Transient;
+
+/**
+ * {@link Serializer} implementation using a compact, tagged binary format for Java {@link Record records}
+ * and {@literal JavaBeans} modeled by the Elements {@literal beans.model} package.
+ * <p>
+ * Unlike {@link JavaSerializationSerializer}, this {@link Serializer} does not require {@link Object Objects}
+ * to implement {@link java.io.Serializable}. The {@literal schema} of a {@link Class type}, that is, the record
+ * components or the readable, writable and non-{@literal transient} bean properties, is computed once
+ * and cached per {@link Class type}. The property names of each {@link Class type} are written only once
+ * per serialized {@link Object} graph, and values are matched to properties by name when deserialized,
+ * so properties may be added, removed or reordered between versions of a {@link Class type}.
+ * <p>
+ * Property values may be {@literal null}, primitive wrappers, {@link String Strings}, {@link Enum Enums},
+ * {@link BigInteger}, {@link BigDecimal}, {@link UUID}, {@link Date}, {@link Instant}, {@link LocalDate},
+ * {@link LocalTime}, {@link LocalDateTime}, arrays, {@link List Lists}, {@link Set Sets}, {@link Map Maps},
+ * and other {@link Record records} or beans. {@link Collection Collections} are deserialized as {@link ArrayList},
+ * {@link LinkedHashSet} or {@link TreeSet}, and {@link Map Maps} as {@link LinkedHashMap} or {@link TreeMap}
+ * in natural order, so sorted {@link Set Sets} and {@link Map Maps} ordered by a {@link Comparator} are rejected.
+ * Object graphs must not contain cycles.
+ * <p>
+ * Deserialization only resolves {@link Class types} named in the serialized bytes when the {@link Class type}
+ * is one of the supported value types listed above, was explicitly {@link #allowing(Class[]) allowed},
+ * is the {@link #deserialize(ByteBuffer, Class) expected type}, or is the declared {@link Class type}
+ * of a property of a {@link Class type} already resolved. All other {@link Class types} are rejected
+ * with a {@link DeserializationException} before they are loaded.
+ * <p>
+ * Encoding reuses a per-{@link Thread} buffer, so {@link #serialize(Object, OutputStream) streaming}
+ * and {@link #serializeAll(Iterable) batch} serialization do not allocate per {@link Object}
+ * beyond the encoded bytes.
+ *
+ * @author John Blum
+ * @see java.lang.Record
+ * @see org.cp.elements.beans.model.BeanMetadata
+ * @see org.cp.elements.data.serialization.Serializer
+ * @since 3.0.0
+ */
+@ThreadSafe
+@Qualifier(name = "binary")
+@SuppressWarnings("unused")
+public class BinarySerializer implements Serializer {
+
+  protected static final int DEFAULT_BUFFER_SIZE = 1024;
+  protected static final int MAX_DEPTH = 512;
+  protected static final int MAX_REUSED_BUFFER_SIZE = 1024 * 1024;
+
+  private static final byte NULL = 0;
+  private static final byte TRUE = 1;
+  private static final byte FALSE = 2;
+  private static final byte BYTE = 3;
+  private static final byte SHORT = 4;
+  private static final byte CHARACTER = 5;
+  private static final byte INTEGER = 6;
+  private static final byte LONG = 7;
+  private static final byte FLOAT = 8;
+  private static final byte DOUBLE = 9;
+  private static final byte STRING = 10;
+  private static final byte BYTE_ARRAY = 11;
+  private static final byte BIG_INTEGER = 12;
+  private static final byte BIG_DECIMAL = 13;
+  private static final byte UUID_TYPE = 14;
+  private static final byte DATE = 15;
+  private static final byte INSTANT = 16;
+  private static final byte LOCAL_DATE = 17;
+  private static final byte LOCAL_TIME = 18;
+  private static final byte LOCAL_DATE_TIME = 19;
+  private static final byte ENUM = 20;
+  private static final byte ARRAY = 21;
+  private static final byte LIST = 22;
+  private static final byte SET = 23;
+  private static final byte SORTED_SET = 24;
+  private static final byte MAP = 25;
+  private static final byte SORTED_MAP = 26;
+  private static final byte OBJECT = 27;
+
+  private static final Map<String, Class<?>> PRIMITIVE_TYPES = Map.of(
+    "boolean", Boolean.TYPE, "byte", Byte.TYPE, "char", Character.TYPE, "short", Short.TYPE,
+    "int", Integer.TYPE, "long", Long.TYPE, "float", Float.TYPE, "double", Double.TYPE);
+
+  private static final Set<String> SUPPORTED_TYPE_NAMES = Stream.of(Object.class, Boolean.class, Byte.class,
+      Short.class, Character.class, Integer.class, Long.class, Float.class, Double.class, Number.class, String.class,
+      BigInteger.class, BigDecimal.class, UUID.class, Date.class, Instant.class, LocalDate.class, LocalTime.class,
+      LocalDateTime.class, Collection.class, List.class, Set.class, SortedSet.class, Map.class, SortedMap.class)
+    .map(Class::getName)
+    .collect(Collectors.toUnmodifiableSet());
+
+  private static final String PRIMITIVE_TYPE_DESCRIPTORS = "ZBCSIJFD";
+
+  private static final ClassValue<Optional<Schema>> SCHEMA_CACHE = new ClassValue<>() {
+
+    @Override
+    protected Optional<Schema> computeValue(Class<?> type) {
+      return Optional.ofNullable(Schema.from(type));
+    }
+  };
+
+  public static final BinarySerializer INSTANCE = new BinarySerializer();
+
+  private final Set<String> allowedTypeNames;
+
+  private final ThreadLocal<Encoder> encoders = ThreadLocal.withInitial(Encoder::new);
+
+  /**
+   * Constructs a new {@link BinarySerializer} allowing no {@link Record record}, bean or {@link Enum}
+   * {@link Class types} to be deserialized.
+   *
+   * @see #allowing(Class[])
+   */
+  public BinarySerializer() {
+    this(Collections.emptySet());
+  }
+
+  private BinarySerializer(@NotNull Set<String> allowedTypeNames) {
+    this.allowedTypeNames = allowedTypeNames;
+  }
+
+  /**
+   * Returns the cached {@link Schema} for the given {@link Class type}.
+   *
+   * @param type {@link Class type} of the {@link Record record} or bean.
+   * @return the cached {@link Schema} for the given {@link Class type}, or {@literal null}
+   * if the {@link Class type} is neither a {@link Record record} nor a bean.
+   */
+  static @Nullable Schema schemaFor(@NotNull Class<?> type) {
+    return SCHEMA_CACHE.get(type).orElse(null);
+  }
+
+  /**
+   * Returns a new {@link BinarySerializer} additionally allowing the given {@link Class types}
+   * to be deserialized.
+   *
+   * @param types array of {@link Record record}, bean or {@link Enum} {@link Class types}
+   * allowed to be deserialized; must not be {@literal null}.
+   * @return a new {@link BinarySerializer} allowing the given {@link Class types} to be deserialized.
+   * @throws IllegalArgumentException if the array or any {@link Class type} is {@literal null}.
+   */
+  public @NotNull BinarySerializer allowing(@NotNull Class<?>... types) {
+
+    Assert.notNull(types, "The array of types to allow is required");
+
+    Set<String> allowedTypeNames = new HashSet<>(this.allowedTypeNames);
+
+    for (Class<?> type : types) {
+      allowedTypeNames.add(ObjectUtils.requireObject(type, "The type to allow is required").getName());
+    }
+
+    return new BinarySerializer(Collections.unmodifiableSet(allowedTypeNames));
+  }
+
+  /**
+   * Determines whether the given {@link Object} is a {@link Record record} or bean
+   * that can be serialized by this {@link Serializer}.
+   *
+   * @param target {@link Object} to evaluate.
+   * @return a boolean value indicating whether the given {@link Object} is a {@link Record record} or bean.
+   */
+  @NullSafe
+  @Override
+  public boolean isSerializable(@Nullable Object target) {
+    return target != null && schemaFor(target.getClass()) != null;
+  }
+
+  @Override
+  public @NotNull ByteBuffer serialize(@NotNull Object target) {
+
+    Assert.notNull(target, "The object to serialize is required");
+
+    Encoder encoder = acquireEncoder();
+
+    try {
+      encoder.writeValue(target, 0);
+      return ByteBuffer.wrap(Arrays.copyOf(encoder.buffer, encoder.size));
+    }
+    finally {
+      releaseEncoder(encoder);
+    }
+  }
+
+  @Override
+  public void serialize(@NotNull Object target, @NotNull OutputStream out) {
+
+    Assert.notNull(target, "The object to serialize is required");
+    Assert.notNull(out, "OutputStream is required");
+
+    Encoder encoder = acquireEncoder();
+
+    try {
+      encoder.writeValue(target, 0);
+      out.write(encoder.buffer, 0, encoder.size);
+    }
+    catch (IOException cause) {
+      throw newSerializationException(cause, "Failed to write serialized object [%s]", target);
+    }
+    finally {
+      releaseEncoder(encoder);
+    }
+  }
+
+  private @NotNull Encoder acquireEncoder() {
+
+    Encoder encoder = this.encoders.get();
+
+    // A nested serialization (e.g. from a bean getter) must not clobber the buffer in use.
+    return encoder.inUse ? new Encoder() : encoder.acquire();
+  }
+
+  private void releaseEncoder(@NotNull Encoder encoder) {
+    encoder.release();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull <T> T deserialize(@NotNull ByteBuffer bytes) {
+    return (T) decode(bytes, null);
+  }
+
+  /**
+   * Deserializes the given sequence of bytes into an {@link Object} of the given, expected {@link Class type}.
+   * <p>
+   * The expected {@link Class type} is allowed to be deserialized in addition to
+   * the {@link #allowing(Class[]) allowed types}.
+   *
+   * @param <T> {@link Class type} of {@link Object} reconstructed from the sequence of bytes.
+   * @param bytes {@link ByteBuffer} encapsulating the sequence of bytes to deserialize; must not be {@literal null}.
+   * @param type expected {@link Class type} of the deserialized {@link Object}; must not be {@literal null}.
+   * @return the deserialized {@link Object} of the expected {@link Class type}.
+   * @throws IllegalArgumentException if the {@link ByteBuffer} or expected {@link Class type} is {@literal null}.
+   * @throws DeserializationException if the bytes cannot be deserialized into an {@link Object}
+   * of the expected {@link Class type}.
+   * @see #deserialize(ByteBuffer)
+   */
+  public @NotNull <T> T deserialize(@NotNull ByteBuffer bytes, @NotNull Class<T> type) {
+
+    Assert.notNull(type, "The expected type of the object to deserialize is required");
+
+    Object value = decode(bytes, type);
+
+    if (value != null && !type.isInstance(value)) {
+      throw newDeserializationException("Deserialized object of type [%1$s] is not an instance of type [%2$s]",
+        value.getClass().getName(), type.getName());
+    }
+
+    return type.cast(value);
+  }
+
+  private @Nullable Object decode(@NotNull ByteBuffer bytes, @Nullable Class<?> expectedType) {
+
+    Assert.notNull(bytes, "The ByteBuffer containing the bytes of the object to deserialize is required");
+
+    ByteBuffer buffer = bytes.duplicate();
+
+    if (!buffer.hasRemaining()) {
+      throw newDeserializationException("No bytes to deserialize");
+    }
+
+    Decoder decoder = new Decoder(buffer, this.allowedTypeNames);
+
+    if (expectedType != null) {
+      decoder.permit(expectedType);
+    }
+
+    try {
+      return decoder.readValue(0);
+    }
+    catch (DeserializationException cause) {
+      throw cause;
+    }
+    catch (RuntimeException cause) {
+      throw newDeserializationException(cause, "Failed to deserialize object from bytes");
+    }
+  }
+
+  @Override
+  public @NotNull <T> T deserialize(@NotNull InputStream in) {
+
+    Assert.notNull(in, "InputStream is required");
+
+    try {
+      return deserialize(ByteBuffer.wrap(in.readAllBytes()));
+    }
+    catch (IOException cause) {
+      throw newDeserializationException(cause, "Failed to read serialized object from InputStream");
+    }
+  }
+
+  /**
+   * Cached {@literal schema} of a {@link Record record} or bean {@link Class type}.
+   */
+  static final class Schema {
+
+    private static boolean isTransient(@Nullable AnnotatedElement element) {
+
+      return element != null
+        && (element.isAnnotationPresent(Transient.class) || element.isAnnotationPresent(java.beans.Transient.class));
+    }
+
+    private static boolean isBeanType(@NotNull Class<?> type) {
+
+      String typeName = type.getName();
+
+      return !(type.isArray() || type.isEnum() || type.isInterface() || type.isPrimitive()
+        || Modifier.isAbstract(type.getModifiers())
+        || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)
+        || typeName.startsWith("java.") || typeName.startsWith("javax.") || typeName.startsWith("jdk."));
+    }
+
+    static @Nullable Schema from(@NotNull Class<?> type) {
+
+      try {
+        return type.isRecord() ? fromRecord(type)
+          : isBeanType(type) ? fromBean(type)
+          : null;
+      }
+      catch (RuntimeException | NoSuchMethodException ignore) {
+        return null;
+      }
+    }
+
+    private static @NotNull Schema fromRecord(@NotNull Class<?> type) throws NoSuchMethodException {
+
+      RecordComponent[] components = type.getRecordComponents();
+
+      String[] names = new String[components.length];
+      Class<?>[] types = new Class<?>[components.length];
+      Method[] accessors = new Method[components.length];
+
+      for (int index = 0; index < components.length; index++) {
+        names[index] = components[index].getName();
+        types[index] = components[index].getType();
+        accessors[index] = accessible(components[index].getAccessor());
+      }
+
+      return new Schema(type, names, types, accessors, null, accessible(type.getDeclaredConstructor(types)));
+    }
+
+    private static @Nullable Schema fromBean(@NotNull Class<?> type) throws NoSuchMethodException {
+
+      Constructor<?> constructor = accessible(type.getDeclaredConstructor());
+
+      BeanMetadata beanMetadata = BeanMetadata.from(type);
+
+      List<PropertyDescriptor> properties = new ArrayList<>();
+
+      for (PropertyDescriptor property : beanMetadata.getPropertyDescriptors()) {
+
+        Method readMethod = property.getReadMethod();
+        Method writeMethod = property.getWriteMethod();
+
+        if (readMethod != null && writeMethod != null
+            && !isTransient(readMethod) && !isTransient(writeMethod)
+            && !isTransientField(beanMetadata, property.getName())) {
+
+          properties.add(property);
+        }
+      }
+
+      if (properties.isEmpty()) {
+        return null;
+      }
+
+      int size = properties.size();
+
+      String[] names = new String[size];
+      Class<?>[] types = new Class<?>[size];
+      Method[] getters = new Method[size];
+      Method[] setters = new Method[size];
+
+      for (int index = 0; index < size; index++) {
+        PropertyDescriptor property = properties.get(index);
+        names[index] = property.getName();
+        types[index] = property.getPropertyType();
+        getters[index] = accessible(property.getReadMethod());
+        setters[index] = accessible(property.getWriteMethod());
+      }
+
+      return new Schema(type, names, types, getters, setters, constructor);
+    }
+
+    private static boolean isTransientField(@NotNull BeanMetadata beanMetadata, @NotNull String propertyName) {
+
+      Field field = beanMetadata.getField(propertyName);
+
+      return field != null && (Modifier.isTransient(field.getModifiers()) || isTransient(field));
+    }
+
+    private static <T extends AccessibleObject> T accessible(T member) {
+      member.trySetAccessible();
+      return member;
+    }
+
+    private final Class<?> type;
+
+    private final Constructor<?> constructor;
+
+    private final Map<String, Integer> indexes;
+
+    private final Method[] getters;
+    private final Method[] setters;
+
+    private final Class<?>[] types;
+
+    private final String[] names;
+
+    private Schema(@NotNull Class<?> type, @NotNull String[] names, @NotNull Class<?>[] types,
+        @NotNull Method[] getters, @Nullable Method[] setters, @NotNull Constructor<?> constructor) {
+
+      this.type = type;
+      this.names = names;
+      this.types = types;
+      this.getters = getters;
+      this.setters = setters;
+      this.constructor = constructor;
+      this.indexes = new LinkedHashMap<>(names.length * 2);
+
+      for (int index = 0; index < names.length; index++) {
+        this.indexes.put(names[index], index);
+      }
+    }
+
+    boolean isRecord() {
+      return this.setters == null;
+    }
+
+    int indexOf(@NotNull String name) {
+      return this.indexes.getOrDefault(name, -1);
+    }
+
+    @NotNull String[] getNames() {
+      return this.names;
+    }
+
+    @NotNull Class<?> getType() {
+      return this.type;
+    }
+
+    @NotNull Class<?>[] getTypes() {
+      return this.types;
+    }
+
+    @Nullable Object get(@NotNull Object target, int index) {
+
+      try {
+        return this.getters[index].invoke(target);
+      }
+      catch (IllegalAccessException | InvocationTargetException cause) {
+        throw newSerializationException(cause, "Failed to get property [%1$s] of object [%2$s]",
+          this.names[index], target);
+      }
+    }
+
+    @NotNull Object newInstance(@NotNull Object[] values) {
+
+      try {
+        if (isRecord()) {
+          for (int index = 0; index < values.length; index++) {
+            if (values[index] == null && this.types[index].isPrimitive()) {
+              values[index] = Array.get(Array.newInstance(this.types[index], 1), 0);
+            }
+          }
+
+          return this.constructor.newInstance(values);
+        }
+
+        Object bean = this.constructor.newInstance();
+
+        for (int index = 0; index < values.length; index++) {
+          if (values[index] != null || !this.types[index].isPrimitive()) {
+            this.setters[index].invoke(bean, values[index]);
+          }
+        }
+
+        return bean;
+      }
+      catch (ReflectiveOperationException | IllegalArgumentException cause) {
+        throw newDeserializationException(cause, "Failed to construct object of type [%s]", this.type.getName());
+      }
+    }
+  }
+
+  /**
+   * Encodes an {@link Object} graph into a reusable, growable byte array.
+   */
+  static final class Encoder {
+
+    private boolean inUse;
+
+    private byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+
+    private int size;
+
+    private final Map<Class<?>, Integer> typeIds = new IdentityHashMap<>();
+
+    @NotNull Encoder acquire() {
+      this.inUse = true;
+      return this;
+    }
+
+    void release() {
+
+      this.inUse = false;
+      this.size = 0;
+      this.typeIds.clear();
+
+      if (this.buffer.length > MAX_REUSED_BUFFER_SIZE) {
+        this.buffer = new byte[DEFAULT_BUFFER_SIZE];
+      }
+    }
+
+    private void ensureCapacity(int additionalBytes) {
+
+      int requiredCapacity = this.size + additionalBytes;
+
+      if (requiredCapacity > this.buffer.length) {
+        this.buffer = Arrays.copyOf(this.buffer, Math.max(requiredCapacity, this.buffer.length << 1));
+      }
+    }
+
+    void writeByte(int value) {
+      ensureCapacity(1);
+      this.buffer[this.size++] = (byte) value;
+    }
+
+    void writeBytes(@NotNull byte[] bytes) {
+      writeVarInt(bytes.length);
+      ensureCapacity(bytes.length);
+      System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+      this.size += bytes.length;
+    }
+
+    void writeVarInt(int value) {
+      writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    void writeVarLong(long value) {
+
+      ensureCapacity(10);
+
+      while ((value & ~0x7FL) != 0) {
+        this.buffer[this.size++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+
+      this.buffer[this.size++] = (byte) value;
+    }
+
+    void writeSignedVarLong(long value) {
+      writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeFixedLong(long value) {
+
+      ensureCapacity(8);
+
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        this.buffer[this.size++] = (byte) (value >>> shift);
+      }
+    }
+
+    void writeString(@NotNull String value) {
+      writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void writeType(@NotNull Class<?> type) {
+
+      Integer typeId = this.typeIds.get(type);
+
+      if (typeId != null) {
+        writeVarInt(typeId + 1);
+      }
+      else {
+        this.typeIds.put(type, this.typeIds.size());
+        writeVarInt(0);
+        writeString(type.getName());
+
+        Schema schema = schemaFor(type);
+
+        if (schema != null && !type.isEnum()) {
+          writeVarInt(schema.getNames().length);
+          for (String name : schema.getNames()) {
+            writeString(name);
+          }
+        }
+      }
+    }
+
+    void writeValue(@Nullable Object value, int depth) {
+
+      if (depth > MAX_DEPTH) {
+        throw newSerializationException("Object graph is cyclic or exceeds the maximum depth [%d]", MAX_DEPTH);
+      }
+
+      if (value == null) {
+        writeByte(NULL);
+      }
+      else if (value instanceof String string) {
+        writeByte(STRING);
+        writeString(string);
+      }
+      else if (value instanceof Integer integer) {
+        writeByte(INTEGER);
+        writeSignedVarLong(integer);
+      }
+      else if (value instanceof Long longValue) {
+        writeByte(LONG);
+        writeSignedVarLong(longValue);
+      }
+      else if (value instanceof Boolean booleanValue) {
+        writeByte(booleanValue ? TRUE : FALSE);
+      }
+      else if (value instanceof Double doubleValue) {
+        writeByte(DOUBLE);
+        writeFixedLong(Double.doubleToRawLongBits(doubleValue));
+      }
+      else if (value instanceof Float floatValue) {
+        writeByte(FLOAT);
+        writeVarInt(Float.floatToRawIntBits(floatValue));
+      }
+      else if (value instanceof Short shortValue) {
+        writeByte(SHORT);
+        writeSignedVarLong(shortValue);
+      }
+      else if (value instanceof Byte byteValue) {
+        writeByte(BYTE);
+        writeByte(byteValue);
+      }
+      else if (value instanceof Character character) {
+        writeByte(CHARACTER);
+        writeVarInt(character);
+      }
+      else if (value instanceof byte[] bytes) {
+        writeByte(BYTE_ARRAY);
+        writeBytes(bytes);
+      }
+      else if (value instanceof Enum<?> enumValue) {
+        writeByte(ENUM);
+        writeType(enumValue.getDeclaringClass());
+        writeVarInt(enumValue.ordinal());
+      }
+      else if (value instanceof BigInteger bigInteger) {
+        writeByte(BIG_INTEGER);
+        writeBytes(bigInteger.toByteArray());
+      }
+      else if (value instanceof BigDecimal bigDecimal) {
+        writeByte(BIG_DECIMAL);
+        writeBytes(bigDecimal.unscaledValue().toByteArray());
+        writeSignedVarLong(bigDecimal.scale());
+      }
+      else if (value instanceof UUID uuid) {
+        writeByte(UUID_TYPE);
+        writeFixedLong(uuid.getMostSignificantBits());
+        writeFixedLong(uuid.getLeastSignificantBits());
+      }
+      else if (value instanceof Instant instant) {
+        writeByte(INSTANT);
+        writeSignedVarLong(instant.getEpochSecond());
+        writeVarInt(instant.getNano());
+      }
+      else if (value instanceof LocalDate localDate) {
+        writeByte(LOCAL_DATE);
+        writeSignedVarLong(localDate.toEpochDay());
+      }
+      else if (value instanceof LocalTime localTime) {
+        writeByte(LOCAL_TIME);
+        writeVarLong(localTime.toNanoOfDay());
+      }
+      else if (value instanceof LocalDateTime localDateTime) {
+        writeByte(LOCAL_DATE_TIME);
+        writeSignedVarLong(localDateTime.toLocalDate().toEpochDay());
+        writeVarLong(localDateTime.toLocalTime().toNanoOfDay());
+      }
+      else if (value instanceof Date date) {
+        writeByte(DATE);
+        writeSignedVarLong(date.getTime());
+      }
+      else if (value.getClass().isArray()) {
+        writeArray(value, depth);
+      }
+      else if (value instanceof Collection<?> collection) {
+        if (collection instanceof SortedSet<?> sortedSet) {
+          assertNaturalOrdering(sortedSet, sortedSet.comparator());
+        }
+        writeByte(collection instanceof SortedSet ? SORTED_SET : collection instanceof Set ? SET : LIST);
+        writeVarInt(collection.size());
+        for (Object element : collection) {
+          writeValue(element, depth + 1);
+        }
+      }
+      else if (value instanceof Map<?, ?> map) {
+        if (map instanceof SortedMap<?, ?> sortedMap) {
+          assertNaturalOrdering(sortedMap, sortedMap.comparator());
+        }
+        writeByte(map instanceof SortedMap ? SORTED_MAP : MAP);
+        writeVarInt(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+          writeValue(entry.getKey(), depth + 1);
+          writeValue(entry.getValue(), depth + 1);
+        }
+      }
+      else {
+        writeObject(value, depth);
+      }
+    }
+
+    // Sorted Sets and Maps are deserialized as a TreeSet or TreeMap in natural order; a Comparator would be lost.
+    private void assertNaturalOrdering(@NotNull Object sortedValue, @Nullable Comparator<?> comparator) {
+
+      if (comparator != null) {
+        throw newSerializationException("Sorted Collections or Maps ordered by a Comparator [%1$s]"
+          + " are not supported; [%2$s]", comparator.getClass().getName(), sortedValue.getClass().getName());
+      }
+    }
+
+    private void writeArray(@NotNull Object array, int depth) {
+
+      Class<?> componentType = array.getClass().getComponentType();
+
+      int length = Array.getLength(array);
+
+      writeByte(ARRAY);
+      writeString(componentType.getName());
+      writeVarInt(length);
+
+      for (int index = 0; index < length; index++) {
+        writeValue(Array.get(array, index), depth + 1);
+      }
+    }
+
+    private void writeObject(@NotNull Object value, int depth) {
+
+      Schema schema = schemaFor(value.getClass());
+
+      if (schema == null) {
+        throw newSerializationException("Objects of type [%s] are not supported", value.getClass().getName());
+      }
+
+      writeByte(OBJECT);
+      writeType(schema.getType());
+
+      for (int index = 0, length = schema.getNames().length; index < length; index++) {
+        writeValue(schema.get(value, index), depth + 1);
+      }
+    }
+  }
+
+  /**
+   * Decodes an {@link Object} graph from a {@link ByteBuffer}.
+   */
+  static final class Decoder {
+
+    private final ByteBuffer buffer;
+
+    private final List<TypeDefinition> types = new ArrayList<>();
+
+    private final Set<String> permittedTypeNames;
+
+    Decoder(@NotNull ByteBuffer buffer, @NotNull Set<String> allowedTypeNames) {
+      this.buffer = buffer;
+      this.permittedTypeNames = new HashSet<>(allowedTypeNames);
+    }
+
+    void permit(@NotNull Class<?> type) {
+
+      Class<?> elementType = type;
+
+      while (elementType.isArray()) {
+        elementType = elementType.getComponentType();
+      }
+
+      if (!elementType.isPrimitive()) {
+        this.permittedTypeNames.add(elementType.getName());
+      }
+    }
+
+    boolean isPermitted(@NotNull String typeName) {
+
+      String elementTypeName = typeName;
+
+      if (typeName.startsWith("[")) {
+
+        elementTypeName = typeName.substring(typeName.lastIndexOf('[') + 1);
+
+        if (elementTypeName.length() == 1) {
+          return PRIMITIVE_TYPE_DESCRIPTORS.contains(elementTypeName);
+        }
+
+        if (!(elementTypeName.startsWith("L") && elementTypeName.endsWith(";"))) {
+          return false;
+        }
+
+        elementTypeName = elementTypeName.substring(1, elementTypeName.length() - 1);
+      }
+
+      return SUPPORTED_TYPE_NAMES.contains(elementTypeName) || this.permittedTypeNames.contains(elementTypeName);
+    }
+
+    int readVarInt() {
+      return (int) readVarLong();
+    }
+
+    long readVarLong() {
+
+      long value = 0L;
+
+      for (int shift = 0; shift < 64; shift += 7) {
+
+        byte nextByte = this.buffer.get();
+
+        value |= (long) (nextByte & 0x7F) << shift;
+
+        if (nextByte >= 0) {
+          return value;
+        }
+      }
+
+      throw newDeserializationException("Malformed variable-length integer");
+    }
+
+    long readSignedVarLong() {
+      long value = readVarLong();
+      return (value >>> 1) ^ -(value & 1);
+    }
+
+    @NotNull byte[] readBytes() {
+
+      int length = readVarInt();
+
+      if (length < 0 || length > this.buffer.remaining()) {
+        throw newDeserializationException("Invalid length [%d]", length);
+      }
+
+      byte[] bytes = new byte[length];
+
+      this.buffer.get(bytes);
+
+      return bytes;
+    }
+
+    @NotNull String readString() {
+      return new String(readBytes(), StandardCharsets.UTF_8);
+    }
+
+    @NotNull Class<?> resolveType(@NotNull String typeName) {
+
+      Class<?> primitiveType = PRIMITIVE_TYPES.get(typeName);
+
+      if (primitiveType != null) {
+        return primitiveType;
+      }
+
+      if (!isPermitted(typeName)) {
+        throw newDeserializationException("Type [%s] is not allowed to be deserialized", typeName);
+      }
+
+      ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+      try {
+        return Class.forName(typeName, false,
+          classLoader != null ? classLoader : BinarySerializer.class.getClassLoader());
+      }
+      catch (ClassNotFoundException cause) {
+        throw newDeserializationException(cause, "Failed to resolve type [%s]", typeName);
+      }
+    }
+
+    @NotNull TypeDefinition readType() {
+
+      int typeId = readVarInt();
+
+      if (typeId > 0) {
+
+        if (typeId > this.types.size()) {
+          throw newDeserializationException("Unknown type identifier [%d]", typeId);
+        }
+
+        return this.types.get(typeId - 1);
+      }
+
+      Class<?> type = resolveType(readString());
+
+      TypeDefinition typeDefinition;
+
+      if (type.isEnum()) {
+        typeDefinition = new TypeDefinition(type, null, null);
+      }
+      else {
+
+        Schema schema = schemaFor(type);
+
+        if (schema == null) {
+          throw newDeserializationException("Objects of type [%s] are not supported", type.getName());
+        }
+
+        // The declared types of properties are chosen by the type itself, not by the serialized bytes.
+        for (Class<?> propertyType : schema.getTypes()) {
+          permit(propertyType);
+        }
+
+        int length = readVarInt();
+
+        int[] indexes = new int[length];
+
+        for (int index = 0; index < length; index++) {
+          indexes[index] = schema.indexOf(readString());
+        }
+
+        typeDefinition = new TypeDefinition(type, schema, indexes);
+      }
+
+      this.types.add(typeDefinition);
+
+      return typeDefinition;
+    }
+
+    @Nullable Object readValue(int depth) {
+
+      if (depth > MAX_DEPTH) {
+        throw newDeserializationException("Object graph exceeds the maximum depth [%d]", MAX_DEPTH);
+      }
+
+      byte tag = this.buffer.get();
+
+      return switch (tag) {
+        case NULL -> null;
+        case TRUE -> Boolean.TRUE;
+        case FALSE -> Boolean.FALSE;
+        case BYTE -> this.buffer.get();
+        case SHORT -> (short) readSignedVarLong();
+        case CHARACTER -> (char) readVarInt();
+        case INTEGER -> (int) readSignedVarLong();
+        case LONG -> readSignedVarLong();
+        case FLOAT -> Float.intBitsToFloat(readVarInt());
+        case DOUBLE -> Double.longBitsToDouble(this.buffer.getLong());
+        case STRING -> readString();
+        case BYTE_ARRAY -> readBytes();
+        case BIG_INTEGER -> new BigInteger(readBytes());
+        case BIG_DECIMAL -> new BigDecimal(new BigInteger(readBytes()), (int) readSignedVarLong());
+        case UUID_TYPE -> new UUID(this.buffer.getLong(), this.buffer.getLong());
+        case DATE -> new Date(readSignedVarLong());
+        case INSTANT -> Instant.ofEpochSecond(readSignedVarLong(), readVarInt());
+        case LOCAL_DATE -> LocalDate.ofEpochDay(readSignedVarLong());
+        case LOCAL_TIME -> LocalTime.ofNanoOfDay(readVarLong());
+        case LOCAL_DATE_TIME -> LocalDateTime.of(LocalDate.ofEpochDay(readSignedVarLong()),
+          LocalTime.ofNanoOfDay(readVarLong()));
+        case ENUM -> readEnum();
+        case ARRAY -> readArray(depth);
+        case LIST -> readCollection(new ArrayList<>(), depth);
+        case SET -> readCollection(new LinkedHashSet<>(), depth);
+        case SORTED_SET -> readCollection(new TreeSet<>(), depth);
+        case MAP -> readMap(new LinkedHashMap<>(), depth);
+        case SORTED_MAP -> readMap(new TreeMap<>(), depth);
+        case OBJECT -> readObject(depth);
+        default -> throw newDeserializationException("Unknown type tag [%d]", tag);
+      };
+    }
+
+    private @NotNull Object readEnum() {
+
+      Class<?> type = readType().type();
+
+      Object[] constants = type.getEnumConstants();
+
+      int ordinal = readVarInt();
+
+      if (constants == null || ordinal < 0 || ordinal >= constants.length) {
+        throw newDeserializationException("Invalid ordinal [%1$d] for enum [%2$s]", ordinal, type.getName());
+      }
+
+      return constants[ordinal];
+    }
+
+    private @NotNull Object readArray(int depth) {
+
+      Class<?> componentType = resolveType(readString());
+
+      int length = readLength();
+
+      Object array = Array.newInstance(componentType, length);
+
+      for (int index = 0; index < length; index++) {
+        Array.set(array, index, readValue(depth + 1));
+      }
+
+      return array;
+    }
+
+    private int readLength() {
+
+      int length = readVarInt();
+
+      // Every element is encoded in at least one byte.
+      if (length < 0 || length > this.buffer.remaining()) {
+        throw newDeserializationException("Invalid length [%d]", length);
+      }
+
+      return length;
+    }
+
+    private @NotNull Collection<Object> readCollection(@NotNull Collection<Object> collection, int depth) {
+
+      for (int count = readLength(); count > 0; count--) {
+        collection.add(readValue(depth + 1));
+      }
+
+      return collection;
+    }
+
+    private @NotNull Map<Object, Object> readMap(@NotNull Map<Object, Object> map, int depth) {
+
+      for (int count = readLength(); count > 0; count--) {
+        map.put(readValue(depth + 1), readValue(depth + 1));
+      }
+
+      return map;
+    }
+
+    private @NotNull Object readObject(int depth) {
+
+      TypeDefinition typeDefinition = readType();
+
+      Schema schema = typeDefinition.schema();
+
+      if (schema == null) {
+        throw newDeserializationException("Type [%s] is not a record or bean", typeDefinition.type().getName());
+      }
+
+      Object[] values = new Object[schema.getNames().length];
+
+      for (int index : typeDefinition.indexes()) {
+
+        Object value = readValue(depth + 1);
+
+        // Values of properties unknown to the local type are skipped.
+        if (index > -1) {
+          values[index] = value;
+        }
+      }
+
+      return schema.newInstance(values);
+    }
+  }
+
+  /**
+   * {@link Class Type} read from the serialized bytes, mapping the serialized property order
+   * to the local {@link Schema}.
+   */
+  record TypeDefinition(@NotNull Class<?> type, @Nullable Schema schema, @Nullable int[] indexes) { }
+
+}
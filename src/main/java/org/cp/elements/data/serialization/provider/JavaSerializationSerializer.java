@@ -19,27 +19,37 @@ import static org.cp.elements.lang.ElementsExceptionsFactory.newDeserializationE
 import static org.cp.elements.lang.ElementsExceptionsFactory.newSerializationException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
 import org.cp.elements.data.serialization.Serializer;
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Qualifier;
 import org.cp.elements.nio.ByteBufferInputStream;
-import org.cp.elements.nio.ByteBufferOutputStream;
+import org.cp.elements.nio.ByteBufferPool;
+import org.cp.elements.nio.ChainedByteBufferOutputStream;
 
 /**
  * {@link Serializer} implementation that used Java Serialization.
+ * <p>
+ * {@link Object Objects} are serialized into {@link ByteBuffer ByteBuffers} acquired from the
+ * {@link ByteBufferPool#heap() heap ByteBufferPool}, which are reused across serializations, and then copied
+ * exactly once into the returned {@link ByteBuffer}. {@link #serialize(Object, OutputStream) Streaming}
+ * serialization writes directly to the target {@link OutputStream} without any intermediate buffer.
  *
  * @author John Blum
  * @see java.io.ObjectInputStream
  * @see java.io.ObjectOutputStream
  * @see org.cp.elements.data.serialization.Serializer
  * @see org.cp.elements.nio.ByteBufferInputStream
- * @see org.cp.elements.nio.ByteBufferOutputStream
+ * @see org.cp.elements.nio.ChainedByteBufferOutputStream
  * @since 1.0.0
  */
+@Qualifier(name = "java")
 @SuppressWarnings("unused")
 public class JavaSerializationSerializer implements Serializer {
 
@@ -52,13 +62,39 @@ public class JavaSerializationSerializer implements Serializer {
 
     Assert.notNull(target, "The object to serialize is required");
 
-    ByteBufferOutputStream byteBufferOutput =
-      new ByteBufferOutputStream(ByteBuffer.allocate(DEFAULT_BUFFER_SIZE));
+    ChainedByteBufferOutputStream byteBufferOutput =
+      new ChainedByteBufferOutputStream(ByteBufferPool.heap(), DEFAULT_BUFFER_SIZE);
 
-    try (ObjectOutputStream objectOutput = new ObjectOutputStream(byteBufferOutput)) {
+    try {
+      writeObject(target, byteBufferOutput);
+
+      ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(byteBufferOutput.size()));
+
+      byteBufferOutput.toByteBuffers().forEach(buffer::put);
+
+      return buffer.flip();
+    }
+    finally {
+      byteBufferOutput.release();
+    }
+  }
+
+  @Override
+  public void serialize(@NotNull Object target, @NotNull OutputStream out) {
+
+    Assert.notNull(target, "The object to serialize is required");
+    Assert.notNull(out, "OutputStream is required");
+
+    writeObject(target, out);
+  }
+
+  private void writeObject(@NotNull Object target, @NotNull OutputStream out) {
+
+    try {
+      // The ObjectOutputStream is not closed since that would close the given OutputStream.
+      ObjectOutputStream objectOutput = new ObjectOutputStream(out);
       objectOutput.writeObject(target);
       objectOutput.flush();
-      return byteBufferOutput.getByteBuffer();
     }
     catch (IOException cause) {
       throw newSerializationException(cause, String.format("Failed to serialize object [%s]", target));
@@ -78,4 +114,19 @@ public class JavaSerializationSerializer implements Serializer {
       throw newDeserializationException(cause, "Failed to deserialize object from bytes");
     }
   }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull <T> T deserialize(@NotNull InputStream in) {
+
+    Assert.notNull(in, "InputStream is required");
+
+    try {
+      // The ObjectInputStream is not closed since that would close the given InputStream.
+      return (T) new ObjectInputStream(in).readObject();
+    }
+    catch (IOException | ClassNotFoundException cause) {
+      throw newDeserializationException(cause, "Failed to deserialize object from InputStream");
+    }
+  }
 }
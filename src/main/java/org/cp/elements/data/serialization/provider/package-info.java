@@ -14,11 +14,12 @@
  * limitations under the License.
  */
 /**
- * The Elements {@literal data.serialization.provider} package contains a provider implementation of the Elements
+ * The Elements {@literal data.serialization.provider} package contains provider implementations of the Elements
  * {@link org.cp.elements.data.serialization.Serializer} interface.
  *
  * @author John Blum
  * @see org.cp.elements.data.serialization.Serializer
+ * @see org.cp.elements.data.serialization.provider.BinarySerializer
  * @see org.cp.elements.data.serialization.provider.JavaSerializationSerializer
  * @since 1.0.0
  */
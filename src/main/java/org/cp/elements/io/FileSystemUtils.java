@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.StringUtils;
@@ -38,6 +39,7 @@ import org.cp.elements.util.ArrayUtils;
  * @see java.io.File
  * @see java.io.FileFilter
  * @see org.cp.elements.io.FileUtils
+ * @see org.cp.elements.io.FileWalker
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
@@ -406,4 +408,44 @@ public abstract class FileSystemUtils extends FileUtils {
 
     return ComposableFileFilter.and(FileUtils::isFile, fileFilter).accept(path) ? path.length() : size;
   }
+
+  /**
+   * Returns a lazy {@link Stream} of all {@link File files} in the given {@link File#isDirectory() directory}
+   * and any of its {@link File#isDirectory() subdirectories}.
+   *
+   * @param directory {@link File#isDirectory() directory} to walk.
+   * @return a lazy {@link Stream} of all {@link File files} in the given {@link File#isDirectory() directory};
+   * returns an empty {@link Stream} if the given {@link File} is not a {@link File#isDirectory() directory}.
+   * @see #walk(File, FileFilter)
+   * @see #isExisting(File)
+   */
+  @NullSafe
+  public static @NotNull Stream<File> walk(@Nullable File directory) {
+    return walk(directory, FileUtils::isExisting);
+  }
+
+  /**
+   * Returns a lazy {@link Stream} of all {@link File files} in the given {@link File#isDirectory() directory}
+   * and any of its {@link File#isDirectory() subdirectories} accepted by the given {@link FileFilter}.
+   * <p>
+   * Unlike {@link #listFiles(File, FileFilter)}, the {@link File files} are read from the file system
+   * as the {@link Stream} is consumed, and the {@link FileFilter} is only applied to {@link File files},
+   * not {@link File#isDirectory() subdirectories}. The {@link Stream} should be {@link Stream#close() closed}
+   * when it is not fully consumed.
+   *
+   * @param directory {@link File#isDirectory() directory} to walk.
+   * @param fileFilter {@link FileFilter} used to filter and match {@link File files}.
+   * @return a lazy {@link Stream} of all {@link File files} in the given {@link File#isDirectory() directory}
+   * accepted by the given {@link FileFilter}; returns an empty {@link Stream} if the given {@link File}
+   * is not a {@link File#isDirectory() directory}.
+   * @see org.cp.elements.io.FileWalker#stream()
+   * @see java.io.FileFilter
+   */
+  @NullSafe
+  public static @NotNull Stream<File> walk(@Nullable File directory, @Nullable FileFilter fileFilter) {
+
+    return isDirectory(directory)
+      ? FileWalker.walk(directory).withFileFilter(fileFilter).stream()
+      : Stream.empty();
+  }
 }
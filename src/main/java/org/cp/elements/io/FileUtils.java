@@ -18,10 +18,10 @@ package org.cp.elements.io;
 import static org.cp.elements.lang.ElementsExceptionsFactory.newNoSuchDirectoryException;
 import static org.cp.elements.lang.ElementsExceptionsFactory.newNoSuchFileException;
 
-import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileFilter;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FileReader;
@@ -29,7 +29,12 @@ import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -37,6 +42,7 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.ObjectUtils;
@@ -53,6 +59,7 @@ import org.cp.elements.util.ArrayUtils;
  * @see java.io.File
  * @see java.io.FileOutputStream
  * @see java.io.FileReader
+ * @see java.nio.channels.FileChannel
  * @see org.cp.elements.io.IOUtils
  * @since 1.0.0
  */
@@ -131,6 +138,43 @@ public abstract class FileUtils extends IOUtils {
     throw newNoSuchFileException("File [%s] is not a valid file", file);
   }
 
+  /**
+   * Copies the contents of the given, required source {@link File} to the given, required target {@link File}.
+   * <p>
+   * The contents are copied with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)},
+   * allowing the operating system to copy the bytes without moving them through the Java heap.
+   * The target {@link File} is created if it does not exist and is overwritten if it does. Copying a {@link File}
+   * onto itself leaves the {@link File} unchanged.
+   *
+   * @param source {@link File} to copy; must not be {@literal null}.
+   * @param target {@link File} to copy the contents of the source {@link File} to; must not be {@literal null}.
+   * @return the given target {@link File}.
+   * @throws IllegalArgumentException if the source {@link File} is not a valid file
+   * or the target {@link File} is {@literal null}.
+   * @throws IOException if an I/O error occurs while copying the {@link File}.
+   * @see #copy(java.nio.channels.ReadableByteChannel, java.nio.channels.WritableByteChannel, int)
+   * @see java.nio.channels.FileChannel
+   */
+  public static @NotNull File copy(@NotNull File source, @NotNull File target) throws IOException {
+
+    Assert.isTrue(isFile(source), "[%s] must be a file", source);
+    Assert.notNull(target, "Target File is required");
+
+    // Opening the target with TRUNCATE_EXISTING would otherwise empty the source before it is read.
+    if (target.exists() && Files.isSameFile(source.toPath(), target.toPath())) {
+      return target;
+    }
+
+    try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+         FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+           StandardOpenOption.TRUNCATE_EXISTING)) {
+
+      copy(in, out, DEFAULT_BUFFER_SIZE);
+    }
+
+    return target;
+  }
+
   /**
    * Creates a file system directory with the given {@link File path}.
    *
@@ -405,6 +449,83 @@ public abstract class FileUtils extends IOUtils {
     return filenameFilter != null ? filenameFilter : (file, filename) -> accept;
   }
 
+  /**
+   * Returns a lazy {@link Stream} of the {@link String lines} in the given, required {@link File},
+   * read with the {@link Charset#defaultCharset() default Charset}.
+   *
+   * @param file {@link File} to read the lines from; must not be {@literal null}.
+   * @return a lazy {@link Stream} of the {@link String lines} in the {@link File}.
+   * @throws IllegalArgumentException if the {@link File} is not a valid file.
+   * @throws IllegalStateException if the {@link File} cannot be read.
+   * @throws IOException if the {@link File} cannot be opened.
+   * @see #lines(File, Charset)
+   */
+  public static @NotNull Stream<String> lines(@NotNull File file) throws IOException {
+    return lines(file, Charset.defaultCharset());
+  }
+
+  /**
+   * Returns a lazy {@link Stream} of the {@link String lines} in the given, required {@link File},
+   * read with the given {@link Charset}.
+   * <p>
+   * Lines are read from the {@link File} as the {@link Stream} is consumed; the {@link Stream} must be
+   * {@link Stream#close() closed} to close the {@link File}. An {@link IOException} thrown while reading
+   * is rethrown as an {@link UncheckedIOException}.
+   *
+   * @param file {@link File} to read the lines from; must not be {@literal null}.
+   * @param charset {@link Charset} used to decode the {@link File}; must not be {@literal null}.
+   * @return a lazy {@link Stream} of the {@link String lines} in the {@link File}.
+   * @throws IllegalArgumentException if the {@link File} is not a valid file or the {@link Charset}
+   * is {@literal null}.
+   * @throws IllegalStateException if the {@link File} cannot be read.
+   * @throws IOException if the {@link File} cannot be opened.
+   * @see java.io.BufferedReader#lines()
+   */
+  public static @NotNull Stream<String> lines(@NotNull File file, @NotNull Charset charset) throws IOException {
+
+    assertReadable(file);
+    Assert.notNull(charset, "Charset is required");
+
+    BufferedReader fileReader = new BufferedReader(new FileReader(file, charset));
+
+    return fileReader.lines().onClose(() -> {
+      try {
+        fileReader.close();
+      }
+      catch (IOException cause) {
+        throw new UncheckedIOException(cause);
+      }
+    });
+  }
+
+  /**
+   * Maps the contents of the given, required {@link File} into memory as
+   * a {@link FileChannel.MapMode#READ_ONLY read-only} {@link MappedByteBuffer}.
+   * <p>
+   * Mapping allows large {@link File Files} to be scanned without copying their contents into the Java heap.
+   * The {@link File} must not be larger than {@link Integer#MAX_VALUE} bytes.
+   *
+   * @param file {@link File} to map; must not be {@literal null}.
+   * @return a {@literal read-only} {@link MappedByteBuffer} of the contents of the {@link File}.
+   * @throws IllegalArgumentException if the {@link File} is not a valid file or is too large to map.
+   * @throws IllegalStateException if the {@link File} cannot be read.
+   * @throws IOException if an I/O error occurs while mapping the {@link File}.
+   * @see java.nio.channels.FileChannel#map(FileChannel.MapMode, long, long)
+   */
+  public static @NotNull MappedByteBuffer map(@NotNull File file) throws IOException {
+
+    assertReadable(file);
+
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+
+      long size = channel.size();
+
+      Assert.isTrue(size <= Integer.MAX_VALUE, "[%s] is too large to map", file);
+
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+    }
+  }
+
   /**
    * Reads the contents of the given, required {@link File} into a {@link String}.
    *
@@ -413,19 +534,42 @@ public abstract class FileUtils extends IOUtils {
    * @throws IllegalArgumentException if the {@link File} is not a valid file.
    * @throws IllegalStateException if the {@link File} is not readable.
    * @throws IOException if the given {@link File} cannot be read.
-   * @see #readLines(File)
+   * @see #read(File, Charset)
    * @see java.io.File
    */
   public static @NotNull String read(@NotNull File file) throws IOException {
+    return read(file, Charset.defaultCharset());
+  }
+
+  /**
+   * Reads the contents of the given, required {@link File} into a {@link String} using the given {@link Charset}.
+   * <p>
+   * Line terminators are converted to the {@link StringUtils#LINE_SEPARATOR system line separator}
+   * and leading and trailing whitespace is trimmed.
+   * <p>
+   * The {@link File} is read in bulk and decoded once, rather than line by line. Line terminators are only
+   * converted when the {@link File} contains terminators other than the {@link StringUtils#LINE_SEPARATOR
+   * system line separator}.
+   *
+   * @param file {@link File} to read; must not be {@literal null}.
+   * @param charset {@link Charset} used to decode the {@link File}; must not be {@literal null}.
+   * @return a {@link String} containing the contents of the {@link File}.
+   * @throws IllegalArgumentException if the {@link File} is not a valid file or the {@link Charset}
+   * is {@literal null}.
+   * @throws IllegalStateException if the {@link File} is not readable.
+   * @throws IOException if the given {@link File} cannot be read.
+   * @see java.io.File
+   */
+  public static @NotNull String read(@NotNull File file, @NotNull Charset charset) throws IOException {
 
-    StringBuilder buffer = new StringBuilder();
+    assertReadable(file);
+    Assert.notNull(charset, "Charset is required");
 
-    readLines(file).forEach(line -> {
-      buffer.append(line);
-      buffer.append(StringUtils.LINE_SEPARATOR);
-    });
+    String content = new String(Files.readAllBytes(file.toPath()), charset);
 
-    return buffer.toString().trim();
+    return content.indexOf('\r') < 0 && "\n".equals(StringUtils.LINE_SEPARATOR)
+      ? content.trim()
+      : content.lines().collect(Collectors.joining(StringUtils.LINE_SEPARATOR)).trim();
   }
 
   /**
@@ -438,16 +582,22 @@ public abstract class FileUtils extends IOUtils {
    * @throws IllegalArgumentException if the {@link File} is not a valid file.
    * @throws IllegalStateException if the {@link File} cannot be read.
    * @see java.io.File#canRead()
+   * @see #lines(File)
    * @see #isFile(File)
    */
   public static List<String> readLines(@NotNull File file) throws IOException {
 
+    try (Stream<String> lines = lines(file)) {
+      return lines.collect(Collectors.toList());
+    }
+    catch (UncheckedIOException cause) {
+      throw cause.getCause();
+    }
+  }
+
+  private static void assertReadable(@Nullable File file) {
     Assert.isTrue(isFile(file), "[%s] must be a file", file);
     Assert.state(file.canRead(), "[%s] is not readable", tryGetCanonicalPathElseGetAbsolutePath(file));
-
-    try (BufferedReader fileReader = new BufferedReader(new FileReader(file, Charset.defaultCharset()))) {
-      return fileReader.lines().collect(Collectors.toList());
-    }
   }
 
   /**
@@ -570,6 +720,7 @@ public abstract class FileUtils extends IOUtils {
    * and is not {@link File#canWrite() writable}.
    * @throws IOException if an I/O error occurs while writing the contents of the {@link InputStream}
    * to the {@link File}.
+   * @see #copy(java.nio.channels.ReadableByteChannel, java.nio.channels.WritableByteChannel, int)
    * @see #copy(InputStream, OutputStream)
    * @see java.io.InputStream
    * @see java.io.File
@@ -583,8 +734,13 @@ public abstract class FileUtils extends IOUtils {
 
     Assert.state(isWritable, "[%s] is not writable", tryGetCanonicalPathElseGetAbsolutePath(file));
 
-    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
-      copy(in, out);
+    try (FileOutputStream out = new FileOutputStream(file)) {
+      if (in instanceof FileInputStream fileInputStream) {
+        copy(fileInputStream.getChannel(), out.getChannel(), DEFAULT_BUFFER_SIZE);
+      }
+      else {
+        copy(in, out);
+      }
     }
 
     return file;
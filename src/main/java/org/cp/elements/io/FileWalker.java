@@ -0,0 +1,519 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.io;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Walks the {@link File files} contained in a {@link File#isDirectory() directory} and all of its
+ * {@link File#isDirectory() subdirectories}, reading each directory with a {@link DirectoryStream}
+ * rather than materializing an array of {@link File files} per directory as {@link File#listFiles()} does.
+ * <p>
+ * A {@link FileWalker} can either {@link #stream() stream} {@link File files} lazily, in depth-first order,
+ * on the calling {@link Thread}, or {@link #visit(Predicate) walk} the directory tree in parallel, forking a task
+ * per {@link File#isDirectory() subdirectory} into a {@link ForkJoinPool}. In both cases, the {@link FileFilter}
+ * is applied during traversal and the walk can be terminated early.
+ * <p>
+ * Only non-directory {@link File files} are returned. {@link File#isDirectory() Subdirectories} rejected by
+ * the {@link #withDirectoryFilter(FileFilter) directory filter} are not traversed. Symbolic links to directories
+ * are not followed, which avoids cycles. Directories that cannot be read are skipped.
+ *
+ * @author John Blum
+ * @see java.io.File
+ * @see java.io.FileFilter
+ * @see java.nio.file.DirectoryStream
+ * @see java.util.concurrent.ForkJoinPool
+ * @see java.util.stream.Stream
+ * @since 3.0.0
+ */
+@ThreadSafe
+@SuppressWarnings("unused")
+public class FileWalker {
+
+  protected static final int DEFAULT_MAX_DEPTH = Integer.MAX_VALUE;
+
+  /**
+   * Factory method used to construct a new {@link FileWalker} walking the given, required
+   * {@link File#isDirectory() directory}.
+   *
+   * @param directory {@link File} referring to the {@link File#isDirectory() directory} to walk;
+   * must not be {@literal null}.
+   * @return a new {@link FileWalker} walking the given {@link File directory}.
+   * @throws IllegalArgumentException if the given {@link File} is not a valid directory.
+   * @see #FileWalker(File)
+   */
+  public static @NotNull FileWalker walk(@NotNull File directory) {
+    return new FileWalker(directory);
+  }
+
+  private final File directory;
+
+  private volatile FileFilter directoryFilter;
+  private volatile FileFilter fileFilter;
+
+  private volatile ForkJoinPool forkJoinPool;
+
+  private volatile int maxDepth = DEFAULT_MAX_DEPTH;
+
+  /**
+   * Constructs a new {@link FileWalker} walking the given, required {@link File#isDirectory() directory}.
+   *
+   * @param directory {@link File} referring to the {@link File#isDirectory() directory} to walk;
+   * must not be {@literal null}.
+   * @throws IllegalArgumentException if the given {@link File} is not a valid directory.
+   */
+  public FileWalker(@NotNull File directory) {
+
+    this.directory = Optional.ofNullable(directory)
+      .filter(File::isDirectory)
+      .orElseThrow(() -> newIllegalArgumentException("File [%s] is not a valid directory", directory));
+  }
+
+  /**
+   * Returns the {@link File#isDirectory() directory} walked by this {@link FileWalker}.
+   *
+   * @return the {@link File#isDirectory() directory} walked by this {@link FileWalker}.
+   */
+  public @NotNull File getDirectory() {
+    return this.directory;
+  }
+
+  /**
+   * Returns the {@link FileFilter} used to determine which {@link File#isDirectory() subdirectories} are traversed.
+   *
+   * @return the {@link FileFilter} used to determine which {@link File#isDirectory() subdirectories}
+   * are traversed; never {@literal null}.
+   */
+  protected @NotNull FileFilter getDirectoryFilter() {
+    return FileUtils.nullSafeFileFilter(this.directoryFilter, true);
+  }
+
+  /**
+   * Returns the {@link FileFilter} used to determine which {@link File files} are returned by this walk.
+   *
+   * @return the {@link FileFilter} used to determine which {@link File files} are returned by this walk;
+   * never {@literal null}.
+   */
+  protected @NotNull FileFilter getFileFilter() {
+    return FileUtils.nullSafeFileFilter(this.fileFilter, true);
+  }
+
+  /**
+   * Returns the {@link ForkJoinPool} used to {@link #visit(Predicate) walk} the directory tree in parallel.
+   *
+   * @return the {@link ForkJoinPool} used to {@link #visit(Predicate) walk} the directory tree in parallel;
+   * defaults to the {@link ForkJoinPool#commonPool() common pool}.
+   */
+  protected @NotNull ForkJoinPool getForkJoinPool() {
+
+    ForkJoinPool forkJoinPool = this.forkJoinPool;
+
+    return forkJoinPool != null ? forkJoinPool : ForkJoinPool.commonPool();
+  }
+
+  /**
+   * Returns the maximum number of directory levels below the {@link #getDirectory() directory} that are walked.
+   *
+   * @return the maximum number of directory levels walked.
+   */
+  public int getMaxDepth() {
+    return this.maxDepth;
+  }
+
+  /**
+   * Builder method used to set the {@link FileFilter} determining which {@link File#isDirectory() subdirectories}
+   * are traversed.
+   *
+   * @param directoryFilter {@link FileFilter} evaluating {@link File#isDirectory() subdirectories};
+   * {@literal null} traverses all {@link File#isDirectory() subdirectories}.
+   * @return this {@link FileWalker}.
+   */
+  public @NotNull FileWalker withDirectoryFilter(@Nullable FileFilter directoryFilter) {
+    this.directoryFilter = directoryFilter;
+    return this;
+  }
+
+  /**
+   * Builder method used to set the {@link FileFilter} determining which {@link File files} are returned,
+   * such as a {@link FileExtensionFilter}, {@link FileSizeFilter}, {@link FileLastModifiedFilter}
+   * or a {@link ComposableFileFilter} composed of these.
+   *
+   * @param fileFilter {@link FileFilter} evaluating non-directory {@link File files};
+   * {@literal null} accepts all {@link File files}.
+   * @return this {@link FileWalker}.
+   */
+  public @NotNull FileWalker withFileFilter(@Nullable FileFilter fileFilter) {
+    this.fileFilter = fileFilter;
+    return this;
+  }
+
+  /**
+   * Builder method used to set the {@link ForkJoinPool} used to {@link #visit(Predicate) walk}
+   * the directory tree in parallel.
+   *
+   * @param forkJoinPool {@link ForkJoinPool} used to walk the directory tree in parallel;
+   * {@literal null} uses the {@link ForkJoinPool#commonPool() common pool}.
+   * @return this {@link FileWalker}.
+   */
+  public @NotNull FileWalker withForkJoinPool(@Nullable ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool;
+    return this;
+  }
+
+  /**
+   * Builder method used to set the maximum number of directory levels below the {@link #getDirectory() directory}
+   * that are walked. A value of {@literal 1} only walks the {@link File files} directly contained in
+   * the {@link #getDirectory() directory}.
+   *
+   * @param maxDepth {@link Integer} specifying the maximum number of directory levels walked;
+   * must be greater than {@literal 0}.
+   * @return this {@link FileWalker}.
+   * @throws IllegalArgumentException if {@code maxDepth} is less than {@literal 1}.
+   */
+  public @NotNull FileWalker withMaxDepth(int maxDepth) {
+    Assert.isTrue(maxDepth > 0, "Max depth [%d] must be greater than 0", maxDepth);
+    this.maxDepth = maxDepth;
+    return this;
+  }
+
+  /**
+   * Returns a lazy, sequential {@link Stream} of the {@link File files} accepted by
+   * the {@link #withFileFilter(FileFilter) file filter}, in depth-first order.
+   * <p>
+   * Directories are opened as the {@link Stream} is consumed and closed as soon as they are exhausted,
+   * so short-circuiting operations, such as {@link Stream#findFirst()} or {@link Stream#limit(long)},
+   * terminate the walk early. The {@link Stream} should be {@link Stream#close() closed}, for example with
+   * a {@literal try-with-resources} statement, when it is not fully consumed.
+   *
+   * @return a lazy {@link Stream} of the {@link File files} in the directory tree.
+   * @see java.util.stream.Stream
+   */
+  public @NotNull Stream<File> stream() {
+
+    FileIterator iterator = new FileIterator();
+
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+        Spliterator.DISTINCT | Spliterator.NONNULL), false)
+      .onClose(iterator::close);
+  }
+
+  /**
+   * Walks the directory tree in parallel, passing each {@link File} accepted by
+   * the {@link #withFileFilter(FileFilter) file filter} to the given {@link Predicate visitor}.
+   * <p>
+   * Each {@link File#isDirectory() subdirectory} is read by a separate task in the {@link #getForkJoinPool()
+   * ForkJoinPool}, so the {@link Predicate visitor} may be called concurrently and must be {@literal Thread-safe}.
+   * The walk stops as soon as the {@link Predicate visitor} returns {@literal false}.
+   *
+   * @param visitor {@link Predicate} visiting each {@link File}, returning {@literal false} to terminate the walk;
+   * must not be {@literal null}.
+   * @return a boolean value indicating whether the walk completed without being terminated early.
+   * @throws IllegalArgumentException if the {@link Predicate visitor} is {@literal null}.
+   * @see java.util.concurrent.ForkJoinPool
+   */
+  public boolean visit(@NotNull Predicate<? super File> visitor) {
+
+    Assert.notNull(visitor, "Visitor is required");
+
+    AtomicBoolean terminated = new AtomicBoolean(false);
+
+    getForkJoinPool().invoke(new WalkTask(getDirectory().toPath(), 1, visitor, terminated,
+      getDirectoryFilter(), getFileFilter(), getMaxDepth()));
+
+    return !terminated.get();
+  }
+
+  /**
+   * Counts the {@link File files} in the directory tree accepted by the {@link #withFileFilter(FileFilter)
+   * file filter}, walking the directory tree in parallel.
+   *
+   * @return the number of {@link File files} in the directory tree.
+   * @see #visit(Predicate)
+   */
+  public long count() {
+
+    AtomicLong count = new AtomicLong(0L);
+
+    visit(file -> {
+      count.incrementAndGet();
+      return true;
+    });
+
+    return count.get();
+  }
+
+  /**
+   * Sums the {@link File#length() size} of the {@link File files} in the directory tree accepted by
+   * the {@link #withFileFilter(FileFilter) file filter}, walking the directory tree in parallel.
+   *
+   * @return the size, in bytes, of the {@link File files} in the directory tree.
+   * @see #visit(Predicate)
+   */
+  public long size() {
+
+    AtomicLong size = new AtomicLong(0L);
+
+    visit(file -> {
+      size.addAndGet(file.length());
+      return true;
+    });
+
+    return size.get();
+  }
+
+  /**
+   * Finds any {@link File} in the directory tree accepted by both the {@link #withFileFilter(FileFilter)
+   * file filter} and the given {@link FileFilter}, walking the directory tree in parallel and terminating
+   * the walk as soon as a match is found.
+   *
+   * @param fileFilter {@link FileFilter} used to match the {@link File}; must not be {@literal null}.
+   * @return an {@link Optional} containing the matching {@link File}, or {@link Optional#empty()}.
+   * @throws IllegalArgumentException if the {@link FileFilter} is {@literal null}.
+   * @see #visit(Predicate)
+   */
+  public Optional<File> findAny(@NotNull FileFilter fileFilter) {
+
+    Assert.notNull(fileFilter, "FileFilter is required");
+
+    AtomicReference<File> match = new AtomicReference<>();
+
+    visit(file -> !(fileFilter.accept(file) && match.compareAndSet(null, file)));
+
+    return Optional.ofNullable(match.get());
+  }
+
+  static boolean isDirectory(@NotNull Path path) {
+    return Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS);
+  }
+
+  static @Nullable DirectoryStream<Path> openDirectory(@NotNull Path directory) {
+
+    try {
+      return Files.newDirectoryStream(directory);
+    }
+    catch (IOException | SecurityException ignore) {
+      return null;
+    }
+  }
+
+  private class FileIterator implements Iterator<File>, AutoCloseable {
+
+    private final Deque<DirectoryFrame> frames = new ArrayDeque<>();
+
+    private final FileFilter directoryFilter = getDirectoryFilter();
+    private final FileFilter fileFilter = getFileFilter();
+
+    private final int maxDepth = getMaxDepth();
+
+    private File next;
+
+    private FileIterator() {
+      push(getDirectory().toPath());
+    }
+
+    private void push(Path directory) {
+
+      DirectoryStream<Path> directoryStream = openDirectory(directory);
+
+      if (directoryStream != null) {
+        this.frames.push(new DirectoryFrame(directoryStream));
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+
+      while (this.next == null && !this.frames.isEmpty()) {
+
+        DirectoryFrame frame = this.frames.peek();
+        Path path = frame.next();
+
+        if (path == null) {
+          this.frames.pop().close();
+        }
+        else {
+
+          File file = path.toFile();
+
+          if (isDirectory(path)) {
+            if (this.frames.size() < this.maxDepth && this.directoryFilter.accept(file)) {
+              push(path);
+            }
+          }
+          else if (this.fileFilter.accept(file)) {
+            this.next = file;
+          }
+        }
+      }
+
+      return this.next != null;
+    }
+
+    @Override
+    public File next() {
+
+      if (!hasNext()) {
+        throw new NoSuchElementException("No more files");
+      }
+
+      File file = this.next;
+
+      this.next = null;
+
+      return file;
+    }
+
+    @Override
+    public void close() {
+
+      while (!this.frames.isEmpty()) {
+        this.frames.pop().close();
+      }
+    }
+  }
+
+  private static class DirectoryFrame {
+
+    private final DirectoryStream<Path> directoryStream;
+    private final Iterator<Path> iterator;
+
+    private DirectoryFrame(DirectoryStream<Path> directoryStream) {
+      this.directoryStream = directoryStream;
+      this.iterator = directoryStream.iterator();
+    }
+
+    private @Nullable Path next() {
+
+      try {
+        return this.iterator.hasNext() ? this.iterator.next() : null;
+      }
+      catch (DirectoryIteratorException ignore) {
+        return null;
+      }
+    }
+
+    private void close() {
+
+      try {
+        this.directoryStream.close();
+      }
+      catch (IOException ignore) { }
+    }
+  }
+
+  private static class WalkTask extends RecursiveAction {
+
+    @Serial
+    private static final long serialVersionUID = 7120543412851623604L;
+
+    private final AtomicBoolean terminated;
+
+    private final transient FileFilter directoryFilter;
+    private final transient FileFilter fileFilter;
+
+    private final int depth;
+    private final int maxDepth;
+
+    private final transient Path directory;
+
+    private final transient Predicate<? super File> visitor;
+
+    private WalkTask(Path directory, int depth, Predicate<? super File> visitor, AtomicBoolean terminated,
+        FileFilter directoryFilter, FileFilter fileFilter, int maxDepth) {
+
+      this.directory = directory;
+      this.depth = depth;
+      this.visitor = visitor;
+      this.terminated = terminated;
+      this.directoryFilter = directoryFilter;
+      this.fileFilter = fileFilter;
+      this.maxDepth = maxDepth;
+    }
+
+    @Override
+    protected void compute() {
+
+      List<WalkTask> subtasks = new ArrayList<>();
+
+      DirectoryStream<Path> directoryStream = openDirectory(this.directory);
+
+      if (directoryStream != null) {
+
+        DirectoryFrame frame = new DirectoryFrame(directoryStream);
+
+        try {
+          for (Path path = frame.next(); path != null && !this.terminated.get(); path = frame.next()) {
+
+            File file = path.toFile();
+
+            if (isDirectory(path)) {
+              if (this.depth < this.maxDepth && this.directoryFilter.accept(file)) {
+                subtasks.add((WalkTask) new WalkTask(path, this.depth + 1, this.visitor, this.terminated,
+                  this.directoryFilter, this.fileFilter, this.maxDepth).fork());
+              }
+            }
+            else if (this.fileFilter.accept(file) && !this.visitor.test(file)) {
+              this.terminated.set(true);
+            }
+          }
+        }
+        catch (RuntimeException cause) {
+          this.terminated.set(true);
+          throw cause;
+        }
+        finally {
+          frame.close();
+        }
+      }
+
+      for (int index = subtasks.size() - 1; index > -1; index--) {
+        subtasks.get(index).join();
+      }
+    }
+  }
+}
@@ -25,11 +25,16 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.ObjectStreamClass;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.lang.annotation.NullSafe;
 import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.nio.ByteBufferPool;
 
 /**
  * Abstract utility class used to execute basic input and output (I/O) operations.
@@ -43,6 +48,7 @@ import org.cp.elements.lang.annotation.Nullable;
  * @see java.io.ObjectOutputStream
  * @see java.io.ObjectStreamClass
  * @see java.io.OutputStream
+ * @see java.nio.channels.FileChannel
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
@@ -78,20 +84,141 @@ public abstract class IOUtils {
    * @param in {@link InputStream} used as the source to copy bytes from; must not be {@literal null}.
    * @param out {@link OutputStream} used as the target to copy bytes to; must not be {@literal null}.
    * @throws IOException if this copy operation results in an I/O error.
+   * @see #copy(InputStream, OutputStream, int)
    * @see java.io.InputStream
    * @see java.io.OutputStream
    */
   public static void copy(@NotNull InputStream in, @NotNull OutputStream out) throws IOException {
+    copy(in, out, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Copies the contents of the source {@link InputStream} to the target {@link OutputStream}
+   * using a buffer of the given size.
+   * <p>
+   * The {@link OutputStream} is {@link OutputStream#flush() flushed} once, after all the bytes have been copied.
+   *
+   * @param in {@link InputStream} used as the source to copy bytes from; must not be {@literal null}.
+   * @param out {@link OutputStream} used as the target to copy bytes to; must not be {@literal null}.
+   * @param bufferSize {@link Integer} specifying the size of the buffer used to copy bytes;
+   * must be greater than {@literal 0}.
+   * @throws IllegalArgumentException if either the {@link InputStream} or {@link OutputStream} are {@literal null},
+   * or the {@code bufferSize} is less than {@literal 1}.
+   * @throws IOException if this copy operation results in an I/O error.
+   * @see java.io.InputStream
+   * @see java.io.OutputStream
+   */
+  public static void copy(@NotNull InputStream in, @NotNull OutputStream out, int bufferSize) throws IOException {
 
     Assert.notNull(in, "InputStream is required");
     Assert.notNull(out, "OutputStream is required");
+    assertBufferSize(bufferSize);
 
-    byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+    byte[] buffer = new byte[bufferSize];
 
     for (int length = in.read(buffer); length > 0; length = in.read(buffer)) {
       out.write(buffer, 0, length);
-      out.flush();
     }
+
+    out.flush();
+  }
+
+  /**
+   * Copies the contents of the source {@link ReadableByteChannel} to the target {@link WritableByteChannel}.
+   * <p>
+   * When either {@link java.nio.channels.Channel} is a {@link FileChannel}, the bytes are copied with
+   * {@link FileChannel#transferTo(long, long, WritableByteChannel)} or
+   * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)}, allowing the operating system to copy
+   * the bytes without moving them through the Java heap. Otherwise, the bytes are copied through
+   * a pooled, {@literal direct} {@link ByteBuffer} of the given size.
+   *
+   * @param in {@link ReadableByteChannel} used as the source to copy bytes from; must not be {@literal null}.
+   * @param out {@link WritableByteChannel} used as the target to copy bytes to; must not be {@literal null}.
+   * @param bufferSize {@link Integer} specifying the size of the buffer used to copy bytes;
+   * must be greater than {@literal 0}.
+   * @return the number of bytes copied.
+   * @throws IllegalArgumentException if either {@link java.nio.channels.Channel} is {@literal null},
+   * or the {@code bufferSize} is less than {@literal 1}.
+   * @throws IOException if this copy operation results in an I/O error.
+   * @see java.nio.channels.ReadableByteChannel
+   * @see java.nio.channels.WritableByteChannel
+   * @see java.nio.channels.FileChannel
+   */
+  public static long copy(@NotNull ReadableByteChannel in, @NotNull WritableByteChannel out, int bufferSize)
+      throws IOException {
+
+    Assert.notNull(in, "ReadableByteChannel is required");
+    Assert.notNull(out, "WritableByteChannel is required");
+    assertBufferSize(bufferSize);
+
+    if (in instanceof FileChannel inputChannel) {
+      return transferTo(inputChannel, out);
+    }
+    else if (out instanceof FileChannel outputChannel) {
+      return transferFrom(in, outputChannel, bufferSize);
+    }
+
+    ByteBufferPool pool = ByteBufferPool.direct();
+    ByteBuffer buffer = pool.acquire(bufferSize);
+
+    try {
+
+      long count = 0L;
+
+      while (in.read(buffer) != -1 || buffer.position() > 0) {
+        buffer.flip();
+        count += out.write(buffer);
+        buffer.compact();
+      }
+
+      return count;
+    }
+    finally {
+      pool.release(buffer);
+    }
+  }
+
+  private static long transferTo(@NotNull FileChannel in, @NotNull WritableByteChannel out) throws IOException {
+
+    long position = in.position();
+    long size = in.size();
+    long count = 0L;
+
+    while (position + count < size) {
+
+      long transferred = in.transferTo(position + count, size - position - count, out);
+
+      if (transferred <= 0) {
+        break;
+      }
+
+      count += transferred;
+    }
+
+    in.position(position + count);
+
+    return count;
+  }
+
+  private static long transferFrom(@NotNull ReadableByteChannel in, @NotNull FileChannel out, int bufferSize)
+      throws IOException {
+
+    long position = out.position();
+    long count = 0L;
+
+    for (long transferred = out.transferFrom(in, position, bufferSize); transferred > 0;
+         transferred = out.transferFrom(in, position + count, bufferSize)) {
+
+      count += transferred;
+    }
+
+    out.position(position + count);
+
+    return count;
+  }
+
+  private static void assertBufferSize(int bufferSize) {
+    Assert.isTrue(bufferSize > 0, "Buffer size [%d] must be greater than 0", bufferSize);
   }
 
   /**
@@ -213,18 +340,36 @@ public abstract class IOUtils {
    */
   @NullSafe
   public static byte[] toByteArray(@NotNull InputStream in) throws IOException {
+    return toByteArray(in, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Reads the contents of the given, required {@link InputStream} into a byte array
+   * using a buffer of the given size.
+   *
+   * @param in {@link InputStream} to read content from; must not be {@literal null}.
+   * @param bufferSize {@link Integer} specifying the size of the buffer used to read bytes;
+   * must be greater than {@literal 0}.
+   * @return a byte array containing the contents of the given {@link InputStream}.
+   * @throws IOException if an I/O error occurs while reading from the {@link InputStream}.
+   * @throws IllegalArgumentException if the {@link InputStream} is {@literal null}
+   * or the {@code bufferSize} is less than {@literal 1}.
+   * @see java.io.ByteArrayOutputStream
+   * @see java.io.InputStream
+   */
+  public static byte[] toByteArray(@NotNull InputStream in, int bufferSize) throws IOException {
 
     Assert.notNull(in, "InputStream is required");
+    assertBufferSize(bufferSize);
 
     ByteArrayOutputStream out = new ByteArrayOutputStream(in.available());
 
-    byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+    byte[] buffer = new byte[bufferSize];
 
     int bytesRead;
 
     while ((bytesRead = in.read(buffer)) != -1) {
       out.write(buffer, 0, bytesRead);
-      out.flush();
     }
 
     return out.toByteArray();
@@ -96,7 +96,9 @@ public abstract class Assert {
   public static <T> void argument(T argument, Predicate<T> argumentPredicate, String message,
       Object... messagePlaceholderValues) {
 
-    argument(argument, argumentPredicate, new IllegalArgumentException(format(message, messagePlaceholderValues)));
+    if (isNotValid(argument, argumentPredicate)) {
+      throw new IllegalArgumentException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -229,7 +231,9 @@ public abstract class Assert {
   public static <T extends Comparable<T>> void comparable(T obj1, T obj2, String message,
       Object... messagePlaceholderValues) {
 
-    comparable(obj1, obj2, new ComparisonException(format(message, messagePlaceholderValues)));
+    if (areNotComparable(obj1, obj2)) {
+      throw new ComparisonException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -322,7 +326,9 @@ public abstract class Assert {
    * @see java.lang.Object#equals(Object)
    */
   public static void equals(Object obj1, Object obj2, String message, Object... messagePlaceholderValues) {
-    equals(obj1, obj2, new EqualityException(format(message, messagePlaceholderValues)));
+    if (areNotEqual(obj1, obj2)) {
+      throw new EqualityException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -412,7 +418,9 @@ public abstract class Assert {
    * @see java.lang.String
    */
   public static void hasText(String value, String message, Object... messagePlaceholderValues) {
-    hasText(value, new IllegalArgumentException(format(message, messagePlaceholderValues)));
+    if (isBlank(value)) {
+      throw new IllegalArgumentException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -502,7 +510,9 @@ public abstract class Assert {
    * @see java.lang.Thread#holdsLock(Object)
    */
   public static void holdsLock(Object lock, String message, Object... messagePlaceholderValues) {
-    holdsLock(lock, new IllegalMonitorStateException(format(message, messagePlaceholderValues)));
+    if (isNotLockHolder(lock)) {
+      throw new IllegalMonitorStateException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -596,7 +606,9 @@ public abstract class Assert {
    * @see java.lang.Class#isAssignableFrom(Class)
    */
   public static void isAssignableTo(Class<?> from, Class<?> to, String message, Object... messagePlaceholderValues) {
-    isAssignableTo(from, to, new ClassCastException(format(message, messagePlaceholderValues)));
+    if (isNotAssignableTo(from, to)) {
+      throw new ClassCastException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -693,7 +705,9 @@ public abstract class Assert {
    * @see java.lang.Boolean#FALSE
    */
   public static void isFalse(Boolean condition, String message, Object... messagePlaceholderValues) {
-    isFalse(condition, new IllegalArgumentException(format(message, messagePlaceholderValues)));
+    if (isNotFalse(condition)) {
+      throw new IllegalArgumentException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -779,7 +793,9 @@ public abstract class Assert {
    * @see java.lang.Class#isInstance(Object)
    */
   public static void isInstanceOf(Object obj, Class<?> type, String message, Object... messagePlaceholderValues) {
-    isInstanceOf(obj, type, new IllegalTypeException(format(message, messagePlaceholderValues)));
+    if (isNotInstanceOf(obj, type)) {
+      throw new IllegalTypeException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -869,7 +885,9 @@ public abstract class Assert {
    * @see java.lang.Boolean#TRUE
    */
   public static void isTrue(Boolean condition, String message, Object... messagePlaceholderValues) {
-    isTrue(condition, new IllegalArgumentException(format(message, messagePlaceholderValues)));
+    if (isNotTrue(condition)) {
+      throw new IllegalArgumentException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -949,7 +967,9 @@ public abstract class Assert {
    * @see java.lang.String
    */
   public static void notEmpty(String value, String message, Object... messagePlaceholderValues) {
-    notEmpty(value, new IllegalArgumentException(format(message, messagePlaceholderValues)));
+    if (isEmpty(value)) {
+      throw new IllegalArgumentException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -1029,7 +1049,9 @@ public abstract class Assert {
    * @see #notEmpty(Object[], RuntimeException)
    */
   public static void notEmpty(Object[] array, String message, Object... messagePlaceholderValues) {
-    notEmpty(array, new IllegalArgumentException(format(message, messagePlaceholderValues)));
+    if (isEmpty(array)) {
+      throw new IllegalArgumentException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -1110,7 +1132,9 @@ public abstract class Assert {
    * @see java.util.Collection#isEmpty()
    */
   public static void notEmpty(Collection<?> collection, String message, Object... messagePlaceholderValues) {
-    notEmpty(collection, new IllegalArgumentException(format(message, messagePlaceholderValues)));
+    if (isEmpty(collection)) {
+      throw new IllegalArgumentException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -1196,7 +1220,9 @@ public abstract class Assert {
    * @see java.lang.Iterable
    */
   public static void notEmpty(Iterable<?> iterable, String message, Object... messagePlaceholderValues) {
-    notEmpty(iterable, new IllegalArgumentException(format(message, messagePlaceholderValues)));
+    if (isEmpty(iterable)) {
+      throw new IllegalArgumentException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -1291,7 +1317,9 @@ public abstract class Assert {
    * @see java.util.Map#isEmpty()
    */
   public static void notEmpty(Map<?, ?> map, String message, Object... messagePlaceholderValues) {
-    notEmpty(map, new IllegalArgumentException(format(message, messagePlaceholderValues)));
+    if (isEmpty(map)) {
+      throw new IllegalArgumentException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -1432,7 +1460,9 @@ public abstract class Assert {
    * @see java.lang.Object
    */
   public static void notNull(Object obj, String message, Object... messagePlaceholderValues) {
-    notNull(obj, new IllegalArgumentException(format(message, messagePlaceholderValues)));
+    if (isNull(obj)) {
+      throw new IllegalArgumentException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -1512,7 +1542,9 @@ public abstract class Assert {
    * @see java.lang.Object
    */
   public static void notSame(Object obj1, Object obj2, String message, Object... messagePlaceholderValues) {
-    notSame(obj1, obj2, new IdentityException(format(message, messagePlaceholderValues)));
+    if (isSame(obj1, obj2)) {
+      throw new IdentityException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -1595,7 +1627,9 @@ public abstract class Assert {
    * @see java.lang.Object
    */
   public static void same(Object obj1, Object obj2, String message, Object... messagePlaceholderValues) {
-    same(obj1, obj2, new IdentityException(format(message, messagePlaceholderValues)));
+    if (isNotSame(obj1, obj2)) {
+      throw new IdentityException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -1674,7 +1708,9 @@ public abstract class Assert {
    * @see #state(Boolean, RuntimeException)
    */
   public static void state(Boolean state, String message, Object... messagePlaceholderValues) {
-    state(state, new IllegalStateException(format(message, messagePlaceholderValues)));
+    if (isNotTrue(state)) {
+      throw new IllegalStateException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
@@ -1689,7 +1725,7 @@ public abstract class Assert {
    * @see java.util.function.Supplier
    */
   public static void state(Boolean state, Supplier<String> message) {
-    if (isNotValid(state, argument -> Boolean.TRUE.equals(state))) {
+    if (isNotTrue(state)) {
       throw new IllegalStateException(message.get());
     }
   }
@@ -1704,7 +1740,7 @@ public abstract class Assert {
    * @throws java.lang.RuntimeException if the state is invalid.
    */
   public static void state(Boolean state, RuntimeException cause) {
-    if (isNotValid(state, argument -> Boolean.TRUE.equals(state))) {
+    if (isNotTrue(state)) {
       throw cause;
     }
   }
@@ -1750,7 +1786,9 @@ public abstract class Assert {
    * @see #supported(Boolean, RuntimeException)
    */
   public static void supported(Boolean supported, String message, Object... messagePlaceholderValues) {
-    supported(supported, new UnsupportedOperationException(format(message, messagePlaceholderValues)));
+    if (isNotSupported(supported)) {
+      throw new UnsupportedOperationException(format(message, messagePlaceholderValues));
+    }
   }
 
   /**
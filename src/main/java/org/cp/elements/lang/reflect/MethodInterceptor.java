@@ -43,6 +43,23 @@ public interface MethodInterceptor<T> extends InvocationHandler {
    */
   T getTarget();
 
+  /**
+   * Determines whether this {@link MethodInterceptor} intercepts invocations of the given {@link Method}.
+   * <p>
+   * {@literal Proxy} implementations that resolve the chain of {@link MethodInterceptor MethodInterceptors}
+   * per {@link Method} ahead of invocation use this to skip {@link MethodInterceptor MethodInterceptors}
+   * that do not handle the {@link Method}, rather than relying on an {@link UnhandledMethodInvocationException}
+   * being thrown. By default, all {@link Method Methods} are intercepted.
+   *
+   * @param method {@link Method} to evaluate.
+   * @return a boolean value indicating whether this {@link MethodInterceptor} intercepts invocations
+   * of the given {@link Method}.
+   * @see java.lang.reflect.Method
+   */
+  default boolean canIntercept(Method method) {
+    return true;
+  }
+
   /**
    * Intercepts the {@link Method} identified and encapsulated by the given {@link MethodInvocation}.
    *
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.reflect.provider;
+
+import java.lang.reflect.Proxy;
+
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.reflect.MethodInterceptor;
+import org.cp.elements.lang.reflect.ProxyFactory;
+import org.cp.elements.lang.reflect.support.DispatchingInvocationHandler;
+
+/**
+ * A {@link ProxyFactory} Service Provider Implementation (SPI) that creates JDK Dynamic Proxies
+ * dispatching {@link java.lang.reflect.Method} invocations through a chain of
+ * {@link MethodInterceptor MethodInterceptors} resolved once per {@link java.lang.reflect.Method}.
+ * <p>
+ * The {@literal Proxy} {@link Class} is generated by the JDK and cached per {@link ClassLoader}
+ * and set of {@link Class interfaces}. The interceptor chain for every {@link java.lang.reflect.Method} declared by
+ * the {@link Class interfaces} is resolved when the {@literal Proxy} is created, so that no exceptions are thrown
+ * to skip {@link MethodInterceptor MethodInterceptors} that do not handle a {@link java.lang.reflect.Method}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of {@link Object} to proxy.
+ * @see java.lang.reflect.Proxy
+ * @see org.cp.elements.lang.reflect.provider.JdkDynamicProxiesFactory
+ * @see org.cp.elements.lang.reflect.support.DispatchingInvocationHandler
+ * @since 3.0.0
+ */
+public class DispatchingProxiesFactory<T> extends JdkDynamicProxiesFactory<T> {
+
+  /**
+   * Factory method used to construct a new {@link DispatchingProxiesFactory}.
+   *
+   * @param <T> preferred {@link Class type} of the {@literal Proxy} object.
+   * @return a new {@link DispatchingProxiesFactory}.
+   * @see org.cp.elements.lang.reflect.provider.DispatchingProxiesFactory
+   */
+  public static @NotNull <T> DispatchingProxiesFactory<T> newDispatchingProxiesFactory() {
+    return new DispatchingProxiesFactory<>();
+  }
+
+  /**
+   * Constructs a new {@literal Proxy} for the given {@link Object target} implementing the given array of
+   * {@link Class interfaces}, dispatching {@link java.lang.reflect.Method} invocations through the pre-resolved
+   * chain of {@link MethodInterceptor MethodInterceptors}.
+   *
+   * @param <R> desired {@link Class type} of the proxied {@link Object}.
+   * @param proxyClassLoader {@link ClassLoader} used to create the {@literal Proxy} {@link Class type}.
+   * @param target {@link Object} to proxy.
+   * @param proxyInterfaces array of {@link Class interfaces} for the constructed, proxied {@link Object}
+   * to implement.
+   * @param methodInterceptors {@link Iterable} of {@link MethodInterceptor MethodInterceptors} used to advise
+   * the {@literal Proxy}.
+   * @return a new JDK Dynamic Proxy instance.
+   * @see org.cp.elements.lang.reflect.support.DispatchingInvocationHandler
+   * @see #resolveInterfaces(Object, Class[])
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <R> R newProxy(ClassLoader proxyClassLoader, T target, Class<?>[] proxyInterfaces,
+      Iterable<MethodInterceptor<T>> methodInterceptors) {
+
+    Class<?>[] resolvedProxyInterfaces = resolveInterfaces(target, proxyInterfaces);
+
+    return (R) Proxy.newProxyInstance(proxyClassLoader, resolvedProxyInterfaces,
+      DispatchingInvocationHandler.compose(methodInterceptors, resolvedProxyInterfaces));
+  }
+}
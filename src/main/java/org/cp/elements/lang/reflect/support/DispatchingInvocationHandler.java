@@ -0,0 +1,212 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.reflect.support;
+
+import static org.cp.elements.lang.ElementsExceptionsFactory.newUnhandledMethodInvocationException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.NullSafe;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+import org.cp.elements.lang.reflect.MethodInterceptor;
+import org.cp.elements.lang.reflect.UnhandledMethodInvocationException;
+import org.cp.elements.util.ArrayUtils;
+
+/**
+ * {@link InvocationHandler} implementation that dispatches a {@link Method} invocation using a chain of
+ * {@link InvocationHandler InvocationHandlers} resolved once per {@link Method}.
+ * <p>
+ * Unlike the {@link ComposableInvocationHandler}, which tries each {@link InvocationHandler} in turn on every
+ * invocation and relies on a thrown {@link UnhandledMethodInvocationException} to move on to the next,
+ * this {@link InvocationHandler} consults {@link MethodInterceptor#canIntercept(Method)} when the chain
+ * for a {@link Method} is first resolved. The resolved chain is stored in a dispatch table keyed by
+ * {@link Method}, which can be populated ahead of time for all the {@link Method Methods} declared by
+ * the {@literal Proxy} {@link Class interfaces}.
+ * <p>
+ * For compatibility, an {@link InvocationHandler} in the resolved chain that still throws
+ * an {@link UnhandledMethodInvocationException} passes the invocation on to the next {@link InvocationHandler}
+ * in the chain.
+ *
+ * @author John Blum
+ * @see java.lang.Iterable
+ * @see java.lang.reflect.InvocationHandler
+ * @see java.lang.reflect.Method
+ * @see org.cp.elements.lang.reflect.MethodInterceptor
+ * @see org.cp.elements.lang.reflect.support.ComposableInvocationHandler
+ * @since 3.0.0
+ */
+@ThreadSafe
+public class DispatchingInvocationHandler implements InvocationHandler, Iterable<InvocationHandler> {
+
+  private static final InvocationHandler[] EMPTY_CHAIN = new InvocationHandler[0];
+
+  /**
+   * Factory method used to construct a new {@link DispatchingInvocationHandler} composed of the given
+   * {@link Iterable} of {@link InvocationHandler InvocationHandlers} with a dispatch table pre-resolved for
+   * all the {@link Method Methods} of the given array of {@link Class interfaces}.
+   *
+   * @param invocationHandlers {@link Iterable} of {@link InvocationHandler InvocationHandlers} to compose.
+   * @param interfaces array of {@link Class interfaces} implemented by the {@literal Proxy}.
+   * @return a new {@link DispatchingInvocationHandler}.
+   * @see java.lang.reflect.InvocationHandler
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  public static @NotNull DispatchingInvocationHandler compose(
+      @Nullable Iterable<? extends InvocationHandler> invocationHandlers, Class<?>... interfaces) {
+
+    InvocationHandler[] resolvedInvocationHandlers = invocationHandlers != null
+      ? ArrayUtils.asArray((Iterable) invocationHandlers, InvocationHandler.class)
+      : EMPTY_CHAIN;
+
+    return new DispatchingInvocationHandler(resolvedInvocationHandlers).resolveAll(interfaces);
+  }
+
+  private final InvocationHandler[] invocationHandlers;
+
+  private final Map<Method, InvocationHandler[]> dispatchTable = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new {@link DispatchingInvocationHandler} initialized with the given
+   * array of {@link InvocationHandler InvocationHandlers}.
+   *
+   * @param invocationHandlers array of {@link InvocationHandler InvocationHandlers} to compose.
+   * @see java.lang.reflect.InvocationHandler
+   */
+  @NullSafe
+  protected DispatchingInvocationHandler(InvocationHandler... invocationHandlers) {
+
+    this.invocationHandlers = Arrays.stream(ArrayUtils.nullSafeArray(invocationHandlers, InvocationHandler.class))
+      .filter(Objects::nonNull)
+      .toArray(InvocationHandler[]::new);
+  }
+
+  /**
+   * Returns an {@link Iterator} over the {@link InvocationHandler InvocationHandlers} composed by this
+   * {@link DispatchingInvocationHandler}.
+   *
+   * @return an {@link Iterator} over the {@link InvocationHandler InvocationHandlers}.
+   * @see java.lang.reflect.InvocationHandler
+   * @see java.util.Iterator
+   */
+  @Override
+  public @NotNull Iterator<InvocationHandler> iterator() {
+    return Collections.unmodifiableList(Arrays.asList(this.invocationHandlers)).iterator();
+  }
+
+  /**
+   * Resolves the chain of {@link InvocationHandler InvocationHandlers} for all {@link Method Methods} declared by
+   * the given {@link Class interfaces} along with {@link Object#equals(Object)}, {@link Object#hashCode()}
+   * and {@link Object#toString()}, which are also dispatched to the {@link InvocationHandler} of a JDK Proxy.
+   *
+   * @param interfaces array of {@link Class interfaces} implemented by the {@literal Proxy}.
+   * @return this {@link DispatchingInvocationHandler}.
+   * @see #resolve(Method)
+   */
+  @NullSafe
+  protected @NotNull DispatchingInvocationHandler resolveAll(Class<?>... interfaces) {
+
+    for (Class<?> type : ArrayUtils.nullSafeArray(interfaces, Class.class)) {
+      if (type != null) {
+        for (Method method : type.getMethods()) {
+          resolve(method);
+        }
+      }
+    }
+
+    try {
+      resolve(Object.class.getMethod("equals", Object.class));
+      resolve(Object.class.getMethod("hashCode"));
+      resolve(Object.class.getMethod("toString"));
+    }
+    catch (NoSuchMethodException ignore) {
+      // Object methods are always present
+    }
+
+    return this;
+  }
+
+  /**
+   * Resolves the chain of {@link InvocationHandler InvocationHandlers} that handle the given {@link Method}.
+   * <p>
+   * {@link MethodInterceptor MethodInterceptors} that do not {@link MethodInterceptor#canIntercept(Method) intercept}
+   * the {@link Method} are excluded from the chain.
+   *
+   * @param method {@link Method} to resolve.
+   * @return the resolved chain of {@link InvocationHandler InvocationHandlers} for the given {@link Method};
+   * never {@literal null}.
+   * @see org.cp.elements.lang.reflect.MethodInterceptor#canIntercept(Method)
+   * @see java.lang.reflect.Method
+   */
+  protected @NotNull InvocationHandler[] resolve(@NotNull Method method) {
+
+    InvocationHandler[] chain = this.dispatchTable.get(method);
+
+    if (chain == null) {
+      chain = this.dispatchTable.computeIfAbsent(method, key -> Arrays.stream(this.invocationHandlers)
+        .filter(invocationHandler -> canHandle(invocationHandler, key))
+        .toArray(InvocationHandler[]::new));
+    }
+
+    return chain;
+  }
+
+  private boolean canHandle(@NotNull InvocationHandler invocationHandler, @NotNull Method method) {
+    return !(invocationHandler instanceof MethodInterceptor<?> methodInterceptor)
+      || methodInterceptor.canIntercept(method);
+  }
+
+  /**
+   * Dispatches the invocation of the given {@link Method} on the {@literal Proxy} to the first
+   * {@link InvocationHandler} in the resolved chain for the {@link Method}.
+   *
+   * @param proxy {@link Object proxy} on which the {@link Method} was invoked.
+   * @param method {@link Method} that was called.
+   * @param args array of {@link Object arguments} passed to the {@link Method}.
+   * @return the {@link Object return value} from the {@link InvocationHandler} handling the {@link Method}.
+   * @throws UnhandledMethodInvocationException if no {@link InvocationHandler} handles the {@link Method}.
+   * @see java.lang.reflect.InvocationHandler#invoke(Object, Method, Object[])
+   * @see #resolve(Method)
+   */
+  @Override
+  public @Nullable Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+    InvocationHandler[] chain = resolve(method);
+
+    int lastIndex = chain.length - 1;
+
+    for (int index = 0; index < lastIndex; index++) {
+      try {
+        return chain[index].invoke(proxy, method, args);
+      }
+      catch (UnhandledMethodInvocationException ignore) { }
+    }
+
+    if (lastIndex < 0) {
+      throw newUnhandledMethodInvocationException("Method [%s] was not handled", method.getName());
+    }
+
+    return chain[lastIndex].invoke(proxy, method, args);
+  }
+}
@@ -84,6 +84,25 @@ public class MethodInvokingMethodInterceptor implements MethodInterceptor<Object
     return this.target;
   }
 
+  /**
+   * Determines whether the given {@link Method} can be invoked on the configured {@link #getTarget() target}.
+   * <p>
+   * If {@link #getTarget() target} is {@literal null}, then all {@link Method Methods} are intercepted
+   * since the {@link Method} is invoked on the configured target of the {@link MethodInvocation}.
+   *
+   * @param method {@link Method} to evaluate.
+   * @return a boolean value indicating whether the given {@link Method} can be invoked on
+   * the configured {@link #getTarget() target}.
+   * @see #getTarget()
+   */
+  @Override
+  public boolean canIntercept(@Nullable Method method) {
+
+    Object target = getTarget();
+
+    return target == null || (method != null && method.getDeclaringClass().isInstance(target));
+  }
+
   /**
    * Intercepts the given {@link MethodInvocation} on the proxy of an {@link Object} and in turn invokes
    * the {@link Method} on the configured {@link #getTarget() target} object.  If {@link #getTarget() target}
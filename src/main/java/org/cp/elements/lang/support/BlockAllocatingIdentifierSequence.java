@@ -0,0 +1,116 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.IdentifierSequence;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Implementation of the {@link IdentifierSequence} interface generating unique, {@link Long Long-typed} identifiers
+ * from blocks (ranges) of identifiers allocated to each {@link Thread}.
+ * <p>
+ * Each {@link Thread} reserves a block of {@link #getBlockSize() block size} identifiers from a shared
+ * {@link AtomicLong} and then hands out identifiers from its block without any contention. The shared
+ * {@link AtomicLong} is only updated when a {@link Thread} exhausts its block.
+ * <p>
+ * Identifiers are unique and increasing per {@link Thread}, but are not ordered across {@link Thread Threads}.
+ * Identifiers remaining in a block when its {@link Thread} terminates are never used.
+ *
+ * @author John Blum
+ * @see java.lang.Long
+ * @see java.lang.ThreadLocal
+ * @see java.util.concurrent.atomic.AtomicLong
+ * @see org.cp.elements.lang.IdentifierSequence
+ * @since 3.0.0
+ */
+@ThreadSafe
+public class BlockAllocatingIdentifierSequence implements IdentifierSequence<Long> {
+
+  public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+  public static final long DEFAULT_STARTING_VALUE = 1L;
+
+  private final int blockSize;
+
+  private final AtomicLong nextBlockStart;
+
+  private final ThreadLocal<Block> block = ThreadLocal.withInitial(Block::new);
+
+  /**
+   * Constructs a new {@link BlockAllocatingIdentifierSequence} starting at {@link #DEFAULT_STARTING_VALUE}
+   * and allocating blocks of {@link #DEFAULT_BLOCK_SIZE} identifiers.
+   */
+  public BlockAllocatingIdentifierSequence() {
+    this(DEFAULT_STARTING_VALUE, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Constructs a new {@link BlockAllocatingIdentifierSequence} starting at the given {@link Long value}
+   * and allocating blocks of the given {@link Integer size}.
+   *
+   * @param startingValue {@link Long} containing the first identifier in the sequence.
+   * @param blockSize {@link Integer} containing the number of identifiers allocated to a {@link Thread} at once;
+   * must be greater than {@literal 0}.
+   * @throws IllegalArgumentException if the {@link Integer block size} is less than {@literal 1}.
+   */
+  public BlockAllocatingIdentifierSequence(long startingValue, int blockSize) {
+
+    Assert.isTrue(blockSize > 0, "Block size [%d] must be greater than 0", blockSize);
+
+    this.blockSize = blockSize;
+    this.nextBlockStart = new AtomicLong(startingValue);
+  }
+
+  /**
+   * Gets the number of identifiers allocated to a {@link Thread} at once.
+   *
+   * @return the number of identifiers allocated to a {@link Thread} at once.
+   */
+  public int getBlockSize() {
+    return this.blockSize;
+  }
+
+  /**
+   * Generates the next unique ID in sequence from the current {@link Thread Thread's} block, allocating
+   * a new block when the current block is exhausted.
+   *
+   * @return the next unique {@link Long} ID in the sequence.
+   * @see java.util.concurrent.atomic.AtomicLong#getAndAdd(long)
+   */
+  @Override
+  public @NotNull Long nextId() {
+
+    Block block = this.block.get();
+
+    if (block.next == block.limit) {
+      block.next = this.nextBlockStart.getAndAdd(getBlockSize());
+      block.limit = block.next + getBlockSize();
+    }
+
+    return block.next++;
+  }
+
+  private static final class Block {
+
+    private long limit;
+    private long next;
+
+  }
+}
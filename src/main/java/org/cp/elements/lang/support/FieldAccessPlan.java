@@ -0,0 +1,273 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.support;
+
+import static org.cp.elements.lang.ElementsExceptionsFactory.newFieldAccessException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+import org.cp.elements.lang.reflect.FieldAccessException;
+import org.cp.elements.lang.reflect.ModifierUtils;
+
+/**
+ * A compiled plan for reading the {@literal non-static}, {@literal non-transient} {@link Field Fields}
+ * of an {@link Object} of a given {@link Class type}, declared by the {@link Class type} or any of
+ * its {@link Class#getSuperclass() superclasses}.
+ * <p>
+ * The {@link Field Fields} are resolved and ordered once per {@link Class type} and read with
+ * {@link MethodHandle MethodHandles}. The {@link FieldAccessPlan} is cached in a {@link ClassValue}
+ * and can be used to compute the {@link Object#hashCode() hash code}, determine {@link Object#equals(Object)
+ * equality} and {@link Object#toString() render} an {@link Object} from its state.
+ *
+ * @author John Blum
+ * @see java.lang.ClassValue
+ * @see java.lang.invoke.MethodHandle
+ * @see java.lang.reflect.Field
+ * @see org.cp.elements.lang.support.HashCodeBuilder
+ * @see org.cp.elements.lang.support.ObjectFieldsRenderer
+ * @since 3.0.0
+ */
+@ThreadSafe
+public final class FieldAccessPlan {
+
+  private static final ClassValue<FieldAccessPlan> FIELD_ACCESS_PLAN_CACHE = new ClassValue<>() {
+
+    @Override
+    protected FieldAccessPlan computeValue(Class<?> type) {
+      return new FieldAccessPlan(type);
+    }
+  };
+
+  private static final Comparator<Field> FIELD_ORDER = Comparator.comparing(field ->
+    field.getDeclaringClass().getName().concat(field.getName()));
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  /**
+   * Factory method used to get the cached {@link FieldAccessPlan} for the given, required {@link Class type}.
+   *
+   * @param type {@link Class type} of {@link Object} to read; must not be {@literal null}.
+   * @return the cached {@link FieldAccessPlan} for the given {@link Class type}.
+   * @throws IllegalArgumentException if the {@link Class type} is {@literal null}.
+   * @throws FieldAccessException if a {@link Field} of the {@link Class type} cannot be accessed.
+   */
+  public static @NotNull FieldAccessPlan forType(@NotNull Class<?> type) {
+    return FIELD_ACCESS_PLAN_CACHE.get(ObjectUtils.requireObject(type, "Class type is required"));
+  }
+
+  private final Class<?> type;
+
+  private final FieldAccessor[] fieldAccessors;
+
+  private FieldAccessPlan(@NotNull Class<?> type) {
+
+    List<Field> fields = new ArrayList<>();
+
+    for (Class<?> currentType = type; currentType != null; currentType = currentType.getSuperclass()) {
+      for (Field field : currentType.getDeclaredFields()) {
+        if (!(ModifierUtils.isStatic(field) || ModifierUtils.isTransient(field))) {
+          fields.add(field);
+        }
+      }
+    }
+
+    fields.sort(FIELD_ORDER);
+
+    this.type = type;
+    this.fieldAccessors = fields.stream()
+      .map(FieldAccessor::from)
+      .toArray(FieldAccessor[]::new);
+  }
+
+  /**
+   * Gets the {@link Class type} of {@link Object} read by this {@link FieldAccessPlan}.
+   *
+   * @return the {@link Class type} of {@link Object} read by this {@link FieldAccessPlan}.
+   */
+  public @NotNull Class<?> getType() {
+    return this.type;
+  }
+
+  /**
+   * Gets the number of {@link Field Fields} read by this {@link FieldAccessPlan}.
+   *
+   * @return the number of {@link Field Fields} read by this {@link FieldAccessPlan}.
+   */
+  public int size() {
+    return this.fieldAccessors.length;
+  }
+
+  /**
+   * Gets an unmodifiable {@link List} of the {@link Field Fields} read by this {@link FieldAccessPlan} in order.
+   *
+   * @return an unmodifiable {@link List} of the {@link Field Fields} read by this {@link FieldAccessPlan}.
+   * @see java.lang.reflect.Field
+   */
+  public @NotNull List<Field> getFields() {
+
+    List<Field> fields = new ArrayList<>(size());
+
+    for (FieldAccessor fieldAccessor : this.fieldAccessors) {
+      fields.add(fieldAccessor.field());
+    }
+
+    return Collections.unmodifiableList(fields);
+  }
+
+  /**
+   * Gets the {@link String name} of the {@link Field} at the given {@link Integer index} in this plan.
+   *
+   * @param index {@link Integer index} of the {@link Field} in this plan.
+   * @return the {@link String name} of the {@link Field} at the given {@link Integer index}.
+   * @throws IndexOutOfBoundsException if the {@link Integer index} is not valid.
+   */
+  public @NotNull String getFieldName(int index) {
+    return this.fieldAccessors[index].field().getName();
+  }
+
+  /**
+   * Gets the {@link Object value} of the {@link Field} at the given {@link Integer index} in this plan
+   * from the given, required {@link Object target}.
+   * <p>
+   * {@link Object Values} of primitive {@link Field Fields} are boxed.
+   *
+   * @param target {@link Object} from which to read the {@link Field}; must be an instance of {@link #getType()}.
+   * @param index {@link Integer index} of the {@link Field} in this plan.
+   * @return the {@link Object value} of the {@link Field}.
+   * @throws FieldAccessException if the {@link Field} could not be read.
+   * @throws IndexOutOfBoundsException if the {@link Integer index} is not valid.
+   */
+  public @Nullable Object getValue(@NotNull Object target, int index) {
+    return this.fieldAccessors[index].get(target);
+  }
+
+  /**
+   * Computes the {@link Object#hashCode() hash code} of the given {@link Object} from the {@link Object values}
+   * of its {@link Field Fields} using the given {@link Integer base value} and {@link Integer multiplier}.
+   * <p>
+   * The result is the same as combining the {@link Object value} of each {@link Field} in order
+   * with {@link HashCodeBuilder#with(Object)}.
+   *
+   * @param target {@link Object} to hash; must be an instance of {@link #getType()}.
+   * @param baseValue {@link Integer} indicating the starting value of the hash code.
+   * @param multiplier {@link Integer} used to combine the individual factors.
+   * @return the computed {@link Object#hashCode() hash code}.
+   * @throws FieldAccessException if a {@link Field} could not be read.
+   */
+  public int hashCode(@NotNull Object target, int baseValue, int multiplier) {
+
+    int hashValue = baseValue;
+
+    for (FieldAccessor fieldAccessor : this.fieldAccessors) {
+      hashValue = multiplier * hashValue + ObjectUtils.hashCode(fieldAccessor.get(target));
+    }
+
+    return hashValue;
+  }
+
+  /**
+   * Determines whether the given {@link Object Objects} are of the same {@link Class type} as this plan
+   * and have equal {@link Object values} for all {@link Field Fields}.
+   *
+   * @param target {@link Object} to compare.
+   * @param other {@link Object} to compare.
+   * @return a boolean value indicating whether the given {@link Object Objects} are equal in state.
+   * @throws FieldAccessException if a {@link Field} could not be read.
+   * @see java.lang.Object#equals(Object)
+   */
+  public boolean equals(@Nullable Object target, @Nullable Object other) {
+
+    if (target == other) {
+      return true;
+    }
+
+    if (target == null || other == null || target.getClass() != getType() || other.getClass() != getType()) {
+      return false;
+    }
+
+    for (FieldAccessor fieldAccessor : this.fieldAccessors) {
+      if (!ObjectUtils.equalsIgnoreNull(fieldAccessor.get(target), fieldAccessor.get(other))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Renders the given {@link Object} as a {@link String} listing the {@link Class type} followed by
+   * the {@link String name} and {@link Object value} of each {@link Field}.
+   *
+   * @param target {@link Object} to render; must be an instance of {@link #getType()}.
+   * @return a {@link String} representation of the given {@link Object}.
+   * @throws FieldAccessException if a {@link Field} could not be read.
+   * @see org.cp.elements.lang.support.ObjectFieldsRenderer
+   */
+  public @NotNull String toString(@NotNull Object target) {
+
+    StringBuilder buffer = new StringBuilder("{ @type = ").append(getType().getName());
+
+    for (FieldAccessor fieldAccessor : this.fieldAccessors) {
+      buffer.append(", ")
+        .append(fieldAccessor.field().getName())
+        .append(" = ")
+        .append(fieldAccessor.get(target));
+    }
+
+    return buffer.append(" }").toString();
+  }
+
+  private record FieldAccessor(@NotNull Field field, @NotNull MethodHandle getter) {
+
+    static @NotNull FieldAccessor from(@NotNull Field field) {
+
+      try {
+        if (!field.trySetAccessible()) {
+          throw newFieldAccessException("Field [%s] on class type [%s] is not accessible",
+            field.getName(), field.getDeclaringClass().getName());
+        }
+
+        return new FieldAccessor(field, MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE));
+      }
+      catch (IllegalAccessException | SecurityException cause) {
+        throw newFieldAccessException(cause, "Failed to access field [%s] on class type [%s]",
+          field.getName(), field.getDeclaringClass().getName());
+      }
+    }
+
+    @Nullable Object get(@NotNull Object target) {
+
+      try {
+        return (Object) this.getter.invokeExact(target);
+      }
+      catch (Throwable cause) {
+        throw newFieldAccessException(cause, "Failed to get value of field [%s] from object of type [%s]",
+          field().getName(), target.getClass().getName());
+      }
+    }
+  }
+}
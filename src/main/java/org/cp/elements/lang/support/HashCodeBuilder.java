@@ -16,11 +16,9 @@
 package org.cp.elements.lang.support;
 
 import static org.cp.elements.lang.LangExtensions.assertThat;
-import static org.cp.elements.lang.reflect.ReflectionUtils.getValue;
-import static org.cp.elements.lang.reflect.ReflectionUtils.withFields;
 
-import java.util.Optional;
 import java.util.function.Function;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.cp.elements.lang.Builder;
@@ -28,7 +26,6 @@ import org.cp.elements.lang.ObjectUtils;
 import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.lang.annotation.NullSafe;
 import org.cp.elements.lang.annotation.Nullable;
-import org.cp.elements.lang.reflect.ModifierUtils;
 import org.cp.elements.text.FormatUtils;
 
 /**
@@ -38,7 +35,7 @@ import org.cp.elements.text.FormatUtils;
  * @see java.lang.Object#hashCode()
  * @see org.cp.elements.lang.Builder
  * @see org.cp.elements.lang.ObjectUtils
- * @see org.cp.elements.lang.reflect.ReflectionUtils
+ * @see org.cp.elements.lang.support.FieldAccessPlan
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
@@ -90,8 +87,12 @@ public class HashCodeBuilder implements Builder<Integer> {
    *   }
    * </code>
    *
+   * The {@literal non-static}, {@literal non-transient} {@link java.lang.reflect.Field Fields} of the {@link Object}
+   * are read using the {@link FieldAccessPlan} cached for the {@link Object Object's} {@link Class type}.
+   *
    * @param obj {@link Object} on which to compute the hash code.
    * @return an instance of {@link HashCodeBuilder} used to compute the hash code of the given {@link Object}.
+   * @see org.cp.elements.lang.support.FieldAccessPlan
    * @see java.lang.Object#hashCode()
    */
   @NullSafe
@@ -105,15 +106,25 @@ public class HashCodeBuilder implements Builder<Integer> {
 
     HashCodeBuilder builder = hashCodeBuilderFunction.apply(create());
 
-    Optional.ofNullable(obj).ifPresent(object ->
-      withFields().on(object).matching(field -> !ModifierUtils.isTransient(field)).call(field -> {
+    if (obj != null) {
+
+      FieldAccessPlan fieldAccessPlan = FieldAccessPlan.forType(obj.getClass());
+
+      Logger logger = builder.getLogger();
+
+      boolean logging = logger.isLoggable(Level.FINE);
 
-        builder.getLogger().fine(() -> FormatUtils.format("Hashing field [%1$s] on object [%2$s]",
-          field.getName(), object.getClass().getName()));
+      for (int index = 0, size = fieldAccessPlan.size(); index < size; index++) {
 
-        builder.with(getValue(object, field, field.getType()));
+        if (logging) {
+          String fieldName = fieldAccessPlan.getFieldName(index);
+          logger.fine(() -> FormatUtils.format("Hashing field [%1$s] on object [%2$s]",
+            fieldName, obj.getClass().getName()));
+        }
 
-      }));
+        builder.with(fieldAccessPlan.getValue(obj, index));
+      }
+    }
 
     return builder;
   }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.support;
+
+import org.cp.elements.lang.Renderer;
+import org.cp.elements.lang.annotation.NullSafe;
+
+/**
+ * Implementation of the {@link Renderer} interface that renders an {@link Object} as a structured {@link String}
+ * containing the {@link Class type} followed by the name and value of each {@literal non-static},
+ * {@literal non-transient} field, for example: {@literal { @type = example.Person, firstName = Jon, lastName = Doe }}.
+ * <p>
+ * Fields are read using the {@link FieldAccessPlan} cached for the {@link Object Object's} {@link Class type}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class} type of the {@link Object} to render.
+ * @see org.cp.elements.lang.Renderer
+ * @see org.cp.elements.lang.support.FieldAccessPlan
+ * @since 3.0.0
+ */
+public class ObjectFieldsRenderer<T> implements Renderer<T> {
+
+  public static final ObjectFieldsRenderer<Object> INSTANCE = new ObjectFieldsRenderer<>();
+
+  /**
+   * Renders the given {@link Object} from the values of its fields.
+   *
+   * @param obj {@link Object} to render as a {@link String}.
+   * @return a {@link String} representation of the given {@link Object},
+   * or {@literal "null"} if the {@link Object} is {@literal null}.
+   * @see org.cp.elements.lang.support.FieldAccessPlan#toString(Object)
+   */
+  @Override
+  @NullSafe
+  public String render(T obj) {
+    return obj != null ? FieldAccessPlan.forType(obj.getClass()).toString(obj) : String.valueOf(obj);
+  }
+}
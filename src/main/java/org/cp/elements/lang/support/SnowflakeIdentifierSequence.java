@@ -0,0 +1,169 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.support;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.IdentifierSequence;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Implementation of the {@link IdentifierSequence} interface generating unique, time-ordered,
+ * {@link Long Long-typed} identifiers in the style of {@literal Snowflake} IDs.
+ * <p>
+ * Each 64-bit identifier is composed of a 41-bit timestamp in milliseconds since the {@link #getEpoch() epoch},
+ * a 10-bit {@link #getNodeId() node ID} and a 12-bit sequence number, allowing {@literal 4096} identifiers
+ * per millisecond per node. Identifiers generated by different nodes are unique as long as each node uses
+ * a distinct {@link #getNodeId() node ID}.
+ * <p>
+ * Identifiers are generated without locking by compare-and-set on a single {@link AtomicLong}. When the sequence
+ * is exhausted within a millisecond, or the {@link Clock} moves backwards, the timestamp of the identifier is
+ * advanced past the last generated identifier rather than waiting on the {@link Clock}, so identifiers are always
+ * increasing.
+ *
+ * @author John Blum
+ * @see java.lang.Long
+ * @see java.time.Clock
+ * @see java.util.concurrent.atomic.AtomicLong
+ * @see org.cp.elements.lang.IdentifierSequence
+ * @since 3.0.0
+ */
+@ThreadSafe
+public class SnowflakeIdentifierSequence implements IdentifierSequence<Long> {
+
+  public static final Instant DEFAULT_EPOCH = Instant.parse("2020-01-01T00:00:00Z");
+
+  protected static final int NODE_ID_BITS = 10;
+  protected static final int SEQUENCE_BITS = 12;
+
+  public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  /**
+   * Factory method used to construct a new {@link SnowflakeIdentifierSequence} for the given {@link Integer node ID}
+   * using the {@link #DEFAULT_EPOCH} and {@link Clock#systemUTC() system clock}.
+   *
+   * @param nodeId {@link Integer} identifying the node generating identifiers;
+   * must be between {@literal 0} and {@link #MAX_NODE_ID}.
+   * @return a new {@link SnowflakeIdentifierSequence}.
+   * @throws IllegalArgumentException if the {@link Integer node ID} is out of range.
+   */
+  public static @NotNull SnowflakeIdentifierSequence forNode(int nodeId) {
+    return new SnowflakeIdentifierSequence(nodeId, DEFAULT_EPOCH, Clock.systemUTC());
+  }
+
+  private final AtomicLong lastTimestampAndSequence = new AtomicLong(0L);
+
+  private final Clock clock;
+
+  private final Instant epoch;
+
+  private final int nodeId;
+
+  private final long epochMilliseconds;
+
+  /**
+   * Constructs a new {@link SnowflakeIdentifierSequence} for the given {@link Integer node ID}
+   * counting time from the given {@link Instant epoch} using the given {@link Clock}.
+   *
+   * @param nodeId {@link Integer} identifying the node generating identifiers;
+   * must be between {@literal 0} and {@link #MAX_NODE_ID}.
+   * @param epoch {@link Instant} from which time is measured; must not be {@literal null}.
+   * @param clock {@link Clock} used to get the current time; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Integer node ID} is out of range
+   * or the {@link Instant epoch} or {@link Clock} are {@literal null}.
+   */
+  public SnowflakeIdentifierSequence(int nodeId, @NotNull Instant epoch, @NotNull Clock clock) {
+
+    Assert.isTrue(nodeId >= 0 && nodeId <= MAX_NODE_ID, "Node ID [%d] must be between 0 and %d",
+      nodeId, MAX_NODE_ID);
+
+    this.nodeId = nodeId;
+    this.epoch = ObjectUtils.requireObject(epoch, "Epoch is required");
+    this.clock = ObjectUtils.requireObject(clock, "Clock is required");
+    this.epochMilliseconds = epoch.toEpochMilli();
+  }
+
+  /**
+   * Gets the {@link Clock} used to get the current time.
+   *
+   * @return the {@link Clock} used to get the current time.
+   * @see java.time.Clock
+   */
+  protected @NotNull Clock getClock() {
+    return this.clock;
+  }
+
+  /**
+   * Gets the {@link Instant} from which the time in each identifier is measured.
+   *
+   * @return the {@link Instant} from which the time in each identifier is measured.
+   * @see java.time.Instant
+   */
+  public @NotNull Instant getEpoch() {
+    return this.epoch;
+  }
+
+  /**
+   * Gets the {@link Integer} identifying the node generating identifiers.
+   *
+   * @return the {@link Integer} identifying the node generating identifiers.
+   */
+  public int getNodeId() {
+    return this.nodeId;
+  }
+
+  /**
+   * Generates the next unique ID in sequence.
+   *
+   * @return the next unique {@link Long} ID in the sequence.
+   */
+  @Override
+  public @NotNull Long nextId() {
+
+    long timestamp = getClock().millis() - this.epochMilliseconds;
+    long candidate = timestamp << SEQUENCE_BITS;
+
+    long last;
+    long next;
+
+    do {
+      last = this.lastTimestampAndSequence.get();
+      next = Math.max(candidate, last + 1);
+    }
+    while (!this.lastTimestampAndSequence.compareAndSet(last, next));
+
+    return ((next >>> SEQUENCE_BITS) << (NODE_ID_BITS + SEQUENCE_BITS))
+      | ((long) getNodeId() << SEQUENCE_BITS)
+      | (next & SEQUENCE_MASK);
+  }
+
+  /**
+   * Gets the {@link Instant} at which the given identifier was generated.
+   *
+   * @param id identifier generated by this {@link SnowflakeIdentifierSequence}.
+   * @return the {@link Instant} at which the given identifier was generated.
+   */
+  public @NotNull Instant timestampOf(long id) {
+    return Instant.ofEpochMilli((id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + this.epochMilliseconds);
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.support;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.cp.elements.lang.IdentifierSequence;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Implementation of the {@link IdentifierSequence} interface generating unique, time-ordered,
+ * version 7 {@link UUID UUIDs} as defined by {@literal RFC 9562}.
+ * <p>
+ * Each {@link UUID} contains a 48-bit Unix timestamp in milliseconds, a 12-bit counter and 62 random bits.
+ * The counter guarantees that {@link UUID UUIDs} generated by this {@link IdentifierSequence} are increasing,
+ * even within the same millisecond. The random bits are drawn from {@link ThreadLocalRandom}, which, unlike
+ * {@link UUID#randomUUID()}, does not contend on a shared {@link java.security.SecureRandom}. Therefore,
+ * these {@link UUID UUIDs} should not be used where the identifier must be unguessable.
+ *
+ * @author John Blum
+ * @see java.util.UUID
+ * @see java.util.concurrent.ThreadLocalRandom
+ * @see org.cp.elements.lang.IdentifierSequence
+ * @see org.cp.elements.lang.support.UUIDIdentifierSequence
+ * @since 3.0.0
+ */
+@ThreadSafe
+public class TimeOrderedUUIDIdentifierSequence implements IdentifierSequence<UUID> {
+
+  private static final int COUNTER_BITS = 12;
+
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+  private static final long VARIANT_BITS = 0x8000000000000000L;
+  private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+  private static final long VERSION_BITS = 0x7000L;
+
+  private final AtomicLong lastTimestampAndCounter = new AtomicLong(0L);
+
+  private final Clock clock;
+
+  /**
+   * Constructs a new {@link TimeOrderedUUIDIdentifierSequence} using the {@link Clock#systemUTC() system clock}.
+   */
+  public TimeOrderedUUIDIdentifierSequence() {
+    this(Clock.systemUTC());
+  }
+
+  /**
+   * Constructs a new {@link TimeOrderedUUIDIdentifierSequence} using the given {@link Clock}.
+   *
+   * @param clock {@link Clock} used to get the current time; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Clock} is {@literal null}.
+   */
+  public TimeOrderedUUIDIdentifierSequence(@NotNull Clock clock) {
+    this.clock = ObjectUtils.requireObject(clock, "Clock is required");
+  }
+
+  /**
+   * Gets the {@link Clock} used to get the current time.
+   *
+   * @return the {@link Clock} used to get the current time.
+   * @see java.time.Clock
+   */
+  protected @NotNull Clock getClock() {
+    return this.clock;
+  }
+
+  /**
+   * Generates the next unique, time-ordered {@link UUID} in sequence.
+   *
+   * @return the next unique {@link UUID} in the sequence.
+   */
+  @Override
+  public @NotNull UUID nextId() {
+
+    long candidate = getClock().millis() << COUNTER_BITS;
+
+    long last;
+    long next;
+
+    do {
+      last = this.lastTimestampAndCounter.get();
+      next = Math.max(candidate, last + 1);
+    }
+    while (!this.lastTimestampAndCounter.compareAndSet(last, next));
+
+    long mostSignificantBits = ((next >>> COUNTER_BITS) << 16) | VERSION_BITS | (next & COUNTER_MASK);
+    long leastSignificantBits = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_BITS;
+
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+
+  /**
+   * Gets the {@link Instant} at which the given version 7 {@link UUID} was generated.
+   *
+   * @param uuid version 7 {@link UUID}; must not be {@literal null}.
+   * @return the {@link Instant} at which the given {@link UUID} was generated.
+   * @throws IllegalArgumentException if the {@link UUID} is {@literal null}.
+   */
+  public static @NotNull Instant timestampOf(@NotNull UUID uuid) {
+    return Instant.ofEpochMilli(ObjectUtils.requireObject(uuid, "UUID is required").getMostSignificantBits() >>> 16);
+  }
+}
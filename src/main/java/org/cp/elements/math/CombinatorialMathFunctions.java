@@ -17,11 +17,19 @@ package org.cp.elements.math;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.MathUtils;
@@ -34,22 +42,34 @@ import org.cp.elements.lang.annotation.NotNull;
  * @author John Blum
  * @see BigInteger
  * @see MathUtils
+ * @see java.util.Spliterator
+ * @see java.util.stream.Stream
  * @since 0.1.0
  */
 public abstract class CombinatorialMathFunctions {
 
+  protected static final int MAX_PERMUTATION_SET_SIZE = 20;
+  protected static final int MAX_POWER_SET_SIZE = 62;
+
+  private static final long[] FACTORIALS = LongStream.rangeClosed(0, MAX_PERMUTATION_SET_SIZE)
+    .map(value -> computeFactorial(Math.toIntExact(value)).longValueExact())
+    .toArray();
+
   /**
    * Computes all non-repeatable, order-independent {@literal combinations} for all the {@link T elements}
    * in the given {@link List}.
+   * <p>
+   * {@literal Combinations} are ordered by size and then lexicographically by position in the given {@link List}.
+   * Use {@link #streamCombinations(List)} to generate the {@literal combinations} lazily.
    *
    * @param <T> {@link Class Type} of elements in the {@link List}.
    * @param list {@link List} on which the combinations will be computer.
    * @return all {@literal combinations} for all the {@link T elements} in the {@link List}.
    * @throws IllegalArgumentException if the given {@link List} is {@literal null}
    * or does not contain unique elements.
+   * @see #streamCombinations(List, int)
    * @see List
    */
-  // TODO: Analyze performance and research more efficient / optimal ways for computing combinations.
   @ExperimentalApi
   public static @NotNull <T> List<List<T>> combinations(@NotNull List<T> list) {
 
@@ -59,37 +79,139 @@ public abstract class CombinatorialMathFunctions {
 
     Assert.isTrue(setSize == newSet(list).size(), "Elements in List %s must be unique", list);
 
-    List<List<T>> combinations = newList(0, setSize);
-
-    // combinations 1
-    List<List<T>> baseCombinations = list.stream().map(Collections::singletonList).toList();
-
-    combinations.addAll(baseCombinations);
-
-    // combinations 2 to setSize - 1; combinationIndex is 1-based.
-    for (int combinationIndex = 2; combinationIndex < setSize; combinationIndex++) {
-      List<List<T>> newCombinations = newList(combinationIndex, setSize);
-      for (List<T> combination : baseCombinations) {
-        int startIndex = list.indexOf(combination.get(asIndex(combination.size()))) + 1;
-        for (int includeIndex = startIndex; includeIndex < setSize; includeIndex++) {
-          List<T> newCombination = newList(combination.size() + 1);
-          newCombination.addAll(combination);
-          newCombination.add(list.get(includeIndex));
-          newCombinations.add(newCombination);
-        }
-      }
-      combinations.addAll(newCombinations);
-      baseCombinations = newCombinations;
+    if (setSize == 0) {
+      return newList(Collections.singletonList(list));
     }
 
-    // combinationIndex setSize
-    if (!combinations.contains(list)) {
-      combinations.add(list);
+    List<List<T>> combinations = newList(1, setSize);
+
+    for (int combinationSize = 1; combinationSize <= setSize; combinationSize++) {
+      streamCombinations(list, combinationSize).forEachOrdered(combinations::add);
     }
 
     return combinations;
   }
 
+  /**
+   * Lazily generates all non-empty, order-independent {@literal combinations} of the {@link T elements}
+   * in the given {@link List}.
+   * <p>
+   * {@literal Combinations} are enumerated by bitmask, where the {@literal n-th} bit selects the element at
+   * {@literal index n} in the {@link List}. Elements are selected by position, so duplicate elements
+   * in the {@link List} result in duplicate {@literal combinations}.
+   * <p>
+   * The returned {@link Stream} is {@link Spliterator#SIZED sized} and splits evenly, so it can be made
+   * {@link Stream#parallel() parallel} to search all {@literal combinations} using all cores.
+   *
+   * @param <T> {@link Class Type} of elements in the {@link List}.
+   * @param list {@link List} from which the {@literal combinations} are generated; must not be {@literal null}.
+   * @return a lazy {@link Stream} of all non-empty {@literal combinations} of the {@link List}.
+   * @throws IllegalArgumentException if the given {@link List} is {@literal null}
+   * or contains more than {@literal 62} elements.
+   * @see #streamPowerSet(List)
+   * @see java.util.stream.Stream
+   */
+  public static @NotNull <T> Stream<List<T>> streamCombinations(@NotNull List<T> list) {
+
+    Object[] elements = toPowerSetElements(list);
+
+    return StreamSupport.stream(new PowerSetSpliterator<>(elements, 1L, 1L << elements.length), false);
+  }
+
+  /**
+   * Lazily generates all non-repeatable, order-independent {@literal combinations} of exactly
+   * {@code combinationSize} {@link T elements} from the given {@link List}.
+   * <p>
+   * {@literal Combinations} are generated in lexicographic order of element positions in the {@link List}.
+   * The returned {@link Stream} is {@link Spliterator#SIZED sized} and splits evenly, so it can be made
+   * {@link Stream#parallel() parallel}.
+   *
+   * @param <T> {@link Class Type} of elements in the {@link List}.
+   * @param list {@link List} from which the {@literal combinations} are generated; must not be {@literal null}.
+   * @param combinationSize {@link Integer number} of elements in each {@literal combination}.
+   * @return a lazy {@link Stream} of all {@literal combinations} of the given size.
+   * @throws IllegalArgumentException if the given {@link List} is {@literal null}, the {@code combinationSize}
+   * is less than {@literal 0} or greater than the size of the {@link List}, or the number of {@literal combinations}
+   * exceeds {@link Long#MAX_VALUE}.
+   * @see java.util.stream.Stream
+   */
+  public static @NotNull <T> Stream<List<T>> streamCombinations(@NotNull List<T> list, int combinationSize) {
+
+    Object[] elements = toArray(list);
+
+    Assert.isTrue(combinationSize >= 0 && combinationSize <= elements.length,
+      "Combination size [%d] must be greater than equal to 0 and less than equal to [%d]",
+        combinationSize, elements.length);
+
+    BigInteger numberOfCombinations = computeBinomialCoefficient(elements.length, combinationSize);
+
+    Assert.isTrue(numberOfCombinations.bitLength() < Long.SIZE,
+      "Number of combinations [%s] must be less than equal to [%d]", numberOfCombinations, Long.MAX_VALUE);
+
+    return StreamSupport.stream(new CombinationSpliterator<>(elements, combinationSize, 0L,
+      numberOfCombinations.longValue()), false);
+  }
+
+  /**
+   * Lazily generates all {@literal permutations} of the {@link T elements} in the given {@link List}.
+   * <p>
+   * {@literal Permutations} are generated in lexicographic order of element positions in the {@link List}.
+   * The returned {@link Stream} is {@link Spliterator#SIZED sized} and splits evenly, so it can be made
+   * {@link Stream#parallel() parallel}.
+   *
+   * @param <T> {@link Class Type} of elements in the {@link List}.
+   * @param list {@link List} from which the {@literal permutations} are generated; must not be {@literal null}.
+   * @return a lazy {@link Stream} of all {@literal permutations} of the {@link List}.
+   * @throws IllegalArgumentException if the given {@link List} is {@literal null}
+   * or contains more than {@literal 20} elements.
+   * @see java.util.stream.Stream
+   */
+  public static @NotNull <T> Stream<List<T>> streamPermutations(@NotNull List<T> list) {
+
+    Object[] elements = toArray(list);
+
+    Assert.isTrue(elements.length <= MAX_PERMUTATION_SET_SIZE,
+      "List size [%d] must be less than equal to [%d] to compute permutations",
+        elements.length, MAX_PERMUTATION_SET_SIZE);
+
+    return StreamSupport.stream(new PermutationSpliterator<>(elements, 0L, FACTORIALS[elements.length]), false);
+  }
+
+  /**
+   * Lazily generates the {@literal power set} of the {@link T elements} in the given {@link List},
+   * which includes the {@literal empty set}.
+   *
+   * @param <T> {@link Class Type} of elements in the {@link List}.
+   * @param list {@link List} from which the {@literal power set} is generated; must not be {@literal null}.
+   * @return a lazy {@link Stream} of all subsets of the {@link List}.
+   * @throws IllegalArgumentException if the given {@link List} is {@literal null}
+   * or contains more than {@literal 62} elements.
+   * @see #streamCombinations(List)
+   * @see java.util.stream.Stream
+   */
+  public static @NotNull <T> Stream<List<T>> streamPowerSet(@NotNull List<T> list) {
+
+    Object[] elements = toPowerSetElements(list);
+
+    return StreamSupport.stream(new PowerSetSpliterator<>(elements, 0L, 1L << elements.length), false);
+  }
+
+  private static Object[] toArray(List<?> list) {
+    Assert.notNull(list, "List is required");
+    return list.toArray();
+  }
+
+  private static Object[] toPowerSetElements(List<?> list) {
+
+    Object[] elements = toArray(list);
+
+    Assert.isTrue(elements.length <= MAX_POWER_SET_SIZE,
+      "List size [%d] must be less than equal to [%d] to compute the power set",
+        elements.length, MAX_POWER_SET_SIZE);
+
+    return elements;
+  }
+
   private static <T> Set<T> newSet(Collection<T> collection) {
     return new HashSet<>(collection);
   }
@@ -102,6 +224,10 @@ public abstract class CombinatorialMathFunctions {
     return new ArrayList<>(size);
   }
 
+  private static <T> List<T> newList(Collection<T> collection) {
+    return new ArrayList<>(collection);
+  }
+
   protected static int computeNumberOfCombinationsBetween(int combinationSize, int setSize) {
 
     int result = 0;
@@ -122,6 +248,17 @@ public abstract class CombinatorialMathFunctions {
     return computeFactorial(setSize).divide(denominator).intValue();
   }
 
+  protected static BigInteger computeBinomialCoefficient(int setSize, int combinationSize) {
+
+    BigInteger result = BigInteger.ONE;
+
+    for (int count = 1; count <= combinationSize; count++) {
+      result = result.multiply(asBigInteger(setSize - combinationSize + count)).divide(asBigInteger(count));
+    }
+
+    return result;
+  }
+
   protected static BigInteger computeFactorial(int value) {
     return MathUtils.factorial(asBigInteger(value));
   }
@@ -133,4 +270,267 @@ public abstract class CombinatorialMathFunctions {
   private static BigInteger asBigInteger(int value) {
     return BigInteger.valueOf(value);
   }
+
+  /**
+   * Abstract base class for {@link Spliterator Spliterators} enumerating a range of ranked
+   * {@literal combinatorial} arrangements.
+   * <p>
+   * The {@link Spliterator} positions its reusable state at the first rank in its range
+   * and steps from one arrangement to the next in place. Splitting computes the arrangement
+   * at the middle rank directly, so each half can be enumerated independently.
+   *
+   * @param <T> {@link Class Type} of elements being arranged.
+   */
+  private abstract static class RankedSpliterator<T> implements Spliterator<List<T>> {
+
+    protected final Object[] elements;
+
+    private boolean positioned;
+
+    private final long end;
+    private long position;
+
+    private RankedSpliterator(Object[] elements, long position, long end) {
+      this.elements = elements;
+      this.position = position;
+      this.end = end;
+    }
+
+    protected abstract void seek(long rank);
+
+    protected abstract void advance();
+
+    protected abstract List<T> current();
+
+    protected abstract Spliterator<List<T>> newSpliterator(long position, long end);
+
+    @SuppressWarnings("unchecked")
+    protected List<T> newElement(Object[] arrangement) {
+      return (List<T>) Collections.unmodifiableList(Arrays.asList(arrangement));
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<T>> action) {
+
+      if (this.position < this.end) {
+
+        if (this.positioned) {
+          advance();
+        }
+        else {
+          seek(this.position);
+          this.positioned = true;
+        }
+
+        this.position++;
+        action.accept(current());
+
+        return true;
+      }
+
+      return false;
+    }
+
+    @Override
+    public Spliterator<List<T>> trySplit() {
+
+      long middle = this.position + (this.end - this.position) / 2;
+
+      if (middle > this.position) {
+
+        Spliterator<List<T>> prefix = newSpliterator(this.position, middle);
+
+        this.position = middle;
+        this.positioned = false;
+
+        return prefix;
+      }
+
+      return null;
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.end - this.position;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+  }
+
+  private static final class PowerSetSpliterator<T> extends RankedSpliterator<T> {
+
+    private long mask;
+
+    private PowerSetSpliterator(Object[] elements, long position, long end) {
+      super(elements, position, end);
+    }
+
+    @Override
+    protected void seek(long rank) {
+      this.mask = rank;
+    }
+
+    @Override
+    protected void advance() {
+      this.mask++;
+    }
+
+    @Override
+    protected List<T> current() {
+
+      Object[] subset = new Object[Long.bitCount(this.mask)];
+
+      int index = 0;
+
+      for (long bits = this.mask; bits != 0; bits &= bits - 1) {
+        subset[index++] = this.elements[Long.numberOfTrailingZeros(bits)];
+      }
+
+      return newElement(subset);
+    }
+
+    @Override
+    protected Spliterator<List<T>> newSpliterator(long position, long end) {
+      return new PowerSetSpliterator<>(this.elements, position, end);
+    }
+  }
+
+  private static final class CombinationSpliterator<T> extends RankedSpliterator<T> {
+
+    private final int[] indices;
+
+    private CombinationSpliterator(Object[] elements, int combinationSize, long position, long end) {
+      super(elements, position, end);
+      this.indices = new int[combinationSize];
+    }
+
+    @Override
+    protected void seek(long rank) {
+
+      int setSize = this.elements.length;
+      int combinationSize = this.indices.length;
+
+      for (int index = 0, candidate = 0; index < combinationSize; index++, candidate++) {
+
+        long count = computeBinomialCoefficient(setSize - 1 - candidate, combinationSize - 1 - index)
+          .longValueExact();
+
+        while (rank >= count) {
+          rank -= count;
+          candidate++;
+          count = computeBinomialCoefficient(setSize - 1 - candidate, combinationSize - 1 - index)
+            .longValueExact();
+        }
+
+        this.indices[index] = candidate;
+      }
+    }
+
+    @Override
+    protected void advance() {
+
+      int setSize = this.elements.length;
+      int combinationSize = this.indices.length;
+      int index = combinationSize - 1;
+
+      while (this.indices[index] == setSize - combinationSize + index) {
+        index--;
+      }
+
+      this.indices[index]++;
+
+      for (int next = index + 1; next < combinationSize; next++) {
+        this.indices[next] = this.indices[next - 1] + 1;
+      }
+    }
+
+    @Override
+    protected List<T> current() {
+
+      Object[] combination = new Object[this.indices.length];
+
+      for (int index = 0; index < combination.length; index++) {
+        combination[index] = this.elements[this.indices[index]];
+      }
+
+      return newElement(combination);
+    }
+
+    @Override
+    protected Spliterator<List<T>> newSpliterator(long position, long end) {
+      return new CombinationSpliterator<>(this.elements, this.indices.length, position, end);
+    }
+  }
+
+  private static final class PermutationSpliterator<T> extends RankedSpliterator<T> {
+
+    private final int[] indices;
+
+    private PermutationSpliterator(Object[] elements, long position, long end) {
+      super(elements, position, end);
+      this.indices = new int[elements.length];
+    }
+
+    @Override
+    protected void seek(long rank) {
+
+      List<Integer> available = IntStream.range(0, this.indices.length).boxed()
+        .collect(Collectors.toCollection(ArrayList::new));
+
+      for (int index = 0; index < this.indices.length; index++) {
+        long factorial = FACTORIALS[this.indices.length - 1 - index];
+        this.indices[index] = available.remove((int) (rank / factorial));
+        rank %= factorial;
+      }
+    }
+
+    @Override
+    protected void advance() {
+
+      int[] indices = this.indices;
+      int pivot = indices.length - 2;
+
+      while (indices[pivot] > indices[pivot + 1]) {
+        pivot--;
+      }
+
+      int successor = indices.length - 1;
+
+      while (indices[successor] < indices[pivot]) {
+        successor--;
+      }
+
+      swap(indices, pivot, successor);
+
+      for (int low = pivot + 1, high = indices.length - 1; low < high; low++, high--) {
+        swap(indices, low, high);
+      }
+    }
+
+    private static void swap(int[] indices, int indexOne, int indexTwo) {
+      int value = indices[indexOne];
+      indices[indexOne] = indices[indexTwo];
+      indices[indexTwo] = value;
+    }
+
+    @Override
+    protected List<T> current() {
+
+      Object[] permutation = new Object[this.indices.length];
+
+      for (int index = 0; index < permutation.length; index++) {
+        permutation[index] = this.elements[this.indices[index]];
+      }
+
+      return newElement(permutation);
+    }
+
+    @Override
+    protected Spliterator<List<T>> newSpliterator(long position, long end) {
+      return new PermutationSpliterator<>(this.elements, position, end);
+    }
+  }
 }
@@ -58,6 +58,50 @@ public abstract class NetworkUtils {
     }
   }
 
+  /**
+   * Gets the given number of distinct {@link Integer available network ports} in a single pass.
+   * <p>
+   * All {@link ServerSocket ServerSockets} are bound to {@literal ephemeral ports} at the same time,
+   * so that the operating system assigns each a different port, and only then closed. The ports are not reserved
+   * once this method returns; another process may bind any of them before the caller does.
+   *
+   * @param count {@link Integer} specifying the number of ports to get; must be greater than equal to {@literal 0}.
+   * @return an array of distinct {@link Integer available network ports}.
+   * @throws IllegalArgumentException if {@code count} is less than {@literal 0}.
+   * @throws NoAvailablePortException if the given number of ports are not available.
+   * @see #availablePort()
+   */
+  public static int[] availablePorts(int count) {
+
+    Assert.isTrue(count > -1, "Count [%d] must be greater than equal to 0", count);
+
+    int[] ports = new int[count];
+
+    ServerSocket[] serverSockets = new ServerSocket[count];
+
+    try {
+      for (int index = 0; index < count; index++) {
+
+        ServerSocket serverSocket = new ServerSocket();
+
+        serverSockets[index] = serverSocket;
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(0));
+        ports[index] = serverSocket.getLocalPort();
+      }
+
+      return ports;
+    }
+    catch (IOException cause) {
+      throw new NoAvailablePortException(String.format("[%d] ports are not available", count), cause);
+    }
+    finally {
+      for (ServerSocket serverSocket : serverSockets) {
+        close(serverSocket);
+      }
+    }
+  }
+
   /**
    * Attempts to close the given {@link ServerSocket} returning a boolean value to indicate whether the operation
    * was successful.
@@ -38,9 +38,9 @@ public abstract class BufferUtils {
   public static final int TWO_KILOBYTE_BUFFER_SIZE = 2048;
   public static final int FOUR_KILOBYTE_BUFFER_SIZE = 4096;
   public static final int EIGHT_KILOBYTE_BUFFER_SIZE = 8192;
-  public static final int SIXTEEN_KILOBYTE_BUFFER_SIZE = 8192;
+  public static final int SIXTEEN_KILOBYTE_BUFFER_SIZE = 16384;
   public static final int THIRTY_TWO_KILOBYTE_BUFFER_SIZE = 32768;
-  public static final int SIXTY_FOUR_KILOBYTE_BUFFER_SIZE = 64536;
+  public static final int SIXTY_FOUR_KILOBYTE_BUFFER_SIZE = 65536;
 
   public static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
@@ -21,6 +21,7 @@ import static org.cp.elements.lang.RuntimeExceptionsFactory.newNullPointerExcept
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
 import org.cp.elements.lang.Assert;
@@ -124,7 +125,38 @@ public class ByteBufferInputStream extends InputStream {
    */
   @Override
   public int read() throws IOException {
-    return available() > 0 ? getByteBuffer().get() : -1;
+    return available() > 0 ? getByteBuffer().get() & 0xFF : -1;
+  }
+
+  /**
+   * Reads at most {@link ByteBuffer#remaining()} bytes from the backing {@link ByteBuffer} using
+   * this {@link InputStream} into the given, required {@link ByteBuffer} in bulk.
+   *
+   * @param target {@link ByteBuffer} into which the bytes are read; must not be {@literal null}.
+   * @return an {@link Integer} indicating the number of bytes read into the {@link ByteBuffer}.
+   * Returns {@literal -1} if there are no {@link #available()} bytes in this {@link InputStream}.
+   * @throws IllegalArgumentException if the {@link ByteBuffer} is {@literal null}.
+   * @see java.nio.ByteBuffer#put(ByteBuffer)
+   */
+  public int read(@NotNull ByteBuffer target) {
+
+    Assert.notNull(target, "Target ByteBuffer is required");
+
+    int available = available();
+
+    if (available > 0) {
+
+      ByteBuffer byteBuffer = getByteBuffer();
+
+      int numberOfBytesToRead = Math.min(available, target.remaining());
+
+      target.put(byteBuffer.slice(byteBuffer.position(), numberOfBytesToRead));
+      byteBuffer.position(byteBuffer.position() + numberOfBytesToRead);
+
+      return numberOfBytesToRead;
+    }
+
+    return -1;
   }
 
   /**
@@ -175,6 +207,22 @@ public class ByteBufferInputStream extends InputStream {
     return 0;
   }
 
+  /**
+   * Reads all {@link #available() remaining} bytes from the backing {@link ByteBuffer} in a single bulk operation.
+   *
+   * @return an array of bytes containing all the remaining bytes read from this {@link InputStream}.
+   * @see java.nio.ByteBuffer#get(byte[])
+   */
+  @Override
+  public byte[] readAllBytes() {
+
+    byte[] array = new byte[available()];
+
+    getByteBuffer().get(array);
+
+    return array;
+  }
+
   /**
    * Resets the underlying, backing {@link ByteBuffer} to the last {@link ByteBuffer#mark() marked position}.
    *
@@ -208,4 +256,43 @@ public class ByteBufferInputStream extends InputStream {
 
     return 0;
   }
+
+  /**
+   * Writes all {@link #available() remaining} bytes from the backing {@link ByteBuffer} to
+   * the given, required {@link OutputStream} in bulk.
+   * <p>
+   * The bytes are written directly from the {@link ByteBuffer#array() backing array} when available,
+   * otherwise through an intermediate buffer.
+   *
+   * @param outputStream {@link OutputStream} to write to; must not be {@literal null}.
+   * @return the number of bytes transferred.
+   * @throws IOException if an I/O error occurs writing to the {@link OutputStream}.
+   * @see java.io.OutputStream#write(byte[], int, int)
+   */
+  @Override
+  public long transferTo(@NotNull OutputStream outputStream) throws IOException {
+
+    Assert.notNull(outputStream, "OutputStream is required");
+
+    ByteBuffer byteBuffer = getByteBuffer();
+
+    int numberOfBytes = byteBuffer.remaining();
+
+    if (byteBuffer.hasArray()) {
+      outputStream.write(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), numberOfBytes);
+      byteBuffer.position(byteBuffer.limit());
+    }
+    else {
+
+      byte[] buffer = new byte[Math.min(numberOfBytes, BufferUtils.EIGHT_KILOBYTE_BUFFER_SIZE)];
+
+      while (byteBuffer.hasRemaining()) {
+        int length = Math.min(buffer.length, byteBuffer.remaining());
+        byteBuffer.get(buffer, 0, length);
+        outputStream.write(buffer, 0, length);
+      }
+    }
+
+    return numberOfBytes;
+  }
 }
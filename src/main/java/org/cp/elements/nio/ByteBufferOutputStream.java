@@ -18,6 +18,7 @@ package org.cp.elements.nio;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.annotation.NotNull;
@@ -101,6 +102,22 @@ public class ByteBufferOutputStream extends OutputStream {
     return BufferUtils.copy(this.byteBuffer, 0);
   }
 
+  /**
+   * Returns a {@link ByteBuffer#asReadOnlyBuffer() read-only} view of the data written to
+   * this {@link OutputStream} so far without copying the backing {@link ByteBuffer}.
+   * <p>
+   * The view begins at {@literal position 0} and its {@link ByteBuffer#limit()} and {@link ByteBuffer#capacity()}
+   * are equal to the number of bytes written. Unlike {@link #getByteBuffer()}, this {@link OutputStream}
+   * is not closed, though data written after the view is returned is not visible through the view.
+   *
+   * @return a {@literal read-only} view of the data written.
+   * @see java.nio.ByteBuffer#asReadOnlyBuffer()
+   * @see #getByteBuffer()
+   */
+  public @NotNull ByteBuffer toReadOnlyByteBuffer() {
+    return this.byteBuffer.slice(0, this.byteBuffer.position()).asReadOnlyBuffer();
+  }
+
   /**
    * Determines whether this {@link OutputStream} has been closed.
    *
@@ -154,15 +171,36 @@ public class ByteBufferOutputStream extends OutputStream {
 
   /**
    * Increases the capacity (resizes) the {@link ByteBuffer}.
+   *
+   * @see #reallocateBuffer(int)
    */
   protected void reallocateBuffer() {
+    reallocateBuffer(1);
+  }
+
+  /**
+   * Increases the capacity (resizes) the {@link ByteBuffer} when it cannot hold the given {@link Integer number
+   * of bytes} or its {@literal load factor} is exceeded.
+   * <p>
+   * The capacity at least doubles, by no less than the {@link #CAPACITY_INCREMENT}, so that a sequence
+   * of writes copies the {@link ByteBuffer} a logarithmic rather than linear number of times.
+   *
+   * @param numberOfBytes {@link Integer} specifying the number of bytes about to be written.
+   * @see BufferUtils#copy(ByteBuffer, int)
+   */
+  protected void reallocateBuffer(int numberOfBytes) {
 
     assertNotClosed();
 
     ByteBuffer byteBuffer = this.byteBuffer;
 
-    if (BufferUtils.computeLoadFactor(byteBuffer) > LOAD_FACTOR) {
-      setByteBuffer(BufferUtils.copy(byteBuffer, CAPACITY_INCREMENT));
+    if (byteBuffer.remaining() < numberOfBytes || BufferUtils.computeLoadFactor(byteBuffer) > LOAD_FACTOR) {
+
+      int additionalCapacity = Math.max(Math.max(CAPACITY_INCREMENT, byteBuffer.capacity()), numberOfBytes);
+
+      setByteBuffer(byteBuffer.position() > 0 ? BufferUtils.copy(byteBuffer, additionalCapacity)
+        : byteBuffer.isDirect() ? ByteBuffer.allocateDirect(byteBuffer.capacity() + additionalCapacity)
+        : ByteBuffer.allocate(byteBuffer.capacity() + additionalCapacity));
     }
   }
 
@@ -172,4 +210,24 @@ public class ByteBufferOutputStream extends OutputStream {
     reallocateBuffer();
     this.byteBuffer.put(convertToByte(byteToWrite));
   }
+
+  /**
+   * Writes {@link Integer length} bytes from the given byte array starting at the given {@link Integer offset}
+   * to the backing {@link ByteBuffer} in a single bulk operation.
+   *
+   * @param array byte array containing the bytes to write; must not be {@literal null}.
+   * @param offset {@link Integer} referring to the index in the byte array of the first byte to write.
+   * @param length {@link Integer} specifying the number of bytes to write.
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} are out of bounds of the byte array.
+   * @throws IllegalStateException if this {@link OutputStream} has been closed.
+   */
+  @Override
+  public void write(@NotNull byte[] array, int offset, int length) throws IOException {
+
+    Objects.checkFromIndexSize(offset, length, array.length);
+    assertNotClosed();
+    reallocateBuffer(length);
+
+    this.byteBuffer.put(array, offset, length);
+  }
 }
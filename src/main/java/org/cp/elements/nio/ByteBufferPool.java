@@ -0,0 +1,245 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.nio;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Pool of reusable {@link ByteBuffer ByteBuffers} organized into power-of-two {@literal size classes}.
+ * <p>
+ * A request for a {@link ByteBuffer} is rounded up to the nearest {@literal size class} between
+ * {@link BufferUtils#ONE_KILOBYTE_BUFFER_SIZE 1 KB} and {@link #MAX_POOLED_BUFFER_SIZE 1 MB}. Released
+ * {@link ByteBuffer ByteBuffers} are first cached in a small, per-{@link Thread} cache, avoiding contention
+ * when the same {@link Thread} acquires and releases {@link ByteBuffer ByteBuffers}, and then in a bounded,
+ * shared cache. Requests larger than the largest {@literal size class} are not pooled.
+ * <p>
+ * A pool allocates either {@link ByteBuffer#allocate(int) heap} or {@link ByteBuffer#allocateDirect(int) direct}
+ * {@link ByteBuffer ByteBuffers}. A {@link ByteBuffer} must not be used after it has been
+ * {@link #release(ByteBuffer) released}.
+ *
+ * @author John Blum
+ * @see java.nio.ByteBuffer
+ * @see org.cp.elements.nio.ChainedByteBufferOutputStream
+ * @since 3.0.0
+ */
+@ThreadSafe
+public class ByteBufferPool {
+
+  protected static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+  protected static final int MIN_POOLED_BUFFER_SIZE = BufferUtils.ONE_KILOBYTE_BUFFER_SIZE;
+  protected static final int SHARED_CACHE_SIZE_PER_SIZE_CLASS = 64;
+  protected static final int THREAD_LOCAL_CACHE_SIZE_PER_SIZE_CLASS = 8;
+
+  private static final int MIN_SIZE_CLASS_SHIFT = Integer.numberOfTrailingZeros(MIN_POOLED_BUFFER_SIZE);
+  private static final int SIZE_CLASS_COUNT =
+    Integer.numberOfTrailingZeros(MAX_POOLED_BUFFER_SIZE) - MIN_SIZE_CLASS_SHIFT + 1;
+
+  private static final ByteBufferPool DIRECT = new ByteBufferPool(true);
+  private static final ByteBufferPool HEAP = new ByteBufferPool(false);
+
+  /**
+   * Returns the shared {@link ByteBufferPool} of {@link ByteBuffer#allocateDirect(int) direct}
+   * {@link ByteBuffer ByteBuffers}.
+   *
+   * @return the shared {@link ByteBufferPool} of {@literal direct} {@link ByteBuffer ByteBuffers}.
+   */
+  public static @NotNull ByteBufferPool direct() {
+    return DIRECT;
+  }
+
+  /**
+   * Returns the shared {@link ByteBufferPool} of {@link ByteBuffer#allocate(int) heap}
+   * {@link ByteBuffer ByteBuffers}.
+   *
+   * @return the shared {@link ByteBufferPool} of {@literal heap} {@link ByteBuffer ByteBuffers}.
+   */
+  public static @NotNull ByteBufferPool heap() {
+    return HEAP;
+  }
+
+  /**
+   * Returns the capacity of the {@literal size class} holding {@link ByteBuffer ByteBuffers}
+   * of the given {@link Integer capacity}.
+   *
+   * @param capacity {@link Integer} specifying the minimum capacity of the {@link ByteBuffer}.
+   * @return the capacity of the {@literal size class}; returns the given {@link Integer capacity}
+   * if it exceeds the largest {@literal size class}.
+   */
+  static int sizeClassCapacity(int capacity) {
+
+    return capacity <= MIN_POOLED_BUFFER_SIZE ? MIN_POOLED_BUFFER_SIZE
+      : capacity > MAX_POOLED_BUFFER_SIZE ? capacity
+      : Integer.highestOneBit(capacity - 1) << 1;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E> E[] newArray(Class<?> componentType, int length) {
+    return (E[]) Array.newInstance(componentType, length);
+  }
+
+  private static int sizeClassIndex(int sizeClassCapacity) {
+    return Integer.numberOfTrailingZeros(sizeClassCapacity) - MIN_SIZE_CLASS_SHIFT;
+  }
+
+  private final boolean direct;
+
+  private final AtomicInteger[] sharedCacheSizes = new AtomicInteger[SIZE_CLASS_COUNT];
+
+  private final Queue<ByteBuffer>[] sharedCaches = newArray(Queue.class, SIZE_CLASS_COUNT);
+
+  private final ThreadLocal<ArrayDeque<ByteBuffer>[]> threadLocalCaches =
+    ThreadLocal.withInitial(() -> newArray(ArrayDeque.class, SIZE_CLASS_COUNT));
+
+  /**
+   * Constructs a new {@link ByteBufferPool} allocating either {@literal direct}
+   * or {@literal heap} {@link ByteBuffer ByteBuffers}.
+   *
+   * @param direct boolean value indicating whether the pool allocates {@literal direct}
+   * {@link ByteBuffer ByteBuffers}.
+   * @see #direct()
+   * @see #heap()
+   */
+  public ByteBufferPool(boolean direct) {
+
+    this.direct = direct;
+
+    for (int index = 0; index < SIZE_CLASS_COUNT; index++) {
+      this.sharedCaches[index] = new ConcurrentLinkedQueue<>();
+      this.sharedCacheSizes[index] = new AtomicInteger(0);
+    }
+  }
+
+  /**
+   * Determines whether this pool allocates {@link ByteBuffer#allocateDirect(int) direct}
+   * {@link ByteBuffer ByteBuffers}.
+   *
+   * @return a boolean value indicating whether this pool allocates {@literal direct}
+   * {@link ByteBuffer ByteBuffers}.
+   */
+  public boolean isDirect() {
+    return this.direct;
+  }
+
+  /**
+   * Acquires a {@link ByteBuffer#clear() cleared} {@link ByteBuffer} with at least
+   * the given {@link Integer capacity} from this pool.
+   *
+   * @param capacity {@link Integer} specifying the minimum capacity of the {@link ByteBuffer};
+   * must be greater than equal to {@literal 0}.
+   * @return a {@link ByteBuffer} with at least the given {@link Integer capacity}.
+   * @throws IllegalArgumentException if {@code capacity} is less than {@literal 0}.
+   * @see #release(ByteBuffer)
+   */
+  public @NotNull ByteBuffer acquire(int capacity) {
+
+    Assert.isTrue(capacity > -1, "Capacity [%d] must be greater than equal to 0", capacity);
+
+    int sizeClassCapacity = sizeClassCapacity(capacity);
+
+    if (sizeClassCapacity <= MAX_POOLED_BUFFER_SIZE) {
+
+      int sizeClassIndex = sizeClassIndex(sizeClassCapacity);
+
+      ArrayDeque<ByteBuffer> threadLocalCache = this.threadLocalCaches.get()[sizeClassIndex];
+
+      ByteBuffer buffer = threadLocalCache != null ? threadLocalCache.pollFirst() : null;
+
+      if (buffer == null) {
+        buffer = this.sharedCaches[sizeClassIndex].poll();
+        if (buffer != null) {
+          this.sharedCacheSizes[sizeClassIndex].decrementAndGet();
+        }
+      }
+
+      if (buffer != null) {
+        return buffer.clear();
+      }
+    }
+
+    return allocate(sizeClassCapacity);
+  }
+
+  private @NotNull ByteBuffer allocate(int capacity) {
+    return isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+  }
+
+  /**
+   * Releases the given {@link ByteBuffer} back to this pool.
+   * <p>
+   * {@link ByteBuffer ByteBuffers} that were not allocated by a pool of the same kind, or whose capacity
+   * does not match a {@literal size class}, are ignored. The {@link ByteBuffer} must not be used once released.
+   *
+   * @param buffer {@link ByteBuffer} to release.
+   * @return a boolean value indicating whether the {@link ByteBuffer} was returned to this pool.
+   * @see #acquire(int)
+   */
+  public boolean release(@Nullable ByteBuffer buffer) {
+
+    if (isPoolable(buffer)) {
+
+      int sizeClassIndex = sizeClassIndex(buffer.capacity());
+
+      ArrayDeque<ByteBuffer>[] threadLocalCaches = this.threadLocalCaches.get();
+      ArrayDeque<ByteBuffer> threadLocalCache = threadLocalCaches[sizeClassIndex];
+
+      if (threadLocalCache == null) {
+        threadLocalCache = new ArrayDeque<>(THREAD_LOCAL_CACHE_SIZE_PER_SIZE_CLASS);
+        threadLocalCaches[sizeClassIndex] = threadLocalCache;
+      }
+
+      if (threadLocalCache.size() < THREAD_LOCAL_CACHE_SIZE_PER_SIZE_CLASS) {
+        threadLocalCache.addFirst(buffer);
+        return true;
+      }
+
+      AtomicInteger sharedCacheSize = this.sharedCacheSizes[sizeClassIndex];
+
+      if (sharedCacheSize.incrementAndGet() <= SHARED_CACHE_SIZE_PER_SIZE_CLASS) {
+        this.sharedCaches[sizeClassIndex].offer(buffer);
+        return true;
+      }
+
+      sharedCacheSize.decrementAndGet();
+    }
+
+    return false;
+  }
+
+  private boolean isPoolable(@Nullable ByteBuffer buffer) {
+
+    if (buffer != null && buffer.isDirect() == isDirect() && !buffer.isReadOnly()) {
+
+      int capacity = buffer.capacity();
+
+      return capacity >= MIN_POOLED_BUFFER_SIZE
+        && capacity <= MAX_POOLED_BUFFER_SIZE
+        && Integer.bitCount(capacity) == 1
+        && (isDirect() || buffer.arrayOffset() == 0);
+    }
+
+    return false;
+  }
+}
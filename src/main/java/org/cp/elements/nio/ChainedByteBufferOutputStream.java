@@ -0,0 +1,311 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.nio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * {@link OutputStream} implementation writing to a chain of {@link ByteBuffer ByteBuffers}
+ * acquired from a {@link ByteBufferPool}.
+ * <p>
+ * Unlike the {@link ByteBufferOutputStream}, this {@link OutputStream} grows without copying
+ * by appending a new {@link ByteBuffer}, twice the size of the last, up to the largest pooled
+ * {@literal size class}. The written data is exposed as {@link ByteBuffer#asReadOnlyBuffer() read-only}
+ * views of the chained {@link ByteBuffer ByteBuffers} rather than as copies.
+ * <p>
+ * {@link #close() Closing} this {@link OutputStream} only prevents further writes. {@link #release() Releasing}
+ * this {@link OutputStream} returns the chained {@link ByteBuffer ByteBuffers} to the {@link ByteBufferPool},
+ * after which any views previously returned must no longer be used.
+ *
+ * @author John Blum
+ * @see java.io.OutputStream
+ * @see java.nio.ByteBuffer
+ * @see org.cp.elements.nio.ByteBufferPool
+ * @since 3.0.0
+ */
+public class ChainedByteBufferOutputStream extends OutputStream {
+
+  protected static final int DEFAULT_INITIAL_CAPACITY = BufferUtils.FOUR_KILOBYTE_BUFFER_SIZE;
+
+  /**
+   * Factory method used to construct a new {@link ChainedByteBufferOutputStream} writing to
+   * {@literal heap} {@link ByteBuffer ByteBuffers} acquired from the {@link ByteBufferPool#heap() heap pool}.
+   *
+   * @return a new {@link ChainedByteBufferOutputStream}.
+   * @see ByteBufferPool#heap()
+   */
+  public static @NotNull ChainedByteBufferOutputStream create() {
+    return new ChainedByteBufferOutputStream(ByteBufferPool.heap(), DEFAULT_INITIAL_CAPACITY);
+  }
+
+  private volatile boolean closed;
+
+  private final ByteBufferPool pool;
+
+  private ByteBuffer current;
+
+  private final List<ByteBuffer> buffers = new ArrayList<>();
+
+  private long size;
+
+  /**
+   * Constructs a new {@link ChainedByteBufferOutputStream} acquiring {@link ByteBuffer ByteBuffers}
+   * from the given, required {@link ByteBufferPool}.
+   *
+   * @param pool {@link ByteBufferPool} from which {@link ByteBuffer ByteBuffers} are acquired;
+   * must not be {@literal null}.
+   * @param initialCapacity {@link Integer} specifying the capacity of the first {@link ByteBuffer}.
+   * @throws IllegalArgumentException if the {@link ByteBufferPool} is {@literal null}
+   * or the {@code initialCapacity} is less than {@literal 0}.
+   * @see org.cp.elements.nio.ByteBufferPool
+   */
+  public ChainedByteBufferOutputStream(@NotNull ByteBufferPool pool, int initialCapacity) {
+
+    Assert.notNull(pool, "ByteBufferPool is required");
+
+    this.pool = pool;
+    this.current = acquire(initialCapacity);
+  }
+
+  private @NotNull ByteBuffer acquire(int capacity) {
+
+    ByteBuffer buffer = this.pool.acquire(capacity);
+
+    this.buffers.add(buffer);
+
+    return buffer;
+  }
+
+  /**
+   * Determines whether this {@link OutputStream} has been closed.
+   *
+   * @return a boolean value indicating whether this {@link OutputStream} has been closed.
+   */
+  public boolean isClosed() {
+    return this.closed;
+  }
+
+  /**
+   * Asserts that this {@link OutputStream} has not been closed yet.
+   *
+   * @throws IllegalStateException if this {@link OutputStream} has been closed.
+   * @see #isClosed()
+   */
+  protected void assertNotClosed() {
+    Assert.state(!isClosed(), "The ChainedByteBufferOutputStream was closed");
+  }
+
+  /**
+   * Returns the number of bytes written to this {@link OutputStream}.
+   *
+   * @return the number of bytes written to this {@link OutputStream}.
+   */
+  public synchronized long size() {
+    return this.size;
+  }
+
+  private @NotNull ByteBuffer writableBuffer() {
+
+    ByteBuffer buffer = this.current;
+
+    if (!buffer.hasRemaining()) {
+      int nextCapacity = (int) Math.min((long) buffer.capacity() << 1, ByteBufferPool.MAX_POOLED_BUFFER_SIZE);
+      buffer = acquire(Math.max(nextCapacity, buffer.capacity()));
+      this.current = buffer;
+    }
+
+    return buffer;
+  }
+
+  @Override
+  public synchronized void write(int byteToWrite) {
+    assertNotClosed();
+    writableBuffer().put((byte) byteToWrite);
+    this.size++;
+  }
+
+  @Override
+  public synchronized void write(@NotNull byte[] array, int offset, int length) {
+
+    Objects.checkFromIndexSize(offset, length, array.length);
+    assertNotClosed();
+
+    while (length > 0) {
+
+      ByteBuffer buffer = writableBuffer();
+
+      int numberOfBytes = Math.min(buffer.remaining(), length);
+
+      buffer.put(array, offset, numberOfBytes);
+      offset += numberOfBytes;
+      length -= numberOfBytes;
+      this.size += numberOfBytes;
+    }
+  }
+
+  /**
+   * Writes the {@link ByteBuffer#remaining() remaining} bytes of the given {@link ByteBuffer}
+   * to this {@link OutputStream} in bulk.
+   *
+   * @param source {@link ByteBuffer} to write; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link ByteBuffer} is {@literal null}.
+   * @throws IllegalStateException if this {@link OutputStream} has been closed.
+   */
+  public synchronized void write(@NotNull ByteBuffer source) {
+
+    Assert.notNull(source, "ByteBuffer is required");
+    assertNotClosed();
+
+    while (source.hasRemaining()) {
+
+      ByteBuffer buffer = writableBuffer();
+
+      int numberOfBytes = Math.min(buffer.remaining(), source.remaining());
+
+      buffer.put(source.slice(source.position(), numberOfBytes));
+      source.position(source.position() + numberOfBytes);
+      this.size += numberOfBytes;
+    }
+  }
+
+  /**
+   * Returns {@link ByteBuffer#asReadOnlyBuffer() read-only} views of the data written to this {@link OutputStream},
+   * one per chained {@link ByteBuffer}, without copying.
+   *
+   * @return a {@link List} of {@literal read-only} {@link ByteBuffer} views of the data written.
+   * @see java.nio.ByteBuffer#asReadOnlyBuffer()
+   */
+  public synchronized @NotNull List<ByteBuffer> toByteBuffers() {
+
+    List<ByteBuffer> views = new ArrayList<>(this.buffers.size());
+
+    for (ByteBuffer buffer : this.buffers) {
+      if (buffer.position() > 0) {
+        views.add(buffer.slice(0, buffer.position()).asReadOnlyBuffer());
+      }
+    }
+
+    return Collections.unmodifiableList(views);
+  }
+
+  /**
+   * Returns a single {@link ByteBuffer#asReadOnlyBuffer() read-only} {@link ByteBuffer} containing
+   * the data written to this {@link OutputStream}.
+   * <p>
+   * A view is returned without copying when all data fits in a single chained {@link ByteBuffer};
+   * otherwise the chained {@link ByteBuffer ByteBuffers} are copied into a new {@link ByteBuffer}.
+   *
+   * @return a {@literal read-only} {@link ByteBuffer} containing the data written.
+   * @see #toByteBuffers()
+   */
+  public synchronized @NotNull ByteBuffer toByteBuffer() {
+
+    List<ByteBuffer> views = toByteBuffers();
+
+    if (views.size() == 1) {
+      return views.get(0);
+    }
+
+    ByteBuffer copy = ByteBuffer.allocate(Math.toIntExact(this.size));
+
+    views.forEach(copy::put);
+
+    return copy.flip().asReadOnlyBuffer();
+  }
+
+  /**
+   * Returns an {@link InputStream} reading the data written to this {@link OutputStream}
+   * directly from the chained {@link ByteBuffer ByteBuffers}.
+   *
+   * @return an {@link InputStream} reading the data written.
+   * @see org.cp.elements.nio.ByteBufferInputStream
+   */
+  public synchronized @NotNull InputStream toInputStream() {
+
+    return toByteBuffers().stream()
+      .<InputStream>map(ByteBufferInputStream::new)
+      .reduce(SequenceInputStream::new)
+      .orElseGet(InputStream::nullInputStream);
+  }
+
+  /**
+   * Writes the data written to this {@link OutputStream} to the given {@link OutputStream}.
+   *
+   * @param outputStream {@link OutputStream} to write to; must not be {@literal null}.
+   * @throws IOException if an I/O error occurs.
+   */
+  public synchronized void writeTo(@NotNull OutputStream outputStream) throws IOException {
+
+    Assert.notNull(outputStream, "OutputStream is required");
+
+    for (ByteBuffer view : toByteBuffers()) {
+      new ByteBufferInputStream(view).transferTo(outputStream);
+    }
+  }
+
+  /**
+   * Writes the data written to this {@link OutputStream} to the given {@link WritableByteChannel}.
+   *
+   * @param channel {@link WritableByteChannel} to write to; must not be {@literal null}.
+   * @throws IOException if an I/O error occurs.
+   */
+  public synchronized void writeTo(@NotNull WritableByteChannel channel) throws IOException {
+
+    Assert.notNull(channel, "WritableByteChannel is required");
+
+    for (ByteBuffer view : toByteBuffers()) {
+      while (view.hasRemaining()) {
+        channel.write(view);
+      }
+    }
+  }
+
+  /**
+   * Closes this {@link OutputStream} preventing any further writes.
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+  }
+
+  /**
+   * Closes this {@link OutputStream} and returns all chained {@link ByteBuffer ByteBuffers}
+   * to the {@link ByteBufferPool}.
+   * <p>
+   * Views previously returned by {@link #toByteBuffers()} or {@link #toByteBuffer()} must not be used
+   * after this {@link OutputStream} has been released.
+   */
+  public synchronized void release() {
+
+    close();
+
+    this.buffers.forEach(this.pool::release);
+    this.buffers.clear();
+    this.size = 0;
+  }
+}
@@ -20,29 +20,38 @@ import static org.cp.elements.lang.concurrent.SimpleThreadFactory.newThreadFacto
 import static org.cp.elements.process.ProcessContext.newProcessContext;
 import static org.cp.elements.process.support.RuntimeProcessExecutor.newRuntimeProcessExecutor;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.cp.elements.context.env.Environment;
 import org.cp.elements.io.FileSystemUtils;
+import org.cp.elements.io.IOUtils;
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.Constants;
 import org.cp.elements.lang.Identifiable;
@@ -80,6 +89,12 @@ import org.cp.elements.util.CollectionUtils;
 @SuppressWarnings("unused")
 public class ProcessAdapter implements Identifiable<Integer>, Initable, Nameable<String> {
 
+  protected static final int MAX_CHUNK_LINES = 256;
+  protected static final int MAX_CHUNK_CHARACTERS = 8192;
+  protected static final int PROCESS_STREAM_READER_THREAD_COUNT = 2;
+
+  protected static final long MAX_PROCESS_STREAM_POLL_INTERVAL_MILLISECONDS = 50;
+
   protected static final long DEFAULT_TIMEOUT_MILLISECONDS = TimeUnit.SECONDS.toMillis(30);
 
   /**
@@ -124,6 +139,8 @@ public class ProcessAdapter implements Identifiable<Integer>, Initable, Nameable
 
   private final AtomicBoolean initialized = new AtomicBoolean(false);
 
+  private final List<CompletableFuture<Void>> processStreamReaders = new CopyOnWriteArrayList<>();
+
   private final Set<ProcessStreamListener> listeners = new CopyOnWriteArraySet<>();
 
   private final Logger logger = Logger.getLogger(getClass().getName());
@@ -132,8 +149,18 @@ public class ProcessAdapter implements Identifiable<Integer>, Initable, Nameable
 
   private final ProcessContext processContext;
 
-  private final ProcessStreamListener compositeProcessStreamListener =
-    line -> this.listeners.forEach(listener -> listener.onInput(line));
+  private final ProcessStreamListener compositeProcessStreamListener = new ProcessStreamListener() {
+
+    @Override
+    public void onInput(String line) {
+      onInputChunk(List.of(line));
+    }
+
+    @Override
+    public void onInputChunk(List<String> lines) {
+      listeners.forEach(listener -> listener.onInputChunk(lines));
+    }
+  };
 
   private final ThreadGroup threadGroup;
 
@@ -157,66 +184,60 @@ public class ProcessAdapter implements Identifiable<Integer>, Initable, Nameable
   }
 
   /**
-   * Initializes the {@link ProcessAdapter} by starting {@link Thread Threads} to process the {@link Process Process's}
-   * input and error IO streams.
+   * Initializes the {@link ProcessAdapter} by scheduling the {@link Process Process's} input and error IO streams
+   * to be read by the shared {@literal process stream readers}.
    *
    * @see org.cp.elements.lang.Initable#init()
+   * @see #newProcessStreamReader(InputStream)
    */
   @Override
   public void init() {
 
     if (!getProcessContext().inheritsIO()) {
 
-      newThread(String.format("Process [%d] Standard Out Reader", safeGetId()),
-        newProcessStreamReader(getProcess().getInputStream())).start();
+      startProcessStreamReader(String.format("Process [%d] Standard Out Reader", safeGetId()),
+        getProcess().getInputStream());
 
       if (!getProcessContext().isRedirectingErrorStream()) {
-
-        newThread(String.format("Process [%d] Standard Error Reader", safeGetId()),
-          newProcessStreamReader(getProcess().getErrorStream())).start();
+        startProcessStreamReader(String.format("Process [%d] Standard Error Reader", safeGetId()),
+          getProcess().getErrorStream());
       }
     }
 
     this.initialized.set(true);
   }
 
-  /**
-   * Constructs a new {@link Runnable process stream reader} from the given {@link InputStream process inputstream}
-   * to read the output from the {@link Process}.
-   *
-   * @param in {@link InputStream} capturing the output returned by the {@link Process}.
-   * @return a new {@link Runnable process stream reader}.
-   * @see java.io.InputStream
-   * @see java.lang.Runnable
-   */
-  protected Runnable newProcessStreamReader(@NotNull InputStream in) {
+  private void startProcessStreamReader(@NotNull String name, @NotNull InputStream in) {
 
-    return () -> {
+    CompletableFuture<Void> processStreamReaderFuture = new CompletableFuture<>();
 
-      if (isRunning()) {
-        try (BufferedReader reader = newReader(in)) {
-          for (String input = reader.readLine(); input != null; input = reader.readLine()) {
-            this.compositeProcessStreamListener.onInput(input);
-          }
-        }
-        catch (IOException ignore) {
-          // Ignore IO error and just stop reading from the process input stream
-          // The IO error occurred most likely because the process was terminated
-        }
-      }
-    };
+    this.processStreamReaders.add(processStreamReaderFuture);
+
+    ProcessStreamReaderScheduler.schedule(name, newProcessStreamReader(in), processStreamReaderFuture, getLogger());
   }
 
   /**
-   * Constructs a new {@link BufferedReader} reading from the given {@link InputStream}.
+   * Constructs a new {@link ProcessStreamReader} from the given {@link InputStream process inputstream}
+   * to read the output from the {@link Process}.
+   * <p>
+   * Each {@link ProcessStreamReader#read() read} only reads the bytes {@link InputStream#available() available}
+   * without blocking, so that a small, shared pool of {@literal Platform} {@link Thread Threads} can poll
+   * the IO streams of many {@link Process Processes}. The end of the stream is reached when no bytes are available
+   * after the {@link Process} has terminated, so that no output remaining in the stream is lost.
+   * <p>
+   * Lines are delivered to the registered {@link ProcessStreamListener ProcessStreamListeners} in chunks containing
+   * the lines read by one {@link ProcessStreamReader#read() read}, bounded by {@link #MAX_CHUNK_LINES}
+   * and {@link #MAX_CHUNK_CHARACTERS}. The output is read into fixed-size buffers, and a line longer than
+   * {@link #MAX_CHUNK_CHARACTERS} is split into multiple lines, so that a {@link Process} never writing
+   * a line terminator cannot exhaust memory.
    *
-   * @param in {@link InputStream} from to read.
-   * @return a new {@link BufferedReader}.
-   * @see java.io.BufferedReader
+   * @param in {@link InputStream} capturing the output returned by the {@link Process}.
+   * @return a new {@link ProcessStreamReader}.
+   * @see org.cp.elements.process.event.ProcessStreamListener#onInputChunk(List)
    * @see java.io.InputStream
    */
-  protected BufferedReader newReader(@NotNull InputStream in) {
-    return new BufferedReader(new InputStreamReader(in, Charset.defaultCharset()));
+  protected ProcessStreamReader newProcessStreamReader(@NotNull InputStream in) {
+    return new ChunkingProcessStreamReader(in, Charset.defaultCharset());
   }
 
   /**
@@ -516,6 +537,28 @@ public class ProcessAdapter implements Identifiable<Integer>, Initable, Nameable
     }
   }
 
+  /**
+   * Returns a {@link CompletableFuture} completing with this {@link ProcessAdapter} when the {@link Process}
+   * has terminated and all output from the {@link Process Process's} IO streams has been delivered to
+   * the registered {@link ProcessStreamListener ProcessStreamListeners}.
+   * <p>
+   * Termination is tracked with {@link Process#onExit()} rather than by polling the {@link Process}.
+   *
+   * @return a {@link CompletableFuture} completing when the {@link Process} has terminated.
+   * @see java.lang.Process#onExit()
+   * @see java.util.concurrent.CompletableFuture
+   * @since 3.0.0
+   */
+  public @NotNull CompletableFuture<ProcessAdapter> onExit() {
+
+    List<CompletableFuture<?>> futures = new ArrayList<>(this.processStreamReaders);
+
+    futures.add(getProcess().onExit());
+
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+      .thenApply(ignore -> this);
+  }
+
   /**
    * Forcibly terminates this {@link Process} if still running.
    * <p>
@@ -796,4 +839,283 @@ public class ProcessAdapter implements Identifiable<Integer>, Initable, Nameable
   private ProcessAdapter logWarning(String message, Object... arguments) {
     return logAt(Level.WARNING, message, arguments);
   }
+
+  /**
+   * Reads the output of a {@link Process} from one of its IO streams without blocking.
+   *
+   * @see #newProcessStreamReader(InputStream)
+   * @since 3.0.0
+   */
+  @FunctionalInterface
+  protected interface ProcessStreamReader {
+
+    /**
+     * Reads the output currently available from the {@link Process} stream without blocking.
+     *
+     * @return the number of bytes read, possibly {@literal 0}, or {@literal -1} when the end of the stream
+     * has been reached and all output has been delivered.
+     */
+    int read();
+
+  }
+
+  /**
+   * {@link ProcessStreamReader} decoding the bytes available from a {@link Process} stream into characters
+   * that are split into chunks of lines by a {@link ChunkBuilder}.
+   */
+  private final class ChunkingProcessStreamReader implements ProcessStreamReader {
+
+    private static final int MAX_READ_BUFFERS = 8;
+
+    private final ByteBuffer bytes = ByteBuffer.allocate(MAX_CHUNK_CHARACTERS);
+
+    private final CharBuffer characters = CharBuffer.allocate(MAX_CHUNK_CHARACTERS);
+
+    private final CharsetDecoder decoder;
+
+    private final ChunkBuilder chunk = new ChunkBuilder();
+
+    private final InputStream in;
+
+    private ChunkingProcessStreamReader(@NotNull InputStream in, @NotNull Charset charset) {
+
+      this.in = in;
+      this.decoder = charset.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public int read() {
+
+      try {
+        // Checked before the available bytes, so that all output written before termination is counted.
+        boolean terminated = !getProcess().isAlive();
+
+        int maxLength = MAX_READ_BUFFERS * this.bytes.capacity();
+        int totalLength = 0;
+
+        for (int available = this.in.available(); available > 0 && totalLength < maxLength;
+             available = this.in.available()) {
+
+          int length = this.in.read(this.bytes.array(), this.bytes.position(),
+            Math.min(available, this.bytes.remaining()));
+
+          if (length == -1) {
+            return finish();
+          }
+
+          this.bytes.position(this.bytes.position() + length);
+          totalLength += length;
+          decode(false);
+        }
+
+        if (totalLength > 0) {
+          this.chunk.publish();
+          return totalLength;
+        }
+
+        return terminated ? finish() : 0;
+      }
+      catch (IOException ignore) {
+        // Ignore IO error and just stop reading from the process input stream
+        // The IO error occurred most likely because the process was terminated
+        return finish();
+      }
+    }
+
+    private void decode(boolean endOfInput) {
+
+      this.bytes.flip();
+
+      CoderResult result;
+
+      do {
+        result = this.decoder.decode(this.bytes, this.characters, endOfInput);
+        drainCharacters();
+      }
+      while (result.isOverflow());
+
+      this.bytes.compact();
+    }
+
+    private void drainCharacters() {
+
+      this.characters.flip();
+      this.chunk.append(this.characters.array(), this.characters.limit());
+      this.characters.clear();
+    }
+
+    private int finish() {
+
+      try {
+        decode(true);
+
+        while (this.decoder.flush(this.characters).isOverflow()) {
+          drainCharacters();
+        }
+
+        drainCharacters();
+        this.chunk.finish();
+      }
+      finally {
+        IOUtils.close(this.in);
+      }
+
+      return -1;
+    }
+  }
+
+  /**
+   * Polls {@link ProcessStreamReader ProcessStreamReaders} on a small, shared pool of daemon {@literal Platform}
+   * {@link Thread Threads}, so that the number of {@link Thread Threads} reading {@link Process} output does not
+   * grow with the number of {@link Process Processes}.
+   * <p>
+   * A {@link ProcessStreamReader} that read output is polled again immediately. An idle one is polled again
+   * after a delay doubling up to {@link #MAX_PROCESS_STREAM_POLL_INTERVAL_MILLISECONDS}.
+   */
+  private static final class ProcessStreamReaderScheduler implements Runnable {
+
+    private static final AtomicInteger threadCount = new AtomicInteger(0);
+
+    private static final ScheduledExecutorService executor =
+      Executors.newScheduledThreadPool(PROCESS_STREAM_READER_THREAD_COUNT, task -> newThreadFactory()
+        .asDaemonThread()
+        .withNormalPriority()
+        .newThread("Process Stream Reader " + threadCount.incrementAndGet(), task));
+
+    private static void schedule(@NotNull String name, @NotNull ProcessStreamReader processStreamReader,
+        @NotNull CompletableFuture<Void> future, @NotNull Logger logger) {
+
+      executor.execute(new ProcessStreamReaderScheduler(name, processStreamReader, future, logger));
+    }
+
+    private long pollIntervalMilliseconds = 1;
+
+    private final CompletableFuture<Void> future;
+
+    private final Logger logger;
+
+    private final ProcessStreamReader processStreamReader;
+
+    private final String name;
+
+    private ProcessStreamReaderScheduler(@NotNull String name, @NotNull ProcessStreamReader processStreamReader,
+        @NotNull CompletableFuture<Void> future, @NotNull Logger logger) {
+
+      this.name = name;
+      this.processStreamReader = processStreamReader;
+      this.future = future;
+      this.logger = logger;
+    }
+
+    @Override
+    public void run() {
+
+      int length;
+
+      try {
+        length = this.processStreamReader.read();
+      }
+      catch (RuntimeException cause) {
+        this.logger.log(Level.WARNING, String.format("[%s] failed; stopped reading", this.name), cause);
+        length = -1;
+      }
+
+      if (length < 0) {
+        this.future.complete(null);
+      }
+      else if (length > 0) {
+        this.pollIntervalMilliseconds = 1;
+        executor.execute(this);
+      }
+      else {
+        executor.schedule(this, this.pollIntervalMilliseconds, TimeUnit.MILLISECONDS);
+        this.pollIntervalMilliseconds =
+          Math.min(this.pollIntervalMilliseconds * 2, MAX_PROCESS_STREAM_POLL_INTERVAL_MILLISECONDS);
+      }
+    }
+  }
+
+  /**
+   * Splits the characters read from a {@link Process} stream into lines, and the lines into chunks published to
+   * the registered {@link ProcessStreamListener ProcessStreamListeners}, holding at most
+   * {@link #MAX_CHUNK_CHARACTERS} of an unterminated line.
+   */
+  private final class ChunkBuilder {
+
+    private boolean lineSplit;
+    private boolean skipLineFeed;
+
+    private int characters;
+
+    private final List<String> lines = new ArrayList<>();
+
+    private final StringBuilder line = new StringBuilder();
+
+    private void append(@NotNull char[] buffer, int length) {
+
+      for (int index = 0; index < length; index++) {
+
+        char character = buffer[index];
+
+        if (this.skipLineFeed) {
+          this.skipLineFeed = false;
+          if (character == '\n') {
+            continue;
+          }
+        }
+
+        if (character == '\n' || character == '\r') {
+
+          // A terminator immediately following a split line ends that line rather than an empty one.
+          if (!this.lineSplit || this.line.length() > 0) {
+            endLine(false);
+          }
+
+          this.lineSplit = false;
+          this.skipLineFeed = character == '\r';
+        }
+        else {
+
+          this.line.append(character);
+          this.lineSplit = false;
+
+          if (this.line.length() >= MAX_CHUNK_CHARACTERS) {
+            endLine(true);
+          }
+        }
+      }
+    }
+
+    private void endLine(boolean split) {
+
+      this.lines.add(this.line.toString());
+      this.characters += this.line.length();
+      this.line.setLength(0);
+      this.lineSplit = split;
+
+      if (this.lines.size() >= MAX_CHUNK_LINES || this.characters >= MAX_CHUNK_CHARACTERS) {
+        publish();
+      }
+    }
+
+    private void publish() {
+
+      if (!this.lines.isEmpty()) {
+        compositeProcessStreamListener.onInputChunk(List.copyOf(this.lines));
+        this.lines.clear();
+        this.characters = 0;
+      }
+    }
+
+    private void finish() {
+
+      if (this.line.length() > 0) {
+        endLine(false);
+      }
+
+      publish();
+    }
+  }
 }
@@ -17,6 +17,7 @@
 package org.cp.elements.process.event;
 
 import java.util.EventListener;
+import java.util.List;
 
 /**
  * The {@link ProcessStreamListener} class is an {@link EventListener} used to listen for input events
@@ -42,4 +43,19 @@ public interface ProcessStreamListener extends EventListener {
    */
   void onInput(String line);
 
+  /**
+   * Event callback method invoked with a chunk of lines read in batch from a {@link Process Process's} standard out
+   * or standard error streams.
+   * <p>
+   * The chunk contains the lines that were available to read without blocking, up to a bounded number of lines
+   * and characters. By default, each line in the chunk is passed to {@link #onInput(String)} in order.
+   *
+   * @param lines {@link List} of {@link String lines} read from the {@link Process Process's} standard out
+   * or standard error streams.
+   * @see #onInput(String)
+   * @since 3.0.0
+   */
+  default void onInputChunk(List<String> lines) {
+    lines.forEach(this::onInput);
+  }
 }
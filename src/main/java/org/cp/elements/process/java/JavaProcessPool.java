@@ -0,0 +1,799 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.process.java;
+
+import static org.cp.elements.lang.CheckedExceptionsFactory.newIOException;
+import static org.cp.elements.lang.ElementsExceptionsFactory.newProcessExecutionException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.cp.elements.io.FileSystemUtils;
+import org.cp.elements.io.FileUtils;
+import org.cp.elements.io.IOUtils;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+import org.cp.elements.process.ProcessExecutionException;
+import org.cp.elements.util.ArrayUtils;
+
+/**
+ * Pool of warm, pre-started Java {@link Process Processes} used to execute Java {@link Class Classes}
+ * without paying the cost of starting a new JVM per execution.
+ * <p>
+ * Each pooled {@link Process} runs a {@link JavaProcessWorker}, which accepts the {@link Class#getName() name}
+ * of a Java {@link Class} along with its {@link String arguments} over a dedicated loopback {@link Socket}
+ * and executes the Java {@link Class} with the {@link EmbeddedJavaProcessExecutor}. The standard out and
+ * standard error of the {@link Process} are inherited, so JVM options writing to them (e.g. {@literal -Xlog:gc})
+ * are supported.
+ * Java {@link Class Classes} are therefore executed the same as when using the {@link EmbeddedJavaProcessExecutor},
+ * but in a separate JVM, and any result must be {@link java.io.Serializable}.
+ * <p>
+ * At most {@link #getMaxProcesses() max processes} execute Java {@link Class Classes} concurrently; callers block
+ * until a {@link Process} is available. A pooled {@link Process} is health checked before use and recycled after
+ * {@link #getMaxRunsPerProcess() max runs per process} executions or when it fails. A pooled {@link Process}
+ * not responding to a health check within {@link #DEFAULT_PING_TIMEOUT}, or to an execution within
+ * the {@link #getExecutionTimeout() execution timeout}, is recycled as well.
+ *
+ * @author John Blum
+ * @see java.io.Closeable
+ * @see java.lang.Process
+ * @see org.cp.elements.process.java.EmbeddedJavaProcessExecutor
+ * @see org.cp.elements.process.java.JavaProcessExecutor
+ * @see org.cp.elements.process.java.JavaProcessWorker
+ * @since 3.0.0
+ */
+@ThreadSafe
+@SuppressWarnings("unused")
+public class JavaProcessPool implements Closeable {
+
+  protected static final int DEFAULT_MAX_PROCESSES = Runtime.getRuntime().availableProcessors();
+  protected static final int DEFAULT_MAX_RUNS_PER_PROCESS = 100;
+
+  protected static final Duration DEFAULT_EXECUTION_TIMEOUT = Duration.ofMinutes(5);
+  protected static final Duration DEFAULT_HEALTH_CHECK_INTERVAL = Duration.ofSeconds(10);
+  protected static final Duration DEFAULT_PING_TIMEOUT = Duration.ofSeconds(5);
+  protected static final Duration DEFAULT_START_TIMEOUT = Duration.ofSeconds(30);
+  protected static final Duration DEFAULT_STOP_TIMEOUT = Duration.ofSeconds(5);
+
+  private static final SecureRandom tokenGenerator = new SecureRandom();
+
+  /**
+   * Factory method used to construct a new {@link JavaProcessPool}.
+   *
+   * @return a new {@link JavaProcessPool}.
+   */
+  public static @NotNull JavaProcessPool newJavaProcessPool() {
+    return new JavaProcessPool();
+  }
+
+  private volatile boolean closed;
+
+  private volatile Duration executionTimeout = DEFAULT_EXECUTION_TIMEOUT;
+  private volatile Duration healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+
+  private volatile File directory = FileSystemUtils.WORKING_DIRECTORY;
+
+  private volatile int maxProcesses = DEFAULT_MAX_PROCESSES;
+  private volatile int maxRunsPerProcess = DEFAULT_MAX_RUNS_PER_PROCESS;
+
+  private int busyProcesses;
+
+  private final Deque<PooledProcess> idleProcesses = new ArrayDeque<>();
+
+  private final Lock lock = new ReentrantLock();
+
+  private final Condition processAvailable = this.lock.newCondition();
+
+  private final Set<PooledProcess> processes = ConcurrentHashMap.newKeySet();
+
+  private volatile String[] javaOptions = {};
+
+  /**
+   * Returns the {@link File working directory} of the pooled Java {@link Process Processes}.
+   *
+   * @return the {@link File working directory} of the pooled Java {@link Process Processes}.
+   */
+  public @NotNull File getDirectory() {
+    return this.directory;
+  }
+
+  /**
+   * Returns the {@link Duration} within which a pooled Java {@link Process} must finish executing
+   * a Java {@link Class}; otherwise the execution fails and the Java {@link Process} is recycled.
+   *
+   * @return the {@link Duration} within which a pooled Java {@link Process} must finish executing
+   * a Java {@link Class}.
+   */
+  public @NotNull Duration getExecutionTimeout() {
+    return this.executionTimeout;
+  }
+
+  /**
+   * Returns the {@link Duration} a pooled Java {@link Process} may remain idle before it is pinged
+   * to check its health when next used.
+   *
+   * @return the {@link Duration} a pooled Java {@link Process} may remain idle before it is pinged.
+   */
+  public @NotNull Duration getHealthCheckInterval() {
+    return this.healthCheckInterval;
+  }
+
+  /**
+   * Returns the options passed to the JVM of the pooled Java {@link Process Processes} (e.g. {@literal -Xmx256m}).
+   *
+   * @return the options passed to the JVM of the pooled Java {@link Process Processes}.
+   */
+  public @NotNull String[] getJavaOptions() {
+    return this.javaOptions.clone();
+  }
+
+  /**
+   * Returns the maximum number of Java {@link Process Processes} in this pool, which is also the maximum number
+   * of Java {@link Class Classes} executed concurrently.
+   *
+   * @return the maximum number of Java {@link Process Processes} in this pool.
+   */
+  public int getMaxProcesses() {
+    return this.maxProcesses;
+  }
+
+  /**
+   * Returns the number of executions after which a pooled Java {@link Process} is recycled.
+   *
+   * @return the number of executions after which a pooled Java {@link Process} is recycled.
+   */
+  public int getMaxRunsPerProcess() {
+    return this.maxRunsPerProcess;
+  }
+
+  /**
+   * Determines whether this {@link JavaProcessPool} has been closed.
+   *
+   * @return a boolean value indicating whether this {@link JavaProcessPool} has been closed.
+   * @see #close()
+   */
+  public boolean isClosed() {
+    return this.closed;
+  }
+
+  /**
+   * Returns the number of running Java {@link Process Processes} in this pool.
+   *
+   * @return the number of running Java {@link Process Processes} in this pool.
+   */
+  public int size() {
+    return this.processes.size();
+  }
+
+  /**
+   * Sets the {@link File working directory} of the pooled Java {@link Process Processes}.
+   *
+   * @param directory {@link File working directory} of the pooled Java {@link Process Processes};
+   * must be an existing directory.
+   * @return this {@link JavaProcessPool}.
+   * @throws IllegalArgumentException if the {@link File} is not a valid directory.
+   */
+  public @NotNull JavaProcessPool withDirectory(@NotNull File directory) {
+    Assert.isTrue(FileUtils.isDirectory(directory), "[%s] is not a valid directory", directory);
+    this.directory = directory;
+    return this;
+  }
+
+  /**
+   * Sets the {@link Duration} within which a pooled Java {@link Process} must finish executing
+   * a Java {@link Class}; otherwise the execution fails and the Java {@link Process} is recycled.
+   *
+   * @param executionTimeout {@link Duration} within which a Java {@link Class} must finish executing;
+   * must not be {@literal null} and must be positive.
+   * @return this {@link JavaProcessPool}.
+   * @throws IllegalArgumentException if the {@link Duration} is {@literal null}, zero or negative.
+   */
+  public @NotNull JavaProcessPool withExecutionTimeout(@NotNull Duration executionTimeout) {
+    Assert.notNull(executionTimeout, "Execution timeout is required");
+    Assert.isTrue(executionTimeout.toMillis() > 0, "Execution timeout [%s] must be positive", executionTimeout);
+    this.executionTimeout = executionTimeout;
+    return this;
+  }
+
+  /**
+   * Sets the {@link Duration} a pooled Java {@link Process} may remain idle before it is pinged
+   * to check its health when next used.
+   *
+   * @param healthCheckInterval {@link Duration} a pooled Java {@link Process} may remain idle before it is pinged;
+   * must not be {@literal null} or negative.
+   * @return this {@link JavaProcessPool}.
+   * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or negative.
+   */
+  public @NotNull JavaProcessPool withHealthCheckInterval(@NotNull Duration healthCheckInterval) {
+    Assert.notNull(healthCheckInterval, "Health check interval is required");
+    Assert.isFalse(healthCheckInterval.isNegative(), "Health check interval [%s] must not be negative",
+      healthCheckInterval);
+    this.healthCheckInterval = healthCheckInterval;
+    return this;
+  }
+
+  /**
+   * Sets the options passed to the JVM of the pooled Java {@link Process Processes} started after this call.
+   *
+   * @param javaOptions array of options passed to the JVM (e.g. {@literal -Xmx256m}).
+   * @return this {@link JavaProcessPool}.
+   */
+  public @NotNull JavaProcessPool withJavaOptions(String... javaOptions) {
+    this.javaOptions = ArrayUtils.nullSafeArray(javaOptions, String.class).clone();
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of Java {@link Process Processes} in this pool, which is also the maximum number
+   * of Java {@link Class Classes} executed concurrently.
+   *
+   * @param maxProcesses maximum number of Java {@link Process Processes} in this pool; must be greater than 0.
+   * @return this {@link JavaProcessPool}.
+   * @throws IllegalArgumentException if {@code maxProcesses} is less than 1.
+   */
+  public @NotNull JavaProcessPool withMaxProcesses(int maxProcesses) {
+    Assert.isTrue(maxProcesses > 0, "Max processes [%d] must be greater than 0", maxProcesses);
+    this.maxProcesses = maxProcesses;
+    signalProcessAvailable();
+    return this;
+  }
+
+  /**
+   * Sets the number of executions after which a pooled Java {@link Process} is recycled.
+   *
+   * @param maxRunsPerProcess number of executions after which a pooled Java {@link Process} is recycled;
+   * must be greater than 0.
+   * @return this {@link JavaProcessPool}.
+   * @throws IllegalArgumentException if {@code maxRunsPerProcess} is less than 1.
+   */
+  public @NotNull JavaProcessPool withMaxRunsPerProcess(int maxRunsPerProcess) {
+    Assert.isTrue(maxRunsPerProcess > 0, "Max runs per process [%d] must be greater than 0", maxRunsPerProcess);
+    this.maxRunsPerProcess = maxRunsPerProcess;
+    return this;
+  }
+
+  /**
+   * Starts Java {@link Process Processes} until this pool holds the given number of Java {@link Process Processes},
+   * up to {@link #getMaxProcesses() max processes}, and waits for them to be ready.
+   * <p>
+   * The Java {@link Process Processes} start concurrently, so warming up the pool costs roughly
+   * the startup time of a single JVM.
+   *
+   * @param count number of Java {@link Process Processes} to hold.
+   * @return this {@link JavaProcessPool}.
+   * @throws IllegalStateException if this {@link JavaProcessPool} has been closed.
+   * @throws ProcessExecutionException if a Java {@link Process} fails to start.
+   */
+  public @NotNull JavaProcessPool prestart(int count) {
+
+    List<PooledProcess> startedProcesses = new ArrayList<>();
+
+    this.lock.lock();
+
+    try {
+
+      assertNotClosed();
+
+      int startCount = Math.min(count, getMaxProcesses()) - size();
+
+      for (int index = 0; index < startCount; index++) {
+        startedProcesses.add(startProcess());
+      }
+    }
+    finally {
+      this.lock.unlock();
+    }
+
+    for (PooledProcess process : startedProcesses) {
+      if (!process.ping()) {
+        startedProcesses.forEach(this::stop);
+        throw newProcessExecutionException("Java process [%d] failed to start", process.pid());
+      }
+    }
+
+    startedProcesses.forEach(process -> checkin(process, true, false));
+
+    return this;
+  }
+
+  /**
+   * Executes the given Java {@link Class} in a pooled Java {@link Process}, passing the given array
+   * of {@link String arguments}.
+   * <p>
+   * Blocks until a pooled Java {@link Process} is available. The Java {@link Class} must either implement
+   * {@link Runnable}, {@link java.util.concurrent.Callable}, {@link org.cp.elements.lang.Executable}
+   * or have a {@literal main} method.
+   *
+   * @param <T> {@link Class type} of the result.
+   * @param type Java {@link Class} to execute; must not be {@literal null}.
+   * @param args array of {@link String arguments} passed to the Java {@link Class}.
+   * @return an {@link Optional} result from the execution of the Java {@link Class}.
+   * @throws IllegalArgumentException if the Java {@link Class} is {@literal null}.
+   * @throws IllegalStateException if this {@link JavaProcessPool} has been closed.
+   * @throws ProcessExecutionException if the Java {@link Class} fails to execute, the pooled Java {@link Process}
+   * fails or does not respond within the {@link #getExecutionTimeout() execution timeout}, or the calling
+   * {@link Thread} is interrupted while waiting for a pooled Java {@link Process}.
+   * @see org.cp.elements.process.java.EmbeddedJavaProcessExecutor#execute(Class, String...)
+   */
+  public <T> Optional<T> execute(@NotNull Class<?> type, String... args) {
+
+    Assert.notNull(type, "Class type is required");
+
+    String[] arguments = ArrayUtils.nullSafeArray(args, String.class);
+
+    PooledProcess process = checkout();
+
+    boolean healthy = false;
+
+    try {
+
+      JavaProcessWorker.Response response = process.execute(type.getName(), arguments, getExecutionTimeout());
+
+      healthy = true;
+
+      if (response.status() != JavaProcessWorker.SUCCESS_RESPONSE) {
+        throw newProcessExecutionException("Failed to execute Java class [%1$s] with arguments %2$s"
+          + " in Java process [%3$d]:%n%4$s", type.getName(), Arrays.toString(arguments), process.pid(),
+          new String(response.payload(), StandardCharsets.UTF_8));
+      }
+
+      return response.payload().length > 0
+        ? Optional.ofNullable(IOUtils.deserialize(response.payload()))
+        : Optional.empty();
+    }
+    catch (SocketTimeoutException cause) {
+      throw newProcessExecutionException(cause, "Java process [%1$d] did not respond within [%2$s]"
+        + " while executing Java class [%3$s]", process.pid(), getExecutionTimeout(), type.getName());
+    }
+    catch (IOException | ClassNotFoundException cause) {
+      throw newProcessExecutionException(cause, "Java process [%1$d] failed to execute Java class [%2$s]",
+        process.pid(), type.getName());
+    }
+    finally {
+      checkin(process, healthy, true);
+    }
+  }
+
+  private @NotNull PooledProcess checkout() {
+
+    PooledProcess process;
+
+    this.lock.lock();
+
+    try {
+
+      while (!isClosed() && this.busyProcesses >= getMaxProcesses()) {
+        this.processAvailable.await();
+      }
+
+      assertNotClosed();
+      this.busyProcesses++;
+      process = this.idleProcesses.pollFirst();
+    }
+    catch (InterruptedException cause) {
+      Thread.currentThread().interrupt();
+      throw newProcessExecutionException(cause, "Interrupted while waiting for a Java process");
+    }
+    finally {
+      this.lock.unlock();
+    }
+
+    try {
+
+      while (process != null && !isHealthy(process)) {
+        stop(process);
+        process = pollIdleProcess();
+      }
+
+      return process != null ? process : startProcess();
+    }
+    catch (RuntimeException cause) {
+      release();
+      throw cause;
+    }
+  }
+
+  private void checkin(@NotNull PooledProcess process, boolean healthy, boolean busy) {
+
+    boolean recycle = !healthy || process.runs() >= getMaxRunsPerProcess();
+
+    this.lock.lock();
+
+    try {
+      if (!recycle && !isClosed()) {
+        process.idleSince = System.nanoTime();
+        this.idleProcesses.offerFirst(process);
+      }
+      else {
+        recycle = true;
+      }
+
+      if (busy) {
+        this.busyProcesses--;
+        this.processAvailable.signal();
+      }
+    }
+    finally {
+      this.lock.unlock();
+    }
+
+    if (recycle) {
+      stop(process);
+    }
+  }
+
+  private boolean isHealthy(@NotNull PooledProcess process) {
+
+    return process.isAlive()
+      && (System.nanoTime() - process.idleSince < getHealthCheckInterval().toNanos() || process.ping());
+  }
+
+  private @Nullable PooledProcess pollIdleProcess() {
+
+    this.lock.lock();
+
+    try {
+      return this.idleProcesses.pollFirst();
+    }
+    finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void release() {
+
+    this.lock.lock();
+
+    try {
+      this.busyProcesses--;
+      this.processAvailable.signal();
+    }
+    finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void signalProcessAvailable() {
+
+    this.lock.lock();
+
+    try {
+      this.processAvailable.signalAll();
+    }
+    finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void assertNotClosed() {
+    Assert.state(!isClosed(), "JavaProcessPool is closed");
+  }
+
+  /**
+   * Builds the command-line used to start a pooled Java {@link Process} running the {@link JavaProcessWorker}.
+   *
+   * @param port loopback port on which the {@link JavaProcessWorker} connects to this pool.
+   * @return a {@link String} array containing the elements of the Java command-line.
+   * @see org.cp.elements.process.java.JavaProcessWorker
+   */
+  protected @NotNull String[] toJavaCommandLine(int port) {
+
+    List<String> javaCommandLine = new ArrayList<>();
+
+    javaCommandLine.add(FileSystemUtils.JAVA_EXE.getAbsolutePath());
+    javaCommandLine.addAll(Arrays.asList(this.javaOptions));
+    javaCommandLine.add("-classpath");
+    javaCommandLine.add(System.getProperty("java.class.path"));
+    javaCommandLine.add(JavaProcessWorker.class.getName());
+    javaCommandLine.add(String.valueOf(port));
+
+    return javaCommandLine.toArray(new String[0]);
+  }
+
+  /**
+   * Starts a Java {@link Process} running the {@link JavaProcessWorker}.
+   * <p>
+   * The {@link JavaProcessWorker} is passed the port of a loopback {@link ServerSocket} on its command-line and
+   * a random token on its standard in. The connection to the {@link JavaProcessWorker} is accepted lazily, when
+   * the returned {@link PooledProcess} is first used, so that multiple Java {@link Process Processes} start
+   * concurrently.
+   */
+  private @NotNull PooledProcess startProcess() {
+
+    ServerSocket serverSocket = null;
+    Process process = null;
+    String[] commandLine = {};
+
+    try {
+
+      serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+      commandLine = toJavaCommandLine(serverSocket.getLocalPort());
+
+      process = new ProcessBuilder(commandLine)
+        .directory(getDirectory())
+        .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+        .redirectError(ProcessBuilder.Redirect.INHERIT)
+        .start();
+
+      byte[] token = new byte[JavaProcessWorker.TOKEN_LENGTH];
+
+      tokenGenerator.nextBytes(token);
+
+      try (OutputStream tokenOut = process.getOutputStream()) {
+        tokenOut.write(token);
+      }
+
+      PooledProcess pooledProcess = new PooledProcess(process, serverSocket, token);
+
+      this.processes.add(pooledProcess);
+
+      return pooledProcess;
+    }
+    catch (IOException cause) {
+
+      IOUtils.close(serverSocket);
+
+      if (process != null) {
+        process.destroyForcibly();
+      }
+
+      throw newProcessExecutionException(cause, "Failed to execute program %1$s in directory [%2$s]",
+        Arrays.toString(commandLine), getDirectory());
+    }
+  }
+
+  private void stop(@NotNull PooledProcess process) {
+
+    this.processes.remove(process);
+
+    process.stop().exceptionally(cause -> {
+      process.process.destroyForcibly();
+      return null;
+    });
+  }
+
+  /**
+   * Closes this {@link JavaProcessPool} stopping all pooled Java {@link Process Processes}.
+   * <p>
+   * Idle Java {@link Process Processes} are stopped immediately, while busy Java {@link Process Processes}
+   * are stopped once they finish executing the current Java {@link Class}. Any callers waiting for
+   * a pooled Java {@link Process} fail with an {@link IllegalStateException}.
+   */
+  @Override
+  public void close() {
+
+    List<PooledProcess> processesToStop;
+
+    this.lock.lock();
+
+    try {
+      this.closed = true;
+      processesToStop = new ArrayList<>(this.idleProcesses);
+      this.idleProcesses.clear();
+      this.processAvailable.signalAll();
+    }
+    finally {
+      this.lock.unlock();
+    }
+
+    processesToStop.forEach(this::stop);
+  }
+
+  /**
+   * Java {@link Process} running the {@link JavaProcessWorker} in this pool, connected over a loopback
+   * {@link Socket}.
+   */
+  private static final class PooledProcess {
+
+    private int runs;
+
+    private volatile long idleSince = System.nanoTime();
+
+    private final byte[] token;
+
+    private DataInputStream in;
+    private DataOutputStream out;
+
+    private final Process process;
+
+    private final ServerSocket serverSocket;
+
+    private volatile Socket socket;
+
+    private PooledProcess(@NotNull Process process, @NotNull ServerSocket serverSocket, byte[] token) {
+      this.process = process;
+      this.serverSocket = serverSocket;
+      this.token = token;
+    }
+
+    boolean isAlive() {
+      return this.process.isAlive();
+    }
+
+    long pid() {
+      return this.process.pid();
+    }
+
+    int runs() {
+      return this.runs;
+    }
+
+    @NotNull JavaProcessWorker.Response execute(@NotNull String className, @NotNull String[] args,
+        @NotNull Duration timeout) throws IOException {
+
+      connect();
+
+      this.runs++;
+      this.out.writeByte(JavaProcessWorker.EXECUTE_REQUEST);
+      this.out.writeUTF(className);
+      this.out.writeInt(args.length);
+
+      for (String argument : args) {
+        this.out.writeUTF(argument);
+      }
+
+      this.out.flush();
+
+      return readResponse(deadline(timeout));
+    }
+
+    boolean ping() {
+
+      try {
+        connect();
+        this.out.writeByte(JavaProcessWorker.PING_REQUEST);
+        this.out.flush();
+        return readResponse(deadline(DEFAULT_PING_TIMEOUT)).status() == JavaProcessWorker.SUCCESS_RESPONSE;
+      }
+      catch (IOException ignore) {
+        return false;
+      }
+    }
+
+    /**
+     * Accepts the connection from the {@link JavaProcessWorker} if not yet connected, ignoring connections
+     * that do not complete the handshake within {@link #DEFAULT_START_TIMEOUT}.
+     */
+    private void connect() throws IOException {
+
+      if (this.socket == null) {
+        try {
+
+          long deadline = deadline(DEFAULT_START_TIMEOUT);
+
+          while (this.socket == null) {
+
+            this.serverSocket.setSoTimeout(remainingMillis(deadline));
+
+            Socket socket = this.serverSocket.accept();
+
+            if (isHandshakeValid(socket, deadline)) {
+              socket.setTcpNoDelay(true);
+              this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+              this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+              this.socket = socket;
+            }
+            else {
+              IOUtils.close(socket);
+            }
+          }
+        }
+        finally {
+          IOUtils.close(this.serverSocket);
+        }
+      }
+    }
+
+    private boolean isHandshakeValid(@NotNull Socket socket, long deadline) {
+
+      try {
+
+        socket.setSoTimeout(remainingMillis(deadline));
+
+        DataInputStream in = new DataInputStream(socket.getInputStream());
+
+        byte[] token = new byte[JavaProcessWorker.TOKEN_LENGTH];
+
+        if (in.readInt() != JavaProcessWorker.HANDSHAKE) {
+          return false;
+        }
+
+        in.readFully(token);
+
+        return MessageDigest.isEqual(token, this.token);
+      }
+      catch (IOException ignore) {
+        return false;
+      }
+    }
+
+    private @NotNull JavaProcessWorker.Response readResponse(long deadline) throws IOException {
+
+      this.socket.setSoTimeout(remainingMillis(deadline));
+
+      byte status = this.in.readByte();
+      int length = this.in.readInt();
+
+      if (status != JavaProcessWorker.SUCCESS_RESPONSE && status != JavaProcessWorker.FAILURE_RESPONSE
+          || length < 0) {
+
+        throw newIOException("Invalid response with status [%1$d] and length [%2$d]", status, length);
+      }
+
+      byte[] payload = new byte[length];
+
+      this.socket.setSoTimeout(remainingMillis(deadline));
+      this.in.readFully(payload);
+
+      return new JavaProcessWorker.Response(status, payload);
+    }
+
+    private static long deadline(@NotNull Duration timeout) {
+      return System.nanoTime() + timeout.toNanos();
+    }
+
+    private static int remainingMillis(long deadline) throws SocketTimeoutException {
+
+      long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+      if (remainingMillis <= 0) {
+        throw new SocketTimeoutException("Timed out");
+      }
+
+      return (int) Math.min(remainingMillis, Integer.MAX_VALUE);
+    }
+
+    @NotNull CompletableFuture<Process> stop() {
+
+      IOUtils.close(this.serverSocket);
+
+      if (!IOUtils.close(this.socket)) {
+        this.process.destroy();
+      }
+
+      return this.process.onExit().orTimeout(DEFAULT_STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+}
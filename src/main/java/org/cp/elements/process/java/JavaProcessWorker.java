@@ -0,0 +1,177 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.process.java;
+
+import static org.cp.elements.lang.ElementsExceptionsFactory.newEmbeddedProcessExecutionException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Serializable;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.cp.elements.io.IOUtils;
+import org.cp.elements.lang.ClassUtils;
+import org.cp.elements.lang.ThrowableUtils;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * Java program run in each warm, pre-started JVM managed by a {@link JavaProcessPool}.
+ * <p>
+ * The {@link JavaProcessWorker} connects to the loopback port of its {@link JavaProcessPool} and proves it was
+ * started by the {@link JavaProcessPool} with a handshake: {@link #HANDSHAKE} followed by the token read from
+ * standard in (stdin). It then reads requests from and writes responses to the {@link Socket}, one request at a time,
+ * until the {@link JavaProcessPool} closes the connection. Each request names a Java {@link Class} to execute with
+ * the {@link EmbeddedJavaProcessExecutor} along with its {@link String arguments}.
+ * <p>
+ * Since the requests and responses have a dedicated channel, output written to standard out (stdout) by the JVM
+ * (e.g. {@literal -Xlog:gc}), by Java agents or by the Java programs executed cannot corrupt them.
+ *
+ * @author John Blum
+ * @see org.cp.elements.process.java.EmbeddedJavaProcessExecutor
+ * @see org.cp.elements.process.java.JavaProcessPool
+ * @since 3.0.0
+ */
+public final class JavaProcessWorker {
+
+  static final byte EXECUTE_REQUEST = 1;
+  static final byte PING_REQUEST = 2;
+
+  static final byte FAILURE_RESPONSE = 1;
+  static final byte SUCCESS_RESPONSE = 0;
+
+  static final int HANDSHAKE = 0x4A505731;
+  static final int TOKEN_LENGTH = 16;
+
+  private JavaProcessWorker() { }
+
+  /**
+   * Runs this {@link JavaProcessWorker} serving requests from its {@link JavaProcessPool} until
+   * the {@link JavaProcessPool} closes the connection.
+   *
+   * @param args array of {@link String arguments} containing the loopback port of the {@link JavaProcessPool}.
+   * @throws IOException if an I/O error occurs while communicating with the {@link JavaProcessPool}.
+   * @see #serve(DataInputStream, DataOutputStream)
+   */
+  public static void main(String[] args) throws IOException {
+
+    byte[] token = new byte[TOKEN_LENGTH];
+
+    new DataInputStream(System.in).readFully(token);
+
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(args[0]))) {
+
+      socket.setTcpNoDelay(true);
+
+      DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+      out.writeInt(HANDSHAKE);
+      out.write(token);
+      out.flush();
+
+      serve(in, out);
+    }
+  }
+
+  /**
+   * Serves requests read from the given {@link DataInputStream}, writing responses to the given
+   * {@link DataOutputStream}, until the end of the {@link DataInputStream} is reached.
+   *
+   * @param in {@link DataInputStream} from which requests are read; must not be {@literal null}.
+   * @param out {@link DataOutputStream} to which responses are written; must not be {@literal null}.
+   * @throws IOException if an I/O error occurs while reading a request or writing a response.
+   */
+  static void serve(@NotNull DataInputStream in, @NotNull DataOutputStream out) throws IOException {
+
+    EmbeddedJavaProcessExecutor executor = EmbeddedJavaProcessExecutor.newEmbeddedJavaProcessExecutor();
+
+    for (int request = readRequest(in); request != -1; request = readRequest(in)) {
+
+      if (request == EXECUTE_REQUEST) {
+
+        String className = in.readUTF();
+        String[] args = new String[in.readInt()];
+
+        for (int index = 0; index < args.length; index++) {
+          args[index] = in.readUTF();
+        }
+
+        writeResponse(out, execute(executor, className, args));
+      }
+      else if (request == PING_REQUEST) {
+        writeResponse(out, Response.success(new byte[0]));
+      }
+      else {
+        throw new IOException(String.format("Unknown request [%d]", request));
+      }
+    }
+  }
+
+  private static @NotNull Response execute(@NotNull EmbeddedJavaProcessExecutor executor,
+      @NotNull String className, @NotNull String[] args) {
+
+    try {
+
+      Optional<Object> result = executor.execute(ClassUtils.loadClass(className), args);
+
+      if (result.isPresent() && !(result.get() instanceof Serializable)) {
+        throw newEmbeddedProcessExecutionException("Result [%1$s] of Java class [%2$s] is not Serializable",
+          result.get().getClass().getName(), className);
+      }
+
+      return Response.success(result.isPresent() ? IOUtils.serialize(result.get()) : new byte[0]);
+    }
+    catch (Throwable cause) {
+      return Response.failure(String.valueOf(ThrowableUtils.getStackTrace(cause)).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static int readRequest(@NotNull DataInputStream in) throws IOException {
+
+    try {
+      return in.readByte();
+    }
+    catch (EOFException ignore) {
+      return -1;
+    }
+  }
+
+  private static void writeResponse(@NotNull DataOutputStream out, @NotNull Response response) throws IOException {
+
+    out.writeByte(response.status());
+    out.writeInt(response.payload().length);
+    out.write(response.payload());
+    out.flush();
+  }
+
+  record Response(byte status, byte[] payload) {
+
+    static @NotNull Response failure(byte[] payload) {
+      return new Response(FAILURE_RESPONSE, payload);
+    }
+
+    static @NotNull Response success(byte[] payload) {
+      return new Response(SUCCESS_RESPONSE, payload);
+    }
+  }
+}
@@ -0,0 +1,419 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.service.loader;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.cp.elements.lang.Nameable;
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.Qualifier;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Cache of {@literal service providers} discovered with Java's {@link ServiceLoader}, keyed by
+ * {@link Class service type} and {@link ClassLoader}.
+ * <p>
+ * {@literal Service providers} are discovered once per {@link Class service type} and {@link ClassLoader}
+ * using {@link ServiceLoader#stream()}, which locates the {@literal service provider} {@link Class classes}
+ * without instantiating them. A {@literal service provider} is only instantiated when a {@literal service instance}
+ * is requested and, if caching is enabled, the {@literal service instance} is then reused by all subsequent lookups.
+ * <p>
+ * The {@link Qualifier#name() Qualifier names} of the {@literal service provider} {@link Class classes} are indexed
+ * when the {@literal service providers} are discovered so that {@literal service instances} can be looked up
+ * by name without instantiating every {@literal service provider}.
+ * <p>
+ * The cache can be {@link #refresh(Class, ClassLoader) refreshed} to discover {@literal service providers}
+ * added or removed at runtime.
+ * <p>
+ * The cache does not prevent {@link Class service types} or {@link ClassLoader ClassLoaders} from being garbage
+ * collected. Cached {@literal service providers} are associated with the {@link Class service type} using
+ * a {@link ClassValue} and keyed by a {@literal weak} reference to the {@link ClassLoader}. If any
+ * {@literal service provider} {@link Class} is defined by the {@link ClassLoader} itself, then the cached
+ * {@literal service providers} are only reachable from that {@link Class}, so they do not keep
+ * the {@link ClassLoader} reachable, for example, after an application is redeployed.
+ *
+ * @author John Blum
+ * @see java.util.ServiceLoader
+ * @see org.cp.elements.service.loader.ServiceLoaderSupport
+ * @since 3.0.0
+ */
+@ThreadSafe
+public final class ServiceLoaderCache {
+
+  private static final AtomicLong generation = new AtomicLong(0L);
+
+  private static final ClassValue<List<ServiceProviders<?>>> anchoredServiceProviders = new ClassValue<>() {
+
+    @Override
+    protected List<ServiceProviders<?>> computeValue(Class<?> type) {
+      return new CopyOnWriteArrayList<>();
+    }
+  };
+
+  private static final ClassValue<ServiceProvidersByClassLoader> serviceProvidersCache = new ClassValue<>() {
+
+    @Override
+    protected ServiceProvidersByClassLoader computeValue(Class<?> type) {
+      return new ServiceProvidersByClassLoader();
+    }
+  };
+
+  private ServiceLoaderCache() { }
+
+  /**
+   * Gets the {@link ServiceProviders} of the given, required {@link Class service type} discovered with
+   * the given {@link ClassLoader}, discovering the {@literal service providers} on first access.
+   *
+   * @param <T> {@link Class type} of the service.
+   * @param serviceType {@link Class type} of the service; must not be {@literal null}.
+   * @param classLoader {@link ClassLoader} used to discover the {@literal service providers}.
+   * @return the cached {@link ServiceProviders} for the given {@link Class service type} and {@link ClassLoader}.
+   * @throws IllegalArgumentException if the {@link Class service type} is {@literal null}.
+   * @see java.util.ServiceLoader#load(Class, ClassLoader)
+   */
+  public static @NotNull <T> ServiceProviders<T> get(@NotNull Class<T> serviceType,
+      @Nullable ClassLoader classLoader) {
+
+    ObjectUtils.requireObject(serviceType, "Service type is required");
+
+    return serviceProvidersCache.get(serviceType).get(serviceType, classLoader);
+  }
+
+  /**
+   * Evicts the cached {@link ServiceProviders} of the given {@link Class service type} discovered with
+   * the given {@link ClassLoader}, along with any cached {@literal service instances}.
+   * <p>
+   * The {@literal service providers} are discovered again on the next lookup.
+   *
+   * @param serviceType {@link Class type} of the service.
+   * @param classLoader {@link ClassLoader} used to discover the {@literal service providers}.
+   */
+  public static void refresh(@Nullable Class<?> serviceType, @Nullable ClassLoader classLoader) {
+
+    if (serviceType != null) {
+      serviceProvidersCache.get(serviceType).remove(classLoader);
+    }
+  }
+
+  /**
+   * Evicts all cached {@link ServiceProviders} along with any cached {@literal service instances}.
+   */
+  public static void refreshAll() {
+    generation.incrementAndGet();
+  }
+
+  /**
+   * {@link ServiceProviders} of a single {@link Class service type} keyed by a {@literal weak} reference
+   * to the {@link ClassLoader} used to discover them.
+   * <p>
+   * {@link ServiceProviders} including a {@literal service provider} {@link Class} defined by the {@link ClassLoader}
+   * itself are held strongly by that {@link Class} and only {@literal weakly} by this cache, since otherwise
+   * the {@link ServiceProviders} would keep the {@link ClassLoader} key reachable.
+   */
+  private static final class ServiceProvidersByClassLoader {
+
+    private long generation = ServiceLoaderCache.generation.get();
+
+    private final Map<ClassLoader, Object> serviceProviders = new WeakHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    synchronized @NotNull <T> ServiceProviders<T> get(@NotNull Class<T> serviceType,
+        @Nullable ClassLoader classLoader) {
+
+      long currentGeneration = ServiceLoaderCache.generation.get();
+
+      if (this.generation != currentGeneration) {
+        new ArrayList<>(this.serviceProviders.keySet()).forEach(this::remove);
+        this.generation = currentGeneration;
+      }
+
+      ServiceProviders<?> serviceProviders = resolve(this.serviceProviders.get(classLoader));
+
+      if (serviceProviders == null) {
+
+        serviceProviders = ServiceProviders.discover(serviceType, classLoader);
+
+        Class<?> anchor = classLoader != null ? serviceProviders.findProviderTypeDefinedBy(classLoader) : null;
+
+        if (anchor != null) {
+          anchoredServiceProviders.get(anchor).add(serviceProviders);
+          this.serviceProviders.put(classLoader, new AnchoredServiceProviders(serviceProviders, anchor));
+        }
+        else {
+          this.serviceProviders.put(classLoader, serviceProviders);
+        }
+      }
+
+      return (ServiceProviders<T>) serviceProviders;
+    }
+
+    synchronized void remove(@Nullable ClassLoader classLoader) {
+
+      if (this.serviceProviders.remove(classLoader) instanceof AnchoredServiceProviders anchored) {
+
+        Class<?> anchor = anchored.anchor.get();
+        ServiceProviders<?> serviceProviders = anchored.serviceProviders.get();
+
+        if (anchor != null && serviceProviders != null) {
+          anchoredServiceProviders.get(anchor).remove(serviceProviders);
+        }
+      }
+    }
+
+    private @Nullable ServiceProviders<?> resolve(@Nullable Object value) {
+
+      return value instanceof AnchoredServiceProviders anchored ? anchored.serviceProviders.get()
+        : (ServiceProviders<?>) value;
+    }
+  }
+
+  private static final class AnchoredServiceProviders {
+
+    private final WeakReference<Class<?>> anchor;
+
+    private final WeakReference<ServiceProviders<?>> serviceProviders;
+
+    private AnchoredServiceProviders(@NotNull ServiceProviders<?> serviceProviders, @NotNull Class<?> anchor) {
+      this.anchor = new WeakReference<>(anchor);
+      this.serviceProviders = new WeakReference<>(serviceProviders);
+    }
+  }
+
+  /**
+   * Ordered collection of {@literal service providers} for a {@link Class service type} discovered with
+   * Java's {@link ServiceLoader}.
+   *
+   * @param <T> {@link Class type} of the service.
+   */
+  @ThreadSafe
+  public static final class ServiceProviders<T> {
+
+    private static final int[] NO_INDEXES = {};
+
+    static @NotNull <T> ServiceProviders<T> discover(@NotNull Class<T> serviceType,
+        @Nullable ClassLoader classLoader) {
+
+      List<ServiceProvider<T>> serviceProviders = new ArrayList<>();
+
+      ServiceLoader.load(serviceType, classLoader).stream()
+        .map(ServiceProvider::new)
+        .forEach(serviceProviders::add);
+
+      return new ServiceProviders<>(serviceProviders);
+    }
+
+    private final int[] nameableIndexes;
+
+    private final Map<String, int[]> qualifiedIndexes;
+
+    private final ServiceProvider<T>[] serviceProviders;
+
+    @SuppressWarnings("unchecked")
+    private ServiceProviders(@NotNull List<ServiceProvider<T>> serviceProviders) {
+
+      this.serviceProviders = (ServiceProvider<T>[]) serviceProviders.toArray(new ServiceProvider<?>[0]);
+
+      List<Integer> nameableIndexes = new ArrayList<>();
+
+      Map<String, List<Integer>> qualifiedIndexes = new HashMap<>();
+
+      for (int index = 0; index < this.serviceProviders.length; index++) {
+
+        ServiceProvider<T> serviceProvider = this.serviceProviders[index];
+
+        if (serviceProvider.isNameable()) {
+          nameableIndexes.add(index);
+        }
+        else if (serviceProvider.getQualifierName() != null) {
+          qualifiedIndexes.computeIfAbsent(serviceProvider.getQualifierName(), name -> new ArrayList<>()).add(index);
+        }
+      }
+
+      this.nameableIndexes = toIntArray(nameableIndexes);
+      this.qualifiedIndexes = new HashMap<>();
+
+      qualifiedIndexes.forEach((name, indexes) -> this.qualifiedIndexes.put(name, toIntArray(indexes)));
+    }
+
+    private static int[] toIntArray(@NotNull List<Integer> list) {
+      return list.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private @Nullable Class<?> findProviderTypeDefinedBy(@NotNull ClassLoader classLoader) {
+
+      for (ServiceProvider<T> serviceProvider : this.serviceProviders) {
+
+        Class<?> providerType = serviceProvider.getType();
+
+        if (providerType.getClassLoader() == classLoader) {
+          return providerType;
+        }
+      }
+
+      return null;
+    }
+
+    /**
+     * Gets the number of {@literal service providers} discovered.
+     *
+     * @return the number of {@literal service providers} discovered.
+     */
+    public int size() {
+      return this.serviceProviders.length;
+    }
+
+    /**
+     * Finds the first {@literal service instance} matching the given, required {@link Predicate}.
+     * <p>
+     * {@literal Service providers} are instantiated in order until a match is found.
+     *
+     * @param predicate {@link Predicate} used to match the {@literal service instance}; must not be {@literal null}.
+     * @param cacheServiceInstances boolean value indicating whether {@literal service instances} are cached
+     * and reused, or a new {@literal service instance} is created for every lookup.
+     * @return the first {@literal service instance} matching the given {@link Predicate}, if any.
+     * @see java.util.function.Predicate
+     */
+    public @NotNull Optional<T> find(@NotNull Predicate<T> predicate, boolean cacheServiceInstances) {
+
+      for (ServiceProvider<T> serviceProvider : this.serviceProviders) {
+
+        T serviceInstance = serviceProvider.get(cacheServiceInstances);
+
+        if (serviceInstance != null && predicate.test(serviceInstance)) {
+          return Optional.of(serviceInstance);
+        }
+      }
+
+      return Optional.empty();
+    }
+
+    /**
+     * Finds the first {@literal service instance} with the given {@link String declared name}, which is either
+     * the {@link Nameable#getName() name} of a {@link Nameable} {@literal service instance} or
+     * the {@link Qualifier#name() Qualifier name} of the {@literal service provider} {@link Class}.
+     * <p>
+     * Only {@link Nameable} {@literal service providers} and {@literal service providers} qualified with
+     * the given {@link String name} are instantiated.
+     *
+     * @param declaredName {@link String} containing the name of the {@literal service instance}.
+     * @param cacheServiceInstances boolean value indicating whether {@literal service instances} are cached
+     * and reused, or a new {@literal service instance} is created for every lookup.
+     * @return the first {@literal service instance} with the given {@link String declared name}, if any.
+     */
+    public @NotNull Optional<T> findByName(@Nullable String declaredName, boolean cacheServiceInstances) {
+
+      int[] qualifiedIndexes = this.qualifiedIndexes.getOrDefault(declaredName, NO_INDEXES);
+      int[] nameableIndexes = this.nameableIndexes;
+
+      int nameableIndex = 0;
+      int qualifiedIndex = 0;
+
+      while (nameableIndex < nameableIndexes.length || qualifiedIndex < qualifiedIndexes.length) {
+
+        boolean nextIsNameable = qualifiedIndex >= qualifiedIndexes.length
+          || (nameableIndex < nameableIndexes.length
+            && nameableIndexes[nameableIndex] < qualifiedIndexes[qualifiedIndex]);
+
+        ServiceProvider<T> serviceProvider = nextIsNameable
+          ? this.serviceProviders[nameableIndexes[nameableIndex++]]
+          : this.serviceProviders[qualifiedIndexes[qualifiedIndex++]];
+
+        T serviceInstance = serviceProvider.get(cacheServiceInstances);
+
+        if (serviceInstance != null && (!nextIsNameable || isNamed(serviceInstance, declaredName))) {
+          return Optional.of(serviceInstance);
+        }
+      }
+
+      return Optional.empty();
+    }
+
+    private boolean isNamed(@NotNull T serviceInstance, @Nullable String declaredName) {
+
+      Qualifier qualifier = serviceInstance.getClass().getAnnotation(Qualifier.class);
+
+      return (serviceInstance instanceof Nameable<?> namedService
+          && String.valueOf(namedService.getName()).equals(declaredName))
+        || (qualifier != null && qualifier.name().equals(declaredName));
+    }
+  }
+
+  private static final class ServiceProvider<T> {
+
+    private final boolean nameable;
+
+    private final ServiceLoader.Provider<T> provider;
+
+    private final String qualifierName;
+
+    private volatile T serviceInstance;
+
+    private ServiceProvider(@NotNull ServiceLoader.Provider<T> provider) {
+
+      Class<? extends T> providerType = provider.type();
+      Qualifier qualifier = providerType.getAnnotation(Qualifier.class);
+
+      this.provider = provider;
+      this.nameable = Nameable.class.isAssignableFrom(providerType);
+      this.qualifierName = qualifier != null ? qualifier.name() : null;
+    }
+
+    boolean isNameable() {
+      return this.nameable;
+    }
+
+    @Nullable String getQualifierName() {
+      return this.qualifierName;
+    }
+
+    @NotNull Class<? extends T> getType() {
+      return this.provider.type();
+    }
+
+    @Nullable T get(boolean cacheServiceInstance) {
+
+      if (!cacheServiceInstance) {
+        return this.provider.get();
+      }
+
+      T serviceInstance = this.serviceInstance;
+
+      if (serviceInstance == null) {
+        synchronized (this) {
+          serviceInstance = this.serviceInstance;
+          if (serviceInstance == null) {
+            serviceInstance = this.provider.get();
+            this.serviceInstance = serviceInstance;
+          }
+        }
+      }
+
+      return serviceInstance;
+    }
+  }
+}
@@ -17,25 +17,28 @@ package org.cp.elements.service.loader;
 
 import static org.cp.elements.lang.ElementsExceptionsFactory.newServiceUnavailableException;
 
-import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.function.Predicate;
 
-import org.cp.elements.function.FunctionUtils;
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.Nameable;
 import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.lang.annotation.Qualifier;
 import org.cp.elements.service.ServiceUnavailableException;
-import org.cp.elements.util.stream.StreamUtils;
 
 /**
  * Interface defining a contract for Java {@link Object Objects} and services
  * {@link ServiceLoader#load(Class, ClassLoader) loaded} with Java's {@link ServiceLoader}.
+ * <p>
+ * {@literal Service providers} are discovered once per {@link #getType() service type} and {@link #getClassLoader()
+ * ClassLoader} and cached in the {@link ServiceLoaderCache}. {@literal Service providers} are only instantiated when
+ * a {@literal service instance} is requested and, unless {@link #isServiceInstanceCachingEnabled() disabled},
+ * the same {@literal service instance} is returned by subsequent lookups.
  *
  * @author John Blum
  * @param <T> {@link Class type} of the service instance loaded by this {@link ServiceLoader}.
  * @see java.util.ServiceLoader
+ * @see org.cp.elements.service.loader.ServiceLoaderCache
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
@@ -55,6 +58,19 @@ public interface ServiceLoaderSupport<T> {
     return Thread.currentThread().getContextClassLoader();
   }
 
+  /**
+   * Determines whether {@literal service instances} are cached and reused by subsequent lookups.
+   * <p>
+   * Returns {@literal true} by default. Stateful services should override this method to return {@literal false}
+   * so that a new {@literal service instance} is created for every lookup. {@literal Service providers} are
+   * discovered only once in either case.
+   *
+   * @return a boolean value indicating whether {@literal service instances} are cached and reused.
+   */
+  default boolean isServiceInstanceCachingEnabled() {
+    return true;
+  }
+
   /**
    * Gets the first configured and available {@literal service instance}.
    *
@@ -79,19 +95,12 @@ public interface ServiceLoaderSupport<T> {
    * matching the criteria defined by the given, required {@link Predicate}.
    * @see java.util.function.Predicate
    */
-  @SuppressWarnings("unchecked")
   default @NotNull T getServiceInstance(@NotNull Predicate<T> serviceInstancePredicate) {
 
     Assert.notNull(serviceInstancePredicate, "A Predicate used to match the service instance is required");
 
-    ServiceLoader<T> serviceLoader = ServiceLoader.load(getType(), getClassLoader());
-
-    Predicate<T> nullSafeServiceInstancePredicate =
-      FunctionUtils.composeAnd(Objects::nonNull, serviceInstancePredicate);
-
-    return StreamUtils.stream(serviceLoader)
-      .filter(nullSafeServiceInstancePredicate)
-      .findFirst()
+    return ServiceLoaderCache.get(getType(), getClassLoader())
+      .find(serviceInstancePredicate, isServiceInstanceCachingEnabled())
       .orElseThrow(() -> newServiceUnavailableException("Failed to find a service instance matching Predicate [%s]",
         serviceInstancePredicate));
   }
@@ -112,6 +121,10 @@ public interface ServiceLoaderSupport<T> {
    * <p>
    * {@link Nameable} takes precedence over {@link Qualifier} since {@link Nameable} can be dynamic
    * and {@link Qualifier} is static.
+   * <p>
+   * {@link Qualifier} names are indexed when the {@literal service providers} are discovered, so only
+   * {@link Nameable} {@literal service providers} and {@literal service providers} qualified with
+   * the {@code declaredName} are instantiated.
    *
    * @param declaredName {@link String} containing the {@literal name} of the {@literal service instance} to resolve;
    * must not be {@literal null} or {@literal empty}.
@@ -123,21 +136,11 @@ public interface ServiceLoaderSupport<T> {
    */
   default @NotNull T getServiceInstance(@NotNull String declaredName) {
 
-    Predicate<T> namedServicePredicate = service -> service instanceof Nameable<?> namedService
-      && String.valueOf(namedService.getName()).equals(declaredName);
-
-    Predicate<T> qualifierAnnotationPredicate = service -> {
-
-      Class<?> serviceType = service.getClass();
-
-      return serviceType.isAnnotationPresent(Qualifier.class)
-        && serviceType.getAnnotation(Qualifier.class).name().equals(declaredName);
-    };
-
-    Predicate<T> resolvedNameSourcePredicate = namedServicePredicate.or(qualifierAnnotationPredicate);
-
     try {
-      return getServiceInstance(resolvedNameSourcePredicate);
+      return ServiceLoaderCache.get(getType(), getClassLoader())
+        .findByName(declaredName, isServiceInstanceCachingEnabled())
+        .orElseThrow(() -> newServiceUnavailableException("Failed to find a service instance matching Predicate [%s]",
+          String.format("Nameable [%1$s] or Qualifier [%1$s]", declaredName)));
     }
     catch (ServiceUnavailableException cause) {
       throw newServiceUnavailableException(cause, "Failed to find a service instance with the declared name [%s]",
@@ -145,6 +148,19 @@ public interface ServiceLoaderSupport<T> {
     }
   }
 
+  /**
+   * Refreshes the {@literal service providers} of the {@link #getType() service type} by evicting the
+   * {@literal service providers} and {@literal service instances} cached for the {@link #getType() service type}
+   * and {@link #getClassLoader() ClassLoader}.
+   * <p>
+   * The {@literal service providers} are discovered again on the next lookup.
+   *
+   * @see ServiceLoaderCache#refresh(Class, ClassLoader)
+   */
+  default void refresh() {
+    ServiceLoaderCache.refresh(getType(), getClassLoader());
+  }
+
   /**
    * Declares the {@link Class type} used to {@link ServiceLoader#load(Class) load the service} with
    * the Java {@link ServiceLoader}.
@@ -16,6 +16,11 @@
 package org.cp.elements.text;
 
 import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.util.ArrayUtils;
@@ -26,23 +31,110 @@ import org.cp.elements.util.ArrayUtils;
  * @author John J. Blum
  * @see java.lang.String
  * @see java.text.MessageFormat
+ * @see org.cp.elements.text.MessageTemplate
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
 public abstract class FormatUtils {
 
+  protected static final int MESSAGE_TEMPLATE_CACHE_SIZE = 1024;
+
+  protected static final int MESSAGE_TEMPLATE_CACHE_EVICTION_THRESHOLD = MESSAGE_TEMPLATE_CACHE_SIZE * 3 / 4;
+
+  private static final AtomicBoolean messageTemplateCacheEviction = new AtomicBoolean(false);
+
+  private static final Map<String, CachedMessageTemplate> messageTemplateCache =
+    new ConcurrentHashMap<>(MESSAGE_TEMPLATE_CACHE_SIZE * 4 / 3 + 1);
+
   /**
    * Formats the given {@link String} of text.
+   * <p>
+   * The {@link String text pattern} is compiled into a {@link MessageTemplate} that is cached for reuse.
    *
    * @param textPattern {@link String} text pattern to format.
    * @param args array of {@link Object} arguments to apply to the text pattern.
    * @return a formatted {@link String} of text with the arguments applied to the text pattern.
-   * @see #messageFormat(String, Object...)
-   * @see #stringFormat(String, Object...)
+   * @see org.cp.elements.text.MessageTemplate#format(Object...)
+   * @see #compile(String)
    * @see java.lang.String
    */
   public static @NotNull String format(@NotNull String textPattern, Object... args) {
-    return messageFormat(stringFormat(textPattern, args), args);
+
+    return textPattern != null
+      ? compile(textPattern).format(args)
+      : messageFormat(stringFormat(textPattern, args), args);
+  }
+
+  /**
+   * Compiles the given, required {@link String text pattern} into a {@link MessageTemplate}.
+   * <p>
+   * Compiled {@link MessageTemplate MessageTemplates} are cached by {@link String text pattern}. The cache holds
+   * approximately {@value #MESSAGE_TEMPLATE_CACHE_SIZE} {@link MessageTemplate MessageTemplates}. When full,
+   * {@link MessageTemplate MessageTemplates} not used since the last eviction are evicted first
+   * ({@literal second chance}).
+   *
+   * @param textPattern {@link String} containing the text pattern to compile; must not be {@literal null}.
+   * @return a {@link MessageTemplate} for the given {@link String text pattern}.
+   * @throws IllegalArgumentException if the {@link String text pattern} is {@literal null}.
+   * @see org.cp.elements.text.MessageTemplate#compile(String)
+   */
+  public static @NotNull MessageTemplate compile(@NotNull String textPattern) {
+
+    CachedMessageTemplate cachedMessageTemplate = textPattern != null ? messageTemplateCache.get(textPattern) : null;
+
+    if (cachedMessageTemplate != null) {
+      return cachedMessageTemplate.use();
+    }
+
+    MessageTemplate messageTemplate = MessageTemplate.compile(textPattern);
+
+    cachedMessageTemplate = messageTemplateCache.putIfAbsent(textPattern, new CachedMessageTemplate(messageTemplate));
+
+    if (cachedMessageTemplate != null) {
+      return cachedMessageTemplate.use();
+    }
+
+    if (messageTemplateCache.size() > MESSAGE_TEMPLATE_CACHE_SIZE) {
+      evictMessageTemplates();
+    }
+
+    return messageTemplate;
+  }
+
+  /**
+   * Evicts {@link MessageTemplate MessageTemplates} from the cache.
+   * <p>
+   * A first pass over the cache evicts every {@link MessageTemplate} not used since the previous eviction
+   * and clears the {@literal used} mark of the others. If the cache still holds more than
+   * {@value #MESSAGE_TEMPLATE_CACHE_EVICTION_THRESHOLD} {@link MessageTemplate MessageTemplates}, a second pass
+   * evicts those that have not been used again since the first pass, and a final pass evicts any
+   * {@link MessageTemplate} until the threshold is reached. Only one {@link Thread} evicts at a time;
+   * other {@link Thread Threads} do not wait for it.
+   */
+  private static void evictMessageTemplates() {
+
+    if (messageTemplateCacheEviction.compareAndSet(false, true)) {
+      try {
+        messageTemplateCache.values().removeIf(cachedMessageTemplate -> !cachedMessageTemplate.clearUsed());
+
+        evictMessageTemplates(CachedMessageTemplate::isUnused);
+        evictMessageTemplates(cachedMessageTemplate -> true);
+      }
+      finally {
+        messageTemplateCacheEviction.set(false);
+      }
+    }
+  }
+
+  private static void evictMessageTemplates(@NotNull Predicate<CachedMessageTemplate> evictionPredicate) {
+
+    Iterator<CachedMessageTemplate> iterator = messageTemplateCache.values().iterator();
+
+    while (messageTemplateCache.size() > MESSAGE_TEMPLATE_CACHE_EVICTION_THRESHOLD && iterator.hasNext()) {
+      if (evictionPredicate.test(iterator.next())) {
+        iterator.remove();
+      }
+    }
   }
 
   /**
@@ -72,4 +164,43 @@ public abstract class FormatUtils {
   protected static @NotNull String stringFormat(@NotNull String textPattern, Object... args) {
     return String.format(textPattern, ArrayUtils.nullSafeArray(args));
   }
+
+  /**
+   * Cache entry marking whether its {@link MessageTemplate} has been used since the last eviction.
+   */
+  private static final class CachedMessageTemplate {
+
+    private final MessageTemplate messageTemplate;
+
+    private volatile boolean used;
+
+    private CachedMessageTemplate(@NotNull MessageTemplate messageTemplate) {
+      this.messageTemplate = messageTemplate;
+    }
+
+    private boolean clearUsed() {
+
+      boolean used = this.used;
+
+      if (used) {
+        this.used = false;
+      }
+
+      return used;
+    }
+
+    private boolean isUnused() {
+      return !this.used;
+    }
+
+    private @NotNull MessageTemplate use() {
+
+      // Avoid writing the shared flag on every cache hit.
+      if (!this.used) {
+        this.used = true;
+      }
+
+      return this.messageTemplate;
+    }
+  }
 }
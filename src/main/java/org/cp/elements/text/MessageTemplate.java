@@ -0,0 +1,414 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.text;
+
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Locale;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.cp.elements.lang.annotation.Immutable;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * A precompiled {@link String text pattern} that is parsed once into {@literal literal} and {@literal placeholder}
+ * segments and then rendered many times with different {@link Object arguments}.
+ * <p>
+ * A {@link MessageTemplate} renders the same result as {@link FormatUtils#format(String, Object...)}, which applies
+ * the {@link String#format(String, Object...)} and {@link MessageFormat} styles in turn, without re-parsing
+ * the {@link String text pattern} on every call. The supported placeholders are {@literal %s}, {@literal %n$s},
+ * {@literal %n}, {@literal %%} and {@literal {n}}. A {@link String text pattern} using any other format specifier,
+ * or quoting as defined by {@link MessageFormat}, is rendered by delegating to {@link FormatUtils}.
+ * Likewise, when the rendered value of an {@literal %s} placeholder would itself be interpreted
+ * by {@link MessageFormat}, the {@link MessageTemplate} delegates to {@link FormatUtils}.
+ *
+ * @author John Blum
+ * @see java.lang.String#format(String, Object...)
+ * @see java.text.MessageFormat
+ * @see org.cp.elements.text.FormatUtils
+ * @since 3.0.0
+ */
+@Immutable
+@ThreadSafe
+public final class MessageTemplate {
+
+  private static final int ESTIMATED_ARGUMENT_LENGTH = 16;
+  private static final int MAX_MESSAGE_FORMAT_ARGUMENT_INDEX = 10000;
+
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  /**
+   * Factory method used to compile the given, required {@link String text pattern} into a {@link MessageTemplate}.
+   *
+   * @param textPattern {@link String} containing the text pattern to compile; must not be {@literal null}.
+   * @return a new {@link MessageTemplate} for the given {@link String text pattern}.
+   * @throws IllegalArgumentException if the {@link String text pattern} is {@literal null}.
+   */
+  public static @NotNull MessageTemplate compile(@NotNull String textPattern) {
+
+    ObjectUtils.requireObject(textPattern, "Text pattern is required");
+
+    return new MessageTemplate(textPattern, parse(textPattern));
+  }
+
+  private static @Nullable Segment[] parse(@NotNull String textPattern) {
+
+    List<Segment> segments = new ArrayList<>();
+
+    StringBuilder literal = new StringBuilder();
+
+    int length = textPattern.length();
+    int ordinaryIndex = 0;
+    int position = 0;
+
+    while (position < length) {
+
+      char character = textPattern.charAt(position);
+
+      if (character == '%') {
+
+        char conversion = position + 1 < length ? textPattern.charAt(position + 1) : 0;
+
+        if (conversion == '%') {
+          literal.append('%');
+          position += 2;
+        }
+        else if (conversion == 'n') {
+          literal.append(LINE_SEPARATOR);
+          position += 2;
+        }
+        else if (conversion == 's') {
+          addLiteral(segments, literal);
+          segments.add(Segment.stringFormatArgument(ordinaryIndex++));
+          position += 2;
+        }
+        else {
+
+          int digitsEnd = skipDigits(textPattern, position + 1);
+
+          if (digitsEnd > position + 1 && digitsEnd + 1 < length
+              && textPattern.charAt(digitsEnd) == '$' && textPattern.charAt(digitsEnd + 1) == 's') {
+
+            int index = parseIndex(textPattern, position + 1, digitsEnd);
+
+            if (index < 1) {
+              return null;
+            }
+
+            addLiteral(segments, literal);
+            segments.add(Segment.stringFormatArgument(index - 1));
+            position = digitsEnd + 2;
+          }
+          else {
+            return null;
+          }
+        }
+      }
+      else if (character == '{') {
+
+        int digitsEnd = skipDigits(textPattern, position + 1);
+
+        if (digitsEnd > position + 1 && digitsEnd < length && textPattern.charAt(digitsEnd) == '}') {
+
+          int index = parseIndex(textPattern, position + 1, digitsEnd);
+
+          if (index < 0 || index >= MAX_MESSAGE_FORMAT_ARGUMENT_INDEX) {
+            return null;
+          }
+
+          addLiteral(segments, literal);
+          segments.add(Segment.messageFormatArgument(index));
+          position = digitsEnd + 1;
+        }
+        else {
+          return null;
+        }
+      }
+      else if (character == '}' || character == '\'') {
+        return null;
+      }
+      else {
+        literal.append(character);
+        position++;
+      }
+    }
+
+    addLiteral(segments, literal);
+
+    return segments.toArray(new Segment[0]);
+  }
+
+  private static void addLiteral(@NotNull List<Segment> segments, @NotNull StringBuilder literal) {
+
+    if (!literal.isEmpty()) {
+      segments.add(Segment.literal(literal.toString()));
+      literal.setLength(0);
+    }
+  }
+
+  private static int skipDigits(@NotNull String textPattern, int position) {
+
+    int length = textPattern.length();
+
+    while (position < length && isDigit(textPattern.charAt(position))) {
+      position++;
+    }
+
+    return position;
+  }
+
+  private static boolean isDigit(char character) {
+    return character >= '0' && character <= '9';
+  }
+
+  private static int parseIndex(@NotNull String textPattern, int beginIndex, int endIndex) {
+
+    try {
+      return Integer.parseInt(textPattern, beginIndex, endIndex, 10);
+    }
+    catch (NumberFormatException ignore) {
+      return -1;
+    }
+  }
+
+  private final String textPattern;
+
+  private final Segment[] segments;
+
+  private final int estimatedLength;
+
+  private MessageTemplate(@NotNull String textPattern, @Nullable Segment[] segments) {
+
+    this.textPattern = textPattern;
+    this.segments = segments;
+    this.estimatedLength = estimateLength(segments);
+  }
+
+  private static int estimateLength(@Nullable Segment[] segments) {
+
+    int length = 0;
+
+    if (segments != null) {
+      for (Segment segment : segments) {
+        length += segment.isLiteral() ? segment.text().length() : ESTIMATED_ARGUMENT_LENGTH;
+      }
+    }
+
+    return length;
+  }
+
+  /**
+   * Determines whether the {@link String text pattern} was compiled into segments.
+   * <p>
+   * Returns {@literal false} when the {@link String text pattern} uses format specifiers not supported by
+   * the {@link MessageTemplate}, in which case all rendering is delegated to {@link FormatUtils}.
+   *
+   * @return a boolean value indicating whether the {@link String text pattern} was compiled into segments.
+   */
+  public boolean isCompiled() {
+    return this.segments != null;
+  }
+
+  /**
+   * Gets the {@link String text pattern} compiled by this {@link MessageTemplate}.
+   *
+   * @return the {@link String text pattern} compiled by this {@link MessageTemplate}.
+   */
+  public @NotNull String getTextPattern() {
+    return this.textPattern;
+  }
+
+  /**
+   * Renders this {@link MessageTemplate} with the given array of {@link Object arguments}.
+   *
+   * @param args array of {@link Object arguments} used to replace the placeholders in the {@link String text pattern}.
+   * @return the {@link String text} rendered from this {@link MessageTemplate} with the given array
+   * of {@link Object arguments}.
+   * @see #formatTo(StringBuilder, Object...)
+   */
+  public @NotNull String format(Object... args) {
+
+    Segment[] segments = this.segments;
+
+    if (segments != null && segments.length == 1 && segments[0].isLiteral()) {
+      return segments[0].text();
+    }
+
+    return formatTo(new StringBuilder(this.estimatedLength), args).toString();
+  }
+
+  /**
+   * Renders this {@link MessageTemplate} with the given array of {@link Object arguments}, appending the result
+   * to the given, required {@link StringBuilder}.
+   * <p>
+   * The {@link StringBuilder} may be reused between calls to avoid allocating a new buffer for every message.
+   *
+   * @param buffer {@link StringBuilder} to which the rendered {@link String text} is appended;
+   * must not be {@literal null}.
+   * @param args array of {@link Object arguments} used to replace the placeholders in the {@link String text pattern}.
+   * @return the given {@link StringBuilder}.
+   * @throws IllegalArgumentException if the {@link StringBuilder} is {@literal null}.
+   * @see java.lang.StringBuilder
+   */
+  public @NotNull StringBuilder formatTo(@NotNull StringBuilder buffer, Object... args) {
+
+    ObjectUtils.requireObject(buffer, "StringBuilder is required");
+
+    int mark = buffer.length();
+
+    if (!render(buffer, args)) {
+      buffer.setLength(mark);
+      buffer.append(FormatUtils.messageFormat(FormatUtils.stringFormat(getTextPattern(), args), args));
+    }
+
+    return buffer;
+  }
+
+  private boolean render(@NotNull StringBuilder buffer, @Nullable Object[] args) {
+
+    Segment[] segments = this.segments;
+
+    if (segments == null) {
+      return false;
+    }
+
+    Object[] arguments = args != null ? args : new Object[0];
+
+    for (Segment segment : segments) {
+      switch (segment.type()) {
+        case LITERAL -> buffer.append(segment.text());
+        case STRING_FORMAT_ARGUMENT -> {
+          if (!appendStringFormatArgument(buffer, arguments, segment.index())) {
+            return false;
+          }
+        }
+        case MESSAGE_FORMAT_ARGUMENT -> {
+          if (!appendMessageFormatArgument(buffer, arguments, segment)) {
+            return false;
+          }
+        }
+      }
+    }
+
+    return true;
+  }
+
+  private boolean appendStringFormatArgument(@NotNull StringBuilder buffer, @NotNull Object[] arguments, int index) {
+
+    if (index >= arguments.length || arguments[index] instanceof Formattable) {
+      return false;
+    }
+
+    String value = String.valueOf(arguments[index]);
+
+    if (containsMessageFormatSyntax(value)) {
+      return false;
+    }
+
+    buffer.append(value);
+
+    return true;
+  }
+
+  private boolean containsMessageFormatSyntax(@NotNull String value) {
+
+    for (int index = 0, length = value.length(); index < length; index++) {
+
+      char character = value.charAt(index);
+
+      if (character == '{' || character == '}' || character == '\'') {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private boolean appendMessageFormatArgument(@NotNull StringBuilder buffer, @NotNull Object[] arguments,
+      @NotNull Segment segment) {
+
+    int index = segment.index();
+
+    if (index >= arguments.length) {
+      buffer.append(segment.text());
+      return true;
+    }
+
+    Object argument = arguments[index];
+
+    if (argument instanceof Date) {
+      return false;
+    }
+    else if (argument instanceof Number number) {
+      buffer.append(NumberFormat.getInstance(Locale.getDefault(Locale.Category.FORMAT)).format(number));
+    }
+    else {
+      buffer.append(argument);
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    return obj instanceof MessageTemplate that
+      && this.getTextPattern().equals(that.getTextPattern());
+  }
+
+  @Override
+  public int hashCode() {
+    return getTextPattern().hashCode();
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return getTextPattern();
+  }
+
+  private enum SegmentType {
+    LITERAL, MESSAGE_FORMAT_ARGUMENT, STRING_FORMAT_ARGUMENT
+  }
+
+  private record Segment(@NotNull SegmentType type, @Nullable String text, int index) {
+
+    static @NotNull Segment literal(@NotNull String text) {
+      return new Segment(SegmentType.LITERAL, text, -1);
+    }
+
+    static @NotNull Segment messageFormatArgument(int index) {
+      return new Segment(SegmentType.MESSAGE_FORMAT_ARGUMENT, "{" + index + "}", index);
+    }
+
+    static @NotNull Segment stringFormatArgument(int index) {
+      return new Segment(SegmentType.STRING_FORMAT_ARGUMENT, null, index);
+    }
+
+    boolean isLiteral() {
+      return SegmentType.LITERAL.equals(type());
+    }
+  }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.time;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Mutable, {@link ThreadSafe thread-safe} {@link TimespanIndex} partitioning {@link Timespan Timespans} into
+ * fixed-width {@literal time buckets} to support streaming inserts.
+ * <p>
+ * A {@link Timespan} is registered in every {@literal time bucket} it overlaps. {@link Timespan Timespans}
+ * with {@link Timespan#isInfinite() infinite bounds}, or overlapping more than the configured maximum number of
+ * {@literal time buckets}, are kept in a separate, {@literal wide} partition that is scanned on every query.
+ * Stabbing queries only inspect a single {@literal time bucket} along with the {@literal wide} partition.
+ * <p>
+ * Use {@link #toIntervalTree()} to compact a snapshot of this index into a {@link TimespanIntervalTree}
+ * for read-heavy workloads.
+ *
+ * @author John Blum
+ * @see java.time.Duration
+ * @see org.cp.elements.time.Timespan
+ * @see org.cp.elements.time.TimespanIndex
+ * @see org.cp.elements.time.TimespanIntervalTree
+ * @since 3.0.0
+ */
+@ThreadSafe
+public class TimeBucketedTimespanIndex implements TimespanIndex {
+
+  protected static final int DEFAULT_MAX_BUCKETS_PER_TIMESPAN = 64;
+
+  protected static final Duration DEFAULT_BUCKET_DURATION = Duration.ofHours(1);
+
+  /**
+   * Factory method used to construct a new {@link TimeBucketedTimespanIndex} with the given {@link Duration}
+   * as the width of each {@literal time bucket}.
+   *
+   * @param bucketDuration {@link Duration} of each {@literal time bucket}; must be at least {@literal 1 second}.
+   * @return a new {@link TimeBucketedTimespanIndex}.
+   * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or less than {@literal 1 second}.
+   * @see #TimeBucketedTimespanIndex(Duration, int)
+   */
+  public static @NotNull TimeBucketedTimespanIndex withBucketDuration(@NotNull Duration bucketDuration) {
+    return new TimeBucketedTimespanIndex(bucketDuration, DEFAULT_MAX_BUCKETS_PER_TIMESPAN);
+  }
+
+  private final AtomicInteger size = new AtomicInteger(0);
+
+  private final int maxBucketsPerTimespan;
+
+  private final long bucketSeconds;
+
+  private final Map<Long, Queue<Timespan>> buckets = new ConcurrentHashMap<>();
+
+  private final Queue<Timespan> wideTimespans = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Constructs a new {@link TimeBucketedTimespanIndex} with {@literal 1 hour time buckets}.
+   *
+   * @see #TimeBucketedTimespanIndex(Duration, int)
+   */
+  public TimeBucketedTimespanIndex() {
+    this(DEFAULT_BUCKET_DURATION, DEFAULT_MAX_BUCKETS_PER_TIMESPAN);
+  }
+
+  /**
+   * Constructs a new {@link TimeBucketedTimespanIndex} with the given {@link Duration} as the width of each
+   * {@literal time bucket} and the maximum number of {@literal time buckets} a {@link Timespan} may be registered in
+   * before it is considered {@literal wide}.
+   *
+   * @param bucketDuration {@link Duration} of each {@literal time bucket}; must be at least {@literal 1 second}.
+   * @param maxBucketsPerTimespan {@link Integer maximum number} of {@literal time buckets}
+   * a {@link Timespan} may be registered in; must be greater than {@literal 0}.
+   * @throws IllegalArgumentException if the {@link Duration} is {@literal null} or less than {@literal 1 second},
+   * or the maximum number of {@literal time buckets} per {@link Timespan} is less than {@literal 1}.
+   * @see java.time.Duration
+   */
+  public TimeBucketedTimespanIndex(@NotNull Duration bucketDuration, int maxBucketsPerTimespan) {
+
+    Assert.notNull(bucketDuration, "Bucket duration is required");
+    Assert.isTrue(bucketDuration.getSeconds() > 0, "Bucket duration [%s] must be at least 1 second",
+      bucketDuration);
+    Assert.isTrue(maxBucketsPerTimespan > 0, "Max buckets per Timespan [%d] must be greater than 0",
+      maxBucketsPerTimespan);
+
+    this.bucketSeconds = bucketDuration.getSeconds();
+    this.maxBucketsPerTimespan = maxBucketsPerTimespan;
+  }
+
+  /**
+   * Returns the {@link Duration} of each {@literal time bucket}.
+   *
+   * @return the {@link Duration} of each {@literal time bucket}.
+   */
+  public @NotNull Duration getBucketDuration() {
+    return Duration.ofSeconds(this.bucketSeconds);
+  }
+
+  /**
+   * Returns the maximum number of {@literal time buckets} a {@link Timespan} may be registered in
+   * before it is considered {@literal wide}.
+   *
+   * @return the maximum number of {@literal time buckets} per {@link Timespan}.
+   */
+  public int getMaxBucketsPerTimespan() {
+    return this.maxBucketsPerTimespan;
+  }
+
+  private long bucketOf(@NotNull LocalDateTime dateTime) {
+    return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), this.bucketSeconds);
+  }
+
+  private boolean isWide(@NotNull Timespan timespan) {
+
+    return timespan.isInfinite()
+      || bucketOf(timespan.getEnd()) - bucketOf(timespan.getBegin()) >= this.maxBucketsPerTimespan;
+  }
+
+  /**
+   * Adds the given, required {@link Timespan} to this index.
+   *
+   * @param timespan {@link Timespan} to add; must not be {@literal null}.
+   * @return this {@link TimeBucketedTimespanIndex}.
+   * @throws IllegalArgumentException if the {@link Timespan} is {@literal null}.
+   */
+  public @NotNull TimeBucketedTimespanIndex add(@NotNull Timespan timespan) {
+
+    Assert.notNull(timespan, "Timespan is required");
+
+    if (isWide(timespan)) {
+      this.wideTimespans.add(timespan);
+    }
+    else {
+      for (long bucket = bucketOf(timespan.getBegin()), last = bucketOf(timespan.getEnd()); bucket <= last; bucket++) {
+        this.buckets.computeIfAbsent(bucket, key -> new ConcurrentLinkedQueue<>()).add(timespan);
+      }
+    }
+
+    this.size.incrementAndGet();
+
+    return this;
+  }
+
+  /**
+   * Adds all the given {@link Timespan Timespans} to this index.
+   *
+   * @param timespans {@link Iterable} of {@link Timespan Timespans} to add.
+   * @return this {@link TimeBucketedTimespanIndex}.
+   * @throws IllegalArgumentException if any {@link Timespan} is {@literal null}.
+   * @see #add(Timespan)
+   */
+  public @NotNull TimeBucketedTimespanIndex addAll(@Nullable Iterable<Timespan> timespans) {
+
+    if (timespans != null) {
+      timespans.forEach(this::add);
+    }
+
+    return this;
+  }
+
+  /**
+   * Removes the given {@link Timespan} from this index.
+   *
+   * @param timespan {@link Timespan} to remove.
+   * @return a boolean value indicating whether the given {@link Timespan} was removed from this index.
+   */
+  public boolean remove(@Nullable Timespan timespan) {
+
+    boolean removed = false;
+
+    if (timespan != null) {
+      if (isWide(timespan)) {
+        removed = this.wideTimespans.remove(timespan);
+      }
+      else {
+        for (long bucket = bucketOf(timespan.getBegin()), last = bucketOf(timespan.getEnd()); bucket <= last;
+            bucket++) {
+
+          Queue<Timespan> timespans = this.buckets.get(bucket);
+
+          removed |= timespans != null && timespans.remove(timespan);
+        }
+      }
+
+      if (removed) {
+        this.size.decrementAndGet();
+      }
+    }
+
+    return removed;
+  }
+
+  /**
+   * Removes all {@link Timespan Timespans} from this index.
+   */
+  public void clear() {
+    this.buckets.clear();
+    this.wideTimespans.clear();
+    this.size.set(0);
+  }
+
+  @Override
+  public @NotNull List<Timespan> findDuring(@Nullable LocalDateTime dateTime) {
+
+    if (dateTime == null) {
+      return Collections.emptyList();
+    }
+
+    List<Timespan> results = new ArrayList<>();
+
+    Queue<Timespan> bucket = this.buckets.get(bucketOf(dateTime));
+
+    if (bucket != null) {
+      collectOverlapping(bucket, dateTime, dateTime, results);
+    }
+
+    collectOverlapping(this.wideTimespans, dateTime, dateTime, results);
+
+    return results;
+  }
+
+  @Override
+  public @NotNull List<Timespan> findOverlapping(@Nullable Timespan timespan) {
+
+    if (timespan == null) {
+      return Collections.emptyList();
+    }
+
+    LocalDateTime begin = TimespanIndex.beginOf(timespan);
+    LocalDateTime end = TimespanIndex.endOf(timespan);
+
+    long firstBucket = bucketOf(begin);
+    long lastBucket = bucketOf(end);
+
+    List<Timespan> results = new ArrayList<>();
+
+    // A Timespan registered in multiple buckets is only reported from the first bucket shared with the query.
+    if (lastBucket - firstBucket < this.buckets.size()) {
+      for (long bucket = firstBucket; bucket <= lastBucket; bucket++) {
+        collectOverlapping(bucket, this.buckets.get(bucket), firstBucket, begin, end, results);
+      }
+    }
+    else {
+      for (Map.Entry<Long, Queue<Timespan>> entry : this.buckets.entrySet()) {
+
+        long bucket = entry.getKey();
+
+        if (bucket >= firstBucket && bucket <= lastBucket) {
+          collectOverlapping(bucket, entry.getValue(), firstBucket, begin, end, results);
+        }
+      }
+    }
+
+    collectOverlapping(this.wideTimespans, begin, end, results);
+
+    return results;
+  }
+
+  private void collectOverlapping(long bucket, @Nullable Queue<Timespan> timespans, long firstBucket,
+      @NotNull LocalDateTime begin, @NotNull LocalDateTime end, @NotNull List<Timespan> results) {
+
+    if (timespans != null) {
+      for (Timespan timespan : timespans) {
+        if (bucket == Math.max(firstBucket, bucketOf(timespan.getBegin()))
+            && isOverlapping(timespan, begin, end)) {
+
+          results.add(timespan);
+        }
+      }
+    }
+  }
+
+  private void collectOverlapping(@NotNull Iterable<Timespan> timespans, @NotNull LocalDateTime begin,
+      @NotNull LocalDateTime end, @NotNull List<Timespan> results) {
+
+    for (Timespan timespan : timespans) {
+      if (isOverlapping(timespan, begin, end)) {
+        results.add(timespan);
+      }
+    }
+  }
+
+  private boolean isOverlapping(@NotNull Timespan timespan, @NotNull LocalDateTime begin,
+      @NotNull LocalDateTime end) {
+
+    return !TimespanIndex.beginOf(timespan).isAfter(end) && !TimespanIndex.endOf(timespan).isBefore(begin);
+  }
+
+  @Override
+  public int size() {
+    return this.size.get();
+  }
+
+  /**
+   * Returns an {@link Iterator} over a snapshot of the {@link Timespan Timespans} in this index.
+   *
+   * @return an {@link Iterator} over a snapshot of the {@link Timespan Timespans} in this index.
+   * @see java.util.Iterator
+   */
+  @Override
+  public @NotNull Iterator<Timespan> iterator() {
+
+    List<Timespan> timespans = new ArrayList<>(size());
+
+    this.buckets.forEach((bucket, bucketTimespans) -> bucketTimespans.stream()
+      .filter(timespan -> bucket == bucketOf(timespan.getBegin()))
+      .forEach(timespans::add));
+
+    timespans.addAll(this.wideTimespans);
+
+    return Collections.unmodifiableList(timespans).iterator();
+  }
+
+  /**
+   * Compacts a snapshot of the {@link Timespan Timespans} in this index into a {@link TimespanIntervalTree}.
+   *
+   * @return a new {@link TimespanIntervalTree} indexing a snapshot of the {@link Timespan Timespans} in this index.
+   * @see org.cp.elements.time.TimespanIntervalTree#parallelOf(Iterable)
+   */
+  public @NotNull TimespanIntervalTree toIntervalTree() {
+    return TimespanIntervalTree.parallelOf(this);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[bucketDuration = %s, size = %d]", getClass().getSimpleName(), getBucketDuration(),
+      size());
+  }
+}
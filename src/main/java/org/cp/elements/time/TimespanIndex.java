@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.time;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * Interface defining a contract for an indexed collection of {@link Timespan Timespans} answering
+ * {@literal stabbing} and {@literal overlap} queries.
+ * <p>
+ * {@link Timespan Timespans} are treated as closed intervals, that is, both the {@link Timespan#getBegin() beginning}
+ * and {@link Timespan#getEnd() end} are inclusive, consistent with {@link Timespan#isDuring(LocalDateTime)}.
+ * A {@link Timespan} with {@link Timespan#hasNoBeginning() no beginning} extends infinitely into the past,
+ * and a {@link Timespan} with {@link Timespan#hasNoEnding() no ending} extends infinitely into the future.
+ *
+ * @author John Blum
+ * @see java.lang.Iterable
+ * @see org.cp.elements.time.Timespan
+ * @see org.cp.elements.time.TimespanIntervalTree
+ * @see org.cp.elements.time.TimeBucketedTimespanIndex
+ * @since 3.0.0
+ */
+public interface TimespanIndex extends Iterable<Timespan> {
+
+  /**
+   * Determines whether this index contains no {@link Timespan Timespans}.
+   *
+   * @return a boolean value indicating whether this index contains no {@link Timespan Timespans}.
+   * @see #size()
+   */
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Finds all {@link Timespan Timespans} in this index entirely containing the given {@link Timespan}.
+   *
+   * @param timespan {@link Timespan} to evaluate.
+   * @return a {@link List} of all {@link Timespan Timespans} in this index containing the given {@link Timespan};
+   * returns an empty {@link List} if the given {@link Timespan} is {@literal null}.
+   * @see #findOverlapping(Timespan)
+   */
+  default @NotNull List<Timespan> findContaining(@Nullable Timespan timespan) {
+
+    return timespan == null ? List.of()
+      : findOverlapping(timespan).stream()
+        .filter(indexedTimespan -> TimespanIndex.contains(indexedTimespan, timespan))
+        .toList();
+  }
+
+  /**
+   * Finds all {@link Timespan Timespans} in this index during which the given {@link LocalDateTime} occurs.
+   *
+   * @param dateTime {@link LocalDateTime} to evaluate.
+   * @return a {@link List} of all {@link Timespan Timespans} in this index during which
+   * the given {@link LocalDateTime} occurs; returns an empty {@link List} if the given {@link LocalDateTime}
+   * is {@literal null}.
+   * @see java.time.LocalDateTime
+   */
+  @NotNull List<Timespan> findDuring(@Nullable LocalDateTime dateTime);
+
+  /**
+   * Finds all {@link Timespan Timespans} in this index overlapping the given {@link Timespan}.
+   *
+   * @param timespan {@link Timespan} to evaluate.
+   * @return a {@link List} of all {@link Timespan Timespans} in this index overlapping the given {@link Timespan};
+   * returns an empty {@link List} if the given {@link Timespan} is {@literal null}.
+   */
+  @NotNull List<Timespan> findOverlapping(@Nullable Timespan timespan);
+
+  /**
+   * Returns the number of {@link Timespan Timespans} in this index.
+   *
+   * @return the number of {@link Timespan Timespans} in this index.
+   */
+  int size();
+
+  /**
+   * Returns the {@link Timespan#getBegin() beginning} of the given {@link Timespan}, or {@link LocalDateTime#MIN}
+   * if the {@link Timespan} has no beginning.
+   *
+   * @param timespan {@link Timespan} to evaluate; must not be {@literal null}.
+   * @return the {@link LocalDateTime beginning} of the given {@link Timespan}.
+   */
+  static @NotNull LocalDateTime beginOf(@NotNull Timespan timespan) {
+    LocalDateTime begin = timespan.getBegin();
+    return begin != null ? begin : LocalDateTime.MIN;
+  }
+
+  /**
+   * Returns the {@link Timespan#getEnd() end} of the given {@link Timespan}, or {@link LocalDateTime#MAX}
+   * if the {@link Timespan} has no ending.
+   *
+   * @param timespan {@link Timespan} to evaluate; must not be {@literal null}.
+   * @return the {@link LocalDateTime end} of the given {@link Timespan}.
+   */
+  static @NotNull LocalDateTime endOf(@NotNull Timespan timespan) {
+    LocalDateTime end = timespan.getEnd();
+    return end != null ? end : LocalDateTime.MAX;
+  }
+
+  /**
+   * Determines whether the first {@link Timespan} entirely contains the second {@link Timespan}.
+   *
+   * @param timespan {@link Timespan} to evaluate as the container; must not be {@literal null}.
+   * @param other {@link Timespan} to evaluate as the contained; must not be {@literal null}.
+   * @return a boolean value indicating whether the first {@link Timespan} entirely contains the second.
+   */
+  static boolean contains(@NotNull Timespan timespan, @NotNull Timespan other) {
+    return !beginOf(timespan).isAfter(beginOf(other)) && !endOf(timespan).isBefore(endOf(other));
+  }
+
+  /**
+   * Determines whether the given {@link Timespan Timespans} overlap.
+   *
+   * @param timespan {@link Timespan} to evaluate; must not be {@literal null}.
+   * @param other {@link Timespan} to evaluate; must not be {@literal null}.
+   * @return a boolean value indicating whether the given {@link Timespan Timespans} overlap.
+   */
+  static boolean overlaps(@NotNull Timespan timespan, @NotNull Timespan other) {
+    return !beginOf(timespan).isAfter(endOf(other)) && !beginOf(other).isAfter(endOf(timespan));
+  }
+}
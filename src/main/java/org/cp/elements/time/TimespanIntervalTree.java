@@ -0,0 +1,327 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.time;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.StreamSupport;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.Immutable;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+
+/**
+ * Immutable, augmented {@literal interval tree} of {@link Timespan Timespans}.
+ * <p>
+ * The tree is laid out implicitly over an array of {@link Timespan Timespans} sorted by
+ * {@link Timespan#getBegin() beginning}, where the root of every subtree is the middle element of its range.
+ * Each node is augmented with the maximum {@link Timespan#getEnd() end} in its subtree so that queries
+ * prune entire subtrees ending before, or beginning after, the query. Stabbing and overlap queries run in
+ * {@literal O(log n + k)} time, where {@literal k} is the number of matching {@link Timespan Timespans}.
+ * <p>
+ * The tree is bulk built in {@literal O(n log n)} time with {@link #of(Iterable)}, or in parallel with
+ * {@link #parallelOf(Iterable)}. Use {@link TimeBucketedTimespanIndex} for streaming inserts.
+ *
+ * @author John Blum
+ * @see org.cp.elements.time.Timespan
+ * @see org.cp.elements.time.TimespanIndex
+ * @see org.cp.elements.time.TimeBucketedTimespanIndex
+ * @since 3.0.0
+ */
+@Immutable
+@ThreadSafe
+public final class TimespanIntervalTree implements TimespanIndex {
+
+  static final int PARALLEL_THRESHOLD = 8192;
+
+  private static final Comparator<Timespan> BEGIN_ORDER =
+    Comparator.comparing(TimespanIndex::beginOf).thenComparing(TimespanIndex::endOf);
+
+  private static final TimespanIntervalTree EMPTY = new TimespanIntervalTree(new Timespan[0], new LocalDateTime[0],
+    new LocalDateTime[0], new LocalDateTime[0]);
+
+  /**
+   * Factory method used to construct an empty {@link TimespanIntervalTree}.
+   *
+   * @return an empty {@link TimespanIntervalTree}.
+   */
+  public static @NotNull TimespanIntervalTree empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Factory method used to build a new {@link TimespanIntervalTree} from the given array of {@link Timespan Timespans}.
+   *
+   * @param timespans array of {@link Timespan Timespans} to index.
+   * @return a new {@link TimespanIntervalTree} indexing the given {@link Timespan Timespans}.
+   * @throws IllegalArgumentException if any {@link Timespan} is {@literal null}.
+   * @see #of(Iterable)
+   */
+  public static @NotNull TimespanIntervalTree of(Timespan... timespans) {
+    return timespans != null ? of(Arrays.asList(timespans)) : empty();
+  }
+
+  /**
+   * Factory method used to build a new {@link TimespanIntervalTree} from the given {@link Iterable}
+   * of {@link Timespan Timespans}.
+   *
+   * @param timespans {@link Iterable} of {@link Timespan Timespans} to index.
+   * @return a new {@link TimespanIntervalTree} indexing the given {@link Timespan Timespans}.
+   * @throws IllegalArgumentException if any {@link Timespan} is {@literal null}.
+   * @see #parallelOf(Iterable)
+   */
+  public static @NotNull TimespanIntervalTree of(@Nullable Iterable<Timespan> timespans) {
+    return build(timespans, false);
+  }
+
+  /**
+   * Factory method used to build a new {@link TimespanIntervalTree} from the given {@link Iterable}
+   * of {@link Timespan Timespans}, sorting and augmenting the tree in parallel using the
+   * {@link ForkJoinPool#commonPool() common ForkJoinPool}.
+   * <p>
+   * Small inputs are built sequentially since the cost of forking outweighs the benefit.
+   *
+   * @param timespans {@link Iterable} of {@link Timespan Timespans} to index.
+   * @return a new {@link TimespanIntervalTree} indexing the given {@link Timespan Timespans}.
+   * @throws IllegalArgumentException if any {@link Timespan} is {@literal null}.
+   * @see #of(Iterable)
+   */
+  public static @NotNull TimespanIntervalTree parallelOf(@Nullable Iterable<Timespan> timespans) {
+    return build(timespans, true);
+  }
+
+  private static TimespanIntervalTree build(Iterable<Timespan> timespans, boolean parallel) {
+
+    Timespan[] array = toArray(timespans);
+
+    if (array.length == 0) {
+      return empty();
+    }
+
+    boolean forkJoin = parallel && array.length >= PARALLEL_THRESHOLD;
+
+    if (forkJoin) {
+      Arrays.parallelSort(array, BEGIN_ORDER);
+    }
+    else {
+      Arrays.sort(array, BEGIN_ORDER);
+    }
+
+    int length = array.length;
+
+    LocalDateTime[] begins = new LocalDateTime[length];
+    LocalDateTime[] ends = new LocalDateTime[length];
+    LocalDateTime[] maxEnds = new LocalDateTime[length];
+
+    for (int index = 0; index < length; index++) {
+      begins[index] = TimespanIndex.beginOf(array[index]);
+      ends[index] = TimespanIndex.endOf(array[index]);
+    }
+
+    AugmentAction augment = new AugmentAction(ends, maxEnds, 0, length, forkJoin);
+
+    if (forkJoin) {
+      ForkJoinPool.commonPool().invoke(augment);
+    }
+    else {
+      augment.compute();
+    }
+
+    return new TimespanIntervalTree(array, begins, ends, maxEnds);
+  }
+
+  private static Timespan[] toArray(Iterable<Timespan> timespans) {
+
+    if (timespans == null) {
+      return new Timespan[0];
+    }
+
+    List<Timespan> list = timespans instanceof List<Timespan> timespanList ? timespanList
+      : StreamSupport.stream(timespans.spliterator(), false).toList();
+
+    Timespan[] array = list.toArray(new Timespan[0]);
+
+    for (Timespan timespan : array) {
+      Assert.notNull(timespan, "Timespan is required");
+    }
+
+    return array;
+  }
+
+  private final LocalDateTime[] begins;
+  private final LocalDateTime[] ends;
+  private final LocalDateTime[] maxEnds;
+
+  private final Timespan[] timespans;
+
+  private TimespanIntervalTree(@NotNull Timespan[] timespans, @NotNull LocalDateTime[] begins,
+      @NotNull LocalDateTime[] ends, @NotNull LocalDateTime[] maxEnds) {
+
+    this.timespans = timespans;
+    this.begins = begins;
+    this.ends = ends;
+    this.maxEnds = maxEnds;
+  }
+
+  @Override
+  public @NotNull List<Timespan> findDuring(@Nullable LocalDateTime dateTime) {
+    return dateTime != null ? find(dateTime, dateTime) : Collections.emptyList();
+  }
+
+  @Override
+  public @NotNull List<Timespan> findOverlapping(@Nullable Timespan timespan) {
+    return timespan != null ? find(TimespanIndex.beginOf(timespan), TimespanIndex.endOf(timespan))
+      : Collections.emptyList();
+  }
+
+  private List<Timespan> find(LocalDateTime begin, LocalDateTime end) {
+
+    List<Timespan> results = new ArrayList<>();
+
+    find(begin, end, 0, this.timespans.length, results);
+
+    return results;
+  }
+
+  private void find(LocalDateTime begin, LocalDateTime end, int low, int high, List<Timespan> results) {
+
+    while (low < high) {
+
+      int middle = (low + high) >>> 1;
+
+      if (this.maxEnds[middle].isBefore(begin)) {
+        return;
+      }
+
+      find(begin, end, low, middle, results);
+
+      if (this.begins[middle].isAfter(end)) {
+        return;
+      }
+
+      if (!this.ends[middle].isBefore(begin)) {
+        results.add(this.timespans[middle]);
+      }
+
+      low = middle + 1;
+    }
+  }
+
+  @Override
+  public int size() {
+    return this.timespans.length;
+  }
+
+  /**
+   * Returns an {@link Iterator} over the {@link Timespan Timespans} in this tree
+   * in {@link Timespan#getBegin() beginning} order.
+   *
+   * @return an {@link Iterator} over the {@link Timespan Timespans} in this tree.
+   * @see java.util.Iterator
+   */
+  @Override
+  public @NotNull Iterator<Timespan> iterator() {
+    return Collections.unmodifiableList(Arrays.asList(this.timespans)).iterator();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[size = %d]", getClass().getSimpleName(), size());
+  }
+
+  /**
+   * Computes the maximum {@link Timespan#getEnd() end} of every subtree, forking subtrees above
+   * the {@link #PARALLEL_THRESHOLD} when parallel.
+   */
+  @SuppressWarnings("serial")
+  private static final class AugmentAction extends RecursiveAction {
+
+    private final boolean parallel;
+
+    private final int low;
+    private final int high;
+
+    private final LocalDateTime[] ends;
+    private final LocalDateTime[] maxEnds;
+
+    private AugmentAction(LocalDateTime[] ends, LocalDateTime[] maxEnds, int low, int high, boolean parallel) {
+
+      this.ends = ends;
+      this.maxEnds = maxEnds;
+      this.low = low;
+      this.high = high;
+      this.parallel = parallel;
+    }
+
+    @Override
+    protected void compute() {
+
+      if (this.low < this.high) {
+
+        int middle = (this.low + this.high) >>> 1;
+
+        if (this.parallel && this.high - this.low >= PARALLEL_THRESHOLD) {
+          invokeAll(new AugmentAction(this.ends, this.maxEnds, this.low, middle, true),
+            new AugmentAction(this.ends, this.maxEnds, middle + 1, this.high, true));
+        }
+        else {
+          augment(this.low, middle);
+          augment(middle + 1, this.high);
+        }
+
+        this.maxEnds[middle] = max(this.ends[middle], maxEndOf(this.low, middle), maxEndOf(middle + 1, this.high));
+      }
+    }
+
+    private LocalDateTime augment(int low, int high) {
+
+      if (low >= high) {
+        return null;
+      }
+
+      int middle = (low + high) >>> 1;
+
+      LocalDateTime maxEnd = max(this.ends[middle], augment(low, middle), augment(middle + 1, high));
+
+      this.maxEnds[middle] = maxEnd;
+
+      return maxEnd;
+    }
+
+    private LocalDateTime maxEndOf(int low, int high) {
+      return low < high ? this.maxEnds[(low + high) >>> 1] : null;
+    }
+
+    private static LocalDateTime max(LocalDateTime end, LocalDateTime left, LocalDateTime right) {
+
+      LocalDateTime max = end;
+
+      max = left != null && left.isAfter(max) ? left : max;
+      max = right != null && right.isAfter(max) ? right : max;
+
+      return max;
+    }
+  }
+}
@@ -18,11 +18,14 @@ package org.cp.elements.tools.io;
 import static org.cp.elements.lang.RuntimeExceptionsFactory.newIllegalArgumentException;
 
 import java.io.File;
+import java.io.FileFilter;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Optional;
 
+import org.cp.elements.io.FileExtensionFilter;
 import org.cp.elements.io.FileSystemUtils;
+import org.cp.elements.io.FileUtils;
 import org.cp.elements.lang.ObjectUtils;
 import org.cp.elements.lang.StringUtils;
 import org.cp.elements.lang.annotation.NotNull;
@@ -37,6 +40,7 @@ import org.cp.elements.util.ArrayUtils;
  * @see java.io.File
  * @see java.lang.Runnable
  * @see org.cp.elements.io.FileSystemUtils
+ * @see org.cp.elements.io.FileWalker
  * @see org.cp.elements.lang.StringUtils
  * @since 1.0.0
  */
@@ -55,13 +59,16 @@ public class ListFiles implements Runnable {
 
   /**
    * Executes the {@link ListFiles} program.
+   * <p>
+   * The first argument is the directory to list. Any remaining arguments are {@link String file extensions}
+   * used to filter the {@link File files} listed.
    *
    * @param args array of {@link String} arguments passed to the {@link ListFiles} program from the command-line.
    * @see org.cp.elements.tools.io.ListFiles#run()
    * @see #newListFiles(File)
    */
   public static void main(String[] args) {
-    newListFiles(resolveDirectory(args)).run();
+    newListFiles(resolveDirectory(args)).withFileFilter(resolveFileFilter(args)).run();
   }
 
   static String resolveArgument(String[] args) {
@@ -80,6 +87,13 @@ public class ListFiles implements Runnable {
       .orElseThrow(() -> newIllegalArgumentException("Argument [%s] is not a valid directory", args[0]));
   }
 
+  static @Nullable FileFilter resolveFileFilter(String[] args) {
+
+    return ArrayUtils.nullSafeLength(args) > 1
+      ? new FileExtensionFilter(Arrays.copyOfRange(args, 1, args.length))
+      : null;
+  }
+
   /**
    * Factory method used to construct a new {@link ListFiles} that will list the contents
    * of the {@link FileSystemUtils#WORKING_DIRECTORY current working directory}.
@@ -110,6 +124,8 @@ public class ListFiles implements Runnable {
 
   private final File directory;
 
+  private FileFilter fileFilter;
+
   /**
    * Constructs a new {@link ListFiles} initialized with the given {@link File directory}
    * for which the contents will be listed.
@@ -133,6 +149,33 @@ public class ListFiles implements Runnable {
     return ObjectUtils.returnFirstNonNullValue(this.directory, DEFAULT_DIRECTORY);
   }
 
+  /**
+   * Returns the {@link FileFilter} used to determine which {@link File files} are listed.
+   * <p>
+   * {@link File#isDirectory() Subdirectories} are always listed.
+   *
+   * @return the {@link FileFilter} used to determine which {@link File files} are listed; never {@literal null}.
+   * @see java.io.FileFilter
+   */
+  protected @NotNull FileFilter getFileFilter() {
+    return FileUtils.nullSafeFileFilter(this.fileFilter, true);
+  }
+
+  /**
+   * Builder method used to set the {@link FileFilter} determining which {@link File files} are listed,
+   * such as a {@link FileExtensionFilter}. The {@link FileFilter} is applied while each
+   * {@link File#isDirectory() directory} is read.
+   *
+   * @param fileFilter {@link FileFilter} used to filter {@link File files};
+   * {@literal null} lists all {@link File files}.
+   * @return this {@link ListFiles}.
+   * @see java.io.FileFilter
+   */
+  public @NotNull ListFiles withFileFilter(@Nullable FileFilter fileFilter) {
+    this.fileFilter = fileFilter;
+    return this;
+  }
+
   /**
    * Runs the {@link File directory} content listing.
    * <p>
@@ -168,7 +211,11 @@ public class ListFiles implements Runnable {
 
     String directoryContentIndent = buildDirectoryContentIndent(resolvedIndent);
 
-    Arrays.stream(sort(ArrayUtils.nullSafeArray(resolvedDirectory.listFiles(), File.class))).forEach(file -> {
+    FileFilter fileFilter = getFileFilter();
+
+    File[] files = resolvedDirectory.listFiles(file -> FileSystemUtils.isDirectory(file) || fileFilter.accept(file));
+
+    Arrays.stream(sort(ArrayUtils.nullSafeArray(files, File.class))).forEach(file -> {
       if (FileSystemUtils.isDirectory(file)) {
         listFiles(file, directoryContentIndent);
       }
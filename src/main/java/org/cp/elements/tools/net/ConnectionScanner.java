@@ -0,0 +1,437 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.tools.net;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.UnresolvedAddressException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.cp.elements.io.IOUtils;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.concurrent.VirtualThreadFactory;
+
+/**
+ * The {@link ConnectionScanner} class is used to test network connections to many network endpoints concurrently.
+ * <p>
+ * Connections are established with non-blocking {@link SocketChannel SocketChannels} multiplexed by
+ * a single {@link Selector} on the calling {@link Thread}, so that testing hundreds of endpoints requires neither
+ * hundreds of {@link Thread Threads} nor waiting for each connection attempt in turn. At most
+ * {@link #getConcurrency() concurrency} connection attempts are in progress at any time, each given up after
+ * the {@link #getConnectTimeout() connect timeout}. {@link Result Results} are reported as they complete.
+ * <p>
+ * {@link InetSocketAddress#isUnresolved() Unresolved} network endpoints are resolved concurrently on
+ * {@literal virtual} {@link Thread Threads}, so that a slow host name lookup does not hold up other connection
+ * attempts. The time spent resolving a network endpoint counts towards its connect timeout.
+ *
+ * @author John Blum
+ * @see java.nio.channels.Selector
+ * @see java.nio.channels.SocketChannel
+ * @see org.cp.elements.tools.net.ConnectionTester
+ * @since 3.0.0
+ */
+public class ConnectionScanner {
+
+  protected static final int DEFAULT_CONCURRENCY = 256;
+
+  protected static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(1L);
+
+  /**
+   * Factory method used to construct a new {@link ConnectionScanner} testing up to {@literal 256} connections
+   * concurrently, each with a {@literal 1 second} connect timeout.
+   *
+   * @return a new {@link ConnectionScanner}.
+   */
+  public static @NotNull ConnectionScanner newConnectionScanner() {
+    return new ConnectionScanner();
+  }
+
+  private int concurrency = DEFAULT_CONCURRENCY;
+
+  private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+  /**
+   * Returns the maximum number of connection attempts in progress at any time.
+   *
+   * @return the maximum number of connection attempts in progress at any time.
+   */
+  public int getConcurrency() {
+    return this.concurrency;
+  }
+
+  /**
+   * Returns the {@link Duration} after which a connection attempt is given up.
+   *
+   * @return the {@link Duration} after which a connection attempt is given up.
+   */
+  public @NotNull Duration getConnectTimeout() {
+    return this.connectTimeout;
+  }
+
+  /**
+   * Sets the maximum number of connection attempts in progress at any time.
+   *
+   * @param concurrency {@link Integer} specifying the maximum number of connection attempts in progress
+   * at any time; must be greater than {@literal 0}.
+   * @return this {@link ConnectionScanner}.
+   * @throws IllegalArgumentException if {@code concurrency} is less than {@literal 1}.
+   */
+  public @NotNull ConnectionScanner withConcurrency(int concurrency) {
+    Assert.isTrue(concurrency > 0, "Concurrency [%d] must be greater than 0", concurrency);
+    this.concurrency = concurrency;
+    return this;
+  }
+
+  /**
+   * Sets the {@link Duration} after which a connection attempt is given up.
+   *
+   * @param connectTimeout {@link Duration} after which a connection attempt is given up;
+   * must not be {@literal null} and must be positive.
+   * @return this {@link ConnectionScanner}.
+   * @throws IllegalArgumentException if the {@link Duration} is {@literal null}, {@literal zero} or negative.
+   */
+  public @NotNull ConnectionScanner withConnectTimeout(@NotNull Duration connectTimeout) {
+
+    Assert.notNull(connectTimeout, "Connect timeout is required");
+    Assert.isTrue(connectTimeout.toNanos() > 0L, "Connect timeout [%s] must be positive", connectTimeout);
+
+    this.connectTimeout = connectTimeout;
+
+    return this;
+  }
+
+  /**
+   * Tests connections to all given network endpoints, returning the {@link Result Results} in the order
+   * the connection attempts completed.
+   *
+   * @param targets {@link Iterable} of network endpoints to test; must not be {@literal null}.
+   * @return a {@link List} of {@link Result Results} in completion order.
+   * @throws IllegalArgumentException if the {@link Iterable} of network endpoints is {@literal null}.
+   * @throws IllegalStateException if the {@link Selector} could not be opened.
+   * @see #scan(Iterable, Consumer)
+   */
+  public @NotNull List<Result> scan(@NotNull Iterable<InetSocketAddress> targets) {
+
+    List<Result> results = new ArrayList<>();
+
+    scan(targets, results::add);
+
+    return Collections.unmodifiableList(results);
+  }
+
+  /**
+   * Tests connections to all given network endpoints, passing each {@link Result} to the given {@link Consumer}
+   * as soon as the connection attempt completes.
+   * <p>
+   * This method returns once all connection attempts have completed. The {@link Consumer} is invoked
+   * on the calling {@link Thread}.
+   *
+   * @param targets {@link Iterable} of network endpoints to test; must not be {@literal null}.
+   * The network endpoints are iterated lazily, as connection attempts complete.
+   * @param resultHandler {@link Consumer} of {@link Result Results}; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Iterable} of network endpoints
+   * or the {@link Consumer} is {@literal null}.
+   * @throws IllegalStateException if the {@link Selector} could not be opened.
+   */
+  public void scan(@NotNull Iterable<InetSocketAddress> targets, @NotNull Consumer<? super Result> resultHandler) {
+
+    Assert.notNull(targets, "Targets are required");
+    Assert.notNull(resultHandler, "Result handler is required");
+
+    Iterator<InetSocketAddress> targetIterator = targets.iterator();
+
+    Deque<Attempt> attempts = new ArrayDeque<>(getConcurrency());
+
+    long connectTimeoutNanos = getConnectTimeout().toNanos();
+
+    ExecutorService resolver = Executors.newThreadPerTaskExecutor(VirtualThreadFactory.newThreadFactory());
+
+    try (Selector selector = Selector.open()) {
+
+      while (targetIterator.hasNext() || !attempts.isEmpty()) {
+
+        while (attempts.size() < getConcurrency() && targetIterator.hasNext()) {
+
+          Attempt attempt = connect(selector, resolver, targetIterator.next(), connectTimeoutNanos);
+
+          if (attempt.isComplete()) {
+            resultHandler.accept(attempt.getResult());
+          }
+          else {
+            attempts.addLast(attempt);
+          }
+        }
+
+        if (!attempts.isEmpty()) {
+
+          long waitMillis = TimeUnit.NANOSECONDS.toMillis(attempts.peekFirst().deadline - System.nanoTime());
+
+          selector.select(Math.max(1L, waitMillis + 1L));
+
+          for (SelectionKey key : selector.selectedKeys()) {
+            ((Attempt) key.attachment()).finishConnect();
+          }
+
+          selector.selectedKeys().clear();
+
+          long now = System.nanoTime();
+
+          for (Iterator<Attempt> iterator = attempts.iterator(); iterator.hasNext(); ) {
+
+            Attempt attempt = iterator.next();
+
+            if (attempt.isResolved()) {
+              attempt.connectResolved(selector);
+            }
+
+            if (!attempt.isComplete() && now - attempt.deadline >= 0L) {
+              attempt.timeout();
+            }
+
+            if (attempt.isComplete()) {
+              iterator.remove();
+              resultHandler.accept(attempt.getResult());
+            }
+          }
+        }
+      }
+    }
+    catch (IOException cause) {
+      throw new IllegalStateException("Failed to open Selector", cause);
+    }
+    finally {
+      attempts.forEach(Attempt::close);
+      resolver.shutdownNow();
+    }
+  }
+
+  private @NotNull Attempt connect(@NotNull Selector selector, @NotNull ExecutorService resolver,
+      @NotNull InetSocketAddress target, long connectTimeoutNanos) {
+
+    Attempt attempt = new Attempt(target, connectTimeoutNanos);
+
+    if (target.isUnresolved()) {
+      attempt.resolution = CompletableFuture.supplyAsync(() -> resolve(target), resolver);
+      attempt.resolution.whenComplete((address, cause) -> selector.wakeup());
+    }
+    else {
+      attempt.connect(selector, target);
+    }
+
+    return attempt;
+  }
+
+  private static @NotNull InetSocketAddress resolve(@NotNull InetSocketAddress target) {
+    return new InetSocketAddress(target.getHostString(), target.getPort());
+  }
+
+  /**
+   * State of a connection attempt in progress.
+   */
+  private static final class Attempt {
+
+    private final long deadline;
+    private final long startTime;
+
+    private CompletableFuture<InetSocketAddress> resolution;
+
+    private InetSocketAddress target;
+
+    private Result result;
+
+    private SocketChannel channel;
+
+    private Attempt(@NotNull InetSocketAddress target, long connectTimeoutNanos) {
+      this.target = target;
+      this.startTime = System.nanoTime();
+      this.deadline = this.startTime + connectTimeoutNanos;
+    }
+
+    private boolean isComplete() {
+      return this.result != null;
+    }
+
+    private boolean isResolved() {
+      return this.channel == null && !isComplete() && this.resolution != null && this.resolution.isDone();
+    }
+
+    private @NotNull Result getResult() {
+      return this.result;
+    }
+
+    private void close() {
+
+      IOUtils.close(this.channel);
+
+      if (this.resolution != null) {
+        this.resolution.cancel(true);
+      }
+    }
+
+    private void complete(boolean connected, @Nullable Throwable cause) {
+
+      Duration elapsedTime = Duration.ofNanos(System.nanoTime() - this.startTime);
+
+      this.result = new Result(this.target, connected, elapsedTime, cause);
+
+      close();
+    }
+
+    private void connect(@NotNull Selector selector, @NotNull InetSocketAddress address) {
+
+      this.target = address;
+
+      try {
+        SocketChannel channel = SocketChannel.open();
+
+        this.channel = channel;
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.SO_REUSEADDR, ConnectionTester.SO_REUSEADDR);
+
+        if (channel.connect(address)) {
+          complete(true, null);
+        }
+        else {
+          channel.register(selector, SelectionKey.OP_CONNECT, this);
+        }
+      }
+      catch (IOException | UnresolvedAddressException cause) {
+        complete(false, cause);
+      }
+    }
+
+    private void connectResolved(@NotNull Selector selector) {
+
+      try {
+        connect(selector, this.resolution.join());
+      }
+      catch (CompletionException cause) {
+        complete(false, cause.getCause());
+      }
+    }
+
+    private void finishConnect() {
+
+      try {
+        complete(this.channel.finishConnect(), null);
+      }
+      catch (IOException cause) {
+        complete(false, cause);
+      }
+    }
+
+    private void timeout() {
+      complete(false, new SocketTimeoutException("Connect timed out"));
+    }
+  }
+
+  /**
+   * Result of testing a connection to a network endpoint.
+   */
+  public static class Result {
+
+    private final boolean connected;
+
+    private final Duration elapsedTime;
+
+    private final InetSocketAddress target;
+
+    private final Throwable cause;
+
+    /**
+     * Constructs a new {@link Result}.
+     *
+     * @param target network endpoint tested.
+     * @param connected boolean value indicating whether a connection was established.
+     * @param elapsedTime {@link Duration} of the connection attempt.
+     * @param cause {@link Throwable} causing the connection attempt to fail, if any.
+     */
+    protected Result(@NotNull InetSocketAddress target, boolean connected, @NotNull Duration elapsedTime,
+        @Nullable Throwable cause) {
+
+      this.target = target;
+      this.connected = connected;
+      this.elapsedTime = elapsedTime;
+      this.cause = cause;
+    }
+
+    /**
+     * Returns the {@link Throwable} causing the connection attempt to fail, for example,
+     * a {@link ConnectException} when the connection was refused or a {@link SocketTimeoutException}
+     * when the connection attempt timed out.
+     *
+     * @return the {@link Throwable} causing the connection attempt to fail, or {@literal null}
+     * if a connection was established.
+     */
+    public @Nullable Throwable getCause() {
+      return this.cause;
+    }
+
+    /**
+     * Determines whether a connection to the network endpoint was established.
+     *
+     * @return a boolean value indicating whether a connection to the network endpoint was established.
+     */
+    public boolean isConnected() {
+      return this.connected;
+    }
+
+    /**
+     * Returns the {@link Duration} of the connection attempt.
+     *
+     * @return the {@link Duration} of the connection attempt.
+     */
+    public @NotNull Duration getElapsedTime() {
+      return this.elapsedTime;
+    }
+
+    /**
+     * Returns the network endpoint tested.
+     *
+     * @return the network endpoint tested.
+     */
+    public @NotNull InetSocketAddress getTarget() {
+      return this.target;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Connection to [%1$s:%2$d] was %3$ssuccessful (%4$d ms)",
+        getTarget().getHostString(), getTarget().getPort(), isConnected() ? "" : "not ",
+          getElapsedTime().toMillis());
+    }
+  }
+}
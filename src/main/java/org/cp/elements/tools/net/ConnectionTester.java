@@ -22,27 +22,32 @@ import static org.cp.elements.net.NetworkUtils.lenientParsePort;
 import static org.cp.elements.net.NetworkUtils.newSocketAddress;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.time.Duration;
 import java.util.Arrays;
-import java.util.Optional;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.cp.elements.lang.Condition;
 import org.cp.elements.lang.StringUtils;
+import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.net.ServicePort;
 import org.cp.elements.test.Tester;
 
 /**
  * The {@link ConnectionTester} class is used to test a network connection to a given network endpoint.
+ * <p>
+ * Use the {@link ConnectionScanner} to test connections to many network endpoints concurrently.
  *
  * @author John Blum
  * @see java.net.Socket
- * @see java.util.Optional
  * @see org.cp.elements.lang.Condition
  * @see org.cp.elements.net.NetworkUtils
  * @see org.cp.elements.net.ServicePort
  * @see org.cp.elements.test.Tester
+ * @see org.cp.elements.tools.net.ConnectionScanner
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
@@ -54,19 +59,35 @@ public class ConnectionTester implements Condition, Tester {
 
   protected static final String HOST_PORT_SEPARATOR = ":";
 
+  /**
+   * Main method used to run the {@link ConnectionTester} program.
+   * <p>
+   * Tests connections to all {@literal host:port} network endpoints passed as arguments concurrently,
+   * printing the result of each connection attempt as it completes.
+   *
+   * @param args array of {@literal host:port} network endpoints passed into this program from the command-line.
+   * @see org.cp.elements.tools.net.ConnectionScanner
+   */
   public static void main(String[] args) {
 
-    Arrays.stream(args).forEach(hostPort -> {
+    List<InetSocketAddress> targets = Arrays.stream(args)
+      .map(ConnectionTester::parseTarget)
+      .toList();
+
+    ConnectionScanner.newConnectionScanner()
+      .withConnectTimeout(Duration.ofMillis(CONNECT_TIMEOUT))
+      .scan(targets, System.out::println);
+  }
+
+  private static @NotNull InetSocketAddress parseTarget(@NotNull String hostPort) {
 
-      String[] hostPortSplit = hostPort.split(HOST_PORT_SEPARATOR);
-      String host = (hostPortSplit.length > 1 ? hostPortSplit[0] : null);
+    String[] hostPortSplit = hostPort.split(HOST_PORT_SEPARATOR);
+    String host = hostPortSplit.length > 1 && StringUtils.hasText(hostPortSplit[0]) ? hostPortSplit[0] : "localhost";
 
-      int port = lenientParsePort(hostPortSplit.length > 1 ? hostPortSplit[1] : hostPortSplit[0]);
+    int port = lenientParsePort(hostPortSplit.length > 1 ? hostPortSplit[1] : hostPortSplit[0]);
 
-      System.out.printf("Connection to [%1$s:%2$d] was %3$ssuccessful%n",
-        Optional.ofNullable(host).orElse("localhost"), port,
-          newConnectionTester(host, port).test() ? StringUtils.EMPTY_STRING : "not ");
-    });
+    // Resolved concurrently by the ConnectionScanner rather than one at a time up front.
+    return InetSocketAddress.createUnresolved(host, port);
   }
 
   /**
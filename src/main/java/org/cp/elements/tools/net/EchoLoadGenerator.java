@@ -0,0 +1,488 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.tools.net;
+
+import static org.cp.elements.net.NetworkUtils.lenientParsePort;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.concurrent.VirtualThreadFactory;
+import org.cp.elements.net.ServicePort;
+import org.cp.elements.tools.net.support.AbstractClientServerSupport;
+import org.cp.elements.util.ArrayUtils;
+
+/**
+ * The {@link EchoLoadGenerator} class is used to measure the throughput and latency of an {@link EchoServer}
+ * under load from many concurrent clients.
+ * <p>
+ * Each client, run on a {@literal virtual} {@link Thread}, sends a number of messages to the {@link EchoServer},
+ * waiting for each message to be echoed back before sending the next, and records the latency of each round trip.
+ * By default, each client sends all of its messages over a single, persistent connection. The classic, blocking
+ * {@link EchoServer} closes the connection after echoing a single message and therefore requires
+ * a {@link #withNewConnectionPerMessage(boolean) new connection per message}.
+ *
+ * @author John Blum
+ * @see org.cp.elements.tools.net.EchoServer
+ * @see org.cp.elements.tools.net.support.AbstractClientServerSupport
+ * @since 3.0.0
+ */
+@SuppressWarnings("unused")
+public class EchoLoadGenerator extends AbstractClientServerSupport {
+
+  protected static final int DEFAULT_CONNECTIONS = 100;
+  protected static final int DEFAULT_MESSAGES_PER_CONNECTION = 100;
+  protected static final int DEFAULT_MESSAGE_SIZE = 64;
+
+  protected static final String DEFAULT_HOST = null;
+
+  /**
+   * Main method used to run the {@link EchoLoadGenerator} program.
+   *
+   * @param args array of {@link String arguments} passed into this program from the command-line.
+   * @see #newEchoLoadGenerator(String, int)
+   * @see #run()
+   */
+  public static void main(String[] args) {
+
+    if (ArrayUtils.isEmpty(args)) {
+      System.err.printf("$ java ... %s <port> [<connections> <messages-per-connection> <message-size> <host>]%n",
+        EchoLoadGenerator.class.getName());
+      System.exit(1);
+    }
+
+    EchoLoadGenerator loadGenerator = newEchoLoadGenerator(args.length > 4 ? args[4] : DEFAULT_HOST,
+      lenientParsePort(args[0]));
+
+    if (args.length > 1) {
+      loadGenerator.withConnections(Integer.parseInt(args[1]));
+    }
+
+    if (args.length > 2) {
+      loadGenerator.withMessagesPerConnection(Integer.parseInt(args[2]));
+    }
+
+    if (args.length > 3) {
+      loadGenerator.withMessageSize(Integer.parseInt(args[3]));
+    }
+
+    System.out.println(loadGenerator.run());
+  }
+
+  /**
+   * Factory method used to construct a new {@link EchoLoadGenerator} sending messages to the {@link EchoServer}
+   * listening on the given {@link String host} and {@link Integer port}.
+   *
+   * @param host {@link String} specifying host on which the {@link EchoServer} is running.
+   * @param port {@link Integer} value indicating the port number on which the {@link EchoServer} is listening.
+   * @return a new {@link EchoLoadGenerator}.
+   * @throws IllegalArgumentException if {@code port} is not valid.
+   */
+  public static @NotNull EchoLoadGenerator newEchoLoadGenerator(@Nullable String host, int port) {
+    return new EchoLoadGenerator(host, port);
+  }
+
+  private boolean newConnectionPerMessage;
+
+  private int connections = DEFAULT_CONNECTIONS;
+  private int messageSize = DEFAULT_MESSAGE_SIZE;
+  private int messagesPerConnection = DEFAULT_MESSAGES_PER_CONNECTION;
+
+  private final int port;
+
+  private final String host;
+
+  /**
+   * Constructs a new {@link EchoLoadGenerator} sending messages to the {@link EchoServer} listening on
+   * the given {@link String host} and {@link Integer port}.
+   *
+   * @param host {@link String} specifying host on which the {@link EchoServer} is running.
+   * @param port {@link Integer} value indicating the port number on which the {@link EchoServer} is listening.
+   * @throws IllegalArgumentException if {@code port} is not valid.
+   */
+  public EchoLoadGenerator(@Nullable String host, int port) {
+
+    Assert.isTrue(port > ServicePort.MIN_PORT && port <= ServicePort.MAX_PORT,
+      "Port [%d] must be greater than 0 and less than equal to 65535", port);
+
+    this.host = host;
+    this.port = port;
+  }
+
+  /**
+   * Gets the host on which the {@link EchoServer} is running.
+   *
+   * @return a {@link String} containing the hostname on which the {@link EchoServer} is running.
+   */
+  protected @Nullable String getHost() {
+    return this.host;
+  }
+
+  /**
+   * Gets the port on which the {@link EchoServer} is listening.
+   *
+   * @return an {@link Integer} value indicating the port number on which the {@link EchoServer} is listening.
+   */
+  protected int getPort() {
+    return this.port;
+  }
+
+  /**
+   * Sets the number of concurrent clients.
+   *
+   * @param connections {@link Integer} specifying the number of concurrent clients; must be greater than {@literal 0}.
+   * @return this {@link EchoLoadGenerator}.
+   * @throws IllegalArgumentException if {@code connections} is less than {@literal 1}.
+   */
+  public @NotNull EchoLoadGenerator withConnections(int connections) {
+    Assert.isTrue(connections > 0, "Connections [%d] must be greater than 0", connections);
+    this.connections = connections;
+    return this;
+  }
+
+  /**
+   * Sets the size, in characters, of each message.
+   *
+   * @param messageSize {@link Integer} specifying the size of each message; must be greater than {@literal 0}.
+   * @return this {@link EchoLoadGenerator}.
+   * @throws IllegalArgumentException if {@code messageSize} is less than {@literal 1}.
+   */
+  public @NotNull EchoLoadGenerator withMessageSize(int messageSize) {
+    Assert.isTrue(messageSize > 0, "Message size [%d] must be greater than 0", messageSize);
+    this.messageSize = messageSize;
+    return this;
+  }
+
+  /**
+   * Sets the number of messages sent by each client.
+   *
+   * @param messagesPerConnection {@link Integer} specifying the number of messages sent by each client;
+   * must be greater than {@literal 0}.
+   * @return this {@link EchoLoadGenerator}.
+   * @throws IllegalArgumentException if {@code messagesPerConnection} is less than {@literal 1}.
+   */
+  public @NotNull EchoLoadGenerator withMessagesPerConnection(int messagesPerConnection) {
+
+    Assert.isTrue(messagesPerConnection > 0, "Messages per connection [%d] must be greater than 0",
+      messagesPerConnection);
+
+    this.messagesPerConnection = messagesPerConnection;
+
+    return this;
+  }
+
+  /**
+   * Sets whether each client opens a new connection for every message.
+   *
+   * @param newConnectionPerMessage boolean value indicating whether each client opens a new connection
+   * for every message.
+   * @return this {@link EchoLoadGenerator}.
+   */
+  public @NotNull EchoLoadGenerator withNewConnectionPerMessage(boolean newConnectionPerMessage) {
+    this.newConnectionPerMessage = newConnectionPerMessage;
+    return this;
+  }
+
+  /**
+   * Runs the configured clients concurrently, all starting at the same time, and waits for all clients to finish.
+   *
+   * @return a {@link Report} of the throughput and latency measured.
+   * @see Report
+   */
+  public @NotNull Report run() {
+
+    int connections = this.connections;
+    int messagesPerConnection = this.messagesPerConnection;
+
+    long[] latencies = new long[connections * messagesPerConnection];
+
+    AtomicLong errorCount = new AtomicLong(0L);
+
+    CountDownLatch startSignal = new CountDownLatch(1);
+
+    Future<?>[] clients = new Future<?>[connections];
+
+    long startTime;
+
+    ExecutorService executorService = Executors.newThreadPerTaskExecutor(VirtualThreadFactory.newThreadFactory());
+
+    try {
+      for (int client = 0; client < connections; client++) {
+
+        int clientIndex = client;
+
+        clients[client] = executorService.submit(() -> {
+          awaitQuietly(startSignal);
+          runClient(clientIndex, latencies, errorCount);
+        });
+      }
+
+      startTime = System.nanoTime();
+      startSignal.countDown();
+
+      for (Future<?> client : clients) {
+        awaitQuietly(client);
+      }
+    }
+    finally {
+      executorService.shutdownNow();
+    }
+
+    long duration = System.nanoTime() - startTime;
+
+    return new Report(connections, latencies, errorCount.get(), Duration.ofNanos(duration));
+  }
+
+  private void runClient(int clientIndex, long[] latencies, AtomicLong errorCount) {
+
+    ClientConnection connection = null;
+
+    int offset = clientIndex * this.messagesPerConnection;
+
+    try {
+      for (int index = 0; index < this.messagesPerConnection; index++) {
+
+        String message = newMessage(clientIndex, index);
+
+        long startTime = System.nanoTime();
+
+        try {
+          connection = connection != null ? connection : new ClientConnection(newSocket(getHost(), getPort()));
+
+          String response = connection.sendAndReceive(message);
+
+          latencies[offset + index] = System.nanoTime() - startTime;
+
+          if (!message.equals(response)) {
+            errorCount.incrementAndGet();
+          }
+        }
+        catch (IOException | RuntimeException cause) {
+          latencies[offset + index] = -1L;
+          errorCount.incrementAndGet();
+          connection = close(connection);
+        }
+
+        if (this.newConnectionPerMessage) {
+          connection = close(connection);
+        }
+      }
+    }
+    finally {
+      close(connection);
+    }
+  }
+
+  private @NotNull String newMessage(int clientIndex, int messageIndex) {
+
+    StringBuilder message = new StringBuilder(this.messageSize)
+      .append(clientIndex).append('-').append(messageIndex).append('-');
+
+    while (message.length() < this.messageSize) {
+      message.append((char) ('a' + message.length() % 26));
+    }
+
+    message.setLength(this.messageSize);
+
+    return message.toString();
+  }
+
+  private @Nullable ClientConnection close(@Nullable ClientConnection connection) {
+
+    if (connection != null) {
+      try {
+        connection.socket.close();
+      }
+      catch (IOException ignore) {
+        // Ignore
+      }
+    }
+
+    return null;
+  }
+
+  private static void awaitQuietly(@NotNull CountDownLatch latch) {
+
+    try {
+      latch.await();
+    }
+    catch (InterruptedException ignore) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void awaitQuietly(@NotNull Future<?> future) {
+
+    try {
+      future.get();
+    }
+    catch (ExecutionException ignore) {
+      // Errors are counted by the client
+    }
+    catch (InterruptedException ignore) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Persistent client connection reading and writing lines of text.
+   */
+  private class ClientConnection {
+
+    private final BufferedReader reader;
+
+    private final PrintWriter writer;
+
+    private final Socket socket;
+
+    private ClientConnection(@NotNull Socket socket) throws IOException {
+      this.socket = socket;
+      this.reader = newBufferedReader(socket);
+      this.writer = newPrintWriter(socket);
+    }
+
+    private @Nullable String sendAndReceive(@NotNull String message) throws IOException {
+      this.writer.println(message);
+      return this.reader.readLine();
+    }
+  }
+
+  /**
+   * Report of the throughput and latency measured by an {@link EchoLoadGenerator} run.
+   */
+  public static class Report {
+
+    private final int connections;
+
+    private final long errorCount;
+
+    private final long[] latencies;
+
+    private final Duration duration;
+
+    /**
+     * Constructs a new {@link Report}.
+     *
+     * @param connections {@link Integer} specifying the number of concurrent clients.
+     * @param latencies array of latencies, in nanoseconds, of all messages; negative for failed messages.
+     * @param errorCount {@link Long} specifying the number of failed messages.
+     * @param duration {@link Duration} of the run.
+     */
+    protected Report(int connections, @NotNull long[] latencies, long errorCount, @NotNull Duration duration) {
+
+      this.connections = connections;
+      this.errorCount = errorCount;
+      this.duration = duration;
+      this.latencies = Arrays.stream(latencies).filter(latency -> latency >= 0L).sorted().toArray();
+    }
+
+    /**
+     * Returns the number of concurrent clients.
+     *
+     * @return the number of concurrent clients.
+     */
+    public int getConnections() {
+      return this.connections;
+    }
+
+    /**
+     * Returns the {@link Duration} of the run.
+     *
+     * @return the {@link Duration} of the run.
+     */
+    public @NotNull Duration getDuration() {
+      return this.duration;
+    }
+
+    /**
+     * Returns the number of messages that failed or were not echoed back correctly.
+     *
+     * @return the number of failed messages.
+     */
+    public long getErrorCount() {
+      return this.errorCount;
+    }
+
+    /**
+     * Returns the number of messages that received a response.
+     *
+     * @return the number of messages that received a response.
+     */
+    public long getMessageCount() {
+      return this.latencies.length;
+    }
+
+    /**
+     * Returns the latency at the given percentile of all messages that received a response.
+     *
+     * @param percentile {@link Double} between {@literal 0.0} and {@literal 100.0} specifying the percentile.
+     * @return the latency at the given percentile; {@link Duration#ZERO} if no message received a response.
+     * @throws IllegalArgumentException if the {@code percentile} is not between {@literal 0.0}
+     * and {@literal 100.0}.
+     */
+    public @NotNull Duration getLatency(double percentile) {
+
+      Assert.isTrue(percentile >= 0.0d && percentile <= 100.0d,
+        "Percentile [%s] must be between 0.0 and 100.0", percentile);
+
+      int length = this.latencies.length;
+      int index = (int) Math.ceil(percentile / 100.0d * length) - 1;
+
+      return length > 0
+        ? Duration.ofNanos(this.latencies[Math.max(0, Math.min(index, length - 1))])
+        : Duration.ZERO;
+    }
+
+    /**
+     * Returns the number of messages per second that received a response.
+     *
+     * @return the number of messages per second that received a response.
+     */
+    public double getThroughput() {
+
+      long nanoseconds = getDuration().toNanos();
+
+      return nanoseconds > 0L ? getMessageCount() * (double) TimeUnit.SECONDS.toNanos(1) / nanoseconds : 0.0d;
+    }
+
+    @Override
+    public String toString() {
+
+      return String.format("connections = %1$d, messages = %2$d, errors = %3$d, duration = %4$d ms,"
+          + " throughput = %5$.1f msgs/s, latency [p50 = %6$d us, p99 = %7$d us, max = %8$d us]",
+        getConnections(), getMessageCount(), getErrorCount(), getDuration().toMillis(), getThroughput(),
+        toMicroseconds(getLatency(50.0d)), toMicroseconds(getLatency(99.0d)), toMicroseconds(getLatency(100.0d)));
+    }
+
+    private static long toMicroseconds(@NotNull Duration duration) {
+      return TimeUnit.NANOSECONDS.toMicros(duration.toNanos());
+    }
+  }
+}
@@ -23,20 +23,32 @@ import static org.cp.elements.net.NetworkUtils.lenientParsePort;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.cp.elements.lang.Integers;
 import org.cp.elements.lang.ThrowableUtils;
+import org.cp.elements.lang.annotation.NotNull;
 import org.cp.elements.lang.concurrent.ThreadUtils;
+import org.cp.elements.lang.concurrent.VirtualThreadFactory;
 import org.cp.elements.net.ServicePort;
 import org.cp.elements.tools.net.support.AbstractClientServerSupport;
+import org.cp.elements.tools.net.support.MessageCodec;
+import org.cp.elements.tools.net.support.SocketServer;
 import org.cp.elements.util.ArrayUtils;
 
 /**
  * The {@link EchoServer} class is used to echo messages back to a echo client.
+ * <p>
+ * The {@link EchoServer} accepts a single message per connection, serving each connection with
+ * a {@literal virtual} {@link Thread}. The {@link #newSelectorEchoServer(int) selector-based}
+ * and {@link #newVirtualThreadEchoServer(int) thread-per-connection} {@link SocketServer SocketServers}
+ * echo any number of messages over persistent connections.
  *
  * @author John Blum
  * @see java.lang.Runnable
@@ -47,28 +59,51 @@ import org.cp.elements.util.ArrayUtils;
  * @see java.util.concurrent.TimeUnit
  * @see org.cp.elements.net.ServicePort
  * @see org.cp.elements.tools.net.support.AbstractClientServerSupport
+ * @see org.cp.elements.tools.net.support.SocketServer
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
 public class EchoServer extends AbstractClientServerSupport implements Runnable {
 
-  protected static final int EXECUTOR_THREAD_POOL_SIZE = 10;
-
   protected static final long DEFAULT_DURATION_MILLISECONDS = TimeUnit.SECONDS.toMillis(15);
 
   private static final int THIRTY = 30;
 
   /**
    * Main method used to run the {@link EchoServer} program.
+   * <p>
+   * The optional second argument selects the {@link Mode} in which the {@link EchoServer} runs.
    *
    * @param args array of {@link String arguments} passed into this program from the command-line.
    * @see #validateArguments(String[])
    * @see #newEchoServer(int)
+   * @see Mode
    */
   public static void main(String[] args) {
 
     validateArguments(args);
-    newEchoServer(lenientParsePort(args[0])).run();
+
+    int port = lenientParsePort(args[0]);
+
+    switch (Mode.from(args.length > 1 ? args[1] : null)) {
+      case SELECTOR -> runUntilShutdown(newSelectorEchoServer(port));
+      case VIRTUAL_THREAD -> runUntilShutdown(newVirtualThreadEchoServer(port));
+      default -> newEchoServer(port).run();
+    }
+  }
+
+  private static void runUntilShutdown(@NotNull SocketServer<String> echoServer) {
+
+    Runtime.getRuntime().addShutdownHook(new Thread(echoServer::stop));
+
+    echoServer.start();
+
+    try {
+      Thread.currentThread().join();
+    }
+    catch (InterruptedException ignore) {
+      Thread.currentThread().interrupt();
+    }
   }
 
   /**
@@ -79,7 +114,7 @@ public class EchoServer extends AbstractClientServerSupport implements Runnable
   private static void validateArguments(String[] args) {
 
     if (ArrayUtils.isEmpty(args)) {
-      System.err.printf("$ java -server ... %s <port>%n", EchoServer.class.getName());
+      System.err.printf("$ java -server ... %s <port> [blocking | selector | virtual]%n", EchoServer.class.getName());
       System.exit(1);
     }
   }
@@ -96,6 +131,36 @@ public class EchoServer extends AbstractClientServerSupport implements Runnable
     return new EchoServer(port);
   }
 
+  /**
+   * Factory method used to construct a new, unstarted {@link SocketServer} echoing lines of text over
+   * persistent connections, all served from a single {@link Thread} using non-blocking I/O.
+   *
+   * @param port {@link Integer} value indicating the port number on which the {@link SocketServer} will listen;
+   * {@literal 0} selects an available, ephemeral port.
+   * @return a new {@link SocketServer} echoing lines of text.
+   * @throws IllegalArgumentException if the given {@code port} number is not valid.
+   * @see SocketServer#newSelectorSocketServer(int, MessageCodec, Function)
+   */
+  public static @NotNull SocketServer<String> newSelectorEchoServer(int port) {
+    return SocketServer.newSelectorSocketServer(port, MessageCodec.lines(Charset.defaultCharset()),
+      Function.identity());
+  }
+
+  /**
+   * Factory method used to construct a new, unstarted {@link SocketServer} echoing lines of text over
+   * persistent connections, each served by a {@literal virtual} {@link Thread} using blocking I/O.
+   *
+   * @param port {@link Integer} value indicating the port number on which the {@link SocketServer} will listen;
+   * {@literal 0} selects an available, ephemeral port.
+   * @return a new {@link SocketServer} echoing lines of text.
+   * @throws IllegalArgumentException if the given {@code port} number is not valid.
+   * @see SocketServer#newThreadPerConnectionSocketServer(int, MessageCodec, Function)
+   */
+  public static @NotNull SocketServer<String> newVirtualThreadEchoServer(int port) {
+    return SocketServer.newThreadPerConnectionSocketServer(port, MessageCodec.lines(Charset.defaultCharset()),
+      Function.identity());
+  }
+
   private final int port;
 
   private ExecutorService echoService;
@@ -250,14 +315,18 @@ public class EchoServer extends AbstractClientServerSupport implements Runnable
 
   /**
    * Constructs a new an {@link ExecutorService} to run the Echo Service.
+   * <p>
+   * Each {@link EchoClient} connection is served by a new {@literal virtual} {@link Thread}, so that
+   * the number of concurrent {@link EchoClient EchoClients} is not limited by the size of a {@link Thread} pool.
    *
    * @return a new instance of {@link ExecutorService} used to run the Echo Service.
-   * @see java.util.concurrent.Executors#newFixedThreadPool(int)
+   * @see java.util.concurrent.Executors#newThreadPerTaskExecutor(java.util.concurrent.ThreadFactory)
+   * @see org.cp.elements.lang.concurrent.VirtualThreadFactory
    * @see java.util.concurrent.ExecutorService
    * @see #runEchoService(ServerSocket)
    */
   protected ExecutorService newExecutorService() {
-    return Executors.newFixedThreadPool(EXECUTOR_THREAD_POOL_SIZE);
+    return Executors.newThreadPerTaskExecutor(VirtualThreadFactory.newThreadFactory());
   }
 
   /**
@@ -395,4 +464,42 @@ public class EchoServer extends AbstractClientServerSupport implements Runnable
       .checkEvery(Integers.FIVE_HUNDRED)
       .on(this::isRunning);
   }
+
+  /**
+   * Enumeration of the modes in which the {@link EchoServer} program runs.
+   */
+  public enum Mode {
+
+    /**
+     * Runs the {@link EchoServer}, accepting a single message per connection.
+     */
+    BLOCKING,
+
+    /**
+     * Runs the {@link #newSelectorEchoServer(int) selector-based} {@link SocketServer}.
+     */
+    SELECTOR,
+
+    /**
+     * Runs the {@link #newVirtualThreadEchoServer(int) thread-per-connection} {@link SocketServer}.
+     */
+    VIRTUAL_THREAD;
+
+    /**
+     * Returns the {@link Mode} with the given {@link String name}, ignoring case.
+     * <p>
+     * {@literal virtual} is accepted as the name of {@link #VIRTUAL_THREAD}.
+     *
+     * @param name {@link String} containing the name of the {@link Mode}.
+     * @return the {@link Mode} with the given {@link String name}; defaults to {@link #BLOCKING}
+     * if the {@link String name} is {@literal null}, {@literal empty} or unknown.
+     */
+    public static @NotNull Mode from(String name) {
+
+      String resolvedName = String.valueOf(name).trim().toUpperCase();
+
+      return "VIRTUAL".equals(resolvedName) ? VIRTUAL_THREAD
+        : Arrays.stream(values()).filter(mode -> mode.name().equals(resolvedName)).findFirst().orElse(BLOCKING);
+    }
+  }
 }
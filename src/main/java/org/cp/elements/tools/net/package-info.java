@@ -17,9 +17,12 @@
  * The Elements {@literal tools.net} package contains classes and Java programs to evaluate a network.
  *
  * @author John Blum
+ * @see org.cp.elements.tools.net.ConnectionScanner
  * @see org.cp.elements.tools.net.ConnectionTester
  * @see org.cp.elements.tools.net.EchoClient
+ * @see org.cp.elements.tools.net.EchoLoadGenerator
  * @see org.cp.elements.tools.net.EchoServer
+ * @see org.cp.elements.tools.net.support.SocketServer
  * @since 1.0.0
  */
 package org.cp.elements.tools.net;
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.tools.net.support;
+
+import static org.cp.elements.lang.CheckedExceptionsFactory.newIOException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * {@link MessageCodec} implementation framing binary {@literal byte[]} messages with a {@literal 4-byte},
+ * big-endian length prefix.
+ *
+ * @author John Blum
+ * @see org.cp.elements.tools.net.support.MessageCodec
+ * @since 3.0.0
+ */
+public class LengthPrefixedMessageCodec implements MessageCodec<byte[]> {
+
+  protected static final int DEFAULT_MAX_MESSAGE_LENGTH = 1024 * 1024;
+
+  private static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+
+  private final int maxMessageLength;
+
+  /**
+   * Constructs a new {@link LengthPrefixedMessageCodec} accepting {@literal byte[]} messages
+   * of up to {@literal 1 MB}.
+   *
+   * @see #LengthPrefixedMessageCodec(int)
+   */
+  public LengthPrefixedMessageCodec() {
+    this(DEFAULT_MAX_MESSAGE_LENGTH);
+  }
+
+  /**
+   * Constructs a new {@link LengthPrefixedMessageCodec} accepting {@literal byte[]} messages
+   * of up to the given maximum length.
+   *
+   * @param maxMessageLength {@link Integer} specifying the maximum length, in bytes, of an encoded
+   * {@literal byte[]} message, including the length prefix; must be greater than {@literal 4}.
+   * @throws IllegalArgumentException if the {@code maxMessageLength} is less than equal to {@literal 4}.
+   */
+  public LengthPrefixedMessageCodec(int maxMessageLength) {
+
+    Assert.isTrue(maxMessageLength > LENGTH_PREFIX_SIZE, "Max message length [%1$d] must be greater than %2$d",
+      maxMessageLength, LENGTH_PREFIX_SIZE);
+
+    this.maxMessageLength = maxMessageLength;
+  }
+
+  @Override
+  public int getMaxMessageLength() {
+    return this.maxMessageLength;
+  }
+
+  @Override
+  public @Nullable byte[] decode(@NotNull ByteBuffer buffer) throws IOException {
+
+    int position = buffer.position();
+
+    if (buffer.remaining() < LENGTH_PREFIX_SIZE) {
+      return null;
+    }
+
+    int length = buffer.getInt(position);
+
+    if (length < 0 || length > getMaxMessageLength() - LENGTH_PREFIX_SIZE) {
+      throw newIOException("Message length [%1$d] is not valid; must be between 0 and %2$d",
+        length, getMaxMessageLength() - LENGTH_PREFIX_SIZE);
+    }
+
+    if (buffer.remaining() - LENGTH_PREFIX_SIZE < length) {
+      return null;
+    }
+
+    byte[] message = new byte[length];
+
+    buffer.get(position + LENGTH_PREFIX_SIZE, message);
+    buffer.position(position + LENGTH_PREFIX_SIZE + length);
+
+    return message;
+  }
+
+  @Override
+  public @NotNull ByteBuffer encode(@NotNull byte[] message) {
+
+    Assert.notNull(message, "Message is required");
+
+    return ByteBuffer.allocate(LENGTH_PREFIX_SIZE + message.length)
+      .putInt(message.length)
+      .put(message)
+      .flip();
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.tools.net.support;
+
+import static org.cp.elements.lang.CheckedExceptionsFactory.newIOException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * {@link MessageCodec} implementation framing {@link String messages} as lines of text terminated by
+ * a {@literal line feed} ({@literal \n}), compatible with {@link java.io.BufferedReader#readLine()}
+ * and {@link java.io.PrintWriter#println(String)}.
+ * <p>
+ * A {@literal carriage return} ({@literal \r}) preceding the {@literal line feed} is removed when decoding.
+ *
+ * @author John Blum
+ * @see java.nio.charset.Charset
+ * @see org.cp.elements.tools.net.support.MessageCodec
+ * @since 3.0.0
+ */
+public class LineMessageCodec implements MessageCodec<String> {
+
+  protected static final int DEFAULT_MAX_MESSAGE_LENGTH = 64 * 1024;
+
+  private static final byte CARRIAGE_RETURN = '\r';
+  private static final byte LINE_FEED = '\n';
+
+  private final Charset charset;
+
+  private final int maxMessageLength;
+
+  /**
+   * Constructs a new {@link LineMessageCodec} encoding lines of text with the given {@link Charset}
+   * and accepting lines of up to {@literal 64 KB}.
+   *
+   * @param charset {@link Charset} used to encode the lines of text; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@link Charset} is {@literal null}.
+   * @see #LineMessageCodec(Charset, int)
+   */
+  public LineMessageCodec(@NotNull Charset charset) {
+    this(charset, DEFAULT_MAX_MESSAGE_LENGTH);
+  }
+
+  /**
+   * Constructs a new {@link LineMessageCodec} encoding lines of text with the given {@link Charset}
+   * and accepting lines of up to the given maximum length.
+   *
+   * @param charset {@link Charset} used to encode the lines of text; must not be {@literal null}.
+   * @param maxMessageLength {@link Integer} specifying the maximum length, in bytes, of a line,
+   * including the line terminator; must be greater than {@literal 0}.
+   * @throws IllegalArgumentException if the {@link Charset} is {@literal null}
+   * or the {@code maxMessageLength} is less than {@literal 1}.
+   */
+  public LineMessageCodec(@NotNull Charset charset, int maxMessageLength) {
+
+    Assert.notNull(charset, "Charset is required");
+    Assert.isTrue(maxMessageLength > 0, "Max message length [%d] must be greater than 0", maxMessageLength);
+
+    this.charset = charset;
+    this.maxMessageLength = maxMessageLength;
+  }
+
+  /**
+   * Returns the {@link Charset} used to encode the lines of text.
+   *
+   * @return the {@link Charset} used to encode the lines of text.
+   */
+  public @NotNull Charset getCharset() {
+    return this.charset;
+  }
+
+  @Override
+  public int getMaxMessageLength() {
+    return this.maxMessageLength;
+  }
+
+  @Override
+  public @Nullable String decode(@NotNull ByteBuffer buffer) throws IOException {
+
+    int position = buffer.position();
+    int limit = buffer.limit();
+    int scanLimit = (int) Math.min(limit, (long) position + getMaxMessageLength());
+
+    for (int index = position; index < scanLimit; index++) {
+      if (buffer.get(index) == LINE_FEED) {
+
+        int end = index > position && buffer.get(index - 1) == CARRIAGE_RETURN ? index - 1 : index;
+
+        String line = getCharset().decode(buffer.slice(position, end - position)).toString();
+
+        buffer.position(index + 1);
+
+        return line;
+      }
+    }
+
+    if (limit - position >= getMaxMessageLength()) {
+      throw newIOException("Line exceeds the maximum message length [%d]", getMaxMessageLength());
+    }
+
+    return null;
+  }
+
+  @Override
+  public @NotNull ByteBuffer encode(@NotNull String message) {
+
+    Assert.notNull(message, "Message is required");
+
+    ByteBuffer encodedMessage = getCharset().encode(message);
+    ByteBuffer line = ByteBuffer.allocate(encodedMessage.remaining() + 1);
+
+    return line.put(encodedMessage).put(LINE_FEED).flip();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.tools.net.support;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * Interface defining a contract to frame {@link Object messages} exchanged over a network connection.
+ * <p>
+ * A {@link MessageCodec} decodes {@link Object messages} from the bytes received on a connection
+ * and encodes {@link Object messages} into the bytes sent on a connection. Implementations must be
+ * stateless so that a single instance can be shared by all connections of a {@link SocketServer}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of {@link Object messages} framed by this codec.
+ * @see java.nio.ByteBuffer
+ * @see org.cp.elements.tools.net.support.LengthPrefixedMessageCodec
+ * @see org.cp.elements.tools.net.support.LineMessageCodec
+ * @see org.cp.elements.tools.net.support.SocketServer
+ * @since 3.0.0
+ */
+public interface MessageCodec<T> {
+
+  /**
+   * Factory method used to construct a new {@link MessageCodec} framing {@literal byte[]} messages
+   * with a {@literal 4-byte} length prefix.
+   *
+   * @return a new {@link MessageCodec} framing {@literal byte[]} messages with a length prefix.
+   * @see org.cp.elements.tools.net.support.LengthPrefixedMessageCodec
+   */
+  static @NotNull MessageCodec<byte[]> lengthPrefixed() {
+    return new LengthPrefixedMessageCodec();
+  }
+
+  /**
+   * Factory method used to construct a new {@link MessageCodec} framing {@link String messages}
+   * as {@link StandardCharsets#UTF_8 UTF-8} encoded lines of text.
+   *
+   * @return a new {@link MessageCodec} framing {@link String messages} as lines of text.
+   * @see org.cp.elements.tools.net.support.LineMessageCodec
+   * @see #lines(Charset)
+   */
+  static @NotNull MessageCodec<String> lines() {
+    return lines(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Factory method used to construct a new {@link MessageCodec} framing {@link String messages}
+   * as lines of text encoded with the given {@link Charset}.
+   *
+   * @param charset {@link Charset} used to encode the lines of text; must not be {@literal null}.
+   * @return a new {@link MessageCodec} framing {@link String messages} as lines of text.
+   * @throws IllegalArgumentException if the {@link Charset} is {@literal null}.
+   * @see org.cp.elements.tools.net.support.LineMessageCodec
+   * @see java.nio.charset.Charset
+   */
+  static @NotNull MessageCodec<String> lines(@NotNull Charset charset) {
+    return new LineMessageCodec(charset);
+  }
+
+  /**
+   * Decodes the next {@link Object message} from the bytes between the {@link ByteBuffer#position() position}
+   * and {@link ByteBuffer#limit() limit} of the given {@link ByteBuffer}.
+   * <p>
+   * When a complete {@link Object message} is available, the {@link ByteBuffer#position() position}
+   * is advanced past the {@link Object message}; otherwise, {@literal null} is returned and
+   * the {@link ByteBuffer#position() position} is left unchanged.
+   *
+   * @param buffer {@link ByteBuffer} containing the bytes received; must not be {@literal null}.
+   * @return the next {@link Object message}, or {@literal null} if a complete {@link Object message}
+   * has not been received yet.
+   * @throws IOException if the bytes received are not a valid {@link Object message}, or the {@link Object message}
+   * exceeds the {@link #getMaxMessageLength() maximum message length}.
+   * @see java.nio.ByteBuffer
+   */
+  @Nullable T decode(@NotNull ByteBuffer buffer) throws IOException;
+
+  /**
+   * Encodes the given {@link Object message} into a new {@link ByteBuffer} ready to be sent.
+   *
+   * @param message {@link Object} to encode; must not be {@literal null}.
+   * @return a new {@link ByteBuffer} containing the encoded {@link Object message},
+   * {@link ByteBuffer#flip() flipped} for reading.
+   * @see java.nio.ByteBuffer
+   */
+  @NotNull ByteBuffer encode(@NotNull T message);
+
+  /**
+   * Returns the maximum length, in bytes, of an encoded {@link Object message} accepted by this codec.
+   * <p>
+   * Connections are expected to buffer at most this many bytes of an incomplete {@link Object message}.
+   *
+   * @return the maximum length, in bytes, of an encoded {@link Object message}.
+   */
+  int getMaxMessageLength();
+
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.tools.net.support;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.cp.elements.io.IOUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+
+/**
+ * {@link SocketServer} implementation serving all connections from a single {@link Thread}
+ * multiplexing non-blocking I/O with a {@link Selector}.
+ * <p>
+ * Bytes are read into a buffer shared by all connections; a connection only retains a buffer of its own
+ * while it holds an incomplete {@link Object message}, so that idle connections are inexpensive. Responses
+ * are written with gathering writes. While a connection has responses that could not be written,
+ * the connection stops reading, applying backpressure to clients that do not read their responses.
+ * <p>
+ * The {@link Function handler} is invoked on the {@literal selector} {@link Thread} and therefore
+ * must not block.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of {@link Object messages} exchanged with clients.
+ * @see java.nio.channels.Selector
+ * @see org.cp.elements.tools.net.support.SocketServer
+ * @since 3.0.0
+ */
+public class SelectorSocketServer<T> extends SocketServer<T> {
+
+  protected static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  protected static final long STOP_TIMEOUT_MILLISECONDS = TimeUnit.SECONDS.toMillis(5);
+
+  private volatile Selector selector;
+
+  private volatile Thread selectorThread;
+
+  /**
+   * Constructs a new {@link SelectorSocketServer} listening on the given port.
+   *
+   * @param port {@link Integer} specifying the port on which the server listens for connections;
+   * {@literal 0} selects an available, ephemeral port.
+   * @param codec {@link MessageCodec} used to frame {@link Object messages}; must not be {@literal null}.
+   * @param handler {@link Function} processing {@link Object messages}; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@code port} is not valid,
+   * or the {@link MessageCodec} or {@link Function handler} is {@literal null}.
+   */
+  public SelectorSocketServer(int port, @NotNull MessageCodec<T> codec,
+      @NotNull Function<? super T, ? extends T> handler) {
+
+    super(port, codec, handler);
+  }
+
+  @Override
+  protected void serve(@NotNull ServerSocketChannel serverSocketChannel) throws IOException {
+
+    Selector selector = Selector.open();
+
+    try {
+      serverSocketChannel.configureBlocking(false);
+      serverSocketChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+    catch (IOException cause) {
+      IOUtils.close(selector);
+      throw cause;
+    }
+
+    Thread selectorThread = new Thread(() -> select(selector, serverSocketChannel),
+      String.format("%1$s.SELECTOR-%2$d", getClass().getSimpleName(), getPort()));
+
+    selectorThread.setDaemon(true);
+
+    this.selector = selector;
+    this.selectorThread = selectorThread;
+
+    selectorThread.start();
+  }
+
+  private void select(@NotNull Selector selector, @NotNull ServerSocketChannel serverSocketChannel) {
+
+    ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+
+    try {
+      while (serverSocketChannel.isOpen()) {
+
+        selector.select();
+
+        Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+
+        while (selectedKeys.hasNext()) {
+
+          SelectionKey key = selectedKeys.next();
+
+          selectedKeys.remove();
+
+          if (key.isValid()) {
+            if (key.isAcceptable()) {
+              accept(selector, serverSocketChannel);
+            }
+            else {
+              process(key, readBuffer);
+            }
+          }
+        }
+      }
+    }
+    catch (IOException | ClosedSelectorException cause) {
+      if (isRunning()) {
+        getLogger().warning(() -> String.format("Selector failed: %s", cause.getMessage()));
+      }
+    }
+    finally {
+      closeConnections(selector);
+      IOUtils.close(selector);
+    }
+  }
+
+  private void accept(@NotNull Selector selector, @NotNull ServerSocketChannel serverSocketChannel) {
+
+    SocketChannel connection = null;
+
+    try {
+      while ((connection = serverSocketChannel.accept()) != null) {
+        connection.configureBlocking(false);
+        connectionOpened(connection);
+        connection.register(selector, SelectionKey.OP_READ, new Connection());
+      }
+    }
+    catch (IOException cause) {
+      connectionFailed(connection, cause);
+      IOUtils.close(connection);
+    }
+  }
+
+  private void process(@NotNull SelectionKey key, @NotNull ByteBuffer readBuffer) {
+
+    SocketChannel channel = (SocketChannel) key.channel();
+    Connection connection = (Connection) key.attachment();
+
+    try {
+      if (key.isReadable()) {
+        read(key, channel, connection, readBuffer);
+      }
+
+      if (key.isValid() && key.isWritable()) {
+        write(key, channel, connection);
+      }
+    }
+    catch (IOException | RuntimeException cause) {
+      readBuffer.clear();
+      connectionFailed(channel, cause);
+      close(key);
+    }
+  }
+
+  private void read(@NotNull SelectionKey key, @NotNull SocketChannel channel, @NotNull Connection connection,
+      @NotNull ByteBuffer readBuffer) throws IOException {
+
+    ByteBuffer buffer = connection.pendingBuffer != null ? connection.pendingBuffer : readBuffer;
+
+    if (channel.read(buffer) < 0) {
+      close(key);
+      return;
+    }
+
+    ByteBuffer receivedBuffer = receive(buffer, connection.responses);
+
+    if (receivedBuffer == readBuffer) {
+      if (readBuffer.position() > 0) {
+        connection.pendingBuffer = ByteBuffer.allocate(Math.max(DEFAULT_BUFFER_SIZE, readBuffer.position() * 2))
+          .put(readBuffer.flip());
+      }
+
+      readBuffer.clear();
+    }
+    else {
+      connection.pendingBuffer = receivedBuffer.position() > 0 ? receivedBuffer : null;
+    }
+
+    write(key, channel, connection);
+  }
+
+  private void write(@NotNull SelectionKey key, @NotNull SocketChannel channel, @NotNull Connection connection)
+      throws IOException {
+
+    Queue<ByteBuffer> responses = connection.responses;
+
+    while (!responses.isEmpty()) {
+
+      if (responses.size() == 1) {
+        channel.write(responses.peek());
+      }
+      else {
+        channel.write(responses.toArray(new ByteBuffer[0]));
+      }
+
+      while (!responses.isEmpty() && !responses.peek().hasRemaining()) {
+        responses.poll();
+      }
+
+      if (!responses.isEmpty()) {
+        break;
+      }
+    }
+
+    key.interestOps(responses.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_WRITE);
+  }
+
+  private void close(@NotNull SelectionKey key) {
+
+    if (key.isValid()) {
+      key.cancel();
+      connectionClosed((SocketChannel) key.channel());
+    }
+  }
+
+  private void closeConnections(@NotNull Selector selector) {
+
+    try {
+      for (SelectionKey key : selector.keys()) {
+        if (key.channel() instanceof SocketChannel) {
+          close(key);
+        }
+      }
+    }
+    catch (ClosedSelectorException ignore) {
+      // The Selector was closed
+    }
+  }
+
+  @Override
+  protected void stopServing() {
+
+    Selector selector = this.selector;
+    Thread selectorThread = this.selectorThread;
+
+    if (selector != null) {
+      selector.wakeup();
+    }
+
+    if (selectorThread != null && selectorThread != Thread.currentThread()) {
+      try {
+        selectorThread.join(STOP_TIMEOUT_MILLISECONDS);
+      }
+      catch (InterruptedException ignore) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    this.selector = null;
+    this.selectorThread = null;
+  }
+
+  /**
+   * State of a connection served by the {@link Selector}.
+   */
+  private static final class Connection {
+
+    private @Nullable ByteBuffer pendingBuffer;
+
+    private final Queue<ByteBuffer> responses = new ArrayDeque<>();
+
+  }
+}
@@ -0,0 +1,443 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.tools.net.support;
+
+import static org.cp.elements.lang.RuntimeExceptionsFactory.newRuntimeException;
+import static org.cp.elements.net.NetworkUtils.newSocketAddress;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.cp.elements.io.IOUtils;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.ThrowableUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.annotation.Nullable;
+import org.cp.elements.lang.annotation.ThreadSafe;
+import org.cp.elements.lang.concurrent.VirtualThreadFactory;
+import org.cp.elements.net.ServicePort;
+
+/**
+ * Abstract base class for servers exchanging {@link Object messages} with clients over persistent
+ * {@link SocketChannel socket connections}.
+ * <p>
+ * {@link Object Messages} are framed by a {@link MessageCodec} and processed by a {@link Function handler},
+ * which returns the response sent back to the client, or {@literal null} to send no response. A connection
+ * remains open until the client closes it, sends an invalid {@link Object message}, or the server is stopped.
+ * <p>
+ * Subclasses determine how connections are served, for example, with a single {@link java.nio.channels.Selector}
+ * multiplexing all connections, or with a {@link Thread} per connection.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of {@link Object messages} exchanged with clients.
+ * @see java.nio.channels.ServerSocketChannel
+ * @see java.nio.channels.SocketChannel
+ * @see org.cp.elements.tools.net.support.AbstractClientServerSupport
+ * @see org.cp.elements.tools.net.support.MessageCodec
+ * @see org.cp.elements.tools.net.support.SelectorSocketServer
+ * @see org.cp.elements.tools.net.support.ThreadPerConnectionSocketServer
+ * @since 3.0.0
+ */
+@ThreadSafe
+public abstract class SocketServer<T> extends AbstractClientServerSupport implements AutoCloseable {
+
+  protected static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  /**
+   * Factory method used to construct a new {@link SelectorSocketServer} serving all connections from
+   * a single {@link Thread} using non-blocking I/O.
+   *
+   * @param <T> {@link Class type} of {@link Object messages} exchanged with clients.
+   * @param port {@link Integer} specifying the port on which the server listens for connections;
+   * {@literal 0} selects an available, ephemeral port.
+   * @param codec {@link MessageCodec} used to frame {@link Object messages}; must not be {@literal null}.
+   * @param handler {@link Function} processing {@link Object messages}; must not be {@literal null}.
+   * @return a new {@link SelectorSocketServer}.
+   * @throws IllegalArgumentException if the {@code port} is not valid,
+   * or the {@link MessageCodec} or {@link Function handler} is {@literal null}.
+   * @see org.cp.elements.tools.net.support.SelectorSocketServer
+   */
+  public static @NotNull <T> SelectorSocketServer<T> newSelectorSocketServer(int port,
+      @NotNull MessageCodec<T> codec, @NotNull Function<? super T, ? extends T> handler) {
+
+    return new SelectorSocketServer<>(port, codec, handler);
+  }
+
+  /**
+   * Factory method used to construct a new {@link ThreadPerConnectionSocketServer} serving each connection
+   * with a new {@literal virtual} {@link Thread} using blocking I/O.
+   *
+   * @param <T> {@link Class type} of {@link Object messages} exchanged with clients.
+   * @param port {@link Integer} specifying the port on which the server listens for connections;
+   * {@literal 0} selects an available, ephemeral port.
+   * @param codec {@link MessageCodec} used to frame {@link Object messages}; must not be {@literal null}.
+   * @param handler {@link Function} processing {@link Object messages}; must not be {@literal null}.
+   * @return a new {@link ThreadPerConnectionSocketServer}.
+   * @throws IllegalArgumentException if the {@code port} is not valid,
+   * or the {@link MessageCodec} or {@link Function handler} is {@literal null}.
+   * @see org.cp.elements.tools.net.support.ThreadPerConnectionSocketServer
+   * @see org.cp.elements.lang.concurrent.VirtualThreadFactory
+   */
+  public static @NotNull <T> ThreadPerConnectionSocketServer<T> newThreadPerConnectionSocketServer(int port,
+      @NotNull MessageCodec<T> codec, @NotNull Function<? super T, ? extends T> handler) {
+
+    return newThreadPerConnectionSocketServer(port, codec, handler, VirtualThreadFactory.newThreadFactory());
+  }
+
+  /**
+   * Factory method used to construct a new {@link ThreadPerConnectionSocketServer} serving each connection
+   * with a new {@link Thread} created by the given {@link ThreadFactory} using blocking I/O.
+   *
+   * @param <T> {@link Class type} of {@link Object messages} exchanged with clients.
+   * @param port {@link Integer} specifying the port on which the server listens for connections;
+   * {@literal 0} selects an available, ephemeral port.
+   * @param codec {@link MessageCodec} used to frame {@link Object messages}; must not be {@literal null}.
+   * @param handler {@link Function} processing {@link Object messages}; must not be {@literal null}.
+   * @param threadFactory {@link ThreadFactory} creating the {@link Thread Threads} serving connections;
+   * must not be {@literal null}.
+   * @return a new {@link ThreadPerConnectionSocketServer}.
+   * @throws IllegalArgumentException if the {@code port} is not valid, or the {@link MessageCodec},
+   * {@link Function handler} or {@link ThreadFactory} is {@literal null}.
+   * @see org.cp.elements.tools.net.support.ThreadPerConnectionSocketServer
+   */
+  public static @NotNull <T> ThreadPerConnectionSocketServer<T> newThreadPerConnectionSocketServer(int port,
+      @NotNull MessageCodec<T> codec, @NotNull Function<? super T, ? extends T> handler,
+      @NotNull ThreadFactory threadFactory) {
+
+    return new ThreadPerConnectionSocketServer<>(port, codec, handler, threadFactory);
+  }
+
+  private final AtomicInteger activeConnectionCount = new AtomicInteger(0);
+
+  private final AtomicLong connectionCount = new AtomicLong(0L);
+  private final AtomicLong messageCount = new AtomicLong(0L);
+
+  private final Function<? super T, ? extends T> handler;
+
+  private final int port;
+
+  private final MessageCodec<T> codec;
+
+  private volatile ServerSocketChannel serverSocketChannel;
+
+  /**
+   * Constructs a new {@link SocketServer} listening on the given port.
+   *
+   * @param port {@link Integer} specifying the port on which the server listens for connections;
+   * {@literal 0} selects an available, ephemeral port.
+   * @param codec {@link MessageCodec} used to frame {@link Object messages}; must not be {@literal null}.
+   * @param handler {@link Function} processing {@link Object messages}; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@code port} is not valid,
+   * or the {@link MessageCodec} or {@link Function handler} is {@literal null}.
+   */
+  protected SocketServer(int port, @NotNull MessageCodec<T> codec, @NotNull Function<? super T, ? extends T> handler) {
+
+    Assert.isTrue(port >= ServicePort.MIN_PORT && port <= ServicePort.MAX_PORT,
+      "Port [%1$d] must be greater than equal to %2$d and less than equal to %3$d",
+        port, ServicePort.MIN_PORT, ServicePort.MAX_PORT);
+
+    Assert.notNull(codec, "MessageCodec is required");
+    Assert.notNull(handler, "Message handler is required");
+
+    this.port = port;
+    this.codec = codec;
+    this.handler = handler;
+  }
+
+  /**
+   * Returns the number of connections currently open.
+   *
+   * @return the number of connections currently open.
+   */
+  public int getActiveConnectionCount() {
+    return this.activeConnectionCount.get();
+  }
+
+  /**
+   * Returns the {@link MessageCodec} used to frame {@link Object messages}.
+   *
+   * @return the {@link MessageCodec} used to frame {@link Object messages}.
+   * @see org.cp.elements.tools.net.support.MessageCodec
+   */
+  protected @NotNull MessageCodec<T> getCodec() {
+    return this.codec;
+  }
+
+  /**
+   * Returns the total number of connections accepted by this server.
+   *
+   * @return the total number of connections accepted by this server.
+   */
+  public long getConnectionCount() {
+    return this.connectionCount.get();
+  }
+
+  /**
+   * Returns the total number of {@link Object messages} received by this server.
+   *
+   * @return the total number of {@link Object messages} received by this server.
+   */
+  public long getMessageCount() {
+    return this.messageCount.get();
+  }
+
+  /**
+   * Returns the port on which this server listens for connections.
+   * <p>
+   * Once started, returns the port to which this server is bound, which is the ephemeral port selected
+   * by the system when this server was configured with port {@literal 0}.
+   *
+   * @return the port on which this server listens for connections.
+   */
+  public int getPort() {
+
+    ServerSocketChannel serverSocketChannel = this.serverSocketChannel;
+
+    if (serverSocketChannel != null) {
+      try {
+        if (serverSocketChannel.getLocalAddress() instanceof InetSocketAddress localAddress) {
+          return localAddress.getPort();
+        }
+      }
+      catch (IOException ignore) {
+        // The ServerSocketChannel was closed
+      }
+    }
+
+    return this.port;
+  }
+
+  /**
+   * Determines whether this server is running and accepting connections.
+   *
+   * @return a boolean value indicating whether this server is running.
+   */
+  public boolean isRunning() {
+
+    ServerSocketChannel serverSocketChannel = this.serverSocketChannel;
+
+    return serverSocketChannel != null && serverSocketChannel.isOpen();
+  }
+
+  /**
+   * Starts this server, binding to the configured port and accepting connections.
+   * <p>
+   * Starting a running server has no effect.
+   *
+   * @return this {@link SocketServer}.
+   * @throws RuntimeException if this server could not be bound to the configured port.
+   * @see #serve(ServerSocketChannel)
+   * @see #stop()
+   */
+  public synchronized @NotNull SocketServer<T> start() {
+
+    if (!isRunning()) {
+
+      ServerSocketChannel serverSocketChannel = null;
+
+      try {
+        serverSocketChannel = ServerSocketChannel.open();
+        serverSocketChannel.setOption(StandardSocketOptions.SO_REUSEADDR, DEFAULT_REUSE_ADDRESS);
+        serverSocketChannel.bind(newSocketAddress(this.port));
+
+        this.serverSocketChannel = serverSocketChannel;
+
+        serve(serverSocketChannel);
+
+        getLogger().info(() -> String.format("%1$s running on port [%2$d]", getClass().getSimpleName(), getPort()));
+      }
+      catch (IOException cause) {
+        IOUtils.close(serverSocketChannel);
+        this.serverSocketChannel = null;
+        throw newRuntimeException(cause, "Failed to start %1$s on port [%2$d]", getClass().getSimpleName(), this.port);
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Serves connections accepted on the given, bound {@link ServerSocketChannel}.
+   * <p>
+   * Implementations must return without blocking, serving connections from other {@link Thread Threads}.
+   *
+   * @param serverSocketChannel bound {@link ServerSocketChannel} accepting connections.
+   * @throws IOException if an I/O error occurs while preparing to serve connections.
+   * @see java.nio.channels.ServerSocketChannel
+   */
+  protected abstract void serve(@NotNull ServerSocketChannel serverSocketChannel) throws IOException;
+
+  /**
+   * Stops this server, closing the {@link ServerSocketChannel} and all open connections.
+   * <p>
+   * Stopping a server that is not running has no effect.
+   *
+   * @see #stopServing()
+   * @see #start()
+   */
+  public synchronized void stop() {
+
+    ServerSocketChannel serverSocketChannel = this.serverSocketChannel;
+
+    if (serverSocketChannel != null) {
+
+      getLogger().info(() -> String.format("Stopping %s...", getClass().getSimpleName()));
+
+      IOUtils.close(serverSocketChannel);
+      stopServing();
+
+      this.serverSocketChannel = null;
+
+      getLogger().info(() -> String.format("%s stopped", getClass().getSimpleName()));
+    }
+  }
+
+  /**
+   * Stops serving connections, closing all open connections.
+   *
+   * @see #stop()
+   */
+  protected abstract void stopServing();
+
+  /**
+   * Stops this server.
+   *
+   * @see #stop()
+   */
+  @Override
+  public void close() {
+    stop();
+  }
+
+  /**
+   * Configures and records the newly accepted {@link SocketChannel connection}.
+   *
+   * @param connection newly accepted {@link SocketChannel}.
+   * @throws IOException if the {@link SocketChannel connection} could not be configured.
+   * @see #connectionClosed(SocketChannel)
+   */
+  protected void connectionOpened(@NotNull SocketChannel connection) throws IOException {
+
+    connection.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+    this.activeConnectionCount.incrementAndGet();
+    this.connectionCount.incrementAndGet();
+
+    getLogger().fine(() -> String.format("Client connected from [%s]", remoteAddress(connection)));
+  }
+
+  /**
+   * Closes and records the closed {@link SocketChannel connection}.
+   *
+   * @param connection {@link SocketChannel} to close.
+   * @see #connectionOpened(SocketChannel)
+   */
+  protected void connectionClosed(@NotNull SocketChannel connection) {
+
+    getLogger().fine(() -> String.format("Client disconnected from [%s]", remoteAddress(connection)));
+
+    IOUtils.close(connection);
+
+    this.activeConnectionCount.decrementAndGet();
+  }
+
+  /**
+   * Logs the failure to serve the given {@link SocketChannel connection} while this server is running.
+   *
+   * @param connection {@link SocketChannel} that failed.
+   * @param cause {@link Throwable} causing the failure.
+   */
+  protected void connectionFailed(@Nullable SocketChannel connection, @NotNull Throwable cause) {
+
+    if (isRunning()) {
+      getLogger().warning(() -> String.format("Failed to serve client [%1$s]: %2$s",
+        remoteAddress(connection), cause.getMessage()));
+
+      getLogger().fine(() -> ThrowableUtils.getStackTrace(cause));
+    }
+  }
+
+  private @Nullable Object remoteAddress(@Nullable SocketChannel connection) {
+
+    try {
+      return connection != null ? connection.getRemoteAddress() : null;
+    }
+    catch (IOException ignore) {
+      return null;
+    }
+  }
+
+  /**
+   * Decodes and handles all complete {@link Object messages} received in the given {@link ByteBuffer},
+   * adding the encoded responses to the given {@link Queue}.
+   * <p>
+   * The {@link ByteBuffer} is expected in, and left in, {@literal write mode}, retaining the bytes of any incomplete
+   * {@link Object message}. When the {@link ByteBuffer} is full, a larger {@link ByteBuffer} is returned, up to
+   * the {@link MessageCodec#getMaxMessageLength() maximum message length} of the {@link MessageCodec}.
+   *
+   * @param buffer {@link ByteBuffer} containing the bytes received.
+   * @param responses {@link Queue} of encoded responses to send to the client.
+   * @return the {@link ByteBuffer} to receive subsequent bytes.
+   * @throws IOException if the bytes received are not a valid {@link Object message}.
+   * @see MessageCodec#decode(ByteBuffer)
+   * @see #handle(Object)
+   */
+  protected @NotNull ByteBuffer receive(@NotNull ByteBuffer buffer, @NotNull Queue<ByteBuffer> responses)
+      throws IOException {
+
+    MessageCodec<T> codec = getCodec();
+
+    buffer.flip();
+
+    for (T message = codec.decode(buffer); message != null; message = codec.decode(buffer)) {
+
+      T response = handle(message);
+
+      if (response != null) {
+        responses.add(codec.encode(response));
+      }
+    }
+
+    buffer.compact();
+
+    if (!buffer.hasRemaining()) {
+      int capacity = Math.min(buffer.capacity() * 2, Math.max(codec.getMaxMessageLength(), buffer.capacity() + 1));
+      buffer = ByteBuffer.allocate(capacity).put(buffer.flip());
+    }
+
+    return buffer;
+  }
+
+  /**
+   * Handles the given {@link Object message} received from a client.
+   *
+   * @param message {@link Object message} received from a client.
+   * @return the {@link Object response} to send to the client, or {@literal null} to send no response.
+   */
+  protected @Nullable T handle(@NotNull T message) {
+    this.messageCount.incrementAndGet();
+    return this.handler.apply(message);
+  }
+}
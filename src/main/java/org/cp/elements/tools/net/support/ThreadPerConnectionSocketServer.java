@@ -0,0 +1,167 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.tools.net.support;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+import org.cp.elements.io.IOUtils;
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.lang.concurrent.VirtualThreadFactory;
+
+/**
+ * {@link SocketServer} implementation serving each connection with a dedicated {@link Thread} using blocking I/O.
+ * <p>
+ * By default, {@link Thread Threads} are {@literal virtual} {@link Thread Threads} created by
+ * the {@link VirtualThreadFactory}, so that the number of concurrent connections is not bounded by
+ * the size of a {@link Thread} pool, yet each connection is served with simple, sequential, blocking code.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of {@link Object messages} exchanged with clients.
+ * @see java.util.concurrent.ThreadFactory
+ * @see org.cp.elements.lang.concurrent.VirtualThreadFactory
+ * @see org.cp.elements.tools.net.support.SocketServer
+ * @since 3.0.0
+ */
+public class ThreadPerConnectionSocketServer<T> extends SocketServer<T> {
+
+  private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+
+  private final ThreadFactory threadFactory;
+
+  /**
+   * Constructs a new {@link ThreadPerConnectionSocketServer} serving each connection with
+   * a new {@literal virtual} {@link Thread}.
+   *
+   * @param port {@link Integer} specifying the port on which the server listens for connections;
+   * {@literal 0} selects an available, ephemeral port.
+   * @param codec {@link MessageCodec} used to frame {@link Object messages}; must not be {@literal null}.
+   * @param handler {@link Function} processing {@link Object messages}; must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@code port} is not valid,
+   * or the {@link MessageCodec} or {@link Function handler} is {@literal null}.
+   * @see #ThreadPerConnectionSocketServer(int, MessageCodec, Function, ThreadFactory)
+   */
+  public ThreadPerConnectionSocketServer(int port, @NotNull MessageCodec<T> codec,
+      @NotNull Function<? super T, ? extends T> handler) {
+
+    this(port, codec, handler, VirtualThreadFactory.newThreadFactory());
+  }
+
+  /**
+   * Constructs a new {@link ThreadPerConnectionSocketServer} serving each connection with a new {@link Thread}
+   * created by the given {@link ThreadFactory}.
+   *
+   * @param port {@link Integer} specifying the port on which the server listens for connections;
+   * {@literal 0} selects an available, ephemeral port.
+   * @param codec {@link MessageCodec} used to frame {@link Object messages}; must not be {@literal null}.
+   * @param handler {@link Function} processing {@link Object messages}; must not be {@literal null}.
+   * @param threadFactory {@link ThreadFactory} creating the {@link Thread Threads} serving connections;
+   * must not be {@literal null}.
+   * @throws IllegalArgumentException if the {@code port} is not valid, or the {@link MessageCodec},
+   * {@link Function handler} or {@link ThreadFactory} is {@literal null}.
+   */
+  public ThreadPerConnectionSocketServer(int port, @NotNull MessageCodec<T> codec,
+      @NotNull Function<? super T, ? extends T> handler, @NotNull ThreadFactory threadFactory) {
+
+    super(port, codec, handler);
+
+    Assert.notNull(threadFactory, "ThreadFactory is required");
+
+    this.threadFactory = threadFactory;
+  }
+
+  /**
+   * Returns the {@link ThreadFactory} creating the {@link Thread Threads} serving connections.
+   *
+   * @return the {@link ThreadFactory} creating the {@link Thread Threads} serving connections.
+   * @see java.util.concurrent.ThreadFactory
+   */
+  protected @NotNull ThreadFactory getThreadFactory() {
+    return this.threadFactory;
+  }
+
+  @Override
+  protected void serve(@NotNull ServerSocketChannel serverSocketChannel) {
+
+    Thread acceptor = getThreadFactory().newThread(() -> accept(serverSocketChannel));
+
+    acceptor.setName(String.format("%1$s.ACCEPTOR-%2$d", getClass().getSimpleName(), getPort()));
+    acceptor.start();
+  }
+
+  private void accept(@NotNull ServerSocketChannel serverSocketChannel) {
+
+    while (serverSocketChannel.isOpen()) {
+      try {
+
+        SocketChannel connection = serverSocketChannel.accept();
+
+        this.connections.add(connection);
+        connectionOpened(connection);
+        getThreadFactory().newThread(() -> serve(connection)).start();
+      }
+      catch (ClosedChannelException ignore) {
+        // The server was stopped
+      }
+      catch (IOException cause) {
+        connectionFailed(null, cause);
+      }
+    }
+  }
+
+  private void serve(@NotNull SocketChannel connection) {
+
+    Queue<ByteBuffer> responses = new ArrayDeque<>();
+
+    try {
+
+      ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+
+      while (connection.read(buffer) > -1) {
+
+        buffer = receive(buffer, responses);
+
+        for (ByteBuffer response = responses.poll(); response != null; response = responses.poll()) {
+          while (response.hasRemaining()) {
+            connection.write(response);
+          }
+        }
+      }
+    }
+    catch (IOException | RuntimeException cause) {
+      connectionFailed(connection, cause);
+    }
+    finally {
+      this.connections.remove(connection);
+      connectionClosed(connection);
+    }
+  }
+
+  @Override
+  protected void stopServing() {
+    this.connections.forEach(IOUtils::close);
+  }
+}
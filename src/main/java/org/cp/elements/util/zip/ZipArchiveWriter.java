@@ -0,0 +1,332 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.util.zip;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+
+import org.cp.elements.lang.Assert;
+import org.cp.elements.lang.annotation.NotNull;
+
+/**
+ * Writes a ZIP archive from {@link ZipEntry entries} whose contents have already been
+ * {@link ZipEntry#DEFLATED deflated} or are {@link ZipEntry#STORED stored} as is.
+ * <p>
+ * Unlike {@link java.util.zip.ZipOutputStream}, which compresses the data written to it, this writer copies
+ * the (compressed) data of each entry verbatim, allowing entries to be compressed concurrently before
+ * they are appended to the archive in order. ZIP64 extensions are written when an entry, the archive
+ * or the number of entries exceed the limits of the original ZIP format.
+ *
+ * @author John Blum
+ * @see java.util.zip.ZipEntry
+ * @see <a href="https://pkware.cachefly.net/webdocs/casestudies/APPNOTE.TXT">ZIP File Format Specification</a>
+ * @since 3.0.0
+ */
+class ZipArchiveWriter implements Closeable {
+
+  private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+  private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+
+  private static final int UTF8_NAME_FLAG = 0x0800;
+  private static final int VERSION = 20;
+  private static final int ZIP64_VERSION = 45;
+  private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+
+  private static final int MAX_16_BIT_VALUE = 0xFFFF;
+  private static final long MAX_32_BIT_VALUE = 0xFFFFFFFFL;
+
+  private final List<CentralDirectoryEntry> entries = new ArrayList<>();
+
+  private long offset;
+
+  private final OutputStream out;
+
+  /**
+   * Constructs a new {@link ZipArchiveWriter} writing the ZIP archive to the given {@link File}.
+   *
+   * @param zip {@link File} to write the ZIP archive to; must not be {@literal null}.
+   * @throws IOException if the {@link File} cannot be opened for writing.
+   */
+  ZipArchiveWriter(@NotNull File zip) throws IOException {
+    Assert.notNull(zip, "ZIP file is required");
+    this.out = new BufferedOutputStream(new FileOutputStream(zip, false), 65536);
+  }
+
+  /**
+   * Writes an entry with the given metadata to the ZIP archive.
+   * <p>
+   * The {@link EntryData} must write exactly {@code compressedSize} bytes.
+   *
+   * @param name {@link String} containing the name of the entry.
+   * @param time {@link Long} containing the last modified time of the entry in milliseconds since the epoch.
+   * @param method either {@link ZipEntry#DEFLATED} or {@link ZipEntry#STORED}.
+   * @param crc {@link Long} containing the CRC-32 of the uncompressed data.
+   * @param size {@link Long} specifying the size of the uncompressed data.
+   * @param compressedSize {@link Long} specifying the size of the (compressed) data.
+   * @param data {@link EntryData} writing the (compressed) data of the entry.
+   * @throws IOException if an I/O error occurs while writing the entry.
+   */
+  void write(@NotNull String name, long time, int method, long crc, long size, long compressedSize,
+      @NotNull EntryData data) throws IOException {
+
+    byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+
+    boolean zip64 = size >= MAX_32_BIT_VALUE || compressedSize >= MAX_32_BIT_VALUE;
+
+    CentralDirectoryEntry entry = new CentralDirectoryEntry(nameBytes, toDosTime(time), method, crc, size,
+      compressedSize, this.offset);
+
+    ByteBuffer header = newBuffer(30 + nameBytes.length + (zip64 ? 20 : 0));
+
+    header.putInt(LOCAL_FILE_HEADER_SIGNATURE)
+      .putShort((short) (zip64 ? ZIP64_VERSION : VERSION))
+      .putShort((short) UTF8_NAME_FLAG)
+      .putShort((short) method)
+      .putInt((int) entry.dosTime)
+      .putInt((int) crc)
+      .putInt((int) (zip64 ? MAX_32_BIT_VALUE : compressedSize))
+      .putInt((int) (zip64 ? MAX_32_BIT_VALUE : size))
+      .putShort((short) nameBytes.length)
+      .putShort((short) (zip64 ? 20 : 0))
+      .put(nameBytes);
+
+    if (zip64) {
+      header.putShort((short) ZIP64_EXTRA_FIELD_ID)
+        .putShort((short) 16)
+        .putLong(size)
+        .putLong(compressedSize);
+    }
+
+    writeBuffer(header);
+
+    CountingOutputStream dataOutputStream = new CountingOutputStream(this.out);
+
+    data.writeTo(dataOutputStream);
+
+    if (dataOutputStream.count != compressedSize) {
+      throw new IOException(String.format("Entry [%1$s] was [%2$d] bytes; expected [%3$d]",
+        name, dataOutputStream.count, compressedSize));
+    }
+
+    this.offset += compressedSize;
+    this.entries.add(entry);
+  }
+
+  /**
+   * Writes the central directory and closes the ZIP archive.
+   *
+   * @throws IOException if an I/O error occurs while writing the central directory.
+   */
+  @Override
+  public void close() throws IOException {
+
+    try (this.out) {
+
+      long centralDirectoryOffset = this.offset;
+
+      for (CentralDirectoryEntry entry : this.entries) {
+        writeBuffer(entry.toCentralDirectoryHeader());
+      }
+
+      long centralDirectorySize = this.offset - centralDirectoryOffset;
+      int entryCount = this.entries.size();
+
+      boolean zip64 = entryCount >= MAX_16_BIT_VALUE
+        || centralDirectoryOffset >= MAX_32_BIT_VALUE
+        || centralDirectorySize >= MAX_32_BIT_VALUE;
+
+      if (zip64) {
+
+        long zip64EndOfCentralDirectoryOffset = this.offset;
+
+        writeBuffer(newBuffer(56)
+          .putInt(ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE)
+          .putLong(44L)
+          .putShort((short) ZIP64_VERSION)
+          .putShort((short) ZIP64_VERSION)
+          .putInt(0)
+          .putInt(0)
+          .putLong(entryCount)
+          .putLong(entryCount)
+          .putLong(centralDirectorySize)
+          .putLong(centralDirectoryOffset));
+
+        writeBuffer(newBuffer(20)
+          .putInt(ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE)
+          .putInt(0)
+          .putLong(zip64EndOfCentralDirectoryOffset)
+          .putInt(1));
+      }
+
+      writeBuffer(newBuffer(22)
+        .putInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE)
+        .putShort((short) 0)
+        .putShort((short) 0)
+        .putShort((short) Math.min(entryCount, MAX_16_BIT_VALUE))
+        .putShort((short) Math.min(entryCount, MAX_16_BIT_VALUE))
+        .putInt((int) Math.min(centralDirectorySize, MAX_32_BIT_VALUE))
+        .putInt((int) Math.min(centralDirectoryOffset, MAX_32_BIT_VALUE))
+        .putShort((short) 0));
+    }
+  }
+
+  private static @NotNull ByteBuffer newBuffer(int capacity) {
+    return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private void writeBuffer(@NotNull ByteBuffer buffer) throws IOException {
+    this.out.write(buffer.array(), 0, buffer.position());
+    this.offset += buffer.position();
+  }
+
+  static long toDosTime(long time) {
+
+    LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+
+    if (dateTime.getYear() < 1980) {
+      return (1 << 21) | (1 << 16);
+    }
+
+    return (long) (dateTime.getYear() - 1980) << 25
+      | (long) dateTime.getMonthValue() << 21
+      | (long) dateTime.getDayOfMonth() << 16
+      | (long) dateTime.getHour() << 11
+      | (long) dateTime.getMinute() << 5
+      | (long) dateTime.getSecond() >> 1;
+  }
+
+  /**
+   * Writes the (compressed) data of an entry.
+   */
+  @FunctionalInterface
+  interface EntryData {
+    void writeTo(@NotNull OutputStream out) throws IOException;
+  }
+
+  private static class CentralDirectoryEntry {
+
+    private final byte[] name;
+
+    private final int method;
+
+    private final long compressedSize;
+    private final long crc;
+    private final long dosTime;
+    private final long offset;
+    private final long size;
+
+    private CentralDirectoryEntry(byte[] name, long dosTime, int method, long crc, long size, long compressedSize,
+        long offset) {
+
+      this.name = name;
+      this.dosTime = dosTime;
+      this.method = method;
+      this.crc = crc;
+      this.size = size;
+      this.compressedSize = compressedSize;
+      this.offset = offset;
+    }
+
+    private @NotNull ByteBuffer toCentralDirectoryHeader() {
+
+      boolean zip64Size = this.size >= MAX_32_BIT_VALUE;
+      boolean zip64CompressedSize = this.compressedSize >= MAX_32_BIT_VALUE;
+      boolean zip64Offset = this.offset >= MAX_32_BIT_VALUE;
+
+      int zip64DataSize = (zip64Size ? 8 : 0) + (zip64CompressedSize ? 8 : 0) + (zip64Offset ? 8 : 0);
+      int extraLength = zip64DataSize > 0 ? 4 + zip64DataSize : 0;
+      int version = zip64DataSize > 0 ? ZIP64_VERSION : VERSION;
+
+      ByteBuffer header = newBuffer(46 + this.name.length + extraLength);
+
+      header.putInt(CENTRAL_DIRECTORY_HEADER_SIGNATURE)
+        .putShort((short) version)
+        .putShort((short) version)
+        .putShort((short) UTF8_NAME_FLAG)
+        .putShort((short) this.method)
+        .putInt((int) this.dosTime)
+        .putInt((int) this.crc)
+        .putInt((int) Math.min(this.compressedSize, MAX_32_BIT_VALUE))
+        .putInt((int) Math.min(this.size, MAX_32_BIT_VALUE))
+        .putShort((short) this.name.length)
+        .putShort((short) extraLength)
+        .putShort((short) 0)
+        .putShort((short) 0)
+        .putShort((short) 0)
+        .putInt(0)
+        .putInt((int) Math.min(this.offset, MAX_32_BIT_VALUE))
+        .put(this.name);
+
+      if (zip64DataSize > 0) {
+
+        header.putShort((short) ZIP64_EXTRA_FIELD_ID).putShort((short) zip64DataSize);
+
+        if (zip64Size) {
+          header.putLong(this.size);
+        }
+
+        if (zip64CompressedSize) {
+          header.putLong(this.compressedSize);
+        }
+
+        if (zip64Offset) {
+          header.putLong(this.offset);
+        }
+      }
+
+      return header;
+    }
+  }
+
+  private static class CountingOutputStream extends OutputStream {
+
+    private long count;
+
+    private final OutputStream delegate;
+
+    private CountingOutputStream(OutputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void write(int byteValue) throws IOException {
+      this.delegate.write(byteValue);
+      this.count++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+      this.delegate.write(bytes, offset, length);
+      this.count += length;
+    }
+  }
+}
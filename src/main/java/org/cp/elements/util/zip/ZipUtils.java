@@ -18,20 +18,51 @@ package org.cp.elements.util.zip;
 import static java.util.Arrays.stream;
 import static org.cp.elements.lang.ElementsExceptionsFactory.newSystemException;
 
+import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
 
+import org.cp.elements.io.ComposableFileFilter;
 import org.cp.elements.io.FileUtils;
+import org.cp.elements.io.FileWalker;
 import org.cp.elements.io.IOUtils;
+import org.cp.elements.io.support.ArchiveAndCompressedFileExtensionsFilter;
+import org.cp.elements.io.support.CompressedFileExtensionsFilter;
 import org.cp.elements.lang.Assert;
 import org.cp.elements.lang.StringUtils;
+import org.cp.elements.lang.annotation.NotNull;
+import org.cp.elements.nio.ChainedByteBufferOutputStream;
 import org.cp.elements.util.SystemException;
 
 /**
@@ -41,6 +72,7 @@ import org.cp.elements.util.SystemException;
  * @see java.io.File
  * @see java.util.zip.ZipEntry
  * @see java.util.zip.ZipFile
+ * @see java.util.concurrent.ExecutorService
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
@@ -48,6 +80,12 @@ public abstract class ZipUtils {
 
   public static final String ZIP_FILE_EXTENSION = ".zip";
 
+  protected static final int BUFFER_SIZE = 65536;
+  protected static final int IN_MEMORY_ENTRY_SIZE_THRESHOLD = 8 * 1024 * 1024;
+
+  protected static final FileFilter STORED_FILE_FILTER =
+    ComposableFileFilter.or(new CompressedFileExtensionsFilter(), new ArchiveAndCompressedFileExtensionsFilter());
+
   /**
    * Constructs a new {@link ZipEntry} from the given {@link File}.
    *
@@ -160,6 +198,139 @@ public abstract class ZipUtils {
     }
   }
 
+  /**
+   * Unzips the given {@link File ZIP file} to the specified {@link File directory}, extracting the entries
+   * concurrently using the given {@link ExecutorService}.
+   * <p>
+   * All entries are read from a single, shared {@link ZipFile}. Existing {@link File files} are overwritten.
+   * Entries resolving to a path outside the {@link File directory} are rejected.
+   *
+   * @param zip {@link File ZIP file} to unzip.
+   * @param directory {@link File} referring to the file system path location in which to
+   * unzip the {@link File ZIP file}.
+   * @param executor {@link ExecutorService} used to extract the entries; must not be {@literal null}.
+   * @throws IllegalArgumentException if {@link File ZIP file} or {@link ExecutorService} is {@literal null},
+   * or the specified {@link File directory} is not a valid directory.
+   * @throws IOException if an IO error occurs while reading the {@link File ZIP file}.
+   * @throws SystemException if the {@link File ZIP file} could not be read or its contents unzipped.
+   * @see #unzip(File, File)
+   * @see java.util.concurrent.ExecutorService
+   * @see java.util.zip.ZipFile
+   */
+  public static void unzip(File zip, File directory, ExecutorService executor) throws IOException {
+
+    Assert.notNull(zip, "ZIP file is required");
+    Assert.isTrue(FileUtils.createDirectory(directory), String.format("[%s] is not a valid directory", directory));
+    Assert.notNull(executor, "ExecutorService is required");
+
+    Path targetDirectory = directory.toPath().toAbsolutePath().normalize();
+
+    // Extractions read the shared ZipFile under the read lock; the write lock is taken before the ZipFile is closed.
+    ReadWriteLock zipFileLock = new ReentrantReadWriteLock();
+
+    try (ZipFile zipFile = new ZipFile(zip, ZipFile.OPEN_READ)) {
+
+      List<Future<?>> extractions = new ArrayList<>();
+
+      try {
+        for (Enumeration<? extends ZipEntry> zipEntries = zipFile.entries(); zipEntries.hasMoreElements(); ) {
+
+          ZipEntry zipEntry = zipEntries.nextElement();
+          Path zipEntryPath = resolveZipEntryPath(targetDirectory, zipEntry);
+
+          if (zipEntry.isDirectory()) {
+            Files.createDirectories(zipEntryPath);
+          }
+          else {
+            extractions.add(executor.submit(() ->
+              extract(zipFile, zipEntry, zipEntryPath, zipFileLock.readLock())));
+          }
+        }
+
+        for (Future<?> extraction : extractions) {
+          await(extraction, zip);
+        }
+      }
+      finally {
+        extractions.forEach(extraction -> extraction.cancel(true));
+
+        // Waits for extractions still running despite cancellation. The write lock is never released,
+        // so that no extraction can start reading the ZipFile once it is closed.
+        zipFileLock.writeLock().lock();
+      }
+    }
+  }
+
+  private static @NotNull Path resolveZipEntryPath(@NotNull Path directory, @NotNull ZipEntry zipEntry) {
+
+    Path zipEntryPath = directory.resolve(zipEntry.getName()).normalize();
+
+    if (!zipEntryPath.startsWith(directory)) {
+      throw newSystemException("ZIP entry [%1$s] resolves outside of directory [%2$s]", zipEntry.getName(), directory);
+    }
+
+    return zipEntryPath;
+  }
+
+  private static void extract(@NotNull ZipFile zipFile, @NotNull ZipEntry zipEntry, @NotNull Path zipEntryPath,
+      @NotNull Lock zipFileLock) {
+
+    if (zipFileLock.tryLock()) {
+      try {
+        extract(zipFile, zipEntry, zipEntryPath);
+      }
+      finally {
+        zipFileLock.unlock();
+      }
+    }
+  }
+
+  private static void extract(@NotNull ZipFile zipFile, @NotNull ZipEntry zipEntry, @NotNull Path zipEntryPath) {
+
+    try {
+
+      Files.createDirectories(zipEntryPath.getParent());
+
+      try (InputStream in = zipFile.getInputStream(zipEntry); OutputStream out = Files.newOutputStream(zipEntryPath)) {
+        IOUtils.copy(in, out, BUFFER_SIZE);
+      }
+
+      if (zipEntry.getTime() > -1L) {
+        zipEntryPath.toFile().setLastModified(zipEntry.getTime());
+      }
+    }
+    catch (IOException cause) {
+      throw newSystemException(cause, "Failed to unzip entry [%s]", zipEntry.getName());
+    }
+  }
+
+  private static <T> T await(@NotNull Future<T> future, @NotNull File zip) throws IOException {
+
+    try {
+      return future.get();
+    }
+    catch (InterruptedException cause) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(String.format("Interrupted while processing ZIP file [%s]", zip));
+    }
+    catch (ExecutionException cause) {
+
+      Throwable resolvedCause = cause.getCause();
+
+      if (resolvedCause instanceof IOException ioException) {
+        throw ioException;
+      }
+      else if (resolvedCause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      else if (resolvedCause instanceof Error error) {
+        throw error;
+      }
+
+      throw newSystemException(resolvedCause, "Failed to process ZIP file [%s]", zip);
+    }
+  }
+
   /**
    * Zips the contents of the specified {@link File directory}.
    *
@@ -188,6 +359,152 @@ public abstract class ZipUtils {
     return zip;
   }
 
+  /**
+   * Zips the contents of the specified {@link File directory}, compressing the {@link File files}
+   * concurrently using the given {@link ExecutorService}.
+   * <p>
+   * Each {@link File} is {@link ZipEntry#DEFLATED deflated} by a task into a temporary buffer, or a temporary
+   * {@link File} when larger than {@literal 8 MB}, and the compressed entries are appended to
+   * the {@link File ZIP file} in order as they complete. Already compressed {@link File files}, such as
+   * {@literal .gz} or {@literal .jar} files, are {@link ZipEntry#STORED stored} without compression.
+   * The number of compressed entries waiting to be appended is bounded to limit memory use.
+   *
+   * @param directory {@link File} referring to the file system path/location containing the contents to zip.
+   * @param executor {@link ExecutorService} used to compress the {@link File files}; must not be {@literal null}.
+   * @return a {@link File ZIP file} containing the compressed contents of the specified {@link File directory}.
+   * @throws IllegalArgumentException if {@link File directory} is not a valid directory
+   * or the {@link ExecutorService} is {@literal null}.
+   * @throws IllegalStateException if the {@link File ZIP file } could not be created/initialized.
+   * @throws IOException if the contents of the specified {@link File directory} could not be zipped.
+   * @see #zip(File)
+   * @see java.util.concurrent.ExecutorService
+   */
+  public static File zip(File directory, ExecutorService executor) throws IOException {
+
+    Assert.isTrue(FileUtils.isDirectory(directory), "[%s] is not a valid directory", directory);
+    Assert.notNull(executor, "ExecutorService is required");
+
+    File zip = new File(directory.getParent(), directory.getName().concat(ZIP_FILE_EXTENSION));
+
+    Assert.state(zip.createNewFile(), "Failed to create new ZIP file [%s]", zip);
+
+    Path zipDirectory = directory.toPath();
+
+    int maxPendingEntries = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
+    Deque<Future<CompressedEntry>> pendingEntries = new ArrayDeque<>();
+
+    try (ZipArchiveWriter writer = new ZipArchiveWriter(zip);
+         Stream<File> files = FileWalker.walk(directory).stream()) {
+
+      try {
+        for (Iterator<File> iterator = files.iterator(); iterator.hasNext(); ) {
+
+          File file = iterator.next();
+          String zipEntryName = resolveZipEntryName(zipDirectory, file.toPath());
+
+          pendingEntries.add(executor.submit(() -> compress(zipEntryName, file)));
+
+          if (pendingEntries.size() >= maxPendingEntries) {
+            await(pendingEntries.poll(), zip).writeTo(writer);
+          }
+        }
+
+        while (!pendingEntries.isEmpty()) {
+          await(pendingEntries.poll(), zip).writeTo(writer);
+        }
+      }
+      finally {
+        pendingEntries.forEach(ZipUtils::discard);
+      }
+    }
+    catch (IOException | RuntimeException cause) {
+      FileUtils.delete(zip);
+      throw cause;
+    }
+
+    return zip;
+  }
+
+  private static @NotNull String resolveZipEntryName(@NotNull Path zipDirectory, @NotNull Path file) {
+
+    String relativePath = zipDirectory.relativize(file).toString().replace(File.separatorChar, '/');
+
+    return zipDirectory.getFileName() + "/" + relativePath;
+  }
+
+  private static @NotNull CompressedEntry compress(@NotNull String name, @NotNull File file) throws IOException {
+
+    long time = file.lastModified();
+
+    if (STORED_FILE_FILTER.accept(file)) {
+
+      CRC32 crc = new CRC32();
+
+      long size;
+
+      try (InputStream in = new CheckedInputStream(new FileInputStream(file), crc)) {
+        size = in.transferTo(OutputStream.nullOutputStream());
+      }
+
+      return new CompressedEntry(name, time, ZipEntry.STORED, crc.getValue(), size, size,
+        out -> Files.copy(file.toPath(), out), () -> {});
+    }
+
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+    try {
+      if (file.length() <= IN_MEMORY_ENTRY_SIZE_THRESHOLD) {
+
+        ChainedByteBufferOutputStream buffer = ChainedByteBufferOutputStream.create();
+
+        long crc = deflate(file, buffer, deflater);
+
+        return new CompressedEntry(name, time, ZipEntry.DEFLATED, crc, deflater.getBytesRead(),
+          deflater.getBytesWritten(), buffer::writeTo, buffer::release);
+      }
+      else {
+
+        File temporaryFile = File.createTempFile("elements-zip-entry", ".deflated");
+
+        temporaryFile.deleteOnExit();
+
+        long crc = deflate(file, new BufferedOutputStream(new FileOutputStream(temporaryFile), BUFFER_SIZE), deflater);
+
+        return new CompressedEntry(name, time, ZipEntry.DEFLATED, crc, deflater.getBytesRead(),
+          deflater.getBytesWritten(), out -> Files.copy(temporaryFile.toPath(), out),
+          () -> FileUtils.delete(temporaryFile));
+      }
+    }
+    finally {
+      deflater.end();
+    }
+  }
+
+  private static long deflate(@NotNull File file, @NotNull OutputStream target, @NotNull Deflater deflater)
+      throws IOException {
+
+    CRC32 crc = new CRC32();
+
+    try (InputStream in = new CheckedInputStream(new FileInputStream(file), crc);
+         OutputStream out = new DeflaterOutputStream(target, deflater, BUFFER_SIZE)) {
+
+      in.transferTo(out);
+    }
+
+    return crc.getValue();
+  }
+
+  private static void discard(@NotNull Future<CompressedEntry> pendingEntry) {
+
+    if (!pendingEntry.cancel(true) && pendingEntry.isDone()) {
+      try {
+        pendingEntry.get().release().run();
+      }
+      catch (Exception ignore) { }
+    }
+  }
+
   /**
    * Zips the contents of the specified {@link File directory} to the supplied {@link ZipOutputStream}.
    *
@@ -257,4 +574,18 @@ public abstract class ZipUtils {
 
     return outputStream;
   }
+
+  private record CompressedEntry(@NotNull String name, long time, int method, long crc, long size,
+      long compressedSize, @NotNull ZipArchiveWriter.EntryData data, @NotNull Runnable release) {
+
+    void writeTo(@NotNull ZipArchiveWriter writer) throws IOException {
+
+      try {
+        writer.write(name(), time(), method(), crc(), size(), compressedSize(), data());
+      }
+      finally {
+        release().run();
+      }
+    }
+  }
 }
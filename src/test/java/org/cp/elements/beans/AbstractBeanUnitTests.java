@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.fail;
 import static org.cp.elements.lang.LangExtensions.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
@@ -731,6 +732,179 @@ class AbstractBeanUnitTests {
     }
   }
 
+  @Test
+  void constructLightweightBean() {
+
+    LightweightValueHolder valueHolder = new LightweightValueHolder("test");
+
+    assertThat(valueHolder.getEventDispatchMode()).isEqualTo(AbstractBean.EventDispatchMode.LIGHTWEIGHT);
+    assertThat(valueHolder.isLightweight()).isTrue();
+    assertThat(valueHolder.isModified()).isFalse();
+    assertThat(valueHolder.isChangeBatchInProgress()).isFalse();
+    assertThat(new ValueHolder().getEventDispatchMode()).isEqualTo(AbstractBean.EventDispatchMode.STANDARD);
+  }
+
+  @Test
+  void constructBeanWithNullEventDispatchMode() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new LightweightValueHolder(null, null))
+      .withMessage("EventDispatchMode is required")
+      .withNoCause();
+  }
+
+  @Test
+  void lightweightBeanRecordsChanges() {
+
+    LightweightValueHolder valueHolder = new LightweightValueHolder("test");
+
+    valueHolder.setValue("mock");
+
+    assertThat(valueHolder.getValue()).isEqualTo("mock");
+    assertThat(valueHolder.isModified()).isTrue();
+    assertThat(valueHolder.isModified("value")).isTrue();
+    assertThat(valueHolder.isModified("id")).isFalse();
+
+    valueHolder.setValue("test");
+
+    assertThat(valueHolder.isModified()).isFalse();
+    assertThat(valueHolder.isModified("value")).isFalse();
+  }
+
+  @Test
+  void lightweightBeanFiresRegisteredEventListeners() throws PropertyVetoException {
+
+    ChangeListener mockChangeListener = mock(ChangeListener.class);
+
+    PropertyChangeListener mockPropertyChangeListener = mock(PropertyChangeListener.class);
+
+    VetoableChangeListener mockVetoableChangeListener = mock(VetoableChangeListener.class);
+
+    LightweightValueHolder valueHolder = new LightweightValueHolder("test");
+
+    valueHolder.register(mockChangeListener);
+    valueHolder.register(mockPropertyChangeListener);
+    valueHolder.register(mockVetoableChangeListener);
+    valueHolder.setValue("mock");
+
+    assertThat(valueHolder.getValue()).isEqualTo("mock");
+    assertThat(valueHolder.isModified("value")).isTrue();
+
+    verify(mockVetoableChangeListener, times(1)).vetoableChange(isA(PropertyChangeEvent.class));
+    verify(mockPropertyChangeListener, times(1)).propertyChange(isA(PropertyChangeEvent.class));
+    verify(mockChangeListener, times(1)).stateChanged(isA(ChangeEvent.class));
+
+    valueHolder.unregister(mockChangeListener);
+    valueHolder.unregister(mockPropertyChangeListener);
+    valueHolder.unregister(mockVetoableChangeListener);
+    valueHolder.setValue("test");
+
+    assertThat(valueHolder.isModified()).isFalse();
+
+    verifyNoMoreInteractions(mockChangeListener, mockPropertyChangeListener, mockVetoableChangeListener);
+  }
+
+  @Test
+  void unregisterListenersFromLightweightBeanWithNoListenersIsSafe() {
+
+    LightweightValueHolder valueHolder = new LightweightValueHolder("test");
+
+    valueHolder.unregister(mock(ChangeListener.class));
+    valueHolder.unregister(mock(PropertyChangeListener.class));
+    valueHolder.unregister("value", mock(PropertyChangeListener.class));
+    valueHolder.unregister(mock(VetoableChangeListener.class));
+    valueHolder.unregister("value", mock(VetoableChangeListener.class));
+
+    assertThat(valueHolder.unmapPropertyNameToFieldName("value")).isNull();
+    assertThat(valueHolder.unmapPropertyNameToStateChangeCallback("value")).isNull();
+    assertThat(valueHolder.getFieldName("value")).isEqualTo("value");
+  }
+
+  @Test
+  void changeBatchCoalescesPropertyChangeEvents() {
+
+    ChangeListener mockChangeListener = mock(ChangeListener.class);
+
+    PropertyChangeListener mockPropertyChangeListener = mock(PropertyChangeListener.class);
+
+    ValueHolder valueHolder = new ValueHolder("test");
+
+    valueHolder.register(mockChangeListener);
+    valueHolder.register("value", mockPropertyChangeListener);
+
+    try (AbstractBean.ChangeBatch batch = valueHolder.beginChangeBatch()) {
+
+      assertThat(batch.isOpen()).isTrue();
+      assertThat(valueHolder.isChangeBatchInProgress()).isTrue();
+
+      valueHolder.setValue("one");
+      valueHolder.setValue("two");
+      valueHolder.setValue("three");
+
+      assertThat(valueHolder.getValue()).isEqualTo("three");
+      assertThat(valueHolder.isModified("value")).isTrue();
+
+      verifyNoInteractions(mockChangeListener, mockPropertyChangeListener);
+    }
+
+    assertThat(valueHolder.isChangeBatchInProgress()).isFalse();
+
+    verify(mockPropertyChangeListener, times(1)).propertyChange(argThat(event ->
+      "value".equals(event.getPropertyName())
+        && "test".equals(event.getOldValue())
+        && "three".equals(event.getNewValue())));
+
+    verify(mockChangeListener, times(1)).stateChanged(isA(ChangeEvent.class));
+    verifyNoMoreInteractions(mockChangeListener, mockPropertyChangeListener);
+  }
+
+  @Test
+  void nestedChangeBatchDispatchesWhenOutermostBatchIsClosed() {
+
+    PropertyChangeListener mockPropertyChangeListener = mock(PropertyChangeListener.class);
+
+    LightweightValueHolder valueHolder = new LightweightValueHolder("test");
+
+    valueHolder.register(mockPropertyChangeListener);
+
+    try (AbstractBean.ChangeBatch outerBatch = valueHolder.beginChangeBatch()) {
+
+      try (AbstractBean.ChangeBatch innerBatch = valueHolder.beginChangeBatch()) {
+        assertThat(innerBatch).isSameAs(outerBatch);
+        valueHolder.setValue("mock");
+      }
+
+      assertThat(outerBatch.isOpen()).isTrue();
+      verifyNoInteractions(mockPropertyChangeListener);
+    }
+
+    verify(mockPropertyChangeListener, times(1)).propertyChange(isA(PropertyChangeEvent.class));
+    verifyNoMoreInteractions(mockPropertyChangeListener);
+  }
+
+  @Test
+  void changeBatchDoesNotDispatchRevertedChanges() {
+
+    ChangeListener mockChangeListener = mock(ChangeListener.class);
+
+    PropertyChangeListener mockPropertyChangeListener = mock(PropertyChangeListener.class);
+
+    LightweightValueHolder valueHolder = new LightweightValueHolder("test");
+
+    valueHolder.register(mockChangeListener);
+    valueHolder.register(mockPropertyChangeListener);
+
+    try (AbstractBean.ChangeBatch batch = valueHolder.beginChangeBatch()) {
+      valueHolder.setValue("mock");
+      valueHolder.setValue("test");
+    }
+
+    assertThat(valueHolder.getValue()).isEqualTo("test");
+    assertThat(valueHolder.isModified()).isFalse();
+
+    verifyNoInteractions(mockChangeListener, mockPropertyChangeListener);
+  }
+
   @Test
   @SuppressWarnings({ "all", "unchecked" })
   void compareToNonAbstractBean() {
@@ -914,4 +1088,27 @@ class AbstractBeanUnitTests {
       return String.format("ValueHolder [%s]", getValue());
     }
   }
+
+  @SuppressWarnings("unused")
+  private static class LightweightValueHolder extends AbstractBean<Integer, User<Long>, Object> {
+
+    private Object value;
+
+    public LightweightValueHolder(@Nullable Object value) {
+      this(value, EventDispatchMode.LIGHTWEIGHT);
+    }
+
+    public LightweightValueHolder(@Nullable Object value, EventDispatchMode eventDispatchMode) {
+      super(eventDispatchMode);
+      this.value = value;
+    }
+
+    public @Nullable Object getValue() {
+      return this.value;
+    }
+
+    public void setValue(@Nullable Object value) {
+      processChange("value", getValue(), value);
+    }
+  }
 }
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.beans.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.beans.event.AsyncChangeEventDispatcher.BackpressurePolicy;
+import org.cp.elements.beans.event.AsyncChangeEventDispatcher.Metrics;
+
+/**
+ * Unit Tests for {@link AsyncChangeEventDispatcher} and {@link AsyncChangeSupport}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.beans.event.AsyncChangeEventDispatcher
+ * @see org.cp.elements.beans.event.AsyncChangeSupport
+ * @since 3.0.0
+ */
+public class AsyncChangeEventDispatcherUnitTests {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  @Test
+  public void newDispatcherWithDefaultConfiguration() {
+
+    try (AsyncChangeEventDispatcher dispatcher = AsyncChangeEventDispatcher.newDispatcher()) {
+
+      assertThat(dispatcher.getBackpressurePolicy()).isEqualTo(BackpressurePolicy.BLOCK);
+      assertThat(dispatcher.getBufferCapacity()).isEqualTo(AsyncChangeEventDispatcher.DEFAULT_BUFFER_CAPACITY);
+      assertThat(dispatcher.getStripeCount()).isEqualTo(AsyncChangeEventDispatcher.DEFAULT_STRIPES);
+      assertThat(dispatcher.getThreadFactory()).isNotNull();
+      assertThat(dispatcher.getQueueDepth()).isZero();
+      assertThat(dispatcher.isRunning()).isTrue();
+      assertThat(dispatcher.isStarted()).isFalse();
+    }
+  }
+
+  @Test
+  public void configureWithInvalidArguments() {
+
+    try (AsyncChangeEventDispatcher dispatcher = AsyncChangeEventDispatcher.newDispatcher()) {
+
+      assertThatIllegalArgumentException()
+        .isThrownBy(() -> dispatcher.withBufferCapacity(0))
+        .withMessage("Buffer capacity [0] must be greater than 0")
+        .withNoCause();
+
+      assertThatIllegalArgumentException()
+        .isThrownBy(() -> dispatcher.withStripes(-1))
+        .withMessage("Stripes [-1] must be greater than 0")
+        .withNoCause();
+
+      assertThatIllegalArgumentException()
+        .isThrownBy(() -> dispatcher.withBackpressurePolicy(null))
+        .withMessage("BackpressurePolicy is required")
+        .withNoCause();
+
+      assertThatIllegalArgumentException()
+        .isThrownBy(() -> dispatcher.withThreadFactory(null))
+        .withMessage("ThreadFactory is required")
+        .withNoCause();
+    }
+  }
+
+  @Test
+  public void configureAfterStartThrowsIllegalStateException() {
+
+    try (AsyncChangeEventDispatcher dispatcher = AsyncChangeEventDispatcher.newDispatcher()) {
+
+      ChangeSupport changeSupport = new AsyncChangeSupport(new Object(), dispatcher);
+
+      changeSupport.register(event -> { });
+      changeSupport.fireChangeEvent();
+
+      assertThat(dispatcher.isStarted()).isTrue();
+
+      assertThatIllegalStateException()
+        .isThrownBy(() -> dispatcher.withStripes(2))
+        .withMessage("The configuration of a started AsyncChangeEventDispatcher cannot be changed")
+        .withNoCause();
+    }
+  }
+
+  @Test
+  public void constructAsyncChangeSupportWithNullDispatcher() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new AsyncChangeSupport(new Object(), null))
+      .withMessage("AsyncChangeEventDispatcher is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void dispatchesEventsAsynchronouslyInOrderPerSource() throws InterruptedException {
+
+    AsyncChangeEventDispatcher dispatcher = AsyncChangeEventDispatcher.newDispatcher()
+      .usingPlatformThreads()
+      .withStripes(2)
+      .withBufferCapacity(8);
+
+    int eventCount = 100;
+
+    List<ChangeEvent> publishedEvents = Collections.synchronizedList(new ArrayList<>());
+    List<ChangeEvent> deliveredEventsOne = Collections.synchronizedList(new ArrayList<>());
+    List<ChangeEvent> deliveredEventsTwo = Collections.synchronizedList(new ArrayList<>());
+
+    ChangeSupport changeSupportOne = newRecordingChangeSupport(dispatcher, publishedEvents);
+    ChangeSupport changeSupportTwo = newRecordingChangeSupport(dispatcher, publishedEvents);
+
+    AtomicReference<Thread> listenerThread = new AtomicReference<>();
+
+    changeSupportOne.register(event -> {
+      listenerThread.set(Thread.currentThread());
+      deliveredEventsOne.add(event);
+    });
+
+    changeSupportTwo.register(deliveredEventsTwo::add);
+
+    for (int count = 0; count < eventCount; count++) {
+      changeSupportOne.fireChangeEvent();
+      changeSupportTwo.fireChangeEvent();
+    }
+
+    dispatcher.shutdown();
+
+    assertThat(dispatcher.awaitTermination(TIMEOUT)).isTrue();
+    assertThat(deliveredEventsOne).hasSize(eventCount)
+      .containsExactlyElementsOf(publishedEvents.stream().filter(deliveredEventsOne::contains).toList());
+    assertThat(deliveredEventsTwo).hasSize(eventCount)
+      .containsExactlyElementsOf(publishedEvents.stream().filter(deliveredEventsTwo::contains).toList());
+    assertThat(listenerThread.get()).isNotNull().isNotSameAs(Thread.currentThread());
+
+    Metrics metrics = dispatcher.getMetrics();
+
+    assertThat(metrics.dispatchedEvents()).isEqualTo(2L * eventCount);
+    assertThat(metrics.listenerInvocations()).isEqualTo(2L * eventCount);
+    assertThat(metrics.droppedEvents()).isZero();
+    assertThat(metrics.coalescedEvents()).isZero();
+    assertThat(metrics.queueDepth()).isZero();
+    assertThat(metrics.maxQueueDepth()).isBetween(1, 8);
+    assertThat(metrics.averageListenerLatencyNanos()).isLessThanOrEqualTo(metrics.maxListenerLatencyNanos());
+  }
+
+  @Test
+  public void dispatchesEventsOnVirtualThreads() throws InterruptedException {
+
+    AsyncChangeEventDispatcher dispatcher = AsyncChangeEventDispatcher.newDispatcher().usingVirtualThreads();
+
+    CountDownLatch latch = new CountDownLatch(1);
+
+    AtomicReference<Thread> listenerThread = new AtomicReference<>();
+
+    ChangeSupport changeSupport = new AsyncChangeSupport(new Object(), dispatcher);
+
+    changeSupport.register(event -> {
+      listenerThread.set(Thread.currentThread());
+      latch.countDown();
+    });
+
+    changeSupport.fireChangeEvent();
+
+    assertThat(latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+    assertThat(listenerThread.get().isVirtual()).isTrue();
+
+    dispatcher.close();
+  }
+
+  @Test
+  public void dropOldestDropsQueuedEventsWhenBufferIsFull() throws InterruptedException {
+
+    AsyncChangeEventDispatcher dispatcher = AsyncChangeEventDispatcher.newDispatcher()
+      .withBackpressurePolicy(BackpressurePolicy.DROP_OLDEST)
+      .withBufferCapacity(2)
+      .withStripes(1);
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    List<ChangeEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+    ChangeSupport changeSupport = new AsyncChangeSupport(new Object(), dispatcher);
+
+    changeSupport.register(event -> {
+      blocked.countDown();
+      awaitQuietly(release);
+      events.add(event);
+    });
+
+    changeSupport.fireChangeEvent();
+
+    assertThat(blocked.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+    for (int count = 0; count < 5; count++) {
+      changeSupport.fireChangeEvent();
+    }
+
+    assertThat(dispatcher.getQueueDepth()).isEqualTo(2);
+
+    release.countDown();
+    dispatcher.shutdown();
+
+    assertThat(dispatcher.awaitTermination(TIMEOUT)).isTrue();
+    assertThat(events).hasSize(3);
+    assertThat(dispatcher.getMetrics().droppedEvents()).isEqualTo(3L);
+  }
+
+  @Test
+  public void coalesceReplacesQueuedEventForSameSource() throws InterruptedException {
+
+    AsyncChangeEventDispatcher dispatcher = AsyncChangeEventDispatcher.newDispatcher()
+      .withBackpressurePolicy(BackpressurePolicy.COALESCE)
+      .withStripes(1);
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    List<ChangeEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+    ChangeSupport changeSupport = new AsyncChangeSupport(new Object(), dispatcher);
+
+    changeSupport.register(event -> {
+      blocked.countDown();
+      awaitQuietly(release);
+      events.add(event);
+    });
+
+    changeSupport.fireChangeEvent();
+
+    assertThat(blocked.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+    for (int count = 0; count < 10; count++) {
+      changeSupport.fireChangeEvent();
+    }
+
+    assertThat(dispatcher.getQueueDepth()).isOne();
+
+    release.countDown();
+    dispatcher.shutdown();
+
+    assertThat(dispatcher.awaitTermination(TIMEOUT)).isTrue();
+    assertThat(events).hasSize(2);
+    assertThat(dispatcher.getMetrics().coalescedEvents()).isEqualTo(9L);
+    assertThat(dispatcher.getMetrics().droppedEvents()).isZero();
+  }
+
+  @Test
+  public void failingListenerDoesNotPreventDeliveryToOtherListeners() throws InterruptedException {
+
+    AsyncChangeEventDispatcher dispatcher = AsyncChangeEventDispatcher.newDispatcher();
+
+    CountDownLatch latch = new CountDownLatch(1);
+
+    ChangeSupport changeSupport = new AsyncChangeSupport(new Object(), dispatcher);
+
+    changeSupport.register(event -> { throw new IllegalStateException("TEST"); });
+    changeSupport.register(event -> latch.countDown());
+    changeSupport.fireChangeEvent();
+
+    assertThat(latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+    dispatcher.close();
+
+    assertThat(dispatcher.getMetrics().failedListenerInvocations()).isOne();
+    assertThat(dispatcher.getMetrics().listenerInvocations()).isEqualTo(2L);
+  }
+
+  @Test
+  public void dispatchAfterShutdownDeliversOnCallingThread() {
+
+    AsyncChangeEventDispatcher dispatcher = AsyncChangeEventDispatcher.newDispatcher();
+
+    dispatcher.close();
+
+    AtomicReference<Thread> listenerThread = new AtomicReference<>();
+
+    ChangeSupport changeSupport = new AsyncChangeSupport(new Object(), dispatcher);
+
+    changeSupport.register(event -> listenerThread.set(Thread.currentThread()));
+    changeSupport.fireChangeEvent();
+
+    assertThat(dispatcher.isRunning()).isFalse();
+    assertThat(listenerThread.get()).isSameAs(Thread.currentThread());
+  }
+
+  @Test
+  public void dispatchAfterShutdownIsDeliveredAfterQueuedEventsOfSameSource() throws InterruptedException {
+
+    AsyncChangeEventDispatcher dispatcher = AsyncChangeEventDispatcher.newDispatcher()
+      .usingPlatformThreads()
+      .withStripes(1);
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    List<ChangeEvent> publishedEvents = Collections.synchronizedList(new ArrayList<>());
+    List<ChangeEvent> deliveredEvents = Collections.synchronizedList(new ArrayList<>());
+
+    ChangeSupport changeSupport = newRecordingChangeSupport(dispatcher, publishedEvents);
+
+    changeSupport.register(event -> {
+      blocked.countDown();
+      awaitQuietly(release);
+      deliveredEvents.add(event);
+    });
+
+    changeSupport.fireChangeEvent();
+
+    assertThat(blocked.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+    changeSupport.fireChangeEvent();
+    dispatcher.shutdown();
+
+    Thread publisher = new Thread(changeSupport::fireChangeEvent);
+
+    publisher.start();
+    publisher.join(100L);
+
+    assertThat(publisher.isAlive()).isTrue();
+    assertThat(deliveredEvents).isEmpty();
+
+    release.countDown();
+    publisher.join(TIMEOUT.toMillis());
+
+    assertThat(publisher.isAlive()).isFalse();
+    assertThat(dispatcher.awaitTermination(TIMEOUT)).isTrue();
+    assertThat(deliveredEvents).hasSize(3).containsExactlyElementsOf(publishedEvents);
+    assertThat(dispatcher.getMetrics().droppedEvents()).isZero();
+  }
+
+  @Test
+  public void fireChangeEventWithNoListenersDispatchesNothing() {
+
+    try (AsyncChangeEventDispatcher dispatcher = AsyncChangeEventDispatcher.newDispatcher()) {
+
+      new AsyncChangeSupport(new Object(), dispatcher).fireChangeEvent();
+
+      assertThat(dispatcher.isStarted()).isFalse();
+      assertThat(dispatcher.getMetrics().dispatchedEvents()).isZero();
+    }
+  }
+
+  @Test
+  public void dispatchWithNullArguments() {
+
+    try (AsyncChangeEventDispatcher dispatcher = AsyncChangeEventDispatcher.newDispatcher()) {
+
+      assertThatIllegalArgumentException()
+        .isThrownBy(() -> dispatcher.dispatch(null, new ChangeEvent(this)))
+        .withMessage("ChangeSupport is required")
+        .withNoCause();
+
+      assertThatIllegalArgumentException()
+        .isThrownBy(() -> dispatcher.dispatch(new ChangeSupport(this), null))
+        .withMessage("ChangeEvent is required")
+        .withNoCause();
+    }
+  }
+
+  private static ChangeSupport newRecordingChangeSupport(AsyncChangeEventDispatcher dispatcher,
+      List<ChangeEvent> publishedEvents) {
+
+    return new AsyncChangeSupport(new Object(), dispatcher) {
+
+      @Override
+      protected ChangeEvent newChangeEvent(Object source) {
+        ChangeEvent event = super.newChangeEvent(source);
+        publishedEvents.add(event);
+        return event;
+      }
+    };
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+
+    try {
+      latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    catch (InterruptedException ignore) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
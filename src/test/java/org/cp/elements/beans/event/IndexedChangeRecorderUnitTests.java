@@ -0,0 +1,144 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.beans.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.beans.PropertyChangeEvent;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.lang.annotation.NotNull;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Unit Tests for {@link IndexedChangeRecorder}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.beans.event.IndexedChangeRecorder
+ * @since 3.0.0
+ */
+public class IndexedChangeRecorderUnitTests {
+
+  private final Object source = new Object();
+
+  private @NotNull PropertyChangeEvent newPropertyChangeEvent(String propertyName, Object oldValue, Object newValue) {
+    return new PropertyChangeEvent(this.source, propertyName, oldValue, newValue);
+  }
+
+  @Test
+  public void forNullTypeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> IndexedChangeRecorder.forType(null))
+      .withMessage("Bean type is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void isModifiedIsFalseInitially() {
+
+    IndexedChangeRecorder changeRecorder = IndexedChangeRecorder.forType(TestBean.class);
+
+    assertThat(changeRecorder.isModified()).isFalse();
+    assertThat(changeRecorder.isModified("name")).isFalse();
+    assertThat(changeRecorder).isEmpty();
+  }
+
+  @Test
+  public void recordsAndRevertsIndexedPropertyChanges() {
+
+    IndexedChangeRecorder changeRecorder = IndexedChangeRecorder.forType(TestBean.class);
+
+    changeRecorder.propertyChange(newPropertyChangeEvent("name", "Jon Doe", "Jane Doe"));
+
+    assertThat(changeRecorder.isModified()).isTrue();
+    assertThat(changeRecorder.isModified("name")).isTrue();
+    assertThat(changeRecorder.isModified("age")).isFalse();
+
+    changeRecorder.propertyChange(newPropertyChangeEvent("name", "Jane Doe", "Pie Doe"));
+
+    assertThat(changeRecorder.isModified("name")).isTrue();
+
+    changeRecorder.propertyChange(newPropertyChangeEvent("name", "Pie Doe", "Jon Doe"));
+
+    assertThat(changeRecorder.isModified()).isFalse();
+    assertThat(changeRecorder.isModified("name")).isFalse();
+  }
+
+  @Test
+  public void unchangedValueIsNotRecorded() {
+
+    IndexedChangeRecorder changeRecorder = IndexedChangeRecorder.forType(TestBean.class);
+
+    changeRecorder.propertyChange(newPropertyChangeEvent("age", 42, 42));
+
+    assertThat(changeRecorder.isModified()).isFalse();
+  }
+
+  @Test
+  public void recordsUnindexedPropertyChanges() {
+
+    IndexedChangeRecorder changeRecorder = IndexedChangeRecorder.forType(TestBean.class);
+
+    changeRecorder.propertyChange(newPropertyChangeEvent("alias", null, "jdoe"));
+
+    assertThat(changeRecorder.isModified()).isTrue();
+    assertThat(changeRecorder.isModified("alias")).isTrue();
+    assertThat(changeRecorder.isModified("name")).isFalse();
+  }
+
+  @Test
+  public void iteratesModifiedPropertiesInOrder() {
+
+    IndexedChangeRecorder changeRecorder = IndexedChangeRecorder.forType(TestBean.class);
+
+    changeRecorder.propertyChange(newPropertyChangeEvent("name", null, "Jon Doe"));
+    changeRecorder.propertyChange(newPropertyChangeEvent("alias", null, "jdoe"));
+    changeRecorder.propertyChange(newPropertyChangeEvent("age", 0, 42));
+
+    assertThat(changeRecorder).containsExactly("age", "alias", "name");
+  }
+
+  @Test
+  public void clearResetsRecordedChanges() {
+
+    IndexedChangeRecorder changeRecorder = IndexedChangeRecorder.forType(TestBean.class);
+
+    changeRecorder.propertyChange(newPropertyChangeEvent("name", null, "Jon Doe"));
+    changeRecorder.propertyChange(newPropertyChangeEvent("alias", null, "jdoe"));
+
+    assertThat(changeRecorder.isModified()).isTrue();
+    assertThat(changeRecorder.clear()).isTrue();
+    assertThat(changeRecorder.isModified()).isFalse();
+    assertThat(changeRecorder).isEmpty();
+  }
+
+  @Getter
+  @Setter
+  @SuppressWarnings("unused")
+  public static class TestBean {
+
+    private int age;
+
+    private String name;
+
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.beans.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.lang.annotation.NotNull;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Unit Tests for {@link BeanMetadata}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.beans.model.BeanMetadata
+ * @since 3.0.0
+ */
+public class BeanMetadataUnitTests {
+
+  @Test
+  public void fromClassType() {
+
+    BeanMetadata metadata = BeanMetadata.from(Person.class);
+
+    assertThat(metadata).isNotNull();
+    assertThat(metadata.getType()).isEqualTo(Person.class);
+    assertThat(metadata.getBeanInfo()).isNotNull();
+    assertThat(metadata.getBeanInfo().getBeanDescriptor().getBeanClass()).isEqualTo(Person.class);
+    assertThat(Arrays.stream(metadata.getPropertyDescriptors()).map(PropertyDescriptor::getName))
+      .containsExactlyInAnyOrder("age", "name");
+  }
+
+  @Test
+  public void fromClassTypeIsCached() {
+    assertThat(BeanMetadata.from(Person.class)).isSameAs(BeanMetadata.from(Person.class));
+  }
+
+  @Test
+  public void fromNullClassType() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> BeanMetadata.from(null))
+      .withMessage("Class type is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void fromClassTypeConcurrentlyReturnsSameInstance() throws Exception {
+
+    int threadCount = 8;
+
+    CountDownLatch latch = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    Set<BeanMetadata> metadata = ConcurrentHashMap.newKeySet();
+
+    try {
+      for (int count = 0; count < threadCount; count++) {
+        executor.submit(() -> {
+          latch.await();
+          return metadata.add(BeanMetadata.from(Customer.class));
+        });
+      }
+
+      latch.countDown();
+      executor.shutdown();
+
+      assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(metadata).hasSize(1);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void evictRecomputesMetadata() {
+
+    BeanMetadata metadata = BeanMetadata.from(Customer.class);
+
+    BeanMetadata.evict(Customer.class);
+
+    BeanMetadata recomputedMetadata = BeanMetadata.from(Customer.class);
+
+    assertThat(recomputedMetadata).isNotSameAs(metadata);
+    assertThat(recomputedMetadata.getType()).isEqualTo(Customer.class);
+  }
+
+  @Test
+  public void evictNullIsNullSafe() {
+    BeanMetadata.evict(null);
+  }
+
+  @Test
+  public void getFieldForPropertyBackedByField() {
+
+    Field name = BeanMetadata.from(Person.class).getField("name");
+
+    assertThat(name).isNotNull();
+    assertThat(name.getName()).isEqualTo("name");
+    assertThat(name.getDeclaringClass()).isEqualTo(Person.class);
+  }
+
+  @Test
+  public void getFieldForPropertyBackedBySupertypeField() {
+
+    Field name = BeanMetadata.from(Customer.class).getField("name");
+
+    assertThat(name).isNotNull();
+    assertThat(name.getDeclaringClass()).isEqualTo(Person.class);
+  }
+
+  @Test
+  public void getFieldForDerivedPropertyReturnsNull() {
+    assertThat(BeanMetadata.from(Person.class).getField("age")).isNull();
+  }
+
+  @Test
+  public void getFieldWithNullPropertyName() {
+    assertThat(BeanMetadata.from(Person.class).getField(null)).isNull();
+  }
+
+  @Test
+  public void getAnnotationsCacheForWellKnownResolvers() {
+
+    BeanMetadata metadata = BeanMetadata.from(Person.class);
+
+    assertThat(metadata.<Field>getAnnotationsCache(Property.ALL_ANNOTATIONS_RESOLVER)).isNotNull();
+    assertThat(metadata.<Field>getAnnotationsCache(Property.DECLARED_ANNOTATIONS_RESOLVER)).isNotNull();
+    assertThat(metadata.<Field>getAnnotationsCache(Property.ALL_ANNOTATIONS_RESOLVER))
+      .isNotSameAs(metadata.getAnnotationsCache(Property.DECLARED_ANNOTATIONS_RESOLVER));
+  }
+
+  @Test
+  public void getAnnotationsCacheForArbitraryResolverReturnsNull() {
+
+    BeanMetadata metadata = BeanMetadata.from(Person.class);
+
+    assertThat(metadata.<Field>getAnnotationsCache(annotatedElement -> new HashSet<>())).isNull();
+    assertThat(metadata.<Field>getAnnotationsCache(null)).isNull();
+  }
+
+  @Test
+  public void beanModelsForSameTypeShareMetadata() {
+
+    BeanModel jonDoeModel = BeanAdapter.from(new Person("Jon Doe")).getModel();
+    BeanModel janeDoeModel = BeanAdapter.from(new Person("Jane Doe")).getModel();
+
+    assertThat(jonDoeModel).isNotSameAs(janeDoeModel);
+    assertThat(jonDoeModel.getMetadata()).isSameAs(janeDoeModel.getMetadata());
+    assertThat(jonDoeModel.getBeanInfo()).isSameAs(janeDoeModel.getBeanInfo());
+    assertThat(jonDoeModel.getProperty("name").getValue()).isEqualTo("Jon Doe");
+    assertThat(janeDoeModel.getProperty("name").getValue()).isEqualTo("Jane Doe");
+  }
+
+  @Getter
+  @Setter
+  @SuppressWarnings("unused")
+  public static class Person {
+
+    private String name;
+
+    public Person() { }
+
+    public Person(@NotNull String name) {
+      this.name = name;
+    }
+
+    public int getAge() {
+      return 0;
+    }
+  }
+
+  public static class Customer extends Person { }
+
+}
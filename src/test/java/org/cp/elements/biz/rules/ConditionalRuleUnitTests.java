@@ -0,0 +1,77 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.biz.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link ConditionalRule}.
+ *
+ * @author John Blum
+ * @see org.cp.elements.biz.rules.ConditionalRule
+ * @see org.junit.jupiter.api.Test
+ * @since 3.0.0
+ */
+public class ConditionalRuleUnitTests {
+
+  private static final Predicate<Integer> EVEN = number -> number % 2 == 0;
+  private static final Predicate<Integer> POSITIVE = number -> number > 0;
+
+  @Test
+  void ofConditions() {
+
+    ConditionalRule<Integer, String> rule = ConditionalRule.of("positiveEven", POSITIVE, EVEN);
+
+    assertThat(rule).isNotNull();
+    assertThat(rule.getId()).isEqualTo("positiveEven");
+    assertThat(rule.getConditions()).containsExactly(POSITIVE, EVEN);
+    assertThat(rule.getExpectedOutcome()).isTrue();
+    assertThat(rule.isThrowExceptionOnFailure()).isFalse();
+  }
+
+  @Test
+  void evaluateRequiresAllConditions() {
+
+    ConditionalRule<Integer, String> rule = ConditionalRule.of("positiveEven", POSITIVE, EVEN);
+
+    assertThat(rule.evaluate(2)).isTrue();
+    assertThat(rule.evaluate(3)).isFalse();
+    assertThat(rule.evaluate(-2)).isFalse();
+    assertThat(ConditionalRule.of("any").evaluate(-1)).isTrue();
+  }
+
+  @Test
+  void ofWithNullIdentifierThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ConditionalRule.of(null, POSITIVE))
+      .withNoCause();
+  }
+
+  @Test
+  void ofWithNullConditionThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ConditionalRule.of("test", POSITIVE, null))
+      .withMessage("Condition is required")
+      .withNoCause();
+  }
+}
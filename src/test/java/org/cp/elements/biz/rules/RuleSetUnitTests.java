@@ -0,0 +1,234 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.biz.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.lang.Ordered;
+
+/**
+ * Unit Tests for {@link RuleSet}.
+ *
+ * @author John Blum
+ * @see org.cp.elements.biz.rules.RuleSet
+ * @see org.junit.jupiter.api.Test
+ * @since 3.0.0
+ */
+public class RuleSetUnitTests {
+
+  private static final Predicate<Integer> EVEN = number -> number % 2 == 0;
+
+  @Test
+  void emptyRuleSet() {
+
+    RuleSet<Object> ruleSet = RuleSet.of();
+
+    assertThat(ruleSet.isEmpty()).isTrue();
+    assertThat(ruleSet.size()).isZero();
+    assertThat(ruleSet.evaluate("test")).isEmpty();
+    assertThat(ruleSet.evaluateFirst("test")).isNotPresent();
+  }
+
+  @Test
+  void ofNullRuleThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> RuleSet.of(ConditionalRule.of("even", EVEN), null))
+      .withMessage("Rule is required")
+      .withNoCause();
+  }
+
+  @Test
+  void sharedConditionsAreEvaluatedOncePerObject() {
+
+    AtomicInteger evaluations = new AtomicInteger();
+
+    Predicate<Integer> positive = number -> evaluations.incrementAndGet() > 0 && number > 0;
+
+    ConditionalRule<Integer, String> positiveRule = ConditionalRule.of("positive", positive);
+    ConditionalRule<Integer, String> positiveEvenRule = ConditionalRule.of("positiveEven", positive, EVEN);
+
+    RuleSet<Integer> ruleSet = RuleSet.of(positiveRule, positiveEvenRule);
+
+    assertThat(ruleSet.getConditionCount()).isEqualTo(2);
+    assertThat(ruleSet.evaluate(4)).containsExactly(positiveRule, positiveEvenRule);
+    assertThat(evaluations).hasValue(1);
+    assertThat(ruleSet.evaluate(3)).containsExactly(positiveRule);
+    assertThat(evaluations).hasValue(2);
+  }
+
+  @Test
+  void rulesAreEvaluatedInPriorityOrder() {
+
+    OrderedRule low = new OrderedRule("low", Ordered.LAST);
+    OrderedRule high = new OrderedRule("high", Ordered.FIRST);
+    ConditionalRule<Integer, String> even = ConditionalRule.of("even", EVEN);
+
+    RuleSet<Integer> ruleSet = RuleSet.of(low, even, high);
+
+    assertThat(ruleSet).containsExactly(high, even, low);
+    assertThat(ruleSet.evaluate(2)).containsExactly(high, even, low);
+    assertThat(ruleSet.evaluateFirst(2)).contains(high);
+    assertThat(ruleSet.getStatistics(even).map(RuleSet.RuleStatistics::getEvaluationCount)).contains(1L);
+    assertThat(ruleSet.getStatistics(low).map(RuleSet.RuleStatistics::getEvaluationCount)).contains(1L);
+  }
+
+  @Test
+  void evaluateFirstShortCircuits() {
+
+    ConditionalRule<Integer, String> even = ConditionalRule.of("even", EVEN);
+    OrderedRule last = new OrderedRule("last", Ordered.LAST);
+
+    RuleSet<Integer> ruleSet = RuleSet.of(last, even);
+
+    assertThat(ruleSet.evaluateFirst(2)).contains(even);
+    assertThat(ruleSet.getStatistics(last).map(RuleSet.RuleStatistics::getEvaluationCount)).contains(0L);
+    assertThat(ruleSet.evaluateFirst(3)).contains(last);
+  }
+
+  @Test
+  void parallelEvaluateMatchesSequentialEvaluate() {
+
+    RuleSet<Integer> ruleSet = RuleSet.of(IntStream.range(0, 100)
+      .mapToObj(divisor -> ConditionalRule.<Integer, Integer>of(divisor, EVEN, number -> number % (divisor + 1) == 0))
+      .toList());
+
+    assertThat(ruleSet.parallelEvaluate(360)).containsExactlyElementsOf(ruleSet.evaluate(360));
+  }
+
+  @Test
+  void statisticsRecordEvaluationsAndHits() {
+
+    ConditionalRule<Integer, String> even = ConditionalRule.of("even", EVEN);
+
+    RuleSet<Integer> ruleSet = RuleSet.of(even);
+
+    ruleSet.evaluate(1);
+    ruleSet.evaluate(2);
+    ruleSet.parallelEvaluate(4);
+
+    RuleSet.RuleStatistics statistics = ruleSet.getStatistics(even).orElseThrow();
+
+    assertThat(statistics.getEvaluationCount()).isEqualTo(3L);
+    assertThat(statistics.getHitCount()).isEqualTo(2L);
+    assertThat(statistics.getTotalEvaluationTime()).isGreaterThanOrEqualTo(statistics.getAverageEvaluationTime());
+
+    ruleSet.resetStatistics();
+
+    assertThat(statistics.getEvaluationCount()).isZero();
+    assertThat(statistics.getHitCount()).isZero();
+    assertThat(ruleSet.getStatistics(ConditionalRule.of("other", EVEN))).isNotPresent();
+  }
+
+  @Test
+  void failedConditionalRuleConfiguredToThrowExceptionOnFailure() {
+
+    ThrowingRule rule = new ThrowingRule();
+
+    assertThatExceptionOfType(RuleException.class)
+      .isThrownBy(() -> RuleSet.of(rule).evaluate(3))
+      .withMessage("Object [3] failed Rule [throwing]")
+      .withNoCause();
+  }
+
+  @Test
+  void failedConditionalRuleEvaluatedOnItsOwnThrowsSameException() {
+
+    ThrowingRule rule = new ThrowingRule();
+
+    assertThat(rule.evaluate(2)).isTrue();
+
+    assertThatExceptionOfType(RuleException.class)
+      .isThrownBy(() -> rule.evaluate(3))
+      .withMessage("Object [3] failed Rule [throwing]")
+      .withNoCause();
+  }
+
+  @Test
+  void failedRuleConfiguredToThrowExceptionOnFailure() {
+
+    AbstractRule<Integer, String> rule = new AbstractRule<>() {
+
+      {
+        setId("odd");
+        setThrowExceptionOnFailure(true);
+      }
+
+      @Override
+      public boolean evaluate(Integer obj) {
+        return obj % 2 != 0;
+      }
+    };
+
+    RuleSet<Integer> ruleSet = RuleSet.of(rule);
+
+    assertThat(ruleSet.evaluate(3)).containsExactly(rule);
+
+    assertThatExceptionOfType(RuleException.class)
+      .isThrownBy(() -> ruleSet.evaluate(2))
+      .withMessage("Object [2] failed Rule [odd]")
+      .withNoCause();
+
+    assertThat(ruleSet.getStatistics(rule).map(RuleSet.RuleStatistics::getEvaluationCount)).contains(2L);
+  }
+
+  static class OrderedRule extends AbstractRule<Integer, String> implements Ordered {
+
+    private int index;
+
+    OrderedRule(String id, int index) {
+      setId(id);
+      setIndex(index);
+    }
+
+    @Override
+    public int getIndex() {
+      return this.index;
+    }
+
+    @Override
+    public void setIndex(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public boolean evaluate(Integer obj) {
+      return true;
+    }
+  }
+
+  static class ThrowingRule extends AbstractRule<Integer, String> implements ConditionalRule<Integer, String> {
+
+    ThrowingRule() {
+      setId("throwing");
+      setThrowExceptionOnFailure(true);
+    }
+
+    @Override
+    public List<Predicate<? super Integer>> getConditions() {
+      return List.of(EVEN);
+    }
+  }
+}
@@ -18,7 +18,11 @@ package org.cp.elements.context.configure;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.net.URI;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
@@ -217,6 +221,150 @@ public class AbstractConfigurationServiceIntegrationTests {
     assertThat(testConfiguration.getParent().getChild().getChildProperty()).isEqualTo("Child");
   }
 
+  @Test
+  public void proxyIsMemoized() {
+
+    AbstractConfigurationService configurationService = new TestConfigurationService();
+
+    assertThat(configurationService.register(new PropertiesConfiguration(PropertiesBuilder.newInstance()
+      .set("jdbc.username", "test")
+      .set("jdbc.connection.max", "100")
+      .build()))).isTrue();
+
+    ExtendedJdbcConfiguration jdbcConfiguration = configurationService.proxy(ExtendedJdbcConfiguration.class);
+
+    assertThat(configurationService.proxy(ExtendedJdbcConfiguration.class)).isSameAs(jdbcConfiguration);
+    assertThat(jdbcConfiguration.getConnection()).isSameAs(jdbcConfiguration.getConnection());
+  }
+
+  @Test
+  public void proxyCachesPropertyValuesUntilConfigurationChanges() {
+
+    Properties jdbcProperties = PropertiesBuilder.newInstance()
+      .set("jdbc.username", "test")
+      .set("jdbc.connection.max", "100")
+      .build();
+
+    AbstractConfigurationService configurationService = new TestConfigurationService();
+
+    assertThat(configurationService.register(new PropertiesConfiguration(jdbcProperties))).isTrue();
+
+    long configurationVersion = configurationService.getConfigurationVersion();
+
+    ExtendedJdbcConfiguration jdbcConfiguration = configurationService.proxy(ExtendedJdbcConfiguration.class);
+
+    assertThat(jdbcConfiguration.getUsername()).isEqualTo("test");
+    assertThat(jdbcConfiguration.getConnection().getMax()).isEqualTo(100);
+
+    jdbcProperties.setProperty("jdbc.username", "admin");
+    jdbcProperties.setProperty("jdbc.connection.max", "200");
+
+    assertThat(jdbcConfiguration.getUsername()).isEqualTo("test");
+    assertThat(jdbcConfiguration.getConnection().getMax()).isEqualTo(100);
+
+    configurationService.refresh();
+
+    assertThat(configurationService.getConfigurationVersion()).isGreaterThan(configurationVersion);
+    assertThat(jdbcConfiguration.getUsername()).isEqualTo("admin");
+    assertThat(jdbcConfiguration.getConnection().getMax()).isEqualTo(200);
+  }
+
+  @Test
+  public void proxyResolvesOnlyChangedPropertyValuesAgainWhenConfigurationNotifiesListeners() {
+
+    Properties jdbcProperties = PropertiesBuilder.newInstance()
+      .set("jdbc.username", "test")
+      .set("jdbc.connection.max", "100")
+      .build();
+
+    PropertiesConfiguration configuration = new PropertiesConfiguration(jdbcProperties);
+
+    AbstractConfigurationService configurationService = new TestConfigurationService();
+
+    assertThat(configurationService.register(configuration)).isTrue();
+
+    ExtendedJdbcConfiguration jdbcConfiguration = configurationService.proxy(ExtendedJdbcConfiguration.class);
+
+    assertThat(jdbcConfiguration.getUsername()).isEqualTo("test");
+    assertThat(jdbcConfiguration.getConnection().getMax()).isEqualTo(100);
+
+    jdbcProperties.setProperty("jdbc.username", "admin");
+    jdbcProperties.setProperty("jdbc.connection.max", "200");
+
+    configuration.fireConfigurationChanged(Set.of("jdbc.username"));
+
+    assertThat(jdbcConfiguration.getUsername()).isEqualTo("admin");
+    assertThat(jdbcConfiguration.getConnection().getMax()).isEqualTo(100);
+
+    configuration.fireConfigurationChanged(Set.of("jdbc.connection.max"));
+
+    assertThat(jdbcConfiguration.getUsername()).isEqualTo("admin");
+    assertThat(jdbcConfiguration.getConnection().getMax()).isEqualTo(200);
+  }
+
+  @Test
+  public void proxyReturnsCachedPropertyValuesOfConfigurationChangedInPlaceUntilRefreshed() {
+
+    Map<String, String> jdbcProperties = new ConcurrentHashMap<>(Map.of("jdbc.username", "test"));
+
+    Configuration mapConfiguration = new Configuration() {
+
+      @Override
+      public String getPropertyValue(String propertyName, boolean required) {
+        return jdbcProperties.get(propertyName);
+      }
+
+      @Override
+      public Iterator<String> iterator() {
+        return jdbcProperties.keySet().iterator();
+      }
+    };
+
+    AbstractConfigurationService configurationService = new TestConfigurationService();
+
+    assertThat(configurationService.register(mapConfiguration)).isTrue();
+
+    JdbcConfiguration jdbcConfiguration = configurationService.proxy(JdbcConfiguration.class);
+
+    assertThat(jdbcConfiguration.getUsername()).isEqualTo("test");
+
+    jdbcProperties.put("jdbc.username", "admin");
+
+    assertThat(jdbcConfiguration.getUsername()).isEqualTo("test");
+
+    configurationService.refresh();
+
+    assertThat(jdbcConfiguration.getUsername()).isEqualTo("admin");
+  }
+
+  @Test
+  public void proxyResolvesPropertyValuesAgainAfterConfigurationIsRegisteredOrUnregistered() {
+
+    AbstractConfigurationService configurationService = new TestConfigurationService();
+
+    Configuration defaultConfiguration = new PropertiesConfiguration(PropertiesBuilder.newInstance()
+      .set("jdbc.connection.max", "100")
+      .build());
+
+    ExtendedJdbcConfiguration jdbcConfiguration = configurationService.proxy(ExtendedJdbcConfiguration.class);
+
+    assertThat(configurationService.register(defaultConfiguration)).isTrue();
+    assertThat(jdbcConfiguration.getConnection().getMin()).isNull();
+    assertThat(jdbcConfiguration.getConnection().getMin(5)).isEqualTo(5);
+
+    Configuration overridingConfiguration = new PropertiesConfiguration(PropertiesBuilder.newInstance()
+      .set("jdbc.connection.min", "10")
+      .build());
+
+    assertThat(configurationService.register(overridingConfiguration)).isTrue();
+    assertThat(jdbcConfiguration.getConnection().getMin()).isEqualTo(10);
+    assertThat(jdbcConfiguration.getConnection().getMin(5)).isEqualTo(10);
+
+    assertThat(configurationService.unregister(overridingConfiguration)).isTrue();
+    assertThat(jdbcConfiguration.getConnection().getMin()).isNull();
+    assertThat(jdbcConfiguration.getConnection().getMin(() -> 1)).isOne();
+  }
+
   interface Jdbc {
     String getUsername();
     String getPassword();
@@ -33,10 +33,13 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Properties;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import org.cp.elements.context.configure.AbstractConfigurationService.ConfigurationPropertiesInterfaceMethodInterceptor;
+import org.cp.elements.context.configure.support.PropertiesConfiguration;
 import org.cp.elements.context.container.DependencyInjection;
 import org.cp.elements.lang.Constants;
 import org.cp.elements.lang.Orderable;
@@ -293,6 +296,28 @@ public class AbstractConfigurationServiceUnitTests {
     verifyNoMoreInteractions(mockConfigurationOne, mockConfigurationTwo);
   }
 
+  @Test
+  public void changedConfigurationRefreshesRegisteredConfigurationService() {
+
+    AbstractConfiguration configuration = new PropertiesConfiguration(new Properties());
+
+    AbstractConfigurationService configurationService = new TestConfigurationService();
+
+    assertThat(configurationService.getConfigurationVersion()).isZero();
+    assertThat(configurationService.register(configuration)).isTrue();
+    assertThat(configurationService.getConfigurationVersion()).isOne();
+
+    configuration.fireConfigurationChanged(Set.of("jdbc.url"));
+
+    assertThat(configurationService.getConfigurationVersion()).isEqualTo(2L);
+    assertThat(configurationService.unregister(configuration)).isTrue();
+    assertThat(configurationService.getConfigurationVersion()).isEqualTo(3L);
+
+    configuration.fireConfigurationChanged(Set.of("jdbc.url"));
+
+    assertThat(configurationService.getConfigurationVersion()).isEqualTo(3L);
+  }
+
   @Test
   public void registerNonActiveProfiledConfigurationIsCorrect() {
 
@@ -561,6 +586,18 @@ public class AbstractConfigurationServiceUnitTests {
       .withNoCause();
   }
 
+  @Test
+  public void canInterceptOnlyConfigurationPropertiesInterfaceMethods() throws NoSuchMethodException {
+
+    ConfigurationPropertiesInterfaceMethodInterceptor methodInterceptor =
+      newConfigurationPropertiesInterfaceMethodInterceptor();
+
+    assertThat(methodInterceptor.canIntercept(TestInterfaceType.class.getDeclaredMethod("getVoidProperty"))).isTrue();
+    assertThat(methodInterceptor.canIntercept(Object.class.getMethod("toString"))).isFalse();
+    assertThat(methodInterceptor.canIntercept(Runnable.class.getMethod("run"))).isFalse();
+    assertThat(methodInterceptor.canIntercept(null)).isFalse();
+  }
+
   static class TestConfigurationService extends AbstractConfigurationService { }
 
   static class AbstractBaseConfiguration implements Configuration {
@@ -38,6 +38,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.AfterEach;
@@ -616,6 +617,30 @@ public class AbstractConfigurationUnitTests {
     verifyNoInteractions(mockProperties);
   }
 
+  @Test
+  public void registerFireAndUnregisterConfigurationListener() {
+
+    ConfigurationListener mockListener = mock(ConfigurationListener.class);
+
+    AbstractConfiguration configuration = new TestConfiguration(new Properties());
+
+    assertThat(configuration.register(null)).isFalse();
+    assertThat(configuration.register(mockListener)).isTrue();
+    assertThat(configuration.register(mockListener)).isFalse();
+
+    configuration.fireConfigurationChanged(Set.of("jdbc.url"));
+    configuration.fireConfigurationChanged(Set.of());
+
+    assertThat(configuration.unregister(mockListener)).isTrue();
+    assertThat(configuration.unregister(mockListener)).isFalse();
+    assertThat(configuration.unregister(null)).isFalse();
+
+    configuration.fireConfigurationChanged(Set.of("jdbc.username"));
+
+    verify(mockListener, times(1)).configurationChanged(eq(configuration), eq(Set.of("jdbc.url")));
+    verifyNoMoreInteractions(mockListener);
+  }
+
   private static final class TestConfiguration extends AbstractConfiguration {
 
     private final Properties properties;
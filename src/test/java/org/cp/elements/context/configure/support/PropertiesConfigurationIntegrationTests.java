@@ -16,16 +16,30 @@
 package org.cp.elements.context.configure.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 import java.io.File;
 import java.io.FileWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.cp.elements.context.configure.AbstractConfiguration;
 import org.cp.elements.context.configure.Configuration;
+import org.cp.elements.context.configure.ConfigurationListener;
 import org.cp.elements.io.FileSystemUtils;
 
 /**
@@ -37,6 +51,7 @@ import org.cp.elements.io.FileSystemUtils;
  * @see org.junit.jupiter.api.Test
  * @see org.cp.elements.context.configure.AbstractConfiguration
  * @see org.cp.elements.context.configure.Configuration
+ * @see org.cp.elements.context.configure.ConfigurationListener
  * @see org.cp.elements.context.configure.support.PropertiesConfiguration
  * @since 1.0.0
  */
@@ -90,4 +105,158 @@ class PropertiesConfigurationIntegrationTests {
     assertThat(configurationDescriptor.isFile()).isTrue();
     assertThat(configurationDescriptor.isProperties()).isFalse();
   }
+
+  @Test
+  void reloadPropertiesFileNotifiesChangedPropertyNames(@TempDir Path temporaryDirectory) throws Exception {
+
+    Path propertiesFile = temporaryDirectory.resolve("reload.properties");
+
+    Files.writeString(propertiesFile, "a=1\nb=2\nc=3\n");
+
+    BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+
+    PropertiesConfiguration configuration = new PropertiesConfiguration(propertiesFile.toFile());
+
+    ConfigurationListener listener = (changedConfiguration, propertyNames) -> {
+      assertThat(changedConfiguration).isSameAs(configuration);
+      changes.add(propertyNames);
+    };
+
+    assertThat(configuration.register(listener)).isTrue();
+    assertThat(configuration.reload()).isEmpty();
+    assertThat(changes).isEmpty();
+
+    Files.writeString(propertiesFile, "a=1\nb=20\nd=4\n");
+
+    assertThat(configuration.reload()).containsExactlyInAnyOrder("b", "c", "d");
+    assertThat(changes).containsExactly(Set.of("b", "c", "d"));
+    assertThat(configuration.getPropertyValue("b")).isEqualTo("20");
+    assertThat(configuration.getPropertyValue("d")).isEqualTo("4");
+    assertThat(configuration.isPresent("c")).isFalse();
+  }
+
+  @Test
+  void reloadPropertiesBasedConfigurationThrowsIllegalStateException() {
+
+    PropertiesConfiguration configuration = new PropertiesConfiguration(new Properties());
+
+    assertThatIllegalStateException()
+      .isThrownBy(configuration::reload)
+      .withMessage("This PropertiesConfiguration was not loaded from a properties file")
+      .withNoCause();
+  }
+
+  @Test
+  void watchPropertiesFileReloadsChangedPropertiesFile(@TempDir Path temporaryDirectory) throws Exception {
+
+    Path propertiesFile = temporaryDirectory.resolve("watch.properties");
+
+    Files.writeString(propertiesFile, "a=1\nb=2\n");
+
+    BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+
+    PropertiesConfiguration configuration = new PropertiesConfiguration(propertiesFile.toFile());
+
+    configuration.register((changedConfiguration, propertyNames) -> changes.add(propertyNames));
+
+    try {
+      assertThat(configuration.watch(Duration.ofMillis(100))).isSameAs(configuration);
+      assertThat(configuration.isWatching()).isTrue();
+
+      Files.writeString(temporaryDirectory.resolve("unrelated.txt"), "test");
+      Files.writeString(propertiesFile, "a=1\nb=3\n");
+
+      assertThat(changes.poll(10, TimeUnit.SECONDS)).containsExactly("b");
+      assertThat(configuration.getPropertyValue("b")).isEqualTo("3");
+    }
+    finally {
+      assertThat(configuration.unwatch()).isSameAs(configuration);
+    }
+
+    assertThat(configuration.isWatching()).isFalse();
+
+    Files.writeString(propertiesFile, "a=1\nb=4\n");
+
+    assertThat(changes.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    assertThat(configuration.getPropertyValue("b")).isEqualTo("3");
+  }
+
+  @Test
+  void watchPropertiesFileReloadsContinuouslyChangingPropertiesFile(@TempDir Path temporaryDirectory)
+      throws Exception {
+
+    Path propertiesFile = temporaryDirectory.resolve("busy.properties");
+
+    Files.writeString(propertiesFile, "a=0\n");
+
+    BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+
+    PropertiesConfiguration configuration = new PropertiesConfiguration(propertiesFile.toFile());
+
+    configuration.register((changedConfiguration, propertyNames) -> changes.add(propertyNames));
+
+    AtomicBoolean writing = new AtomicBoolean(true);
+
+    Thread writer = new Thread(() -> {
+      try {
+        for (int count = 1; writing.get(); count++) {
+          Files.writeString(propertiesFile, String.format("a=%d%n", count));
+          Thread.sleep(20L);
+        }
+      }
+      catch (Exception ignore) { }
+    });
+
+    try {
+      configuration.watch(Duration.ofMillis(100));
+      writer.start();
+
+      // The debounce keeps being extended, but the reload must not be postponed indefinitely.
+      assertThat(changes.poll(10, TimeUnit.SECONDS)).containsExactly("a");
+    }
+    finally {
+      writing.set(false);
+      writer.join();
+      configuration.unwatch();
+    }
+  }
+
+  @Test
+  @DisabledOnOs(value = OS.WINDOWS, disabledReason = "Creating symbolic links requires privileges")
+  void watchPropertiesFileReloadsWhenSymbolicLinkIsRetargeted(@TempDir Path temporaryDirectory) throws Exception {
+
+    // Laid out like a Kubernetes ConfigMap volume: app.properties -> ..data/app.properties, ..data -> ..version1
+    Path versionOne = Files.createDirectory(temporaryDirectory.resolve("..version1"));
+    Path versionTwo = Files.createDirectory(temporaryDirectory.resolve("..version2"));
+
+    Files.writeString(versionOne.resolve("app.properties"), "a=1\nb=2\n");
+    Files.writeString(versionTwo.resolve("app.properties"), "a=1\nb=3\n");
+    Files.createSymbolicLink(temporaryDirectory.resolve("..data"), versionOne.getFileName());
+
+    Path propertiesFile = Files.createSymbolicLink(temporaryDirectory.resolve("app.properties"),
+      Path.of("..data", "app.properties"));
+
+    BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+
+    PropertiesConfiguration configuration = new PropertiesConfiguration(propertiesFile.toFile());
+
+    configuration.register((changedConfiguration, propertyNames) -> changes.add(propertyNames));
+
+    try {
+      configuration.watch(Duration.ofMillis(100));
+
+      // Atomically re-target ..data; no event names app.properties.
+      Path temporaryLink = Files.createSymbolicLink(temporaryDirectory.resolve("..data_tmp"),
+        versionTwo.getFileName());
+
+      Files.move(temporaryLink, temporaryDirectory.resolve("..data"), StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+
+      assertThat(changes.poll(10, TimeUnit.SECONDS)).containsExactly("b");
+      assertThat(configuration.getPropertyValue("b")).isEqualTo("3");
+    }
+    finally {
+      configuration.unwatch();
+    }
+  }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.Adler32;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link CompressionDictionary}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.data.compression.CompressionDictionary
+ * @since 3.0.0
+ */
+public class CompressionDictionaryUnitTests {
+
+  static List<byte[]> newSamples(int count, long seed) {
+
+    List<byte[]> samples = new ArrayList<>(count);
+
+    Random random = new Random(seed);
+
+    for (int index = 0; index < count; index++) {
+      samples.add(String.format("{\"id\":%d,\"name\":\"user-%d\",\"email\":\"user%d@example.com\",\"active\":%b,"
+          + "\"roles\":[\"reader\",\"writer\"],\"address\":{\"street\":\"%d Main Street\",\"city\":\"Portland\"}}",
+        index, random.nextInt(100000), random.nextInt(1000), random.nextBoolean(), random.nextInt(9999))
+          .getBytes(StandardCharsets.UTF_8));
+    }
+
+    return samples;
+  }
+
+  @Test
+  public void ofContent() {
+
+    byte[] content = "the quick brown fox".getBytes(StandardCharsets.UTF_8);
+
+    Adler32 adler32 = new Adler32();
+
+    adler32.update(content);
+
+    CompressionDictionary dictionary = CompressionDictionary.of(1, 2, content);
+
+    assertThat(dictionary).isNotNull();
+    assertThat(dictionary.getId()).isOne();
+    assertThat(dictionary.getVersion()).isEqualTo(2);
+    assertThat(dictionary.getSize()).isEqualTo(content.length);
+    assertThat(dictionary.getContent()).isEqualTo(content).isNotSameAs(content);
+    assertThat(dictionary.getChecksum()).isEqualTo(adler32.getValue());
+    assertThat(dictionary.asByteBuffer().isReadOnly()).isTrue();
+    assertThat(dictionary.asByteBuffer()).isEqualTo(ByteBuffer.wrap(content));
+  }
+
+  @Test
+  public void ofContentIsDefensivelyCopied() {
+
+    byte[] content = { 1, 2, 3 };
+
+    CompressionDictionary dictionary = CompressionDictionary.of(1, 1, content);
+
+    content[0] = 9;
+    dictionary.getContent()[1] = 9;
+
+    assertThat(dictionary.getContent()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  public void ofWithIllegalArguments() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> CompressionDictionary.of(-1, 1, new byte[1]))
+      .withMessage("Dictionary ID [-1] must be greater than equal to 0")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> CompressionDictionary.of(1, -1, new byte[1]))
+      .withMessage("Dictionary version [-1] must be greater than equal to 0")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> CompressionDictionary.of(1, 1, new byte[0]))
+      .withMessage("Dictionary size [0] must be greater than 0 and less than equal to [32768]")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> CompressionDictionary.of(1, 1, new byte[CompressionDictionary.MAX_DICTIONARY_SIZE + 1]))
+      .withMessage("Dictionary size [32769] must be greater than 0 and less than equal to [32768]")
+      .withNoCause();
+  }
+
+  @Test
+  public void trainFromSimilarSamples() {
+
+    CompressionDictionary dictionary = CompressionDictionary.train(1, 1, newSamples(200, 1L), 4096);
+
+    assertThat(dictionary).isNotNull();
+    assertThat(dictionary.getId()).isOne();
+    assertThat(dictionary.getVersion()).isOne();
+    assertThat(dictionary.getSize()).isPositive().isLessThanOrEqualTo(4096);
+    assertThat(new String(dictionary.getContent(), StandardCharsets.UTF_8)).contains("@example.com");
+  }
+
+  @Test
+  public void trainIsDeterministic() {
+
+    List<byte[]> samples = newSamples(50, 2L);
+
+    assertThat(CompressionDictionary.train(1, 1, samples, 2048))
+      .isEqualTo(CompressionDictionary.train(1, 1, samples, 2048));
+  }
+
+  @Test
+  public void trainFromDissimilarSamplesUsesTailOfSamples() {
+
+    byte[] sample = new byte[64];
+
+    new Random(3L).nextBytes(sample);
+
+    CompressionDictionary dictionary = CompressionDictionary.train(1, 1, Collections.singletonList(sample), 1024);
+
+    assertThat(dictionary.getContent()).isEqualTo(sample);
+  }
+
+  @Test
+  public void trainWithIllegalArguments() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> CompressionDictionary.train(1, 1, null, 1024))
+      .withMessage("Samples are required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> CompressionDictionary.train(1, 1, Collections.singletonList(new byte[0]), 1024))
+      .withMessage("Samples are required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> CompressionDictionary.train(1, 1, newSamples(1, 4L), 0))
+      .withMessage("Dictionary size [0] must be greater than 0 and less than equal to [32768]")
+      .withNoCause();
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+
+    CompressionDictionary dictionary = CompressionDictionary.of(1, 1, new byte[] { 1, 2, 3 });
+
+    assertThat(dictionary).isEqualTo(CompressionDictionary.of(1, 1, new byte[] { 1, 2, 3 }));
+    assertThat(dictionary).hasSameHashCodeAs(CompressionDictionary.of(1, 1, new byte[] { 1, 2, 3 }));
+    assertThat(dictionary).isNotEqualTo(CompressionDictionary.of(1, 2, new byte[] { 1, 2, 3 }));
+    assertThat(dictionary).isNotEqualTo(CompressionDictionary.of(2, 1, new byte[] { 1, 2, 3 }));
+    assertThat(dictionary).isNotEqualTo(CompressionDictionary.of(1, 1, new byte[] { 3, 2, 1 }));
+  }
+
+  @Test
+  public void toStringIsCorrect() {
+    assertThat(CompressionDictionary.of(1, 2, new byte[3]))
+      .hasToString("CompressionDictionary[id = 1, version = 2, size = 3]");
+  }
+}
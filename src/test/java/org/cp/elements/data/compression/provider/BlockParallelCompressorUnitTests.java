@@ -0,0 +1,109 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.compression.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.cp.elements.data.compression.DecompressionException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link BlockParallelCompressor}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.data.compression.provider.BlockParallelCompressor
+ * @since 3.0.0
+ */
+public class BlockParallelCompressorUnitTests {
+
+  private static byte[] newInput(int length) {
+
+    byte[] input = new byte[length];
+
+    for (int index = 0; index < length; index++) {
+      input[index] = (byte) (index % 251 < 200 ? 'a' + index % 13 : index);
+    }
+
+    return input;
+  }
+
+  @Test
+  public void ofDelegateCompressor() {
+
+    Lz4Compressor delegate = new Lz4Compressor();
+
+    BlockParallelCompressor compressor = BlockParallelCompressor.of(delegate);
+
+    assertThat(compressor.getCompressor()).isSameAs(delegate);
+    assertThat(compressor.getBlockSize()).isEqualTo(BlockParallelCompressor.DEFAULT_BLOCK_SIZE);
+  }
+
+  @Test
+  public void compressAndDecompressAcrossBlocks() {
+
+    BlockParallelCompressor compressor = new BlockParallelCompressor(new JavaDeflaterInflaterCompressor(), 10_000);
+
+    for (int length : new int[] { 0, 1, 9_999, 10_000, 10_001, 123_456 }) {
+
+      byte[] input = newInput(length);
+      byte[] compressedInput = compressor.compress(input);
+
+      assertThat(compressor.decompress(compressedInput)).isEqualTo(input);
+
+      ByteArrayOutputStream compressedOutput = new ByteArrayOutputStream();
+      ByteArrayOutputStream decompressedOutput = new ByteArrayOutputStream();
+
+      compressor.compress(new ByteArrayInputStream(input), compressedOutput);
+      compressor.decompress(new ByteArrayInputStream(compressedOutput.toByteArray()), decompressedOutput);
+
+      assertThat(compressedOutput.toByteArray()).isEqualTo(compressedInput);
+      assertThat(decompressedOutput.toByteArray()).isEqualTo(input);
+    }
+  }
+
+  @Test
+  public void decompressBlockLargerThanBlockSizeThrowsDecompressionException() {
+
+    byte[] compressedInput = new BlockParallelCompressor(new Lz4Compressor(), 20_000).compress(newInput(20_000));
+
+    BlockParallelCompressor compressor = new BlockParallelCompressor(new Lz4Compressor(), 10_000);
+
+    assertThatExceptionOfType(DecompressionException.class)
+      .isThrownBy(() -> compressor.decompress(compressedInput))
+      .withMessage("Invalid block length [20000]; block size is [10000]")
+      .withNoCause();
+
+    assertThatExceptionOfType(DecompressionException.class)
+      .isThrownBy(() -> compressor.decompress(new ByteArrayInputStream(compressedInput), new ByteArrayOutputStream()))
+      .withMessage("Invalid block length [20000]; block size is [10000]")
+      .withNoCause();
+  }
+
+  @Test
+  public void constructWithNullCompressorThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> BlockParallelCompressor.of(null))
+      .withMessage("Compressor is required")
+      .withNoCause();
+  }
+}
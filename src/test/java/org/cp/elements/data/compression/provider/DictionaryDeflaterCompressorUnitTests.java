@@ -0,0 +1,196 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.compression.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.data.compression.CompressionDictionary;
+import org.cp.elements.data.compression.Compressor;
+import org.cp.elements.data.compression.DecompressionException;
+
+/**
+ * Unit Tests for {@link DictionaryDeflaterCompressor}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.data.compression.CompressionDictionary
+ * @see org.cp.elements.data.compression.provider.DictionaryDeflaterCompressor
+ * @since 3.0.0
+ */
+public class DictionaryDeflaterCompressorUnitTests {
+
+  private static List<byte[]> newMessages(int count, long seed) {
+
+    List<byte[]> messages = new ArrayList<>(count);
+
+    Random random = new Random(seed);
+
+    for (int index = 0; index < count; index++) {
+      messages.add(String.format("{\"id\":%d,\"name\":\"user-%d\",\"email\":\"user%d@example.com\",\"active\":%b,"
+          + "\"roles\":[\"reader\",\"writer\"],\"address\":{\"street\":\"%d Main Street\",\"city\":\"Portland\"}}",
+        index, random.nextInt(100000), random.nextInt(1000), random.nextBoolean(), random.nextInt(9999))
+          .getBytes(StandardCharsets.UTF_8));
+    }
+
+    return messages;
+  }
+
+  private void assertRoundTrip(Compressor compressor, byte[] input) {
+
+    byte[] compressedInput = compressor.compress(input);
+
+    assertThat(compressor.decompress(compressedInput)).isEqualTo(input);
+
+    ByteArrayOutputStream compressedOutput = new ByteArrayOutputStream();
+    ByteArrayOutputStream decompressedOutput = new ByteArrayOutputStream();
+
+    compressor.compress(new ByteArrayInputStream(input), compressedOutput);
+    compressor.decompress(new ByteArrayInputStream(compressedOutput.toByteArray()), decompressedOutput);
+
+    assertThat(decompressedOutput.toByteArray()).isEqualTo(input);
+    assertThat(compressor.decompress(compressedOutput.toByteArray())).isEqualTo(input);
+  }
+
+  @Test
+  public void withDictionaryFromJavaDeflaterInflaterCompressor() {
+
+    CompressionDictionary dictionary = CompressionDictionary.of(1, 1, "example".getBytes(StandardCharsets.UTF_8));
+
+    Compressor compressor = new JavaDeflaterInflaterCompressor(Deflater.BEST_SPEED).withDictionary(dictionary);
+
+    assertThat(compressor).isInstanceOf(DictionaryDeflaterCompressor.class);
+    assertThat(((DictionaryDeflaterCompressor) compressor).getDictionary()).isSameAs(dictionary);
+    assertThat(((DictionaryDeflaterCompressor) compressor).getCompressionLevel()).isEqualTo(Deflater.BEST_SPEED);
+  }
+
+  @Test
+  public void withNullDictionary() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> DictionaryDeflaterCompressor.of(null))
+      .withMessage("CompressionDictionary is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void compressAndDecompressWithTrainedDictionary() {
+
+    List<byte[]> samples = newMessages(200, 1L);
+    List<byte[]> messages = newMessages(50, 2L);
+
+    Compressor compressor = new JavaDeflaterInflaterCompressor();
+    Compressor dictionaryCompressor = compressor.withDictionary(compressor.trainDictionary(1, 1, samples));
+
+    long compressedSize = 0L;
+    long dictionaryCompressedSize = 0L;
+
+    for (byte[] message : messages) {
+      assertRoundTrip(dictionaryCompressor, message);
+      compressedSize += compressor.compress(message).length;
+      dictionaryCompressedSize += dictionaryCompressor.compress(message).length;
+    }
+
+    assertThat(dictionaryCompressedSize).isLessThan(compressedSize / 2);
+  }
+
+  @Test
+  public void compressAndDecompressEmptyAndLargeInput() {
+
+    byte[] largeInput = new byte[256 * 1024];
+
+    new Random(3L).nextBytes(largeInput);
+
+    DictionaryDeflaterCompressor compressor =
+      DictionaryDeflaterCompressor.of(CompressionDictionary.train(2, 1, newMessages(20, 4L), 1024));
+
+    assertRoundTrip(compressor, new byte[0]);
+    assertRoundTrip(compressor, largeInput);
+  }
+
+  @Test
+  public void compressedDataIdentifiesDictionary() {
+
+    CompressionDictionary versionOne = CompressionDictionary.train(1, 1, newMessages(100, 5L), 2048);
+    CompressionDictionary versionTwo = CompressionDictionary.train(1, 2, newMessages(100, 6L), 2048);
+
+    DictionaryDeflaterCompressor compressor = DictionaryDeflaterCompressor.of(versionOne);
+
+    byte[] message = newMessages(1, 7L).get(0);
+    byte[] compressedMessage = compressor.compress(message);
+
+    DictionaryDeflaterCompressor rotatedCompressor = compressor.withDictionary(versionTwo);
+
+    assertThat(rotatedCompressor.getDictionary()).isSameAs(versionTwo);
+    assertThat(rotatedCompressor.getDictionaries()).containsExactlyInAnyOrder(versionOne, versionTwo);
+    assertThat(rotatedCompressor.decompress(compressedMessage)).isEqualTo(message);
+    assertThat(rotatedCompressor.decompress(rotatedCompressor.compress(message))).isEqualTo(message);
+
+    assertThatExceptionOfType(DecompressionException.class)
+      .isThrownBy(() -> DictionaryDeflaterCompressor.of(versionTwo).decompress(compressedMessage))
+      .withMessage("Unknown dictionary [id = 1, version = 1]");
+  }
+
+  @Test
+  public void decompressDictionaryCompressedDataWithoutDictionary() {
+
+    DictionaryDeflaterCompressor compressor =
+      DictionaryDeflaterCompressor.of(CompressionDictionary.train(1, 1, newMessages(100, 8L), 2048));
+
+    byte[] message = newMessages(1, 9L).get(0);
+
+    Deflater deflater = new Deflater();
+
+    try {
+      deflater.setDictionary(compressor.getDictionary().getContent());
+      deflater.setInput(message);
+      deflater.finish();
+
+      byte[] compressedMessage = new byte[1024];
+      int length = deflater.deflate(compressedMessage);
+
+      assertThatExceptionOfType(DecompressionException.class)
+        .isThrownBy(() -> new JavaDeflaterInflaterCompressor().decompress(Arrays.copyOf(compressedMessage, length)))
+        .havingRootCause()
+        .withMessage("Compressed input requires a preset dictionary");
+    }
+    finally {
+      deflater.end();
+    }
+  }
+
+  @Test
+  public void decompressTruncatedHeader() {
+
+    DictionaryDeflaterCompressor compressor =
+      DictionaryDeflaterCompressor.of(CompressionDictionary.of(1, 1, new byte[8]));
+
+    assertThatExceptionOfType(DecompressionException.class)
+      .isThrownBy(() -> compressor.decompress(new byte[0]));
+  }
+}
@@ -16,11 +16,22 @@
 package org.cp.elements.data.compression.provider;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
 
 import org.junit.jupiter.api.Test;
 
+import org.cp.elements.data.compression.DecompressionException;
+
 /**
  * Integration Tests for {@link JavaDeflaterInflaterCompressor}.
  *
@@ -73,4 +84,101 @@ public class JavaDeflaterInflaterCompressorIntegrationTests {
     assertThat(compressor).isNotNull();
     assertThat(compressor.getCompressionLevel()).isEqualTo(Deflater.BEST_SPEED);
   }
+
+  @Test
+  public void compressAndDecompressIncompressibleInput() {
+
+    byte[] input = new byte[1024 * 1024];
+
+    new Random(1L).nextBytes(input);
+
+    JavaDeflaterInflaterCompressor compressor = new JavaDeflaterInflaterCompressor();
+
+    byte[] compressedInput = compressor.compress(input);
+
+    assertThat(compressedInput).hasSizeGreaterThan(input.length);
+    assertThat(compressor.decompress(compressedInput)).isEqualTo(input);
+  }
+
+  @Test
+  public void compressAndDecompressEmptyInput() {
+
+    JavaDeflaterInflaterCompressor compressor = JavaDeflaterInflaterCompressor.bestSpeed();
+
+    assertThat(compressor.decompress(compressor.compress(new byte[0]))).isEmpty();
+  }
+
+  @Test
+  public void compressedBytesAreZlibFormat() throws IOException {
+
+    byte[] input = newRepetitiveInput(100_000);
+    byte[] compressedInput = JavaDeflaterInflaterCompressor.bestCompression().compress(input);
+
+    assertThat(new InflaterInputStream(new ByteArrayInputStream(compressedInput)).readAllBytes()).isEqualTo(input);
+  }
+
+  @Test
+  public void compressAndDecompressStreams() {
+
+    byte[] input = newRepetitiveInput(100_000);
+
+    JavaDeflaterInflaterCompressor compressor = new JavaDeflaterInflaterCompressor();
+
+    ByteArrayOutputStream compressedOutput = new ByteArrayOutputStream();
+    ByteArrayOutputStream decompressedOutput = new ByteArrayOutputStream();
+
+    compressor.compress(new ByteArrayInputStream(input), compressedOutput);
+    compressor.decompress(new ByteArrayInputStream(compressedOutput.toByteArray()), decompressedOutput);
+
+    assertThat(compressedOutput.size()).isLessThan(input.length);
+    assertThat(decompressedOutput.toByteArray()).isEqualTo(input);
+    assertThat(compressor.decompress(compressedOutput.toByteArray())).isEqualTo(input);
+  }
+
+  @Test
+  public void compressAndDecompressChannelsAndByteBuffers() {
+
+    byte[] input = newRepetitiveInput(50_000);
+
+    JavaDeflaterInflaterCompressor compressor = new JavaDeflaterInflaterCompressor();
+
+    ByteBuffer compressedBuffer = compressor.compress(ByteBuffer.wrap(input));
+
+    ByteArrayOutputStream decompressedOutput = new ByteArrayOutputStream();
+
+    compressor.decompress(Channels.newChannel(new ByteArrayInputStream(compressedBuffer.array())),
+      Channels.newChannel(decompressedOutput));
+
+    assertThat(decompressedOutput.toByteArray()).isEqualTo(input);
+    assertThat(compressor.decompress(compressedBuffer).array()).isEqualTo(input);
+  }
+
+  @Test
+  public void decompressTruncatedInputThrowsDecompressionException() {
+
+    JavaDeflaterInflaterCompressor compressor = new JavaDeflaterInflaterCompressor();
+
+    byte[] compressedInput = compressor.compress(newRepetitiveInput(10_000));
+    byte[] truncatedInput = Arrays.copyOf(compressedInput, compressedInput.length / 2);
+
+    assertThatExceptionOfType(DecompressionException.class)
+      .isThrownBy(() -> compressor.decompress(truncatedInput))
+      .withMessage("Unexpected end of compressed input")
+      .withNoCause();
+
+    assertThatExceptionOfType(DecompressionException.class)
+      .isThrownBy(() -> compressor.decompress(new ByteArrayInputStream(truncatedInput), new ByteArrayOutputStream()))
+      .withMessage("Unexpected end of compressed input");
+  }
+
+  private static byte[] newRepetitiveInput(int length) {
+
+    byte[] input = new byte[length];
+
+    for (int index = 0; index < length; index++) {
+      input[index] = (byte) ('a' + index % 23);
+    }
+
+    return input;
+  }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.compression.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.data.compression.DecompressionException;
+
+/**
+ * Unit Tests for {@link Lz4Compressor}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.data.compression.provider.Lz4Compressor
+ * @since 3.0.0
+ */
+public class Lz4CompressorUnitTests {
+
+  private static byte[] newRandomInput(int length) {
+
+    byte[] input = new byte[length];
+
+    new Random(length).nextBytes(input);
+
+    return input;
+  }
+
+  private static byte[] newRepetitiveInput(int length) {
+
+    byte[] input = new byte[length];
+
+    Random random = new Random(length);
+
+    for (int index = 0; index < length; index++) {
+      input[index] = index % 97 < 60 ? (byte) ('a' + index % 7) : (byte) random.nextInt(4);
+    }
+
+    return input;
+  }
+
+  private void assertRoundTrip(Lz4Compressor compressor, byte[] input) {
+
+    byte[] compressedInput = compressor.compress(input);
+
+    assertThat(compressor.decompress(compressedInput)).isEqualTo(input);
+
+    ByteArrayOutputStream compressedOutput = new ByteArrayOutputStream();
+    ByteArrayOutputStream decompressedOutput = new ByteArrayOutputStream();
+
+    compressor.compress(new ByteArrayInputStream(input), compressedOutput);
+    compressor.decompress(new ByteArrayInputStream(compressedOutput.toByteArray()), decompressedOutput);
+
+    assertThat(decompressedOutput.toByteArray()).isEqualTo(input);
+    assertThat(compressedOutput.toByteArray()).isEqualTo(compressedInput);
+  }
+
+  @Test
+  public void compressAndDecompressInputsOfVariousLengths() {
+
+    Lz4Compressor compressor = new Lz4Compressor();
+
+    for (int length : new int[] { 0, 1, 12, 13, 14, 100, 65_535, 65_536, 65_537, 300_000 }) {
+      assertRoundTrip(compressor, newRandomInput(length));
+      assertRoundTrip(compressor, newRepetitiveInput(length));
+      assertRoundTrip(compressor, new byte[length]);
+    }
+  }
+
+  @Test
+  public void compressAndDecompressWithSmallBlocks() {
+
+    Lz4Compressor compressor = new Lz4Compressor(1000);
+
+    assertThat(compressor.getBlockSize()).isEqualTo(1000);
+
+    assertRoundTrip(compressor, newRepetitiveInput(12_345));
+  }
+
+  @Test
+  public void compressesRepetitiveInput() {
+
+    byte[] input = newRepetitiveInput(100_000);
+
+    assertThat(Lz4Compressor.INSTANCE.compress(input)).hasSizeLessThan(input.length / 2);
+  }
+
+  @Test
+  public void storesIncompressibleInputUncompressed() {
+
+    byte[] input = newRandomInput(100_000);
+
+    assertThat(Lz4Compressor.INSTANCE.compress(input)).hasSizeLessThan(input.length + 16);
+  }
+
+  @Test
+  public void decompressCorruptInputThrowsDecompressionException() {
+
+    byte[] compressedInput = Lz4Compressor.INSTANCE.compress(newRepetitiveInput(10_000));
+
+    assertThatExceptionOfType(DecompressionException.class)
+      .isThrownBy(() -> Lz4Compressor.INSTANCE.decompress(Arrays.copyOf(compressedInput, compressedInput.length / 2)));
+
+    assertThatExceptionOfType(DecompressionException.class)
+      .isThrownBy(() -> Lz4Compressor.INSTANCE.decompress(new ByteArrayInputStream(compressedInput, 0, 100),
+        new ByteArrayOutputStream()));
+  }
+
+  @Test
+  public void constructWithInvalidBlockSizeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new Lz4Compressor(0))
+      .withMessage("Block size [0] must be greater than 0 and less than equal to [%d]", Lz4Compressor.MAX_BLOCK_SIZE)
+      .withNoCause();
+  }
+}
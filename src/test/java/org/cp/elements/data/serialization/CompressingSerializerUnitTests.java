@@ -0,0 +1,164 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.data.compression.CompressionException;
+import org.cp.elements.data.compression.Compressor;
+import org.cp.elements.data.compression.DecompressionException;
+import org.cp.elements.data.compression.provider.JavaDeflaterInflaterCompressor;
+import org.cp.elements.data.compression.provider.Lz4Compressor;
+import org.cp.elements.data.serialization.provider.JavaSerializationSerializer;
+
+/**
+ * Unit Tests for {@link CompressingSerializer}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.mockito.Mockito
+ * @see org.cp.elements.data.serialization.CompressingSerializer
+ * @since 3.0.0
+ */
+public class CompressingSerializerUnitTests {
+
+  @Test
+  public void constructCompressingSerializer() {
+
+    Compressor compressor = mock(Compressor.class);
+    Serializer serializer = mock(Serializer.class);
+
+    CompressingSerializer compressingSerializer = CompressingSerializer.of(serializer, compressor);
+
+    assertThat(compressingSerializer).isNotNull();
+    assertThat(compressingSerializer.getCompressor()).isSameAs(compressor);
+    assertThat(compressingSerializer.getSerializer()).isSameAs(serializer);
+  }
+
+  @Test
+  public void constructCompressingSerializerWithNullArguments() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> CompressingSerializer.of(null, mock(Compressor.class)))
+      .withMessage("Serializer is required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> CompressingSerializer.of(mock(Serializer.class), null))
+      .withMessage("Compressor is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void compressedWithReturnsCompressingSerializer() {
+
+    Compressor compressor = new Lz4Compressor();
+    Serializer serializer = new JavaSerializationSerializer();
+
+    Serializer compressingSerializer = serializer.compressedWith(compressor);
+
+    assertThat(compressingSerializer).isInstanceOf(CompressingSerializer.class);
+    assertThat(((CompressingSerializer) compressingSerializer).getCompressor()).isSameAs(compressor);
+    assertThat(((CompressingSerializer) compressingSerializer).getSerializer()).isSameAs(serializer);
+  }
+
+  @Test
+  public void isSerializableDelegates() {
+
+    Serializer serializer = new JavaSerializationSerializer().compressedWith(new Lz4Compressor());
+
+    assertThat(serializer.isSerializable("test")).isTrue();
+    assertThat(serializer.isSerializable(new Object())).isFalse();
+    assertThat(serializer.isSerializable(null)).isFalse();
+  }
+
+  @Test
+  public void serializeAndDeserialize() {
+
+    List<String> list = new ArrayList<>(Arrays.asList("test", "test", "test", "test", "test", "test", "test"));
+
+    Serializer serializer = new JavaSerializationSerializer();
+    Serializer compressingSerializer = serializer.compressedWith(new JavaDeflaterInflaterCompressor());
+
+    ByteBuffer serializedList = compressingSerializer.serialize(list);
+
+    assertThat(serializedList.remaining()).isLessThan(serializer.serialize(list).remaining());
+    assertThat(compressingSerializer.<List<String>>deserialize(serializedList)).isEqualTo(list);
+  }
+
+  @Test
+  public void serializeHandlesCompressionException() {
+
+    Compressor compressor = mock(Compressor.class);
+
+    doThrow(new CompressionException("TEST")).when(compressor).compress(any(byte[].class));
+
+    assertThatExceptionOfType(SerializationException.class)
+      .isThrownBy(() -> new JavaSerializationSerializer().compressedWith(compressor).serialize("test"))
+      .withMessage("Failed to compress serialized object [test]")
+      .withCauseInstanceOf(CompressionException.class);
+  }
+
+  @Test
+  public void deserializeHandlesDecompressionException() {
+
+    Compressor compressor = mock(Compressor.class);
+    Serializer serializer = mock(Serializer.class);
+
+    ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+
+    doThrow(new DecompressionException("TEST")).when(compressor).decompress(any(ByteBuffer.class));
+
+    assertThatExceptionOfType(DeserializationException.class)
+      .isThrownBy(() -> CompressingSerializer.of(serializer, compressor).deserialize(buffer))
+      .withMessage("Failed to decompress serialized object")
+      .withCauseInstanceOf(DecompressionException.class);
+
+    verify(compressor).decompress(buffer);
+  }
+
+  @Test
+  public void deserializeDelegatesDecompressedBytes() {
+
+    Compressor compressor = mock(Compressor.class);
+    Serializer serializer = mock(Serializer.class);
+
+    ByteBuffer compressedBuffer = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+    ByteBuffer decompressedBuffer = ByteBuffer.wrap(new byte[] { 4, 5, 6, 7 });
+
+    doReturn(decompressedBuffer).when(compressor).decompress(compressedBuffer);
+    doReturn("test").when(serializer).deserialize(decompressedBuffer);
+
+    assertThat(CompressingSerializer.of(serializer, compressor).<String>deserialize(compressedBuffer))
+      .isEqualTo("test");
+
+    verify(serializer).deserialize(decompressedBuffer);
+  }
+}
@@ -29,8 +29,16 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -153,4 +161,103 @@ public class SerializerUnitTests {
     verify(serializer, times(1)).toByteArray(isNull());
     verifyNoMoreInteractions(serializer);
   }
+
+  @Test
+  public void serializeToOutputStreamWritesSerializedBytes() {
+
+    Serializer serializer = mock(Serializer.class);
+
+    doCallRealMethod().when(serializer).serialize(any(), any(OutputStream.class));
+    doReturn(ByteBuffer.wrap("TEST".getBytes())).when(serializer).serialize(eq("TEST"));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    serializer.serialize("TEST", out);
+
+    assertThat(out.toByteArray()).isEqualTo("TEST".getBytes());
+
+    verify(serializer, times(1)).serialize(eq("TEST"), eq(out));
+    verify(serializer, times(1)).serialize(eq("TEST"));
+    verifyNoMoreInteractions(serializer);
+  }
+
+  @Test
+  public void serializeToWritableByteChannelWritesSerializedBytes() {
+
+    Serializer serializer = mock(Serializer.class);
+
+    doCallRealMethod().when(serializer).serialize(any(), any(OutputStream.class));
+    doCallRealMethod().when(serializer).serialize(any(), any(WritableByteChannel.class));
+    doReturn(ByteBuffer.wrap("MOCK".getBytes()).asReadOnlyBuffer()).when(serializer).serialize(eq("MOCK"));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    serializer.serialize("MOCK", Channels.newChannel(out));
+
+    assertThat(out.toByteArray()).isEqualTo("MOCK".getBytes());
+  }
+
+  @Test
+  public void serializeToNullOutputStreamThrowsIllegalArgumentException() {
+
+    Serializer serializer = mock(Serializer.class);
+
+    doCallRealMethod().when(serializer).serialize(any(), any(OutputStream.class));
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> serializer.serialize("TEST", (OutputStream) null))
+      .withMessage("OutputStream is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void serializeAllSerializesEachObjectInOrder() {
+
+    ByteBuffer one = ByteBuffer.wrap(new byte[] { 1 });
+    ByteBuffer two = ByteBuffer.wrap(new byte[] { 2 });
+
+    Serializer serializer = mock(Serializer.class);
+
+    doCallRealMethod().when(serializer).serializeAll(any());
+    doReturn(one).when(serializer).serialize(eq("ONE"));
+    doReturn(two).when(serializer).serialize(eq("TWO"));
+
+    assertThat(serializer.serializeAll(Arrays.asList("ONE", "TWO"))).containsExactly(one, two);
+  }
+
+  @Test
+  public void serializeAllWithNullIterableReturnsEmptyList() {
+
+    Serializer serializer = mock(Serializer.class);
+
+    doCallRealMethod().when(serializer).serializeAll(any());
+
+    assertThat(serializer.serializeAll(null)).isEmpty();
+    assertThat(serializer.serializeAll(List.of())).isEmpty();
+  }
+
+  @Test
+  public void deserializeFromInputStreamReadsAllBytes() {
+
+    Serializer serializer = mock(Serializer.class);
+
+    doCallRealMethod().when(serializer).deserialize(any(InputStream.class));
+    doReturn("TEST").when(serializer).deserialize(eq(ByteBuffer.wrap("TEST".getBytes())));
+
+    Object value = serializer.deserialize(new ByteArrayInputStream("TEST".getBytes()));
+
+    assertThat(value).isEqualTo("TEST");
+  }
+
+  @Test
+  public void loaderResolvesSerializerForObject() {
+
+    Serializer.Loader loader = Serializer.getLoader();
+
+    assertThat(loader).isNotNull();
+    assertThat(loader.getType()).isEqualTo(Serializer.class);
+    assertThat(loader.getServiceInstance("binary")).isNotNull();
+    assertThat(loader.getServiceInstance("java")).isNotNull();
+    assertThat(loader.getServiceInstance((Object) "TEST").isSerializable("TEST")).isTrue();
+  }
 }
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.data.serialization.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.data.serialization.DeserializationException;
+import org.cp.elements.data.serialization.SerializationException;
+
+/**
+ * Unit Tests for {@link BinarySerializer}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.data.serialization.provider.BinarySerializer
+ * @since 3.0.0
+ */
+public class BinarySerializerUnitTests {
+
+  private final BinarySerializer serializer =
+    BinarySerializer.INSTANCE.allowing(Point.class, PointVersionTwo.class, Polygon.class, Shape.class, Person.class);
+
+  @Test
+  public void isSerializableWithRecordsAndBeans() {
+
+    assertThat(this.serializer.isSerializable(new Point(1, 2))).isTrue();
+    assertThat(this.serializer.isSerializable(new Person())).isTrue();
+  }
+
+  @Test
+  public void isSerializableWithNonRecordsAndNonBeans() {
+
+    assertThat(this.serializer.isSerializable(null)).isFalse();
+    assertThat(this.serializer.isSerializable("test")).isFalse();
+    assertThat(this.serializer.isSerializable(new Object())).isFalse();
+    assertThat(this.serializer.isSerializable(List.of(1, 2))).isFalse();
+    assertThat(this.serializer.isSerializable(Color.RED)).isFalse();
+  }
+
+  @Test
+  public void serializesAndDeserializesRecord() {
+
+    Map<String, Object> attributes = new LinkedHashMap<>();
+
+    attributes.put("bigDecimal", new BigDecimal("-12.345"));
+    attributes.put("bigInteger", new BigInteger("-123456789012345678901234567890"));
+    attributes.put("byte", (byte) -3);
+    attributes.put("character", 'x');
+    attributes.put("date", new Date(123456789L));
+    attributes.put("float", -1.5f);
+    attributes.put("instant", Instant.ofEpochSecond(1_000_000L, 123));
+    attributes.put("localDate", LocalDate.of(2024, 2, 29));
+    attributes.put("localDateTime", LocalDateTime.of(2024, 2, 29, 23, 59, 59, 999));
+    attributes.put("localTime", LocalTime.NOON);
+    attributes.put("long", Long.MIN_VALUE);
+    attributes.put("null", null);
+    attributes.put("short", (short) -300);
+    attributes.put("sortedMap", new TreeMap<>(Map.of("b", 2, "a", 1)));
+    attributes.put("sortedSet", new TreeSet<>(Set.of(3, 1, 2)));
+    attributes.put("string", "héllo");
+    attributes.put("uuid", UUID.randomUUID());
+
+    Shape shape = new Shape("triangle", List.of(new Point(1, -2), new Point(Integer.MAX_VALUE, Integer.MIN_VALUE)),
+      Color.GREEN, attributes, new int[] { 1, 2, 3 }, 3.25d, true);
+
+    ByteBuffer bytes = this.serializer.serialize(shape);
+
+    assertThat(bytes.position()).isZero();
+    assertThat(bytes.remaining()).isEqualTo(bytes.capacity());
+
+    Shape deserializedShape = this.serializer.deserialize(bytes);
+
+    assertThat(deserializedShape).isNotSameAs(shape);
+    assertThat(deserializedShape.name()).isEqualTo(shape.name());
+    assertThat(deserializedShape.points()).isEqualTo(shape.points());
+    assertThat(deserializedShape.color()).isSameAs(Color.GREEN);
+    assertThat(deserializedShape.attributes()).isEqualTo(attributes);
+    assertThat(deserializedShape.attributes().get("sortedMap")).isInstanceOf(TreeMap.class);
+    assertThat(deserializedShape.attributes().get("sortedSet")).isInstanceOf(TreeSet.class);
+    assertThat(deserializedShape.ids()).containsExactly(1, 2, 3);
+    assertThat(deserializedShape.area()).isEqualTo(3.25d);
+    assertThat(deserializedShape.closed()).isTrue();
+  }
+
+  @Test
+  public void serializesAndDeserializesBean() {
+
+    Person person = new Person();
+
+    person.setName("Jon Doe");
+    person.setAge(42);
+    person.setPassword("secret");
+    person.setHome(new Point(3, 4));
+    person.setNicknames(new String[] { "JD", "Johnny" });
+
+    Person deserializedPerson = this.serializer.deserialize(ByteBuffer.wrap(this.serializer.toByteArray(person)));
+
+    assertThat(deserializedPerson).isNotSameAs(person);
+    assertThat(deserializedPerson.getName()).isEqualTo("Jon Doe");
+    assertThat(deserializedPerson.getAge()).isEqualTo(42);
+    assertThat(deserializedPerson.getPassword()).isNull();
+    assertThat(deserializedPerson.getHome()).isEqualTo(new Point(3, 4));
+    assertThat(deserializedPerson.getNicknames()).containsExactly("JD", "Johnny");
+  }
+
+  @Test
+  public void serializesRepeatedTypesOnce() {
+
+    List<Point> points = Arrays.asList(new Point(1, 1), new Point(2, 2), new Point(3, 3));
+
+    int singleSize = this.serializer.serialize(new Polygon(points.subList(0, 1))).remaining();
+    int tripleSize = this.serializer.serialize(new Polygon(points)).remaining();
+
+    assertThat(tripleSize - singleSize).isLessThan(singleSize);
+  }
+
+  @Test
+  public void serializesToAndDeserializesFromStream() {
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    this.serializer.serialize(new Point(1, 2), out);
+
+    assertThat(out.toByteArray()).isEqualTo(this.serializer.toByteArray(new Point(1, 2)));
+    assertThat(this.serializer.<Point>deserialize(new ByteArrayInputStream(out.toByteArray())))
+      .isEqualTo(new Point(1, 2));
+  }
+
+  @Test
+  public void serializesAllObjects() {
+
+    List<ByteBuffer> buffers = this.serializer.serializeAll(List.of(new Point(1, 2), new Point(3, 4)));
+
+    assertThat(buffers).hasSize(2);
+    assertThat(this.serializer.<Point>deserialize(buffers.get(0))).isEqualTo(new Point(1, 2));
+    assertThat(this.serializer.<Point>deserialize(buffers.get(1))).isEqualTo(new Point(3, 4));
+  }
+
+  @Test
+  public void deserializesByPropertyNameSkippingUnknownProperties() {
+
+    byte[] bytes = this.serializer.toByteArray(new PointVersionOne(1, 2, "label"));
+
+    String serialized = new String(bytes, StandardCharsets.ISO_8859_1)
+      .replace(PointVersionOne.class.getName(), PointVersionTwo.class.getName());
+
+    PointVersionTwo point =
+      this.serializer.deserialize(ByteBuffer.wrap(serialized.getBytes(StandardCharsets.ISO_8859_1)));
+
+    assertThat(point).isEqualTo(new PointVersionTwo(2, 1));
+  }
+
+  @Test
+  public void deserializesExpectedType() {
+
+    ByteBuffer bytes = BinarySerializer.INSTANCE.serialize(new Polygon(List.of(new Point(1, 2))));
+
+    assertThat(BinarySerializer.INSTANCE.allowing(Point.class).deserialize(bytes, Polygon.class))
+      .isEqualTo(new Polygon(List.of(new Point(1, 2))));
+  }
+
+  @Test
+  public void deserializeTypeNotAllowedThrowsDeserializationException() {
+
+    ByteBuffer bytes = BinarySerializer.INSTANCE.serialize(new Point(1, 2));
+
+    assertThatExceptionOfType(DeserializationException.class)
+      .isThrownBy(() -> BinarySerializer.INSTANCE.deserialize(bytes))
+      .withMessage("Type [%s] is not allowed to be deserialized", Point.class.getName())
+      .withNoCause();
+
+    assertThatExceptionOfType(DeserializationException.class)
+      .isThrownBy(() -> BinarySerializer.INSTANCE.deserialize(bytes, Polygon.class))
+      .withMessage("Type [%s] is not allowed to be deserialized", Point.class.getName())
+      .withNoCause();
+  }
+
+  @Test
+  public void deserializeInvalidValueThrowsDeserializationException() {
+
+    byte[] bytes = { 18, -1, -1, -1, -1, -1, -1, -1, -1, 127 };
+
+    assertThatExceptionOfType(DeserializationException.class)
+      .isThrownBy(() -> this.serializer.deserialize(ByteBuffer.wrap(bytes)))
+      .withMessage("Failed to deserialize object from bytes")
+      .withCauseInstanceOf(DateTimeException.class);
+  }
+
+  @Test
+  public void serializeNullObjectThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> this.serializer.serialize(null))
+      .withMessage("The object to serialize is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void serializeUnsupportedObjectThrowsSerializationException() {
+
+    assertThatExceptionOfType(SerializationException.class)
+      .isThrownBy(() -> this.serializer.serialize(new Object()))
+      .withMessage("Objects of type [java.lang.Object] are not supported")
+      .withNoCause();
+  }
+
+  @Test
+  public void serializeSortedSetWithComparatorThrowsSerializationException() {
+
+    Comparator<String> comparator = Comparator.reverseOrder();
+
+    TreeSet<String> sortedSet = new TreeSet<>(comparator);
+
+    sortedSet.addAll(Set.of("a", "b"));
+
+    assertThatExceptionOfType(SerializationException.class)
+      .isThrownBy(() -> this.serializer.serialize(sortedSet))
+      .withMessage("Sorted Collections or Maps ordered by a Comparator [%s] are not supported; [java.util.TreeSet]",
+        comparator.getClass().getName())
+      .withNoCause();
+  }
+
+  @Test
+  public void serializeSortedMapWithComparatorThrowsSerializationException() {
+
+    Comparator<String> comparator = String.CASE_INSENSITIVE_ORDER;
+
+    TreeMap<String, Integer> sortedMap = new TreeMap<>(comparator);
+
+    sortedMap.put("a", 1);
+
+    assertThatExceptionOfType(SerializationException.class)
+      .isThrownBy(() -> this.serializer.serialize(Map.of("nested", sortedMap)))
+      .withMessage("Sorted Collections or Maps ordered by a Comparator [%s] are not supported; [java.util.TreeMap]",
+        comparator.getClass().getName())
+      .withNoCause();
+  }
+
+  @Test
+  public void deserializeEmptyByteBufferThrowsDeserializationException() {
+
+    assertThatExceptionOfType(DeserializationException.class)
+      .isThrownBy(() -> this.serializer.deserialize(ByteBuffer.allocate(0)))
+      .withMessage("No bytes to deserialize")
+      .withNoCause();
+  }
+
+  @Test
+  public void deserializeTruncatedBytesThrowsDeserializationException() {
+
+    ByteBuffer bytes = this.serializer.serialize(new Point(1, 2));
+
+    assertThatExceptionOfType(DeserializationException.class)
+      .isThrownBy(() -> this.serializer.deserialize(bytes.limit(bytes.limit() - 1)));
+  }
+
+  enum Color { RED, GREEN }
+
+  public record Point(int x, int y) { }
+
+  public record PointVersionOne(int x, int y, String label) { }
+
+  public record PointVersionTwo(int y, int x) { }
+
+  public record Polygon(List<Point> points) { }
+
+  public record Shape(String name, List<Point> points, Color color, Map<String, Object> attributes, int[] ids,
+    double area, boolean closed) { }
+
+  public static class Person {
+
+    private int age;
+
+    private transient String password;
+
+    private Point home;
+
+    private String name;
+
+    private String[] nicknames;
+
+    public int getAge() {
+      return this.age;
+    }
+
+    public void setAge(int age) {
+      this.age = age;
+    }
+
+    public Point getHome() {
+      return this.home;
+    }
+
+    public void setHome(Point home) {
+      this.home = home;
+    }
+
+    public String getName() {
+      return this.name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public String[] getNicknames() {
+      return this.nicknames;
+    }
+
+    public void setNicknames(String[] nicknames) {
+      this.nicknames = nicknames;
+    }
+
+    public String getPassword() {
+      return this.password;
+    }
+
+    public void setPassword(String password) {
+      this.password = password;
+    }
+  }
+}
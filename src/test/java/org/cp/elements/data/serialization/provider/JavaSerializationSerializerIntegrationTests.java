@@ -18,10 +18,13 @@ package org.cp.elements.data.serialization.provider;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.NotSerializableException;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -110,6 +113,64 @@ public class JavaSerializationSerializerIntegrationTests {
       .withNoCause();
   }
 
+  @Test
+  public void serializesToExactlySizedByteBuffer() {
+
+    ByteBuffer bytes = JavaSerializationSerializer.INSTANCE.serialize("test");
+
+    assertThat(bytes.position()).isZero();
+    assertThat(bytes.limit()).isEqualTo(bytes.capacity());
+    assertThat(JavaSerializationSerializer.INSTANCE.toByteArray("test")).hasSize(bytes.capacity());
+  }
+
+  @Test
+  public void serializesAndDeserializesLargeObject() {
+
+    byte[] array = new byte[100_000];
+
+    for (int index = 0; index < array.length; index++) {
+      array[index] = (byte) index;
+    }
+
+    byte[] deserializedArray =
+      JavaSerializationSerializer.INSTANCE.deserialize(JavaSerializationSerializer.INSTANCE.serialize(array));
+
+    assertThat(deserializedArray).isEqualTo(array);
+  }
+
+  @Test
+  public void serializesToAndDeserializesFromStream() {
+
+    TestUser jonDoe = TestUser.as("jonDoe").identifiedBy(1);
+    TestUser janeDoe = TestUser.as("janeDoe").identifiedBy(2);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    JavaSerializationSerializer.INSTANCE.serialize(jonDoe, out);
+    JavaSerializationSerializer.INSTANCE.serialize(janeDoe, out);
+
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+
+    TestUser deserializedJonDoe = JavaSerializationSerializer.INSTANCE.deserialize(in);
+    TestUser deserializedJaneDoe = JavaSerializationSerializer.INSTANCE.deserialize(in);
+
+    assertThat(deserializedJonDoe).isEqualTo(jonDoe);
+    assertThat(deserializedJaneDoe).isEqualTo(janeDoe);
+    assertThat(in.available()).isZero();
+  }
+
+  @Test
+  public void serializesAllObjects() {
+
+    List<ByteBuffer> buffers = JavaSerializationSerializer.INSTANCE.serializeAll(List.of("one", "two"));
+
+    assertThat(buffers).hasSize(2);
+    assertThat(buffers.stream()
+      .map(buffer -> (Object) JavaSerializationSerializer.INSTANCE.deserialize(buffer))
+      .toList())
+      .containsExactly("one", "two");
+  }
+
   static class NonSerializableObject { }
 
   @Getter
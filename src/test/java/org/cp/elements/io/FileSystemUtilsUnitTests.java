@@ -1159,4 +1159,19 @@ public class FileSystemUtilsUnitTests extends AbstractTestSuite {
     verify(mockFileTwo, times(1)).length();
     verifyNoMoreInteractions(mockFileTwo);
   }
+
+  @Test
+  public void walkNullIsNullSafe() {
+    assertThat(FileSystemUtils.walk(null)).isEmpty();
+  }
+
+  @Test
+  public void walkNonDirectoryReturnsEmptyStream() {
+
+    assertThat(FileSystemUtils.walk(whenFile(this.mockFile), this.mockFileFilter)).isEmpty();
+
+    verify(this.mockFile, times(1)).isDirectory();
+    verifyNoMoreInteractions(this.mockFile);
+    verifyNoInteractions(this.mockFileFilter);
+  }
 }
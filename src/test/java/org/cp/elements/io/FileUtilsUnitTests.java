@@ -36,10 +36,16 @@ import java.io.FileNotFoundException;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -1066,4 +1072,113 @@ public class FileUtilsUnitTests extends AbstractTestSuite {
 
     assertThat(actualContent).isEqualTo(expectedContent);
   }
+
+  @Test
+  @IntegrationTest
+  public void copyFileToFileIsSuccessful() throws IOException {
+
+    File source = File.createTempFile("copyFileToFileSource", ".txt");
+    File target = File.createTempFile("copyFileToFileTarget", ".txt");
+
+    try {
+      Files.writeString(source.toPath(), "This is a test of copying a File with FileChannels!");
+      Files.writeString(target.toPath(), "This existing content is longer than the source and will be replaced!");
+
+      assertThat(FileUtils.copy(source, target)).isSameAs(target);
+      assertThat(Files.readString(target.toPath()))
+        .isEqualTo("This is a test of copying a File with FileChannels!");
+    }
+    finally {
+      FileUtils.delete(source);
+      FileUtils.delete(target);
+    }
+  }
+
+  @Test
+  @IntegrationTest
+  public void copyFileToSameFileLeavesFileUnchanged() throws IOException {
+
+    File source = File.createTempFile("copyFileToSameFile", ".txt");
+
+    try {
+      Files.writeString(source.toPath(), "This content must survive a copy onto itself!");
+
+      File target = new File(source.getParentFile(), ".." + File.separator + source.getParentFile().getName()
+        + File.separator + source.getName());
+
+      assertThat(FileUtils.copy(source, target)).isSameAs(target);
+      assertThat(Files.readString(source.toPath())).isEqualTo("This content must survive a copy onto itself!");
+    }
+    finally {
+      FileUtils.delete(source);
+    }
+  }
+
+  @Test
+  public void copyNonExistingFile() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> FileUtils.copy(newFile("/path/to/non/existing/file.txt"), this.mockFile))
+      .withMessage("[/path/to/non/existing/file.txt] must be a file")
+      .withNoCause();
+  }
+
+  @Test
+  @IntegrationTest
+  public void linesStreamsLinesFromFile() throws IOException {
+
+    File file = File.createTempFile("linesStreamsLinesFromFile", ".txt");
+
+    try {
+      Files.writeString(file.toPath(), "one\r\ntwo\nthree\n", StandardCharsets.UTF_8);
+
+      try (Stream<String> lines = FileUtils.lines(file, StandardCharsets.UTF_8)) {
+        assertThat(lines.collect(Collectors.toList())).containsExactly("one", "two", "three");
+      }
+
+      List<String> lines = FileUtils.readLines(file);
+
+      assertThat(lines).containsExactly("one", "two", "three");
+    }
+    finally {
+      FileUtils.delete(file);
+    }
+  }
+
+  @Test
+  @IntegrationTest
+  public void mapFileIsSuccessful() throws IOException {
+
+    File file = File.createTempFile("mapFileIsSuccessful", ".bin");
+
+    try {
+      Files.write(file.toPath(), new byte[] { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE });
+
+      MappedByteBuffer buffer = FileUtils.map(file);
+
+      assertThat(buffer.isReadOnly()).isTrue();
+      assertThat(buffer.remaining()).isEqualTo(4);
+      assertThat(buffer.getInt()).isEqualTo(0xCAFEBABE);
+    }
+    finally {
+      FileUtils.delete(file);
+    }
+  }
+
+  @Test
+  @IntegrationTest
+  public void readFileWithMixedLineTerminators() throws IOException {
+
+    File file = File.createTempFile("readFileWithMixedLineTerminators", ".txt");
+
+    try {
+      Files.writeString(file.toPath(), "  one\r\ntwo\rthree\n\n", StandardCharsets.UTF_8);
+
+      assertThat(FileUtils.read(file, StandardCharsets.UTF_8))
+        .isEqualTo(String.join(StringUtils.LINE_SEPARATOR, "one", "two", "three"));
+    }
+    finally {
+      FileUtils.delete(file);
+    }
+  }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.test.annotation.IntegrationTest;
+
+/**
+ * Integration Tests for {@link FileWalker}.
+ *
+ * @author John Blum
+ * @see java.io.File
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.io.FileWalker
+ * @since 3.0.0
+ */
+@IntegrationTest
+public class FileWalkerIntegrationTests {
+
+  private static final int DIRECTORY_COUNT = 4;
+  private static final int FILES_PER_DIRECTORY = 6;
+
+  private static File directory;
+
+  @BeforeAll
+  public static void createDirectoryTree() throws IOException {
+
+    Path root = Files.createTempDirectory("elements-file-walker");
+
+    for (int index = 0; index < DIRECTORY_COUNT; index++) {
+
+      Path subdirectory = Files.createDirectories(root.resolve("directory" + index).resolve("nested"));
+
+      for (int count = 0; count < FILES_PER_DIRECTORY; count++) {
+        String extension = count % 2 == 0 ? ".txt" : ".bin";
+        Files.write(subdirectory.resolve("file" + count + extension), new byte[count]);
+      }
+    }
+
+    Files.write(root.resolve("root.txt"), new byte[10]);
+
+    directory = root.toFile();
+  }
+
+  @AfterAll
+  public static void deleteDirectoryTree() {
+    FileSystemUtils.deleteRecursive(directory);
+  }
+
+  private static int totalFileCount() {
+    return DIRECTORY_COUNT * FILES_PER_DIRECTORY + 1;
+  }
+
+  @Test
+  public void constructFileWalkerWithNonDirectoryThrowsIllegalArgumentException() {
+
+    File file = new File(directory, "root.txt");
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> FileWalker.walk(file))
+      .withMessage("File [%s] is not a valid directory", file)
+      .withNoCause();
+  }
+
+  @Test
+  public void constructFileWalkerWithNullThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> FileWalker.walk(null))
+      .withMessage("File [null] is not a valid directory")
+      .withNoCause();
+  }
+
+  @Test
+  public void streamsAllFiles() {
+
+    try (Stream<File> files = FileWalker.walk(directory).stream()) {
+
+      List<File> fileList = files.collect(Collectors.toList());
+
+      assertThat(fileList).hasSize(totalFileCount());
+      assertThat(fileList).allMatch(File::isFile);
+      assertThat(fileList).doesNotHaveDuplicates();
+    }
+  }
+
+  @Test
+  public void streamsFilesAcceptedByFileFilter() {
+
+    try (Stream<File> files = FileWalker.walk(directory).withFileFilter(new FileExtensionFilter("txt")).stream()) {
+      assertThat(files.map(File::getName)).hasSize(DIRECTORY_COUNT * FILES_PER_DIRECTORY / 2 + 1)
+        .allMatch(name -> name.endsWith(".txt"));
+    }
+  }
+
+  @Test
+  public void streamsFilesAcceptedByComposedFileFilter() {
+
+    FileFilter fileFilter = ComposableFileFilter.and(new FileExtensionFilter("bin"), FileSizeFilter.greaterThan(2));
+
+    try (Stream<File> files = FileWalker.walk(directory).withFileFilter(fileFilter).stream()) {
+      assertThat(files.map(File::getName)).hasSize(DIRECTORY_COUNT * 2)
+        .allMatch(name -> name.equals("file3.bin") || name.equals("file5.bin"));
+    }
+  }
+
+  @Test
+  public void streamTerminatesEarly() {
+
+    try (Stream<File> files = FileWalker.walk(directory).stream()) {
+      assertThat(files.limit(2).collect(Collectors.toList())).hasSize(2);
+    }
+  }
+
+  @Test
+  public void streamWithMaxDepth() {
+
+    try (Stream<File> files = FileWalker.walk(directory).withMaxDepth(1).stream()) {
+      assertThat(files.map(File::getName).collect(Collectors.toList())).containsExactly("root.txt");
+    }
+  }
+
+  @Test
+  public void streamWithDirectoryFilterPrunesSubdirectories() {
+
+    try (Stream<File> files = FileWalker.walk(directory)
+        .withDirectoryFilter(file -> !file.getName().equals("directory0"))
+        .stream()) {
+
+      assertThat(files.count()).isEqualTo(totalFileCount() - FILES_PER_DIRECTORY);
+    }
+  }
+
+  @Test
+  public void withMaxDepthLessThanOneThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> FileWalker.walk(directory).withMaxDepth(0))
+      .withMessage("Max depth [0] must be greater than 0")
+      .withNoCause();
+  }
+
+  @Test
+  public void visitVisitsAllFilesInParallel() {
+
+    AtomicInteger visits = new AtomicInteger(0);
+
+    ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+
+    try {
+      assertThat(FileWalker.walk(directory).withForkJoinPool(forkJoinPool).visit(file -> {
+        visits.incrementAndGet();
+        return true;
+      })).isTrue();
+
+      assertThat(visits.get()).isEqualTo(totalFileCount());
+    }
+    finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  @Test
+  public void visitTerminatesEarly() {
+
+    AtomicInteger visits = new AtomicInteger(0);
+
+    assertThat(FileWalker.walk(directory).visit(file -> visits.incrementAndGet() < 3)).isFalse();
+    assertThat(visits.get()).isLessThan(totalFileCount());
+  }
+
+  @Test
+  public void visitWithNullVisitorThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> FileWalker.walk(directory).visit(null))
+      .withMessage("Visitor is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void countAndSize() {
+
+    FileWalker fileWalker = FileWalker.walk(directory);
+
+    assertThat(fileWalker.count()).isEqualTo(FileSystemUtils.count(directory));
+    assertThat(fileWalker.size()).isEqualTo(FileSystemUtils.size(directory));
+  }
+
+  @Test
+  public void findAnyMatchingFile() {
+
+    FileWalker fileWalker = FileWalker.walk(directory);
+
+    assertThat(fileWalker.findAny(file -> file.getName().equals("file5.bin")).map(File::getName))
+      .hasValue("file5.bin");
+
+    assertThat(fileWalker.findAny(file -> file.getName().equals("nonExistingFile.txt"))).isNotPresent();
+  }
+}
@@ -41,6 +41,9 @@ import java.io.InputStream;
 import java.io.ObjectStreamClass;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.Test;
@@ -113,7 +116,7 @@ public class IOUtilsUnitTests {
     verify(mockOutputStream, times(1)).write(any(byte[].class), eq(0), eq(IOUtils.DEFAULT_BUFFER_SIZE));
     verify(mockOutputStream, times(1)).write(any(byte[].class), eq(0), eq(8192));
     verify(mockOutputStream, never()).write(any(byte[].class), eq(0), eq(0));
-    verify(mockOutputStream, times(2)).flush();
+    verify(mockOutputStream, times(1)).flush();
     verifyNoMoreInteractions(mockInputStream, mockOutputStream);
   }
 
@@ -133,6 +136,63 @@ public class IOUtilsUnitTests {
     verify(target, never()).close();
   }
 
+  @Test
+  public void copyWithBufferSizeIsCorrect() throws IOException {
+
+    byte[] source = "This is a test of copy with a small buffer!".getBytes(StandardCharsets.UTF_8);
+
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+    IOUtils.copy(new ByteArrayInputStream(source), target, 4);
+
+    assertThat(target.toByteArray()).isEqualTo(source);
+  }
+
+  @Test
+  public void copyWithInvalidBufferSize() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> IOUtils.copy(mock(InputStream.class), mock(OutputStream.class), 0))
+      .withMessage("Buffer size [0] must be greater than 0")
+      .withNoCause();
+  }
+
+  @Test
+  public void copyChannelsIsCorrect() throws IOException {
+
+    byte[] source = new byte[100_000];
+
+    for (int index = 0; index < source.length; index++) {
+      source[index] = (byte) index;
+    }
+
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+    ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(source));
+    WritableByteChannel out = Channels.newChannel(target);
+
+    assertThat(IOUtils.copy(in, out, 4096)).isEqualTo(source.length);
+    assertThat(target.toByteArray()).isEqualTo(source);
+  }
+
+  @Test
+  public void copyFromNullReadableByteChannel() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> IOUtils.copy(null, mock(WritableByteChannel.class), 4096))
+      .withMessage("ReadableByteChannel is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void copyToNullWritableByteChannel() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> IOUtils.copy(mock(ReadableByteChannel.class), null, 4096))
+      .withMessage("WritableByteChannel is required")
+      .withNoCause();
+  }
+
   @Test
   public void copyFromNullInputStream() {
 
@@ -298,6 +358,14 @@ public class IOUtilsUnitTests {
     assertThat(byteArray).isEmpty();
   }
 
+  @Test
+  public void toByteArrayWithBufferSize() throws IOException {
+
+    byte[] source = "This is a test of toByteArray with a small buffer!".getBytes(StandardCharsets.UTF_8);
+
+    assertThat(IOUtils.toByteArray(new ByteArrayInputStream(source), 8)).isEqualTo(source);
+  }
+
   @Test
   public void toByteArrayWithNullInputStream() {
 
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.reflect.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.lang.Identifiable;
+import org.cp.elements.lang.reflect.ProxyFactory;
+import org.cp.elements.lang.reflect.ProxyService;
+import org.cp.elements.lang.reflect.support.DispatchingInvocationHandler;
+import org.cp.elements.lang.reflect.support.MethodInvokingMethodInterceptor;
+import org.cp.elements.lang.support.AbstractIdentifiable;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Unit Tests for {@link DispatchingProxiesFactory}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.lang.reflect.provider.DispatchingProxiesFactory
+ * @since 3.0.0
+ */
+public class DispatchingProxiesFactoryUnitTests {
+
+  @Test
+  public void canProxyInterface() {
+    assertThat(DispatchingProxiesFactory.newDispatchingProxiesFactory().canProxy(new Object(), Identifiable.class))
+      .isTrue();
+  }
+
+  @Test
+  public void cannotProxyJavaType() {
+    assertThat(DispatchingProxiesFactory.newDispatchingProxiesFactory().canProxy("test", Identifiable.class))
+      .isFalse();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void newProxyDispatchesToTarget() {
+
+    Account account = new Account();
+
+    account.setId(42L);
+
+    Identifiable<Long> accountProxy = (Identifiable<Long>) DispatchingProxiesFactory.newDispatchingProxiesFactory()
+      .proxy(account)
+      .adviseWith(MethodInvokingMethodInterceptor.newMethodInvokingMethodInterceptor(account))
+      .newProxy();
+
+    assertThat(accountProxy).isNotNull();
+    assertThat(Proxy.isProxyClass(accountProxy.getClass())).isTrue();
+    assertThat(Proxy.getInvocationHandler(accountProxy)).isInstanceOf(DispatchingInvocationHandler.class);
+    assertThat(accountProxy.getId()).isEqualTo(42L);
+  }
+
+  @Test
+  public void proxyServiceFindsDispatchingProxiesFactoryFirst() {
+
+    ProxyFactory<Object> proxyFactory = ProxyService.newProxyService()
+      .findFirstProxyFactory(null, Identifiable.class)
+      .orElse(null);
+
+    assertThat(proxyFactory).isInstanceOf(DispatchingProxiesFactory.class);
+  }
+
+  @Getter
+  @Setter
+  static class Account extends AbstractIdentifiable<Long> {
+    private Long id;
+  }
+
+}
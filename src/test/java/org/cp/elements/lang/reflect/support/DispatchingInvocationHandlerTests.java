@@ -0,0 +1,226 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.reflect.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.lang.reflect.MethodInterceptor;
+import org.cp.elements.lang.reflect.MethodInvocation;
+import org.cp.elements.lang.reflect.UnhandledMethodInvocationException;
+
+/**
+ * Unit Tests for {@link DispatchingInvocationHandler}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.lang.reflect.support.DispatchingInvocationHandler
+ * @since 3.0.0
+ */
+public class DispatchingInvocationHandlerTests {
+
+  private static Method getMethod(String name) throws NoSuchMethodException {
+    return Greeting.class.getMethod(name);
+  }
+
+  @Test
+  public void composeWithNullInvocationHandlers() {
+
+    DispatchingInvocationHandler invocationHandler = DispatchingInvocationHandler.compose(null);
+
+    assertThat(invocationHandler).isNotNull();
+    assertThat(invocationHandler).isEmpty();
+  }
+
+  @Test
+  public void composeFiltersNullInvocationHandlers() {
+
+    InvocationHandler mockInvocationHandler = mock(InvocationHandler.class);
+
+    DispatchingInvocationHandler invocationHandler =
+      DispatchingInvocationHandler.compose(Arrays.asList(null, mockInvocationHandler, null));
+
+    assertThat(invocationHandler).containsExactly(mockInvocationHandler);
+  }
+
+  @Test
+  public void resolveAllPreResolvesInterfaceAndObjectMethods() throws Exception {
+
+    HelloInterceptor helloInterceptor = new HelloInterceptor();
+    GoodbyeInterceptor goodbyeInterceptor = new GoodbyeInterceptor();
+
+    DispatchingInvocationHandler invocationHandler =
+      DispatchingInvocationHandler.compose(List.of(helloInterceptor, goodbyeInterceptor), Greeting.class);
+
+    assertThat(invocationHandler.resolve(getMethod("hello"))).containsExactly(helloInterceptor);
+    assertThat(invocationHandler.resolve(getMethod("goodbye"))).containsExactly(goodbyeInterceptor);
+    assertThat(invocationHandler.resolve(Object.class.getMethod("toString")))
+      .containsExactly(helloInterceptor, goodbyeInterceptor);
+    assertThat(invocationHandler.resolve(getMethod("hello"))).isSameAs(invocationHandler.resolve(getMethod("hello")));
+  }
+
+  @Test
+  public void invokeDispatchesToResolvedMethodInterceptor() throws Throwable {
+
+    DispatchingInvocationHandler invocationHandler =
+      DispatchingInvocationHandler.compose(List.of(new HelloInterceptor(), new GoodbyeInterceptor()), Greeting.class);
+
+    assertThat(invocationHandler.invoke(null, getMethod("hello"), null)).isEqualTo("hello");
+    assertThat(invocationHandler.invoke(null, getMethod("goodbye"), null)).isEqualTo("goodbye");
+  }
+
+  @Test
+  public void invokeSkipsMethodInvokingMethodInterceptorForMethodNotDeclaredByTarget() throws Throwable {
+
+    MethodInvokingMethodInterceptor methodInvokingInterceptor = spy(new MethodInvokingMethodInterceptor("test"));
+    HelloInterceptor helloInterceptor = new HelloInterceptor();
+
+    DispatchingInvocationHandler invocationHandler =
+      DispatchingInvocationHandler.compose(List.of(methodInvokingInterceptor, helloInterceptor), Greeting.class);
+
+    assertThat(invocationHandler.resolve(getMethod("hello"))).containsExactly(helloInterceptor);
+    assertThat(invocationHandler.resolve(Object.class.getMethod("toString")))
+      .containsExactly(methodInvokingInterceptor, helloInterceptor);
+    assertThat(invocationHandler.invoke(null, getMethod("hello"), null)).isEqualTo("hello");
+
+    verify(methodInvokingInterceptor, never()).invoke(any(), any(), any());
+  }
+
+  @Test
+  public void invokeSkipsInvocationHandlerThrowingUnhandledMethodInvocationException() throws Throwable {
+
+    Method hello = getMethod("hello");
+
+    InvocationHandler mockInvocationHandlerOne = mock(InvocationHandler.class);
+    InvocationHandler mockInvocationHandlerTwo = mock(InvocationHandler.class);
+
+    doThrow(new UnhandledMethodInvocationException("TEST"))
+      .when(mockInvocationHandlerOne).invoke(any(), any(), any());
+
+    doReturn("test").when(mockInvocationHandlerTwo).invoke(any(), any(), any());
+
+    DispatchingInvocationHandler invocationHandler =
+      DispatchingInvocationHandler.compose(List.of(mockInvocationHandlerOne, mockInvocationHandlerTwo));
+
+    assertThat(invocationHandler.invoke(null, hello, null)).isEqualTo("test");
+
+    verify(mockInvocationHandlerOne, times(1)).invoke(any(), any(), any());
+    verify(mockInvocationHandlerTwo, times(1)).invoke(any(), any(), any());
+  }
+
+  @Test
+  public void invokeStopsAtFirstInvocationHandlerThatHandlesMethod() throws Throwable {
+
+    InvocationHandler mockInvocationHandlerOne = mock(InvocationHandler.class);
+    InvocationHandler mockInvocationHandlerTwo = mock(InvocationHandler.class);
+
+    doReturn("one").when(mockInvocationHandlerOne).invoke(any(), any(), any());
+
+    DispatchingInvocationHandler invocationHandler =
+      DispatchingInvocationHandler.compose(List.of(mockInvocationHandlerOne, mockInvocationHandlerTwo));
+
+    assertThat(invocationHandler.invoke(null, getMethod("hello"), null)).isEqualTo("one");
+
+    verify(mockInvocationHandlerTwo, never()).invoke(any(), any(), any());
+  }
+
+  @Test
+  public void invokeWithNoResolvedInvocationHandlersThrowsUnhandledMethodInvocationException() {
+
+    DispatchingInvocationHandler invocationHandler =
+      DispatchingInvocationHandler.compose(List.of(new HelloInterceptor()), Greeting.class);
+
+    assertThatExceptionOfType(UnhandledMethodInvocationException.class)
+      .isThrownBy(() -> invocationHandler.invoke(null, getMethod("goodbye"), null))
+      .withMessage("Method [goodbye] was not handled")
+      .withNoCause();
+  }
+
+  private static final Greeting TARGET = new Greeting() {
+
+    @Override
+    public String hello() {
+      return "hi";
+    }
+
+    @Override
+    public String goodbye() {
+      return "bye";
+    }
+  };
+
+  interface Greeting {
+
+    String hello();
+
+    String goodbye();
+
+  }
+
+  static class HelloInterceptor implements MethodInterceptor<Object> {
+
+    @Override
+    public Object getTarget() {
+      return TARGET;
+    }
+
+    @Override
+    public boolean canIntercept(Method method) {
+      return !"goodbye".equals(method.getName());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> Optional<R> intercept(MethodInvocation methodInvocation) {
+      return Optional.of((R) "hello");
+    }
+  }
+
+  static class GoodbyeInterceptor implements MethodInterceptor<Object> {
+
+    @Override
+    public Object getTarget() {
+      return TARGET;
+    }
+
+    @Override
+    public boolean canIntercept(Method method) {
+      return !"hello".equals(method.getName());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> Optional<R> intercept(MethodInvocation methodInvocation) {
+      return Optional.of((R) "goodbye");
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.junit.jupiter.api.Test;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+/**
+ * Unit Tests for {@link BlockAllocatingIdentifierSequence}.
+ *
+ * @author John Blum
+ * @see org.cp.elements.lang.support.BlockAllocatingIdentifierSequence
+ * @see org.junit.jupiter.api.Test
+ * @see edu.umd.cs.mtc.MultithreadedTestCase
+ * @since 3.0.0
+ */
+class BlockAllocatingIdentifierSequenceUnitTests {
+
+  private static final int COUNT = 100_000;
+
+  @Test
+  void constructWithDefaults() {
+
+    BlockAllocatingIdentifierSequence identifierSequence = new BlockAllocatingIdentifierSequence();
+
+    assertThat(identifierSequence.getBlockSize()).isEqualTo(BlockAllocatingIdentifierSequence.DEFAULT_BLOCK_SIZE);
+    assertThat(identifierSequence.nextId()).isEqualTo(BlockAllocatingIdentifierSequence.DEFAULT_STARTING_VALUE);
+  }
+
+  @Test
+  void constructWithInvalidBlockSize() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new BlockAllocatingIdentifierSequence(1L, 0))
+      .withMessage("Block size [0] must be greater than 0")
+      .withNoCause();
+  }
+
+  @Test
+  void nextIdIsSequentialAcrossBlocksInTheSameThread() {
+
+    BlockAllocatingIdentifierSequence identifierSequence = new BlockAllocatingIdentifierSequence(100L, 4);
+
+    for (long expectedId = 100L; expectedId < 120L; expectedId++) {
+      assertThat(identifierSequence.nextId()).isEqualTo(expectedId);
+    }
+  }
+
+  @Test
+  void blockAllocatingIdentifierSequenceIsThreadSafe() throws Throwable {
+    TestFramework.runOnce(new BlockAllocatingIdentifierSequenceThreadSafetyTest());
+  }
+
+  @SuppressWarnings("unused")
+  protected static final class BlockAllocatingIdentifierSequenceThreadSafetyTest extends MultithreadedTestCase {
+
+    private final Set<Long> identifiersOne = new ConcurrentSkipListSet<>();
+    private final Set<Long> identifiersTwo = new ConcurrentSkipListSet<>();
+
+    private final BlockAllocatingIdentifierSequence identifierSequence =
+      new BlockAllocatingIdentifierSequence(1L, 128);
+
+    public void thread1() {
+
+      assertTick(0);
+
+      for (int index = COUNT; index > 0; --index) {
+        identifiersOne.add(identifierSequence.nextId());
+      }
+    }
+
+    public void thread2() {
+
+      assertTick(0);
+
+      for (int index = COUNT; index > 0; --index) {
+        identifiersTwo.add(identifierSequence.nextId());
+      }
+    }
+
+    @Override
+    public void finish() {
+
+      assertThat(identifiersOne).hasSize(COUNT);
+      assertThat(identifiersTwo).hasSize(COUNT);
+      assertThat(identifiersOne.removeAll(identifiersTwo)).isFalse();
+    }
+  }
+}
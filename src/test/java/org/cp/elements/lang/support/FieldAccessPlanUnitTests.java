@@ -0,0 +1,145 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Unit Tests for {@link FieldAccessPlan}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.lang.support.FieldAccessPlan
+ * @since 3.0.0
+ */
+public class FieldAccessPlanUnitTests {
+
+  @Test
+  void forTypeIsCached() {
+
+    FieldAccessPlan plan = FieldAccessPlan.forType(Employee.class);
+
+    assertThat(plan).isNotNull();
+    assertThat(plan.getType()).isEqualTo(Employee.class);
+    assertThat(FieldAccessPlan.forType(Employee.class)).isSameAs(plan);
+  }
+
+  @Test
+  void forNullTypeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> FieldAccessPlan.forType(null))
+      .withMessage("Class type is required")
+      .withNoCause();
+  }
+
+  @Test
+  void resolvesNonStaticNonTransientFieldsIncludingSuperclassFieldsInOrder() {
+
+    FieldAccessPlan plan = FieldAccessPlan.forType(Employee.class);
+
+    assertThat(plan.size()).isEqualTo(4);
+    assertThat(plan.getFields()).extracting(Field::getName)
+      .containsExactly("employeeId", "salaried", "firstName", "lastName");
+    assertThat(plan.getFieldName(0)).isEqualTo("employeeId");
+  }
+
+  @Test
+  void getValueReturnsFieldValue() {
+
+    Employee jonDoe = new Employee("Jon", "Doe", "cache", 42, true);
+
+    FieldAccessPlan plan = FieldAccessPlan.forType(Employee.class);
+
+    assertThat(plan.getValue(jonDoe, 0)).isEqualTo(42);
+    assertThat(plan.getValue(jonDoe, 1)).isEqualTo(true);
+    assertThat(plan.getValue(jonDoe, 2)).isEqualTo("Jon");
+    assertThat(plan.getValue(jonDoe, 3)).isEqualTo("Doe");
+  }
+
+  @Test
+  void hashCodeIsConsistentWithHashCodeBuilder() {
+
+    Employee janeDoe = new Employee("Jane", "Doe", null, 7, false);
+
+    int expectedHashCode = HashCodeBuilder.create(11, 31)
+      .with(Integer.valueOf(7))
+      .with(Boolean.FALSE)
+      .with("Jane")
+      .with("Doe")
+      .build();
+
+    assertThat(FieldAccessPlan.forType(Employee.class).hashCode(janeDoe, 11, 31)).isEqualTo(expectedHashCode);
+  }
+
+  @Test
+  void equalsComparesFieldValues() {
+
+    FieldAccessPlan plan = FieldAccessPlan.forType(Employee.class);
+
+    Employee jonDoe = new Employee("Jon", "Doe", "one", 1, true);
+
+    assertThat(plan.equals(jonDoe, jonDoe)).isTrue();
+    assertThat(plan.equals(jonDoe, new Employee("Jon", "Doe", "two", 1, true))).isTrue();
+    assertThat(plan.equals(jonDoe, new Employee("Jon", "Doe", "one", 2, true))).isFalse();
+    assertThat(plan.equals(jonDoe, new Employee(null, "Doe", "one", 1, true))).isFalse();
+    assertThat(plan.equals(jonDoe, new Person("Jon", "Doe", "one"))).isFalse();
+    assertThat(plan.equals(jonDoe, null)).isFalse();
+    assertThat(plan.equals(null, null)).isTrue();
+  }
+
+  @Test
+  void toStringRendersTypeAndFields() {
+
+    assertThat(FieldAccessPlan.forType(Employee.class).toString(new Employee("Jon", "Doe", "cache", 42, true)))
+      .isEqualTo("{ @type = %s, employeeId = 42, salaried = true, firstName = Jon, lastName = Doe }",
+        Employee.class.getName());
+  }
+
+  @AllArgsConstructor
+  @SuppressWarnings("unused")
+  static class Person {
+
+    private static final String CONSTANT = "constant";
+
+    private final String firstName;
+    private final String lastName;
+
+    private final transient String cachedName;
+
+  }
+
+  @SuppressWarnings("unused")
+  static class Employee extends Person {
+
+    private final int employeeId;
+
+    private final boolean salaried;
+
+    Employee(String firstName, String lastName, String cachedName, int employeeId, boolean salaried) {
+      super(firstName, lastName, cachedName);
+      this.employeeId = employeeId;
+      this.salaried = salaried;
+    }
+  }
+}
@@ -18,6 +18,7 @@ package org.cp.elements.lang.support;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -30,6 +31,7 @@ import java.time.Month;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Test;
@@ -235,6 +237,8 @@ public class HashCodeBuilderTests {
 
     Logger mockLogger = mock(Logger.class);
 
+    doReturn(true).when(mockLogger).isLoggable(eq(Level.FINE));
+
     Function<HashCodeBuilder, HashCodeBuilder> hashCodeBuilderFunction = builder -> {
       HashCodeBuilder builderSpy = spy(builder);
       doReturn(mockLogger).when(builderSpy).getLogger();
@@ -243,6 +247,7 @@ public class HashCodeBuilderTests {
 
     assertThat(HashCodeBuilder.hashCodeFor(object, hashCodeBuilderFunction).build()).isNotEqualTo(object.hashCode());
 
+    verify(mockLogger, times(1)).isLoggable(eq(Level.FINE));
     verify(mockLogger, times(1)).fine(SupplierArgumentMatcher.equalSuppliers(
       () -> String.format("Hashing field [objectValue] on object [%s]",
         ObjectWithBadHashCodeImplementation.class.getName())));
@@ -254,6 +259,45 @@ public class HashCodeBuilderTests {
     verifyNoMoreInteractions(mockLogger);
   }
 
+  @Test
+  public void hashCodeForObjectWithPrimitiveAndStaticFields() {
+
+    ObjectWithPrimitiveFields object = new ObjectWithPrimitiveFields(true, 'X', 2.5d, 42, "test");
+
+    int expectedHashCode = HashCodeBuilder.create()
+      .with(Boolean.TRUE)
+      .with(Character.valueOf('X'))
+      .with(Double.valueOf(2.5d))
+      .with(Integer.valueOf(42))
+      .with("test")
+      .build();
+
+    assertThat(HashCodeBuilder.hashCodeFor(object).build()).isEqualTo(expectedHashCode);
+  }
+
+  @Test
+  public void hashCodeForNullObject() {
+    assertThat(HashCodeBuilder.hashCodeFor(null).build()).isEqualTo(HashCodeBuilder.DEFAULT_BASE_VALUE);
+  }
+
+  @Test
+  public void hashCodeForDoesNotLogWhenFineIsDisabled() {
+
+    Logger mockLogger = mock(Logger.class);
+
+    Function<HashCodeBuilder, HashCodeBuilder> hashCodeBuilderFunction = builder -> {
+      HashCodeBuilder builderSpy = spy(builder);
+      doReturn(mockLogger).when(builderSpy).getLogger();
+      return builderSpy;
+    };
+
+    HashCodeBuilder.hashCodeFor(ObjectWithBadHashCodeImplementation.create("nonTransient", "test"),
+      hashCodeBuilderFunction);
+
+    verify(mockLogger, times(1)).isLoggable(eq(Level.FINE));
+    verifyNoMoreInteractions(mockLogger);
+  }
+
   private static final class SupplierArgumentMatcher<T> implements ArgumentMatcher<Supplier<T>> {
 
     private Object actualValue;
@@ -380,4 +424,19 @@ public class HashCodeBuilderTests {
         getClass().getName(), getObjectValue(), getStringValue());
     }
   }
+
+  @SuppressWarnings("unused")
+  @RequiredArgsConstructor
+  static class ObjectWithPrimitiveFields {
+
+    private static final long serialVersionUID = 42L;
+
+    private final boolean booleanValue;
+    private final char charValue;
+    private final double doubleValue;
+    private final int intValue;
+
+    private final String stringValue;
+
+  }
 }
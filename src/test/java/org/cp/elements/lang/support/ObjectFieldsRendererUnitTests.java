@@ -0,0 +1,46 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link ObjectFieldsRenderer}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.lang.support.ObjectFieldsRenderer
+ * @since 3.0.0
+ */
+public class ObjectFieldsRendererUnitTests {
+
+  @Test
+  void renderObject() {
+
+    assertThat(ObjectFieldsRenderer.INSTANCE.render(new Point(1, -2)))
+      .isEqualTo("{ @type = %s, x = 1, y = -2 }", Point.class.getName());
+  }
+
+  @Test
+  void renderNullIsNullSafe() {
+    assertThat(ObjectFieldsRenderer.INSTANCE.render(null)).isEqualTo("null");
+  }
+
+  record Point(int x, int y) { }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.junit.jupiter.api.Test;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+/**
+ * Unit Tests for {@link SnowflakeIdentifierSequence}.
+ *
+ * @author John Blum
+ * @see org.cp.elements.lang.support.SnowflakeIdentifierSequence
+ * @see org.junit.jupiter.api.Test
+ * @see edu.umd.cs.mtc.MultithreadedTestCase
+ * @since 3.0.0
+ */
+class SnowflakeIdentifierSequenceUnitTests {
+
+  private static final int COUNT = 100_000;
+
+  private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+  @Test
+  void forNodeUsesDefaults() {
+
+    SnowflakeIdentifierSequence identifierSequence = SnowflakeIdentifierSequence.forNode(7);
+
+    assertThat(identifierSequence.getNodeId()).isEqualTo(7);
+    assertThat(identifierSequence.getEpoch()).isEqualTo(SnowflakeIdentifierSequence.DEFAULT_EPOCH);
+  }
+
+  @Test
+  void constructWithInvalidNodeId() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> SnowflakeIdentifierSequence.forNode(SnowflakeIdentifierSequence.MAX_NODE_ID + 1))
+      .withMessage("Node ID [1024] must be between 0 and 1023")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> SnowflakeIdentifierSequence.forNode(-1))
+      .withMessage("Node ID [-1] must be between 0 and 1023")
+      .withNoCause();
+  }
+
+  @Test
+  void nextIdEncodesTimestampNodeAndSequence() {
+
+    SnowflakeIdentifierSequence identifierSequence =
+      new SnowflakeIdentifierSequence(5, SnowflakeIdentifierSequence.DEFAULT_EPOCH, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    long firstId = identifierSequence.nextId();
+    long secondId = identifierSequence.nextId();
+
+    assertThat(identifierSequence.timestampOf(firstId)).isEqualTo(NOW);
+    assertThat((firstId >>> 12) & SnowflakeIdentifierSequence.MAX_NODE_ID).isEqualTo(5);
+    assertThat(firstId & 0xFFF).isZero();
+    assertThat(secondId).isEqualTo(firstId + 1);
+  }
+
+  @Test
+  void nextIdIsIncreasingWhenSequenceIsExhaustedWithinTheSameMillisecond() {
+
+    SnowflakeIdentifierSequence identifierSequence =
+      new SnowflakeIdentifierSequence(1, SnowflakeIdentifierSequence.DEFAULT_EPOCH, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    long previousId = -1L;
+
+    for (int count = 0; count < 10_000; count++) {
+      long id = identifierSequence.nextId();
+      assertThat(id).isGreaterThan(previousId);
+      previousId = id;
+    }
+
+    assertThat(identifierSequence.timestampOf(previousId)).isAfter(NOW);
+  }
+
+  @Test
+  void snowflakeIdentifierSequenceIsThreadSafe() throws Throwable {
+    TestFramework.runOnce(new SnowflakeIdentifierSequenceThreadSafetyTest());
+  }
+
+  @SuppressWarnings("unused")
+  protected static final class SnowflakeIdentifierSequenceThreadSafetyTest extends MultithreadedTestCase {
+
+    private final Set<Long> identifiersOne = new ConcurrentSkipListSet<>();
+    private final Set<Long> identifiersTwo = new ConcurrentSkipListSet<>();
+
+    private final SnowflakeIdentifierSequence identifierSequence = SnowflakeIdentifierSequence.forNode(1);
+
+    public void thread1() {
+
+      assertTick(0);
+
+      for (int index = COUNT; index > 0; --index) {
+        identifiersOne.add(identifierSequence.nextId());
+      }
+    }
+
+    public void thread2() {
+
+      assertTick(0);
+
+      for (int index = COUNT; index > 0; --index) {
+        identifiersTwo.add(identifierSequence.nextId());
+      }
+    }
+
+    @Override
+    public void finish() {
+
+      assertThat(identifiersOne).hasSize(COUNT);
+      assertThat(identifiersTwo).hasSize(COUNT);
+      assertThat(identifiersOne.removeAll(identifiersTwo)).isFalse();
+    }
+  }
+}
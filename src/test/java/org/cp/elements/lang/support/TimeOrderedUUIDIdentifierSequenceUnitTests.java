@@ -0,0 +1,123 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.lang.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.junit.jupiter.api.Test;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+/**
+ * Unit Tests for {@link TimeOrderedUUIDIdentifierSequence}.
+ *
+ * @author John Blum
+ * @see org.cp.elements.lang.support.TimeOrderedUUIDIdentifierSequence
+ * @see org.junit.jupiter.api.Test
+ * @see edu.umd.cs.mtc.MultithreadedTestCase
+ * @since 3.0.0
+ */
+class TimeOrderedUUIDIdentifierSequenceUnitTests {
+
+  private static final int COUNT = 100_000;
+
+  private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+  @Test
+  void constructWithNullClock() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new TimeOrderedUUIDIdentifierSequence(null))
+      .withMessage("Clock is required")
+      .withNoCause();
+  }
+
+  @Test
+  void nextIdIsVersion7UUID() {
+
+    UUID uuid = new TimeOrderedUUIDIdentifierSequence(Clock.fixed(NOW, ZoneOffset.UTC)).nextId();
+
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(TimeOrderedUUIDIdentifierSequence.timestampOf(uuid)).isEqualTo(NOW);
+    assertThat(UUID.fromString(uuid.toString())).isEqualTo(uuid);
+  }
+
+  @Test
+  void nextIdIsIncreasingWithinTheSameMillisecond() {
+
+    TimeOrderedUUIDIdentifierSequence identifierSequence =
+      new TimeOrderedUUIDIdentifierSequence(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    UUID previousId = identifierSequence.nextId();
+
+    for (int count = 0; count < 10_000; count++) {
+      UUID id = identifierSequence.nextId();
+      assertThat(id).isGreaterThan(previousId);
+      assertThat(id.version()).isEqualTo(7);
+      previousId = id;
+    }
+  }
+
+  @Test
+  void timeOrderedUUIDIdentifierSequenceIsThreadSafe() throws Throwable {
+    TestFramework.runOnce(new TimeOrderedUUIDIdentifierSequenceThreadSafetyTest());
+  }
+
+  @SuppressWarnings("unused")
+  protected static final class TimeOrderedUUIDIdentifierSequenceThreadSafetyTest extends MultithreadedTestCase {
+
+    private final Set<UUID> identifiersOne = new ConcurrentSkipListSet<>();
+    private final Set<UUID> identifiersTwo = new ConcurrentSkipListSet<>();
+
+    private final TimeOrderedUUIDIdentifierSequence identifierSequence = new TimeOrderedUUIDIdentifierSequence();
+
+    public void thread1() {
+
+      assertTick(0);
+
+      for (int index = COUNT; index > 0; --index) {
+        identifiersOne.add(identifierSequence.nextId());
+      }
+    }
+
+    public void thread2() {
+
+      assertTick(0);
+
+      for (int index = COUNT; index > 0; --index) {
+        identifiersTwo.add(identifierSequence.nextId());
+      }
+    }
+
+    @Override
+    public void finish() {
+
+      assertThat(identifiersOne).hasSize(COUNT);
+      assertThat(identifiersTwo).hasSize(COUNT);
+      assertThat(identifiersOne.removeAll(identifiersTwo)).isFalse();
+    }
+  }
+}
@@ -169,6 +169,76 @@ public class CombinatorialMathFunctionsUnitTests {
 		});
 	}
 
+	@Test
+	void streamCombinationsOfSizeIsLexicographic() {
+
+		List<String> characters = List.of("A", "B", "C", "D");
+
+		assertThat(CombinatorialMathFunctions.streamCombinations(characters, 2))
+			.containsExactly(List.of("A", "B"), List.of("A", "C"), List.of("A", "D"),
+				List.of("B", "C"), List.of("B", "D"), List.of("C", "D"));
+
+		assertThat(CombinatorialMathFunctions.streamCombinations(characters, 0)).containsExactly(List.of());
+		assertThat(CombinatorialMathFunctions.streamCombinations(characters, 4)).containsExactly(characters);
+	}
+
+	@Test
+	void streamCombinationsWithInvalidSizeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> CombinatorialMathFunctions.streamCombinations(List.of("A"), 2))
+			.withMessage("Combination size [2] must be greater than equal to 0 and less than equal to [1]")
+			.withNoCause();
+	}
+
+	@Test
+	void streamCombinationsIsLazyForLargeSets() {
+
+		List<Integer> numbers = IntStream.range(0, 40).boxed().toList();
+
+		assertThat(CombinatorialMathFunctions.streamCombinations(numbers).limit(3))
+			.containsExactly(List.of(0), List.of(1), List.of(0, 1));
+
+		assertThat(CombinatorialMathFunctions.streamCombinations(numbers, 5).parallel().count())
+			.isEqualTo(658_008L);
+	}
+
+	@Test
+	void parallelStreamsMatchSequentialStreams() {
+
+		List<Integer> numbers = IntStream.range(0, 12).boxed().toList();
+
+		assertThat(CombinatorialMathFunctions.streamCombinations(numbers, 6).parallel().toList())
+			.containsExactlyElementsOf(CombinatorialMathFunctions.streamCombinations(numbers, 6).toList());
+
+		assertThat(CombinatorialMathFunctions.streamPermutations(numbers.subList(0, 7)).parallel().toList())
+			.containsExactlyElementsOf(CombinatorialMathFunctions.streamPermutations(numbers.subList(0, 7)).toList())
+			.doesNotHaveDuplicates()
+			.hasSize(5_040);
+
+		assertThat(CombinatorialMathFunctions.streamPowerSet(numbers).parallel().toList())
+			.containsExactlyElementsOf(CombinatorialMathFunctions.streamPowerSet(numbers).toList())
+			.doesNotHaveDuplicates()
+			.hasSize(4_096);
+	}
+
+	@Test
+	void streamPermutationsIsLexicographic() {
+
+		assertThat(CombinatorialMathFunctions.streamPermutations(List.of("A", "B", "C")))
+			.containsExactly(List.of("A", "B", "C"), List.of("A", "C", "B"), List.of("B", "A", "C"),
+				List.of("B", "C", "A"), List.of("C", "A", "B"), List.of("C", "B", "A"));
+
+		assertThat(CombinatorialMathFunctions.streamPermutations(List.of())).containsExactly(List.of());
+	}
+
+	@Test
+	void streamPowerSetIncludesEmptySet() {
+
+		assertThat(CombinatorialMathFunctions.streamPowerSet(List.of("A", "B")))
+			.containsExactly(List.of(), List.of("A"), List.of("B"), List.of("A", "B"));
+	}
+
 	@Test
 	void computeNumberOfCombinationsIsCorrect() {
 
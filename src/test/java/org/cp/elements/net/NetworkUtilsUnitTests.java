@@ -16,6 +16,7 @@
 package org.cp.elements.net;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.cp.elements.lang.CheckedExceptionsFactory.newIOException;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -63,6 +64,31 @@ public class NetworkUtilsUnitTests {
     }
   }
 
+  @Test
+  public void availablePortsReturnsDistinctPorts() {
+
+    int[] ports = NetworkUtils.availablePorts(COUNT);
+
+    assertThat(ports).hasSize(COUNT);
+    assertThat(ports).doesNotHaveDuplicates();
+    assertThat(ports).allSatisfy(port -> assertThat(port).isGreaterThan(ServicePort.MIN_PORT)
+      .isLessThanOrEqualTo(ServicePort.MAX_PORT));
+  }
+
+  @Test
+  public void availablePortsWithZeroCountReturnsEmptyArray() {
+    assertThat(NetworkUtils.availablePorts(0)).isEmpty();
+  }
+
+  @Test
+  public void availablePortsWithNegativeCountThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> NetworkUtils.availablePorts(-1))
+      .withMessage("Count [-1] must be greater than equal to 0")
+      .withNoCause();
+  }
+
   @Test
   public void closeServerSocketReturnsTrue() throws Exception {
 
@@ -43,6 +43,16 @@ public class BufferUtilsUnitTests {
     return buffer;
   }
 
+  @Test
+  public void bufferSizesArePowersOfTwoKilobytes() {
+
+    assertThat(BufferUtils.ONE_KILOBYTE_BUFFER_SIZE).isEqualTo(1024);
+    assertThat(BufferUtils.EIGHT_KILOBYTE_BUFFER_SIZE).isEqualTo(8 * 1024);
+    assertThat(BufferUtils.SIXTEEN_KILOBYTE_BUFFER_SIZE).isEqualTo(16 * 1024);
+    assertThat(BufferUtils.THIRTY_TWO_KILOBYTE_BUFFER_SIZE).isEqualTo(32 * 1024);
+    assertThat(BufferUtils.SIXTY_FOUR_KILOBYTE_BUFFER_SIZE).isEqualTo(64 * 1024);
+  }
+
   @Test
   public void computeLoadFactorIsCorrect() {
 
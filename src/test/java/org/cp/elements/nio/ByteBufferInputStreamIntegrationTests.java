@@ -26,6 +26,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
@@ -471,4 +472,56 @@ public class ByteBufferInputStreamIntegrationTests {
     assertThat(inputStream.skip(3)).isEqualTo(2);
     assertThat(inputStream.available()).isZero();
   }
+
+  @Test
+  public void readReturnsUnsignedBytes() throws IOException {
+
+    ByteBufferInputStream inputStream = ByteBufferInputStream.from(ByteBuffer.wrap(new byte[] { (byte) 0xFF, (byte) 0x80 }));
+
+    assertThat(inputStream.read()).isEqualTo(0xFF);
+    assertThat(inputStream.read()).isEqualTo(0x80);
+    assertThat(inputStream.read()).isEqualTo(-1);
+  }
+
+  @Test
+  public void readIntoByteBufferReadsInBulk() {
+
+    ByteBufferInputStream inputStream = ByteBufferInputStream.from(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 5 }));
+
+    ByteBuffer target = ByteBuffer.allocate(3);
+
+    assertThat(inputStream.read(target)).isEqualTo(3);
+    assertThat(target.array()).containsExactly(1, 2, 3);
+    assertThat(inputStream.available()).isEqualTo(2);
+    assertThat(inputStream.read(ByteBuffer.allocate(10))).isEqualTo(2);
+    assertThat(inputStream.read(ByteBuffer.allocate(10))).isEqualTo(-1);
+  }
+
+  @Test
+  public void readAllBytesReadsRemainingBytes() throws IOException {
+
+    ByteBufferInputStream inputStream = ByteBufferInputStream.from(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4 }));
+
+    assertThat(inputStream.read()).isEqualTo(1);
+    assertThat(inputStream.readAllBytes()).containsExactly(2, 3, 4);
+    assertThat(inputStream.available()).isZero();
+  }
+
+  @Test
+  public void transferToWritesRemainingBytes() throws IOException {
+
+    ByteBuffer directByteBuffer = ByteBuffer.allocateDirect(4).put(new byte[] { 5, 6, 7, 8 });
+
+    for (ByteBuffer byteBuffer : new ByteBuffer[] { ByteBuffer.wrap(new byte[] { 5, 6, 7, 8 }), directByteBuffer }) {
+
+      ByteBufferInputStream inputStream = ByteBufferInputStream.from(byteBuffer);
+
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+      assertThat(inputStream.read()).isEqualTo(5);
+      assertThat(inputStream.transferTo(outputStream)).isEqualTo(3L);
+      assertThat(outputStream.toByteArray()).containsExactly(6, 7, 8);
+      assertThat(inputStream.available()).isZero();
+    }
+  }
 }
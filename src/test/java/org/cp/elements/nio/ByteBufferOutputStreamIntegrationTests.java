@@ -245,4 +245,44 @@ public class ByteBufferOutputStreamIntegrationTests {
     assertThat(ArrayUtils.subArray(BufferUtils.toBigByteArray(copy), 2, 15))
       .containsExactly(BufferUtils.toBigByteArray(array));
   }
+
+  @Test
+  public void writeByteArrayGrowsByteBufferGeometrically() throws IOException {
+
+    byte[] array = new byte[100_000];
+
+    ByteBufferOutputStream outputStream = ByteBufferOutputStream.into(ByteBuffer.allocate(2));
+
+    outputStream.write(array);
+    outputStream.write(array, 0, 10);
+
+    ByteBuffer view = outputStream.toReadOnlyByteBuffer();
+
+    assertThat(outputStream.isOpen()).isTrue();
+    assertThat(view.isReadOnly()).isTrue();
+    assertThat(view.position()).isZero();
+    assertThat(view.remaining()).isEqualTo(100_010);
+    assertThat(view.capacity()).isEqualTo(100_010);
+  }
+
+  @Test
+  public void toReadOnlyByteBufferIsViewOfWrittenData() throws IOException {
+
+    ByteBuffer byteBuffer = ByteBuffer.allocate(16);
+
+    ByteBufferOutputStream outputStream = ByteBufferOutputStream.into(byteBuffer);
+
+    outputStream.write(new byte[] { 0x0A, 0x0B, 0x0C });
+
+    ByteBuffer view = outputStream.toReadOnlyByteBuffer();
+
+    assertThat(view.isReadOnly()).isTrue();
+    assertThat(view.remaining()).isEqualTo(3);
+    assertThat(view.get(0)).isEqualTo((byte) 0x0A);
+    assertThat(view.get(2)).isEqualTo((byte) 0x0C);
+
+    byteBuffer.put(0, (byte) 0x0F);
+
+    assertThat(view.get(0)).isEqualTo((byte) 0x0F);
+  }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.nio;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link ByteBufferPool}.
+ *
+ * @author John Blum
+ * @see java.nio.ByteBuffer
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.nio.ByteBufferPool
+ * @since 3.0.0
+ */
+public class ByteBufferPoolUnitTests {
+
+  @Test
+  public void sizeClassCapacityRoundsUpToPowerOfTwo() {
+
+    assertThat(ByteBufferPool.sizeClassCapacity(0)).isEqualTo(1024);
+    assertThat(ByteBufferPool.sizeClassCapacity(1024)).isEqualTo(1024);
+    assertThat(ByteBufferPool.sizeClassCapacity(1025)).isEqualTo(2048);
+    assertThat(ByteBufferPool.sizeClassCapacity(65_536)).isEqualTo(65_536);
+    assertThat(ByteBufferPool.sizeClassCapacity(1024 * 1024 + 1)).isEqualTo(1024 * 1024 + 1);
+  }
+
+  @Test
+  public void acquireReturnsClearedBufferOfSizeClass() {
+
+    ByteBufferPool pool = new ByteBufferPool(false);
+
+    ByteBuffer buffer = pool.acquire(3000);
+
+    assertThat(buffer.isDirect()).isFalse();
+    assertThat(buffer.capacity()).isEqualTo(4096);
+    assertThat(buffer.position()).isZero();
+    assertThat(buffer.limit()).isEqualTo(4096);
+    assertThat(ByteBufferPool.direct().acquire(10).isDirect()).isTrue();
+  }
+
+  @Test
+  public void releasedBufferIsReused() {
+
+    ByteBufferPool pool = new ByteBufferPool(false);
+
+    ByteBuffer buffer = pool.acquire(2048).put((byte) 1);
+
+    assertThat(pool.release(buffer)).isTrue();
+
+    ByteBuffer reusedBuffer = pool.acquire(1500);
+
+    assertThat(reusedBuffer).isSameAs(buffer);
+    assertThat(reusedBuffer.position()).isZero();
+  }
+
+  @Test
+  public void releasedBuffersAreReusedAcrossThreads() throws InterruptedException {
+
+    ByteBufferPool pool = new ByteBufferPool(false);
+
+    ByteBuffer[] buffers = new ByteBuffer[ByteBufferPool.THREAD_LOCAL_CACHE_SIZE_PER_SIZE_CLASS + 1];
+
+    for (int index = 0; index < buffers.length; index++) {
+      buffers[index] = pool.acquire(1024);
+    }
+
+    for (ByteBuffer buffer : buffers) {
+      assertThat(pool.release(buffer)).isTrue();
+    }
+
+    ByteBuffer[] acquiredBuffer = new ByteBuffer[1];
+
+    Thread thread = new Thread(() -> acquiredBuffer[0] = pool.acquire(1024));
+
+    thread.start();
+    thread.join();
+
+    assertThat(acquiredBuffer[0]).isSameAs(buffers[buffers.length - 1]);
+  }
+
+  @Test
+  public void releaseIgnoresUnpoolableBuffers() {
+
+    ByteBufferPool pool = new ByteBufferPool(false);
+
+    assertThat(pool.release(null)).isFalse();
+    assertThat(pool.release(ByteBuffer.allocate(1000))).isFalse();
+    assertThat(pool.release(ByteBuffer.allocateDirect(1024))).isFalse();
+    assertThat(pool.release(ByteBuffer.allocate(1024).asReadOnlyBuffer())).isFalse();
+    assertThat(pool.release(ByteBuffer.allocate(2 * 1024 * 1024))).isFalse();
+  }
+
+  @Test
+  public void acquireWithNegativeCapacityThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ByteBufferPool.heap().acquire(-1))
+      .withMessage("Capacity [-1] must be greater than equal to 0")
+      .withNoCause();
+  }
+}
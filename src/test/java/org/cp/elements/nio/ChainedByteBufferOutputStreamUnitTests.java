@@ -0,0 +1,159 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.nio;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link ChainedByteBufferOutputStream}.
+ *
+ * @author John Blum
+ * @see java.nio.ByteBuffer
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.nio.ChainedByteBufferOutputStream
+ * @since 3.0.0
+ */
+public class ChainedByteBufferOutputStreamUnitTests {
+
+  private static byte[] randomBytes(int length) {
+
+    byte[] array = new byte[length];
+
+    new Random(42L).nextBytes(array);
+
+    return array;
+  }
+
+  private static byte[] toByteArray(ByteBuffer buffer) {
+
+    byte[] array = new byte[buffer.remaining()];
+
+    buffer.duplicate().get(array);
+
+    return array;
+  }
+
+  @Test
+  public void writeGrowsByChainingBuffers() {
+
+    byte[] data = randomBytes(100_000);
+
+    ChainedByteBufferOutputStream outputStream = ChainedByteBufferOutputStream.create();
+
+    outputStream.write(data, 0, 10);
+
+    for (int index = 10; index < 20; index++) {
+      outputStream.write(data[index]);
+    }
+
+    outputStream.write(ByteBuffer.wrap(data, 20, data.length - 20));
+
+    List<ByteBuffer> buffers = outputStream.toByteBuffers();
+
+    assertThat(outputStream.size()).isEqualTo(data.length);
+    assertThat(buffers).hasSizeGreaterThan(1);
+    assertThat(buffers).allMatch(ByteBuffer::isReadOnly);
+    assertThat(buffers.stream().mapToInt(ByteBuffer::remaining).sum()).isEqualTo(data.length);
+    assertThat(toByteArray(outputStream.toByteBuffer())).isEqualTo(data);
+  }
+
+  @Test
+  public void toByteBufferReturnsViewForSingleBuffer() {
+
+    ChainedByteBufferOutputStream outputStream = ChainedByteBufferOutputStream.create();
+
+    outputStream.write(new byte[] { 1, 2, 3 }, 0, 3);
+
+    ByteBuffer buffer = outputStream.toByteBuffer();
+
+    assertThat(buffer.isReadOnly()).isTrue();
+    assertThat(buffer.position()).isZero();
+    assertThat(buffer.capacity()).isEqualTo(3);
+    assertThat(toByteArray(buffer)).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  public void toInputStreamAndWriteToReadAllData() throws IOException {
+
+    byte[] data = randomBytes(50_000);
+
+    ChainedByteBufferOutputStream outputStream = ChainedByteBufferOutputStream.create();
+
+    outputStream.write(data, 0, data.length);
+
+    assertThat(outputStream.toInputStream().readAllBytes()).isEqualTo(data);
+
+    ByteArrayOutputStream streamOutput = new ByteArrayOutputStream();
+    ByteArrayOutputStream channelOutput = new ByteArrayOutputStream();
+
+    outputStream.writeTo(streamOutput);
+    outputStream.writeTo(Channels.newChannel(channelOutput));
+
+    assertThat(streamOutput.toByteArray()).isEqualTo(data);
+    assertThat(channelOutput.toByteArray()).isEqualTo(data);
+  }
+
+  @Test
+  public void emptyStream() throws IOException {
+
+    ChainedByteBufferOutputStream outputStream = ChainedByteBufferOutputStream.create();
+
+    assertThat(outputStream.size()).isZero();
+    assertThat(outputStream.toByteBuffers()).isEmpty();
+    assertThat(outputStream.toByteBuffer().remaining()).isZero();
+    assertThat(outputStream.toInputStream().read()).isEqualTo(-1);
+  }
+
+  @Test
+  public void writeAfterCloseThrowsIllegalStateException() {
+
+    ChainedByteBufferOutputStream outputStream = ChainedByteBufferOutputStream.create();
+
+    outputStream.close();
+
+    assertThat(outputStream.isClosed()).isTrue();
+
+    assertThatIllegalStateException()
+      .isThrownBy(() -> outputStream.write(1))
+      .withMessage("The ChainedByteBufferOutputStream was closed")
+      .withNoCause();
+  }
+
+  @Test
+  public void releaseReturnsBuffersToPool() {
+
+    ByteBufferPool pool = new ByteBufferPool(false);
+
+    ChainedByteBufferOutputStream outputStream = new ChainedByteBufferOutputStream(pool, 1024);
+
+    outputStream.write(1);
+    outputStream.release();
+
+    assertThat(outputStream.isClosed()).isTrue();
+    assertThat(outputStream.size()).isZero();
+    assertThat(pool.acquire(1024).position()).isZero();
+  }
+}
@@ -41,17 +41,16 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.Reader;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -73,6 +72,7 @@ import org.cp.elements.lang.ThrowableAssertions;
 import org.cp.elements.process.event.ProcessStreamListener;
 import org.cp.elements.process.support.RuntimeProcessExecutor;
 import org.cp.elements.util.ArrayUtils;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -196,19 +196,22 @@ class ProcessAdapterTests {
   }
 
   @Test
-  void initStartsBothProcessStandardInAndStandardErrorStreamThreads() {
+  void initReadsBothProcessStandardOutAndStandardErrorStreams() throws Exception {
 
     InputStream mockStandardOut = mock(InputStream.class, "Process Standard Out");
     InputStream mockStandardError = mock(InputStream.class, "Process Standard Error");
 
-    Runnable mockRunnableOne = mock(Runnable.class, "Process Standard Out Reader Runnable");
-    Runnable mockRunnableTwo = mock(Runnable.class, "Process Standard Error Reader Runnable");
+    ProcessAdapter.ProcessStreamReader mockProcessStreamReaderOne =
+      mock(ProcessAdapter.ProcessStreamReader.class, "Process Standard Out Reader");
 
-    Thread mockThreadOne = mock(Thread.class, "Process Standard Out Reader Thread");
-    Thread mockThreadTwo = mock(Thread.class, "Process Standard Error Reader Thread");
+    ProcessAdapter.ProcessStreamReader mockProcessStreamReaderTwo =
+      mock(ProcessAdapter.ProcessStreamReader.class, "Process Standard Error Reader");
 
+    when(mockProcessStreamReaderOne.read()).thenReturn(-1);
+    when(mockProcessStreamReaderTwo.read()).thenReturn(-1);
     when(this.mockProcess.getInputStream()).thenReturn(mockStandardOut);
     when(this.mockProcess.getErrorStream()).thenReturn(mockStandardError);
+    when(this.mockProcess.onExit()).thenReturn(CompletableFuture.completedFuture(this.mockProcess));
 
     this.processContext.inheritIO(false).redirectErrorStream(false);
 
@@ -220,38 +223,33 @@ class ProcessAdapterTests {
     assertThat(processAdapter.isInitialized()).isFalse();
 
     doReturn(123).when(processAdapter).safeGetId();
-    doReturn(mockRunnableOne).when(processAdapter).newProcessStreamReader(eq(mockStandardOut));
-    doReturn(mockRunnableTwo).when(processAdapter).newProcessStreamReader(eq(mockStandardError));
-    doReturn(mockThreadOne).when(processAdapter)
-      .newThread(eq("Process [123] Standard Out Reader"), eq(mockRunnableOne));
-    doReturn(mockThreadTwo).when(processAdapter)
-      .newThread(eq("Process [123] Standard Error Reader"), eq(mockRunnableTwo));
+    doReturn(mockProcessStreamReaderOne).when(processAdapter).newProcessStreamReader(eq(mockStandardOut));
+    doReturn(mockProcessStreamReaderTwo).when(processAdapter).newProcessStreamReader(eq(mockStandardError));
 
     processAdapter.init();
 
     assertThat(processAdapter.isInitialized()).isTrue();
+    assertThat(processAdapter.onExit().get(5, TimeUnit.SECONDS)).isSameAs(processAdapter);
 
     verify(processAdapter, times(2)).safeGetId();
     verify(processAdapter, times(1)).newProcessStreamReader(eq(mockStandardOut));
     verify(processAdapter, times(1)).newProcessStreamReader(eq(mockStandardError));
-    verify(processAdapter, times(1)).newThread(
-      eq("Process [123] Standard Out Reader"), eq(mockRunnableOne));
-    verify(processAdapter, times(1)).newThread(
-      eq("Process [123] Standard Error Reader"), eq(mockRunnableTwo));
-    verify(mockThreadOne, times(1)).start();
-    verify(mockThreadTwo, times(1)).start();
+    verify(processAdapter, never()).newThread(anyString(), any(Runnable.class));
+    verify(mockProcessStreamReaderOne, times(1)).read();
+    verify(mockProcessStreamReaderTwo, times(1)).read();
   }
 
   @Test
-  void initStartsOnlyProcessStandardInStreamThread() {
+  void initReadsOnlyProcessStandardOutStream() throws Exception {
 
     InputStream mockStandardOut = mock(InputStream.class, "Process Standard Out");
 
-    Runnable mockRunnable = mock(Runnable.class, "Process Standard Out Reader Runnable");
-
-    Thread mockThread = mock(Thread.class, "Process Standard Out Reader Thread");
+    ProcessAdapter.ProcessStreamReader mockProcessStreamReader =
+      mock(ProcessAdapter.ProcessStreamReader.class, "Process Standard Out Reader");
 
+    when(mockProcessStreamReader.read()).thenReturn(-1);
     when(this.mockProcess.getInputStream()).thenReturn(mockStandardOut);
+    when(this.mockProcess.onExit()).thenReturn(CompletableFuture.completedFuture(this.mockProcess));
 
     this.processContext.inheritIO(false).redirectErrorStream(true);
 
@@ -263,20 +261,18 @@ class ProcessAdapterTests {
     assertThat(processAdapter.isInitialized()).isFalse();
 
     doReturn(123).when(processAdapter).safeGetId();
-    doReturn(mockRunnable).when(processAdapter).newProcessStreamReader(eq(mockStandardOut));
-    doReturn(mockThread).when(processAdapter)
-      .newThread(eq("Process [123] Standard Out Reader"), eq(mockRunnable));
+    doReturn(mockProcessStreamReader).when(processAdapter).newProcessStreamReader(eq(mockStandardOut));
 
     processAdapter.init();
 
     assertThat(processAdapter.isInitialized()).isTrue();
+    assertThat(processAdapter.onExit().get(5, TimeUnit.SECONDS)).isSameAs(processAdapter);
 
     verify(processAdapter, times(1)).safeGetId();
+    verify(processAdapter, times(1)).newProcessStreamReader(any(InputStream.class));
     verify(processAdapter, times(1)).newProcessStreamReader(eq(mockStandardOut));
-    verify(processAdapter, times(1)).newThread(
-      eq("Process [123] Standard Out Reader"), eq(mockRunnable));
-    verify(processAdapter, never()).newThread(eq("Process [123] Standard Error Reader"), any(Runnable.class));
-    verify(mockThread, times(1)).start();
+    verify(this.mockProcess, never()).getErrorStream();
+    verify(mockProcessStreamReader, times(1)).read();
   }
 
   @Test
@@ -297,14 +293,11 @@ class ProcessAdapterTests {
 
     verify(processAdapter, never()).safeGetId();
     verify(processAdapter, never()).newProcessStreamReader(any(InputStream.class));
-    verify(processAdapter, never()).newThread(anyString(), any(Runnable.class));
   }
 
   @Test
   void newProcessStreamListenerIsInitializedCorrectly() {
 
-    when(this.mockProcess.exitValue()).thenThrow(new IllegalThreadStateException("running"));
-
     ProcessAdapter processAdapter = newProcessAdapter(this.mockProcess);
 
     assertThat(processAdapter).isNotNull();
@@ -318,22 +311,20 @@ class ProcessAdapterTests {
 
     ByteArrayInputStream in = new ByteArrayInputStream("This is the end of the line!\n".getBytes());
 
-    Runnable processStreamReaderRunnable = processAdapter.newProcessStreamReader(in);
-
-    assertThat(processStreamReaderRunnable).isNotNull();
+    ProcessAdapter.ProcessStreamReader processStreamReader = processAdapter.newProcessStreamReader(in);
 
-    processStreamReaderRunnable.run();
+    assertThat(processStreamReader).isNotNull();
+    assertThat(processStreamReader.read()).isPositive();
+    assertThat(processStreamReader.read()).isEqualTo(-1);
 
     assertThat(bufferOne.toString()).isEqualTo("This is the end of the line!");
     assertThat(bufferTwo.toString()).isEqualTo("This is the end of the line!");
 
-    verify(this.mockProcess, times(1)).exitValue();
+    verify(this.mockProcess, never()).exitValue();
   }
 
   @Test
-  void newProcessStreamListenerRunnableIsNotRunWhenProcessIsNotRunning() {
-
-    when(this.mockProcess.exitValue()).thenReturn(0);
+  void newProcessStreamListenerRunnableReadsRemainingOutputWhenProcessIsNotRunning() {
 
     ProcessAdapter processAdapter = newProcessAdapter(this.mockProcess);
 
@@ -348,55 +339,121 @@ class ProcessAdapterTests {
     ByteArrayInputStream in =
       new ByteArrayInputStream("Do I deserve to be and if so, if so, who answers, who answers?!".getBytes());
 
-    Runnable processStreamReaderRunnable = processAdapter.newProcessStreamReader(in);
+    ProcessAdapter.ProcessStreamReader processStreamReader = processAdapter.newProcessStreamReader(in);
 
-    assertThat(processStreamReaderRunnable).isNotNull();
+    assertThat(processStreamReader).isNotNull();
+    assertThat(processStreamReader.read()).isPositive();
+    assertThat(processStreamReader.read()).isEqualTo(-1);
 
-    processStreamReaderRunnable.run();
+    assertThat(buffer.toString())
+      .isEqualTo("Do I deserve to be and if so, if so, who answers, who answers?!");
 
-    assertThat(buffer.toString()).isEmpty();
+    verify(this.mockProcess, never()).exitValue();
+  }
 
-    verify(this.mockProcess, times(1)).exitValue();
+  @Test
+  void newProcessStreamReaderDeliversBoundedChunks() {
+
+    ProcessStreamListener mockProcessStreamListener = mock(ProcessStreamListener.class);
+
+    ProcessAdapter processAdapter = newProcessAdapter(this.mockProcess);
+
+    assertThat(processAdapter.register(mockProcessStreamListener)).isSameAs(processAdapter);
+
+    int lineCount = ProcessAdapter.MAX_CHUNK_LINES * 2 + 1;
+
+    StringBuilder output = new StringBuilder();
+
+    for (int line = 0; line < lineCount; line++) {
+      output.append(line).append(System.lineSeparator());
+    }
+
+    ProcessAdapter.ProcessStreamReader processStreamReader =
+      processAdapter.newProcessStreamReader(new ByteArrayInputStream(output.toString().getBytes()));
+
+    assertThat(processStreamReader.read()).isPositive();
+    assertThat(processStreamReader.read()).isEqualTo(-1);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<String>> chunks = ArgumentCaptor.forClass(List.class);
+
+    verify(mockProcessStreamListener, times(3)).onInputChunk(chunks.capture());
+    verify(mockProcessStreamListener, never()).onInput(anyString());
+
+    assertThat(chunks.getAllValues()).allSatisfy(chunk ->
+      assertThat(chunk).hasSizeLessThanOrEqualTo(ProcessAdapter.MAX_CHUNK_LINES));
+
+    assertThat(chunks.getAllValues().stream().flatMap(List::stream).toList())
+      .hasSize(lineCount)
+      .startsWith("0", "1", "2")
+      .endsWith(String.valueOf(lineCount - 1));
   }
 
   @Test
-  void newProcessStreamListenerHandlesIOException() throws IOException {
+  void newProcessStreamReaderSplitsLinesLongerThanMaxChunkCharacters() {
+
+    ProcessStreamListener mockProcessStreamListener = mock(ProcessStreamListener.class);
+
+    ProcessAdapter processAdapter = newProcessAdapter(this.mockProcess);
+
+    assertThat(processAdapter.register(mockProcessStreamListener)).isSameAs(processAdapter);
+
+    String output = "x".repeat(ProcessAdapter.MAX_CHUNK_CHARACTERS * 2 + 1);
+
+    ProcessAdapter.ProcessStreamReader processStreamReader =
+      processAdapter.newProcessStreamReader(new ByteArrayInputStream(output.getBytes()));
 
-    BufferedReader mockReader = mock(BufferedReader.class);
+    assertThat(processStreamReader.read()).isPositive();
+    assertThat(processStreamReader.read()).isEqualTo(-1);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<String>> chunks = ArgumentCaptor.forClass(List.class);
+
+    verify(mockProcessStreamListener, times(3)).onInputChunk(chunks.capture());
+
+    assertThat(chunks.getAllValues().stream().flatMap(List::stream).map(String::length).toList())
+      .containsExactly(ProcessAdapter.MAX_CHUNK_CHARACTERS, ProcessAdapter.MAX_CHUNK_CHARACTERS, 1);
+  }
+
+  @Test
+  void newProcessStreamReaderHandlesIOException() throws IOException {
 
     InputStream mockInputStream = mock(InputStream.class);
 
-    ProcessAdapter processAdapter = spy(newProcessAdapter(this.mockProcess));
+    ProcessAdapter processAdapter = newProcessAdapter(this.mockProcess);
 
     assertThat(processAdapter).isNotNull();
     assertThat(processAdapter.getProcess()).isSameAs(this.mockProcess);
 
-    when(this.mockProcess.exitValue()).thenThrow(new IllegalThreadStateException("running"));
-    doReturn(mockReader).when(processAdapter).newReader(eq(mockInputStream));
-    when(mockReader.readLine()).thenThrow(newIOException("test"));
+    when(mockInputStream.available()).thenThrow(newIOException("test"));
 
-    Runnable runnable = processAdapter.newProcessStreamReader(mockInputStream);
+    ProcessAdapter.ProcessStreamReader processStreamReader = processAdapter.newProcessStreamReader(mockInputStream);
 
-    assertThat(runnable).isNotNull();
-
-    runnable.run();
+    assertThat(processStreamReader).isNotNull();
+    assertThat(processStreamReader.read()).isEqualTo(-1);
 
-    verify(this.mockProcess, times(1)).exitValue();
-    verify(processAdapter, times(1)).newReader(eq(mockInputStream));
-    verify(mockReader, times(1)).readLine();
-    verify(mockReader, times(1)).close();
+    verify(this.mockProcess, never()).exitValue();
+    verify(mockInputStream, times(1)).available();
+    verify(mockInputStream, times(1)).close();
+    verifyNoMoreInteractions(mockInputStream);
   }
 
   @Test
-  void newReaderIsInitializedCorrectly() {
+  void newProcessStreamReaderDoesNotBlockWhileProcessIsRunning() throws IOException {
 
     InputStream mockInputStream = mock(InputStream.class);
 
-    Reader reader = newProcessAdapter(this.mockProcess).newReader(mockInputStream);
+    when(this.mockProcess.isAlive()).thenReturn(true);
+    when(mockInputStream.available()).thenReturn(0);
+
+    ProcessAdapter.ProcessStreamReader processStreamReader =
+      newProcessAdapter(this.mockProcess).newProcessStreamReader(mockInputStream);
 
-    assertThat(reader).isInstanceOf(BufferedReader.class);
+    assertThat(processStreamReader.read()).isZero();
+    assertThat(processStreamReader.read()).isZero();
 
-    verifyNoInteractions(mockInputStream);
+    verify(mockInputStream, times(2)).available();
+    verifyNoMoreInteractions(mockInputStream);
   }
 
   @Test
@@ -416,6 +473,32 @@ class ProcessAdapterTests {
     assertThat(testThread.getThreadGroup()).isEqualTo(processAdapter.resolveThreadGroup());
   }
 
+  @Test
+  void onExitCompletesWhenProcessExits() throws Exception {
+
+    when(this.mockProcess.onExit()).thenReturn(CompletableFuture.completedFuture(this.mockProcess));
+
+    ProcessAdapter processAdapter = newProcessAdapter(this.mockProcess, this.processContext.inheritIO(true));
+
+    processAdapter.init();
+
+    assertThat(processAdapter.onExit().get(5, TimeUnit.SECONDS)).isSameAs(processAdapter);
+
+    verify(this.mockProcess, times(1)).onExit();
+    verify(this.mockProcess, never()).exitValue();
+    verify(this.mockProcess, never()).waitFor();
+  }
+
+  @Test
+  void onExitIsIncompleteWhileProcessIsRunning() {
+
+    when(this.mockProcess.onExit()).thenReturn(new CompletableFuture<>());
+
+    assertThat(newProcessAdapter(this.mockProcess, this.processContext).onExit()).isNotDone();
+
+    verify(this.mockProcess, times(1)).onExit();
+  }
+
   @Test
   void isAliveForRunningProcessIsTrue() {
 
@@ -1084,8 +1167,6 @@ class ProcessAdapterTests {
     ProcessStreamListener mockProcessStreamListenerTwo = mock(ProcessStreamListener.class,
       "MockProcessStreamListenerTwo");
 
-    when(this.mockProcess.exitValue()).thenThrow(new IllegalThreadStateException("running"));
-
     ProcessAdapter processAdapter = newProcessAdapter(this.mockProcess, this.processContext);
 
     assertThat(processAdapter).isNotNull();
@@ -1111,10 +1192,10 @@ class ProcessAdapterTests {
 
     runnable.run();
 
-    verify(mockProcessStreamListenerOne, times(1)).onInput(eq("Line one."));
-    verify(mockProcessStreamListenerOne, times(1)).onInput(eq("Line two."));
-    verify(mockProcessStreamListenerTwo, times(1)).onInput(eq("Line one."));
-    verify(mockProcessStreamListenerTwo, never()).onInput(eq("Line two."));
+    verify(mockProcessStreamListenerOne, times(1)).onInputChunk(eq(List.of("Line one.")));
+    verify(mockProcessStreamListenerOne, times(1)).onInputChunk(eq(List.of("Line two.")));
+    verify(mockProcessStreamListenerTwo, times(1)).onInputChunk(eq(List.of("Line one.")));
+    verify(mockProcessStreamListenerTwo, never()).onInputChunk(eq(List.of("Line two.")));
   }
 
   @Test
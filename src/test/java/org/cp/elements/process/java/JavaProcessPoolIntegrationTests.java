@@ -0,0 +1,278 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.process.java;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.process.ProcessExecutionException;
+
+/**
+ * Integration Tests for {@link JavaProcessPool}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.process.java.JavaProcessPool
+ * @since 3.0.0
+ */
+public class JavaProcessPoolIntegrationTests {
+
+  private JavaProcessPool pool;
+
+  @BeforeEach
+  public void setup() {
+    this.pool = JavaProcessPool.newJavaProcessPool().withMaxProcesses(2).withMaxRunsPerProcess(3);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    this.pool.close();
+  }
+
+  @Test
+  void executesInWarmPooledProcessesAndRecyclesAfterMaxRuns() {
+
+    assertThat(this.pool.prestart(1).size()).isOne();
+
+    List<Long> processIds = new ArrayList<>();
+
+    for (int run = 0; run < 4; run++) {
+      processIds.add(this.pool.<Long>execute(ProcessIdCallable.class).orElseThrow());
+    }
+
+    assertThat(processIds).doesNotContain(ProcessHandle.current().pid());
+    assertThat(processIds.subList(0, 3)).containsOnly(processIds.get(0));
+    assertThat(processIds.get(3)).isNotEqualTo(processIds.get(0));
+  }
+
+  @Test
+  void executePassesArgumentsAndReturnsResult() {
+
+    assertThat(this.pool.<String>execute(EchoCallable.class, "one", "two")).contains("one,two");
+    assertThat(this.pool.execute(MainClass.class, "test")).isEmpty();
+  }
+
+  @Test
+  void executeFailingJavaClassThrowsProcessExecutionException() {
+
+    assertThatExceptionOfType(ProcessExecutionException.class)
+      .isThrownBy(() -> this.pool.execute(FailingRunnable.class))
+      .withMessageStartingWith("Failed to execute Java class [%s]", FailingRunnable.class.getName())
+      .withMessageContaining(IllegalStateException.class.getName() + ": test");
+
+    assertThat(this.pool.size()).isOne();
+  }
+
+  @Test
+  void executeReplacesFailedProcess() {
+
+    long processId = this.pool.<Long>execute(ProcessIdCallable.class).orElseThrow();
+
+    assertThatExceptionOfType(ProcessExecutionException.class)
+      .isThrownBy(() -> this.pool.execute(HaltingRunnable.class))
+      .withMessage("Java process [%1$d] failed to execute Java class [%2$s]",
+        processId, HaltingRunnable.class.getName());
+
+    assertThat(this.pool.<Long>execute(ProcessIdCallable.class).orElseThrow()).isNotEqualTo(processId);
+  }
+
+  @Test
+  void executeWithJvmOptionsWritingToStandardOut() {
+
+    this.pool.withJavaOptions("-Xlog:gc", "-verbose:gc", "-XX:+PrintCommandLineFlags");
+
+    assertThat(this.pool.prestart(1).size()).isOne();
+    assertThat(this.pool.<String>execute(EchoCallable.class, "one", "two")).contains("one,two");
+    assertThat(this.pool.execute(MainClass.class, "test")).isEmpty();
+    assertThat(this.pool.<String>execute(EchoCallable.class, "three")).contains("three");
+  }
+
+  @Test
+  void executeTimeoutRecyclesProcess() {
+
+    long processId = this.pool.<Long>execute(ProcessIdCallable.class).orElseThrow();
+
+    this.pool.withExecutionTimeout(Duration.ofMillis(500));
+
+    assertThatExceptionOfType(ProcessExecutionException.class)
+      .isThrownBy(() -> this.pool.execute(BlockingRunnable.class))
+      .withMessage("Java process [%1$d] did not respond within [PT0.5S] while executing Java class [%2$s]",
+        processId, BlockingRunnable.class.getName());
+
+    assertThat(this.pool.<Long>execute(ProcessIdCallable.class).orElseThrow()).isNotEqualTo(processId);
+  }
+
+  @Test
+  void executeLimitsConcurrency() throws Exception {
+
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    try {
+
+      List<Future<Integer>> futures = new ArrayList<>();
+
+      for (int task = 0; task < 4; task++) {
+        futures.add(executorService.submit(() -> {
+          this.pool.execute(SleepingRunnable.class);
+          return this.pool.size();
+        }));
+      }
+
+      for (Future<Integer> future : futures) {
+        assertThat(future.get(30, TimeUnit.SECONDS)).isLessThanOrEqualTo(2);
+      }
+    }
+    finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void executeAfterCloseThrowsIllegalStateException() {
+
+    this.pool.prestart(2).close();
+
+    assertThat(this.pool.isClosed()).isTrue();
+    assertThat(this.pool.size()).isZero();
+
+    assertThatIllegalStateException()
+      .isThrownBy(() -> this.pool.execute(ProcessIdCallable.class))
+      .withMessage("JavaProcessPool is closed")
+      .withNoCause();
+  }
+
+  @Test
+  void executeNullClassThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> this.pool.execute(null))
+      .withMessage("Class type is required")
+      .withNoCause();
+  }
+
+  @Test
+  void withInvalidExecutionTimeoutThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> this.pool.withExecutionTimeout(Duration.ZERO))
+      .withMessage("Execution timeout [PT0S] must be positive")
+      .withNoCause();
+  }
+
+  @Test
+  void withInvalidMaxProcessesThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> this.pool.withMaxProcesses(0))
+      .withMessage("Max processes [0] must be greater than 0")
+      .withNoCause();
+  }
+
+  @Test
+  void withInvalidMaxRunsPerProcessThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> this.pool.withMaxRunsPerProcess(-1))
+      .withMessage("Max runs per process [-1] must be greater than 0")
+      .withNoCause();
+  }
+
+  public static class BlockingRunnable implements Runnable {
+
+    @Override
+    public void run() {
+      try {
+        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+      }
+      catch (InterruptedException ignore) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  public static class EchoCallable implements Callable<String> {
+
+    private final Object[] args;
+
+    public EchoCallable(Object[] args) {
+      this.args = args;
+    }
+
+    @Override
+    public String call() {
+      return String.join(",", (String[]) this.args);
+    }
+  }
+
+  public static class FailingRunnable implements Runnable {
+
+    @Override
+    public void run() {
+      throw new IllegalStateException("test");
+    }
+  }
+
+  public static class HaltingRunnable implements Runnable {
+
+    @Override
+    public void run() {
+      Runtime.getRuntime().halt(1);
+    }
+  }
+
+  public static class MainClass {
+
+    public static void main(String[] args) {
+      System.out.println(String.join(",", args));
+    }
+  }
+
+  public static class ProcessIdCallable implements Callable<Long> {
+
+    @Override
+    public Long call() {
+      return ProcessHandle.current().pid();
+    }
+  }
+
+  public static class SleepingRunnable implements Runnable {
+
+    @Override
+    public void run() {
+      try {
+        Thread.sleep(250);
+      }
+      catch (InterruptedException ignore) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
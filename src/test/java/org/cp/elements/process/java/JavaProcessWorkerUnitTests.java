@@ -0,0 +1,171 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.process.java;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.io.IOUtils;
+
+/**
+ * Unit Tests for {@link JavaProcessWorker}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.process.java.JavaProcessWorker
+ * @since 3.0.0
+ */
+public class JavaProcessWorkerUnitTests {
+
+  private static DataInputStream serve(byte[] requests) throws IOException {
+
+    ByteArrayOutputStream responses = new ByteArrayOutputStream();
+
+    JavaProcessWorker.serve(new DataInputStream(new ByteArrayInputStream(requests)),
+      new DataOutputStream(responses));
+
+    return new DataInputStream(new ByteArrayInputStream(responses.toByteArray()));
+  }
+
+  private static void writeExecuteRequest(DataOutputStream out, Class<?> type, String... args) throws IOException {
+
+    out.writeByte(JavaProcessWorker.EXECUTE_REQUEST);
+    out.writeUTF(type.getName());
+    out.writeInt(args.length);
+
+    for (String argument : args) {
+      out.writeUTF(argument);
+    }
+  }
+
+  private static JavaProcessWorker.Response readResponse(DataInputStream in) throws IOException {
+
+    byte status = in.readByte();
+    byte[] payload = new byte[in.readInt()];
+
+    in.readFully(payload);
+
+    return new JavaProcessWorker.Response(status, payload);
+  }
+
+  @Test
+  void serveExecutesRequestsInOrder() throws Exception {
+
+    ByteArrayOutputStream requests = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(requests);
+
+    writeExecuteRequest(out, EchoCallable.class, "one", "two");
+    out.writeByte(JavaProcessWorker.PING_REQUEST);
+    writeExecuteRequest(out, NoOpRunnable.class);
+
+    DataInputStream in = serve(requests.toByteArray());
+
+    JavaProcessWorker.Response echoResponse = readResponse(in);
+    JavaProcessWorker.Response pingResponse = readResponse(in);
+    JavaProcessWorker.Response runnableResponse = readResponse(in);
+
+    assertThat(echoResponse.status()).isEqualTo(JavaProcessWorker.SUCCESS_RESPONSE);
+    assertThat(IOUtils.<String>deserialize(echoResponse.payload())).isEqualTo("one,two");
+    assertThat(pingResponse.status()).isEqualTo(JavaProcessWorker.SUCCESS_RESPONSE);
+    assertThat(pingResponse.payload()).isEmpty();
+    assertThat(runnableResponse.status()).isEqualTo(JavaProcessWorker.SUCCESS_RESPONSE);
+    assertThat(runnableResponse.payload()).isEmpty();
+    assertThat(in.available()).isZero();
+  }
+
+  @Test
+  void serveRespondsWithFailureAndContinues() throws Exception {
+
+    ByteArrayOutputStream requests = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(requests);
+
+    writeExecuteRequest(out, FailingRunnable.class);
+    writeExecuteRequest(out, NonSerializableResultCallable.class);
+    out.writeByte(JavaProcessWorker.PING_REQUEST);
+
+    DataInputStream in = serve(requests.toByteArray());
+
+    JavaProcessWorker.Response failingResponse = readResponse(in);
+    JavaProcessWorker.Response nonSerializableResponse = readResponse(in);
+
+    assertThat(failingResponse.status()).isEqualTo(JavaProcessWorker.FAILURE_RESPONSE);
+    assertThat(new String(failingResponse.payload(), StandardCharsets.UTF_8))
+      .contains(IllegalStateException.class.getName() + ": test");
+    assertThat(nonSerializableResponse.status()).isEqualTo(JavaProcessWorker.FAILURE_RESPONSE);
+    assertThat(new String(nonSerializableResponse.payload(), StandardCharsets.UTF_8))
+      .contains("is not Serializable");
+    assertThat(readResponse(in).status()).isEqualTo(JavaProcessWorker.SUCCESS_RESPONSE);
+  }
+
+  @Test
+  void serveRejectsUnknownRequest() {
+    assertThatIOException()
+      .isThrownBy(() -> serve(new byte[] { 42 }))
+      .withMessage("Unknown request [42]")
+      .withNoCause();
+  }
+
+  @Test
+  void serveReturnsAtEndOfStream() throws Exception {
+    assertThat(serve(new byte[0]).available()).isZero();
+  }
+
+  public static class EchoCallable implements Callable<String> {
+
+    private final Object[] args;
+
+    public EchoCallable(Object[] args) {
+      this.args = args;
+    }
+
+    @Override
+    public String call() {
+      return String.join(",", (String[]) this.args);
+    }
+  }
+
+  public static class FailingRunnable implements Runnable {
+
+    @Override
+    public void run() {
+      throw new IllegalStateException("test");
+    }
+  }
+
+  public static class NonSerializableResultCallable implements Callable<Object> {
+
+    @Override
+    public Object call() {
+      return new Object();
+    }
+  }
+
+  public static class NoOpRunnable implements Runnable {
+
+    @Override
+    public void run() { }
+  }
+}
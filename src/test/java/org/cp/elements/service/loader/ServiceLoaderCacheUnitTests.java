@@ -0,0 +1,231 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.service.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.service.loader.ServiceLoaderCache.ServiceProviders;
+import org.cp.elements.service.loader.provider.AppleMapsGeocodingService;
+import org.cp.elements.service.loader.provider.BingGeocodingService;
+import org.cp.elements.service.loader.provider.GoogleGeocodingService;
+import org.cp.elements.service.loader.provider.TomTomGeocodingService;
+
+/**
+ * Unit Tests for {@link ServiceLoaderCache}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.service.loader.ServiceLoaderCache
+ * @since 3.0.0
+ */
+public class ServiceLoaderCacheUnitTests {
+
+  private static final ClassLoader CLASS_LOADER = Thread.currentThread().getContextClassLoader();
+
+  @AfterEach
+  public void tearDown() {
+    ServiceLoaderCache.refreshAll();
+  }
+
+  @Test
+  public void getDiscoversServiceProvidersInOrder() {
+
+    ServiceProviders<MockGeocodingService> serviceProviders =
+      ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER);
+
+    assertThat(serviceProviders).isNotNull();
+    assertThat(serviceProviders.size()).isEqualTo(4);
+    assertThat(serviceProviders.find(service -> true, true)).containsInstanceOf(GoogleGeocodingService.class);
+  }
+
+  @Test
+  public void getReturnsCachedServiceProvidersForSameServiceTypeAndClassLoader() {
+
+    assertThat(ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER))
+      .isSameAs(ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER));
+  }
+
+  @Test
+  public void getReturnsDifferentServiceProvidersForDifferentClassLoader() throws Exception {
+
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[0], CLASS_LOADER)) {
+
+      ServiceProviders<MockGeocodingService> serviceProviders =
+        ServiceLoaderCache.get(MockGeocodingService.class, classLoader);
+
+      assertThat(serviceProviders).isNotSameAs(ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER));
+      assertThat(serviceProviders.size()).isEqualTo(4);
+    }
+  }
+
+  @Test
+  public void getDoesNotPreventClassLoaderFromBeingGarbageCollected() throws Exception {
+
+    WeakReference<ClassLoader> classLoaderReference = discoverWithNewClassLoader();
+
+    for (int attempt = 0; attempt < 50 && classLoaderReference.get() != null; attempt++) {
+      System.gc();
+      Thread.sleep(20L);
+    }
+
+    assertThat(classLoaderReference.get()).isNull();
+  }
+
+  private WeakReference<ClassLoader> discoverWithNewClassLoader() throws Exception {
+
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[0], CLASS_LOADER)) {
+
+      assertThat(ServiceLoaderCache.get(MockGeocodingService.class, classLoader).size()).isEqualTo(4);
+
+      return new WeakReference<>(classLoader);
+    }
+  }
+
+  @Test
+  public void getWithNullServiceTypeThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ServiceLoaderCache.get(null, CLASS_LOADER))
+      .withMessage("Service type is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void getWithNoServiceProviders() {
+
+    ServiceProviders<Runnable> serviceProviders = ServiceLoaderCache.get(Runnable.class, CLASS_LOADER);
+
+    assertThat(serviceProviders.size()).isZero();
+    assertThat(serviceProviders.find(service -> true, true)).isEmpty();
+    assertThat(serviceProviders.findByName("test", true)).isEmpty();
+  }
+
+  @Test
+  public void findWithCachingReturnsSameServiceInstance() {
+
+    ServiceProviders<MockGeocodingService> serviceProviders =
+      ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER);
+
+    MockGeocodingService serviceInstance = serviceProviders
+      .find(TomTomGeocodingService.class::isInstance, true)
+      .orElse(null);
+
+    assertThat(serviceInstance).isInstanceOf(TomTomGeocodingService.class);
+    assertThat(serviceProviders.find(TomTomGeocodingService.class::isInstance, true)).containsSame(serviceInstance);
+  }
+
+  @Test
+  public void findWithoutCachingReturnsNewServiceInstance() {
+
+    ServiceProviders<MockGeocodingService> serviceProviders =
+      ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER);
+
+    MockGeocodingService serviceInstance = serviceProviders
+      .find(TomTomGeocodingService.class::isInstance, false)
+      .orElse(null);
+
+    assertThat(serviceInstance).isInstanceOf(TomTomGeocodingService.class);
+    assertThat(serviceProviders.find(TomTomGeocodingService.class::isInstance, false).orElse(null))
+      .isInstanceOf(TomTomGeocodingService.class)
+      .isNotSameAs(serviceInstance);
+  }
+
+  @Test
+  public void findWithNonMatchingPredicateReturnsEmpty() {
+
+    assertThat(ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER)
+      .find(service -> false, true)).isEmpty();
+  }
+
+  @Test
+  public void findByNameResolvesNameableServiceInstance() {
+
+    assertThat(ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER)
+      .findByName("Apple Maps", true)).containsInstanceOf(AppleMapsGeocodingService.class);
+  }
+
+  @Test
+  public void findByNameResolvesQualifiedServiceInstance() {
+
+    assertThat(ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER)
+      .findByName("TomTom", true)).containsInstanceOf(TomTomGeocodingService.class);
+  }
+
+  @Test
+  public void findByNameResolvesNameableAndQualifiedServiceInstance() {
+
+    ServiceProviders<MockGeocodingService> serviceProviders =
+      ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER);
+
+    MockGeocodingService serviceInstance = serviceProviders.findByName("Bing", true).orElse(null);
+
+    assertThat(serviceInstance).isInstanceOf(BingGeocodingService.class);
+    assertThat(serviceProviders.findByName("BingBangBoom", true)).containsSame(serviceInstance);
+  }
+
+  @Test
+  public void findByUnknownNameReturnsEmpty() {
+
+    ServiceProviders<MockGeocodingService> serviceProviders =
+      ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER);
+
+    assertThat(serviceProviders.findByName("MapQuest", true)).isEmpty();
+    assertThat(serviceProviders.findByName(null, true)).isEmpty();
+  }
+
+  @Test
+  public void refreshEvictsCachedServiceProvidersAndServiceInstances() {
+
+    ServiceProviders<MockGeocodingService> serviceProviders =
+      ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER);
+
+    MockGeocodingService serviceInstance = serviceProviders.findByName("TomTom", true).orElse(null);
+
+    ServiceLoaderCache.refresh(MockGeocodingService.class, CLASS_LOADER);
+
+    ServiceProviders<MockGeocodingService> refreshedServiceProviders =
+      ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER);
+
+    assertThat(refreshedServiceProviders).isNotSameAs(serviceProviders);
+    assertThat(refreshedServiceProviders.findByName("TomTom", true).orElse(null))
+      .isInstanceOf(TomTomGeocodingService.class)
+      .isNotSameAs(serviceInstance);
+  }
+
+  @Test
+  public void refreshAllEvictsAllCachedServiceProviders() {
+
+    ServiceProviders<MockGeocodingService> geocodingServiceProviders =
+      ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER);
+
+    ServiceProviders<MockService> mockServiceProviders = ServiceLoaderCache.get(MockService.class, CLASS_LOADER);
+
+    ServiceLoaderCache.refreshAll();
+
+    assertThat(ServiceLoaderCache.get(MockGeocodingService.class, CLASS_LOADER))
+      .isNotSameAs(geocodingServiceProviders);
+
+    assertThat(ServiceLoaderCache.get(MockService.class, CLASS_LOADER)).isNotSameAs(mockServiceProviders);
+  }
+}
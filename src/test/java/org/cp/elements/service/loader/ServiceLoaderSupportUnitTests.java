@@ -189,6 +189,45 @@ public class ServiceLoaderSupportUnitTests {
       .withNoCause();
   }
 
+  @Test
+  public void getServiceInstanceReturnsCachedServiceInstance() {
+
+    MockGeocodingService geocodingService = MockGeocodingService.getLoader().getServiceInstance("TomTom");
+
+    assertThat(MockGeocodingService.getLoader().getServiceInstance("TomTom")).isSameAs(geocodingService);
+    assertThat(MockGeocodingService.getLoader().getServiceInstance(TomTomGeocodingService.class::isInstance))
+      .isSameAs(geocodingService);
+  }
+
+  @Test
+  public void getServiceInstanceWithCachingDisabledReturnsNewServiceInstance() {
+
+    MockGeocodingService.Loader loader = new MockGeocodingService.Loader() {
+
+      @Override
+      public boolean isServiceInstanceCachingEnabled() {
+        return false;
+      }
+    };
+
+    MockGeocodingService geocodingService = loader.getServiceInstance("TomTom");
+
+    assertThat(geocodingService).isInstanceOf(TomTomGeocodingService.class);
+    assertThat(loader.getServiceInstance("TomTom")).isNotSameAs(geocodingService);
+  }
+
+  @Test
+  public void refreshEvictsCachedServiceInstance() {
+
+    MockGeocodingService geocodingService = MockGeocodingService.getLoader().getServiceInstance("TomTom");
+
+    MockGeocodingService.getLoader().refresh();
+
+    assertThat(MockGeocodingService.getLoader().getServiceInstance("TomTom"))
+      .isInstanceOf(TomTomGeocodingService.class)
+      .isNotSameAs(geocodingService);
+  }
+
   @Test
   public void getTypeReturnsTypeOfServiceLoaderSupportImplementingClass() {
 
@@ -69,4 +69,34 @@ public class FormatUtilsTests {
     assertThat(FormatUtils.format("This is %1$s {1} text%3$s", "string and message", "formatted", "!"))
       .isEqualTo("This is string and message formatted text!");
   }
+
+  @Test
+  public void compileCachesMessageTemplate() {
+
+    MessageTemplate template = FormatUtils.compile("Cached {0} message %s");
+
+    assertThat(template).isNotNull();
+    assertThat(template.getTextPattern()).isEqualTo("Cached {0} message %s");
+    assertThat(FormatUtils.compile("Cached {0} message %s")).isSameAs(template);
+  }
+
+  @Test
+  public void compileEvictsUnusedMessageTemplate() {
+
+    MessageTemplate recentlyUsedTemplate = FormatUtils.compile("Recently used {0} message");
+    MessageTemplate unusedTemplate = FormatUtils.compile("Unused {0} message");
+
+    for (int count = 0; count < FormatUtils.MESSAGE_TEMPLATE_CACHE_SIZE; count++) {
+      assertThat(FormatUtils.compile("Recently used {0} message")).isSameAs(recentlyUsedTemplate);
+      FormatUtils.compile("Evicting {0} message " + count);
+    }
+
+    assertThat(FormatUtils.compile("Recently used {0} message")).isSameAs(recentlyUsedTemplate);
+    assertThat(FormatUtils.compile("Unused {0} message")).isNotSameAs(unusedTemplate);
+  }
+
+  @Test
+  public void formatNullTextPatternThrowsNullPointerException() {
+    assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> FormatUtils.format(null, "test"));
+  }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.text;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Date;
+import java.util.MissingFormatArgumentException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Unit Tests for {@link MessageTemplate}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.text.MessageTemplate
+ * @since 3.0.0
+ */
+public class MessageTemplateUnitTests {
+
+  private static String legacyFormat(String textPattern, Object... args) {
+    return FormatUtils.messageFormat(FormatUtils.stringFormat(textPattern, args), args);
+  }
+
+  static Stream<Arguments> textPatternsAndArguments() {
+
+    return Stream.of(
+      Arguments.of("This is plain text!", new Object[] { true, 'X', 1, Math.PI, "test" }),
+      Arguments.of("", new Object[0]),
+      Arguments.of("This is {0} {1} text{2}", new Object[] { "message", "formatted", "!" }),
+      Arguments.of("This is %1$s %2$s text%3$s", new Object[] { "string", "formatted", "!" }),
+      Arguments.of("This is %1$s {1} text%3$s", new Object[] { "string and message", "formatted", "!" }),
+      Arguments.of("%s and %s then %1$s and %s", new Object[] { "a", "b", "c" }),
+      Arguments.of("Count is {0}; Value is %s", new Object[] { 123456789, 123456789 }),
+      Arguments.of("Missing {0} {1} {2}", new Object[] { "one" }),
+      Arguments.of("Null [%s] and [{1}]", new Object[] { null, null }),
+      Arguments.of("100%% done%n{0}", new Object[] { "next" }),
+      Arguments.of("Value [%s] with braces", new Object[] { "{0}" }),
+      Arguments.of("Value [%s] with quote", new Object[] { "it's" }),
+      Arguments.of("Don''t {0}", new Object[] { "panic" }),
+      Arguments.of("Number %d and {0,number,#.##}", new Object[] { 1, 2.345 }),
+      Arguments.of("Date {0}", new Object[] { new Date(0L) })
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("textPatternsAndArguments")
+  void formatIsConsistentWithFormatUtils(String textPattern, Object[] args) {
+    assertThat(MessageTemplate.compile(textPattern).format(args)).isEqualTo(legacyFormat(textPattern, args));
+  }
+
+  @Test
+  void compileNullTextPatternThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> MessageTemplate.compile(null))
+      .withMessage("Text pattern is required")
+      .withNoCause();
+  }
+
+  @Test
+  void compilesSupportedTextPatterns() {
+
+    assertThat(MessageTemplate.compile("Plain text").isCompiled()).isTrue();
+    assertThat(MessageTemplate.compile("%s is %2$s at {0} %% %n").isCompiled()).isTrue();
+  }
+
+  @Test
+  void doesNotCompileUnsupportedTextPatterns() {
+
+    assertThat(MessageTemplate.compile("%d").isCompiled()).isFalse();
+    assertThat(MessageTemplate.compile("%-10s").isCompiled()).isFalse();
+    assertThat(MessageTemplate.compile("{0,number}").isCompiled()).isFalse();
+    assertThat(MessageTemplate.compile("It's").isCompiled()).isFalse();
+    assertThat(MessageTemplate.compile("Unmatched }").isCompiled()).isFalse();
+    assertThat(MessageTemplate.compile("Trailing %").isCompiled()).isFalse();
+  }
+
+  @Test
+  void formatWithMissingArgumentThrowsMissingFormatArgumentException() {
+
+    assertThatExceptionOfType(MissingFormatArgumentException.class)
+      .isThrownBy(() -> MessageTemplate.compile("%s and %s").format("one"))
+      .withNoCause();
+  }
+
+  @Test
+  void formatGuardsAgainstNullArgumentArray() {
+    assertThat(MessageTemplate.compile("This a {0} with {1} text").format((Object[]) null))
+      .isEqualTo("This a {0} with {1} text");
+  }
+
+  @Test
+  void formatToAppendsToStringBuilder() {
+
+    MessageTemplate template = MessageTemplate.compile("Hello %s, {1}!");
+
+    StringBuilder buffer = new StringBuilder("> ");
+
+    assertThat(template.formatTo(buffer, "Jon", "welcome")).isSameAs(buffer);
+    assertThat(buffer).hasToString("> Hello Jon, welcome!");
+
+    buffer.setLength(0);
+
+    assertThat(template.formatTo(buffer, "Jane", "goodbye")).hasToString("Hello Jane, goodbye!");
+  }
+
+  @Test
+  void formatToAppendsFallbackResultAfterPartialRender() {
+
+    StringBuilder buffer = new StringBuilder("> ");
+
+    MessageTemplate.compile("Prefix %s then %s").formatTo(buffer, "one", "it's");
+
+    assertThat(buffer).hasToString("> " + legacyFormat("Prefix %s then %s", "one", "it's"));
+  }
+
+  @Test
+  void formatToNullStringBuilderThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> MessageTemplate.compile("test").formatTo(null))
+      .withMessage("StringBuilder is required")
+      .withNoCause();
+  }
+
+  @Test
+  void equalsHashCodeAndToStringUseTextPattern() {
+
+    MessageTemplate template = MessageTemplate.compile("Hello {0}");
+
+    assertThat(template).isEqualTo(MessageTemplate.compile("Hello {0}"));
+    assertThat(template).isNotEqualTo(MessageTemplate.compile("Hello %s"));
+    assertThat(template).hasSameHashCodeAs("Hello {0}");
+    assertThat(template).hasToString("Hello {0}");
+  }
+}
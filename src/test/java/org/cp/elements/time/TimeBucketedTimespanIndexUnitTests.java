@@ -0,0 +1,139 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link TimeBucketedTimespanIndex}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.time.TimeBucketedTimespanIndex
+ * @since 3.0.0
+ */
+public class TimeBucketedTimespanIndexUnitTests {
+
+  private static final LocalDateTime NOON = LocalDateTime.of(2024, 1, 15, 12, 0);
+
+  private final Timespan lunch = Timespan.between(NOON, NOON.plusHours(1));
+  private final Timespan workday = Timespan.between(NOON.minusHours(4), NOON.plusHours(5));
+  private final Timespan quarter = Timespan.between(NOON, NOON.plusMonths(3));
+  private final Timespan future = Timespan.beginning(NOON.plusHours(3));
+
+  @Test
+  public void constructWithDefaults() {
+
+    TimeBucketedTimespanIndex index = new TimeBucketedTimespanIndex();
+
+    assertThat(index.getBucketDuration()).isEqualTo(Duration.ofHours(1));
+    assertThat(index.getMaxBucketsPerTimespan()).isEqualTo(64);
+    assertThat(index.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void constructWithInvalidBucketDurationThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> TimeBucketedTimespanIndex.withBucketDuration(Duration.ofMillis(500)))
+      .withMessage("Bucket duration [PT0.5S] must be at least 1 second")
+      .withNoCause();
+  }
+
+  @Test
+  public void addNullTimespanThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new TimeBucketedTimespanIndex().add(null))
+      .withMessage("Timespan is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void findDuringAndOverlappingReportEachTimespanOnce() {
+
+    TimeBucketedTimespanIndex index = new TimeBucketedTimespanIndex()
+      .add(this.lunch).add(this.workday).add(this.quarter).add(this.future);
+
+    assertThat(index).hasSize(4);
+    assertThat(index.findDuring(NOON)).containsExactlyInAnyOrder(this.lunch, this.workday, this.quarter);
+    assertThat(index.findDuring(NOON.plusHours(4)))
+      .containsExactlyInAnyOrder(this.workday, this.quarter, this.future);
+    assertThat(index.findDuring(NOON.minusDays(1))).isEmpty();
+    assertThat(index.findOverlapping(Timespan.between(NOON.minusHours(2), NOON.plusHours(8))))
+      .containsExactlyInAnyOrder(this.lunch, this.workday, this.quarter, this.future);
+    assertThat(index.findOverlapping(Timespan.ending(NOON.minusHours(4)))).containsExactly(this.workday);
+    assertThat(index.findContaining(this.lunch)).containsExactlyInAnyOrder(this.lunch, this.workday, this.quarter);
+  }
+
+  @Test
+  public void removeTimespan() {
+
+    TimeBucketedTimespanIndex index = new TimeBucketedTimespanIndex()
+      .add(this.lunch).add(this.workday).add(this.future);
+
+    assertThat(index.remove(this.workday)).isTrue();
+    assertThat(index.remove(this.workday)).isFalse();
+    assertThat(index.remove(this.future)).isTrue();
+    assertThat(index.remove(null)).isFalse();
+    assertThat(index).containsExactly(this.lunch);
+    assertThat(index.findDuring(NOON.minusHours(1))).isEmpty();
+
+    index.clear();
+
+    assertThat(index.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void matchesIntervalTreeAndLinearScan() {
+
+    Random random = new Random(42L);
+
+    List<Timespan> timespans = new ArrayList<>();
+
+    for (int count = 0; count < 5_000; count++) {
+      LocalDateTime begin = NOON.plusMinutes(random.nextInt(500_000));
+      timespans.add(Timespan.between(begin, begin.plusMinutes(1 + random.nextInt(count % 50 == 0 ? 100_000 : 300))));
+    }
+
+    TimeBucketedTimespanIndex index = new TimeBucketedTimespanIndex().addAll(timespans);
+    TimespanIntervalTree tree = index.toIntervalTree();
+
+    assertThat(tree).containsExactlyInAnyOrderElementsOf(timespans);
+
+    for (int count = 0; count < 100; count++) {
+
+      LocalDateTime begin = NOON.plusMinutes(random.nextInt(500_000));
+      Timespan query = Timespan.between(begin, begin.plusMinutes(1 + random.nextInt(2_000)));
+
+      List<Timespan> expected = timespans.stream()
+        .filter(timespan -> TimespanIndex.overlaps(timespan, query))
+        .toList();
+
+      assertThat(index.findOverlapping(query)).containsExactlyInAnyOrderElementsOf(expected);
+      assertThat(tree.findOverlapping(query)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link TimespanIntervalTree}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.time.TimespanIntervalTree
+ * @since 3.0.0
+ */
+public class TimespanIntervalTreeUnitTests {
+
+  private static final LocalDateTime NOON = LocalDateTime.of(2024, 1, 15, 12, 0);
+
+  private final Timespan morning = Timespan.between(NOON.minusHours(4), NOON.minusHours(1));
+  private final Timespan lunch = Timespan.between(NOON, NOON.plusHours(1));
+  private final Timespan afternoon = Timespan.between(NOON.plusHours(1), NOON.plusHours(5));
+  private final Timespan workday = Timespan.between(NOON.minusHours(4), NOON.plusHours(5));
+  private final Timespan past = Timespan.ending(NOON.minusHours(6));
+  private final Timespan future = Timespan.beginning(NOON.plusHours(3));
+  private final Timespan eternity = Timespan.infinite();
+
+  private TimespanIntervalTree newTree() {
+    return TimespanIntervalTree.of(this.afternoon, this.eternity, this.lunch, this.past, this.workday,
+      this.future, this.morning);
+  }
+
+  @Test
+  public void emptyTree() {
+
+    TimespanIntervalTree tree = TimespanIntervalTree.empty();
+
+    assertThat(tree.isEmpty()).isTrue();
+    assertThat(tree.size()).isZero();
+    assertThat(tree.findDuring(NOON)).isEmpty();
+    assertThat(tree.findOverlapping(this.lunch)).isEmpty();
+    assertThat(TimespanIntervalTree.of((Iterable<Timespan>) null)).isSameAs(tree);
+  }
+
+  @Test
+  public void ofWithNullTimespanThrowsIllegalArgumentException() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> TimespanIntervalTree.of(this.lunch, null))
+      .withMessage("Timespan is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void iteratesTimespansInBeginningOrder() {
+
+    assertThat(newTree()).containsExactly(this.past, this.eternity, this.morning, this.workday, this.lunch,
+      this.afternoon, this.future);
+  }
+
+  @Test
+  public void findDuringIncludesInfiniteAndInclusiveBounds() {
+
+    TimespanIntervalTree tree = newTree();
+
+    assertThat(tree.findDuring(NOON)).containsExactlyInAnyOrder(this.eternity, this.workday, this.lunch);
+    assertThat(tree.findDuring(NOON.plusHours(1)))
+      .containsExactlyInAnyOrder(this.eternity, this.workday, this.lunch, this.afternoon);
+    assertThat(tree.findDuring(NOON.minusDays(1))).containsExactlyInAnyOrder(this.eternity, this.past);
+    assertThat(tree.findDuring(NOON.plusYears(1))).containsExactlyInAnyOrder(this.eternity, this.future);
+    assertThat(tree.findDuring(null)).isEmpty();
+  }
+
+  @Test
+  public void findOverlappingTimespans() {
+
+    TimespanIntervalTree tree = newTree();
+
+    assertThat(tree.findOverlapping(Timespan.between(NOON.minusMinutes(30), NOON.plusMinutes(30))))
+      .containsExactlyInAnyOrder(this.eternity, this.workday, this.lunch);
+    assertThat(tree.findOverlapping(Timespan.ending(NOON.minusHours(4))))
+      .containsExactlyInAnyOrder(this.eternity, this.past, this.morning, this.workday);
+    assertThat(tree.findOverlapping(Timespan.infinite())).hasSize(tree.size());
+    assertThat(tree.findOverlapping(null)).isEmpty();
+  }
+
+  @Test
+  public void findContainingTimespans() {
+
+    TimespanIntervalTree tree = newTree();
+
+    assertThat(tree.findContaining(this.lunch)).containsExactlyInAnyOrder(this.eternity, this.workday, this.lunch);
+    assertThat(tree.findContaining(Timespan.beginning(NOON.plusYears(1))))
+      .containsExactlyInAnyOrder(this.eternity, this.future);
+    assertThat(tree.findContaining(null)).isEmpty();
+  }
+
+  @Test
+  public void parallelBuildMatchesSequentialBuildAndLinearScan() {
+
+    Random random = new Random(42L);
+
+    List<Timespan> timespans = new ArrayList<>();
+
+    for (int count = 0; count < TimespanIntervalTree.PARALLEL_THRESHOLD * 2; count++) {
+      LocalDateTime begin = NOON.plusMinutes(random.nextInt(1_000_000));
+      timespans.add(Timespan.between(begin, begin.plusMinutes(1 + random.nextInt(count % 100 == 0 ? 100_000 : 500))));
+    }
+
+    timespans.addAll(Arrays.asList(this.past, this.future, this.eternity));
+
+    TimespanIntervalTree tree = TimespanIntervalTree.of(timespans);
+    TimespanIntervalTree parallelTree = TimespanIntervalTree.parallelOf(timespans);
+
+    assertThat(parallelTree).containsExactlyElementsOf(tree);
+
+    for (int count = 0; count < 100; count++) {
+
+      LocalDateTime begin = NOON.plusMinutes(random.nextInt(1_000_000));
+      Timespan query = Timespan.between(begin, begin.plusMinutes(1 + random.nextInt(1_000)));
+
+      List<Timespan> expected = timespans.stream()
+        .filter(timespan -> TimespanIndex.overlaps(timespan, query))
+        .toList();
+
+      assertThat(tree.findOverlapping(query)).containsExactlyInAnyOrderElementsOf(expected);
+      assertThat(parallelTree.findOverlapping(query)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+  }
+}
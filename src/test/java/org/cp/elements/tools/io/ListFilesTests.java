@@ -31,9 +31,11 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.io.FileFilter;
 
 import org.junit.jupiter.api.Test;
 
+import org.cp.elements.io.FileExtensionFilter;
 import org.cp.elements.io.FileSystemUtils;
 import org.cp.elements.lang.StringUtils;
 import org.cp.elements.test.AbstractTestSuite;
@@ -107,6 +109,22 @@ public class ListFilesTests extends AbstractTestSuite {
       .withNoCause();
   }
 
+  @Test
+  public void resolveFileFilterWithFileExtensions() {
+
+    FileFilter fileFilter = ListFiles.resolveFileFilter(asArray("/path/to/directory", "java", "txt"));
+
+    assertThat(fileFilter).isInstanceOf(FileExtensionFilter.class);
+    assertThat(fileFilter.accept(new File("Source.java"))).isTrue();
+    assertThat(fileFilter.accept(new File("notes.txt"))).isTrue();
+    assertThat(fileFilter.accept(new File("Source.class"))).isFalse();
+  }
+
+  @Test
+  public void resolveFileFilterWithDirectoryOnlyReturnsNull() {
+    assertThat(ListFiles.resolveFileFilter(asArray("/path/to/directory"))).isNull();
+  }
+
   @Test
   public void resolveDirectoryWithValidDirectory() {
     assertThat(ListFiles.resolveDirectory(asArray(FileSystemUtils.WORKING_DIRECTORY.getAbsolutePath())))
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.tools.net;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.channels.UnresolvedAddressException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.net.NetworkUtils;
+
+/**
+ * Integration Tests for {@link ConnectionScanner}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.tools.net.ConnectionScanner
+ * @since 3.0.0
+ */
+public class ConnectionScannerIntegrationTests {
+
+  @Test
+  public void scanReportsConnectedAndRefusedTargets() throws IOException {
+
+    int[] ports = NetworkUtils.availablePorts(50);
+
+    List<ServerSocket> serverSockets = new ArrayList<>();
+
+    try {
+      for (int index = 0; index < 5; index++) {
+        serverSockets.add(new ServerSocket(ports[index]));
+      }
+
+      List<InetSocketAddress> targets = new ArrayList<>();
+
+      for (int port : ports) {
+        targets.add(new InetSocketAddress("localhost", port));
+      }
+
+      List<ConnectionScanner.Result> results = ConnectionScanner.newConnectionScanner()
+        .withConcurrency(8)
+        .scan(targets);
+
+      assertThat(results).hasSize(50);
+      assertThat(results.stream().map(ConnectionScanner.Result::getTarget))
+        .containsExactlyInAnyOrderElementsOf(targets);
+
+      Set<Integer> connectedPorts = results.stream()
+        .filter(ConnectionScanner.Result::isConnected)
+        .map(result -> result.getTarget().getPort())
+        .collect(Collectors.toSet());
+
+      assertThat(connectedPorts).containsExactlyInAnyOrder(ports[0], ports[1], ports[2], ports[3], ports[4]);
+      assertThat(results).filteredOn(result -> !result.isConnected())
+        .allSatisfy(result -> assertThat(result.getCause()).isInstanceOf(ConnectException.class));
+      assertThat(results).filteredOn(ConnectionScanner.Result::isConnected)
+        .allSatisfy(result -> assertThat(result.getCause()).isNull());
+    }
+    finally {
+      for (ServerSocket serverSocket : serverSockets) {
+        NetworkUtils.close(serverSocket);
+      }
+    }
+  }
+
+  @Test
+  public void scanTimesOutUnresponsiveTargets() throws IOException {
+
+    try (ServerSocket serverSocket = new ServerSocket(0, 1)) {
+
+      List<Socket> backlog = new ArrayList<>();
+
+      try {
+        // Fill the backlog of the ServerSocket, which never accepts, so that further connection attempts hang
+        for (int count = 0; count < 4; count++) {
+          Socket socket = new Socket();
+          backlog.add(socket);
+          socket.connect(serverSocket.getLocalSocketAddress(), 250);
+        }
+      }
+      catch (SocketTimeoutException ignore) {
+        // The backlog is full
+      }
+
+      try {
+        List<ConnectionScanner.Result> results = ConnectionScanner.newConnectionScanner()
+          .withConnectTimeout(Duration.ofMillis(200L))
+          .scan(Collections.singletonList(new InetSocketAddress("localhost", serverSocket.getLocalPort())));
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).isConnected()).isFalse();
+        assertThat(results.get(0).getCause()).isInstanceOf(SocketTimeoutException.class);
+        assertThat(results.get(0).getElapsedTime()).isGreaterThanOrEqualTo(Duration.ofMillis(200L));
+      }
+      finally {
+        backlog.forEach(NetworkUtils::close);
+      }
+    }
+  }
+
+  @Test
+  public void scanReportsUnresolvedTargets() {
+
+    InetSocketAddress target = InetSocketAddress.createUnresolved("unknown.host.invalid", 80);
+
+    List<ConnectionScanner.Result> results = ConnectionScanner.newConnectionScanner()
+      .withConnectTimeout(Duration.ofSeconds(30L))
+      .scan(Collections.singletonList(target));
+
+    assertThat(results).hasSize(1);
+    assertThat(results.get(0).getTarget()).isEqualTo(target);
+    assertThat(results.get(0).isConnected()).isFalse();
+    assertThat(results.get(0).getCause()).isInstanceOf(UnresolvedAddressException.class);
+    assertThat(results.get(0)).hasToString(String.format("Connection to [unknown.host.invalid:80] was not successful"
+      + " (%d ms)", results.get(0).getElapsedTime().toMillis()));
+  }
+
+  @Test
+  public void scanResolvesUnresolvedTargets() throws IOException {
+
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+
+      InetSocketAddress target = InetSocketAddress.createUnresolved("localhost", serverSocket.getLocalPort());
+
+      List<ConnectionScanner.Result> results = ConnectionScanner.newConnectionScanner()
+        .withConnectTimeout(Duration.ofSeconds(30L))
+        .scan(Collections.nCopies(3, target));
+
+      assertThat(results).hasSize(3).allMatch(ConnectionScanner.Result::isConnected);
+      assertThat(results).allMatch(result -> !result.getTarget().isUnresolved());
+    }
+  }
+
+  @Test
+  public void scanStreamsResultsToConsumer() throws IOException {
+
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+
+      List<ConnectionScanner.Result> results = new ArrayList<>();
+
+      ConnectionScanner.newConnectionScanner().scan(Collections.nCopies(3,
+        new InetSocketAddress("localhost", serverSocket.getLocalPort())), results::add);
+
+      assertThat(results).hasSize(3).allMatch(ConnectionScanner.Result::isConnected);
+    }
+  }
+
+  @Test
+  public void scanWithNoTargets() {
+    assertThat(ConnectionScanner.newConnectionScanner().scan(Collections.emptyList())).isEmpty();
+  }
+
+  @Test
+  public void configureWithIllegalArguments() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ConnectionScanner.newConnectionScanner().withConcurrency(0))
+      .withMessage("Concurrency [0] must be greater than 0")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ConnectionScanner.newConnectionScanner().withConnectTimeout(Duration.ZERO))
+      .withMessage("Connect timeout [PT0S] must be positive")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ConnectionScanner.newConnectionScanner().withConnectTimeout(null))
+      .withMessage("Connect timeout is required")
+      .withNoCause();
+  }
+}
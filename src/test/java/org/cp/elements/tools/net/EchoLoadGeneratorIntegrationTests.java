@@ -0,0 +1,142 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.tools.net;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.net.NetworkUtils;
+import org.cp.elements.tools.net.support.SocketServer;
+
+/**
+ * Integration Tests for {@link EchoLoadGenerator}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.tools.net.EchoLoadGenerator
+ * @see org.cp.elements.tools.net.EchoServer
+ * @since 3.0.0
+ */
+public class EchoLoadGeneratorIntegrationTests {
+
+  private static void assertReport(EchoLoadGenerator.Report report, int connections, long messages) {
+
+    assertThat(report).isNotNull();
+    assertThat(report.getConnections()).isEqualTo(connections);
+    assertThat(report.getMessageCount()).isEqualTo(messages);
+    assertThat(report.getErrorCount()).isZero();
+    assertThat(report.getDuration()).isPositive();
+    assertThat(report.getThroughput()).isPositive();
+    assertThat(report.getLatency(50.0d)).isLessThanOrEqualTo(report.getLatency(99.0d));
+    assertThat(report.getLatency(99.0d)).isLessThanOrEqualTo(report.getLatency(100.0d));
+    assertThat(report.toString()).contains(String.format("messages = %d, errors = 0", messages));
+  }
+
+  @Test
+  public void loadSelectorEchoServer() {
+
+    try (SocketServer<String> echoServer = EchoServer.newSelectorEchoServer(0).start()) {
+
+      EchoLoadGenerator.Report report = EchoLoadGenerator.newEchoLoadGenerator(null, echoServer.getPort())
+        .withConnections(32)
+        .withMessagesPerConnection(20)
+        .withMessageSize(128)
+        .run();
+
+      assertReport(report, 32, 640L);
+      assertThat(echoServer.getConnectionCount()).isEqualTo(32L);
+    }
+  }
+
+  @Test
+  public void loadVirtualThreadEchoServer() {
+
+    try (SocketServer<String> echoServer = EchoServer.newVirtualThreadEchoServer(0).start()) {
+
+      EchoLoadGenerator.Report report = EchoLoadGenerator.newEchoLoadGenerator(null, echoServer.getPort())
+        .withConnections(32)
+        .withMessagesPerConnection(20)
+        .run();
+
+      assertReport(report, 32, 640L);
+    }
+  }
+
+  @Test
+  public void loadBlockingEchoServerWithMoreClientsThanPlatformThreads() {
+
+    EchoServer echoServer = new EchoServer(NetworkUtils.availablePort()) {
+
+      @Override
+      protected Logger getLogger() {
+        Logger logger = super.getLogger();
+        logger.setLevel(Level.OFF);
+        return logger;
+      }
+    };
+
+    try {
+      echoServer.runAndWaitFor();
+
+      EchoLoadGenerator.Report report = EchoLoadGenerator.newEchoLoadGenerator(null, echoServer.getPort())
+        .withConnections(24)
+        .withMessagesPerConnection(3)
+        .withNewConnectionPerMessage(true)
+        .run();
+
+      assertReport(report, 24, 72L);
+    }
+    finally {
+      echoServer.shutdown();
+    }
+  }
+
+  @Test
+  public void reportWithNoResponses() {
+
+    EchoLoadGenerator.Report report = new EchoLoadGenerator.Report(1, new long[] { -1L }, 1L, Duration.ofSeconds(1));
+
+    assertThat(report.getMessageCount()).isZero();
+    assertThat(report.getErrorCount()).isOne();
+    assertThat(report.getLatency(99.0d)).isEqualTo(Duration.ZERO);
+    assertThat(report.getThroughput()).isZero();
+  }
+
+  @Test
+  public void constructEchoLoadGeneratorWithIllegalArguments() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> EchoLoadGenerator.newEchoLoadGenerator(null, 0))
+      .withMessage("Port [0] must be greater than 0 and less than equal to 65535")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> EchoLoadGenerator.newEchoLoadGenerator(null, 1234).withConnections(0))
+      .withMessage("Connections [0] must be greater than 0")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> EchoLoadGenerator.newEchoLoadGenerator(null, 1234).withMessagesPerConnection(-1))
+      .withMessage("Messages per connection [-1] must be greater than 0")
+      .withNoCause();
+  }
+}
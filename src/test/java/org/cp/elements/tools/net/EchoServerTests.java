@@ -380,6 +380,17 @@ public class EchoServerTests {
     verify(testEchoServer, atLeast(2)).isRunning();
   }
 
+  @Test
+  public void modeFromName() {
+
+    assertThat(EchoServer.Mode.from("blocking")).isEqualTo(EchoServer.Mode.BLOCKING);
+    assertThat(EchoServer.Mode.from(" Selector ")).isEqualTo(EchoServer.Mode.SELECTOR);
+    assertThat(EchoServer.Mode.from("virtual")).isEqualTo(EchoServer.Mode.VIRTUAL_THREAD);
+    assertThat(EchoServer.Mode.from("VIRTUAL_THREAD")).isEqualTo(EchoServer.Mode.VIRTUAL_THREAD);
+    assertThat(EchoServer.Mode.from("unknown")).isEqualTo(EchoServer.Mode.BLOCKING);
+    assertThat(EchoServer.Mode.from(null)).isEqualTo(EchoServer.Mode.BLOCKING);
+  }
+
   class StopEchoServiceInterruptedTest extends MultithreadedTestCase {
 
     private final Object mutex = new Object();
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.tools.net.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests for {@link MessageCodec}, {@link LineMessageCodec} and {@link LengthPrefixedMessageCodec}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.tools.net.support.LengthPrefixedMessageCodec
+ * @see org.cp.elements.tools.net.support.LineMessageCodec
+ * @see org.cp.elements.tools.net.support.MessageCodec
+ * @since 3.0.0
+ */
+public class MessageCodecUnitTests {
+
+  private static ByteBuffer bufferOf(String value) {
+    return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void linesEncodesLineFeedTerminatedLine() {
+
+    ByteBuffer line = MessageCodec.lines().encode("Hello");
+
+    assertThat(StandardCharsets.UTF_8.decode(line).toString()).isEqualTo("Hello\n");
+  }
+
+  @Test
+  public void linesDecodesAllCompleteLines() throws IOException {
+
+    MessageCodec<String> codec = MessageCodec.lines();
+
+    ByteBuffer buffer = bufferOf("one\ntwo\r\n\nthr");
+
+    assertThat(codec.decode(buffer)).isEqualTo("one");
+    assertThat(codec.decode(buffer)).isEqualTo("two");
+    assertThat(codec.decode(buffer)).isEmpty();
+    assertThat(codec.decode(buffer)).isNull();
+    assertThat(buffer.position()).isEqualTo(10);
+    assertThat(buffer.remaining()).isEqualTo(3);
+  }
+
+  @Test
+  public void linesDecodesEncodedLine() throws IOException {
+
+    MessageCodec<String> codec = MessageCodec.lines();
+
+    assertThat(codec.decode(codec.encode("Ünïcödé"))).isEqualTo("Ünïcödé");
+  }
+
+  @Test
+  public void linesDecodingLineExceedingMaxMessageLengthThrowsIOException() throws IOException {
+
+    LineMessageCodec codec = new LineMessageCodec(StandardCharsets.UTF_8, 4);
+
+    assertThatIOException()
+      .isThrownBy(() -> codec.decode(bufferOf("abcd")))
+      .withMessage("Line exceeds the maximum message length [4]")
+      .withNoCause();
+
+    assertThatIOException()
+      .isThrownBy(() -> codec.decode(bufferOf("abcdef\n")))
+      .withMessage("Line exceeds the maximum message length [4]")
+      .withNoCause();
+
+    assertThat(codec.decode(bufferOf("abc\n"))).isEqualTo("abc");
+  }
+
+  @Test
+  public void constructLineMessageCodecWithIllegalArguments() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new LineMessageCodec(null))
+      .withMessage("Charset is required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new LineMessageCodec(StandardCharsets.UTF_8, 0))
+      .withMessage("Max message length [0] must be greater than 0")
+      .withNoCause();
+  }
+
+  @Test
+  public void lengthPrefixedEncodesLengthThenMessage() {
+
+    ByteBuffer message = MessageCodec.lengthPrefixed().encode(new byte[] { 1, 2, 3 });
+
+    assertThat(message.remaining()).isEqualTo(7);
+    assertThat(message.getInt()).isEqualTo(3);
+    assertThat(message.get()).isEqualTo((byte) 1);
+  }
+
+  @Test
+  public void lengthPrefixedDecodesCompleteMessages() throws IOException {
+
+    MessageCodec<byte[]> codec = MessageCodec.lengthPrefixed();
+
+    ByteBuffer buffer = ByteBuffer.allocate(32)
+      .put(codec.encode(new byte[] { 1, 2, 3 }))
+      .put(codec.encode(new byte[0]))
+      .putInt(5).put((byte) 9)
+      .flip();
+
+    assertThat(codec.decode(buffer)).containsExactly(1, 2, 3);
+    assertThat(codec.decode(buffer)).isEmpty();
+    assertThat(codec.decode(buffer)).isNull();
+    assertThat(buffer.remaining()).isEqualTo(5);
+  }
+
+  @Test
+  public void lengthPrefixedDecodingIncompleteLengthReturnsNull() throws IOException {
+
+    ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 0, 0 });
+
+    assertThat(MessageCodec.lengthPrefixed().decode(buffer)).isNull();
+    assertThat(buffer.position()).isZero();
+  }
+
+  @Test
+  public void lengthPrefixedDecodingInvalidLengthThrowsIOException() {
+
+    LengthPrefixedMessageCodec codec = new LengthPrefixedMessageCodec(8);
+
+    assertThatIOException()
+      .isThrownBy(() -> codec.decode(ByteBuffer.allocate(4).putInt(0, 5)))
+      .withMessage("Message length [5] is not valid; must be between 0 and 4")
+      .withNoCause();
+
+    assertThatIOException()
+      .isThrownBy(() -> codec.decode(ByteBuffer.allocate(4).putInt(0, -1)))
+      .withMessage("Message length [-1] is not valid; must be between 0 and 4")
+      .withNoCause();
+  }
+
+  @Test
+  public void constructLengthPrefixedMessageCodecWithIllegalMaxMessageLength() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new LengthPrefixedMessageCodec(4))
+      .withMessage("Max message length [4] must be greater than 4")
+      .withNoCause();
+  }
+}
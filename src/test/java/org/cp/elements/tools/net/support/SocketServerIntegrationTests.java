@@ -0,0 +1,295 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.tools.net.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.cp.elements.lang.concurrent.ThreadUtils;
+
+/**
+ * Integration Tests for {@link SocketServer}, {@link SelectorSocketServer} and {@link ThreadPerConnectionSocketServer}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.tools.net.support.SelectorSocketServer
+ * @see org.cp.elements.tools.net.support.SocketServer
+ * @see org.cp.elements.tools.net.support.ThreadPerConnectionSocketServer
+ * @since 3.0.0
+ */
+public class SocketServerIntegrationTests {
+
+  private static final int CONCURRENT_CLIENTS = 64;
+
+  static Stream<Function<MessageCodec<String>, SocketServer<String>>> lineSocketServers() {
+
+    return Stream.of(
+      codec -> quiet(SocketServer.newSelectorSocketServer(0, codec, Function.identity())),
+      codec -> quiet(SocketServer.newThreadPerConnectionSocketServer(0, codec, Function.identity()))
+    );
+  }
+
+  private static <T extends SocketServer<?>> T quiet(T socketServer) {
+    socketServer.getLogger().setLevel(Level.OFF);
+    return socketServer;
+  }
+
+  private static void waitForActiveConnectionCount(SocketServer<?> socketServer, int expectedCount) {
+
+    ThreadUtils.waitFor(TimeUnit.SECONDS.toMillis(5))
+      .checkEvery(10L)
+      .on(() -> socketServer.getActiveConnectionCount() == expectedCount);
+  }
+
+  @ParameterizedTest
+  @MethodSource("lineSocketServers")
+  public void echoesMessagesOverPersistentConnection(Function<MessageCodec<String>, SocketServer<String>> factory)
+      throws IOException {
+
+    try (SocketServer<String> socketServer = factory.apply(MessageCodec.lines()).start();
+         Socket socket = new Socket("localhost", socketServer.getPort())) {
+
+      assertThat(socketServer.isRunning()).isTrue();
+      assertThat(socketServer.getPort()).isPositive();
+
+      OutputStream out = socket.getOutputStream();
+      BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+      out.write("one\ntwo\r\nthr".getBytes(StandardCharsets.UTF_8));
+      out.flush();
+
+      assertThat(in.readLine()).isEqualTo("one");
+      assertThat(in.readLine()).isEqualTo("two");
+
+      out.write("ee\n".getBytes(StandardCharsets.UTF_8));
+      out.write(("x".repeat(20000) + "\n").getBytes(StandardCharsets.UTF_8));
+      out.flush();
+
+      assertThat(in.readLine()).isEqualTo("three");
+      assertThat(in.readLine()).isEqualTo("x".repeat(20000));
+      assertThat(socketServer.getMessageCount()).isEqualTo(4L);
+      assertThat(socketServer.getConnectionCount()).isOne();
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("lineSocketServers")
+  public void servesManyConcurrentClients(Function<MessageCodec<String>, SocketServer<String>> factory)
+      throws Exception {
+
+    ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_CLIENTS);
+
+    try (SocketServer<String> socketServer = factory.apply(MessageCodec.lines()).start()) {
+
+      CountDownLatch allConnected = new CountDownLatch(CONCURRENT_CLIENTS);
+
+      List<Future<Boolean>> results = new ArrayList<>(CONCURRENT_CLIENTS);
+
+      for (int client = 0; client < CONCURRENT_CLIENTS; client++) {
+
+        String message = "client-" + client;
+
+        results.add(executorService.submit(() -> {
+          try (Socket socket = new Socket("localhost", socketServer.getPort())) {
+
+            BufferedReader in =
+              new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+            allConnected.countDown();
+            allConnected.await(5, TimeUnit.SECONDS);
+
+            boolean echoed = true;
+
+            for (int count = 0; count < 10; count++) {
+              socket.getOutputStream().write((message + "\n").getBytes(StandardCharsets.UTF_8));
+              echoed &= message.equals(in.readLine());
+            }
+
+            return echoed;
+          }
+        }));
+      }
+
+      for (Future<Boolean> result : results) {
+        assertThat(result.get(15, TimeUnit.SECONDS)).isTrue();
+      }
+
+      assertThat(socketServer.getConnectionCount()).isEqualTo(CONCURRENT_CLIENTS);
+      assertThat(socketServer.getMessageCount()).isEqualTo(CONCURRENT_CLIENTS * 10L);
+    }
+    finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("lineSocketServers")
+  public void closesConnectionSendingMessageExceedingMaxMessageLength(
+      Function<MessageCodec<String>, SocketServer<String>> factory) throws IOException {
+
+    try (SocketServer<String> socketServer = factory.apply(new LineMessageCodec(StandardCharsets.UTF_8, 16)).start();
+         Socket socket = new Socket("localhost", socketServer.getPort())) {
+
+      socket.getOutputStream().write("this line is far too long\n".getBytes(StandardCharsets.UTF_8));
+      socket.getOutputStream().flush();
+
+      waitForActiveConnectionCount(socketServer, 0);
+
+      assertThat(socketServer.getActiveConnectionCount()).isZero();
+      assertThat(socketServer.getMessageCount()).isZero();
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("lineSocketServers")
+  public void stopClosesOpenConnections(Function<MessageCodec<String>, SocketServer<String>> factory)
+      throws IOException {
+
+    SocketServer<String> socketServer = factory.apply(MessageCodec.lines()).start();
+
+    try (Socket socket = new Socket("localhost", socketServer.getPort())) {
+
+      waitForActiveConnectionCount(socketServer, 1);
+
+      assertThat(socketServer.getActiveConnectionCount()).isOne();
+
+      socketServer.stop();
+
+      assertThat(socketServer.isRunning()).isFalse();
+      assertThat(socket.getInputStream().read()).isEqualTo(-1);
+
+      waitForActiveConnectionCount(socketServer, 0);
+
+      assertThat(socketServer.getActiveConnectionCount()).isZero();
+    }
+    finally {
+      socketServer.stop();
+    }
+  }
+
+  @Test
+  public void exchangesLengthPrefixedMessages() throws IOException {
+
+    Function<byte[], byte[]> reverse = message -> {
+
+      byte[] reversed = new byte[message.length];
+
+      for (int index = 0; index < message.length; index++) {
+        reversed[index] = message[message.length - 1 - index];
+      }
+
+      return reversed;
+    };
+
+    try (SocketServer<byte[]> socketServer =
+           quiet(SocketServer.newSelectorSocketServer(0, MessageCodec.lengthPrefixed(), reverse)).start();
+         Socket socket = new Socket("localhost", socketServer.getPort())) {
+
+      DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+      DataInputStream in = new DataInputStream(socket.getInputStream());
+
+      out.writeInt(3);
+      out.write(new byte[] { 1, 2, 3 });
+      out.flush();
+
+      byte[] response = new byte[in.readInt()];
+
+      in.readFully(response);
+
+      assertThat(response).containsExactly(3, 2, 1);
+    }
+  }
+
+  @Test
+  public void handlerReturningNullSendsNoResponse() throws IOException {
+
+    try (SocketServer<String> socketServer = quiet(SocketServer.newThreadPerConnectionSocketServer(0,
+           MessageCodec.lines(), message -> message.isEmpty() ? null : message)).start();
+         Socket socket = new Socket("localhost", socketServer.getPort())) {
+
+      socket.getOutputStream().write("\nHello\n".getBytes(StandardCharsets.UTF_8));
+
+      BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+      assertThat(in.readLine()).isEqualTo("Hello");
+      assertThat(socketServer.getMessageCount()).isEqualTo(2L);
+    }
+  }
+
+  @Test
+  public void constructSocketServerWithIllegalArguments() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new SelectorSocketServer<>(-1, MessageCodec.lines(), Function.identity()))
+      .withMessage("Port [-1] must be greater than equal to 0 and less than equal to 65535")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new SelectorSocketServer<String>(0, null, Function.identity()))
+      .withMessage("MessageCodec is required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new ThreadPerConnectionSocketServer<>(0, MessageCodec.lines(), null))
+      .withMessage("Message handler is required")
+      .withNoCause();
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new ThreadPerConnectionSocketServer<>(0, MessageCodec.lines(), Function.identity(), null))
+      .withMessage("ThreadFactory is required")
+      .withNoCause();
+  }
+
+  @Test
+  public void startAndStopAreIdempotent() {
+
+    SocketServer<String> socketServer =
+      quiet(SocketServer.newSelectorSocketServer(0, MessageCodec.lines(), Function.identity()));
+
+    assertThat(socketServer.isRunning()).isFalse();
+    assertThat(socketServer.start()).isSameAs(socketServer);
+    assertThat(socketServer.start()).isSameAs(socketServer);
+    assertThat(socketServer.isRunning()).isTrue();
+
+    socketServer.stop();
+    socketServer.stop();
+
+    assertThat(socketServer.isRunning()).isFalse();
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2011-Present Author or Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cp.elements.util.zip;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.jupiter.api.Test;
+
+import org.cp.elements.io.FileUtils;
+
+/**
+ * Unit Tests for {@link ZipArchiveWriter}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.cp.elements.util.zip.ZipArchiveWriter
+ * @since 3.0.0
+ */
+public class ZipArchiveWriterUnitTests {
+
+  private static long crc(byte[] data) {
+
+    CRC32 crc = new CRC32();
+
+    crc.update(data);
+
+    return crc.getValue();
+  }
+
+  private static byte[] deflate(byte[] data) throws IOException {
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+    try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(out, deflater)) {
+      deflaterOutputStream.write(data);
+    }
+    finally {
+      deflater.end();
+    }
+
+    return out.toByteArray();
+  }
+
+  @Test
+  public void writesStoredAndDeflatedEntriesReadableByZipFile() throws IOException {
+
+    File zip = File.createTempFile("writesStoredAndDeflatedEntries", ".zip");
+
+    byte[] stored = "stored".getBytes(StandardCharsets.UTF_8);
+    byte[] text = "deflated, deflated, deflated, deflated!".getBytes(StandardCharsets.UTF_8);
+    byte[] deflated = deflate(text);
+
+    long time = System.currentTimeMillis();
+
+    try {
+      try (ZipArchiveWriter writer = new ZipArchiveWriter(zip)) {
+        writer.write("stored.bin", time, ZipEntry.STORED, crc(stored), stored.length, stored.length,
+          out -> out.write(stored));
+        writer.write("dir/deflated.txt", time, ZipEntry.DEFLATED, crc(text), text.length, deflated.length,
+          out -> out.write(deflated));
+      }
+
+      try (ZipFile zipFile = new ZipFile(zip)) {
+
+        assertThat(zipFile.size()).isEqualTo(2);
+
+        ZipEntry storedEntry = zipFile.getEntry("stored.bin");
+        ZipEntry deflatedEntry = zipFile.getEntry("dir/deflated.txt");
+
+        assertThat(storedEntry.getMethod()).isEqualTo(ZipEntry.STORED);
+        assertThat(zipFile.getInputStream(storedEntry).readAllBytes()).isEqualTo(stored);
+        assertThat(deflatedEntry.getMethod()).isEqualTo(ZipEntry.DEFLATED);
+        assertThat(deflatedEntry.getSize()).isEqualTo(text.length);
+        assertThat(zipFile.getInputStream(deflatedEntry).readAllBytes()).isEqualTo(text);
+      }
+    }
+    finally {
+      FileUtils.delete(zip);
+    }
+  }
+
+  @Test
+  public void writeWithIncorrectCompressedSizeThrowsIOException() throws IOException {
+
+    File zip = File.createTempFile("writeWithIncorrectCompressedSize", ".zip");
+
+    try (ZipArchiveWriter writer = new ZipArchiveWriter(zip)) {
+      assertThatIOException()
+        .isThrownBy(() -> writer.write("entry.bin", 0L, ZipEntry.STORED, 0L, 2L, 2L, out -> out.write(1)))
+        .withMessage("Entry [entry.bin] was [1] bytes; expected [2]");
+    }
+    finally {
+      FileUtils.delete(zip);
+    }
+  }
+
+  @Test
+  public void toDosTimeIsCorrect() {
+
+    long time = LocalDateTime.of(2024, 6, 15, 13, 45, 30)
+      .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+    long dosTime = ZipArchiveWriter.toDosTime(time);
+
+    assertThat(dosTime >>> 25).isEqualTo(44L);
+    assertThat(dosTime >> 21 & 0x0F).isEqualTo(6L);
+    assertThat(dosTime >> 16 & 0x1F).isEqualTo(15L);
+    assertThat(dosTime >> 11 & 0x1F).isEqualTo(13L);
+    assertThat(dosTime >> 5 & 0x3F).isEqualTo(45L);
+    assertThat(dosTime & 0x1F).isEqualTo(15L);
+  }
+
+  @Test
+  public void toDosTimeBefore1980IsClamped() {
+    assertThat(ZipArchiveWriter.toDosTime(0L)).isEqualTo((1L << 21) | (1L << 16));
+  }
+}
@@ -19,6 +19,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.junit.jupiter.api.Test;
 
@@ -73,4 +80,52 @@ public class ZipUtilsIntegrationTests extends AbstractTestSuite {
       FileSystemUtils.deleteRecursive(unzippedAsciidocDirectory);
     }
   }
+
+  @Test
+  public void zipThenUnzipInParallel() throws IOException {
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    Path workingDirectory = Files.createTempDirectory("zipThenUnzipInParallel");
+    Path sourceDirectory = Files.createDirectories(workingDirectory.resolve("artifacts"));
+    Path targetDirectory = workingDirectory.resolve("unzipped");
+
+    try {
+
+      byte[] jarContent = new byte[64 * 1024];
+
+      new Random(1L).nextBytes(jarContent);
+
+      byte[] textContent = "This is a test of parallel ZIP file creation and extraction!\n".repeat(2048).getBytes();
+
+      Files.write(Files.createDirectories(sourceDirectory.resolve("lib")).resolve("library.jar"), jarContent);
+      Files.write(Files.createDirectories(sourceDirectory.resolve("docs")).resolve("README.txt"), textContent);
+      Files.write(sourceDirectory.resolve("empty.txt"), new byte[0]);
+
+      File zip = ZipUtils.zip(sourceDirectory.toFile(), executor);
+
+      assertThat(zip).isFile();
+
+      try (ZipFile zipFile = new ZipFile(zip)) {
+
+        assertThat(zipFile.size()).isEqualTo(3);
+        assertThat(zipFile.getEntry("artifacts/lib/library.jar").getMethod()).isEqualTo(ZipEntry.STORED);
+        assertThat(zipFile.getEntry("artifacts/docs/README.txt").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+        assertThat(zipFile.getEntry("artifacts/docs/README.txt").getCompressedSize())
+          .isLessThan(textContent.length);
+      }
+
+      ZipUtils.unzip(zip, targetDirectory.toFile(), executor);
+
+      Path unzippedDirectory = targetDirectory.resolve("artifacts");
+
+      assertThat(Files.readAllBytes(unzippedDirectory.resolve("lib/library.jar"))).isEqualTo(jarContent);
+      assertThat(Files.readAllBytes(unzippedDirectory.resolve("docs/README.txt"))).isEqualTo(textContent);
+      assertThat(unzippedDirectory.resolve("empty.txt")).isEmptyFile();
+    }
+    finally {
+      executor.shutdownNow();
+      FileSystemUtils.deleteRecursive(workingDirectory.toFile());
+    }
+  }
 }
@@ -220,6 +220,15 @@ public class ZipUtilsUnitTests {
       .withNoCause();
   }
 
+  @Test
+  public void unzipWithNullExecutorService() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ZipUtils.unzip(new File("test.zip"), FileSystemUtils.TEMPORARY_DIRECTORY, null))
+      .withMessage("ExecutorService is required")
+      .withNoCause();
+  }
+
   @Test
   public void zipWithInvalidDirectory() {
 
@@ -238,6 +247,15 @@ public class ZipUtilsUnitTests {
       .withNoCause();
   }
 
+  @Test
+  public void zipWithNullExecutorService() {
+
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> ZipUtils.zip(FileSystemUtils.TEMPORARY_DIRECTORY, null))
+      .withMessage("ExecutorService is required")
+      .withNoCause();
+  }
+
   @Test
   @SuppressWarnings("all")
   public void zipEntryWithFile() throws IOException {